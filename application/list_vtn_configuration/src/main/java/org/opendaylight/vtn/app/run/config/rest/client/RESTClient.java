@@ -14,9 +14,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.ConnectException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.regex.Matcher;
@@ -33,41 +31,10 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.opendaylight.vtn.app.run.config.rest.enumgroups.APPLICATION_TYPE;
 import org.opendaylight.vtn.app.run.config.rest.enumgroups.RestURL;
-import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VBridgeBean;
-import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VBridgeInterfaceBean;
 import org.opendaylight.vtn.app.run.config.rest.parser.CRUDImpl;
 import org.opendaylight.vtn.app.run.config.rest.parser.Parser;
 import org.opendaylight.vtn.app.run.config.rest.parser.RestRequest;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.ContainerPathMapNorthBoundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.DataFlowList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.FlowconditionList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.Index;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.MacEntryList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.MacMapNorthBound;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.PathPoliciesIndex;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.PathPolicy;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeInterface;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeInterfaceList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeIfFlowFilterNorthboundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeNorthBound;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeNorthBoundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgePortMap;
 import org.opendaylight.vtn.app.run.config.rest.response.beans.VTNConfiguration;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTNConfigurationBean;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTNManagerVersion;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTenantNorthBound;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTenantNorthBoundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VlanNorthBoundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalIfFlowFilterNorthboundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalInterfaceNorthboundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalNorthBound;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalNorthBoundList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalInterfaceNorthbound;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalPortMap;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeFlowFilterList;
-import org.opendaylight.vtn.app.run.config.rest.response.beans.VTenantFlowFilterList;
-import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VTerminalBean;
-import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VTerminalInterfaceBean;
 
 /**
  * RESTClient - Client main class helps to perform all the CRUD Operations.
@@ -105,11 +72,6 @@ public class RESTClient {
      */
     private String serverPort = null;
 
-    /**
-     * Response string value received from the request.
-     */
-    private String response = null;
-
 
     /**
      * RESTClient - Constructor with arguments.
@@ -332,27 +294,10 @@ public class RESTClient {
         RestRequest request = getRestRequest(restObject, paramMap);
         if (request != null) {
             request.setResponse(client.doGET(request.getUrl(), headers));
-            setResponse(request.getResponse());
         }
         return parseResponse(restObject, request);
     }
 
-    /**
-     * getResponse - response for the request.
-     * @return {@link String}
-     */
-    public String getResponse() {
-        return response;
-    }
-
-    /**
-     * setResponse - sets the response of the request.
-     * @param response
-     */
-    private void setResponse(String response) {
-        this.response = response;
-    }
-
     /**
      * Get the request object for an object annotated with 'RestURL'
      *
@@ -420,8 +365,7 @@ public class RESTClient {
             } else {
                 String str = request.getResponse();
                 JSONObject jsonObject = new JSONObject(str);
-                Parser parse = new Parser();
-                return parse.parseJsonObject(target, jsonObject);
+                return parser.parseJsonObject(target, jsonObject);
             }
         } else {
             return target;
@@ -530,236 +474,23 @@ public class RESTClient {
             String container = scanner.nextLine();
 
             System.out.println("Loading, please wait...");
-            RESTClient handler = new RESTClient(ipAddress, port, userName, password);
 
-            List<PathPolicy> pathPolicy = new ArrayList<PathPolicy>();
-
-            VTNManagerVersion ver = (VTNManagerVersion)handler.get(new VTNManagerVersion());
-
-            ContainerPathMapNorthBoundList pathmap = (ContainerPathMapNorthBoundList)handler.get(new ContainerPathMapNorthBoundList(), "containerName", container);
-
-            FlowconditionList flowcondition = (FlowconditionList)handler.get(new FlowconditionList(), "containerName", container);
-
-            VTenantNorthBoundList vtnList = (VTenantNorthBoundList)handler.get(new VTenantNorthBoundList(), "containerName", container);
-            List<VTNConfigurationBean> bean = new ArrayList<VTNConfigurationBean>();
-            MacEntryList mc = null;
-            VlanNorthBoundList vlan = null;
-            VBridgeInterfaceList vbrIf = null;
-            VBridgeIfFlowFilterNorthboundList vbrIfFlowfilterListIn = null, vbrIfFlowfilterListOut = null;
-            VBridgePortMap  vbrPort = null;
-            VTerminalPortMap vtPort = null;
-            VTerminalIfFlowFilterNorthboundList vtFlowfilterList = null, vtFlowfilter = null;
-            VTerminalInterfaceNorthboundList vtInterface = null;
-            VBridgeFlowFilterList vbrFlowFilterOut = null, vbrFlowFilterIn = null;
-            if (vtnList.getVtns().size() > 0) {
-                for (VTenantNorthBound vtn : vtnList.getVtns()) {
-                    String vtnName = vtn.getVtnName();
-
-                    LOG.debug(" == == == == == == == == == == == == == == = RUNNING CONFIGURATION STARTED == == == == == == == == == == == == == == == == == == == == == == == == =  = ");
-                    VTNConfigurationBean runConfig = new VTNConfigurationBean();
-                    List<VBridgeBean> vbrBean = new ArrayList<VBridgeBean>();
-                    List<VTerminalBean> vterminalBean = new ArrayList<VTerminalBean>();
-
-                    DataFlowList dflow = (DataFlowList)handler.get(new DataFlowList(), "containerName", container, "tenantName", vtnName);
-
-                    VTenantFlowFilterList vtnFlowFilter = (VTenantFlowFilterList)handler.get(new VTenantFlowFilterList(), "containerName", container, "tenantName", vtnName);
-                    VBridgeNorthBoundList vb = (VBridgeNorthBoundList)handler.get(new VBridgeNorthBoundList(), "containerName", container, "tenantName", vtnName);
-
-                    if (vb.getVbridge().size() > 0) {
-                        for (VBridgeNorthBound vbn : vb.getVbridge()) {
-                            VBridgeBean vbean = new VBridgeBean();
-
-                            vbean.setName(vbn.getName());
-                            vbean.setAgeInterval(vbn.getAgeInterval());
-                            vbean.setDescription(vbn.getDescription());
-                            vbean.setFaults(vbn.getFaults());
-                            vbean.setState(vbn.getState());
-
-                            Map<String, String> vbridgeMap = new HashMap<String, String>();
-                            vbridgeMap.put("containerName", "default");
-                            vbridgeMap.put("tenantName", vtnName);
-                            vbridgeMap.put("bridgeName", vbn.getName());
-
-                            MacMapNorthBound macMap = (MacMapNorthBound)handler.get(new MacMapNorthBound(), vbridgeMap, null);
-                            vbean.setMacMap(macMap);
-
-                            mc = (MacEntryList)handler.get(new MacEntryList(), vbridgeMap, null);
-                            vbean.setMacentry(mc);
-
-                            vlan = (VlanNorthBoundList)handler.get(new VlanNorthBoundList(), vbridgeMap, null);
-                            vbean.setBrvlan(vlan);
-
-                            Map<String, String> vbrFlowfilterInMap = new HashMap<String, String>();
-                            vbrFlowfilterInMap.put("containerName", "default");
-                            vbrFlowfilterInMap.put("tenantName", vtnName);
-                            vbrFlowfilterInMap.put("bridgeName", vbn.getName());
-                            vbrFlowfilterInMap.put("listType", "in");
-
-                            vbrFlowFilterIn = (VBridgeFlowFilterList)handler.get(new VBridgeFlowFilterList(), vbrFlowfilterInMap, null);
-
-                            Map<String, String> vbrFlowfilterOutMap = new HashMap<String, String>();
-                            vbrFlowfilterOutMap.put("containerName", "default");
-                            vbrFlowfilterOutMap.put("tenantName", vtnName);
-                            vbrFlowfilterOutMap.put("bridgeName", vbn.getName());
-                            vbrFlowfilterOutMap.put("listType", "out");
-                            vbrFlowFilterOut = (VBridgeFlowFilterList)handler.get(new VBridgeFlowFilterList(), vbrFlowfilterOutMap, null);
-
-                            if (vbrFlowFilterIn.getFlowfilter().size() > 0) {
-                                if (vbrFlowFilterOut.getFlowfilter().size() > 0) {
-                                    vbrFlowFilterIn.getFlowfilter().addAll(vbrFlowFilterOut.getFlowfilter());
-                                }
-                                vbean.setVbrFlowFilter(vbrFlowFilterIn);
-                            } else if (vbrFlowFilterOut.getFlowfilter().size() > 0) {
-                                vbean.setVbrFlowFilter(vbrFlowFilterOut);
-                            }
-
-                            vbrIf = (VBridgeInterfaceList)handler.get(new VBridgeInterfaceList(), vbridgeMap, null);
-
-                            if (vbrIf.getInterfaces().size() > 0) {
-                                List<VBridgeInterfaceBean> interfaces = new ArrayList<VBridgeInterfaceBean>();
-                                for (VBridgeInterface vbrInter : vbrIf.getInterfaces()) {
-
-                                    VBridgeInterfaceBean iBean = new VBridgeInterfaceBean();
-                                    iBean.setDescription(vbrInter.getDescription());
-                                    iBean.setName(vbrInter.getName());
-                                    iBean.setEnabled(vbrInter.getEnabled());
-                                    iBean.setEntityState(vbrInter.getEntityState());
-                                    iBean.setState(vbrInter.getState());
-
-                                    Map<String, String> vbrInterfaceMap = new HashMap<String, String>();
-                                    vbrInterfaceMap.put("containerName", "default");
-                                    vbrInterfaceMap.put("tenantName", vtnName);
-                                    vbrInterfaceMap.put("bridgeName", vbn.getName());
-                                    vbrInterfaceMap.put("ifName", vbrInter.getName());
-
-                                    vbrPort = (VBridgePortMap)handler.get(new VBridgePortMap(), vbrInterfaceMap, null);
-                                    iBean.setPortmap(vbrPort);
-
-                                    Map<String, String> vbrInterflowfilterInMap = new HashMap<String, String>();
-                                    vbrInterflowfilterInMap.put("containerName", "default");
-                                    vbrInterflowfilterInMap.put("tenantName", vtnName);
-                                    vbrInterflowfilterInMap.put("bridgeName", vbn.getName());
-                                    vbrInterflowfilterInMap.put("ifName", vbrInter.getName());
-                                    vbrInterflowfilterInMap.put("listType", "in");
-                                    vbrIfFlowfilterListIn = (VBridgeIfFlowFilterNorthboundList)handler.get(new VBridgeIfFlowFilterNorthboundList(), vbrInterflowfilterInMap , null);
-
-                                    Map<String, String> vbrInterflowfilterOutMap = new HashMap<String, String>();
-                                    vbrInterflowfilterOutMap.put("containerName", "default");
-                                    vbrInterflowfilterOutMap.put("tenantName", vtnName);
-                                    vbrInterflowfilterOutMap.put("bridgeName", vbn.getName());
-                                    vbrInterflowfilterOutMap.put("ifName", vbrInter.getName());
-                                    vbrInterflowfilterOutMap.put("listType", "out");
-                                    vbrIfFlowfilterListOut = (VBridgeIfFlowFilterNorthboundList)handler.get(new VBridgeIfFlowFilterNorthboundList(), vbrInterflowfilterOutMap, null);
-
-                                    if (vbrIfFlowfilterListIn.getFlowfilters().size() > 0) {
-                                        if (vbrIfFlowfilterListOut.getFlowfilters().size() > 0) {
-                                            vbrIfFlowfilterListIn.getFlowfilters().addAll(vbrIfFlowfilterListOut.getFlowfilters());
-                                        }
-                                        iBean.setFlowfilters(vbrIfFlowfilterListIn);
-                                    } else if (vbrIfFlowfilterListOut.getFlowfilters().size() > 0) {
-                                        iBean.setFlowfilters(vbrIfFlowfilterListOut);
-                                    }
-                                    interfaces.add(iBean);
-                                }
-                                vbean.setVbrInterface(interfaces);
-                            }
-                            vbrBean.add(vbean);
-                        }
-                    }
-                    VTerminalNorthBoundList vTerminal = (VTerminalNorthBoundList)handler.get(new VTerminalNorthBoundList(), "containerName", container, "tenantName", vtnName);
-                    if (vTerminal.getVterm().size() > 0) {
-                        for (VTerminalNorthBound vTerminalNorthBound : vTerminal.getVterm()) {
-                            VTerminalBean vtbean = new VTerminalBean();
-                            vtbean.setName(vTerminalNorthBound.getName());
-                            vtbean.setFaults(vTerminalNorthBound.getFaults());
-                            vtbean.setDescription(vTerminalNorthBound.getDescription());
-                            vtbean.setState(vTerminalNorthBound.getState());
-
-                            Map<String, String> vterminalMap = new HashMap<String, String>();
-                            vterminalMap.put("containerName", "default");
-                            vterminalMap.put("tenantName", vtnName);
-                            vterminalMap.put("terminalName", vTerminalNorthBound.getName());
-                            vtInterface = (VTerminalInterfaceNorthboundList)handler.get(new VTerminalInterfaceNorthboundList(), vterminalMap, null);
-                            if (vtInterface.getInterfaces().size() > 0) {
-                                List<VTerminalInterfaceBean> vtinterfaces = new ArrayList<VTerminalInterfaceBean>();
-                                for (VTerminalInterfaceNorthbound vtInter : vtInterface.getInterfaces()) {
-
-                                    VTerminalInterfaceBean vtInterfaceBean = new VTerminalInterfaceBean();
-                                    vtInterfaceBean.setDescription(vtInter.getDescription());
-                                    vtInterfaceBean.setName(vtInter.getName());
-                                    vtInterfaceBean.setEnabled(vtInter.getEnabled());
-                                    vtInterfaceBean.setEntityState(vtInter.getEntityState());
-                                    vtInterfaceBean.setState(vtInter.getState());
-
-                                    Map<String, String> vInterfaceMap = new HashMap<String, String>();
-                                    vInterfaceMap.put("containerName", "default");
-                                    vInterfaceMap.put("tenantName", vtnName);
-                                    vInterfaceMap.put("terminalName", vTerminalNorthBound.getName());
-                                    vInterfaceMap.put("ifName", vtInter.getName());
-                                    vtPort = (VTerminalPortMap)handler.get(new VTerminalPortMap(), vInterfaceMap, null);
-                                    vtInterfaceBean.setPortmap(vtPort);
-
-                                    Map<String, String> vInterflowfilterInMap = new HashMap<String, String>();
-                                    vInterflowfilterInMap.put("containerName", "default");
-                                    vInterflowfilterInMap.put("tenantName", vtnName);
-                                    vInterflowfilterInMap.put("terminalName", vTerminalNorthBound.getName());
-                                    vInterflowfilterInMap.put("ifName", vtInter.getName());
-                                    vInterflowfilterInMap.put("listType", "in");
-                                    vtFlowfilterList = (VTerminalIfFlowFilterNorthboundList)handler.get(new VTerminalIfFlowFilterNorthboundList(), vInterflowfilterInMap , null);
-
-                                    Map<String, String> vInterflowfilterOutMap = new HashMap<String, String>();
-                                    vInterflowfilterOutMap.put("containerName", "default");
-                                    vInterflowfilterOutMap.put("tenantName", vtnName);
-                                    vInterflowfilterOutMap.put("terminalName", vTerminalNorthBound.getName());
-                                    vInterflowfilterOutMap.put("ifName", vtInter.getName());
-                                    vInterflowfilterOutMap.put("listType", "out");
-                                    vtFlowfilter = (VTerminalIfFlowFilterNorthboundList)handler.get(new VTerminalIfFlowFilterNorthboundList(), vInterflowfilterOutMap, null);
-
-                                    if (vtFlowfilterList.getFlowfilters().size() > 0) {
-                                        if (vtFlowfilter.getFlowfilters().size() > 0) {
-                                            vtFlowfilterList.getFlowfilters().addAll(vtFlowfilter.getFlowfilters());
-                                        }
-                                        vtInterfaceBean.setVtFlowfilter(vtFlowfilterList);
-                                    } else if (vtFlowfilter.getFlowfilters().size() > 0) {
-                                        vtInterfaceBean.setVtFlowfilter(vtFlowfilter);
-                                    }
-                                    vtinterfaces.add(vtInterfaceBean);
-                                }
-                                vtbean.setVInterface(vtinterfaces);
-                            }
-                            vterminalBean.add(vtbean);
-                        }
-                    }
-                    runConfig.setName(vtn.getVtnName());
-                    runConfig.setDescription(vtn.getVtnDesc());
-                    runConfig.setIdleTimeout(vtn.getIdleTimeout());
-                    runConfig.setHardTimeout(vtn.getHardTimeout());
-                    runConfig.setDataflow(dflow);
-                    runConfig.setVtnFlowfilter(vtnFlowFilter);
-                    runConfig.setVbridge(vbrBean);
-                    runConfig.setVTerminal(vterminalBean);
-                    bean.add(runConfig);
-                    LOG.debug(" == == == == == == == == == == == == == == == == == == == == == == == == == == == == == == == == == = ");
-                }
+            // Keep as many idle connections as concurrent requests.
+            int concurrency = RESTCrawler.getConcurrency();
+            if (System.getProperty("http.maxConnections") == null) {
+                System.setProperty("http.maxConnections",
+                                   Integer.toString(concurrency));
             }
 
-            PathPolicy policy = null;
-            PathPoliciesIndex policyIndex = (PathPoliciesIndex)handler.get(new PathPoliciesIndex(), "containerName", container);
-            if (policyIndex.getIntegers().size() > 0) {
-                for (Index index  : policyIndex.getIntegers()) {
-                    index.getValue();
-                    policy = (PathPolicy)handler.get(new PathPolicy(), "containerName", container, "policyId", "" + index.getValue());
-                    pathPolicy.add(policy);
-                    LOG.debug("PATHPOLICY:" + pathPolicy);
-                }
+            RESTClient handler = new RESTClient(ipAddress, port, userName, password);
+            RESTCrawler crawler = new RESTCrawler(handler, concurrency);
+            VTNConfiguration conf;
+            try {
+                conf = crawler.crawl(container);
+            } finally {
+                crawler.shutdown();
             }
 
-            VTNConfiguration conf = new VTNConfiguration();
-            conf.setVersion(ver);
-            conf.setFlowconditions(flowcondition);
-            conf.setPathmap(pathmap);
-            conf.setPathPolicies(pathPolicy);
-            conf.setVtn(bean);
             if (handler.jsonFormating(conf)) {
                 System.out.println("Finished");
             }
@@ -0,0 +1,734 @@
+/**
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.app.run.config.rest.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VBridgeBean;
+import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VBridgeInterfaceBean;
+import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VTerminalBean;
+import org.opendaylight.vtn.app.run.config.rest.output.format.beans.VTerminalInterfaceBean;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.ContainerPathMapNorthBoundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.DataFlowList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.FlowconditionList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.Index;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.MacEntryList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.MacMapNorthBound;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.PathPoliciesIndex;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.PathPolicy;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeFlowFilterList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeIfFlowFilterNorthboundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeInterface;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeInterfaceList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeNorthBound;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgeNorthBoundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VBridgePortMap;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTNConfiguration;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTNConfigurationBean;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTNManagerVersion;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTenantFlowFilterList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTenantNorthBound;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTenantNorthBoundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalIfFlowFilterNorthboundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalInterfaceNorthbound;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalInterfaceNorthboundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalNorthBound;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalNorthBoundList;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VTerminalPortMap;
+import org.opendaylight.vtn.app.run.config.rest.response.beans.VlanNorthBoundList;
+
+/**
+ * RESTCrawler - collects the whole VTN configuration using a bounded number
+ *               of concurrent REST requests.
+ *
+ * <p>
+ *   Every REST request is issued asynchronously on a fixed size thread pool.
+ *   The configuration tree is expanded level by level: a child request is
+ *   submitted as soon as its parent list is received, and only the calling
+ *   thread waits for results. Results are collected in the order in which
+ *   the requests were submitted, so the output does not depend on the
+ *   order of completion.
+ * </p>
+ */
+public final class RESTCrawler {
+
+    /**
+     * Logger instance.
+     */
+    static final Logger LOG = LoggerFactory.getLogger(RESTCrawler.class);
+
+    /**
+     * System property that specifies the number of concurrent requests.
+     */
+    public static final String PROP_CONCURRENCY =
+        "vtn.runconfig.concurrency";
+
+    /**
+     * The default number of concurrent requests.
+     */
+    public static final int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * Container name used for requests under a VTN.
+     */
+    private static final String DEFAULT_CONTAINER = "default";
+
+    /**
+     * RESTClient instance used to issue requests.
+     */
+    private final RESTClient client;
+
+    /**
+     * Thread pool that runs REST requests.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * RESTCrawler - constructor with arguments.
+     * @param client - RESTClient instance used to issue requests.
+     * @param concurrency - the maximum number of concurrent requests.
+     */
+    public RESTCrawler(RESTClient client, int concurrency) {
+        this.client = client;
+        int nthreads = (concurrency <= 0) ? 1 : concurrency;
+        executor = Executors.newFixedThreadPool(nthreads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "vtn-runconfig-" +
+                                      count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        LOG.debug("RESTCrawler started: concurrency={}", nthreads);
+    }
+
+    /**
+     * getConcurrency - to get the number of concurrent requests configured
+     *                  by the system property.
+     * @return {@link Integer}
+     */
+    public static int getConcurrency() {
+        int concurrency = Integer.getInteger(PROP_CONCURRENCY,
+                                             DEFAULT_CONCURRENCY).intValue();
+        if (concurrency <= 0) {
+            LOG.warn("Ignore invalid concurrency: {}", concurrency);
+            concurrency = DEFAULT_CONCURRENCY;
+        }
+        return concurrency;
+    }
+
+    /**
+     * shutdown - to terminate the thread pool.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * crawl - to collect the whole VTN configuration in the given container.
+     * @param container - the name of the container.
+     * @return {@link VTNConfiguration}
+     * @throws Exception
+     */
+    public VTNConfiguration crawl(String container) throws Exception {
+        Map<String, String> containerMap = params("containerName", container);
+        Future<VTNManagerVersion> version =
+            submit(new VTNManagerVersion(), new HashMap<String, String>());
+        Future<ContainerPathMapNorthBoundList> pathmap =
+            submit(new ContainerPathMapNorthBoundList(), containerMap);
+        Future<FlowconditionList> flowcondition =
+            submit(new FlowconditionList(), containerMap);
+        Future<VTenantNorthBoundList> vtnList =
+            submit(new VTenantNorthBoundList(), containerMap);
+        Future<PathPoliciesIndex> policyIndex =
+            submit(new PathPoliciesIndex(), containerMap);
+
+        List<TenantNode> tenants = new ArrayList<TenantNode>();
+        for (VTenantNorthBound vtn : await(vtnList).getVtns()) {
+            tenants.add(new TenantNode(container, vtn));
+        }
+
+        List<Future<PathPolicy>> policies = new ArrayList<Future<PathPolicy>>();
+        for (Index index : await(policyIndex).getIntegers()) {
+            policies.add(submit(new PathPolicy(),
+                                params("containerName", container,
+                                       "policyId", "" + index.getValue())));
+        }
+
+        // Expand the virtual nodes in each VTN.
+        for (TenantNode tenant : tenants) {
+            tenant.expand();
+        }
+        for (TenantNode tenant : tenants) {
+            tenant.expandInterfaces();
+        }
+
+        List<VTNConfigurationBean> bean = new ArrayList<VTNConfigurationBean>();
+        for (TenantNode tenant : tenants) {
+            bean.add(tenant.build());
+        }
+
+        List<PathPolicy> pathPolicy = new ArrayList<PathPolicy>();
+        for (Future<PathPolicy> policy : policies) {
+            pathPolicy.add(await(policy));
+        }
+        LOG.debug("PATHPOLICY:{}", pathPolicy);
+
+        VTNConfiguration conf = new VTNConfiguration();
+        conf.setVersion(await(version));
+        conf.setFlowconditions(await(flowcondition));
+        conf.setPathmap(await(pathmap));
+        conf.setPathPolicies(pathPolicy);
+        conf.setVtn(bean);
+        return conf;
+    }
+
+    /**
+     * submit - to issue a GET request asynchronously.
+     * @param target - the object to be filled with the response.
+     * @param paramMap - URL parameters.
+     * @return {@link Future}
+     */
+    private <T> Future<T> submit(final T target,
+                                 final Map<String, String> paramMap) {
+        return executor.submit(new Callable<T>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public T call() throws Exception {
+                return (T)client.get(target, paramMap, null);
+            }
+        });
+    }
+
+    /**
+     * await - to wait for the result of the given request.
+     * @param future - Future associated with the request.
+     * @return the result of the request.
+     * @throws Exception
+     */
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * params - to create URL parameters from the given name/value pairs.
+     * @param pairs - parameter names and values.
+     * @return {@link Map}
+     */
+    private static Map<String, String> params(String ... pairs) {
+        Map<String, String> map = new HashMap<String, String>();
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            map.put(pairs[i], pairs[i + 1]);
+        }
+        return map;
+    }
+
+    /**
+     * TenantNode - requests issued for a VTN.
+     */
+    private final class TenantNode {
+        /**
+         * The VTN.
+         */
+        private final VTenantNorthBound vtn;
+
+        /**
+         * Data flows in the VTN.
+         */
+        private final Future<DataFlowList> dataflow;
+
+        /**
+         * VTN flow filters.
+         */
+        private final Future<VTenantFlowFilterList> vtnFlowFilter;
+
+        /**
+         * vBridges in the VTN.
+         */
+        private final Future<VBridgeNorthBoundList> vbridges;
+
+        /**
+         * vTerminals in the VTN.
+         */
+        private final Future<VTerminalNorthBoundList> vterminals;
+
+        /**
+         * Requests issued for each vBridge.
+         */
+        private final List<VBridgeNode> vbridgeNodes =
+            new ArrayList<VBridgeNode>();
+
+        /**
+         * Requests issued for each vTerminal.
+         */
+        private final List<VTerminalNode> vterminalNodes =
+            new ArrayList<VTerminalNode>();
+
+        /**
+         * TenantNode - constructor with arguments.
+         * @param container - the name of the container.
+         * @param vtn - the VTN.
+         */
+        private TenantNode(String container, VTenantNorthBound vtn) {
+            this.vtn = vtn;
+            Map<String, String> vtnMap = params("containerName", container,
+                                                "tenantName", vtn.getVtnName());
+            dataflow = submit(new DataFlowList(), vtnMap);
+            vtnFlowFilter = submit(new VTenantFlowFilterList(), vtnMap);
+            vbridges = submit(new VBridgeNorthBoundList(), vtnMap);
+            vterminals = submit(new VTerminalNorthBoundList(), vtnMap);
+        }
+
+        /**
+         * expand - to issue requests for virtual nodes in the VTN.
+         * @throws Exception
+         */
+        private void expand() throws Exception {
+            String vtnName = vtn.getVtnName();
+            for (VBridgeNorthBound vbn : await(vbridges).getVbridge()) {
+                vbridgeNodes.add(new VBridgeNode(vtnName, vbn));
+            }
+            for (VTerminalNorthBound vtm : await(vterminals).getVterm()) {
+                vterminalNodes.add(new VTerminalNode(vtnName, vtm));
+            }
+        }
+
+        /**
+         * expandInterfaces - to issue requests for virtual interfaces in
+         *                    the VTN.
+         * @throws Exception
+         */
+        private void expandInterfaces() throws Exception {
+            for (VBridgeNode node : vbridgeNodes) {
+                node.expand();
+            }
+            for (VTerminalNode node : vterminalNodes) {
+                node.expand();
+            }
+        }
+
+        /**
+         * build - to construct the configuration of the VTN.
+         * @return {@link VTNConfigurationBean}
+         * @throws Exception
+         */
+        private VTNConfigurationBean build() throws Exception {
+            List<VBridgeBean> vbrBean = new ArrayList<VBridgeBean>();
+            for (VBridgeNode node : vbridgeNodes) {
+                vbrBean.add(node.build());
+            }
+
+            List<VTerminalBean> vterminalBean = new ArrayList<VTerminalBean>();
+            for (VTerminalNode node : vterminalNodes) {
+                vterminalBean.add(node.build());
+            }
+
+            VTNConfigurationBean runConfig = new VTNConfigurationBean();
+            runConfig.setName(vtn.getVtnName());
+            runConfig.setDescription(vtn.getVtnDesc());
+            runConfig.setIdleTimeout(vtn.getIdleTimeout());
+            runConfig.setHardTimeout(vtn.getHardTimeout());
+            runConfig.setDataflow(await(dataflow));
+            runConfig.setVtnFlowfilter(await(vtnFlowFilter));
+            runConfig.setVbridge(vbrBean);
+            runConfig.setVTerminal(vterminalBean);
+            return runConfig;
+        }
+    }
+
+    /**
+     * VBridgeNode - requests issued for a vBridge.
+     */
+    private final class VBridgeNode {
+        /**
+         * The name of the VTN.
+         */
+        private final String vtnName;
+
+        /**
+         * The vBridge.
+         */
+        private final VBridgeNorthBound vbridge;
+
+        /**
+         * MAC mapping configured in the vBridge.
+         */
+        private final Future<MacMapNorthBound> macMap;
+
+        /**
+         * MAC address table entries.
+         */
+        private final Future<MacEntryList> macEntry;
+
+        /**
+         * VLAN mappings configured in the vBridge.
+         */
+        private final Future<VlanNorthBoundList> vlan;
+
+        /**
+         * Incoming flow filters.
+         */
+        private final Future<VBridgeFlowFilterList> flowFilterIn;
+
+        /**
+         * Outgoing flow filters.
+         */
+        private final Future<VBridgeFlowFilterList> flowFilterOut;
+
+        /**
+         * Interfaces in the vBridge.
+         */
+        private final Future<VBridgeInterfaceList> interfaces;
+
+        /**
+         * Requests issued for each interface.
+         */
+        private final List<VBridgeIfNode> ifNodes =
+            new ArrayList<VBridgeIfNode>();
+
+        /**
+         * VBridgeNode - constructor with arguments.
+         * @param vtnName - the name of the VTN.
+         * @param vbridge - the vBridge.
+         */
+        private VBridgeNode(String vtnName, VBridgeNorthBound vbridge) {
+            this.vtnName = vtnName;
+            this.vbridge = vbridge;
+
+            String name = vbridge.getName();
+            Map<String, String> vbridgeMap =
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "bridgeName", name);
+            macMap = submit(new MacMapNorthBound(), vbridgeMap);
+            macEntry = submit(new MacEntryList(), vbridgeMap);
+            vlan = submit(new VlanNorthBoundList(), vbridgeMap);
+            flowFilterIn = submit(
+                new VBridgeFlowFilterList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "bridgeName", name,
+                       "listType", "in"));
+            flowFilterOut = submit(
+                new VBridgeFlowFilterList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "bridgeName", name,
+                       "listType", "out"));
+            interfaces = submit(new VBridgeInterfaceList(), vbridgeMap);
+        }
+
+        /**
+         * expand - to issue requests for interfaces in the vBridge.
+         * @throws Exception
+         */
+        private void expand() throws Exception {
+            for (VBridgeInterface vbrInter : await(interfaces).getInterfaces()) {
+                ifNodes.add(new VBridgeIfNode(vtnName, vbridge.getName(),
+                                              vbrInter));
+            }
+        }
+
+        /**
+         * build - to construct the configuration of the vBridge.
+         * @return {@link VBridgeBean}
+         * @throws Exception
+         */
+        private VBridgeBean build() throws Exception {
+            VBridgeBean vbean = new VBridgeBean();
+            vbean.setName(vbridge.getName());
+            vbean.setAgeInterval(vbridge.getAgeInterval());
+            vbean.setDescription(vbridge.getDescription());
+            vbean.setFaults(vbridge.getFaults());
+            vbean.setState(vbridge.getState());
+            vbean.setMacMap(await(macMap));
+            vbean.setMacentry(await(macEntry));
+            vbean.setBrvlan(await(vlan));
+
+            VBridgeFlowFilterList vbrFlowFilterIn = await(flowFilterIn);
+            VBridgeFlowFilterList vbrFlowFilterOut = await(flowFilterOut);
+            if (vbrFlowFilterIn.getFlowfilter().size() > 0) {
+                if (vbrFlowFilterOut.getFlowfilter().size() > 0) {
+                    vbrFlowFilterIn.getFlowfilter().addAll(vbrFlowFilterOut.getFlowfilter());
+                }
+                vbean.setVbrFlowFilter(vbrFlowFilterIn);
+            } else if (vbrFlowFilterOut.getFlowfilter().size() > 0) {
+                vbean.setVbrFlowFilter(vbrFlowFilterOut);
+            }
+
+            if (ifNodes.size() > 0) {
+                List<VBridgeInterfaceBean> ifBeans =
+                    new ArrayList<VBridgeInterfaceBean>();
+                for (VBridgeIfNode node : ifNodes) {
+                    ifBeans.add(node.build());
+                }
+                vbean.setVbrInterface(ifBeans);
+            }
+            return vbean;
+        }
+    }
+
+    /**
+     * VBridgeIfNode - requests issued for a vBridge interface.
+     */
+    private final class VBridgeIfNode {
+        /**
+         * The vBridge interface.
+         */
+        private final VBridgeInterface vbrInter;
+
+        /**
+         * Port mapping configured in the interface.
+         */
+        private final Future<VBridgePortMap> portMap;
+
+        /**
+         * Incoming flow filters.
+         */
+        private final Future<VBridgeIfFlowFilterNorthboundList> flowFilterIn;
+
+        /**
+         * Outgoing flow filters.
+         */
+        private final Future<VBridgeIfFlowFilterNorthboundList> flowFilterOut;
+
+        /**
+         * VBridgeIfNode - constructor with arguments.
+         * @param vtnName - the name of the VTN.
+         * @param bridgeName - the name of the vBridge.
+         * @param vbrInter - the vBridge interface.
+         */
+        private VBridgeIfNode(String vtnName, String bridgeName,
+                              VBridgeInterface vbrInter) {
+            this.vbrInter = vbrInter;
+
+            String name = vbrInter.getName();
+            portMap = submit(
+                new VBridgePortMap(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "bridgeName", bridgeName,
+                       "ifName", name));
+            flowFilterIn = submit(
+                new VBridgeIfFlowFilterNorthboundList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "bridgeName", bridgeName,
+                       "ifName", name, "listType", "in"));
+            flowFilterOut = submit(
+                new VBridgeIfFlowFilterNorthboundList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "bridgeName", bridgeName,
+                       "ifName", name, "listType", "out"));
+        }
+
+        /**
+         * build - to construct the configuration of the interface.
+         * @return {@link VBridgeInterfaceBean}
+         * @throws Exception
+         */
+        private VBridgeInterfaceBean build() throws Exception {
+            VBridgeInterfaceBean iBean = new VBridgeInterfaceBean();
+            iBean.setDescription(vbrInter.getDescription());
+            iBean.setName(vbrInter.getName());
+            iBean.setEnabled(vbrInter.getEnabled());
+            iBean.setEntityState(vbrInter.getEntityState());
+            iBean.setState(vbrInter.getState());
+            iBean.setPortmap(await(portMap));
+
+            VBridgeIfFlowFilterNorthboundList listIn = await(flowFilterIn);
+            VBridgeIfFlowFilterNorthboundList listOut = await(flowFilterOut);
+            if (listIn.getFlowfilters().size() > 0) {
+                if (listOut.getFlowfilters().size() > 0) {
+                    listIn.getFlowfilters().addAll(listOut.getFlowfilters());
+                }
+                iBean.setFlowfilters(listIn);
+            } else if (listOut.getFlowfilters().size() > 0) {
+                iBean.setFlowfilters(listOut);
+            }
+            return iBean;
+        }
+    }
+
+    /**
+     * VTerminalNode - requests issued for a vTerminal.
+     */
+    private final class VTerminalNode {
+        /**
+         * The name of the VTN.
+         */
+        private final String vtnName;
+
+        /**
+         * The vTerminal.
+         */
+        private final VTerminalNorthBound vterminal;
+
+        /**
+         * Interfaces in the vTerminal.
+         */
+        private final Future<VTerminalInterfaceNorthboundList> interfaces;
+
+        /**
+         * Requests issued for each interface.
+         */
+        private final List<VTerminalIfNode> ifNodes =
+            new ArrayList<VTerminalIfNode>();
+
+        /**
+         * VTerminalNode - constructor with arguments.
+         * @param vtnName - the name of the VTN.
+         * @param vterminal - the vTerminal.
+         */
+        private VTerminalNode(String vtnName, VTerminalNorthBound vterminal) {
+            this.vtnName = vtnName;
+            this.vterminal = vterminal;
+            interfaces = submit(
+                new VTerminalInterfaceNorthboundList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName,
+                       "terminalName", vterminal.getName()));
+        }
+
+        /**
+         * expand - to issue requests for interfaces in the vTerminal.
+         * @throws Exception
+         */
+        private void expand() throws Exception {
+            for (VTerminalInterfaceNorthbound vtInter :
+                     await(interfaces).getInterfaces()) {
+                ifNodes.add(new VTerminalIfNode(vtnName, vterminal.getName(),
+                                                vtInter));
+            }
+        }
+
+        /**
+         * build - to construct the configuration of the vTerminal.
+         * @return {@link VTerminalBean}
+         * @throws Exception
+         */
+        private VTerminalBean build() throws Exception {
+            VTerminalBean vtbean = new VTerminalBean();
+            vtbean.setName(vterminal.getName());
+            vtbean.setFaults(vterminal.getFaults());
+            vtbean.setDescription(vterminal.getDescription());
+            vtbean.setState(vterminal.getState());
+
+            if (ifNodes.size() > 0) {
+                List<VTerminalInterfaceBean> vtinterfaces =
+                    new ArrayList<VTerminalInterfaceBean>();
+                for (VTerminalIfNode node : ifNodes) {
+                    vtinterfaces.add(node.build());
+                }
+                vtbean.setVInterface(vtinterfaces);
+            }
+            return vtbean;
+        }
+    }
+
+    /**
+     * VTerminalIfNode - requests issued for a vTerminal interface.
+     */
+    private final class VTerminalIfNode {
+        /**
+         * The vTerminal interface.
+         */
+        private final VTerminalInterfaceNorthbound vtInter;
+
+        /**
+         * Port mapping configured in the interface.
+         */
+        private final Future<VTerminalPortMap> portMap;
+
+        /**
+         * Incoming flow filters.
+         */
+        private final Future<VTerminalIfFlowFilterNorthboundList> flowFilterIn;
+
+        /**
+         * Outgoing flow filters.
+         */
+        private final Future<VTerminalIfFlowFilterNorthboundList> flowFilterOut;
+
+        /**
+         * VTerminalIfNode - constructor with arguments.
+         * @param vtnName - the name of the VTN.
+         * @param terminalName - the name of the vTerminal.
+         * @param vtInter - the vTerminal interface.
+         */
+        private VTerminalIfNode(String vtnName, String terminalName,
+                                VTerminalInterfaceNorthbound vtInter) {
+            this.vtInter = vtInter;
+
+            String name = vtInter.getName();
+            portMap = submit(
+                new VTerminalPortMap(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "terminalName", terminalName,
+                       "ifName", name));
+            flowFilterIn = submit(
+                new VTerminalIfFlowFilterNorthboundList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "terminalName", terminalName,
+                       "ifName", name, "listType", "in"));
+            flowFilterOut = submit(
+                new VTerminalIfFlowFilterNorthboundList(),
+                params("containerName", DEFAULT_CONTAINER,
+                       "tenantName", vtnName, "terminalName", terminalName,
+                       "ifName", name, "listType", "out"));
+        }
+
+        /**
+         * build - to construct the configuration of the interface.
+         * @return {@link VTerminalInterfaceBean}
+         * @throws Exception
+         */
+        private VTerminalInterfaceBean build() throws Exception {
+            VTerminalInterfaceBean vtInterfaceBean = new VTerminalInterfaceBean();
+            vtInterfaceBean.setDescription(vtInter.getDescription());
+            vtInterfaceBean.setName(vtInter.getName());
+            vtInterfaceBean.setEnabled(vtInter.getEnabled());
+            vtInterfaceBean.setEntityState(vtInter.getEntityState());
+            vtInterfaceBean.setState(vtInter.getState());
+            vtInterfaceBean.setPortmap(await(portMap));
+
+            VTerminalIfFlowFilterNorthboundList listIn = await(flowFilterIn);
+            VTerminalIfFlowFilterNorthboundList listOut = await(flowFilterOut);
+            if (listIn.getFlowfilters().size() > 0) {
+                if (listOut.getFlowfilters().size() > 0) {
+                    listIn.getFlowfilters().addAll(listOut.getFlowfilters());
+                }
+                vtInterfaceBean.setVtFlowfilter(listIn);
+            } else if (listOut.getFlowfilters().size() > 0) {
+                vtInterfaceBean.setVtFlowfilter(listOut);
+            }
+            return vtInterfaceBean;
+        }
+    }
+}
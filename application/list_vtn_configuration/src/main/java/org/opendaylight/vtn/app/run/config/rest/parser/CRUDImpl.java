@@ -47,6 +47,12 @@ public class CRUDImpl implements CRUDOperation {
 
     /**
      * CRUDImpl - constructor with arguments.
+     *
+     * <p>
+     *   A single Jersey client is shared by all requests issued by this
+     *   instance, so that HTTP connections to the controller are kept
+     *   alive and reused. The client is thread-safe once configured.
+     * </p>
      * @param appType - content type of the http response.
      * @param userName - username of the controller to connect to the server.
      * @param password - password of the controller to connect to the server.
@@ -133,20 +139,26 @@ public class CRUDImpl implements CRUDOperation {
     public String doGET(String url, Map<String, Object> headers) throws VTNClientException, JSONException, ConnectException {
         try {
             ClientResponse response = getWebResource(url, null, headers).accept(appType.getType()).get(ClientResponse.class);
-            if (response.getStatus() == HTTP_RESPONSE.NO_CONTENT.getStatus()) {
-                return getHttpResponseObject(HTTP_RESPONSE.NO_CONTENT).toString();
-            } else {
-                if (response.getStatus() == HTTP_RESPONSE.UNAUTHORIZED.getStatus()) {
-                    LOG.error("Unauthorized access :HTTP error code : {}", response.getStatus());
-                    LOG.error(getHttpResponseObject(HTTP_RESPONSE.UNAUTHORIZED).toString());
-                    throw new VTNClientException("\n\nFailed to connect to ODL Controller due to unauthorized access..."
-                                                    + "\nPlease check Username/Password...");
-                } else if (response.getStatus() != HTTP_RESPONSE.OPERATION_SUCCESS.getStatus()) {
-                    LOG.error("GET RequestFailed :HTTP error code : {}", response.getStatus());
-                    throw new VTNClientException("\n\nPage not found - " + response.getStatus());
-                }
+            int status = response.getStatus();
+            if (status == HTTP_RESPONSE.OPERATION_SUCCESS.getStatus()) {
+                // Reading the entity consumes the stream, and returns the
+                // connection to the keep-alive cache.
                 return response.getEntity(String.class);
             }
+
+            // Release the connection so that it can be reused by
+            // subsequent requests.
+            response.close();
+            if (status == HTTP_RESPONSE.NO_CONTENT.getStatus()) {
+                return getHttpResponseObject(HTTP_RESPONSE.NO_CONTENT).toString();
+            } else if (status == HTTP_RESPONSE.UNAUTHORIZED.getStatus()) {
+                LOG.error("Unauthorized access :HTTP error code : {}", status);
+                LOG.error(getHttpResponseObject(HTTP_RESPONSE.UNAUTHORIZED).toString());
+                throw new VTNClientException("\n\nFailed to connect to ODL Controller due to unauthorized access..."
+                                                + "\nPlease check Username/Password...");
+            }
+            LOG.error("GET RequestFailed :HTTP error code : {}", status);
+            throw new VTNClientException("\n\nPage not found - " + status);
         } catch (ClientHandlerException e) {
             LOG.error("An exception occured - ", e);
             throw new VTNClientException("\n\nFailed to connect to ODL Controller..."
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.app.run.config.rest.parser;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+
+import org.opendaylight.vtn.app.run.config.json.annotations.JsonArray;
+import org.opendaylight.vtn.app.run.config.json.annotations.JsonElement;
+import org.opendaylight.vtn.app.run.config.json.annotations.JsonObjectRef;
+
+/**
+ * FieldBinding - binding between a JSON attribute and an annotated field,
+ *                resolved once per class by {@link Parser}.
+ */
+final class FieldBinding {
+
+    /**
+     * The kind of the binding.
+     */
+    enum Kind {
+        /**
+         * A field annotated with {@link JsonElement}.
+         */
+        ELEMENT,
+
+        /**
+         * A field annotated with {@link JsonArray}.
+         */
+        ARRAY,
+
+        /**
+         * A field annotated with {@link JsonObjectRef}.
+         */
+        OBJECT_REF;
+    }
+
+    /**
+     * The target field, already made accessible.
+     */
+    private final Field field;
+
+    /**
+     * The name of the JSON attribute.
+     */
+    private final String name;
+
+    /**
+     * The kind of the binding.
+     */
+    private final Kind kind;
+
+    /**
+     * The class of list elements. This is used only for {@link Kind#ARRAY}.
+     */
+    private final Class<?> elementClass;
+
+    /**
+     * Create a binding for the given field.
+     * @param field
+     *         The field to be bound.
+     * @return
+     *         A {@link FieldBinding} instance, or {@code null} if the given
+     *         field is not annotated.
+     */
+    static FieldBinding create(Field field) {
+        JsonElement jsonElement = field.getAnnotation(JsonElement.class);
+        if (jsonElement != null) {
+            return new FieldBinding(field, jsonElement.name(), Kind.ELEMENT,
+                                    null);
+        }
+
+        JsonArray jsonList = field.getAnnotation(JsonArray.class);
+        if (jsonList != null) {
+            Class<?> listClass = (Class<?>)((ParameterizedType)field.
+                getGenericType()).getActualTypeArguments()[0];
+            return new FieldBinding(field, jsonList.name(), Kind.ARRAY,
+                                    listClass);
+        }
+
+        JsonObjectRef jsonObjectRef = field.getAnnotation(JsonObjectRef.class);
+        if (jsonObjectRef != null) {
+            return new FieldBinding(field, jsonObjectRef.name(),
+                                    Kind.OBJECT_REF, null);
+        }
+
+        return null;
+    }
+
+    /**
+     * FieldBinding - constructor with arguments.
+     * @param field - the target field.
+     * @param name - the name of the JSON attribute.
+     * @param kind - the kind of the binding.
+     * @param elementClass - the class of list elements.
+     */
+    private FieldBinding(Field field, String name, Kind kind,
+                         Class<?> elementClass) {
+        field.setAccessible(true);
+        this.field = field;
+        this.name = name;
+        this.kind = kind;
+        this.elementClass = elementClass;
+    }
+
+    /**
+     * getField - to get the target field.
+     * @return {@link Field}
+     */
+    Field getField() {
+        return field;
+    }
+
+    /**
+     * getName - to get the name of the JSON attribute.
+     * @return {@link String}
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * getKind - to get the kind of the binding.
+     * @return {@link Kind}
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * getElementClass - to get the class of list elements.
+     * @return {@link Class}
+     */
+    Class<?> getElementClass() {
+        return elementClass;
+    }
+}
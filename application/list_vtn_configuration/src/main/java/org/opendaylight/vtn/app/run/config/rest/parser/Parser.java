@@ -11,7 +11,10 @@ package org.opendaylight.vtn.app.run.config.rest.parser;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +36,18 @@ public class Parser {
      */
     static final Logger LOG = LoggerFactory.getLogger(Parser.class);
 
+    /**
+     * A sentinel plan which indicates the class is not annotated with
+     * {@link JsonObject}.
+     */
+    private static final FieldBinding[] NOT_JSON_OBJECT = new FieldBinding[0];
+
+    /**
+     * Field binding plans cached per class.
+     */
+    private static final ConcurrentMap<Class<?>, FieldBinding[]> BINDING_PLANS =
+        new ConcurrentHashMap<Class<?>, FieldBinding[]>();
+
     /**
      * Default constructor
      */
@@ -87,46 +102,39 @@ public class Parser {
     public Object parseJsonObject(Object obj , JSONObject json) throws InstantiationException, IllegalAccessException, VTNClientException {
 
         try {
-            if (obj != null && obj.getClass().getAnnotation(JsonObject.class) != null) {
-
-                for (Field field : obj.getClass().getDeclaredFields()) {
-                    field.setAccessible(true);
+            FieldBinding[] plan = (obj == null) ? null : getBindings(obj.getClass());
+            if (plan != null) {
+                for (FieldBinding binding : plan) {
+                    Field field = binding.getField();
+                    String name = binding.getName();
+                    if (!json.has(name)) {
+                        continue;
+                    }
 
-                    JsonElement jsonElement = field.getAnnotation(JsonElement.class);
-                    JsonObjectRef jsonObjectRef = field.getAnnotation(JsonObjectRef.class);
-                    JsonArray jsonList = field.getAnnotation(JsonArray.class);
-
-                    if (jsonElement != null) {
-                        if (json.has(jsonElement.name())) {
-                            if (!field.getType().getName().equals(json.get(jsonElement.name()).getClass().getName())) {
-                                parseToRespectiveObject(obj, field, String.valueOf(json.get(jsonElement.name())));
-                            } else {
-                                field.set(obj, json.get(jsonElement.name()));
-                            }
+                    switch (binding.getKind()) {
+                    case ELEMENT:
+                        Object value = json.get(name);
+                        if (field.getType() != value.getClass()) {
+                            parseToRespectiveObject(obj, field, String.valueOf(value));
+                        } else {
+                            field.set(obj, value);
                         }
-
-                    } else if (jsonList != null) {
-
-                        if (json.has(jsonList.name())) {
-
-                            JSONArray jsonArray = (JSONArray)json.get(jsonList.name());
-                            LOG.debug("" + field.getGenericType());
-                            LOG.debug("" + (ParameterizedType)field.getGenericType());
-                            LOG.debug("" + ((ParameterizedType)field.getGenericType()).getActualTypeArguments()[0]);
-                            Class<?> listClass = (Class<?>)((ParameterizedType)field.getGenericType()).getActualTypeArguments()[0];
-
-                            for (int i = 0; i < jsonArray.length(); i++) {
-                                Object listObj = listClass.newInstance();
-                                ((List)field.get(obj)).add(listObj);
-                                parseJsonObject(listObj, (JSONObject)jsonArray.get(i));
-                            }
+                        break;
+
+                    case ARRAY:
+                        JSONArray jsonArray = (JSONArray)json.get(name);
+                        Class<?> listClass = binding.getElementClass();
+                        List list = (List)field.get(obj);
+                        for (int i = 0; i < jsonArray.length(); i++) {
+                            Object listObj = listClass.newInstance();
+                            list.add(listObj);
+                            parseJsonObject(listObj, (JSONObject)jsonArray.get(i));
                         }
-                    } else if (jsonObjectRef != null) {
-
-                        if (json.has(jsonObjectRef.name())) {
+                        break;
 
-                            parseJsonObject(field.get(obj), (JSONObject)json.getJSONObject(jsonObjectRef.name()));
-                        }
+                    default:
+                        parseJsonObject(field.get(obj), (JSONObject)json.getJSONObject(name));
+                        break;
                     }
                 }
             } else {
@@ -141,11 +149,54 @@ public class Parser {
             throw new VTNClientException("\n\nAn error has occured...");
         }
 
-        LOG.debug("PARSER OUT:" + obj);
-        LOG.debug("JsonObject parser is done");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("PARSER OUT:" + obj);
+            LOG.debug("JsonObject parser is done");
+        }
         return obj;
     }
 
+    /**
+     * Return the field binding plan for the given class.
+     *
+     * <p>
+     *   Annotated fields in the given class are resolved only once, and
+     *   the result is shared by all {@code Parser} instances.
+     * </p>
+     *
+     * @param cls
+     *         The class to be parsed.
+     * @return
+     *         An array of field bindings. {@code null} is returned if the
+     *         given class is not annotated with {@link JsonObject}.
+     */
+    static FieldBinding[] getBindings(Class<?> cls) {
+        FieldBinding[] plan = BINDING_PLANS.get(cls);
+        if (plan == null) {
+            if (cls.getAnnotation(JsonObject.class) == null) {
+                // Cache an empty plan to remember that the class is not
+                // parsable.
+                plan = NOT_JSON_OBJECT;
+            } else {
+                List<FieldBinding> list = new ArrayList<FieldBinding>();
+                for (Field field : cls.getDeclaredFields()) {
+                    FieldBinding binding = FieldBinding.create(field);
+                    if (binding != null) {
+                        list.add(binding);
+                    }
+                }
+                plan = list.toArray(new FieldBinding[list.size()]);
+            }
+
+            FieldBinding[] old = BINDING_PLANS.putIfAbsent(cls, plan);
+            if (old != null) {
+                plan = old;
+            }
+        }
+
+        return (plan == NOT_JSON_OBJECT) ? null : plan;
+    }
+
     /**
      * Parase the reseived Json Array.
      * @param obj
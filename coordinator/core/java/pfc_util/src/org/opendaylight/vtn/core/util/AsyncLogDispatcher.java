@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.core.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ *   The {@code AsyncLogDispatcher} class delivers log messages to the
+ *   PFC-Core logging system on a dedicated thread.
+ * </p>
+ * <p>
+ *   Log messages are queued to a bounded buffer, so that threads which
+ *   log messages never block on log file I/O. A message is dropped if the
+ *   buffer is full.
+ * </p>
+ *
+ * @since	C10
+ */
+final class AsyncLogDispatcher implements Runnable
+{
+	/**
+	 * <p>
+	 *   Name of the dispatcher thread.
+	 * </p>
+	 */
+	private final static String  THREAD_NAME = "pfc-log-dispatcher";
+
+	/**
+	 * <p>
+	 *   Bounded buffer of log records.
+	 * </p>
+	 */
+	private final BlockingQueue<LogRecord>  _queue;
+
+	/**
+	 * <p>
+	 *   The number of log messages dropped due to buffer overflow.
+	 * </p>
+	 */
+	private final AtomicLong  _dropped = new AtomicLong();
+
+	/**
+	 * <p>
+	 *   The dispatcher thread.
+	 * </p>
+	 */
+	private final Thread  _thread;
+
+	/**
+	 * <p>
+	 *   The number of threads which are queueing log messages.
+	 * </p>
+	 */
+	private final AtomicInteger  _dispatching = new AtomicInteger();
+
+	/**
+	 * <p>
+	 *   Set {@code true} if this dispatcher is stopped.
+	 * </p>
+	 */
+	private volatile boolean  _stopped;
+
+	/**
+	 * <p>
+	 *   Create a new log dispatcher, and start the dispatcher thread.
+	 * </p>
+	 *
+	 * @param capacity	The maximum number of log messages to be
+	 *			buffered.
+	 * @throws IllegalArgumentException
+	 *	{@code capacity} is less than 1.
+	 */
+	AsyncLogDispatcher(int capacity)
+	{
+		_queue = new ArrayBlockingQueue<LogRecord>(capacity);
+		_thread = new Thread(this, THREAD_NAME);
+		_thread.setDaemon(true);
+		_thread.start();
+	}
+
+	/**
+	 * <p>
+	 *   Queue the given log message.
+	 * </p>
+	 * <p>
+	 *   The given message is dropped if the buffer is full.
+	 * </p>
+	 *
+	 * @param logger	A logger instance which logs the message.
+	 * @param level		Logging level of the message.
+	 * @param msg		Log message.
+	 * @return		{@code false} only if this dispatcher is
+	 *			already stopped.
+	 */
+	boolean dispatch(Logger logger, int level, String msg)
+	{
+		_dispatching.incrementAndGet();
+		try {
+			if (_stopped) {
+				return false;
+			}
+
+			if (!_queue.offer(new LogRecord(logger, level, msg))) {
+				_dropped.incrementAndGet();
+			}
+		}
+		finally {
+			_dispatching.decrementAndGet();
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 *   Return the number of log messages dropped due to buffer overflow.
+	 * </p>
+	 *
+	 * @return	The number of dropped log messages.
+	 */
+	long getDroppedCount()
+	{
+		return _dropped.get();
+	}
+
+	/**
+	 * <p>
+	 *   Stop the dispatcher thread.
+	 * </p>
+	 * <p>
+	 *   This method waits for all buffered messages to be delivered.
+	 *   Messages queued by threads which passed the stop check while the
+	 *   dispatcher thread was flushing the buffer are delivered by the
+	 *   calling thread.
+	 * </p>
+	 */
+	void stop()
+	{
+		_stopped = true;
+		_thread.interrupt();
+
+		boolean interrupted = false;
+		while (_thread.isAlive()) {
+			try {
+				_thread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+
+		// Wait for threads which are queueing messages, and deliver
+		// messages left in the buffer.
+		while (_dispatching.get() != 0) {
+			Thread.yield();
+		}
+		flush();
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Deliver buffered log messages to the PFC-Core logging system.
+	 * </p>
+	 */
+	@Override
+	public void run()
+	{
+		while (!_stopped) {
+			try {
+				_queue.take().deliver();
+			}
+			catch (InterruptedException e) {
+				// Check stop flag.
+			}
+		}
+
+		// Flush remaining messages.
+		flush();
+	}
+
+	/**
+	 * <p>
+	 *   Deliver all the log messages in the buffer.
+	 * </p>
+	 */
+	private void flush()
+	{
+		for (LogRecord rec = _queue.poll(); rec != null;
+		     rec = _queue.poll()) {
+			rec.deliver();
+		}
+	}
+
+	/**
+	 * <p>
+	 *   A log message buffered by the dispatcher.
+	 * </p>
+	 */
+	private static final class LogRecord
+	{
+		/**
+		 * <p>
+		 *   A logger instance which logs the message.
+		 * </p>
+		 */
+		private final Logger  _logger;
+
+		/**
+		 * <p>
+		 *   Logging level of the message.
+		 * </p>
+		 */
+		private final int  _level;
+
+		/**
+		 * <p>
+		 *   Log message.
+		 * </p>
+		 */
+		private final String  _message;
+
+		/**
+		 * <p>
+		 *   Create a new log record.
+		 * </p>
+		 *
+		 * @param logger	A logger instance which logs the message.
+		 * @param level		Logging level of the message.
+		 * @param msg		Log message.
+		 */
+		private LogRecord(Logger logger, int level, String msg)
+		{
+			_logger = logger;
+			_level = level;
+			_message = msg;
+		}
+
+		/**
+		 * <p>
+		 *   Deliver this message to the PFC-Core logging system.
+		 * </p>
+		 */
+		private void deliver()
+		{
+			_logger.logImpl(_level, _logger._name, _message);
+		}
+	}
+}
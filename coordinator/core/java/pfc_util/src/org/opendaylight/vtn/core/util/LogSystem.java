@@ -153,9 +153,62 @@ public final class LogSystem implements LogFatalHandler
 	 */
 	public void shutdown()
 	{
+		Logger.stopAsync();
 		finalizeLog();
 	}
 
+	/**
+	 * <p>
+	 *   Start asynchronous delivery of log messages.
+	 * </p>
+	 * <p>
+	 *   After the call of this method, log messages are queued to a
+	 *   bounded buffer, and delivered to the logging system by a
+	 *   dedicated thread. A message is dropped if the buffer is full.
+	 *   Note that FATAL messages are always delivered synchronously.
+	 * </p>
+	 * <p>
+	 *   This method does nothing if asynchronous delivery is already
+	 *   started.
+	 * </p>
+	 *
+	 * @param capacity	The maximum number of log messages to be
+	 *			buffered.
+	 * @throws IllegalArgumentException
+	 *	{@code capacity} is less than 1.
+	 * @see #getDroppedMessageCount()
+	 */
+	public void startAsync(int capacity)
+	{
+		Logger.startAsync(capacity);
+	}
+
+	/**
+	 * <p>
+	 *   Stop asynchronous delivery of log messages.
+	 * </p>
+	 * <p>
+	 *   This method waits for all buffered messages to be delivered.
+	 * </p>
+	 */
+	public void stopAsync()
+	{
+		Logger.stopAsync();
+	}
+
+	/**
+	 * <p>
+	 *   Return the number of log messages dropped due to buffer overflow
+	 *   of asynchronous delivery.
+	 * </p>
+	 *
+	 * @return	The number of dropped log messages.
+	 */
+	public long getDroppedMessageCount()
+	{
+		return Logger.getDroppedCount();
+	}
+
 	/**
 	 * <p>
 	 *   Return the current logging level of the trace log.
@@ -75,6 +75,13 @@ import org.opendaylight.vtn.core.CoreSystem;
  *   Note that you must initialize the PFC-Core logging system by
  *   {@link LogSystem#initialize(LogConfiguration)} before logging message.
  * </p>
+ * <p>
+ *   A message specified by the format string and arguments is constructed
+ *   only if its logging level is enabled. So the format string should be
+ *   used instead of string concatenation in order to avoid constructing
+ *   messages to be discarded. {@link #isEnabled(LogLevel)} can also be used
+ *   to guard expensive message construction.
+ * </p>
  *
  * @since	C10
  */
@@ -104,6 +111,14 @@ public abstract class Logger
 	 */
 	final String  _name;
 
+	/**
+	 * <p>
+	 *   Dispatcher which delivers log messages asynchronously.
+	 *   {@code null} means that log messages are delivered synchronously.
+	 * </p>
+	 */
+	private static volatile AsyncLogDispatcher  _dispatcher;
+
 	/**
 	 * <p>
 	 *   Obtain an anonymous trace logger instance.
@@ -165,6 +180,46 @@ public abstract class Logger
 		return _name;
 	}
 
+	/**
+	 * <p>
+	 *   Determine whether the specified logging level is enabled or not.
+	 * </p>
+	 *
+	 * @param level		A logging level.
+	 * @return		{@code true} only if a message of the specified
+	 *			logging level is logged.
+	 * @throws NullPointerException
+	 *	{@code level} is {@code null}.
+	 */
+	public boolean isEnabled(LogLevel level)
+	{
+		return (level.getLevel() <= getCurrentLevel());
+	}
+
+	/**
+	 * <p>
+	 *   Determine whether debugging messages are logged or not.
+	 * </p>
+	 *
+	 * @return	{@code true} only if debugging messages are logged.
+	 */
+	public boolean isDebugEnabled()
+	{
+		return (LogLevel.LVL_DEBUG <= getCurrentLevel());
+	}
+
+	/**
+	 * <p>
+	 *   Determine whether trace level messages are logged or not.
+	 * </p>
+	 *
+	 * @return	{@code true} only if trace level messages are logged.
+	 */
+	public boolean isTraceEnabled()
+	{
+		return (LogLevel.LVL_TRACE <= getCurrentLevel());
+	}
+
 	/**
 	 * <p>
 	 *   Log a fatal error message.
@@ -1082,7 +1137,12 @@ public abstract class Logger
 	 */
 	private void log(int lvl, String message)
 	{
-		logImpl(lvl, _name, message);
+		// Logging level is checked by logImpl() on synchronous mode.
+		// On asynchronous mode, it must be checked here in order to
+		// avoid buffering messages to be discarded.
+		if (_dispatcher == null || lvl <= getCurrentLevel()) {
+			emit(lvl, message);
+		}
 	}
 
 	/**
@@ -1104,7 +1164,7 @@ public abstract class Logger
 		int cur = getCurrentLevel();
 
 		if (lvl <= cur) {
-			logImpl(lvl, _name, String.format(format, args));
+			emit(lvl, String.format(format, args));
 		}
 	}
 
@@ -1128,7 +1188,7 @@ public abstract class Logger
 		int cur = getCurrentLevel();
 
 		if (lvl <= cur) {
-			logImpl(lvl, _name, getMessage(t, message));
+			emit(lvl, getMessage(t, message));
 		}
 	}
 
@@ -1157,10 +1217,87 @@ public abstract class Logger
 
 		if (lvl <= cur) {
 			String msg = String.format(format, args);
-			logImpl(lvl, _name, getMessage(t, msg));
+			emit(lvl, getMessage(t, msg));
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Deliver the specified message to the PFC-Core logging system.
+	 * </p>
+	 * <p>
+	 *   If asynchronous logging is enabled, the message is queued to the
+	 *   dispatcher except for FATAL message, which is always delivered
+	 *   synchronously in order to invoke FATAL log handler.
+	 * </p>
+	 *
+	 * @param lvl		Logging level value of the message.
+	 * @param message	A message to be logged.
+	 */
+	private void emit(int lvl, String message)
+	{
+		AsyncLogDispatcher disp = _dispatcher;
+
+		if (disp == null || lvl == LogLevel.LVL_FATAL ||
+		    !disp.dispatch(this, lvl, message)) {
+			logImpl(lvl, _name, message);
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Start asynchronous delivery of log messages.
+	 * </p>
+	 * <p>
+	 *   This method does nothing if asynchronous delivery is already
+	 *   started.
+	 * </p>
+	 *
+	 * @param capacity	The maximum number of log messages to be
+	 *			buffered.
+	 * @throws IllegalArgumentException
+	 *	{@code capacity} is less than 1.
+	 */
+	static synchronized void startAsync(int capacity)
+	{
+		if (_dispatcher == null) {
+			_dispatcher = new AsyncLogDispatcher(capacity);
 		}
 	}
 
+	/**
+	 * <p>
+	 *   Stop asynchronous delivery of log messages.
+	 * </p>
+	 * <p>
+	 *   This method waits for all buffered messages to be delivered.
+	 * </p>
+	 */
+	static synchronized void stopAsync()
+	{
+		AsyncLogDispatcher disp = _dispatcher;
+		if (disp != null) {
+			_dispatcher = null;
+			disp.stop();
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Return the number of log messages dropped due to buffer overflow
+	 *   of asynchronous delivery.
+	 * </p>
+	 *
+	 * @return	The number of dropped log messages.
+	 *		Zero is returned if asynchronous delivery is not
+	 *		started.
+	 */
+	static long getDroppedCount()
+	{
+		AsyncLogDispatcher disp = _dispatcher;
+		return (disp == null) ? 0L : disp.getDroppedCount();
+	}
+
 	/**
 	 * <p>
 	 *   Construct a log message from the given message and throwable.
@@ -20,10 +20,13 @@ import java.util.LinkedList;
 import java.util.Iterator;
 import java.util.IllegalFormatException;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertNull;
 import static junit.framework.TestCase.assertSame;
 import static junit.framework.TestCase.assertTrue;
@@ -212,6 +215,145 @@ public class LoggerTest extends TestBase
 		}
 	}
 
+	/**
+	 * <p>
+	 *   Ensure that logging level check methods return correct values.
+	 * </p>
+	 */
+	public void testLevelCheck()
+	{
+		DummyLogger logger = new DummyLogger("level");
+		LogLevel[] levels = {
+			LogLevel.FATAL,
+			LogLevel.ERROR,
+			LogLevel.WARNING,
+			LogLevel.NOTICE,
+			LogLevel.INFO,
+			LogLevel.DEBUG,
+			LogLevel.TRACE,
+			LogLevel.VERBOSE,
+		};
+
+		for (int curlvl = LogLevel.LVL_FATAL;
+		     curlvl <= LogLevel.LVL_VERBOSE; curlvl++) {
+			logger.setCurrentLevel(curlvl);
+			for (LogLevel level: levels) {
+				assertEquals(level.getLevel() <= curlvl,
+					     logger.isEnabled(level));
+			}
+			assertEquals(LogLevel.LVL_DEBUG <= curlvl,
+				     logger.isDebugEnabled());
+			assertEquals(LogLevel.LVL_TRACE <= curlvl,
+				     logger.isTraceEnabled());
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Ensure that log messages are delivered asynchronously.
+	 * </p>
+	 */
+	public void testAsync()
+	{
+		DummyLogger logger = new DummyLogger("async");
+		logger.setCurrentLevel(LogLevel.LVL_INFO);
+
+		Logger.startAsync(16);
+		try {
+			logger.info("message 1");
+			logger.debug("message 2");
+			logger.info("message %d", 3);
+			assertEquals(0L, Logger.getDroppedCount());
+		}
+		finally {
+			Logger.stopAsync();
+		}
+
+		// All buffered messages must be delivered on stop, and
+		// messages of disabled level must not be buffered.
+		assertEquals(LogLevel.LVL_INFO, logger.getLastLevel());
+		assertEquals("async", logger.getLastName());
+		assertEquals("message 3", logger.getLastMessage());
+
+		// FATAL message must be delivered synchronously.
+		Logger.startAsync(16);
+		try {
+			logger.reset();
+			logger.fatal("fatal message");
+			assertEquals(LogLevel.LVL_FATAL, logger.getLastLevel());
+			assertEquals("fatal message", logger.getLastMessage());
+		}
+		finally {
+			Logger.stopAsync();
+		}
+
+		// Messages must be dropped if the buffer is full.
+		BlockingLogger blogger = new BlockingLogger();
+		int total = 10;
+		long dropped;
+		Logger.startAsync(1);
+		try {
+			for (int i = 0; i < total; i++) {
+				blogger.info("message " + i);
+			}
+
+			// At most one message is buffered, and at most one
+			// message is being delivered.
+			dropped = Logger.getDroppedCount();
+			assertTrue(dropped >= total - 2);
+			blogger.release();
+		}
+		finally {
+			Logger.stopAsync();
+		}
+
+		assertEquals(total - dropped, (long)blogger.getCount());
+		assertEquals(0L, Logger.getDroppedCount());
+		assertFalse(blogger.getCount() == 0);
+	}
+
+	/**
+	 * <p>
+	 *   Ensure that no log message is lost while asynchronous delivery
+	 *   is being stopped.
+	 * </p>
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testAsyncStop() throws Exception
+	{
+		final int nthreads = 4;
+		final int loop = 2000;
+		for (int i = 0; i < 20; i++) {
+			final BlockingLogger blogger = new BlockingLogger();
+			blogger.release();
+			Logger.startAsync(nthreads * loop);
+
+			Thread[] threads = new Thread[nthreads];
+			for (int j = 0; j < nthreads; j++) {
+				threads[j] = new Thread() {
+					@Override
+					public void run()
+					{
+						for (int k = 0; k < loop; k++) {
+							blogger.info("message");
+						}
+					}
+				};
+				threads[j].start();
+			}
+
+			// Messages logged after stop must be delivered
+			// synchronously.
+			Thread.sleep(1);
+			Logger.stopAsync();
+			for (Thread t: threads) {
+				t.join();
+			}
+			assertEquals(nthreads * loop, blogger.getCount());
+		}
+	}
+
 	/**
 	 * <p>
 	 *   Test case of logger method for each levels, which takes a string.
@@ -750,6 +892,94 @@ public class LoggerTest extends TestBase
 		return builder.toString();
 	}
 
+	/**
+	 * <p>
+	 *   A logger which blocks delivery of log messages until released.
+	 * </p>
+	 */
+	private final static class BlockingLogger extends Logger
+	{
+		/**
+		 * <p>
+		 *   A latch which blocks delivery of log messages.
+		 * </p>
+		 */
+		private final CountDownLatch  _latch = new CountDownLatch(1);
+
+		/**
+		 * <p>
+		 *   The number of delivered log messages.
+		 * </p>
+		 */
+		private final AtomicInteger  _count = new AtomicInteger();
+
+		/**
+		 * <p>
+		 *   Create a blocking logger instance.
+		 * </p>
+		 */
+		private BlockingLogger()
+		{
+			super("blocking");
+		}
+
+		/**
+		 * <p>
+		 *   Return the current logging level value.
+		 * </p>
+		 *
+		 * @return	The current logging level value.
+		 */
+		@Override
+		int getCurrentLevel()
+		{
+			return LogLevel.LVL_VERBOSE;
+		}
+
+		/**
+		 * <p>
+		 *   Count the log message after the latch is released.
+		 * </p>
+		 *
+		 * @param level		Logging level of the message.
+		 * @param name		Module name.
+		 * @param msg		Log message.
+		 */
+		@Override
+		void logImpl(int level, String name, String msg)
+		{
+			try {
+				_latch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			_count.incrementAndGet();
+		}
+
+		/**
+		 * <p>
+		 *   Release blocked delivery.
+		 * </p>
+		 */
+		private void release()
+		{
+			_latch.countDown();
+		}
+
+		/**
+		 * <p>
+		 *   Return the number of delivered log messages.
+		 * </p>
+		 *
+		 * @return	The number of delivered log messages.
+		 */
+		private int getCount()
+		{
+			return _count.get();
+		}
+	}
+
 	/**
 	 * <p>
 	 *   Test logger class which ensures that {@link Logger} methods
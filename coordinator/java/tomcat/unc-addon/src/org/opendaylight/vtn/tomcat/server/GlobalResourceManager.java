@@ -353,6 +353,13 @@ class GlobalResourceManager implements LogFatalHandler, IpcEventHandler
 			abort();
 		}
 
+		// Start asynchronous delivery of log messages if configured.
+		Integer capacity = fetchInteger(prop, "log.async.capacity");
+		if (capacity != null && capacity.intValue() > 0) {
+			lsys.startAsync(capacity.intValue());
+			_log.info("Asynchronous core logging has been started.");
+		}
+
 		_log.info("Core logging has been initialized: " + logFile);
 	}
 
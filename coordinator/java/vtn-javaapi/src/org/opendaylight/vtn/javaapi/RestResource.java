@@ -84,7 +84,7 @@ public class RestResource implements VtnServiceResource {
 		LOG.trace("Start RestResource#setResourcePath()");
 		boolean resourceFoundStatus = false;
 		try {
-			LOG.debug("Input value for resourcePath : " + resourcePath);
+			LOG.debug("Input value for resourcePath : %s", resourcePath);
 			this.path = resourcePath.replaceAll(VtnServiceConsts.WHITESPACE,
 					VtnServiceConsts.EMPTY_STRING);
 			// Resolve the resource class class object corresponding to current
@@ -96,11 +96,6 @@ public class RestResource implements VtnServiceResource {
 					resourceFoundStatus = true;
 					LOG.error("Resource not found");
 					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.RESOURCE_NOT_FOUND_ERROR
 									.getErrorCode(),
 							UncJavaAPIErrorCode.RESOURCE_NOT_FOUND_ERROR
@@ -116,22 +111,13 @@ public class RestResource implements VtnServiceResource {
 			}
 		} catch (final RuntimeException exception) {
 			exceptionHandler.handle(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
 					UncJavaAPIErrorCode.RESOURCE_PATH_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.RESOURCE_PATH_ERROR.getErrorMessage(),
 					exception);
 			resourceFoundStatus = true;
 		} catch (final VtnServiceException exception) {
 			exceptionHandler
-					.handle(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.RESOURCE_NOT_FOUND_ERROR
+					.handle(UncJavaAPIErrorCode.RESOURCE_NOT_FOUND_ERROR
 									.getErrorCode(),
 							UncJavaAPIErrorCode.RESOURCE_NOT_FOUND_ERROR
 									.getErrorMessage(), exception);
@@ -162,7 +148,7 @@ public class RestResource implements VtnServiceResource {
 	 */
 	public final String getPath() {
 		LOG.trace("Return from RestResource#getResourcePath()");
-		LOG.debug("Return value for path : " + path);
+		LOG.debug("Return value for path : %s", path);
 		return path;
 	}
 
@@ -198,21 +184,11 @@ public class RestResource implements VtnServiceResource {
 				}
 			} catch (final VtnServiceException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.DELETE_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.DELETE_ERROR.getErrorMessage(),
 						exception);
 			} catch (final RuntimeException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(),
 						exception);
@@ -235,7 +211,7 @@ public class RestResource implements VtnServiceResource {
 		 * If Resource not found then ERROR CODE (400) will be returned
 		 */
 		if (resource != null && queryString != null) {
-			LOG.debug("Input value for queryString : " + queryString);
+			LOG.debug("Input value for queryString : %s", queryString);
 			try {
 				validateJson(VtnServiceConsts.DELETE, queryString, resource);
 				/*
@@ -253,21 +229,11 @@ public class RestResource implements VtnServiceResource {
 				}
 			} catch (final VtnServiceException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.DELETE_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.DELETE_ERROR.getErrorMessage(),
 						exception);
 			} catch (final RuntimeException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(),
 						exception);
@@ -303,21 +269,11 @@ public class RestResource implements VtnServiceResource {
 				openStackConnection = resource.getOpenStackConnection();
 			} catch (final VtnServiceException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.GET_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.GET_ERROR.getErrorMessage(),
 						exception);
 			} catch (final RuntimeException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(),
 						exception);
@@ -341,7 +297,7 @@ public class RestResource implements VtnServiceResource {
 		 * If Resource not found then ERROR CODE (400) will be returned
 		 */
 		if (resource != null && queryString != null) {
-			LOG.debug("Input value for queryString : " + queryString);
+			LOG.debug("Input value for queryString : %s", queryString);
 			try {
 				validateJson(VtnServiceConsts.GET, queryString, resource);
 				validateJsonOp(queryString);
@@ -356,21 +312,11 @@ public class RestResource implements VtnServiceResource {
 				openStackConnection = resource.getOpenStackConnection();
 			} catch (final VtnServiceException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.GET_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.GET_ERROR.getErrorMessage(),
 						exception);
 			} catch (final RuntimeException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(),
 						exception);
@@ -394,7 +340,7 @@ public class RestResource implements VtnServiceResource {
 		 * If Resource not found then ERROR CODE (400) will be returned
 		 */
 		if (resource != null && requestBody != null) {
-			LOG.debug("Input value for requestBody : " + requestBody);
+			LOG.debug("Input value for requestBody : %s", requestBody);
 			try {
 				validateJson(VtnServiceConsts.POST, requestBody, resource);
 				/*
@@ -412,21 +358,11 @@ public class RestResource implements VtnServiceResource {
 				}
 			} catch (final VtnServiceException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.POST_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.POST_ERROR.getErrorMessage(),
 						exception);
 			} catch (final RuntimeException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(),
 						exception);
@@ -449,7 +385,7 @@ public class RestResource implements VtnServiceResource {
 		 * If Resource not found then ERROR CODE (400) will be returned
 		 */
 		if (resource != null && requestBody != null) {
-			LOG.debug("Input value for requestBody : " + requestBody);
+			LOG.debug("Input value for requestBody : %s", requestBody);
 			try {
 				validateJson(VtnServiceConsts.PUT, requestBody, resource);
 				/*
@@ -467,21 +403,11 @@ public class RestResource implements VtnServiceResource {
 				}
 			} catch (final VtnServiceException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.PUT_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.PUT_ERROR.getErrorMessage(),
 						exception);
 			} catch (final RuntimeException exception) {
 				exceptionHandler.handle(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(),
 						exception);
@@ -499,7 +425,7 @@ public class RestResource implements VtnServiceResource {
 	 */
 	public final long getConfigID() {
 		LOG.trace("Return from RestResource#getConfigId()");
-		LOG.debug("Return value for configID : " + configID);
+		LOG.debug("Return value for configID : %s", configID);
 		return configID;
 	}
 
@@ -511,7 +437,7 @@ public class RestResource implements VtnServiceResource {
 	 */
 	public final void setConfigID(final long configId) {
 		LOG.trace("Start RestResource#setConfigId()");
-		LOG.debug("Input value for configId : " + configId);
+		LOG.debug("Input value for configId : %s", configId);
 		this.configID = configId;
 		if (null != resource) {
 			resource.setConfigID(this.configID);
@@ -526,7 +452,7 @@ public class RestResource implements VtnServiceResource {
 	 */
 	public final long getSessionID() {
 		LOG.trace("Return from RestResource#getSessionId()");
-		LOG.debug("Return value for sessionID : " + sessionID);
+		LOG.debug("Return value for sessionID : %s", sessionID);
 		return sessionID;
 	}
 
@@ -538,7 +464,7 @@ public class RestResource implements VtnServiceResource {
 	 */
 	public final void setSessionID(final long sessionId) {
 		LOG.trace("Start RestResource#setSessionId()");
-		LOG.debug("Input value for sessionId : " + sessionId);
+		LOG.debug("Input value for sessionId : %s", sessionId);
 		this.sessionID = sessionId;
 		if (null != resource) {
 			resource.setSessionID(this.sessionID);
@@ -556,7 +482,7 @@ public class RestResource implements VtnServiceResource {
 		if (resource != null) {
 			info = resource.getInfo();
 		}
-		LOG.debug("Return value for info : " + info);
+		LOG.debug("Return value for info : %s", info);
 		return info;
 	}
 
@@ -567,7 +493,7 @@ public class RestResource implements VtnServiceResource {
 	 * @param responseCode
 	 */
 	private int convertResponseCode(final int responseCode) {
-		LOG.debug("Return value for responseCode : " + responseCode);
+		LOG.debug("Return value for responseCode : %s", responseCode);
 		int finalresponseCode = responseCode;
 		if (responseCode == UncResultCode.UNC_SERVER_ERROR.getValue()
 				&& null != resource.getInfo()) {
@@ -578,7 +504,7 @@ public class RestResource implements VtnServiceResource {
 				finalresponseCode = UncResultCode.UNC_CLIENT_ERROR.getValue();
 			}
 		}
-		LOG.debug("Return value for finalresponseCode : " + finalresponseCode);
+		LOG.debug("Return value for finalresponseCode : %s", finalresponseCode);
 		return finalresponseCode;
 	}
 
@@ -604,10 +530,6 @@ public class RestResource implements VtnServiceResource {
 							+ resource.getValidator().getInvalidParameter()
 							+ VtnServiceConsts.CLOSE_SMALL_BRACES);
 			exceptionHandler.raise(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage(),
 					exception);
@@ -664,10 +586,6 @@ public class RestResource implements VtnServiceResource {
 								+ VtnServiceConsts.CLOSE_SMALL_BRACES);
 			}
 			exceptionHandler.raise(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage(),
 					exception);
@@ -690,8 +608,7 @@ public class RestResource implements VtnServiceResource {
 							.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)
 					&& requestBody.has(VtnServiceJsonConsts.INDEX)) {
 				LOG.error("Validation failed in case of op : count with index");
-				throw new VtnServiceException(Thread.currentThread()
-						.getStackTrace()[1].getMethodName(),
+				throw new VtnServiceException(
 						UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 			}
@@ -703,10 +620,6 @@ public class RestResource implements VtnServiceResource {
 			error.addProperty(VtnServiceJsonConsts.MSG,
 					VtnServiceConsts.INDEX_ERROR_MSG);
 			exceptionHandler.raise(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage(),
 					exception);
@@ -0,0 +1,450 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.connection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.opendaylight.vtn.core.ipc.IpcException;
+import org.opendaylight.vtn.core.util.Logger;
+
+/**
+ * The Class ChannelPool. Pool of connections to one IPC channel.
+ *
+ * <p>
+ * A connection for a new session is selected without locking, by comparing
+ * the load of two randomly chosen connections. If the selected connection
+ * already has as many sessions as the grow threshold, a new connection is
+ * opened until the number of connections reaches the maximum size. Unused
+ * connections beyond the minimum size are closed by {@link #maintain(long)},
+ * which also destroys sessions idle for too long.
+ * </p>
+ * <p>
+ * A connection on which a session can not be created is retired, and a newly
+ * opened connection takes its place. The session request is retried once on
+ * the new connection. The retired connection is closed when the sessions
+ * allocated on it are released, so a failure of one caller never breaks the
+ * sessions used by others. If the new connection can not be opened, the pool
+ * is filled up to the minimum size by {@link #maintain(long)}.
+ * </p>
+ *
+ * @param <S>
+ *            the type of the session
+ */
+final class ChannelPool<S> {
+
+	private static final Logger LOG = Logger.getLogger(ChannelPool.class
+			.getName());
+
+	/**
+	 * The Interface Opener. Opens a new connection to the IPC channel.
+	 *
+	 * @param <S>
+	 *            the type of the session
+	 */
+	interface Opener<S> {
+
+		/**
+		 * Opens a new connection.
+		 *
+		 * @return the session factory for the new connection
+		 * @throws IpcException
+		 *             the ipc exception
+		 */
+		SessionFactory<S> open() throws IpcException;
+	}
+
+	private final String channelID;
+	private final Opener<S> opener;
+	private final int minSize;
+	private final int maxSize;
+	private final int growThreshold;
+	private final int maxIdle;
+	private final long idleTimeout;
+	/* map containing lease corresponding to allocated session */
+	private final Map<S, PooledConnection.Lease<S>> leases = new ConcurrentHashMap<S, PooledConnection.Lease<S>>();
+	/* connections of the channel, replaced whenever the pool is resized */
+	private volatile PooledConnection<S>[] connections;
+
+	/**
+	 * Instantiates a new channel pool, and opens the connections as many as
+	 * the minimum size.
+	 *
+	 * @param channelID
+	 *            the channel id
+	 * @param opener
+	 *            the opener of the connection
+	 * @param minSize
+	 *            the minimum number of connections
+	 * @param maxSize
+	 *            the maximum number of connections
+	 * @param growThreshold
+	 *            the number of sessions on a connection at which a new
+	 *            connection is opened
+	 * @param maxIdle
+	 *            the maximum number of idle sessions kept on a connection
+	 * @param idleTimeout
+	 *            the period in milliseconds after which an idle session is
+	 *            destroyed
+	 * @throws IpcException
+	 *             the ipc exception
+	 */
+	ChannelPool(final String channelID, final Opener<S> opener,
+			final int minSize, final int maxSize, final int growThreshold,
+			final int maxIdle, final long idleTimeout) throws IpcException {
+		this.channelID = channelID;
+		this.opener = opener;
+		this.minSize = minSize;
+		this.maxSize = Math.max(minSize, maxSize);
+		this.growThreshold = Math.max(growThreshold, 1);
+		this.maxIdle = maxIdle;
+		this.idleTimeout = idleTimeout;
+
+		final List<PooledConnection<S>> list = new ArrayList<PooledConnection<S>>();
+		for (int i = 0; i < minSize; i++) {
+			list.add(new PooledConnection<S>(opener.open(), maxIdle));
+		}
+		connections = toArray(list);
+	}
+
+	/**
+	 * Allocates a session for the specified service.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the session, or null if no connection is available
+	 * @throws IpcException
+	 *             the session could not be created even on a new connection
+	 */
+	S acquire(final String serviceName, final int serviceID)
+			throws IpcException {
+		IpcException failure = null;
+		PooledConnection<S> next = null;
+		while (true) {
+			PooledConnection<S> conn = next;
+			next = null;
+			if (conn == null) {
+				final PooledConnection<S>[] current = connections;
+				if (current.length == 0) {
+					conn = grow(current);
+					if (conn == null) {
+						if (current != connections) {
+							continue;
+						}
+						if (failure != null) {
+							throw failure;
+						}
+						return null;
+					}
+				} else {
+					conn = selectConnection(current);
+					if (conn.getCounter() >= growThreshold
+							&& current.length < maxSize) {
+						final PooledConnection<S> added = grow(current);
+						if (added != null) {
+							conn = added;
+						}
+					}
+				}
+			}
+
+			final PooledConnection.Lease<S> lease;
+			try {
+				lease = conn.acquire(serviceName, serviceID);
+			} catch (final IpcException e) {
+				// the connection has been retired, retry once on a new
+				// connection opened in place of it
+				next = replace(conn);
+				if (failure != null) {
+					throw e;
+				}
+				failure = e;
+				continue;
+			}
+			if (lease != null) {
+				// maintain the lease map, that will be used at the time of
+				// releasing the session
+				leases.put(lease.getSession(), lease);
+				return lease.getSession();
+			}
+
+			// the connection has been retired by shrink or by a failure of
+			// another thread, make sure it is replaced and select again
+			if (conn.isRetired()) {
+				replace(conn);
+			}
+		}
+	}
+
+	/**
+	 * Releases the session allocated by this pool. Nothing is done if the
+	 * session has already been released.
+	 *
+	 * @param session
+	 *            the session
+	 * @return true, if the session has been released by this call
+	 */
+	boolean release(final S session) {
+		// only the thread which removes the session releases it
+		final PooledConnection.Lease<S> lease = leases.remove(session);
+		if (lease == null) {
+			return false;
+		}
+		lease.getConnection().release(lease);
+		return true;
+	}
+
+	/**
+	 * Maintains the pool. Sessions idle for too long are destroyed, the pool
+	 * is filled up to the minimum size if broken connections could not be
+	 * replaced, and unused connections beyond the minimum size are closed.
+	 *
+	 * @param now
+	 *            the current time in milliseconds
+	 */
+	void maintain(final long now) {
+		int trimmed = 0;
+		for (final PooledConnection<S> conn : connections) {
+			trimmed += conn.trimIdleSessions(now, idleTimeout);
+		}
+		if (trimmed > 0) {
+			LOG.debug("%s: %d idle sessions destroyed", channelID, trimmed);
+		}
+		fill();
+		shrink();
+	}
+
+	/**
+	 * Gets the number of sessions currently allocated, including the sessions
+	 * on retired connections.
+	 *
+	 * @return the number of allocated sessions
+	 */
+	int getSessionCount() {
+		return leases.size();
+	}
+
+	/**
+	 * Gets the number of idle sessions kept for reuse.
+	 *
+	 * @return the number of idle sessions
+	 */
+	int getIdleSessionCount() {
+		int count = 0;
+		for (final PooledConnection<S> conn : connections) {
+			count += conn.getIdleCount();
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the number of connections currently opened.
+	 *
+	 * @return the number of connections
+	 */
+	int getConnectionCount() {
+		return connections.length;
+	}
+
+	/**
+	 * Select the connection for a new session. Two connections are chosen at
+	 * random, and the one with fewer allocated sessions is selected. A
+	 * retired connection, which is about to be replaced, is avoided.
+	 *
+	 * @param current
+	 *            the connections for the IPC channel
+	 * @return the selected connection
+	 */
+	private PooledConnection<S> selectConnection(
+			final PooledConnection<S>[] current) {
+		final int size = current.length;
+		if (size == 1) {
+			return current[0];
+		}
+
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final int first = random.nextInt(size);
+		int second = random.nextInt(size - 1);
+		if (second >= first) {
+			second++;
+		}
+
+		final PooledConnection<S> conn1 = current[first];
+		final PooledConnection<S> conn2 = current[second];
+		if (conn1.isRetired() != conn2.isRetired()) {
+			return conn1.isRetired() ? conn2 : conn1;
+		}
+		return (conn2.getCounter() < conn1.getCounter()) ? conn2 : conn1;
+	}
+
+	/**
+	 * Open a new connection, unless the pool has been resized by another
+	 * thread.
+	 *
+	 * @param current
+	 *            the connections on which the decision to grow was made
+	 * @return the new connection, or null if no connection is opened
+	 */
+	private synchronized PooledConnection<S> grow(
+			final PooledConnection<S>[] current) {
+		if (current != connections || current.length >= maxSize) {
+			return null;
+		}
+
+		final PooledConnection<S> conn;
+		try {
+			conn = new PooledConnection<S>(opener.open(), maxIdle);
+		} catch (final IpcException e) {
+			LOG.warning("%s: Failed to open an additional connection : %s",
+					channelID, e.getMessage());
+			return null;
+		}
+
+		final List<PooledConnection<S>> list = toList(current);
+		list.add(conn);
+		connections = toArray(list);
+		LOG.info("%s: Connection pool has grown to %d", channelID,
+				list.size());
+		return conn;
+	}
+
+	/**
+	 * Replace the retired connection with a newly opened one. If no
+	 * connection can be opened, the retired connection is just removed from
+	 * the pool.
+	 *
+	 * @param retired
+	 *            the retired connection
+	 * @return the new connection, or null if the connection has already been
+	 *         replaced or no connection is opened
+	 */
+	private synchronized PooledConnection<S> replace(
+			final PooledConnection<S> retired) {
+		final PooledConnection<S>[] current = connections;
+		int index = -1;
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == retired) {
+				index = i;
+				break;
+			}
+		}
+		if (index < 0) {
+			return null;
+		}
+
+		final List<PooledConnection<S>> list = toList(current);
+		PooledConnection<S> conn = null;
+		try {
+			conn = new PooledConnection<S>(opener.open(), maxIdle);
+			list.set(index, conn);
+			LOG.info("%s: Broken connection has been replaced", channelID);
+		} catch (final IpcException e) {
+			list.remove(index);
+			LOG.warning("%s: Failed to replace a broken connection : %s",
+					channelID, e.getMessage());
+		}
+		connections = toArray(list);
+		return conn;
+	}
+
+	/**
+	 * Open connections until the number of connections reaches the minimum
+	 * size. Nothing is done if no connection can be opened.
+	 */
+	private synchronized void fill() {
+		final PooledConnection<S>[] current = connections;
+		if (current.length >= minSize) {
+			return;
+		}
+
+		final List<PooledConnection<S>> list = toList(current);
+		while (list.size() < minSize) {
+			try {
+				list.add(new PooledConnection<S>(opener.open(), maxIdle));
+			} catch (final IpcException e) {
+				LOG.warning("%s: Failed to open a connection : %s",
+						channelID, e.getMessage());
+				break;
+			}
+		}
+		if (list.size() != current.length) {
+			connections = toArray(list);
+			LOG.info("%s: Connection pool has been filled to %d",
+					channelID, list.size());
+		}
+	}
+
+	/**
+	 * Close one unused connection beyond the minimum size. A connection is
+	 * closed only if the remaining connections still have room for all the
+	 * allocated sessions below the grow threshold.
+	 */
+	private synchronized void shrink() {
+		final PooledConnection<S>[] current = connections;
+		if (current.length <= minSize) {
+			return;
+		}
+
+		int count = 0;
+		for (final PooledConnection<S> conn : current) {
+			count += conn.getCounter();
+		}
+		final int remaining = current.length - 1;
+		if (count > remaining * growThreshold / 2) {
+			return;
+		}
+
+		for (int i = current.length - 1; i >= 0; i--) {
+			final PooledConnection<S> conn = current[i];
+			if (conn.getCounter() == 0) {
+				final List<PooledConnection<S>> list = toList(current);
+				list.remove(i);
+				connections = toArray(list);
+				conn.retire();
+				LOG.info("%s: Connection pool has shrunk to %d", channelID,
+						list.size());
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Convert the connection array into a modifiable list.
+	 *
+	 * @param array
+	 *            the connection array
+	 * @return the list of connections
+	 */
+	private List<PooledConnection<S>> toList(final PooledConnection<S>[] array) {
+		final List<PooledConnection<S>> list = new ArrayList<PooledConnection<S>>(
+				array.length + 1);
+		for (final PooledConnection<S> conn : array) {
+			list.add(conn);
+		}
+		return list;
+	}
+
+	/**
+	 * Convert the list of connections into an array.
+	 *
+	 * @param list
+	 *            the list of connections
+	 * @return the connection array
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private PooledConnection<S>[] toArray(final List<PooledConnection<S>> list) {
+		return list.toArray(new PooledConnection[list.size()]);
+	}
+}
@@ -13,26 +13,24 @@ import org.opendaylight.vtn.core.ipc.ChannelAddress;
 import org.opendaylight.vtn.core.ipc.ClientSession;
 import org.opendaylight.vtn.core.ipc.IpcException;
 import org.opendaylight.vtn.core.util.Logger;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
-import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
-import org.opendaylight.vtn.javaapi.exception.VtnServiceExceptionHandler;
-import org.opendaylight.vtn.javaapi.ipc.enums.UncJavaAPIErrorCode;
 
 /**
- * The Class IpcChannelConnection. Maintains the AltConnection instance and
- * counter for the allocated sessions
+ * The Class IpcChannelConnection. Maintains the AltConnection instance to the
+ * IPC channel, and creates the sessions on it. Counting and reuse of the
+ * sessions are done by {@link PooledConnection}. The AltConnection is never
+ * reopened, because closing it invalidates all the sessions on it. A broken
+ * connection is replaced with a new instance by {@link ChannelPool}.
  */
-public class IpcChannelConnection {
+public class IpcChannelConnection implements SessionFactory<ClientSession> {
 
 	private static final Logger LOG = Logger
 			.getLogger(IpcChannelConnection.class.getName());
 
-	private transient int counter;
-	private transient AltConnection altConnections;
+	private transient volatile AltConnection altConnections;
 
 	/**
 	 * Instantiates a new ipc channel connection.
-	 * 
+	 *
 	 * @param channelAddress
 	 *            the channel address
 	 * @throws IpcException
@@ -41,25 +39,14 @@ public class IpcChannelConnection {
 	IpcChannelConnection(final ChannelAddress channelAddress)
 			throws IpcException {
 		LOG.trace("Start IpcChannelConnection#IpcChannelConnection()");
-		LOG.debug("Channel Address : " + channelAddress.getChannelName());
-		counter = 0;
+		LOG.debug("Channel Address : %s", channelAddress.getChannelName());
 		altConnections = AltConnection.open(channelAddress);
 		LOG.trace("Complete IpcChannelConnection#IpcChannelConnection()");
 	}
 
-	/**
-	 * Gets the counter.
-	 * 
-	 * @return the counter
-	 */
-	public final int getCounter() {
-		LOG.trace("Return from IpcChannelConnection#getCounter()");
-		return counter;
-	}
-
 	/**
 	 * Sets the alt connections.
-	 * 
+	 *
 	 * @param altConnections
 	 *            the new alt connections
 	 */
@@ -70,58 +57,41 @@ public class IpcChannelConnection {
 	}
 
 	/**
-	 * Gets the session.
-	 * 
-	 * @param serviceName
-	 *            the service name
-	 * @param serviceID
-	 *            the service id
-	 * @param exceptionHandler
-	 *            the exception handler
-	 * @return the session
-	 * @throws VtnServiceException
-	 *             the vtn service exception
+	 * {@inheritDoc}
 	 */
-	public final ClientSession getSession(final String serviceName,
-			final int serviceID,
-			final VtnServiceExceptionHandler exceptionHandler)
-			throws VtnServiceException {
+	@Override
+	public final ClientSession createSession(final String serviceName,
+			final int serviceID) throws IpcException {
+		return altConnections.createSession(serviceName, serviceID,
+				ClientSession.C_NOGLOBCANCEL);
+	}
 
-		LOG.trace("Start IpcChannelConnection#getSession()");
-		ClientSession clientSession = null;
-		try {
-			clientSession = altConnections.createSession(serviceName,
-					serviceID, ClientSession.C_NOGLOBCANCEL);
-		} catch (final IpcException e) {
-			exceptionHandler.raise(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-					UncJavaAPIErrorCode.IPC_SESS_ERROR.getErrorCode(),
-					UncJavaAPIErrorCode.IPC_SESS_ERROR.getErrorMessage(), e);
-		}
-		// increase the counter if session is allocated successfully
-		if (clientSession != null) {
-			counter++;
-		}
-		LOG.debug("Counter for Connection: " + counter);
-		LOG.trace("Complete IpcChannelConnection#getSession()");
-		return clientSession;
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void resetSession(final ClientSession session,
+			final String serviceName, final int serviceID) throws IpcException {
+		session.reset(serviceName, serviceID);
 	}
 
 	/**
-	 * Destroy session.
-	 * 
-	 * @param session
-	 *            the session
+	 * {@inheritDoc}
 	 */
+	@Override
 	public final void destroySession(final ClientSession session) {
-		LOG.trace("Start IpcChannelConnection#destroySession()");
 		session.destroy();
-		// decrease the counter
-		counter--;
-		LOG.debug("Counter for Connection: " + counter);
-		LOG.trace("Complete IpcChannelConnection#destroySession()");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final void close() {
+		try {
+			altConnections.close();
+		} catch (final IpcException e) {
+			LOG.debug("Failed to close the connection : %s", e.getMessage());
+		}
 	}
 }
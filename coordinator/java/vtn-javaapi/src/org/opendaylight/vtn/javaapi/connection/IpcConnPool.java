@@ -9,12 +9,10 @@
 
 package org.opendaylight.vtn.javaapi.connection;
 
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import org.opendaylight.vtn.core.ipc.ChannelAddress;
 import org.opendaylight.vtn.core.ipc.ClientSession;
@@ -36,22 +34,31 @@ import org.opendaylight.vtn.javaapi.util.VtnServiceUtil;
 
 /**
  * The Class IpcConnPool. IPC connection pooling initialization and providing
- * the sessions are main responsibility of this class
+ * the sessions are main responsibility of this class. Connections of each IPC
+ * channel are maintained by {@link ChannelPool}, which reuses released
+ * sessions and resizes itself according to the load. The pools are maintained
+ * periodically by a background timer.
  */
 public final class IpcConnPool {
 
 	private static final Logger LOG = Logger.getLogger(IpcConnPool.class
 			.getName());
 
+	/* Name of the timer thread which maintains the pools */
+	private static final String TIMER_NAME = "IpcConnPool Maintenance";
+
+	/* Default values of optional configurations */
+	private static final String DEFAULT_GROW_THRESHOLD = "8";
+	private static final String DEFAULT_CHECK_INTERVAL = "30000";
+	private static final String DEFAULT_IDLE_SESSION_MAX = "4";
+	private static final String DEFAULT_IDLE_SESSION_TIMEOUT = "60000";
+
 	/* map containing ChannelAddress instance corresponding to Channel Address */
 	private transient Map<String, ChannelAddress> channelAddressesMap = null;
-	/*
-	 * map containing set of IpcChannelConnection corresponding to
-	 * ChannelAddress
-	 */
-	private transient Map<ChannelAddress, Set<IpcChannelConnection>> channelConnectionMap = null;
-	/* map containing IpcChannelConnection corresponding to ClientSession */
-	private transient Map<ClientSession, IpcChannelConnection> sessionMap = null;
+	/* map containing ChannelPool corresponding to Channel ID */
+	private transient Map<String, ChannelPool<ClientSession>> channelPoolMap = null;
+	/* timer which maintains the pools */
+	private transient Timer timer = null;
 
 	/**
 	 * Initialize the connection pooling for IPC servers. Open the connections,
@@ -117,11 +124,6 @@ public final class IpcConnPool {
 				createConnections(configuration, exceptionHandler);
 			} catch (final VtnServiceException e) {
 				exceptionHandler.raise(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.CONN_INIT_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.CONN_INIT_ERROR.getErrorMessage(),
 						e);
@@ -133,7 +135,8 @@ public final class IpcConnPool {
 
 	/**
 	 * Open the connection for IPC servers, allocated session count for each of
-	 * the IPC server will be zero.
+	 * the IPC server will be zero. The background maintenance of the pools is
+	 * also started.
 	 * 
 	 * @param exceptionHandler
 	 *            the exception handler
@@ -147,63 +150,86 @@ public final class IpcConnPool {
 		// Check that ChannelAddress has been read successfully
 		if (channelAddressesMap != null && !channelAddressesMap.isEmpty()) {
 
-			channelConnectionMap = new HashMap<ChannelAddress, Set<IpcChannelConnection>>();
-			sessionMap = Collections.synchronizedMap(new HashMap<ClientSession, IpcChannelConnection>());
-			int poolSize = 0;
-
-			// retrieve the key set for Channel Address
-			final Iterator<String> channelKeySet = channelAddressesMap.keySet()
-					.iterator();
-			IpcChannelConnection ipcChannelConnection = null;
+			channelPoolMap = new HashMap<String, ChannelPool<ClientSession>>();
+			int growThreshold = 0;
+			int idleMax = 0;
+			long idleTimeout = 0;
+			long interval = 0;
+			try {
+				growThreshold = Integer.parseInt(configuration.getConfigValue(
+						VtnServiceConsts.CONN_POOL_GROW_THRESHOLD,
+						DEFAULT_GROW_THRESHOLD));
+				idleMax = Integer.parseInt(configuration.getConfigValue(
+						VtnServiceConsts.IDLE_SESSION_MAX,
+						DEFAULT_IDLE_SESSION_MAX));
+				idleTimeout = Long.parseLong(configuration.getConfigValue(
+						VtnServiceConsts.IDLE_SESSION_TIMEOUT,
+						DEFAULT_IDLE_SESSION_TIMEOUT));
+				interval = Long.parseLong(configuration.getConfigValue(
+						VtnServiceConsts.CONN_POOL_CHECK_INTERVAL,
+						DEFAULT_CHECK_INTERVAL));
+			} catch (final NumberFormatException e) {
+				exceptionHandler.raise(
+						UncJavaAPIErrorCode.POOL_SIZE_ERROR.getErrorCode(),
+						UncJavaAPIErrorCode.POOL_SIZE_ERROR.getErrorMessage(),
+						e);
+			}
 
 			/*
 			 * Read the pool size for each of the IPC server and open multiple
 			 * connections
 			 */
-			while (channelKeySet.hasNext()) {
-				final String key = channelKeySet.next();
+			for (final Map.Entry<String, ChannelAddress> entry : channelAddressesMap
+					.entrySet()) {
+				final String key = entry.getKey();
+				final ChannelAddress channelAdd = entry.getValue();
+				int poolSize = 0;
+				int poolLimit = 0;
 
 				// read pool size from configuration file
 				try {
 					poolSize = Integer.parseInt(configuration
 							.getConfigValue(VtnServiceConsts.CONN_POOL_SIZE
 									+ key));
+					poolLimit = Integer.parseInt(configuration.getConfigValue(
+							VtnServiceConsts.CONN_POOL_LIMIT + key,
+							String.valueOf(poolSize)));
 				} catch (final NumberFormatException e) {
 					exceptionHandler.raise(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.POOL_SIZE_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.POOL_SIZE_ERROR
 									.getErrorMessage(), e);
 				}
 
-				LOG.debug("Connection Pool Size for " + key + " : " + poolSize);
-				final Set<IpcChannelConnection> connectionSet = new HashSet<IpcChannelConnection>();
-				final ChannelAddress channelAdd = channelAddressesMap.get(key);
+				LOG.debug("Connection Pool Size for %s : %s - %s", key,
+						poolSize, poolLimit);
 				// open multiple connections, as per the pool size
-				for (int i = 0; i < poolSize; i++) {
-					try {
-						ipcChannelConnection = new IpcChannelConnection(
-								channelAdd);
-					} catch (final IpcException e) {
-						exceptionHandler.raise(
-								Thread.currentThread().getStackTrace()[1]
-										.getClassName()
-										+ VtnServiceConsts.HYPHEN
-										+ Thread.currentThread()
-												.getStackTrace()[1]
-												.getMethodName(),
-								UncJavaAPIErrorCode.IPC_CONN_ERROR
-										.getErrorCode(),
-								UncJavaAPIErrorCode.IPC_CONN_ERROR
-										.getErrorMessage(), e);
-					}
-					connectionSet.add(ipcChannelConnection);
+				try {
+					channelPoolMap.put(key, new ChannelPool<ClientSession>(key,
+							new ChannelPool.Opener<ClientSession>() {
+								@Override
+								public SessionFactory<ClientSession> open()
+										throws IpcException {
+									return new IpcChannelConnection(channelAdd);
+								}
+							}, poolSize, poolLimit, growThreshold, idleMax,
+							idleTimeout));
+				} catch (final IpcException e) {
+					exceptionHandler.raise(
+							UncJavaAPIErrorCode.IPC_CONN_ERROR.getErrorCode(),
+							UncJavaAPIErrorCode.IPC_CONN_ERROR
+									.getErrorMessage(), e);
 				}
-				channelConnectionMap.put(channelAdd, connectionSet);
+			}
+
+			if (interval > 0) {
+				timer = new Timer(TIMER_NAME, true);
+				timer.schedule(new TimerTask() {
+					@Override
+					public void run() {
+						maintain();
+					}
+				}, interval, interval);
 			}
 		}
 		LOG.trace("Complete IpcConnPool#createConnections()");
@@ -211,7 +237,8 @@ public final class IpcConnPool {
 
 	/**
 	 * Gets the session for the IPC server specified by Channel ID, Service ID
-	 * and name
+	 * and name. A session released for the same service is reused if
+	 * available.
 	 * 
 	 * @param channelID
 	 *            the channel id
@@ -230,91 +257,40 @@ public final class IpcConnPool {
 			final VtnServiceExceptionHandler exceptionHandler)
 			throws VtnServiceException {
 		LOG.trace("Start IpcConnPool#getSession()");
-		LOG.debug("Channel ID : " + channelID);
-		LOG.debug("Service ID : " + serviceID);
-		LOG.debug("Service Name : " + serviceName);
+		LOG.debug("Channel ID : %s", channelID);
+		LOG.debug("Service ID : %s", serviceID);
+		LOG.debug("Service Name : %s", serviceName);
 
 		ClientSession clientSession = null;
 		if (VtnServiceUtil.isValidString(channelID)
 				&& VtnServiceUtil.isValidString(serviceName)) {
-			// Get the list of connections for the specified IPC Channel
-			final Iterator<IpcChannelConnection> channelConnections = channelConnectionMap
-					.get(channelAddressesMap.get(channelID)).iterator();
-
-			// Get the least used connection, from the above connections
-			int minimumCounter = Integer.MAX_VALUE;
-			IpcChannelConnection ipcChannelConnection = null;
-			IpcChannelConnection leastUsedIpcChannelConnection = null;
+			// Get the connections for the specified IPC Channel
+			final ChannelPool<ClientSession> pool = channelPoolMap
+					.get(channelID);
 
-			/*
-			 * At a time only one thread can get the session
-			 */
-			if (channelConnections != null) {
-				synchronized (channelConnections) {
-					// algorithm to find out the least used connection
-					while (channelConnections.hasNext()) {
-						ipcChannelConnection = channelConnections.next();
-						final int currentCounter = ipcChannelConnection
-								.getCounter();
-						// if no session is allocated, then break from loop and
-						// use the
-						// current connection
-						if (currentCounter == 0) {
-							leastUsedIpcChannelConnection = ipcChannelConnection;
-							break;
-						} else if (currentCounter < minimumCounter) {
-							minimumCounter = currentCounter;
-							leastUsedIpcChannelConnection = ipcChannelConnection;
-						}
-					}
-					// Once found least used connection, then create the session
-					// and
-					// return
+			if (pool != null) {
+				// allocate the session on the pool and return
+				try {
+					TimeSpec timeout = new TimeSpec(600L, 0);
 					try {
-						TimeSpec timeout = new TimeSpec(600L, 0);
-						clientSession = leastUsedIpcChannelConnection
-								.getSession(serviceName, serviceID,
-										exceptionHandler);
-						if (serviceID == UncUPLLEnums.ServiceID.UPLL_READ_SVC_ID
-								.ordinal()
-								|| serviceID == UncUPPLEnums.ServiceID.UPPL_SVC_READREQ
-										.ordinal()) {
-							clientSession.setTimeout(null);
-						} else if (serviceID == UncUPLLEnums.ServiceID.UPLL_EDIT_SVC_ID
-								.ordinal()) {
-							clientSession.setTimeout(timeout);
-						}
-					} catch (final VtnServiceException e) {
-						exceptionHandler.raise(
-								Thread.currentThread().getStackTrace()[1]
-										.getClassName()
-										+ VtnServiceConsts.HYPHEN
-										+ Thread.currentThread()
-												.getStackTrace()[1]
-												.getMethodName(),
-								UncJavaAPIErrorCode.SESS_ERROR.getErrorCode(),
-								UncJavaAPIErrorCode.SESS_ERROR
-										.getErrorMessage(), e);
-						throw e;
+						clientSession = pool.acquire(serviceName, serviceID);
 					} catch (final IpcException e) {
-						LOG.error(e, "Error occured while performing addOutput operation");
 						exceptionHandler.raise(
-								Thread.currentThread().getStackTrace()[1]
-										.getClassName()
-										+ VtnServiceConsts.HYPHEN
-										+ Thread.currentThread()
-												.getStackTrace()[1]
-												.getMethodName(),
-								UncJavaAPIErrorCode.IPC_SERVER_ERROR
+								UncJavaAPIErrorCode.IPC_SESS_ERROR
 										.getErrorCode(),
-								UncJavaAPIErrorCode.IPC_SERVER_ERROR
+								UncJavaAPIErrorCode.IPC_SESS_ERROR
 										.getErrorMessage(), e);
 					}
-					// maintain the session map, that will be used at the time
-					// of
-					// destroying the session
-					sessionMap
-							.put(clientSession, leastUsedIpcChannelConnection);
+					if (clientSession != null) {
+						setTimeout(pool, clientSession, serviceID, timeout,
+								exceptionHandler);
+					}
+				} catch (final VtnServiceException e) {
+					exceptionHandler.raise(
+							UncJavaAPIErrorCode.SESS_ERROR.getErrorCode(),
+							UncJavaAPIErrorCode.SESS_ERROR.getErrorMessage(),
+							e);
+					throw e;
 				}
 			}
 			LOG.trace("Complete IpcConnPool#getSession()");
@@ -323,25 +299,133 @@ public final class IpcConnPool {
 	}
 
 	/**
-	 * Destroy session.
+	 * Set the timeout of the session according to the service. The session
+	 * is released if the timeout can not be set.
+	 * 
+	 * @param pool
+	 *            the pool which allocated the session
+	 * @param clientSession
+	 *            the session
+	 * @param serviceID
+	 *            the service id
+	 * @param timeout
+	 *            the timeout for the edit service
+	 * @param exceptionHandler
+	 *            the exception handler
+	 * @throws VtnServiceException
+	 *             the vtn service exception
+	 */
+	private void setTimeout(final ChannelPool<ClientSession> pool,
+			final ClientSession clientSession, final int serviceID,
+			final TimeSpec timeout,
+			final VtnServiceExceptionHandler exceptionHandler)
+			throws VtnServiceException {
+		try {
+			if (serviceID == UncUPLLEnums.ServiceID.UPLL_READ_SVC_ID.ordinal()
+					|| serviceID == UncUPPLEnums.ServiceID.UPPL_SVC_READREQ
+							.ordinal()) {
+				clientSession.setTimeout(null);
+			} else if (serviceID == UncUPLLEnums.ServiceID.UPLL_EDIT_SVC_ID
+					.ordinal()) {
+				clientSession.setTimeout(timeout);
+			}
+		} catch (final IpcException e) {
+			LOG.error(e, "Error occured while performing addOutput operation");
+			pool.release(clientSession);
+			exceptionHandler.raise(
+					UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorMessage(), e);
+		}
+	}
+
+	/**
+	 * Destroy session. The session is actually reset and kept for reuse, if
+	 * the pool has room for it. So the session must not be used, nor
+	 * destroyed again, after this call.
 	 * 
 	 * @param session
 	 *            the session
 	 */
 	public void destroySession(final ClientSession session) {
 		LOG.trace("Start IpcConnPool#destroySession()");
-		// Get the connection instance for which session needs to be closed
-		if (session != null) {
-			final IpcChannelConnection ipcChannelConnection = sessionMap
-					.get(session);
-			if (ipcChannelConnection != null) {
-				// at a time only one thread can destroy the session
-				synchronized (ipcChannelConnection) {
-					ipcChannelConnection.destroySession(session);
-					sessionMap.remove(session);
+		// Get the pool which allocated the session
+		if (session != null && channelPoolMap != null) {
+			for (final ChannelPool<ClientSession> pool : channelPoolMap
+					.values()) {
+				if (pool.release(session)) {
+					break;
 				}
 			}
 		}
 		LOG.trace("Complete IpcConnPool#destroySession()");
 	}
+
+	/**
+	 * Maintain all the pools. Pools which lost broken connections are filled
+	 * up, and idle sessions and connections are closed.
+	 */
+	private void maintain() {
+		final long now = System.currentTimeMillis();
+		for (final ChannelPool<ClientSession> pool : channelPoolMap.values()) {
+			try {
+				pool.maintain(now);
+			} catch (final RuntimeException e) {
+				LOG.error(e, "Failed to maintain IPC connection pool");
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of sessions currently allocated for each IPC channel.
+	 * 
+	 * @return map containing number of allocated sessions corresponding to
+	 *         Channel ID
+	 */
+	public Map<String, Integer> getSessionCounts() {
+		final Map<String, Integer> counts = new HashMap<String, Integer>();
+		if (channelPoolMap != null) {
+			for (final Map.Entry<String, ChannelPool<ClientSession>> entry : channelPoolMap
+					.entrySet()) {
+				counts.put(entry.getKey(), entry.getValue().getSessionCount());
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Gets the number of released sessions kept for reuse for each IPC
+	 * channel.
+	 * 
+	 * @return map containing number of idle sessions corresponding to Channel
+	 *         ID
+	 */
+	public Map<String, Integer> getIdleSessionCounts() {
+		final Map<String, Integer> counts = new HashMap<String, Integer>();
+		if (channelPoolMap != null) {
+			for (final Map.Entry<String, ChannelPool<ClientSession>> entry : channelPoolMap
+					.entrySet()) {
+				counts.put(entry.getKey(), entry.getValue()
+						.getIdleSessionCount());
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * Gets the number of connections currently opened for each IPC channel.
+	 * 
+	 * @return map containing number of connections corresponding to Channel
+	 *         ID
+	 */
+	public Map<String, Integer> getConnectionCounts() {
+		final Map<String, Integer> counts = new HashMap<String, Integer>();
+		if (channelPoolMap != null) {
+			for (final Map.Entry<String, ChannelPool<ClientSession>> entry : channelPoolMap
+					.entrySet()) {
+				counts.put(entry.getKey(), entry.getValue()
+						.getConnectionCount());
+			}
+		}
+		return counts;
+	}
 }
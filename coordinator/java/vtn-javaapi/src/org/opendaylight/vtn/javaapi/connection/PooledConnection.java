@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.connection;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opendaylight.vtn.core.ipc.IpcException;
+import org.opendaylight.vtn.core.util.Logger;
+
+/**
+ * The Class PooledConnection. Counts the sessions allocated on one connection
+ * of an IPC channel, and keeps released sessions for reuse.
+ *
+ * <p>
+ * A released session is reset to the service for which it was allocated, and
+ * kept in the idle queue of that service. The next request of the same
+ * service takes the most recently released session, so the sessions idle for
+ * long time are left at the tail of the queue, and destroyed by
+ * {@link #trimIdleSessions(long, long)}.
+ * </p>
+ * <p>
+ * If a session can not be created, the connection is retired, because
+ * closing or reopening the underlying connection would break the sessions
+ * still used by other threads. A retired connection allocates no more
+ * sessions, and it is closed as soon as all the allocated sessions are
+ * released. The owner of the connection is expected to open a new connection
+ * in place of the retired one.
+ * </p>
+ *
+ * @param <S>
+ *            the type of the session
+ */
+final class PooledConnection<S> {
+
+	private static final Logger LOG = Logger.getLogger(PooledConnection.class
+			.getName());
+
+	/*
+	 * The value of the session counter which indicates the connection is
+	 * closed. Any increment of the counter keeps it negative.
+	 */
+	private static final int CLOSED = Integer.MIN_VALUE / 2;
+
+	/**
+	 * The Class Lease. Keeps a session allocated on the connection, and the
+	 * service for which the session has been allocated.
+	 *
+	 * @param <S>
+	 *            the type of the session
+	 */
+	static final class Lease<S> {
+		private final PooledConnection<S> connection;
+		private final S session;
+		private final String serviceName;
+		private final int serviceID;
+		private volatile long idleSince;
+
+		/**
+		 * Instantiates a new lease.
+		 *
+		 * @param connection
+		 *            the connection on which the session was created
+		 * @param session
+		 *            the session
+		 * @param serviceName
+		 *            the service name
+		 * @param serviceID
+		 *            the service id
+		 */
+		private Lease(final PooledConnection<S> connection, final S session,
+				final String serviceName, final int serviceID) {
+			this.connection = connection;
+			this.session = session;
+			this.serviceName = serviceName;
+			this.serviceID = serviceID;
+		}
+
+		/**
+		 * Gets the connection on which the session was created.
+		 *
+		 * @return the connection
+		 */
+		PooledConnection<S> getConnection() {
+			return connection;
+		}
+
+		/**
+		 * Gets the session.
+		 *
+		 * @return the session
+		 */
+		S getSession() {
+			return session;
+		}
+	}
+
+	private final SessionFactory<S> factory;
+	private final int maxIdle;
+	private final AtomicInteger counter = new AtomicInteger();
+	private final AtomicInteger idleCounter = new AtomicInteger();
+	private final ConcurrentMap<String, Deque<Lease<S>>> idleSessions = new ConcurrentHashMap<String, Deque<Lease<S>>>();
+	private volatile boolean retired;
+
+	/**
+	 * Instantiates a new pooled connection.
+	 *
+	 * @param factory
+	 *            the session factory for the connection
+	 * @param maxIdle
+	 *            the maximum number of idle sessions kept for reuse
+	 */
+	PooledConnection(final SessionFactory<S> factory, final int maxIdle) {
+		this.factory = factory;
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * Gets the number of sessions currently allocated on this connection.
+	 *
+	 * @return the number of allocated sessions
+	 */
+	int getCounter() {
+		return Math.max(counter.get(), 0);
+	}
+
+	/**
+	 * Gets the number of idle sessions kept for reuse.
+	 *
+	 * @return the number of idle sessions
+	 */
+	int getIdleCount() {
+		return idleCounter.get();
+	}
+
+	/**
+	 * Checks whether this connection has been retired. No session is
+	 * allocated on a retired connection.
+	 *
+	 * @return true, if the connection is retired
+	 */
+	boolean isRetired() {
+		return retired;
+	}
+
+	/**
+	 * Checks whether this connection is closed.
+	 *
+	 * @return true, if the connection is closed
+	 */
+	boolean isClosed() {
+		return counter.get() < 0;
+	}
+
+	/**
+	 * Allocates a session for the specified service. An idle session of the
+	 * service is reused if available.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the lease of the allocated session, or null if this connection
+	 *         has already been retired
+	 * @throws IpcException
+	 *             the session could not be created, and this connection has
+	 *             been retired
+	 */
+	Lease<S> acquire(final String serviceName, final int serviceID)
+			throws IpcException {
+		if (counter.incrementAndGet() < 0) {
+			counter.decrementAndGet();
+			return null;
+		}
+		if (retired) {
+			leave();
+			return null;
+		}
+
+		Lease<S> lease = null;
+		try {
+			lease = pollIdleSession(serviceName, serviceID);
+			if (lease == null) {
+				lease = createSession(serviceName, serviceID);
+			}
+		} finally {
+			if (lease == null) {
+				leave();
+			}
+		}
+		LOG.debug("Counter for Connection: %s", counter.get());
+		return lease;
+	}
+
+	/**
+	 * Releases the session. The session is reset and kept for reuse, unless
+	 * the idle queue is full or the connection has been retired.
+	 *
+	 * @param lease
+	 *            the lease of the session
+	 */
+	void release(final Lease<S> lease) {
+		boolean reused = false;
+		if (!retired) {
+			if (idleCounter.incrementAndGet() <= maxIdle) {
+				try {
+					factory.resetSession(lease.session, lease.serviceName,
+							lease.serviceID);
+					lease.idleSince = System.currentTimeMillis();
+					getIdleQueue(lease.serviceName, lease.serviceID)
+							.offerFirst(lease);
+					reused = true;
+				} catch (final IpcException e) {
+					LOG.debug("Session is not reusable : %s", e.getMessage());
+				}
+			}
+			if (!reused) {
+				idleCounter.decrementAndGet();
+			}
+		}
+		if (!reused) {
+			factory.destroySession(lease.session);
+		}
+		leave();
+		LOG.debug("Counter for Connection: %s", counter.get());
+	}
+
+	/**
+	 * Destroys the idle sessions which have not been used for the specified
+	 * period.
+	 *
+	 * @param now
+	 *            the current time in milliseconds
+	 * @param idleTimeout
+	 *            the period in milliseconds
+	 * @return the number of destroyed sessions
+	 */
+	int trimIdleSessions(final long now, final long idleTimeout) {
+		int count = 0;
+		for (final Deque<Lease<S>> queue : idleSessions.values()) {
+			for (Lease<S> lease = queue.peekLast(); lease != null; lease = queue
+					.peekLast()) {
+				if (now - lease.idleSince < idleTimeout) {
+					break;
+				}
+				if (queue.removeLastOccurrence(lease)) {
+					idleCounter.decrementAndGet();
+					factory.destroySession(lease.session);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Retires this connection. Idle sessions are destroyed, and the
+	 * connection is closed as soon as all the allocated sessions are
+	 * released.
+	 */
+	void retire() {
+		retired = true;
+		destroyIdleSessions();
+		closeIfUnused();
+	}
+
+	/**
+	 * Creates a new session. If the session can not be created, this
+	 * connection is retired. The sessions allocated by other threads are left
+	 * intact.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the lease of the created session
+	 * @throws IpcException
+	 *             the ipc exception
+	 */
+	private Lease<S> createSession(final String serviceName,
+			final int serviceID) throws IpcException {
+		final S session;
+		try {
+			session = factory.createSession(serviceName, serviceID);
+		} catch (final IpcException e) {
+			LOG.warning("Session allocation failed, retire connection : %s",
+					e.getMessage());
+			retired = true;
+			destroyIdleSessions();
+			throw e;
+		}
+		return new Lease<S>(this, session, serviceName, serviceID);
+	}
+
+	/**
+	 * Takes the most recently released session of the service.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the lease of the idle session, or null if not found
+	 */
+	private Lease<S> pollIdleSession(final String serviceName,
+			final int serviceID) {
+		final Deque<Lease<S>> queue = idleSessions.get(getKey(serviceName,
+				serviceID));
+		if (queue != null) {
+			final Lease<S> lease = queue.pollFirst();
+			if (lease != null) {
+				idleCounter.decrementAndGet();
+				return lease;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Destroy all the idle sessions.
+	 */
+	private void destroyIdleSessions() {
+		for (final Deque<Lease<S>> queue : idleSessions.values()) {
+			for (Lease<S> lease = queue.pollFirst(); lease != null; lease = queue
+					.pollFirst()) {
+				idleCounter.decrementAndGet();
+				factory.destroySession(lease.session);
+			}
+		}
+	}
+
+	/**
+	 * Decrease the session counter, and close the retired connection if no
+	 * session is allocated.
+	 */
+	private void leave() {
+		if (counter.decrementAndGet() == 0 && retired) {
+			closeIfUnused();
+		}
+	}
+
+	/**
+	 * Close the connection if no session is allocated. Once closed, no
+	 * session can be allocated on this connection.
+	 */
+	private void closeIfUnused() {
+		if (counter.compareAndSet(0, CLOSED)) {
+			destroyIdleSessions();
+			factory.close();
+			LOG.debug("Retired connection has been closed");
+		}
+	}
+
+	/**
+	 * Gets the idle queue for the service.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the idle queue
+	 */
+	private Deque<Lease<S>> getIdleQueue(final String serviceName,
+			final int serviceID) {
+		final String key = getKey(serviceName, serviceID);
+		Deque<Lease<S>> queue = idleSessions.get(key);
+		if (queue == null) {
+			queue = new ConcurrentLinkedDeque<Lease<S>>();
+			final Deque<Lease<S>> old = idleSessions.putIfAbsent(key, queue);
+			if (old != null) {
+				queue = old;
+			}
+		}
+		return queue;
+	}
+
+	/**
+	 * Gets the key of the idle queue.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the key
+	 */
+	private static String getKey(final String serviceName, final int serviceID) {
+		return serviceName + ":" + serviceID;
+	}
+}
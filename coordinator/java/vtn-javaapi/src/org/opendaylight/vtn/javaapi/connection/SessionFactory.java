@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.connection;
+
+import org.opendaylight.vtn.core.ipc.IpcException;
+
+/**
+ * The Interface SessionFactory. Creates and maintains the sessions on one
+ * connection to an IPC channel. The connection pool uses this interface so
+ * that the pooling logic does not depend on the native IPC library.
+ *
+ * @param <S>
+ *            the type of the session
+ */
+interface SessionFactory<S> {
+
+	/**
+	 * Creates a new session on the connection.
+	 *
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @return the session
+	 * @throws IpcException
+	 *             the ipc exception
+	 */
+	S createSession(String serviceName, int serviceID) throws IpcException;
+
+	/**
+	 * Resets the session so that it can be used for the next request of the
+	 * specified service.
+	 *
+	 * @param session
+	 *            the session
+	 * @param serviceName
+	 *            the service name
+	 * @param serviceID
+	 *            the service id
+	 * @throws IpcException
+	 *             the session is no longer available
+	 */
+	void resetSession(S session, String serviceName, int serviceID)
+			throws IpcException;
+
+	/**
+	 * Destroys the session.
+	 *
+	 * @param session
+	 *            the session
+	 */
+	void destroySession(S session);
+
+	/**
+	 * Closes the connection. All the sessions created on the connection are
+	 * invalidated.
+	 */
+	void close();
+}
@@ -40,6 +40,11 @@ public final class VtnServiceConsts {
 	public static final String TEST_RESOURCES = "org.opendaylight.vtn.javaapi.resources";
 
 	public static final String CONN_POOL_SIZE = "max_ipc_conn_pool_size_";
+	public static final String CONN_POOL_LIMIT = "ipc_conn_pool_limit_";
+	public static final String CONN_POOL_GROW_THRESHOLD = "ipc_conn_pool_grow_threshold";
+	public static final String CONN_POOL_CHECK_INTERVAL = "ipc_conn_pool_check_interval";
+	public static final String IDLE_SESSION_MAX = "ipc_idle_session_max";
+	public static final String IDLE_SESSION_TIMEOUT = "ipc_idle_session_timeout";
 	public static final String MAX_REP_DEFAULT = "max_repetition_default";
 	public static final int MAX_REP_COUNT = 100;
 
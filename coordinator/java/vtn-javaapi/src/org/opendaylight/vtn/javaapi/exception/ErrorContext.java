@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.vtn.javaapi.exception;
+
+import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
+
+/**
+ * The Class ErrorContext. Names the method which raised the error, in the
+ * form of "class name-method name". Stack frames are captured by the
+ * Throwable given at construction time, and resolved into the context string
+ * only when the context is rendered.
+ */
+final class ErrorContext {
+
+	private static final String UNKNOWN = "unknown";
+
+	private final transient Throwable frames;
+	private final transient int depth;
+	private transient volatile String context;
+
+	/**
+	 * Instantiates a new error context.
+	 *
+	 * @param frames
+	 *            the throwable which holds the stack frames
+	 * @param depth
+	 *            the index of the stack frame which raised the error
+	 */
+	ErrorContext(final Throwable frames, final int depth) {
+		this.frames = frames;
+		this.depth = depth;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		String ctx = context;
+		if (ctx == null) {
+			final StackTraceElement[] trace = frames.getStackTrace();
+			if (depth < trace.length) {
+				ctx = trace[depth].getClassName() + VtnServiceConsts.HYPHEN
+						+ trace[depth].getMethodName();
+			} else {
+				ctx = UNKNOWN;
+			}
+			context = ctx;
+		}
+		return ctx;
+	}
+}
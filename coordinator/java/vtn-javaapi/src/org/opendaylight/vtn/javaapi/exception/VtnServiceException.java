@@ -29,7 +29,7 @@ public class VtnServiceException extends Exception {
 	 * The Class SummaryItem.
 	 */
 	protected class SummaryItem {
-		public transient String errorContext;
+		public transient Object errorContext;
 		public transient String errorCode;
 		public transient String errorText;
 
@@ -43,7 +43,7 @@ public class VtnServiceException extends Exception {
 		 * @param errorText
 		 *            the error text
 		 */
-		public SummaryItem(final String contextCode, final String errorCode,
+		public SummaryItem(final Object contextCode, final String errorCode,
 				final String errorText) {
 
 			this.errorContext = contextCode;
@@ -87,6 +87,60 @@ public class VtnServiceException extends Exception {
 		addInfo(errorContext, errorCode, errorMessage);
 	}
 
+	/**
+	 * Instantiates a new vtn service exception. The error context is named
+	 * after the method which creates this exception, only when it is
+	 * rendered.
+	 * 
+	 * @param errorCode
+	 *            the error code
+	 * @param errorMessage
+	 *            the error message
+	 */
+	public VtnServiceException(final String errorCode,
+			final String errorMessage) {
+		super();
+		addInfo(new ErrorContext(this, 0), errorCode, errorMessage);
+	}
+
+	/**
+	 * Instantiates a new vtn service exception. The error context is named
+	 * after the method which creates this exception, only when it is
+	 * rendered.
+	 * 
+	 * @param errorCode
+	 *            the error code
+	 * @param errorMessage
+	 *            the error message
+	 * @param cause
+	 *            the cause
+	 */
+	public VtnServiceException(final String errorCode,
+			final String errorMessage, final Throwable cause) {
+		super(cause);
+		addInfo(new ErrorContext(this, 0), errorCode, errorMessage);
+	}
+
+	/**
+	 * Instantiates a new vtn service exception, with the error context named
+	 * after the stack frame at the given depth from the method which creates
+	 * this exception.
+	 * 
+	 * @param depth
+	 *            the depth of the stack frame which raised the error
+	 * @param errorCode
+	 *            the error code
+	 * @param errorMessage
+	 *            the error message
+	 * @param cause
+	 *            the cause
+	 */
+	VtnServiceException(final int depth, final String errorCode,
+			final String errorMessage, final Throwable cause) {
+		super(cause);
+		addInfo(new ErrorContext(this, depth), errorCode, errorMessage);
+	}
+
 	/**
 	 * Adds the info.
 	 * 
@@ -106,6 +160,25 @@ public class VtnServiceException extends Exception {
 		return this;
 	}
 
+	/**
+	 * Adds the info with the error context resolved lazily.
+	 * 
+	 * @param errorContext
+	 *            the error context
+	 * @param errorCode
+	 *            the error code
+	 * @param errorText
+	 *            the error text
+	 * @return the vtn service exception
+	 */
+	final VtnServiceException addInfo(final ErrorContext errorContext,
+			final String errorCode, final String errorText) {
+
+		this.summaryItems.add(new SummaryItem(errorContext, errorCode,
+				errorText));
+		return this;
+	}
+
 	/**
 	 * Append exception.
 	 * 
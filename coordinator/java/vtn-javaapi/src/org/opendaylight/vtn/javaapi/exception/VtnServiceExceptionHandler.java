@@ -49,6 +49,30 @@ public class VtnServiceExceptionHandler {
 		}
 	}
 
+	/**
+	 * Handle the exception thrown by the JavaAPI. The error context is named
+	 * after the calling method, only when it is rendered, so that no stack
+	 * trace is materialized on the error path.
+	 * 
+	 * @param errorCode
+	 *            the error code
+	 * @param errorText
+	 *            the error text
+	 * @param exception
+	 *            the throwable exception
+	 * @throws VtnServiceException
+	 *             the vtn service exception
+	 */
+	public final void raise(final String errorCode, final String errorText,
+			final Exception exception) throws VtnServiceException {
+		if (exception instanceof VtnServiceException) {
+			((VtnServiceException) exception).addInfo(new ErrorContext(
+					new Throwable(), 1), errorCode, errorText);
+		} else {
+			throw new VtnServiceException(1, errorCode, errorText, exception);
+		}
+	}
+
 	/**
 	 * LOG the exception thrown by the JavaAPI
 	 * 
@@ -89,4 +113,28 @@ public class VtnServiceExceptionHandler {
 		LOG.error(exception, "Error Occurred : \n" + exception.toString());
 	}
 
+	/**
+	 * Handle the exception and log exception message. The error context is
+	 * named after the calling method, only when it is rendered.
+	 * 
+	 * @param errorCode
+	 *            the error code
+	 * @param errorText
+	 *            the error text
+	 * @param exception
+	 *            the throwable exception
+	 */
+	public final void handle(final String errorCode, final String errorText,
+			final Exception exception) {
+		if (exception instanceof VtnServiceException) {
+			((VtnServiceException) exception).addInfo(new ErrorContext(
+					new Throwable(), 1), errorCode, errorText);
+			LOG.error(exception, "Error Occurred : \n" + exception.toString());
+		} else {
+			final VtnServiceException e = new VtnServiceException(1,
+					errorCode, errorText, exception);
+			LOG.error(e, "Error Occurred : \n" + e.toString());
+		}
+	}
+
 }
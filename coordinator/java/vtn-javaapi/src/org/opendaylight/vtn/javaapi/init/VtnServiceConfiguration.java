@@ -95,12 +95,7 @@ public final class VtnServiceConfiguration {
 		} catch (final IOException e) {
 			VtnServiceInitManager
 					.getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.APP_CONFIG_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.APP_CONFIG_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.APP_CONFIG_ERROR
 									.getErrorMessage(), e);
 		}
@@ -121,7 +116,27 @@ public final class VtnServiceConfiguration {
 			configValue = VtnServiceUtil.isValidString(key) ? appConfigProperties
 					.get(key).toString() : VtnServiceConsts.EMPTY_STRING;
 		}
-		LOG.debug(key + VtnServiceConsts.COLON + configValue);
+		LOG.debug("%s:%s", key, configValue);
+		return configValue;
+	}
+
+	/**
+	 * Gets the config value for application properties, or the default value
+	 * if the property is not configured
+	 * 
+	 * @param key
+	 *            the key
+	 * @param defaultValue
+	 *            the default value
+	 * @return the config value
+	 */
+	public String getConfigValue(final String key, final String defaultValue) {
+		LOG.trace("Return from VtnServiceConfiguration#getConfigValue()");
+		String configValue = defaultValue;
+		if (appConfigProperties != null && VtnServiceUtil.isValidString(key)) {
+			configValue = appConfigProperties.getProperty(key, defaultValue);
+		}
+		LOG.debug("%s:%s", key, configValue);
 		return configValue;
 	}
 
@@ -141,7 +156,7 @@ public final class VtnServiceConfiguration {
 			configValue = VtnServiceUtil.isValidString(key) ? commonConfigProperties
 					.get(key).toString() : VtnServiceConsts.EMPTY_STRING;
 		}
-		LOG.debug(key + VtnServiceConsts.COLON + configValue);
+		LOG.debug("%s:%s", key, configValue);
 		return configValue;
 	}
 
@@ -160,7 +175,7 @@ public final class VtnServiceConfiguration {
 			configValue = mapModeConfigProperties.get(
 					VtnServiceOpenStackConsts.VLANMAP_MODE).toString();
 		}
-		LOG.debug("Map Mode " + VtnServiceConsts.COLON + configValue);
+		LOG.debug("Map Mode :%s", configValue);
 		return configValue;
 	}
 }
@@ -76,7 +76,7 @@ public final class VtnServiceInitManager {
 		try {
 			ClassLoader currentContext = Thread.currentThread()
 					.getContextClassLoader();
-			LOG.debug("Initialization Application Code : " + currentContext);
+			LOG.debug("Initialization Application Code : %s", currentContext);
 
 			// load the configurations
 			configurationMap.put(currentContext, new VtnServiceConfiguration());
@@ -138,8 +138,8 @@ public final class VtnServiceInitManager {
 	}
 
 	public static VtnServiceConfiguration getConfigurationMap() {
-		LOG.debug("Request Application Code : "
-				+ Thread.currentThread().getContextClassLoader());
+		LOG.debug("Request Application Code : %s",
+				Thread.currentThread().getContextClassLoader());
 		return configurationMap.get(Thread.currentThread()
 				.getContextClassLoader());
 	}
@@ -149,8 +149,8 @@ public final class VtnServiceInitManager {
 	 * @return
 	 */
 	public static IpcConnPool getConnectionPoolMap() {
-		LOG.debug("Request Application Code : "
-				+ Thread.currentThread().getContextClassLoader());
+		LOG.debug("Request Application Code : %s",
+				Thread.currentThread().getContextClassLoader());
 		return ipcConnectionPoolMap.get(Thread.currentThread()
 				.getContextClassLoader());
 	}
@@ -160,8 +160,8 @@ public final class VtnServiceInitManager {
 	 * @return
 	 */
 	public static DataBaseConnectionPool getDbConnectionPoolMap() {
-		LOG.debug("Request Application Code : "
-				+ Thread.currentThread().getContextClassLoader());
+		LOG.debug("Request Application Code : %s",
+				Thread.currentThread().getContextClassLoader());
 		return dbConnectionPoolMap.get(Thread.currentThread()
 				.getContextClassLoader());
 	}
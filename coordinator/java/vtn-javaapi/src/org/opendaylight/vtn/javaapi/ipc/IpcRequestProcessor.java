@@ -79,9 +79,9 @@ public class IpcRequestProcessor {
 		this.requestPacket = new IpcRequestPacket();
 		this.exceptionHandler = exceptionHandler;
 		// set the session id and config id to IPC request packet
-		LOG.debug("session id : " + sessionId);
+		LOG.debug("session id : %s", sessionId);
 		requestPacket.setSessionId(new IpcUint32(sessionId));
-		LOG.debug("config id : " + configId);
+		LOG.debug("config id : %s", configId);
 		requestPacket.setConfigId(new IpcUint32(configId));
 		LOG.trace("Complete IpcRequestProcessor#IpcRequestProcessor()");
 	}
@@ -340,16 +340,12 @@ public class IpcRequestProcessor {
 				int index = 0;
 				for (int i = VtnServiceConsts.IPC_RESUL_CODE_INDEX + 1; i < size; i++) {
 					ipcDataUnits[index++] = session.getResponse(i);
-					LOG.debug("Response at index " + i + " "
-							+ session.getResponse(i));
+					LOG.debug("Response at index %s %s", i,
+							session.getResponse(i));
 				}
 			}
 		} catch (final IpcException e) {
 			exceptionHandler.raise(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
 					UncJavaAPIErrorCode.IPC_OP_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.IPC_OP_ERROR.getErrorMessage(), e);
 		}
@@ -466,12 +462,7 @@ public class IpcRequestProcessor {
 						requestBody, uriParameters);
 			} catch (final Exception e) {
 				exceptionHandler
-						.raise(Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
-								UncJavaAPIErrorCode.INTERNAL_ERROR
+						.raise(UncJavaAPIErrorCode.INTERNAL_ERROR
 										.getErrorCode(),
 								UncJavaAPIErrorCode.INTERNAL_ERROR
 										.getErrorMessage(), e);
@@ -502,29 +493,28 @@ public class IpcRequestProcessor {
 			}
 			// add IPC request packet values to session for the further
 			// processing at lower layer
-			LOG.debug("Session id : " + requestPacket.getSessionId());
+			LOG.debug("Session id : %s", requestPacket.getSessionId());
 			session.addOutput(requestPacket.getSessionId());
-			LOG.debug("Config id : " + requestPacket.getConfigId());
+			LOG.debug("Config id : %s", requestPacket.getConfigId());
 			session.addOutput(requestPacket.getConfigId());
-			LOG.debug("Operation : " + requestPacket.getOperation());
+			LOG.debug("Operation : %s", requestPacket.getOperation());
 			session.addOutput(requestPacket.getOperation());
-			LOG.debug("Max. Repetition Count : "
-					+ requestPacket.getMaxRepCount());
+			LOG.debug("Max. Repetition Count : %s", requestPacket.getMaxRepCount());
 			session.addOutput(requestPacket.getMaxRepCount());
-			LOG.debug("Option1 : " + requestPacket.getOption1());
+			LOG.debug("Option1 : %s", requestPacket.getOption1());
 			session.addOutput(requestPacket.getOption1());
-			LOG.debug("Option2 : " + requestPacket.getOption2());
+			LOG.debug("Option2 : %s", requestPacket.getOption2());
 			session.addOutput(requestPacket.getOption2());
-			LOG.debug("Data Type : " + requestPacket.getDataType());
+			LOG.debug("Data Type : %s", requestPacket.getDataType());
 			session.addOutput(requestPacket.getDataType());
-			LOG.debug("Key Type : " + requestPacket.getKeyType());
+			LOG.debug("Key Type : %s", requestPacket.getKeyType());
 			session.addOutput(requestPacket.getKeyType());
-			LOG.debug("Key Structure : " + requestPacket.getKeyStruct());
+			LOG.debug("Key Structure : %s", requestPacket.getKeyStruct());
 			session.addOutput(requestPacket.getKeyStruct());
 
 			// add value structure, if required
 			if (requestPacket.getValStruct() != null) {
-				LOG.debug("Value Structure: " + requestPacket.getValStruct());
+				LOG.debug("Value Structure: %s", requestPacket.getValStruct());
 				session.addOutput(requestPacket.getValStruct());
 			}
 
@@ -536,7 +526,7 @@ public class IpcRequestProcessor {
 					&& requestPacket.getExtraDataUnits().length != 0) {
 				for (final IpcDataUnit ipcDataUnit : requestPacket
 						.getExtraDataUnits()) {
-					LOG.debug("extra units : " + ipcDataUnit);
+					LOG.debug("extra units : %s", ipcDataUnit);
 					session.addOutput(ipcDataUnit);
 				}
 			}
@@ -549,7 +539,7 @@ public class IpcRequestProcessor {
 				final String resultCode = IpcDataUnitWrapper
 						.getIpcDataUnitValue(session
 								.getResponse(VtnServiceConsts.IPC_RESUL_CODE_INDEX));
-				LOG.debug("Result code received: " + resultCode);
+				LOG.debug("Result code received: %s", resultCode);
 				final int keyType = requestPacket.getKeyType().intValue();
 
 				if (requestPacket.getOperation().intValue() == UncOperationEnum.UNC_OP_READ_SIBLING_BEGIN
@@ -611,10 +601,6 @@ public class IpcRequestProcessor {
 			}
 		} catch (final IpcException e) {
 			exceptionHandler.raise(
-					Thread.currentThread().getStackTrace()[1].getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
 					UncJavaAPIErrorCode.IPC_OP_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.IPC_OP_ERROR.getErrorMessage(), e);
 		}
@@ -13,7 +13,6 @@ import java.util.Stack;
 
 import org.opendaylight.vtn.core.ipc.IpcUint32;
 import org.opendaylight.vtn.core.util.Logger;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
 import org.opendaylight.vtn.javaapi.ipc.enums.UncJavaAPIErrorCode;
 import org.opendaylight.vtn.javaapi.ipc.enums.UncOperationEnum;
@@ -91,8 +90,7 @@ public class IpcRollback {
 					.next();
 			if (requestPacket.getOperation().intValue() == UncOperationEnum.UNC_OP_CREATE
 					.ordinal()) {
-				LOG.debug("Set Operation type Delete for Create Operation from Stack. Key-Type : "
-						+ requestPacket.getKeyType());
+				LOG.debug("Set Operation type Delete for Create Operation from Stack. Key-Type : %s", requestPacket.getKeyType());
 				requestPacket.setOperation(new IpcUint32(
 						UncOperationEnum.UNC_OP_DELETE.ordinal()));
 			}
@@ -103,12 +101,7 @@ public class IpcRollback {
 			} catch (final VtnServiceException e) {
 				requestProcessor
 						.getExceptionHandler()
-						.raise(Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
-								UncJavaAPIErrorCode.ROLLBACK_ERROR
+						.raise(UncJavaAPIErrorCode.ROLLBACK_ERROR
 										.getErrorCode(),
 								UncJavaAPIErrorCode.ROLLBACK_ERROR
 										.getErrorMessage(), e);
@@ -335,11 +335,10 @@ public class IpcStructFactory {
 								IpcDataUnitWrapper
 										.setIpcUint8Value(UncStructIndexEnum.FlowlistIpType.UPLL_FLOWLIST_TYPE_IPV6
 												.ordinal()));
-				LOG.debug("ip_version:"
-						+ requestBody
-								.getAsJsonObject(VtnServiceJsonConsts.FLOWLIST)
-								.get(VtnServiceJsonConsts.IPVERSION)
-								.getAsString());
+				LOG.debug("ip_version:%s",
+						requestBody.getAsJsonObject(
+								VtnServiceJsonConsts.FLOWLIST).get(
+								VtnServiceJsonConsts.IPVERSION).getAsString());
 			} else if (requestBody.has(VtnServiceJsonConsts.FLOWLIST)) {
 				valFlowListStruct
 						.set(VtnServiceIpcConsts.IPTYPE,
@@ -509,8 +508,8 @@ public class IpcStructFactory {
 												valFlowListEntryStruct,
 												UncStructIndexEnum.ValFlowlistEntryIndex.UPLL_IDX_MAC_ETH_TYPE_FLE
 														.ordinal()));
-				LOG.debug("macethertype:"
-						+ flowListEntry.get(VtnServiceJsonConsts.MACETHERTYPE)
+				LOG.debug("macethertype:%s",
+						flowListEntry.get(VtnServiceJsonConsts.MACETHERTYPE)
 								.getAsString());
 			} else {
 				valFlowListEntryStruct
@@ -729,8 +728,8 @@ public class IpcStructFactory {
 												valFlowListEntryStruct,
 												UncStructIndexEnum.ValFlowlistEntryIndex.UPLL_IDX_SRC_IP_V6_FLE
 														.ordinal()));
-				LOG.debug("ipv6srcaddr:"
-						+ flowListEntry.get(VtnServiceJsonConsts.IPV6SRCADDR)
+				LOG.debug("ipv6srcaddr:%s",
+						flowListEntry.get(VtnServiceJsonConsts.IPV6SRCADDR)
 								.getAsString());
 			} else {
 				valFlowListEntryStruct
@@ -1177,11 +1176,11 @@ public class IpcStructFactory {
 													.ordinal()));
 
 				}
-				LOG.debug("adminstatus:"
-						+ requestBody
-								.getAsJsonObject(VtnServiceJsonConsts.INTERFACE)
-								.get(VtnServiceJsonConsts.ADMINSTATUS)
-								.getAsString());
+				LOG.debug("adminstatus:%s",
+						requestBody.getAsJsonObject(
+								VtnServiceJsonConsts.INTERFACE).get(
+								VtnServiceJsonConsts.ADMINSTATUS).getAsString(
+								));
 			} else {
 				ValVTunnelIfStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -1373,9 +1372,9 @@ public class IpcStructFactory {
 													UncStructIndexEnum.ValVlinkIndex.UPLL_IDX_ADMIN_STATUS_VLNK
 															.ordinal()));
 				}
-				LOG.debug("adminstatus:"
-						+ vLink.get(VtnServiceJsonConsts.ADMINSTATUS)
-								.getAsString());
+				LOG.debug("adminstatus:%s",
+						vLink.get(VtnServiceJsonConsts.ADMINSTATUS).getAsString(
+								));
 			} else {
 				ValVlinkStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -1569,12 +1568,10 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_INVALID
 													.ordinal()));
 				}
-				LOG.debug("VLAN ID Valid Bit : "
-						+ ValVlinkStruct
-								.getByte(
-										VtnServiceIpcConsts.VALID,
-										UncStructIndexEnum.ValVlinkIndex.UPLL_IDX_VLAN_ID_VLNK
-												.ordinal()));
+				LOG.debug("VLAN ID Valid Bit : %s",
+						ValVlinkStruct.getByte(VtnServiceIpcConsts.VALID,
+								UncStructIndexEnum.ValVlinkIndex.UPLL_IDX_VLAN_ID_VLNK
+										.ordinal()));
 			}
 			if (vLink.has(VtnServiceJsonConsts.DESCRIPTION)) {
 				ValVlinkStruct
@@ -1894,11 +1891,11 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 													.ordinal()));
 				}
-				LOG.debug("adminstatus:"
-						+ requestBody
-								.getAsJsonObject(VtnServiceJsonConsts.INTERFACE)
-								.get(VtnServiceJsonConsts.ADMINSTATUS)
-								.getAsString());
+				LOG.debug("adminstatus:%s",
+						requestBody.getAsJsonObject(
+								VtnServiceJsonConsts.INTERFACE).get(
+								VtnServiceJsonConsts.ADMINSTATUS).getAsString(
+								));
 			} else {
 				ValVtepIfStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -2084,9 +2081,8 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:"
-					+ requestBody
-							.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
+			LOG.debug("ff_type:%s",
+					requestBody.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
 							.get(VtnServiceJsonConsts.FFTYPE).getAsString());
 		} else if (uriParameters != null
 				&& uriParameters.size() == UncIndexEnum.FOUR.ordinal()) {
@@ -2103,7 +2099,7 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:" + uriParameters.get(3));
+			LOG.debug("ff_type:%s", uriParameters.get(3));
 		} else {
 			LOG.warning("request body and uri parameters are not correct for getKeyVrtIfFlowFilterStruct");
 		}
@@ -2201,9 +2197,8 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:"
-					+ requestBody
-							.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
+			LOG.debug("ff_type:%s",
+					requestBody.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
 							.get(VtnServiceJsonConsts.FFTYPE).getAsString());
 		} else if (uriParameters != null
 				&& uriParameters.size() == UncIndexEnum.FOUR.ordinal()) {
@@ -2222,7 +2217,7 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:" + uriParameters.get(3));
+			LOG.debug("ff_type:%s", uriParameters.get(3));
 		} else {
 			LOG.warning("request body and uri parameters are not correct for getKeyVbrIfFlowFilterStruct");
 		}
@@ -2715,9 +2710,8 @@ public class IpcStructFactory {
 												.ordinal()));
 
 			}
-			LOG.debug("ff_type"
-					+ requestBody
-							.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
+			LOG.debug("ff_type%s",
+					requestBody.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
 							.get(VtnServiceJsonConsts.FFTYPE).getAsString());
 		} else if (uriParameters != null
 				&& uriParameters.size() == UncIndexEnum.TWO.ordinal()) {
@@ -2734,7 +2728,7 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type" + uriParameters.get(1));
+			LOG.debug("ff_type%s", uriParameters.get(1));
 		} else {
 			LOG.warning("request body and uri parameters are not correct for getKeyVtnFlowFilterStruct");
 		}
@@ -3311,8 +3305,8 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.ValVunknowntype.VUNKNOWN_TYPE_ROUTER
 													.ordinal()));
 				}
-				LOG.debug("type:"
-						+ vByPass.get(VtnServiceJsonConsts.TYPE).getAsString());
+				LOG.debug("type:%s",
+						vByPass.get(VtnServiceJsonConsts.TYPE).getAsString());
 			} else {
 				valValVunknownStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -3467,8 +3461,8 @@ public class IpcStructFactory {
 													UncStructIndexEnum.ValVunkIfIndex.UPLL_IDX_ADMIN_ST_VUNI
 															.ordinal()));
 				}
-				LOG.debug("adminstatus:"
-						+ vunkIf.get(VtnServiceJsonConsts.ADMINSTATUS)
+				LOG.debug("adminstatus:%s",
+						vunkIf.get(VtnServiceJsonConsts.ADMINSTATUS)
 								.getAsString());
 			} else {
 				valVunkIfStruct
@@ -3532,9 +3526,8 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:"
-					+ requestBody
-							.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
+			LOG.debug("ff_type:%s",
+					requestBody.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
 							.get(VtnServiceJsonConsts.FFTYPE).getAsString());
 		} else if (uriParameters != null
 				&& uriParameters.size() == UncIndexEnum.THREE.ordinal()) {
@@ -3551,7 +3544,7 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:" + uriParameters.get(2));
+			LOG.debug("ff_type:%s", uriParameters.get(2));
 		} else {
 			LOG.warning("request body and uri parameters are not correct for getKeyVbrFlowFilterStruct");
 		}
@@ -3697,8 +3690,8 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 													.ordinal()));
 				}
-				LOG.debug("action_type:"
-						+ flowFilterEntry.get(VtnServiceJsonConsts.ACTIONTYPE)
+				LOG.debug("action_type:%s",
+						flowFilterEntry.get(VtnServiceJsonConsts.ACTIONTYPE)
 								.getAsString());
 			} else {
 				valFlowfilterEntryStruct
@@ -3808,8 +3801,8 @@ public class IpcStructFactory {
 												.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 														.ordinal()));
 					}
-					LOG.debug("Direction:"
-							+ redirectDst.get(VtnServiceJsonConsts.DIRECTION)
+					LOG.debug("Direction:%s",
+							redirectDst.get(VtnServiceJsonConsts.DIRECTION)
 									.getAsString());
 
 				}
@@ -4119,9 +4112,8 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 													.ordinal()));
 				}
-				LOG.debug("tagged:"
-						+ portMap.get(VtnServiceJsonConsts.TAGGED)
-								.getAsString());
+				LOG.debug("tagged:%s",
+						portMap.get(VtnServiceJsonConsts.TAGGED).getAsString());
 			} else {
 				valPortMapStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -4204,9 +4196,9 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 													.ordinal()));
 				}
-				LOG.debug("adminstatus"
-						+ vbrIf.get(VtnServiceJsonConsts.ADMINSTATUS)
-								.getAsString());
+				LOG.debug("adminstatus%s",
+						vbrIf.get(VtnServiceJsonConsts.ADMINSTATUS).getAsString(
+								));
 			} else {
 				valVbrIfStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -4499,10 +4491,10 @@ public class IpcStructFactory {
 													UncStructIndexEnum.ValVrtIndex.UPLL_IDX_DHCP_RELAY_ADMIN_STATUS_VRT
 															.ordinal()));
 				}
-				LOG.debug("dhcp_relay_status"
-						+ requestBody
-								.getAsJsonObject(VtnServiceJsonConsts.DHCPRELAY)
-								.get(VtnServiceJsonConsts.DHCPRELAYSTATUS)
+				LOG.debug("dhcp_relay_status%s",
+						requestBody.getAsJsonObject(
+								VtnServiceJsonConsts.DHCPRELAY).get(
+								VtnServiceJsonConsts.DHCPRELAYSTATUS)
 								.getAsString());
 			} else {
 				valVrtStruct
@@ -4691,8 +4683,8 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 													.ordinal()));
 				}
-				LOG.debug("adminstatus:"
-						+ vRouterIf.get(VtnServiceJsonConsts.ADMINSTATUS)
+				LOG.debug("adminstatus:%s",
+						vRouterIf.get(VtnServiceJsonConsts.ADMINSTATUS)
 								.getAsString());
 			} else {
 				valVrtIfStruct
@@ -5004,7 +4996,7 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 													.ordinal()));
 				}
-				LOG.debug("ff_type" + uriParameters.get(1));
+				LOG.debug("ff_type%s", uriParameters.get(1));
 			} else {
 				valFlowFilterContollerStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -5975,9 +5967,9 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncPhysicalStructIndexEnum.UpplTypeIndex.UNC_CT_POLC
 													.ordinal()));
 				}
-				LOG.debug("type:"
-						+ controller.get(VtnServiceJsonConsts.TYPE)
-								.getAsString());
+				LOG.debug("type:%s",
+						controller.get(VtnServiceJsonConsts.TYPE).getAsString(
+								));
 			} else {
 				valCtrStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -6147,8 +6139,8 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncPhysicalStructIndexEnum.UpplControllerAuditStatus.UPPL_AUTO_AUDIT_ENABLED
 													.ordinal()));
 				}
-				LOG.debug("auditstatus"
-						+ controller.get(VtnServiceJsonConsts.AUDITSTATUS)
+				LOG.debug("auditstatus%s",
+						controller.get(VtnServiceJsonConsts.AUDITSTATUS)
 								.getAsString());
 			} else {
 				valCtrStruct
@@ -6203,8 +6195,8 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncPhysicalStructIndexEnum.UpplDomainType.UPPL_DOMAIN_TYPE_NORMAL
 													.ordinal()));
 				}
-				LOG.debug("type:"
-						+ domain.get(VtnServiceJsonConsts.TYPE).getAsString());
+				LOG.debug("type:%s",
+						domain.get(VtnServiceJsonConsts.TYPE).getAsString());
 			} else {
 				valCtrDomainStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -6660,9 +6652,9 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.ValMacEntry.UPLL_MAC_ENTRY_DYNAMIC
 													.ordinal()));
 				}
-				LOG.debug("type:"
-						+ requestBody.get(VtnServiceJsonConsts.TYPE)
-								.getAsString());
+				LOG.debug("type:%s",
+						requestBody.get(VtnServiceJsonConsts.TYPE).getAsString(
+								));
 			} else {
 				ValArpStruct
 						.set(VtnServiceIpcConsts.VALID,
@@ -7352,11 +7344,11 @@ public class IpcStructFactory {
 											.setIpcUint8Value(UncStructIndexEnum.Valid.UNC_VF_VALID_NO_VALUE
 													.ordinal()));
 				}
-				LOG.debug("adminstatus:"
-						+ requestBody
-								.getAsJsonObject(VtnServiceJsonConsts.INTERFACE)
-								.get(VtnServiceJsonConsts.ADMINSTATUS)
-								.getAsString());
+				LOG.debug("adminstatus:%s",
+						requestBody.getAsJsonObject(
+								VtnServiceJsonConsts.INTERFACE).get(
+								VtnServiceJsonConsts.ADMINSTATUS).getAsString(
+								));
 
 			} else {
 				ValVtermIfStruct
@@ -7490,9 +7482,8 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:"
-					+ requestBody
-							.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
+			LOG.debug("ff_type:%s",
+					requestBody.getAsJsonObject(VtnServiceJsonConsts.FLOWFILTER)
 							.get(VtnServiceJsonConsts.FFTYPE).getAsString());
 		} else if (uriParameters != null
 				&& uriParameters.size() == UncIndexEnum.FOUR.ordinal()) {
@@ -7510,7 +7501,7 @@ public class IpcStructFactory {
 										.setIpcUint8Value(UncStructIndexEnum.FlowfilterDirection.UPLL_FLOWFILTER_DIR_OUT
 												.ordinal()));
 			}
-			LOG.debug("ff_type:" + uriParameters.get(3));
+			LOG.debug("ff_type:%s", uriParameters.get(3));
 		} else {
 			LOG.warning("request body and uri parameters are not correct for getKeyVtermIfFlowfilterStruct");
 		}
@@ -7587,10 +7578,10 @@ public class IpcStructFactory {
 					.getAsJsonObject(VtnServiceJsonConsts.POLICINGPROFILE);
 			if (policingProfileJsonObject
 					.has(VtnServiceJsonConsts.PROFILE_NAME)) {
-				LOG.debug("profile_name:"
-						+ policingProfileJsonObject.get(
-								VtnServiceJsonConsts.PROFILE_NAME)
-								.getAsString());
+				LOG.debug("profile_name:%s",
+						policingProfileJsonObject.get(
+								VtnServiceJsonConsts.PROFILE_NAME).getAsString(
+								));
 				keyPolicingStruct
 						.set(VtnServiceIpcConsts.POLICING_PROFILE_NAME,
 								IpcDataUnitWrapper
@@ -7601,7 +7592,7 @@ public class IpcStructFactory {
 		} else if (uriParameters != null
 				&& uriParameters.size() >= UncIndexEnum.ONE.ordinal()) {
 			profileName = uriParameters.get(0);
-			LOG.debug("profile_name: " + profileName);
+			LOG.debug("profile_name: %s", profileName);
 			keyPolicingStruct.set(VtnServiceIpcConsts.POLICING_PROFILE_NAME,
 					IpcDataUnitWrapper.setIpcUint8ArrayValue(profileName));
 		} else {
@@ -8007,7 +7998,7 @@ public class IpcStructFactory {
 	private void setActionParams(IpcStruct valPolicingProfileEntryStruct,
 			JsonObject actionJson, List<String> actionParamName, int startIndex) {
 		LOG.trace("Start setActionParams()");
-		LOG.debug("action json : " + actionJson);
+		LOG.debug("action json : %s", actionJson);
 
 		// set action type to value strucure
 		if (actionJson.has(VtnServiceJsonConsts.TYPE)) {
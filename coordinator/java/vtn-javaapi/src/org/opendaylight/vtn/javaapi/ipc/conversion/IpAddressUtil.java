@@ -30,7 +30,7 @@ public class IpAddressUtil {
 	 * @return : IPV4 address in byte array format
 	 */
 	public static byte[] textToNumericFormatV4(final String ipV4Add) {
-		LOG.trace("Start textToNumericFormatV4 : " + ipV4Add);
+		LOG.trace("Start textToNumericFormatV4 : %s", ipV4Add);
 		byte[] responseArray = null;
 		if (ipV4Add.split(VtnServiceConsts.DOT_REGEX).length == ipV4Size && ipV4Add.trim().equals(ipV4Add)) {
 			try {
@@ -42,7 +42,7 @@ public class IpAddressUtil {
 		} else {
 			LOG.error("incorrect length ipv4 address");
 		}
-		LOG.trace("Complete textToNumericFormatV4 : " + responseArray);
+		LOG.trace("Complete textToNumericFormatV4 : %s", responseArray);
 		return responseArray;
 	}
 
@@ -52,7 +52,7 @@ public class IpAddressUtil {
 	 * @return : IPV6 address in byte array format
 	 */
 	public static byte[] textToNumericFormatV6(final String ipV6Add) {
-		LOG.trace("Start textToNumericFormatV6 : " + ipV6Add);
+		LOG.trace("Start textToNumericFormatV6 : %s", ipV6Add);
 		byte[] responseArray = null;
 		if (!ipV6Add.contains(VtnServiceConsts.DOT) && ipV6Add.trim().equals(ipV6Add)) {
 			try {
@@ -64,7 +64,7 @@ public class IpAddressUtil {
 		} else {
 			LOG.error("incorrect length ipv6 address");
 		}
-		LOG.trace("Complete textToNumericFormatV6 : " + responseArray);
+		LOG.trace("Complete textToNumericFormatV6 : %s", responseArray);
 		return responseArray;
 	}
 }
@@ -47,7 +47,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVtnResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vtnsArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -78,7 +78,7 @@ public class IpcLogicalResponseFactory {
 			vtnsArray = new JsonArray();
 
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vtn = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -178,11 +178,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtnStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtnStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 						validBit = valVtnStStruct
 								.getByte(
@@ -216,11 +215,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Alarmstatus : invalid");
 							}
-							LOG.debug("Alarmstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtnStStruct,
-													VtnServiceIpcConsts.VTN_ALARM_STATUS));
+							LOG.debug("Alarmstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtnStStruct,
+											VtnServiceIpcConsts.VTN_ALARM_STATUS));
 						}
 						validBit = valVtnStStruct
 								.getByte(
@@ -277,7 +275,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vtn);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVtnResponse");
 
 		return root;
@@ -296,7 +294,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getFlowFilterResponse");
 		final JsonObject root = new JsonObject();
 		final String rootJsonName = VtnServiceJsonConsts.FLOWFILTER;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowFilter = null;
 		for (int index = 0; index < responsePacket.length; index++) {
 			flowFilter = new JsonObject();
@@ -314,8 +312,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				flowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.IN);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVtnFlowFilter,
 								VtnServiceIpcConsts.INPUTDIRECTION));
 			} else if (IpcDataUnitWrapper
@@ -325,8 +323,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				flowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.OUT);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVtnFlowFilter,
 								VtnServiceIpcConsts.INPUTDIRECTION));
 			} else {
@@ -337,7 +335,7 @@ public class IpcLogicalResponseFactory {
 		 * finally add single object to root json object and return the same.
 		 */
 		root.add(rootJsonName, flowFilter);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getFlowFilterResponse");
 		return root;
 	}
@@ -357,7 +355,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.IPADDRESS;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject ipAddress = null;
 		for (int index = 0; index < responsePacket.length; index++) {
 
@@ -424,7 +422,7 @@ public class IpcLogicalResponseFactory {
 		 * finally add single object to root json object and return the same.
 		 */
 		root.add(rootJsonName, ipAddress);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getHostAddressResourceResponse");
 
 		return root;
@@ -453,7 +451,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		final String rootJsonName = VtnServiceJsonConsts.L2DOMAINS;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		final JsonArray l2DomainArray = new JsonArray();
 		JsonObject l2Domain = null;
 
@@ -515,7 +513,7 @@ public class IpcLogicalResponseFactory {
 					memberCount = Integer.parseInt(IpcDataUnitWrapper
 							.getIpcStructUint32Value(valVbrL2DomainSt,
 									VtnServiceIpcConsts.OFSCOUNT));
-					LOG.debug("Count of L2 domain member :" + memberCount);
+					LOG.debug("Count of L2 domain member :%s", memberCount);
 					final JsonArray l2DomainMemberArray = new JsonArray();
 					for (int memIndex = 0; memIndex < memberCount; memIndex++) {
 
@@ -554,11 +552,10 @@ public class IpcLogicalResponseFactory {
 									IpcDataUnitWrapper.getIpcStructUint16Value(
 											valVbrL2DomainMemberSt,
 											VtnServiceJsonConsts.VLANID));
-							LOG.debug("Vlan Id :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint16Value(
-													valVbrL2DomainMemberSt,
-													VtnServiceJsonConsts.VLANID));
+							LOG.debug("Vlan Id :%s",
+									IpcDataUnitWrapper.getIpcStructUint16Value(
+											valVbrL2DomainMemberSt,
+											VtnServiceJsonConsts.VLANID));
 						}
 
 						l2DomainMemberArray.add(l2DomainMember);
@@ -577,7 +574,7 @@ public class IpcLogicalResponseFactory {
 			 */
 			root.add(rootJsonName, l2DomainArray);
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getL2DomainResourceResponse");
 		return root;
 	}
@@ -605,7 +602,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		final String rootJsonName = VtnServiceJsonConsts.MACENTRIES;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		final JsonArray macEntriesArray = new JsonArray();
 		JsonObject macEntries = null;
 
@@ -683,9 +680,10 @@ public class IpcLogicalResponseFactory {
 					} else {
 						LOG.debug("Type : invalid");
 					}
-					LOG.debug("Type :"
-							+ IpcDataUnitWrapper.getIpcStructUint8Value(
-									valVbrMacEntrySt, VtnServiceIpcConsts.TYPE));
+					LOG.debug("Type :%s",
+							IpcDataUnitWrapper.getIpcStructUint8Value(
+									valVbrMacEntrySt,
+									VtnServiceIpcConsts.TYPE));
 				}
 				/*
 				 * add valid IF_name from value structure
@@ -736,8 +734,8 @@ public class IpcLogicalResponseFactory {
 					} else {
 						LOG.debug("If Kind invalid");
 					}
-					LOG.debug("If Kind :"
-							+ IpcDataUnitWrapper.getIpcStructUint8Value(
+					LOG.debug("If Kind :%s",
+							IpcDataUnitWrapper.getIpcStructUint8Value(
 									valVbrMacEntrySt,
 									VtnServiceIpcConsts.IFKIND));
 				}
@@ -751,7 +749,7 @@ public class IpcLogicalResponseFactory {
 			 */
 			root.add(rootJsonName, macEntriesArray);
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getMacEntryResourceResponse");
 
 		return root;
@@ -775,7 +773,7 @@ public class IpcLogicalResponseFactory {
 		/*
 		 * operation type will be required to resolve the response type
 		 */
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
 			opType = requestBody.get(VtnServiceJsonConsts.OP).getAsString();
@@ -800,7 +798,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			flowFilterEntryArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowFilterEntry = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -904,8 +902,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Action type: Invalid");
 						}
-						LOG.debug("Action type :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Action type :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.ACTION));
 					}
@@ -1016,8 +1014,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Direction : Invalid");
 						}
-						LOG.debug("Direction :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Direction :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.REDIRECTDIRECTION));
 					}
@@ -1132,7 +1130,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, flowFilterEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBridgeFlowFilterEntryResponse");
 		return root;
 	}
@@ -1156,7 +1154,7 @@ public class IpcLogicalResponseFactory {
 		/*
 		 * operation type will be required to resolve the response type
 		 */
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
 			opType = requestBody.get(VtnServiceJsonConsts.OP).getAsString();
@@ -1181,7 +1179,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vRoutersArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vRouter = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -1305,11 +1303,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVrtStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVrtStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					}
 				} else {
@@ -1336,7 +1333,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vRouter);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVRouterResponse");
 		return root;
 	}
@@ -1358,7 +1355,7 @@ public class IpcLogicalResponseFactory {
 		/*
 		 * operation type will be required to resolve the response type
 		 */
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
 			opType = requestBody.get(VtnServiceJsonConsts.OP).getAsString();
@@ -1376,7 +1373,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			flowListsArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowList = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -1450,8 +1447,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Ip version: Invalid");
 						}
-						LOG.debug("Ip version :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Ip version :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowListStruct,
 										VtnServiceIpcConsts.IPTYPE));
 					}
@@ -1476,7 +1473,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, flowList);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getFlowListResponse");
 		return root;
 	}
@@ -1486,7 +1483,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVBypassResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vBypassArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -1507,7 +1504,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vBypassArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vBypassList = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -1598,8 +1595,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Type: Invalid");
 						}
-						LOG.debug("Type :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Type :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVUnknownStruct,
 										VtnServiceIpcConsts.TYPE));
 					}
@@ -1656,7 +1653,7 @@ public class IpcLogicalResponseFactory {
 
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBypassResponse");
 		return root;
 	}
@@ -1678,7 +1675,7 @@ public class IpcLogicalResponseFactory {
 		/*
 		 * operation type will be required to resolve the response type
 		 */
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
 			opType = requestBody.get(VtnServiceJsonConsts.OP).getAsString();
@@ -1703,7 +1700,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			flowFilterEntryArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowFilterEntry = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -1845,7 +1842,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, flowFilterEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVtnFlowFilterEntryResponse");
 
 		return root;
@@ -1863,7 +1860,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getPomStatsFLowList");
 		byte validBit;
 		int index = indexValue;
-		LOG.debug("staring index: " + index);
+		LOG.debug("staring index: %s", index);
 		for (; index < responsePacket.length; index++) {
 
 			final JsonObject flowListEntriesJson = new JsonObject();
@@ -1902,7 +1899,7 @@ public class IpcLogicalResponseFactory {
 			flowListResponseJsonArray.add(flowListEntriesJson);
 
 		}
-		LOG.debug("end index: " + index);
+		LOG.debug("end index: %s", index);
 		LOG.trace("Complete getPomStatsFLowList");
 		return index;
 	}
@@ -2132,7 +2129,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		targetJson.add(statisticsFF, statisticsFFJson);
-		LOG.debug("statics Json: " + targetJson.toString());
+		LOG.debug("statics Json: %s", targetJson.toString());
 		LOG.trace("complete getPomStats");
 	}
 
@@ -2142,7 +2139,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.DHCPRELAY;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject dhcpRelay = null;
 
 		for (int index = 0; index < responsePacket.length; index++) {
@@ -2192,9 +2189,8 @@ public class IpcLogicalResponseFactory {
 				} else {
 					LOG.debug("DhcpRelaystatus : Invalid value");
 				}
-				LOG.debug("DhcpRelaystatus :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
-								valVrtStruct,
+				LOG.debug("DhcpRelaystatus :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(valVrtStruct,
 								VtnServiceIpcConsts.DHCPRELAYADMINSTATUS));
 			}
 		}
@@ -2204,7 +2200,7 @@ public class IpcLogicalResponseFactory {
 		 * return the same.
 		 */
 		root.add(rootJsonName, dhcpRelay);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getDhcpRelayResponse");
 
 		return root;
@@ -2216,7 +2212,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getDhcpRelayInterfaceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray dhcpRelayInterfacesArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -2248,7 +2244,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			dhcpRelayInterfacesArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject dhcpRelayIf = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -2336,8 +2332,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("status : Invalid value");
 						}
-						LOG.debug("status :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("status :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valDhcpRelayIfStStruct,
 										VtnServiceIpcConsts.DHCPRELAY_STATUS));
 					}
@@ -2362,7 +2358,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, dhcpRelayIf);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getDhcpRelayInterfaceResponse");
 		return root;
 	}
@@ -2404,7 +2400,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getFlowListEntryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray flowListEntrysArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -2427,7 +2423,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			flowListEntrysArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowListEntry = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -2845,7 +2841,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, flowListEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getFlowListEntryResponse");
 
 		return root;
@@ -2864,7 +2860,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getARPEntryResponse");
 		final JsonObject root = new JsonObject();
 		final JsonArray aRPEntriesArray = new JsonArray();
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -2874,7 +2870,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		final String rootJsonName = VtnServiceJsonConsts.ARPENTRIES;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject aRPEntries = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -2910,7 +2906,7 @@ public class IpcLogicalResponseFactory {
 						.parseLong(IpcDataUnitWrapper
 								.getIpcDataUnitValue(responsePacket[VtnServiceConsts.IPC_COUNT_INDEX]));
 			}
-			LOG.debug("Count of value structure: " + count);
+			LOG.debug("Count of value structure: %s", count);
 			/*
 			 * moving from count to value structure parameter
 			 */
@@ -2990,8 +2986,8 @@ public class IpcLogicalResponseFactory {
 					} else {
 						LOG.debug("Type: Invalid value");
 					}
-					LOG.debug("Type:"
-							+ IpcDataUnitWrapper.getIpcStructUint8Value(
+					LOG.debug("Type:%s",
+							IpcDataUnitWrapper.getIpcStructUint8Value(
 									valARPEntriesStruct,
 									VtnServiceIpcConsts.TYPE));
 				}
@@ -3022,7 +3018,7 @@ public class IpcLogicalResponseFactory {
 			 */
 			root.add(rootJsonName, aRPEntriesArray);
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getARPEntryResponse");
 
 		return root;
@@ -3043,7 +3039,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getDHCPRelayServerResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray relayServerArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -3063,7 +3059,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			relayServerArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject dHCPRelayServer = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -3112,7 +3108,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, dHCPRelayServer);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getDHCPRelayServerResponse");
 
 		return root;
@@ -3133,7 +3129,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.FLOWFILTER;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vrtInterfaceFF = null;
 
 		for (int index = 0; index < responsePacket.length; index++) {
@@ -3153,8 +3149,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				vrtInterfaceFF.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.IN);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyFlowFilterStruct,
 								VtnServiceIpcConsts.DIRECTION));
 
@@ -3165,8 +3161,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				vrtInterfaceFF.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.OUT);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyFlowFilterStruct,
 								VtnServiceIpcConsts.DIRECTION));
 			} else {
@@ -3178,7 +3174,7 @@ public class IpcLogicalResponseFactory {
 		 * return the same.
 		 */
 		root.add(rootJsonName, vrtInterfaceFF);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVRouterInterfaceFlowFilterResponse");
 		return root;
 	}
@@ -3197,7 +3193,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVRouterInterfaceFlowFilterEntryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vRouterflowFilterEntryArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -3225,7 +3221,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vRouterflowFilterEntryArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vRouterflowFilterEntry = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -3331,8 +3327,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Invalid value for Action type parameter");
 						}
-						LOG.debug("Action type :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Action type :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.ACTION));
 					}
@@ -3446,8 +3442,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Direction : Invalid");
 						}
-						LOG.debug("Direction :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Direction :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.REDIRECTDIRECTION));
 					}
@@ -3564,7 +3560,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vRouterflowFilterEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVRouterInterfaceFlowFilterEntryResponse");
 
 		return root;
@@ -3577,7 +3573,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTunnelResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vTunnelArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -3607,7 +3603,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vTunnelArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vTunnel = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -3782,11 +3778,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Type: Invalid value");
 							}
-							LOG.debug("OPERSTATUS:"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtunnelStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("OPERSTATUS:%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtunnelStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 
 					}
@@ -3814,7 +3809,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vTunnel);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTunnelResponse");
 		return root;
 	}
@@ -3824,7 +3819,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVLinkResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vLinkArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -3854,7 +3849,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vLinkArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vLink = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -3926,8 +3921,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Admin Status: Invalid value");
 						}
-						LOG.debug("Admin Status :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Admin Status :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVLinkStruct,
 										VtnServiceJsonConsts.ADMIN_STATUS));
 					}
@@ -4095,11 +4090,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus: Invalid value");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVLinkStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVLinkStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					}
 					// added in vlink- boundary MAp
@@ -4128,7 +4122,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vLink);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVLinkResponse");
 
 		return root;
@@ -4141,7 +4135,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.FLOWFILTER;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowFilter = null;
 		for (int index = 0; index < responsePacket.length; index++) {
 
@@ -4161,10 +4155,10 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				flowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.IN);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper
-								.getIpcStructUint8Value(keyVtnFlowFilter,
-										VtnServiceIpcConsts.DIRECTION));
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
+								keyVtnFlowFilter,
+								VtnServiceIpcConsts.DIRECTION));
 			} else if (IpcDataUnitWrapper
 					.getIpcStructUint8Value(keyVtnFlowFilter,
 							VtnServiceIpcConsts.DIRECTION)
@@ -4172,10 +4166,10 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				flowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.OUT);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper
-								.getIpcStructUint8Value(keyVtnFlowFilter,
-										VtnServiceIpcConsts.DIRECTION));
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
+								keyVtnFlowFilter,
+								VtnServiceIpcConsts.DIRECTION));
 			} else {
 				LOG.debug("Invalid value for FFTYPE parameter");
 			}
@@ -4184,7 +4178,7 @@ public class IpcLogicalResponseFactory {
 		 * finally add single object to root json object and return the same.
 		 */
 		root.add(rootJsonName, flowFilter);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBridgeFlowFilterResourceResponse");
 		return root;
 	}
@@ -4195,7 +4189,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVRouterInterfaceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vrtInterfacesArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -4226,7 +4220,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vrtInterfacesArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vrtInterface = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -4313,8 +4307,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Adminstatus : Invalid");
 						}
-						LOG.debug("Adminstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Adminstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVrtIfStruct,
 										VtnServiceIpcConsts.ADMIN_STATUS));
 					}
@@ -4403,11 +4397,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : Invalid");
 							}
-							LOG.debug("operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVrtIfStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVrtIfStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 
 					}
@@ -4439,7 +4432,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vrtInterface);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVRouterInterfaceResponse");
 
 		return root;
@@ -4451,7 +4444,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTepInterfaceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vtepInterfaceArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -4481,7 +4474,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vtepInterfaceArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vtepInterface = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -4574,8 +4567,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Adminstatus : Invalid value");
 						}
-						LOG.debug("Adminstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Adminstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVtepIfStruct,
 										VtnServiceIpcConsts.ADMIN_STATUS));
 					}
@@ -4623,11 +4616,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : Invalid value");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtepIfStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtepIfStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 
 					}
@@ -4656,7 +4648,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vtepInterface);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTepInterfaceResponse");
 
 		return root;
@@ -4668,7 +4660,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVBypassInterfaceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vBypassInterfacesArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -4694,7 +4686,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vBypassInterfacesArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vBypassInterface = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -4782,8 +4774,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Adminstatus : Invalid value");
 						}
-						LOG.debug("Adminstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Adminstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVukIfStruct,
 										VtnServiceIpcConsts.ADMIN_STATUS));
 					}
@@ -4808,7 +4800,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vBypassInterface);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBypassInterfaceResponse");
 
 		return root;
@@ -4819,7 +4811,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTepGroupResponse");
 		JsonObject vTepGroup = null;
 		JsonArray vTepGroupArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		byte validBit;
 		/*
 		 * operation type will be required to resolve the response type
@@ -4837,7 +4829,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vTepGroupArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
 			 * Create Json for Count
@@ -4922,7 +4914,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vTepGroup);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTepGroupResponse");
 
 		return root;
@@ -4958,12 +4950,12 @@ public class IpcLogicalResponseFactory {
 			}
 			membersArray.add(member);
 		}
-		LOG.debug("member Json: " + membersArray);
+		LOG.debug("member Json: %s", membersArray);
 		if (!vTepGroup.has(VtnServiceJsonConsts.MEMBERVTEPS)) {
 			vTepGroup.add(memberJsonName, membersArray);
 		}
 
-		LOG.debug("response Json: " + vTepGroup.toString());
+		LOG.debug("response Json: %s", vTepGroup.toString());
 		LOG.trace("Complete getVtepGroupMembers");
 
 		return vTepGroup;
@@ -4983,7 +4975,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVBridgeInterfaceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vbrInterfaceList = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -5007,7 +4999,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vbrInterfaceList = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vbrInterface = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -5089,8 +5081,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Adminstatus : Invalid");
 						}
-						LOG.debug("Adminstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Adminstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVbrInterfaceStruct,
 										VtnServiceIpcConsts.ADMIN_STATUS));
 					}
@@ -5133,11 +5125,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : Invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVbrIfStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVbrIfStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					}
 				} else {
@@ -5165,7 +5156,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vbrInterface);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBridgeInterfaceResponse");
 
 		return root;
@@ -5240,7 +5231,7 @@ public class IpcLogicalResponseFactory {
 								VtnServiceIpcConsts.CONNECTED_VLINK_NAME));
 			}
 		}
-		LOG.debug(" Neighbor response Json:" + neighbor.toString());
+		LOG.debug(" Neighbor response Json:%s", neighbor.toString());
 		LOG.trace("Complete getNeighborResponse");
 
 		return neighbor;
@@ -5259,7 +5250,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVBridgeResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vBridgesArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -5287,7 +5278,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vBridgesArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vBridge = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -5410,11 +5401,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Status : Invalid");
 							}
-							LOG.debug("Status :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVbrStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Status :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVbrStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					}
 				} else {
@@ -5441,7 +5431,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vBridge);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBridgeResponse");
 
 		return root;
@@ -5454,7 +5444,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.PORTMAP;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject portMap = null;
 
 		String dataType = VtnServiceJsonConsts.STATE;
@@ -5508,7 +5498,7 @@ public class IpcLogicalResponseFactory {
 									UncStructIndexEnum.valVtermIfIndex.UPLL_IDX_PM_VTERMI
 											.ordinal());
 				} else {
-					LOG.debug("Incorrect ifType:" + ifType);
+					LOG.debug("Incorrect ifType:%s", ifType);
 				}
 				if (validBit != (byte) UncStructIndexEnum.Valid.UNC_VF_INVALID
 						.ordinal()
@@ -5554,8 +5544,8 @@ public class IpcLogicalResponseFactory {
 										valPortMapStruct,
 										VtnServiceJsonConsts.VLANID));
 						// }
-						LOG.debug("Vlan Id :"
-								+ IpcDataUnitWrapper.getIpcStructUint16Value(
+						LOG.debug("Vlan Id :%s",
+								IpcDataUnitWrapper.getIpcStructUint16Value(
 										valPortMapStruct,
 										VtnServiceJsonConsts.VLANID));
 					}
@@ -5588,8 +5578,8 @@ public class IpcLogicalResponseFactory {
 									VtnServiceJsonConsts.TAGGED,
 									VtnServiceJsonConsts.FALSE);
 						}
-						LOG.debug("Tagged :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Tagged :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valPortMapStruct,
 										VtnServiceIpcConsts.TAGGED));
 					}
@@ -5600,14 +5590,14 @@ public class IpcLogicalResponseFactory {
 
 				}
 			} else {
-				LOG.debug("IfType:: " + "is either null or incorrect");
+				LOG.debug("IfType:: is either null or incorrect");
 			}
 		}
 		/*
 		 * finally add single object to root json object and return the same.
 		 */
 		root.add(rootJsonName, portMap);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getPortMapResponse");
 		return root;
 	}
@@ -5617,7 +5607,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVlanMapResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vlanMapsArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -5640,7 +5630,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vlanMapsArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vlanMap = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -5671,8 +5661,8 @@ public class IpcLogicalResponseFactory {
 				final String lpid_valid = IpcDataUnitWrapper
 						.getIpcStructUint8Value(keyVlanMapStruct,
 								VtnServiceIpcConsts.LPID_VALID);
-				LOG.debug("LpidValid :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("LpidValid :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVlanMapStruct,
 								VtnServiceIpcConsts.LPID_VALID));
 				if (lpid_valid
@@ -5684,14 +5674,14 @@ public class IpcLogicalResponseFactory {
 					vlanMapId = VtnServiceJsonConsts.LPID
 							+ VtnServiceJsonConsts.VLANMAPIDSEPERATOR
 							+ logicalPortId;
-					LOG.debug("LogicalPortId :"
-							+ IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
+					LOG.debug("LogicalPortId :%s",
+							IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 									keyVlanMapStruct,
 									VtnServiceIpcConsts.LOGICAL_PORT_ID));
-					LOG.debug("VlanMapId: " + vlanMapId);
+					LOG.debug("VlanMapId: %s", vlanMapId);
 				} else {
 					vlanMapId = VtnServiceJsonConsts.NOLPID;
-					LOG.debug("VlanMapId: " + vlanMapId);
+					LOG.debug("VlanMapId: %s", vlanMapId);
 				}
 				vlanMap.addProperty(VtnServiceJsonConsts.VLANMAPID, vlanMapId);
 
@@ -5711,11 +5701,10 @@ public class IpcLogicalResponseFactory {
 								IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 										keyVlanMapStruct,
 										VtnServiceIpcConsts.LOGICAL_PORT_ID));
-						LOG.debug("Logical_port_id :"
-								+ IpcDataUnitWrapper
-										.getIpcStructUint8ArrayValue(
-												keyVlanMapStruct,
-												VtnServiceIpcConsts.LOGICAL_PORT_ID));
+						LOG.debug("Logical_port_id :%s",
+								IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
+										keyVlanMapStruct,
+										VtnServiceIpcConsts.LOGICAL_PORT_ID));
 					}
 
 					final IpcStruct valVlanMapStruct = (IpcStruct) responsePacket[index++];
@@ -5743,11 +5732,10 @@ public class IpcLogicalResponseFactory {
 											valVlanMapStruct,
 											VtnServiceJsonConsts.VLANID));
 						}
-						LOG.debug("VlanId :"
-								+ IpcDataUnitWrapper
-										.getIpcStructUint16HexaValue(
-												valVlanMapStruct,
-												VtnServiceJsonConsts.VLANID));
+						LOG.debug("VlanId :%s",
+								IpcDataUnitWrapper.getIpcStructUint16HexaValue(
+										valVlanMapStruct,
+										VtnServiceJsonConsts.VLANID));
 					}
 				} else {
 					LOG.debug("Operation : normal Skip value struture");
@@ -5768,7 +5756,7 @@ public class IpcLogicalResponseFactory {
 			}
 
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVlanMapResponse");
 		return root;
 	}
@@ -5779,7 +5767,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVBridgeInterfaceFlowFilterEntryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vbrIfFlowFilterEntryArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -5807,7 +5795,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vbrIfFlowFilterEntryArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vbrIfFlowFilterEntry = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -5911,8 +5899,8 @@ public class IpcLogicalResponseFactory {
 									VtnServiceJsonConsts.ACTIONTYPE,
 									VtnServiceJsonConsts.REDIRECT);
 						}
-						LOG.debug("Action type :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Action type :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.ACTION));
 					}
@@ -6025,8 +6013,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Direction : Invalid");
 						}
-						LOG.debug("Direction :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Direction :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.REDIRECTDIRECTION));
 					}
@@ -6141,7 +6129,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vbrIfFlowFilterEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBridgeInterfaceFlowFilterEntryResponse");
 
 		return root;
@@ -6153,7 +6141,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTunnelInterfaceResourceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vTunnelInterfacesArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -6184,7 +6172,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vTunnelInterfacesArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vTunnelInterface = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -6274,8 +6262,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Adminstatus : Invalid");
 						}
-						LOG.debug("Adminstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Adminstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVtunnelIfStruct,
 										VtnServiceJsonConsts.ADMIN_STATUS));
 					}
@@ -6326,11 +6314,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus: Invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtunnelIfStruct1,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtunnelIfStruct1,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 
 					}
@@ -6360,7 +6347,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vTunnelInterface);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTunnelInterfaceResourceResponse");
 
 		return root;
@@ -6372,7 +6359,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getStaticIpRouteResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray staticIpRouteArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 
 		/*
 		 * operation type will be required to resolve the response type
@@ -6394,7 +6381,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			staticIpRouteArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject staticIpRoute = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -6466,7 +6453,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, staticIpRoute);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getStaticIpRouteResponse");
 		return root;
 	}
@@ -6478,7 +6465,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.FLOWFILTER;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject flowFilter = null;
 		for (int index = 0; index < responsePacket.length; index++) {
 
@@ -6498,8 +6485,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				flowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.IN);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVbrVintFlowFilter,
 								VtnServiceIpcConsts.DIRECTION));
 			} else if (IpcDataUnitWrapper
@@ -6509,8 +6496,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				flowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.OUT);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVbrVintFlowFilter,
 								VtnServiceIpcConsts.DIRECTION));
 			} else {
@@ -6522,7 +6509,7 @@ public class IpcLogicalResponseFactory {
 		 * finally add single object to root json object and return the same.
 		 */
 		root.add(rootJsonName, flowFilter);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVBridgeInterfaceFlowFilterResource");
 
 		return root;
@@ -6534,7 +6521,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVtepResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vtepsArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -6564,7 +6551,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vtepsArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vtep = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -6703,11 +6690,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : Invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtepStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtepStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 
 					}
@@ -6735,7 +6721,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vtep);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVtepResponse");
 		return root;
 	}
@@ -6786,8 +6772,8 @@ public class IpcLogicalResponseFactory {
 			} else {
 				LOG.debug("Action Type : Invalid");
 			}
-			LOG.debug("Action Type :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Action Type :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valFlowFilterEntryStruct,
 							VtnServiceIpcConsts.ACTION));
 		}
@@ -6836,8 +6822,7 @@ public class IpcLogicalResponseFactory {
 							.getIpcStructUint8Value(valFlowFilterEntryStruct,
 									VtnServiceJsonConsts.DSCP));
 		}
-		LOG.debug("getValVtnFlowFilterEntry Json: "
-				+ flowFilterEntry.toString());
+		LOG.debug("getValVtnFlowFilterEntry Json: %s", flowFilterEntry.toString());
 		LOG.trace("Complete getValVtnFlowFilterEntry");
 	}
 
@@ -6929,8 +6914,8 @@ public class IpcLogicalResponseFactory {
 						VtnServiceJsonConsts.MAPTYPE,
 						VtnServiceJsonConsts.VLANMAP);
 			}
-			LOG.debug("MapType :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("MapType :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valVtnstationControllerSt,
 							VtnServiceIpcConsts.MAP_TYPE));
 		}
@@ -6962,8 +6947,8 @@ public class IpcLogicalResponseFactory {
 						VtnServiceJsonConsts.MAPSTATUS,
 						VtnServiceJsonConsts.INVALID);
 			}
-			LOG.debug("Mapstatus :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Mapstatus :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valVtnstationControllerSt,
 							VtnServiceIpcConsts.MAP_STATUS));
 		}
@@ -7110,8 +7095,8 @@ public class IpcLogicalResponseFactory {
 			} else {
 				LOG.debug("Operstatus :Invalid");
 			}
-			LOG.debug("Operstatus :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Operstatus :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valVtnstationControllerSt,
 							VtnServiceIpcConsts.VNODEIF_STATUS));
 		}
@@ -7176,7 +7161,7 @@ public class IpcLogicalResponseFactory {
 								VtnServiceJsonConsts.VLANID));
 			}
 		}
-		LOG.debug("vtnStation Json: " + vtnStation.toString());
+		LOG.debug("vtnStation Json: %s", vtnStation.toString());
 		LOG.trace("Complete createVtnStationConstJson");
 	}
 
@@ -7204,7 +7189,7 @@ public class IpcLogicalResponseFactory {
 		vtnStationStats.add(VtnServiceJsonConsts.OPENFLOWCONTROLLER,
 				ofController);
 		vtnStationStats.add(VtnServiceJsonConsts.OPENFLOWNW, ofNetwork);
-		LOG.debug("Stats Json: " + vtnStationStats.toString());
+		LOG.debug("Stats Json: %s", vtnStationStats.toString());
 		LOG.trace("Complete addVtnStationStatsData");
 	}
 
@@ -7289,7 +7274,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		ofController.add(VtnServiceJsonConsts.ALLTX, allTx);
-		LOG.debug("OPENFLOWCONTROLLER Json: " + ofController.toString());
+		LOG.debug("OPENFLOWCONTROLLER Json: %s", ofController.toString());
 		LOG.trace("Complete createOfControllerJson");
 		return ofController;
 	}
@@ -7634,7 +7619,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		ofNetwork.add(VtnServiceJsonConsts.EXPIREDDROPRX, expiredDropRx);
-		LOG.debug("OPENFLOWNW Json: " + ofNetwork.toString());
+		LOG.debug("OPENFLOWNW Json: %s", ofNetwork.toString());
 		LOG.trace("Complete createOfNetworkJson");
 		return ofNetwork;
 	}
@@ -7663,7 +7648,7 @@ public class IpcLogicalResponseFactory {
 		}
 
 		final String rootJsonName = VtnServiceJsonConsts.VTNSTATIONS;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vtnStation = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -7723,7 +7708,7 @@ public class IpcLogicalResponseFactory {
 						vtnStation.add(VtnServiceJsonConsts.IPADDRS,
 								ipaddrsArray);
 					}
-					LOG.debug("count of ipv4 address : " + ipv4_count);
+					LOG.debug("count of ipv4 address : %s", ipv4_count);
 
 				}
 				// for ipv6addrs parameter
@@ -7750,7 +7735,7 @@ public class IpcLogicalResponseFactory {
 						vtnStation.add(VtnServiceJsonConsts.IPV6ADDRS,
 								ipaddrsArray);
 					}
-					LOG.debug("count of ipv6 address : " + ipv6_count);
+					LOG.debug("count of ipv6 address : %s", ipv6_count);
 				}
 
 				// add current json object to array, if it has been initialized
@@ -7761,7 +7746,7 @@ public class IpcLogicalResponseFactory {
 			}
 			root.add(rootJsonName, vtnStationsArray);
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVtnStationResponse");
 		return root;
 	}
@@ -7792,7 +7777,7 @@ public class IpcLogicalResponseFactory {
 		String rootJsonName;
 
 		rootJsonName = VtnServiceJsonConsts.IPROUTES;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 
 		ipRouteArray = new JsonArray();
 
@@ -7829,7 +7814,7 @@ public class IpcLogicalResponseFactory {
 						.valueOf(IpcDataUnitWrapper
 								.getIpcDataUnitValue(responsePacket[VtnServiceConsts.IPC_COUNT_INDEX]));
 			}
-			LOG.debug("Count of value structure: " + count);
+			LOG.debug("Count of value structure: %s", count);
 			/*
 			 * moving from count to value structure parameter
 			 */
@@ -7995,7 +7980,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, ipRouteArray);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getIpRouteResponse");
 		return root;
 	}
@@ -8019,7 +8004,7 @@ public class IpcLogicalResponseFactory {
 		JsonArray vtnMappingArray = null;
 		JsonArray vtnMappingInfosJsonArray = null;
 
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		String rootJsonName;
 		/*
 		 * get type (show or list) will be required to resolve root json name
@@ -8032,7 +8017,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vtnMappingArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
@@ -8041,13 +8026,13 @@ public class IpcLogicalResponseFactory {
 
 		for (int index = 0; index < responsePacket.length; index++) {
 			vtnMapping = new JsonObject();
-			LOG.debug("initial index :" + index);
+			LOG.debug("initial index :%s", index);
 			// ignore key-type
 			index++;
 			/*
 			 * add mandatory informations from key structure
 			 */
-			LOG.debug("domainId index :" + index);
+			LOG.debug("domainId index :%s", index);
 			final IpcStruct keyVtnControllerStruct = (IpcStruct) responsePacket[index++];
 			final String controllerId = IpcDataUnitWrapper
 					.getIpcStructUint8ArrayValue(keyVtnControllerStruct,
@@ -8063,7 +8048,7 @@ public class IpcLogicalResponseFactory {
 					controllerId);
 			vtnMapping.addProperty(VtnServiceJsonConsts.DOMAINID, domainId);
 			// get count of value structure
-			LOG.debug("count index :" + index);
+			LOG.debug("count index :%s", index);
 			final int count = Integer.valueOf(IpcDataUnitWrapper
 					.getIpcDataUnitValue(responsePacket[index++]));
 
@@ -8082,7 +8067,7 @@ public class IpcLogicalResponseFactory {
 					/*
 					 * add valid informations from value structure
 					 */
-					LOG.debug("valVtnMappingStruct index :" + index);
+					LOG.debug("valVtnMappingStruct index :%s", index);
 					final IpcStruct valVtnMappingStruct = (IpcStruct) responsePacket[index++];
 					validBit = valVtnMappingStruct
 							.getByte(
@@ -8184,8 +8169,8 @@ public class IpcLogicalResponseFactory {
 									VtnServiceJsonConsts.TAGGED,
 									VtnServiceJsonConsts.FALSE);
 						}
-						LOG.debug("Tagged :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Tagged :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVtnMappingStruct,
 										VtnServiceIpcConsts.TAGGED));
 					}
@@ -8223,8 +8208,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("MapType : invalid");
 						}
-						LOG.debug("MapType :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("MapType :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVtnMappingStruct,
 										VtnServiceIpcConsts.MAP_TYPE));
 
@@ -8321,13 +8306,13 @@ public class IpcLogicalResponseFactory {
 		 * return the same.
 		 */
 		if (null != vtnMappingArray) {
-			LOG.debug("List VTN Mapping JSON :" + vtnMappingArray);
+			LOG.debug("List VTN Mapping JSON :%s", vtnMappingArray);
 			root.add(rootJsonName, vtnMappingArray);
 		} else {
-			LOG.debug("Show VTN Mapping JSON :" + vtnMapping);
+			LOG.debug("Show VTN Mapping JSON :%s", vtnMapping);
 			root.add(rootJsonName, vtnMapping);
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVtnMappingResponse");
 
 		return root;
@@ -8354,7 +8339,7 @@ public class IpcLogicalResponseFactory {
 
 			for (int i = 0; i < totalFlowCount; i++) {
 				final IpcStruct valVtnDataFlowStruct = (IpcStruct) responsePacket[index++];
-				LOG.debug("totalFlowCount:" + totalFlowCount);
+				LOG.debug("totalFlowCount:%s", totalFlowCount);
 				final JsonObject vtnDataflow = new JsonObject();
 				byte validBit = 0;
 				validBit = valVtnDataFlowStruct
@@ -8400,7 +8385,7 @@ public class IpcLogicalResponseFactory {
 						// assigning reason field in dataflow Json
 						setValueToJsonObject(validBit, vtnDataflow,
 								VtnServiceJsonConsts.REASON, reasonForJson);
-						LOG.debug("reason:" + reasonForJson);
+						LOG.debug("reason:%s", reasonForJson);
 					}
 				}
 				final JsonArray ctrlDomainDataFlowArray = new JsonArray();
@@ -8418,8 +8403,7 @@ public class IpcLogicalResponseFactory {
 									.getIpcStructUint32Value(
 											valVtnDataFlowStruct,
 											VtnServiceIpcConsts.CONTROLLER_DOMAIN_COUNT));
-					LOG.debug("Controller Domain Count:"
-							+ controllerDomainCount);
+					LOG.debug("Controller Domain Count:%s", controllerDomainCount);
 
 					for (int j = 0; j < controllerDomainCount; j++) {
 						final AtomicInteger atomicIndex = new AtomicInteger(
@@ -8434,14 +8418,14 @@ public class IpcLogicalResponseFactory {
 					vtnDataflow.add(
 							VtnServiceJsonConsts.CONTROLLER_DOMAIN_DATAFLOWS,
 							ctrlDomainDataFlowArray);
-					LOG.debug("VTN Data Flow Json:" + vtnDataflow);
+					LOG.debug("VTN Data Flow Json:%s", vtnDataflow);
 				}
 				vtnDataFlowArray.add(vtnDataflow);
-				LOG.debug("vtn dataFlowArray Json:" + vtnDataFlowArray);
+				LOG.debug("vtn dataFlowArray Json:%s", vtnDataFlowArray);
 			}
 		}
 		root.add(VtnServiceJsonConsts.DATAFLOWS, vtnDataFlowArray);
-		LOG.debug("root Json :" + root);
+		LOG.debug("root Json :%s", root);
 		LOG.trace("Complete getVtnDataFlowResponse");
 		return root;
 
@@ -8529,8 +8513,8 @@ public class IpcLogicalResponseFactory {
 			} else {
 				LOG.info("Controller Type invalid");
 			}
-			LOG.debug("Controller Type :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Controller Type :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valVtnDataFlowCmnStruct,
 							VtnServiceIpcConsts.CONTROLER_TYPE));
 		}
@@ -8818,8 +8802,7 @@ public class IpcLogicalResponseFactory {
 					VtnServiceJsonConsts.ACTION,
 					getDataFlowActionInfo(responsePacket, index,
 							controllerDomainFlow, valVtnDataFlowCmnStruct));
-			LOG.debug(" Controller domain data flow Json :"
-					+ controllerDomainFlow);
+			LOG.debug(" Controller domain data flow Json :%s", controllerDomainFlow);
 		}
 
 		validBit = valVtnDataFlowCmnStruct
@@ -8836,8 +8819,7 @@ public class IpcLogicalResponseFactory {
 					VtnServiceJsonConsts.PATHINFOS,
 					getDataFlowPathInfo(responsePacket, index,
 							valVtnDataFlowCmnStruct));
-			LOG.debug(" Controller domain data flow Json :"
-					+ controllerDomainFlow);
+			LOG.debug(" Controller domain data flow Json :%s", controllerDomainFlow);
 		}
 		LOG.trace("getControllerDomainDataFlow completed");
 		return controllerDomainFlow;
@@ -8858,7 +8840,7 @@ public class IpcLogicalResponseFactory {
 		final int pathInfoCount = Integer.parseInt(IpcDataUnitWrapper
 				.getIpcStructUint32Value(valVtnDataFlowCmnStruct,
 						VtnServiceIpcConsts.PATH_INFO_COUNT));
-		LOG.debug("path_info_count:" + pathInfoCount);
+		LOG.debug("path_info_count:%s", pathInfoCount);
 		for (int k = 0; k < pathInfoCount; k++) {
 			final JsonObject pathInfoBoundry = new JsonObject();
 			byte validBit;
@@ -8984,7 +8966,7 @@ public class IpcLogicalResponseFactory {
 			pathInfoArray.add(pathInfoBoundry);
 
 		}
-		LOG.debug("pathInfoArray Json:" + pathInfoArray);
+		LOG.debug("pathInfoArray Json:%s", pathInfoArray);
 		LOG.trace("getDataFlowPathInfo completed");
 		return pathInfoArray;
 	}
@@ -9005,7 +8987,7 @@ public class IpcLogicalResponseFactory {
 		final int matchCount = Integer.parseInt(IpcDataUnitWrapper
 				.getIpcStructUint32Value(valDfDataFlowCmnStruct,
 						VtnServiceIpcConsts.MATCH_COUNT));
-		LOG.debug("MATCH_COUNT:" + matchCount);
+		LOG.debug("MATCH_COUNT:%s", matchCount);
 		// match JsonObject will hold all below jsonObject as per requiremnts
 		final JsonObject match = new JsonObject();
 
@@ -9039,7 +9021,7 @@ public class IpcLogicalResponseFactory {
 			final int matchtype = Integer.parseInt(IpcDataUnitWrapper
 					.getIpcStructUint32Value(valDfFlowMatchStruct,
 							VtnServiceIpcConsts.MATCH_TYPE));
-			LOG.debug("MATCH TYPE:" + matchtype);
+			LOG.debug("MATCH TYPE:%s", matchtype);
 			// match type will help in resolving response in match info
 			if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IN_PORT
 					.ordinal()) {
@@ -9054,7 +9036,7 @@ public class IpcLogicalResponseFactory {
 					inportJsonArray = new JsonArray();
 				}
 				inportJsonArray.add(element);
-				LOG.debug("set validBit for in_port :" + validBit);
+				LOG.debug("set validBit for in_port :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_DL_DST
 					.ordinal()) {
@@ -9067,7 +9049,7 @@ public class IpcLogicalResponseFactory {
 					dstMacJsonArray = new JsonArray();
 				}
 				dstMacJsonArray.add(element);
-				LOG.debug("set validbit for macdst :" + validBit);
+				LOG.debug("set validbit for macdst :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchDlAddr, VtnServiceIpcConsts.V_MASK);
@@ -9082,7 +9064,7 @@ public class IpcLogicalResponseFactory {
 						dstMaskJsonArray = new JsonArray();
 					}
 					dstMaskJsonArray.add(element);
-					LOG.debug("set validbit for macdst :" + validBit);
+					LOG.debug("set validbit for macdst :%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_DL_SRC
 					.ordinal()) {
@@ -9096,7 +9078,7 @@ public class IpcLogicalResponseFactory {
 					srcMacJsonArray = new JsonArray();
 				}
 				srcMacJsonArray.add(element);
-				LOG.debug("set validbit for macsrc  :" + validBit);
+				LOG.debug("set validbit for macsrc  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchDlAddr, VtnServiceIpcConsts.V_MASK);
@@ -9111,7 +9093,7 @@ public class IpcLogicalResponseFactory {
 						srcMaskJsonArray = new JsonArray();
 					}
 					srcMaskJsonArray.add(element);
-					LOG.debug("set validbit for macdst  :" + validBit);
+					LOG.debug("set validbit for macdst  :%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_DL_TYPE
 					.ordinal()) {
@@ -9124,7 +9106,7 @@ public class IpcLogicalResponseFactory {
 					macEtherTypeJsonArray = new JsonArray();
 				}
 				macEtherTypeJsonArray.add(element);
-				LOG.debug("set validbit for etherntype :" + validBit);
+				LOG.debug("set validbit for etherntype :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_VLAN_ID
 					.ordinal()) {
@@ -9145,7 +9127,7 @@ public class IpcLogicalResponseFactory {
 					vlanIdJsonArray.add(element);
 				}
 
-				LOG.debug("set validbit for vlan_id  :" + validBit);
+				LOG.debug("set validbit for vlan_id  :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_VLAN_PCP
 					.ordinal()) {
@@ -9159,7 +9141,7 @@ public class IpcLogicalResponseFactory {
 					vlanPriorityJsonArray = new JsonArray();
 				}
 				vlanPriorityJsonArray.add(element);
-				LOG.debug("set validbit for vlanpriority  :" + validBit);
+				LOG.debug("set validbit for vlanpriority  :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IP_TOS
 					.ordinal()) {
@@ -9176,7 +9158,7 @@ public class IpcLogicalResponseFactory {
 					ipTosJsonArray = new JsonArray();
 				}
 				ipTosJsonArray.add(element);
-				LOG.debug("set validbit for iptos :" + validBit);
+				LOG.debug("set validbit for iptos :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IP_PROTO
 					.ordinal()) {
@@ -9191,7 +9173,7 @@ public class IpcLogicalResponseFactory {
 					ipProtoJsonArray = new JsonArray();
 				}
 				ipProtoJsonArray.add(element);
-				LOG.debug("set validbit for  ipproto :" + validBit);
+				LOG.debug("set validbit for  ipproto :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV4_SRC
 					.ordinal()) {
@@ -9205,7 +9187,7 @@ public class IpcLogicalResponseFactory {
 					ipSrcAddrJsonArray = new JsonArray();
 				}
 				ipSrcAddrJsonArray.add(element);
-				LOG.debug("set validbit for ipsrc :" + validBit);
+				LOG.debug("set validbit for ipsrc :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchIpv4Addr, VtnServiceIpcConsts.V_MASK);
@@ -9220,7 +9202,7 @@ public class IpcLogicalResponseFactory {
 
 					}
 					ipSrcAddrMaskJsonArray.add(element);
-					LOG.debug("set validBit for ipv4_mask:" + validBit);
+					LOG.debug("set validBit for ipv4_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV4_DST
 					.ordinal()) {
@@ -9234,7 +9216,7 @@ public class IpcLogicalResponseFactory {
 					ipDstAddrJsonArray = new JsonArray();
 				}
 				ipDstAddrJsonArray.add(element);
-				LOG.debug("set validbit for ipdst  :" + validBit);
+				LOG.debug("set validbit for ipdst  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchIpv4Addr, VtnServiceIpcConsts.V_MASK);
@@ -9248,7 +9230,7 @@ public class IpcLogicalResponseFactory {
 						ipDstAddrMaskJsonArray = new JsonArray();
 					}
 					ipDstAddrMaskJsonArray.add(element);
-					LOG.debug("set validbit for ipv4_mask:" + validBit);
+					LOG.debug("set validbit for ipv4_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV6_SRC
 					.ordinal()) {
@@ -9263,7 +9245,7 @@ public class IpcLogicalResponseFactory {
 					ipV6SrcAddrJsonArray = new JsonArray();
 				}
 				ipV6SrcAddrJsonArray.add(element);
-				LOG.debug("set validbit for ipv6src  :" + validBit);
+				LOG.debug("set validbit for ipv6src  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valdfflowmatchIpv6Addr, VtnServiceIpcConsts.V_MASK);
@@ -9278,7 +9260,7 @@ public class IpcLogicalResponseFactory {
 						ipV6SrcAddrMaskJsonArray = new JsonArray();
 					}
 					ipV6SrcAddrMaskJsonArray.add(element);
-					LOG.debug("set validbit for ipv6_mask:" + validBit);
+					LOG.debug("set validbit for ipv6_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV6_DST
 					.ordinal()) {
@@ -9293,7 +9275,7 @@ public class IpcLogicalResponseFactory {
 					ipV6DstAddJsonArray = new JsonArray();
 				}
 				ipV6DstAddJsonArray.add(element);
-				LOG.debug("set validbit for ipv6dst  :" + validBit);
+				LOG.debug("set validbit for ipv6dst  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valdfflowmatchIpv6Addr, VtnServiceIpcConsts.V_MASK);
@@ -9308,7 +9290,7 @@ public class IpcLogicalResponseFactory {
 						ipV6DstAddrMaskJsonArray = new JsonArray();
 					}
 					ipV6DstAddrMaskJsonArray.add(element);
-					LOG.debug("set validbit for ipv6_mask:" + validBit);
+					LOG.debug("set validbit for ipv6_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_TP_SRC
 					.ordinal()) {
@@ -9324,7 +9306,7 @@ public class IpcLogicalResponseFactory {
 				}
 				l4SrcPortIcmpTypeJsonArray.add(element);
 
-				LOG.debug("set validbit for tpsrc :" + validBit);
+				LOG.debug("set validbit for tpsrc :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchTpPort, VtnServiceIpcConsts.V_MASK);
@@ -9340,7 +9322,7 @@ public class IpcLogicalResponseFactory {
 						l4SrcPortIcmpTypeMaskJsonArray = new JsonArray();
 					}
 					l4SrcPortIcmpTypeMaskJsonArray.add(element);
-					LOG.debug("set validbit for tpsrcmask :" + validBit);
+					LOG.debug("set validbit for tpsrcmask :%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_TP_DST
 					.ordinal()) {
@@ -9355,7 +9337,7 @@ public class IpcLogicalResponseFactory {
 					l4DstPortIcmpTypeJsonArray = new JsonArray();
 				}
 				l4DstPortIcmpTypeJsonArray.add(element);
-				LOG.debug("set validbit for tpdst  :" + validBit);
+				LOG.debug("set validbit for tpdst  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchTpPort, VtnServiceIpcConsts.V_MASK);
@@ -9451,7 +9433,7 @@ public class IpcLogicalResponseFactory {
 			match.add(VtnServiceJsonConsts.L4DSTPORT_ICMPTYPE_MASK,
 					l4DstPortIcmpTypeMaskJsonArray);
 		}
-		LOG.debug("match Json :" + match);
+		LOG.debug("match Json :%s", match);
 		LOG.trace("getDataFlowMatchInfo completed");
 		return match;
 	}
@@ -9472,7 +9454,7 @@ public class IpcLogicalResponseFactory {
 		final int actionCount = Integer.parseInt(IpcDataUnitWrapper
 				.getIpcStructUint32Value(valVtnDataFlowCmnStruct,
 						VtnServiceIpcConsts.ACTION_COUNT));
-		LOG.debug("acount_count:" + actionCount);
+		LOG.debug("acount_count:%s", actionCount);
 		final JsonObject action = new JsonObject();
 		JsonArray outputPortJsonArray = null;
 		JsonArray enqueuePortJsonArray = null;
@@ -9499,7 +9481,7 @@ public class IpcLogicalResponseFactory {
 			actionType = Integer.parseInt(IpcDataUnitWrapper
 					.getIpcStructUint32Value(valDataFlowAction,
 							VtnServiceIpcConsts.ACTION_TYPE));
-			LOG.debug("actiontype :" + actionType);
+			LOG.debug("actiontype :%s", actionType);
 			if (actionType == UncStructIndexEnum.UncDataflowFlowActionType.UNC_ACTION_OUTPUT
 					.ordinal()) {
 
@@ -9757,7 +9739,7 @@ public class IpcLogicalResponseFactory {
 			action.add(VtnServiceJsonConsts.SETIPV6SRCADDR,
 					setIpv6SrcAddrJsonArray);
 		}
-		LOG.debug("action json:" + action);
+		LOG.debug("action json:%s", action);
 		return action;
 	}
 
@@ -9776,7 +9758,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 
 		final String rootJsonName = VtnServiceJsonConsts.FLOWFILTER;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vTerminalIFflowFilter = null;
 		for (int index = 0; index < responsePacket.length; index++) {
 
@@ -9796,8 +9778,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				vTerminalIFflowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.IN);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVTerminalIfFlowFilter,
 								VtnServiceIpcConsts.DIRECTION));
 			} else if (IpcDataUnitWrapper
@@ -9807,8 +9789,8 @@ public class IpcLogicalResponseFactory {
 							.getValue())) {
 				vTerminalIFflowFilter.addProperty(VtnServiceJsonConsts.FFTYPE,
 						VtnServiceJsonConsts.OUT);
-				LOG.debug("FF Type :"
-						+ IpcDataUnitWrapper.getIpcStructUint8Value(
+				LOG.debug("FF Type :%s",
+						IpcDataUnitWrapper.getIpcStructUint8Value(
 								keyVTerminalIfFlowFilter,
 								VtnServiceIpcConsts.DIRECTION));
 			} else {
@@ -9820,7 +9802,7 @@ public class IpcLogicalResponseFactory {
 		 * finally add single object to root json object and return the same.
 		 */
 		root.add(rootJsonName, vTerminalIFflowFilter);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTerminalInterfaceFlowFilterResponse");
 		return root;
 	}
@@ -9839,7 +9821,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTerminalInterfaceFlowFilterEntryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vTermIfFlowFilterEntryArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -9867,7 +9849,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vTermIfFlowFilterEntryArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vTermIfFlowFilterEntry = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -9971,8 +9953,8 @@ public class IpcLogicalResponseFactory {
 									VtnServiceJsonConsts.ACTIONTYPE,
 									VtnServiceJsonConsts.REDIRECT);
 						}
-						LOG.debug("Action type :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Action type :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.ACTION));
 					}
@@ -10083,8 +10065,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Direction : Invalid");
 						}
-						LOG.debug("Direction :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Direction :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valFlowFilterEntryStruct,
 										VtnServiceIpcConsts.REDIRECTDIRECTION));
 					}
@@ -10199,7 +10181,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vTermIfFlowFilterEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTerminalInterfaceFlowFilterEntryResponse");
 
 		return root;
@@ -10218,7 +10200,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTerminalResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vterminalsArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -10248,7 +10230,7 @@ public class IpcLogicalResponseFactory {
 			vterminalsArray = new JsonArray();
 
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vterminal = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -10382,11 +10364,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVtnStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVtnStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 
 					}
@@ -10414,7 +10395,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vterminal);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTerminalResponse");
 
 		return root;
@@ -10434,7 +10415,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getVTerminalInterfaceResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray vTermInterfaceArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -10458,7 +10439,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			vTermInterfaceArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject vTermInterface = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -10543,8 +10524,8 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Adminstatus : Invalid");
 						}
-						LOG.debug("Adminstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Adminstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valVTermInterfaceStruct,
 										VtnServiceIpcConsts.ADMIN_STATUS));
 					}
@@ -10587,11 +10568,10 @@ public class IpcLogicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : Invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valVbrIfStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valVbrIfStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					}
 				} else {
@@ -10619,7 +10599,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, vTermInterface);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getVTerminalInterfaceResponse");
 
 		return root;
@@ -10639,7 +10619,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getPolicingProfileResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray policingProfileJsonArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 
 		// operation type will be required to resolve the response type
 		String opType = VtnServiceJsonConsts.NORMAL;
@@ -10656,7 +10636,7 @@ public class IpcLogicalResponseFactory {
 			rootJsonName = VtnServiceJsonConsts.POLICINGPROFILES;
 		}
 
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject policingProfileJsonObj = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			policingProfileJsonObj = new JsonObject();
@@ -10694,7 +10674,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, policingProfileJsonObj);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getPolicingProfileResponse");
 		return root;
 	}
@@ -10713,7 +10693,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getPolicingProfileEntryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray profileEntriesJsonArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -10730,7 +10710,7 @@ public class IpcLogicalResponseFactory {
 			// json array will be required for list type of cases
 			profileEntriesJsonArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject profileEntryJson = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -10816,7 +10796,7 @@ public class IpcLogicalResponseFactory {
 						} else {
 							LOG.debug("Invalid value of rate");
 						}
-						LOG.debug("rate :" + rate);
+						LOG.debug("rate :%s", rate);
 					}
 
 					// cir parameter of Ipc Struct
@@ -10962,7 +10942,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, profileEntryJson);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getPolicingProfileEntryResponse");
 		return root;
 	}
@@ -11108,7 +11088,7 @@ public class IpcLogicalResponseFactory {
 		}
 		root.add(VtnServiceJsonConsts.POLICINGMAP, policingmapJson);
 		LOG.trace("Start getVtnPolicingMapResponse()");
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		return root;
 	}
 
@@ -11128,7 +11108,7 @@ public class IpcLogicalResponseFactory {
 		final JsonObject root = new JsonObject();
 		JsonObject policingMapJsonObject = new JsonObject();
 
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		// set default valiue of op, if not set
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
@@ -11167,7 +11147,7 @@ public class IpcLogicalResponseFactory {
 					opType);
 		}
 		root.add(VtnServiceJsonConsts.POLICINGMAP, policingMapJsonObject);
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getPolicingMapResponse");
 		return root;
 	}
@@ -11518,7 +11498,7 @@ public class IpcLogicalResponseFactory {
 		LOG.trace("Start getPathMapEntryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray pathMapEntriesJsonArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		// operation type will be required to resolve the response type
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
@@ -11534,7 +11514,7 @@ public class IpcLogicalResponseFactory {
 			pathMapEntriesJsonArray = new JsonArray();
 			rootJsonName = VtnServiceJsonConsts.PATHMAPENTRIES;
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject pathMapEntryJsonObj = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			pathMapEntryJsonObj = new JsonObject();
@@ -11611,7 +11591,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, pathMapEntryJsonObj);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getPathMapEntryResponse");
 		return root;
 	}
@@ -11632,7 +11612,7 @@ public class IpcLogicalResponseFactory {
 		/*
 		 * op type will be required to resolve the response type
 		 */
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		String opType = VtnServiceJsonConsts.NORMAL;
 		if (requestBody.has(VtnServiceJsonConsts.OP)) {
 			opType = requestBody.get(VtnServiceJsonConsts.OP).getAsString();
@@ -11658,7 +11638,7 @@ public class IpcLogicalResponseFactory {
 			pPolicyEntryArray = new JsonArray();
 		}
 
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject pPolicyEntry = null;
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
@@ -11917,7 +11897,7 @@ public class IpcLogicalResponseFactory {
 				root.add(rootJsonName, pPolicyEntry);
 			}
 		}
-		LOG.debug("response Json: " + root.toString());
+		LOG.debug("response Json: %s", root.toString());
 		LOG.trace("Complete getPathPolicyEntryResponse()");
 		return root;
 	}
@@ -12103,7 +12083,7 @@ public class IpcLogicalResponseFactory {
 		statisticsFFJson.add(VtnServiceJsonConsts.TOTAL, totalFFJson);
 		targetJson.add(VtnServiceJsonConsts.STATISTICS, statisticsFFJson);
 
-		LOG.debug("statics Json for policy-entry: " + targetJson.toString());
+		LOG.debug("statics Json for policy-entry: %s", targetJson.toString());
 		LOG.trace("complete getPolicyEntryPomStats");
 	}
 }
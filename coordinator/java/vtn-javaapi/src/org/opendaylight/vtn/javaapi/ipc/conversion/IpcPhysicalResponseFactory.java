@@ -49,7 +49,7 @@ public class IpcPhysicalResponseFactory {
 		LOG.trace("Start getDomainResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray domainsArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -77,7 +77,7 @@ public class IpcPhysicalResponseFactory {
 			// json array will be required for list type of cases
 			domainsArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject domain = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -179,11 +179,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valCtrDomainStSruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valCtrDomainStSruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					} else {
 						getValCtrDomainStruct(domain, valCtrDomainStruct);
@@ -209,7 +208,7 @@ public class IpcPhysicalResponseFactory {
 				root.add(rootJsonName, domain);
 			}
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getDomainResponse");
 		return root;
 	}
@@ -253,8 +252,8 @@ public class IpcPhysicalResponseFactory {
 			} else {
 				LOG.debug("Type : invalid");
 			}
-			LOG.debug("Type :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Type :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valCtrDomainStruct, VtnServiceIpcConsts.TYPE));
 		}
 		validBit = valCtrDomainStruct
@@ -272,7 +271,7 @@ public class IpcPhysicalResponseFactory {
 							.getIpcStructUint8ArrayValue(valCtrDomainStruct,
 									VtnServiceIpcConsts.DESCRIPTION));
 		}
-		LOG.debug("ValCtrDomainStruct response Json: " + domain.toString());
+		LOG.debug("ValCtrDomainStruct response Json: %s", domain.toString());
 		LOG.trace("Complete getValCtrDomainStruct");
 	}
 
@@ -292,7 +291,7 @@ public class IpcPhysicalResponseFactory {
 		LOG.trace("Start getBoundaryResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray boundaryArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -320,7 +319,7 @@ public class IpcPhysicalResponseFactory {
 			// json array will be required for list type of cases
 			boundaryArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject boundary = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -415,11 +414,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valBoundaryStSruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valBoundaryStSruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					} else {
 						getValBoundaryStruct(boundary, valBoundaryStruct);
@@ -444,7 +442,7 @@ public class IpcPhysicalResponseFactory {
 				root.add(rootJsonName, boundary);
 			}
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getBoundaryResponse");
 		return root;
 	}
@@ -567,7 +565,7 @@ public class IpcPhysicalResponseFactory {
 							VtnServiceIpcConsts.LOGICALPORTID2));
 		}
 		boundary.add(linkJsonName, link);
-		LOG.debug("boundary Json: " + boundary.toString());
+		LOG.debug("boundary Json: %s", boundary.toString());
 		LOG.trace("Complete getValBoundaryStruct");
 	}
 
@@ -583,7 +581,7 @@ public class IpcPhysicalResponseFactory {
 		LOG.trace("Start getControllerResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray ControllerArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -611,7 +609,7 @@ public class IpcPhysicalResponseFactory {
 			// json array will be required for list type of cases
 			ControllerArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject controller = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -739,11 +737,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valControllerStSruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valControllerStSruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					} else {
 						// added in case target db is not state
@@ -770,7 +767,7 @@ public class IpcPhysicalResponseFactory {
 				root.add(rootJsonName, controller);
 			}
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getControllerResponse");
 		return root;
 	}
@@ -855,8 +852,8 @@ public class IpcPhysicalResponseFactory {
 			} else {
 				LOG.info("Type : invalid");
 			}
-			LOG.debug("Type :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Type :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valControllerStruct, VtnServiceIpcConsts.TYPE));
 		}
 		validBit = valControllerStruct.getByte(VtnServiceIpcConsts.VALID,
@@ -887,8 +884,8 @@ public class IpcPhysicalResponseFactory {
 			} else {
 				LOG.debug("Auditstatus : invalid");
 			}
-			LOG.debug("Auditstatus :"
-					+ IpcDataUnitWrapper.getIpcStructUint8Value(
+			LOG.debug("Auditstatus :%s",
+					IpcDataUnitWrapper.getIpcStructUint8Value(
 							valControllerStruct,
 							VtnServiceIpcConsts.ENABLE_AUDIT));
 		}
@@ -965,7 +962,7 @@ public class IpcPhysicalResponseFactory {
 		final JsonObject root = new JsonObject();
 		JsonObject switchPort = null;
 		final JsonArray switchPortArray = new JsonArray();
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
 			 * Create Json for Count
@@ -1120,11 +1117,10 @@ public class IpcPhysicalResponseFactory {
 								} else {
 									LOG.debug("Adminstatus : invalid");
 								}
-								LOG.debug("AdminStatus :"
-										+ IpcDataUnitWrapper
-												.getIpcStructUint8Value(
-														valPortStruct,
-														VtnServiceJsonConsts.ADMIN_STATUS));
+								LOG.debug("AdminStatus :%s",
+										IpcDataUnitWrapper.getIpcStructUint8Value(
+												valPortStruct,
+												VtnServiceJsonConsts.ADMIN_STATUS));
 							}
 							validBit = valPortStruct
 									.getByte(
@@ -1187,11 +1183,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valPortStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valPortStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 						validBit = valPortStStruct
 								.getByte(
@@ -1257,11 +1252,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Duplex : invalid");
 							}
-							LOG.debug("Duplex :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valPortStStruct,
-													VtnServiceIpcConsts.DUPLEX));
+							LOG.debug("Duplex :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valPortStStruct,
+											VtnServiceIpcConsts.DUPLEX));
 						}
 						validBit = valPortStStruct
 								.getByte(
@@ -1324,11 +1318,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Direction : invalid");
 							}
-							LOG.debug("Direction :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valPortStStruct,
-													VtnServiceIpcConsts.DIRECTION));
+							LOG.debug("Direction :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valPortStStruct,
+											VtnServiceIpcConsts.DIRECTION));
 						}
 						validBit = valPortStStruct
 								.getByte(
@@ -1367,7 +1360,7 @@ public class IpcPhysicalResponseFactory {
 			 */
 			root.add(rootJsonName, switchPortArray);
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getSwitchPortResponse");
 		return root;
 	}
@@ -1551,7 +1544,7 @@ public class IpcPhysicalResponseFactory {
 					IpcDataUnitWrapper.getIpcStructUint64Value(valPortStats,
 							VtnServiceIpcConsts.COLLISIONS));
 		}
-		LOG.debug("Statistics Json: " + switchPortStats.toString());
+		LOG.debug("Statistics Json: %s", switchPortStats.toString());
 		LOG.trace("Complete createPortStatisticsJson");
 		return switchPortStats;
 	}
@@ -1576,7 +1569,7 @@ public class IpcPhysicalResponseFactory {
 		byte validBit;
 		if (responsePacket != null && responsePacket.length > 0) {
 			IpcStruct valPortStNeighbourStruct = null;
-			LOG.debug("getType: " + getType);
+			LOG.debug("getType: %s", getType);
 			// skipping key type
 			LOG.debug("Skip key type: no use");
 			index++;
@@ -1621,7 +1614,7 @@ public class IpcPhysicalResponseFactory {
 		} else {
 			switchPort.add(VtnServiceJsonConsts.NEIGHBOR, switchPortNeighbour);
 		}
-		LOG.debug("Response Json: " + switchPort.toString());
+		LOG.debug("Response Json: %s", switchPort.toString());
 		LOG.trace("Complete getSwitchPortMemberResponse");
 		return switchPort;
 	}
@@ -1664,7 +1657,7 @@ public class IpcPhysicalResponseFactory {
 			opType = requestBody.get(VtnServiceJsonConsts.OP).getAsString();
 		}
 		final String rootJsonName = VtnServiceJsonConsts.LINKS;
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject links = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -1804,8 +1797,8 @@ public class IpcPhysicalResponseFactory {
 						} else {
 							LOG.debug("Operstatus : invalid");
 						}
-						LOG.debug("Operstatus :"
-								+ IpcDataUnitWrapper.getIpcStructUint8Value(
+						LOG.debug("Operstatus :%s",
+								IpcDataUnitWrapper.getIpcStructUint8Value(
 										valLinkStStruct,
 										VtnServiceIpcConsts.OPERSTATUS));
 					}
@@ -1821,7 +1814,7 @@ public class IpcPhysicalResponseFactory {
 			 */
 			root.add(rootJsonName, linksArray);
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getLinkResponse");
 		return root;
 	}
@@ -1869,7 +1862,7 @@ public class IpcPhysicalResponseFactory {
 		LOG.trace("Start getSwitchResponse");
 		final JsonObject root = new JsonObject();
 		JsonArray switchesArray = null;
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -1889,7 +1882,7 @@ public class IpcPhysicalResponseFactory {
 			// json array will be required for list type of cases
 			switchesArray = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		JsonObject switches = null;
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			/*
@@ -2053,11 +2046,10 @@ public class IpcPhysicalResponseFactory {
 								} else {
 									LOG.debug("Adminstatus : invalid");
 								}
-								LOG.debug("Adminstatus :"
-										+ IpcDataUnitWrapper
-												.getIpcStructUint8Value(
-														valSwitchStruct,
-														VtnServiceJsonConsts.ADMIN_STATUS));
+								LOG.debug("Adminstatus :%s",
+										IpcDataUnitWrapper.getIpcStructUint8Value(
+												valSwitchStruct,
+												VtnServiceJsonConsts.ADMIN_STATUS));
 							}
 							validBit = valSwitchStruct
 									.getByte(
@@ -2154,11 +2146,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valSwitchStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valSwitchStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 						validBit = valSwitchStStruct
 								.getByte(
@@ -2258,7 +2249,7 @@ public class IpcPhysicalResponseFactory {
 				root.add(rootJsonName, switches);
 			}
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getSwitchResponse");
 		return root;
 	}
@@ -2302,7 +2293,7 @@ public class IpcPhysicalResponseFactory {
 		final String rootJsonName = VtnServiceJsonConsts.LOGICALPORTS;
 		final JsonArray logicalPortsArray = new JsonArray();
 		final JsonObject root = new JsonObject();
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 		String dataType = VtnServiceJsonConsts.STATE;
 		if (requestBody.has(VtnServiceJsonConsts.TARGETDB)
 				&& null != requestBody.get(VtnServiceJsonConsts.TARGETDB)) {
@@ -2440,11 +2431,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("PortType : invalid");
 							}
-							LOG.debug("PortType :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valLogicalPortStruct,
-													VtnServiceIpcConsts.PORTTYPE));
+							LOG.debug("PortType :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valLogicalPortStruct,
+											VtnServiceIpcConsts.PORTTYPE));
 						}
 						validBit = valLogicalPortStruct
 								.getByte(
@@ -2514,11 +2504,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("OperDown Criteria : invalid");
 							}
-							LOG.debug("OperDown Criteria :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valLogicalPortStruct,
-													VtnServiceIpcConsts.OPERDOWNCRITERIA));
+							LOG.debug("OperDown Criteria :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valLogicalPortStruct,
+											VtnServiceIpcConsts.OPERDOWNCRITERIA));
 						}
 						// from logical port st structure
 						validBit = valLogicalPortStStruct
@@ -2563,11 +2552,10 @@ public class IpcPhysicalResponseFactory {
 							} else {
 								LOG.debug("Operstatus : invalid");
 							}
-							LOG.debug("Operstatus :"
-									+ IpcDataUnitWrapper
-											.getIpcStructUint8Value(
-													valLogicalPortStStruct,
-													VtnServiceIpcConsts.OPERSTATUS));
+							LOG.debug("Operstatus :%s",
+									IpcDataUnitWrapper.getIpcStructUint8Value(
+											valLogicalPortStStruct,
+											VtnServiceIpcConsts.OPERSTATUS));
 						}
 					} else {
 						LOG.debug("Operation : normal Skip value struture");
@@ -2583,7 +2571,7 @@ public class IpcPhysicalResponseFactory {
 			 */
 			root.add(rootJsonName, logicalPortsArray);
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getDomainLogicalPortResponse");
 		return root;
 	}
@@ -2621,7 +2609,7 @@ public class IpcPhysicalResponseFactory {
 
 			membersArray.add(member);
 		}
-		LOG.debug("Member Json: " + membersArray.toString());
+		LOG.debug("Member Json: %s", membersArray.toString());
 		LOG.trace("Complete getDomainLogicalPortMemberResponse");
 		return membersArray;
 	}
@@ -2641,7 +2629,7 @@ public class IpcPhysicalResponseFactory {
 		final JsonObject root = new JsonObject();
 		final JsonArray dataFlowArray = new JsonArray();
 		if (responsePacket.length != 0) {
-			LOG.debug("get Type:" + getType);
+			LOG.debug("get Type:%s", getType);
 			// key type and key structure are not used
 			int index = 2;
 			// nElements(nElems) parameter for Total number of data flow
@@ -2649,7 +2637,7 @@ public class IpcPhysicalResponseFactory {
 			// contained in this responsePacket
 			final int nElements = Integer.parseInt(IpcDataUnitWrapper
 					.getIpcDataUnitValue(responsePacket[index++]));
-			LOG.debug("nElements:" + nElements);
+			LOG.debug("nElements:%s", nElements);
 			for (int i = 0; i < nElements; i++) {
 				// getting value of dataflowStruct form response packet
 				final IpcStruct valDfDataFlowStruct = (IpcStruct) responsePacket[index++];
@@ -2700,9 +2688,9 @@ public class IpcPhysicalResponseFactory {
 					// assigning reason field in dataflow Json
 					setValueToJsonObject(validBit, dataflow,
 							VtnServiceJsonConsts.REASON, reasonForJson);
-					LOG.debug("reason:" + reasonForJson);
+					LOG.debug("reason:%s", reasonForJson);
 				}
-				LOG.debug("validBit for reason:" + validBit);
+				LOG.debug("validBit for reason:%s", validBit);
 
 				final JsonArray controlFlowArray = new JsonArray();
 				validBit = valDfDataFlowStruct
@@ -2722,7 +2710,7 @@ public class IpcPhysicalResponseFactory {
 									.getIpcStructUint32Value(
 											valDfDataFlowStruct,
 											VtnServiceIpcConsts.CONTROLLER_COUNT));
-					LOG.debug("Controller Count:" + controllerCount);
+					LOG.debug("Controller Count:%s", controllerCount);
 					for (int j = 0; j < controllerCount; j++) {
 						final AtomicInteger a = new AtomicInteger(index);
 						controlFlowArray.add(getControllerDataFlow(
@@ -2732,15 +2720,15 @@ public class IpcPhysicalResponseFactory {
 					// adding controller flow json array to dataflow Json
 					dataflow.add(VtnServiceJsonConsts.CONTROLLER_DATAFLOWS,
 							controlFlowArray);
-					LOG.debug("dataflow Json:" + dataflow);
+					LOG.debug("dataflow Json:%s", dataflow);
 				}
 				// adding dataflow json to dataflowJson array
 				dataFlowArray.add(dataflow);
-				LOG.debug("dataFlowArray Json:" + dataFlowArray);
+				LOG.debug("dataFlowArray Json:%s", dataFlowArray);
 			}
 		}
 		root.add(VtnServiceJsonConsts.DATAFLOWS, dataFlowArray);
-		LOG.debug("root Json :" + root);
+		LOG.debug("root Json :%s", root);
 		LOG.trace("Complete getDataFlowPhysicalResponse");
 		return root;
 	}
@@ -2769,7 +2757,7 @@ public class IpcPhysicalResponseFactory {
 			index = a.get();
 		}
 		root.add(VtnServiceJsonConsts.DATAFLOWS, dataFlowArray);
-		LOG.debug("root Json :" + root);
+		LOG.debug("root Json :%s", root);
 		LOG.trace("Complete getControllerDataFlowPhysicalResponse");
 		return root;
 	}
@@ -2864,7 +2852,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.CONTROLLER_NAME));
 		}
-		LOG.debug("set valid Bit for Controller name:" + validBit);
+		LOG.debug("set valid Bit for Controller name:%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -2914,7 +2902,7 @@ public class IpcPhysicalResponseFactory {
 				LOG.info("Controller Type invalid");
 			}
 		}
-		LOG.debug("set valid Bit for Controller type :" + validBit);
+		LOG.debug("set valid Bit for Controller type :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -2931,7 +2919,7 @@ public class IpcPhysicalResponseFactory {
 							.getIpcStructUint64Value(valDfDataFlowCmnStruct,
 									VtnServiceIpcConsts.FLOW_ID));
 		}
-		LOG.debug("set valid Bit for Flow id :" + validBit);
+		LOG.debug("set valid Bit for Flow id :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -2965,9 +2953,9 @@ public class IpcPhysicalResponseFactory {
 			// assigning reason field in dataflow Json
 			setValueToJsonObject(validBit, controlerFlow,
 					VtnServiceJsonConsts.STATUS, statusForJson);
-			LOG.debug("set Json reason and  validBit:" + validBit);
+			LOG.debug("set Json reason and  validBit:%s", validBit);
 		}
-		LOG.debug("set valid Bit for status :" + validBit);
+		LOG.debug("set valid Bit for status :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -2985,7 +2973,7 @@ public class IpcPhysicalResponseFactory {
 						VtnServiceJsonConsts.TYPE, VtnServiceJsonConsts.VTN);
 			}
 		}
-		LOG.debug("set valid Bit for flow type :" + validBit);
+		LOG.debug("set valid Bit for flow type :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3002,7 +2990,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.POLICY_INDEX));
 		}
-		LOG.debug("set validBit for policy index :" + validBit);
+		LOG.debug("set validBit for policy index :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3018,7 +3006,7 @@ public class IpcPhysicalResponseFactory {
 					IpcDataUnitWrapper.getIpcStructUint32Value(
 							valDfDataFlowCmnStruct, VtnServiceIpcConsts.VTN_ID));
 		}
-		LOG.debug("set validBit for  vtn id   :" + validBit);
+		LOG.debug("set validBit for  vtn id   :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3035,7 +3023,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.INGRESS_SWITCH_ID));
 		}
-		LOG.debug("set validBit for ingress switch id:" + validBit);
+		LOG.debug("set validBit for ingress switch id:%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3053,7 +3041,7 @@ public class IpcPhysicalResponseFactory {
 									valDfDataFlowCmnStruct,
 									VtnServiceIpcConsts.IN_PORT));
 		}
-		LOG.debug("set validBit for in_port_name  :" + validBit);
+		LOG.debug("set validBit for in_port_name  :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3070,7 +3058,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.IN_STATION_ID));
 		}
-		LOG.debug("set validBit for in_station_id :" + validBit);
+		LOG.debug("set validBit for in_station_id :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3087,7 +3075,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.IN_DOMAIN));
 		}
-		LOG.trace("set validBit for in_domain_id :" + validBit);
+		LOG.trace("set validBit for in_domain_id :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3104,7 +3092,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.EGRESS_SWITCH_ID));
 		}
-		LOG.debug("set validBit for egress_switch_id :" + validBit);
+		LOG.debug("set validBit for egress_switch_id :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3121,7 +3109,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.OUT_PORT));
 		}
-		LOG.debug("set validBit for out_port_name:" + validBit);
+		LOG.debug("set validBit for out_port_name:%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3138,7 +3126,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.OUT_STATION_ID));
 		}
-		LOG.debug("set validBit for out_station_id :" + validBit);
+		LOG.debug("set validBit for out_station_id :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3155,7 +3143,7 @@ public class IpcPhysicalResponseFactory {
 							valDfDataFlowCmnStruct,
 							VtnServiceIpcConsts.OUT_DOMAIN));
 		}
-		LOG.debug("set validBit for in_domain_id :" + validBit);
+		LOG.debug("set validBit for in_domain_id :%s", validBit);
 
 		validBit = valDfDataFlowCmnStruct
 				.getByte(
@@ -3170,7 +3158,7 @@ public class IpcPhysicalResponseFactory {
 					VtnServiceJsonConsts.MATCH,
 					getDataFlowMatchInfo(responsePacket, index, validBit,
 							controlerFlow, valDfDataFlowCmnStruct));
-			LOG.debug("controller flow Json:" + controlerFlow);
+			LOG.debug("controller flow Json:%s", controlerFlow);
 		}
 
 		validBit = valDfDataFlowCmnStruct
@@ -3186,7 +3174,7 @@ public class IpcPhysicalResponseFactory {
 					VtnServiceJsonConsts.ACTION,
 					getDataFlowActionInfo(responsePacket, index, controlerFlow,
 							valDfDataFlowCmnStruct));
-			LOG.debug("controller flow Json:" + controlerFlow);
+			LOG.debug("controller flow Json:%s", controlerFlow);
 		}
 
 		validBit = valDfDataFlowCmnStruct
@@ -3203,7 +3191,7 @@ public class IpcPhysicalResponseFactory {
 					VtnServiceJsonConsts.PATHINFOS,
 					getDataFlowPathInfo(responsePacket, index,
 							valDfDataFlowCmnStruct));
-			LOG.debug("controller flow Json:" + controlerFlow);
+			LOG.debug("controller flow Json:%s", controlerFlow);
 
 		}
 
@@ -3223,7 +3211,7 @@ public class IpcPhysicalResponseFactory {
 		final int pathInfoCount = Integer.parseInt(IpcDataUnitWrapper
 				.getIpcStructUint32Value(valDfDataFlowCmnStruct,
 						VtnServiceIpcConsts.PATH_INFO_COUNT));
-		LOG.debug("path_info_count:" + pathInfoCount);
+		LOG.debug("path_info_count:%s", pathInfoCount);
 		for (int k = 0; k < pathInfoCount; k++) {
 			final JsonObject pathinfo = new JsonObject();
 			byte validBit;
@@ -3244,7 +3232,7 @@ public class IpcPhysicalResponseFactory {
 						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 								valDfDataFlowPathInfo,
 								VtnServiceIpcConsts.SWITCHEID));
-				LOG.trace("set switchid and  validBit:" + validBit);
+				LOG.trace("set switchid and  validBit:%s", validBit);
 			}
 
 			validBit = valDfDataFlowPathInfo
@@ -3261,7 +3249,7 @@ public class IpcPhysicalResponseFactory {
 						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 								valDfDataFlowPathInfo,
 								VtnServiceIpcConsts.IN_PORT));
-				LOG.trace("set in_port and  validBit:" + validBit);
+				LOG.trace("set in_port and  validBit:%s", validBit);
 			}
 
 			validBit = valDfDataFlowPathInfo
@@ -3278,11 +3266,11 @@ public class IpcPhysicalResponseFactory {
 						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 								valDfDataFlowPathInfo,
 								VtnServiceIpcConsts.OUT_PORT));
-				LOG.debug("set validBit for out_port :" + validBit);
+				LOG.debug("set validBit for out_port :%s", validBit);
 			}
 			pathinfoArray.add(pathinfo);
 		}
-		LOG.debug("pathinfoArray Json:" + pathinfoArray);
+		LOG.debug("pathinfoArray Json:%s", pathinfoArray);
 		LOG.trace("getDataFlowPathInfo completed");
 		return pathinfoArray;
 	}
@@ -3294,7 +3282,7 @@ public class IpcPhysicalResponseFactory {
 		final int actionCount = Integer.parseInt(IpcDataUnitWrapper
 				.getIpcStructUint32Value(valDfDataFlowCmnStruct,
 						VtnServiceIpcConsts.ACTION_COUNT));
-		LOG.debug("ACTION_COUNT:" + actionCount);
+		LOG.debug("ACTION_COUNT:%s", actionCount);
 
 		// jsonObject action will holf all below json instance
 		final JsonObject action = new JsonObject();
@@ -3327,7 +3315,7 @@ public class IpcPhysicalResponseFactory {
 			actionType = Integer.parseInt(IpcDataUnitWrapper
 					.getIpcStructUint32Value(valDfFlowAction,
 							VtnServiceIpcConsts.ACTION_TYPE));
-			LOG.debug("actiontype :" + actionType);
+			LOG.debug("actiontype :%s", actionType);
 			if (actionType == UncStructIndexEnum.UncDataflowFlowActionType.UNC_ACTION_OUTPUT
 					.ordinal()) {
 				final IpcStruct valDfFlowActionOutputPort = (IpcStruct) responsePacket[index
@@ -3592,7 +3580,7 @@ public class IpcPhysicalResponseFactory {
 						setIpV6DstAddrJsonArray);
 			}
 		}
-		LOG.debug("action json:" + action);
+		LOG.debug("action json:%s", action);
 		LOG.trace("getDataFlowActionInfo completed");
 		return action;
 
@@ -3606,7 +3594,7 @@ public class IpcPhysicalResponseFactory {
 		final int matchCount = Integer.parseInt(IpcDataUnitWrapper
 				.getIpcStructUint32Value(valDfDataFlowCmnStruct,
 						VtnServiceIpcConsts.MATCH_COUNT));
-		LOG.debug("MATCH_COUNT:" + matchCount);
+		LOG.debug("MATCH_COUNT:%s", matchCount);
 		// match JsonObject will hold all below jsonObject as per requiremnts
 		final JsonObject match = new JsonObject();
 
@@ -3640,7 +3628,7 @@ public class IpcPhysicalResponseFactory {
 			final int matchtype = Integer.parseInt(IpcDataUnitWrapper
 					.getIpcStructUint32Value(valDfFlowMatchStruct,
 							VtnServiceIpcConsts.MATCH_TYPE));
-			LOG.debug("MATCH TYPE:" + matchtype);
+			LOG.debug("MATCH TYPE:%s", matchtype);
 			// match type will help in resolving response in match info
 			if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IN_PORT
 					.ordinal()) {
@@ -3655,7 +3643,7 @@ public class IpcPhysicalResponseFactory {
 					inportJsonArray = new JsonArray();
 				}
 				inportJsonArray.add(element);
-				LOG.debug("set validBit for in_port :" + validBit);
+				LOG.debug("set validBit for in_port :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_DL_DST
 					.ordinal()) {
@@ -3668,7 +3656,7 @@ public class IpcPhysicalResponseFactory {
 					dstMacJsonArray = new JsonArray();
 				}
 				dstMacJsonArray.add(element);
-				LOG.debug("set validbit for macdst :" + validBit);
+				LOG.debug("set validbit for macdst :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchDlAddr, VtnServiceIpcConsts.V_MASK);
@@ -3683,7 +3671,7 @@ public class IpcPhysicalResponseFactory {
 						dstMaskJsonArray = new JsonArray();
 					}
 					dstMaskJsonArray.add(element);
-					LOG.debug("set validbit for macdst :" + validBit);
+					LOG.debug("set validbit for macdst :%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_DL_SRC
 					.ordinal()) {
@@ -3697,7 +3685,7 @@ public class IpcPhysicalResponseFactory {
 					srcMacJsonArray = new JsonArray();
 				}
 				srcMacJsonArray.add(element);
-				LOG.debug("set validbit for macsrc  :" + validBit);
+				LOG.debug("set validbit for macsrc  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchDlAddr, VtnServiceIpcConsts.V_MASK);
@@ -3712,7 +3700,7 @@ public class IpcPhysicalResponseFactory {
 						srcMaskJsonArray = new JsonArray();
 					}
 					srcMaskJsonArray.add(element);
-					LOG.debug("set validbit for macdst  :" + validBit);
+					LOG.debug("set validbit for macdst  :%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_DL_TYPE
 					.ordinal()) {
@@ -3725,7 +3713,7 @@ public class IpcPhysicalResponseFactory {
 					macEtherTypeJsonArray = new JsonArray();
 				}
 				macEtherTypeJsonArray.add(element);
-				LOG.debug("set validbit for etherntype :" + validBit);
+				LOG.debug("set validbit for etherntype :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_VLAN_ID
 					.ordinal()) {
@@ -3746,7 +3734,7 @@ public class IpcPhysicalResponseFactory {
 					vlanIdJsonArray.add(element);
 				}
 
-				LOG.debug("set validbit for vlan_id  :" + validBit);
+				LOG.debug("set validbit for vlan_id  :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_VLAN_PCP
 					.ordinal()) {
@@ -3760,7 +3748,7 @@ public class IpcPhysicalResponseFactory {
 					vlanPriorityJsonArray = new JsonArray();
 				}
 				vlanPriorityJsonArray.add(element);
-				LOG.debug("set validbit for vlanpriority  :" + validBit);
+				LOG.debug("set validbit for vlanpriority  :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IP_TOS
 					.ordinal()) {
@@ -3777,7 +3765,7 @@ public class IpcPhysicalResponseFactory {
 					ipTosJsonArray = new JsonArray();
 				}
 				ipTosJsonArray.add(element);
-				LOG.debug("set validbit for iptos :" + validBit);
+				LOG.debug("set validbit for iptos :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IP_PROTO
 					.ordinal()) {
@@ -3792,7 +3780,7 @@ public class IpcPhysicalResponseFactory {
 					ipProtoJsonArray = new JsonArray();
 				}
 				ipProtoJsonArray.add(element);
-				LOG.debug("set validbit for  ipproto :" + validBit);
+				LOG.debug("set validbit for  ipproto :%s", validBit);
 
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV4_SRC
 					.ordinal()) {
@@ -3806,7 +3794,7 @@ public class IpcPhysicalResponseFactory {
 					ipSrcAddrJsonArray = new JsonArray();
 				}
 				ipSrcAddrJsonArray.add(element);
-				LOG.debug("set validbit for ipsrc :" + validBit);
+				LOG.debug("set validbit for ipsrc :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchIpv4Addr, VtnServiceIpcConsts.V_MASK);
@@ -3821,7 +3809,7 @@ public class IpcPhysicalResponseFactory {
 
 					}
 					ipSrcAddrMaskJsonArray.add(element);
-					LOG.debug("set validBit for ipv4_mask:" + validBit);
+					LOG.debug("set validBit for ipv4_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV4_DST
 					.ordinal()) {
@@ -3835,7 +3823,7 @@ public class IpcPhysicalResponseFactory {
 					ipDstAddrJsonArray = new JsonArray();
 				}
 				ipDstAddrJsonArray.add(element);
-				LOG.debug("set validbit for ipdst  :" + validBit);
+				LOG.debug("set validbit for ipdst  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchIpv4Addr, VtnServiceIpcConsts.V_MASK);
@@ -3849,7 +3837,7 @@ public class IpcPhysicalResponseFactory {
 						ipDstAddrMaskJsonArray = new JsonArray();
 					}
 					ipDstAddrMaskJsonArray.add(element);
-					LOG.debug("set validbit for ipv4_mask:" + validBit);
+					LOG.debug("set validbit for ipv4_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV6_SRC
 					.ordinal()) {
@@ -3864,7 +3852,7 @@ public class IpcPhysicalResponseFactory {
 					ipV6SrcAddrJsonArray = new JsonArray();
 				}
 				ipV6SrcAddrJsonArray.add(element);
-				LOG.debug("set validbit for ipv6src  :" + validBit);
+				LOG.debug("set validbit for ipv6src  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valdfflowmatchIpv6Addr, VtnServiceIpcConsts.V_MASK);
@@ -3879,7 +3867,7 @@ public class IpcPhysicalResponseFactory {
 						ipV6SrcAddrMaskJsonArray = new JsonArray();
 					}
 					ipV6SrcAddrMaskJsonArray.add(element);
-					LOG.debug("set validbit for ipv6_mask:" + validBit);
+					LOG.debug("set validbit for ipv6_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_IPV6_DST
 					.ordinal()) {
@@ -3894,7 +3882,7 @@ public class IpcPhysicalResponseFactory {
 					ipV6DstAddJsonArray = new JsonArray();
 				}
 				ipV6DstAddJsonArray.add(element);
-				LOG.debug("set validbit for ipv6dst  :" + validBit);
+				LOG.debug("set validbit for ipv6dst  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valdfflowmatchIpv6Addr, VtnServiceIpcConsts.V_MASK);
@@ -3909,7 +3897,7 @@ public class IpcPhysicalResponseFactory {
 						ipV6DstAddrMaskJsonArray = new JsonArray();
 					}
 					ipV6DstAddrMaskJsonArray.add(element);
-					LOG.debug("set validbit for ipv6_mask:" + validBit);
+					LOG.debug("set validbit for ipv6_mask:%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_TP_SRC
 					.ordinal()) {
@@ -3925,7 +3913,7 @@ public class IpcPhysicalResponseFactory {
 				}
 				l4SrcPortIcmpTypeJsonArray.add(element);
 
-				LOG.debug("set validbit for tpsrc :" + validBit);
+				LOG.debug("set validbit for tpsrc :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchTpPort, VtnServiceIpcConsts.V_MASK);
@@ -3941,7 +3929,7 @@ public class IpcPhysicalResponseFactory {
 						l4SrcPortIcmpTypeMaskJsonArray = new JsonArray();
 					}
 					l4SrcPortIcmpTypeMaskJsonArray.add(element);
-					LOG.debug("set validbit for tpsrcmask :" + validBit);
+					LOG.debug("set validbit for tpsrcmask :%s", validBit);
 				}
 			} else if (matchtype == UncStructIndexEnum.UncDataflowFlowMatchType.UNC_MATCH_TP_DST
 					.ordinal()) {
@@ -3956,7 +3944,7 @@ public class IpcPhysicalResponseFactory {
 					l4DstPortIcmpTypeJsonArray = new JsonArray();
 				}
 				l4DstPortIcmpTypeJsonArray.add(element);
-				LOG.debug("set validbit for tpdst  :" + validBit);
+				LOG.debug("set validbit for tpdst  :%s", validBit);
 
 				final String s = IpcDataUnitWrapper.getIpcStructUint8Value(
 						valDfFlowMatchTpPort, VtnServiceIpcConsts.V_MASK);
@@ -4052,7 +4040,7 @@ public class IpcPhysicalResponseFactory {
 			match.add(VtnServiceJsonConsts.L4DSTPORT_ICMPTYPE_MASK,
 					l4DstPortIcmpTypeMaskJsonArray);
 		}
-		LOG.debug("match Json :" + match);
+		LOG.debug("match Json :%s", match);
 		LOG.trace("getDataFlowMatchInfo completed");
 		return match;
 	}
@@ -4072,7 +4060,7 @@ public class IpcPhysicalResponseFactory {
 		final JsonObject root = new JsonObject();
 		JsonArray pathPolicies = null;
 		JsonObject pathPolicyObj = new JsonObject();
-		LOG.debug("getType: " + getType);
+		LOG.debug("getType: %s", getType);
 		/*
 		 * operation type will be required to resolve the response type
 		 */
@@ -4092,7 +4080,7 @@ public class IpcPhysicalResponseFactory {
 			// json array will be required for list type of cases
 			pathPolicies = new JsonArray();
 		}
-		LOG.debug("Json Name :" + rootJsonName);
+		LOG.debug("Json Name :%s", rootJsonName);
 
 		if (opType.equalsIgnoreCase(VtnServiceJsonConsts.COUNT)) {
 			// for count case
@@ -4130,7 +4118,7 @@ public class IpcPhysicalResponseFactory {
 				root.add(rootJsonName, pathPolicyObj);
 			}
 		}
-		LOG.debug("Response Json: " + root.toString());
+		LOG.debug("Response Json: %s", root.toString());
 		LOG.trace("Complete getCtrPathPolicyResponse");
 		return root;
 	}
@@ -4182,7 +4170,7 @@ public class IpcPhysicalResponseFactory {
 			// Adding JSON element to the array
 			linkWeights.add(linkWeightObj);
 		}
-		LOG.debug("Response Json: " + linkWeights.toString());
+		LOG.debug("Response Json: %s", linkWeights.toString());
 		LOG.trace("Complete getCtrPathPolicyLinkResponse");
 		return linkWeights;
 	}
@@ -4218,7 +4206,7 @@ public class IpcPhysicalResponseFactory {
 			// Adding JSON element to the array
 			disableSwitches.add(disableSwitch);
 		}
-		LOG.debug("Response Json: " + disableSwitches.toString());
+		LOG.debug("Response Json: %s", disableSwitches.toString());
 		LOG.trace("Complete getCtrPathPolicyDisableResponse");
 		return disableSwitches;
 	}
@@ -126,6 +126,9 @@ public class VtnServiceOpenStackConsts {
 	public static final String DB_INIT_CONN_SIZE = "db_initial_con_size";
 	public static final String DB_MAX_CONN_SIZE = "db_max_conn_size";
 	public static final String DB_WAIT_CONDITION = "db_wait_status";
+	public static final String DB_WAIT_TIMEOUT = "db_wait_timeout";
+	public static final String DB_VALIDATION_INTERVAL = "db_validation_interval";
+	public static final String DB_LEAK_THRESHOLD = "db_leak_threshold";
 
 	/* Resource ID key constants */
 	public static final String DEFAULT_VTN = "default_vtn";
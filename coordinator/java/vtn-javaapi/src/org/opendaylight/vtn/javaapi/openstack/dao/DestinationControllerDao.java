@@ -37,7 +37,7 @@ public class DestinationControllerDao {
 	public int setDestinationController(Connection connection,
 			String controllerId) throws SQLException {
 		LOG.trace("Start ResourceIdManager#setDestinationController()");
-		LOG.debug("Controller id : " + controllerId);
+		LOG.debug("Controller id : %s", controllerId);
 		int status;
 		final String sql = VtnOpenStackSQLFactory.INS_DEST_CTRL_SQL;
 		PreparedStatement statement = null;
@@ -50,7 +50,7 @@ public class DestinationControllerDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		LOG.trace("Complete ResourceIdManager#setDestinationController()");
 		return status;
 	}
@@ -77,7 +77,7 @@ public class DestinationControllerDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
 		LOG.trace("Complete ResourceIdManager#deleteDestinationController()");
 		return status;
 	}
@@ -102,7 +102,7 @@ public class DestinationControllerDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				controllerId = resultSet.getString(1);
-				LOG.debug("Extracted controller id : " + controllerId);
+				LOG.debug("Extracted controller id : %s", controllerId);
 			}
 		} finally {
 			if (resultSet != null) {
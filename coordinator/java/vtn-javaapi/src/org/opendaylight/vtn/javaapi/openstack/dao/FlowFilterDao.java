@@ -183,7 +183,7 @@ public class FlowFilterDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status(os_ff_vbr_tbl) : " + retVal);
+		LOG.debug("Insertion status(os_ff_vbr_tbl) : %s", retVal);
 		return retVal;
 	}
 
@@ -244,7 +244,7 @@ public class FlowFilterDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status(os_ff_vrt_tbl) : " + retVal);
+		LOG.debug("Insertion status(os_ff_vrt_tbl) : %s", retVal);
 		return retVal;
 	}
 
@@ -304,7 +304,7 @@ public class FlowFilterDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status(os_ff_vbr_tbl) : " + retVal);
+		LOG.debug("Deletion status(os_ff_vbr_tbl) : %s", retVal);
 		return retVal;
 	}
 
@@ -364,7 +364,7 @@ public class FlowFilterDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status(os_ff_vrt_tbl) : " + retVal);
+		LOG.debug("Deletion status(os_ff_vrt_tbl) : %s", retVal);
 		return retVal;
 	}
 
@@ -120,7 +120,7 @@ public class FlowListDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 	
@@ -149,7 +149,7 @@ public class FlowListDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
 		return status;
 	}
 	
@@ -174,7 +174,7 @@ public class FlowListDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				count = resultSet.getInt(1);
-				LOG.debug("Get flow list id counter : "	+ count);
+				LOG.debug("Get flow list id counter : %s", count);
 			} else {
 				count = 0;
 			}
@@ -189,7 +189,8 @@ public class FlowListDao {
 			}
 
 			if (0 == count) {
-				LOG.debug("Auto generated resource counter : " + count++);
+				LOG.debug("Auto generated resource counter : %s", count);
+				count++;
 				return count;
 			}
 
@@ -209,17 +210,49 @@ public class FlowListDao {
 		}
 
 		if (idList.get(idList.size() - 1).intValue() == count) {
-			LOG.debug("Auto generated resource counter : " + count++);
+			LOG.debug("Auto generated resource counter : %s", count);
+			count++;
 			return count;
 		}
 
 		low = 1;
 		high = idList.size();
 		count = getCount(idList, low, high);
-		LOG.debug("Auto generated resource counter : " + count);
+		LOG.debug("Auto generated resource counter : %s", count);
 		return count;
 	}
 
+	/**
+	 * Get all auto-generated flow list ids in ascending order.
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @return - list of flow list ids
+	 * @throws SQLException
+	 */
+	public List<Integer> getIdList(Connection connection) throws SQLException {
+		final List<Integer> idList = new ArrayList<Integer>();
+		final String sql = VtnOpenStackSQLFactory.SEL_FLOW_LIST_ID_LIST_SQL;
+		PreparedStatement statement = null;
+		ResultSet resultSet = null;
+
+		try {
+			statement = connection.prepareStatement(sql);
+			resultSet = statement.executeQuery();
+			while (resultSet.next()) {
+				idList.add(resultSet.getInt(1));
+			}
+		} finally {
+			if (resultSet != null) {
+				resultSet.close();
+			}
+			if (statement != null) {
+				statement.close();
+			}
+		}
+		return idList;
+	}
+
 	/**
 	 * Get id counter for flow list.
 	 * 
@@ -286,7 +319,7 @@ public class FlowListDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Auto generation status : " + isAuto);
+		LOG.debug("Auto generation status : %s", isAuto);
 		return isAuto;
 	}
 
@@ -358,7 +391,7 @@ public class FlowListDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Specified flow list id : " + id);
+		LOG.debug("Specified flow list id : %s", id);
 		return id;
 	}
 }
@@ -12,6 +12,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.openstack.beans.FreeCounterBean;
@@ -52,8 +54,7 @@ public class FreeCounterDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				resourceCounter = resultSet.getInt(1);
-				LOG.debug("Resource counter is available in os_free_counter_tbl : "
-						+ resourceCounter);
+				LOG.debug("Resource counter is available in os_free_counter_tbl : %s", resourceCounter);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -66,6 +67,42 @@ public class FreeCounterDao {
 		return resourceCounter;
 	}
 
+	/**
+	 * Retrieve all resource counters for specific VTN, available in database
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBean
+	 *            - Bean corresponding to os_free_counter_tbl
+	 * @return - list of available resource counters
+	 * @throws SQLException
+	 */
+	public List<Integer> getCounters(Connection connection,
+			FreeCounterBean freeCounterBean) throws SQLException {
+		final String sql = VtnOpenStackSQLFactory.SEL_ALL_FC_SQL;
+		final List<Integer> counterList = new ArrayList<Integer>();
+		PreparedStatement statement = null;
+		ResultSet resultSet = null;
+		try {
+			statement = connection.prepareStatement(sql);
+			statement.setString(1, freeCounterBean.getResourceId());
+			statement.setString(2, freeCounterBean.getVtnName());
+			resultSet = statement.executeQuery();
+			while (resultSet.next()) {
+				counterList.add(resultSet.getInt(1));
+			}
+			LOG.debug("Resource counters available in os_free_counter_tbl : %s", counterList.size());
+		} finally {
+			if (resultSet != null) {
+				resultSet.close();
+			}
+			if (statement != null) {
+				statement.close();
+			}
+		}
+		return counterList;
+	}
+
 	/**
 	 * Delete resource counter for specific VTN from database
 	 * 
@@ -87,8 +124,7 @@ public class FreeCounterDao {
 			statement.setString(2, freeCounterBean.getVtnName());
 			statement.setInt(3, freeCounterBean.getResourceCounter());
 			status = statement.executeUpdate();
-			LOG.debug("Deletion Status of resource id from os_free_counter_tbl : "
-					+ status);
+			LOG.debug("Deletion Status of resource id from os_free_counter_tbl : %s", status);
 		} finally {
 			if (statement != null) {
 				statement.close();
@@ -118,8 +154,45 @@ public class FreeCounterDao {
 			statement.setString(2, freeCounterBean.getVtnName());
 			statement.setString(3, freeCounterBean.getResourceId());
 			status = statement.executeUpdate();
-			LOG.debug("Deletion Status of resource id from os_free_counter_tbl : "
-					+ status);
+			LOG.debug("Deletion Status of resource id from os_free_counter_tbl : %s", status);
+		} finally {
+			if (statement != null) {
+				statement.close();
+			}
+		}
+		return status;
+	}
+
+	/**
+	 * Insert the resource counters for specific VTN into database in a batch
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBeanList
+	 *            - Beans corresponding to os_free_counter_tbl
+	 * @return - insertion status of each bean
+	 * @throws SQLException
+	 */
+	public int[] insertCounters(Connection connection,
+			List<FreeCounterBean> freeCounterBeanList) throws SQLException {
+		final String sql = VtnOpenStackSQLFactory.INS_FC_SQL;
+		int[] status = new int[0];
+		PreparedStatement statement = null;
+
+		if (freeCounterBeanList.isEmpty()) {
+			return status;
+		}
+
+		try {
+			statement = connection.prepareStatement(sql);
+			for (final FreeCounterBean freeCounterBean : freeCounterBeanList) {
+				statement.setInt(1, freeCounterBean.getResourceCounter());
+				statement.setString(2, freeCounterBean.getVtnName());
+				statement.setString(3, freeCounterBean.getResourceId());
+				statement.addBatch();
+			}
+			status = statement.executeBatch();
+			LOG.debug("Insertion count of resource ids into os_free_counter_tbl : %s", status.length);
 		} finally {
 			if (statement != null) {
 				statement.close();
@@ -148,8 +221,7 @@ public class FreeCounterDao {
 			statement.setString(1, freeCounterBean.getVtnName());
 			statement.setString(2, VtnServiceOpenStackConsts.TENANT_RES_ID);
 			status = statement.executeUpdate();
-			LOG.debug("Deletion Status of resource counters from os_free_counter_tbl : "
-					+ status);
+			LOG.debug("Deletion Status of resource counters from os_free_counter_tbl : %s", status);
 		} finally {
 			if (statement != null) {
 				statement.close();
@@ -177,8 +249,7 @@ public class FreeCounterDao {
 			statement = connection.prepareStatement(sql);
 			statement.setString(1, freeCounterBean.getVtnName());
 			status = statement.executeUpdate();
-			LOG.debug("Deletion Status of resource counters from os_free_counter_tbl : "
-					+ status);
+			LOG.debug("Deletion Status of resource counters from os_free_counter_tbl : %s", status);
 		} finally {
 			if (statement != null) {
 				statement.close();
@@ -53,7 +53,7 @@ public class StaticRouteDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
@@ -83,7 +83,7 @@ public class StaticRouteDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
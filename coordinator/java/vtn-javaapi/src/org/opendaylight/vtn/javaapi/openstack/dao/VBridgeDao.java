@@ -45,7 +45,7 @@ public class VBridgeDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				vbrResourceId = resultSet.getInt(1) + 1;
-				LOG.debug("Auto generated resource counter : " + vbrResourceId);
+				LOG.debug("Auto generated resource counter : %s", vbrResourceId);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -84,7 +84,7 @@ public class VBridgeDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
@@ -114,7 +114,7 @@ public class VBridgeDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
 		return status;
 	}
 
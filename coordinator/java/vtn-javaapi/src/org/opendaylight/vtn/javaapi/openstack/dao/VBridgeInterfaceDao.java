@@ -47,8 +47,7 @@ public class VBridgeInterfaceDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				vbrIfResourceId = resultSet.getInt(1) + 1;
-				LOG.debug("Auto generated resource counter : "
-						+ vbrIfResourceId);
+				LOG.debug("Auto generated resource counter : %s", vbrIfResourceId);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -91,7 +90,7 @@ public class VBridgeInterfaceDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
@@ -123,7 +122,46 @@ public class VBridgeInterfaceDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
+		return status;
+	}
+
+	/**
+	 * Delete vBridge Interface information from database in a batch
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param vInterfaceBeanList
+	 *            - Beans corresponding to os_vbr_if_tbl
+	 * @return - deletion status of each bean
+	 * @throws SQLException
+	 */
+	public int[] delete(Connection connection,
+			List<VBridgeInterfaceBean> vInterfaceBeanList) throws SQLException {
+		int[] status = new int[0];
+		final String sql = VtnOpenStackSQLFactory.DEL_VBR_IF_SQL;
+		PreparedStatement statement = null;
+
+		if (vInterfaceBeanList.isEmpty()) {
+			return status;
+		}
+
+		try {
+			statement = connection.prepareStatement(sql);
+			for (final VBridgeInterfaceBean vInterfaceBean : vInterfaceBeanList) {
+				statement.setInt(1, vInterfaceBean.getVbrIfId());
+				statement.setString(2, vInterfaceBean.getVtnName());
+				statement.setString(3, vInterfaceBean.getVbrName());
+				statement.setString(4, vInterfaceBean.getVbrIfName());
+				statement.addBatch();
+			}
+			status = statement.executeBatch();
+		} finally {
+			if (statement != null) {
+				statement.close();
+			}
+		}
+		LOG.debug("Deletion count : %s", status.length);
 		return status;
 	}
 
@@ -151,7 +189,7 @@ public class VBridgeInterfaceDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				mapType = resultSet.getString(1);
-				LOG.debug("Auto generated resource counter : " + mapType);
+				LOG.debug("Auto generated resource counter : %s", mapType);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -188,7 +226,7 @@ public class VBridgeInterfaceDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				logicalPortId = resultSet.getString(1);
-				LOG.debug("Logical Port Id : " + logicalPortId);
+				LOG.debug("Logical Port Id : %s", logicalPortId);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -265,7 +303,7 @@ public class VBridgeInterfaceDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Update status : " + status);
+		LOG.debug("Update status : %s", status);
 		return status;
 	}
 
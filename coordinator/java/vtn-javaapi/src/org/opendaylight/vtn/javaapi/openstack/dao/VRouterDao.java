@@ -50,7 +50,7 @@ public class VRouterDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
@@ -79,7 +79,7 @@ public class VRouterDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
 		return status;
 	}
 
@@ -48,8 +48,7 @@ public class VRouterInterfaceDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				vrtIfResourceId = resultSet.getInt(1) + 1;
-				LOG.debug("Auto generated resource counter : "
-						+ vrtIfResourceId);
+				LOG.debug("Auto generated resource counter : %s", vrtIfResourceId);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -91,7 +90,7 @@ public class VRouterInterfaceDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
@@ -118,7 +117,7 @@ public class VRouterInterfaceDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				vbrName = resultSet.getString(1);
-				LOG.debug("Retrieved vbr_name : " + vbrName);
+				LOG.debug("Retrieved vbr_name : %s", vbrName);
 			}
 		} finally {
 			if (statement != null) {
@@ -153,7 +152,7 @@ public class VRouterInterfaceDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				vrtName = resultSet.getString(1);
-				LOG.debug("Retrieved vrt_name : " + vrtName);
+				LOG.debug("Retrieved vrt_name : %s", vrtName);
 			}
 		} finally {
 			if (statement != null) {
@@ -189,7 +188,7 @@ public class VRouterInterfaceDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
 		return status;
 	}
 
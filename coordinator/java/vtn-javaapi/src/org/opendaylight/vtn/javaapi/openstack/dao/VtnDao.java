@@ -42,7 +42,7 @@ public class VtnDao {
 			resultSet = statement.executeQuery();
 			if (resultSet.next()) {
 				vtnResourceId = resultSet.getInt(1) + 1;
-				LOG.debug("Auto generated resource counter : " + vtnResourceId);
+				LOG.debug("Auto generated resource counter : %s", vtnResourceId);
 			}
 		} finally {
 			if (resultSet != null) {
@@ -80,7 +80,7 @@ public class VtnDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Insertion status : " + status);
+		LOG.debug("Insertion status : %s", status);
 		return status;
 	}
 
@@ -108,7 +108,7 @@ public class VtnDao {
 				statement.close();
 			}
 		}
-		LOG.debug("Deletion status : " + status);
+		LOG.debug("Deletion status : %s", status);
 		return status;
 	}
 
@@ -20,6 +20,15 @@ public class ConnectionProperties {
 
 	private boolean waitforUsedConnections;
 
+	/* default values of pool tuning properties, in milliseconds */
+	private static final long DEFAULT_WAIT_TIMEOUT = 30000L;
+	private static final long DEFAULT_VALIDATION_INTERVAL = 30000L;
+	private static final long DEFAULT_LEAK_THRESHOLD = 60000L;
+
+	private long connectionWaitTimeout = DEFAULT_WAIT_TIMEOUT;
+	private long validationInterval = DEFAULT_VALIDATION_INTERVAL;
+	private long leakDetectionThreshold = DEFAULT_LEAK_THRESHOLD;
+
 	/**
 	 * Getter for dbDriver
 	 * 
@@ -145,4 +154,58 @@ public class ConnectionProperties {
 	public void setWaitforUsedConnections(boolean waitforUsedConnections) {
 		this.waitforUsedConnections = waitforUsedConnections;
 	}
+
+	/**
+	 * Getter for connectionWaitTimeout
+	 * 
+	 * @return
+	 */
+	public long getConnectionWaitTimeout() {
+		return connectionWaitTimeout;
+	}
+
+	/**
+	 * Setter for connectionWaitTimeout
+	 * 
+	 * @return
+	 */
+	public void setConnectionWaitTimeout(long connectionWaitTimeout) {
+		this.connectionWaitTimeout = connectionWaitTimeout;
+	}
+
+	/**
+	 * Getter for validationInterval
+	 * 
+	 * @return
+	 */
+	public long getValidationInterval() {
+		return validationInterval;
+	}
+
+	/**
+	 * Setter for validationInterval
+	 * 
+	 * @return
+	 */
+	public void setValidationInterval(long validationInterval) {
+		this.validationInterval = validationInterval;
+	}
+
+	/**
+	 * Getter for leakDetectionThreshold
+	 * 
+	 * @return
+	 */
+	public long getLeakDetectionThreshold() {
+		return leakDetectionThreshold;
+	}
+
+	/**
+	 * Setter for leakDetectionThreshold
+	 * 
+	 * @return
+	 */
+	public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+		this.leakDetectionThreshold = leakDetectionThreshold;
+	}
 }
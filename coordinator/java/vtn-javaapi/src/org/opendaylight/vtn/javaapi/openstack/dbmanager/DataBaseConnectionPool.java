@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013-2014 NEC Corporation
+ * Copyright (c) 2013-2015 NEC Corporation
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -12,11 +12,18 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.opendaylight.vtn.core.util.Logger;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceExceptionHandler;
 import org.opendaylight.vtn.javaapi.ipc.enums.UncJavaAPIErrorCode;
@@ -24,22 +31,58 @@ import org.opendaylight.vtn.javaapi.ipc.enums.UncJavaAPIErrorCode;
 /**
  * DataBase Connection Pool Class. Implements the connection pooling mechanism
  * for OpenStack operations
+ *
+ * Idle connections are kept in a lock-free stack, and the number of borrowed
+ * connections is bounded by a fair semaphore, so that request threads never
+ * contend on a pool-wide monitor. A connection is validated on borrow, only
+ * if it has not been validated within the validation interval. Borrowed
+ * connections which are not returned within the leak detection threshold are
+ * reported by the maintenance timer, which also keeps the pool pre-warmed to
+ * the initial connection size.
  */
-public class DataBaseConnectionPool implements Runnable {
+public class DataBaseConnectionPool {
 
 	private static final Logger LOG = Logger
 			.getLogger(DataBaseConnectionPool.class.getName());
 
+	/* timeout in seconds for validation of connection */
+	private static final int VALIDATION_TIMEOUT = 5;
+
+	/* name of maintenance timer thread */
+	private static final String TIMER_NAME = "DataBaseConnectionPool";
+
 	private final ConnectionProperties connectionProperties;
 
-	private boolean pendingConnection = false;
+	/* idle connections, most recently returned one first */
+	private final ConcurrentLinkedDeque<Connection> idleConnections = new ConcurrentLinkedDeque<Connection>();
+
+	/* borrowed connections and their leases */
+	private final Map<Connection, Lease> activeConnections = new ConcurrentHashMap<Connection, Lease>();
+
+	/* last validation time of each open connection */
+	private final Map<Connection, Long> validatedTimes = new ConcurrentHashMap<Connection, Long>();
 
-	private List<Connection> availableConnections, usedConnections;
+	/* one permit per connection that can be borrowed */
+	private final Semaphore permits;
+
+	private final AtomicInteger idleCount = new AtomicInteger();
+	private final AtomicInteger openCount = new AtomicInteger();
+
+	/* metrics */
+	private final AtomicLong waitCount = new AtomicLong();
+	private final AtomicLong totalWaitTime = new AtomicLong();
+	private final AtomicLong maxWaitTime = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong leakCount = new AtomicLong();
+
+	private final Timer timer;
+
+	private volatile boolean closed = false;
 
 	/**
 	 * Constructor of Database Connection Pooling. Initialize the connection
 	 * pool with initial connection pool size
-	 * 
+	 *
 	 * @param connectionProperties
 	 * @param exceptionHandler
 	 * @throws VtnServiceException
@@ -59,38 +102,36 @@ public class DataBaseConnectionPool implements Runnable {
 							.getMaxPossibleConnections());
 		}
 
-		this.availableConnections = Collections
-				.synchronizedList(new ArrayList<Connection>(
-						connectionProperties.getInitialConnections()));
-		this.usedConnections = Collections
-				.synchronizedList(new ArrayList<Connection>());
+		this.permits = new Semaphore(
+				this.connectionProperties.getMaxPossibleConnections(), true);
 
 		try {
 			Class.forName(connectionProperties.getDbDriver());
 			// create connection with initial connection pool size
-			for (int i = 0; i < this.connectionProperties
-					.getInitialConnections(); i++) {
-				this.availableConnections.add(createConnection());
-			}
+			prewarm();
 		} catch (final ClassNotFoundException cnfe) {
 			LOG.error(cnfe, "Can't find class for driver : "
 					+ connectionProperties.getDbDriver());
 		} catch (final SQLException e) {
 			LOG.error(e, "Connection Pooling Initialization Error.");
 			exceptionHandler
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.DB_CONN_INIT_ERROR
+					.raise(UncJavaAPIErrorCode.DB_CONN_INIT_ERROR
 									.getErrorCode(),
 							UncJavaAPIErrorCode.DB_CONN_INIT_ERROR
 									.getErrorMessage(), e);
 		}
 
-		LOG.debug("Connection Pool Initialized with "
-				+ this.connectionProperties.getInitialConnections());
+		timer = new Timer(TIMER_NAME, true);
+		final long period = Math.max(1000L,
+				connectionProperties.getLeakDetectionThreshold() / 2);
+		timer.schedule(new TimerTask() {
+			@Override
+			public void run() {
+				maintain();
+			}
+		}, period, period);
+
+		LOG.debug("Connection Pool Initialized with %s", this.connectionProperties.getInitialConnections());
 
 		LOG.trace("Complete DataBaseConnectionPool()");
 	}
@@ -98,208 +139,363 @@ public class DataBaseConnectionPool implements Runnable {
 	/**
 	 * Returns the instance of connection for connection pool. If connection is
 	 * not available in connection pool then create new connection till max
-	 * connection pool size
-	 * 
+	 * connection pool size. If max connection pool size is already reached,
+	 * wait for a connection to be freed till the wait timeout, if waiting is
+	 * allowed.
+	 *
 	 * @return - Connection instance
 	 * @throws SQLException
 	 */
-	public synchronized Connection getConnection() throws SQLException {
+	public Connection getConnection() throws SQLException {
 
 		LOG.trace("Start DataBaseConnectionPool#getConnection()");
 
-		if (availableConnections != null && !availableConnections.isEmpty()) {
-			/*
-			 * if connection is available in prepared connection pool, the
-			 * return from connection pool. Update the available connection and
-			 * used connection list as per result of operation
-			 */
-			LOG.debug("Connection can be provided by initialized connection pool.");
-			final Connection connection = availableConnections.get(availableConnections.size() - 1);
-			availableConnections
-					.remove(availableConnections.size() - 1);
-
-			if (connection.isClosed()) {
-				LOG.warning("Connection had been closed. Create new connection and return");
-				notifyAll();
-				return getConnection();
-			} else {
-				LOG.debug("Use connection : " + connection);
-				usedConnections.add(connection);
-				LOG.trace("Complete DataBaseConnectionPool#getConnection()");
-				return connection;
-			}
-		} else {
-			LOG.debug("Connection cannot be provided by initialized connection pool.");
-			/*
-			 * If connection is not available then create new connection after
-			 * checking max connection pool size
-			 */
-			if ((countConnections() < connectionProperties
-					.getMaxPossibleConnections()) && !pendingConnection) {
-				LOG.debug("Initial connections are in use, create new back ground connection.");
-				createBackGroundConnection();
-			} else if (!connectionProperties.isWaitforUsedConnections()) {
-				/*
-				 * if waiting is allowed in system, the throw error in case of
-				 * connection pool size is already reached to its maximum value
-				 */
-				LOG.error("Waiting is not required, throw error.");
-				throw new SQLException("Connection limit reached");
-			}
+		if (closed) {
+			throw new SQLException("Connection pool is closed");
+		}
+
+		final long start = System.nanoTime();
+		boolean acquired = permits.tryAcquire();
+		if (!acquired && connectionProperties.isWaitforUsedConnections()) {
+			LOG.debug("Wait is possible, so wait till other connections is freed.");
 			try {
-				// wait for connections to be free, if wait is allowed
-				LOG.debug("Wait is possible, so wait till other connections is freed.");
-				wait();
+				acquired = permits.tryAcquire(
+						connectionProperties.getConnectionWaitTimeout(),
+						TimeUnit.MILLISECONDS);
 			} catch (final InterruptedException ie) {
 				LOG.debug("Wait is interuppted by some other thread.");
+				Thread.currentThread().interrupt();
 			}
-			return getConnection();
+			recordWait(System.nanoTime() - start);
 		}
-	}
 
-	/**
-	 * Create new connection as new thread
-	 */
-	private void createBackGroundConnection() {
-
-		LOG.trace("Start DataBaseConnectionPool#createBackGroundConnection()");
+		if (!acquired) {
+			timeoutCount.incrementAndGet();
+			LOG.error("Connection limit reached, active : %s, idle : %s",
+					activeConnections.size(), idleCount.get());
+			throw new SQLException("Connection limit reached");
+		}
 
-		LOG.debug("Back ground connection required, means some connection is in pending state.");
-		pendingConnection = true;
+		boolean borrowed = false;
 		try {
-			LOG.debug("Create connection and return.");
-			final Thread connectThread = new Thread(this);
-			connectThread.start();
-		} catch (final OutOfMemoryError oome) {
-			LOG.fatal(oome, "Out of memory space error : " + oome);
+			Connection connection = pollValidConnection();
+			if (connection == null) {
+				LOG.debug("Connection cannot be provided by initialized connection pool.");
+				connection = openConnection();
+			}
+			activeConnections.put(connection, new Lease());
+			borrowed = true;
+			LOG.debug("Use connection : %s", connection);
+			LOG.trace("Complete DataBaseConnectionPool#getConnection()");
+			return connection;
+		} finally {
+			if (!borrowed) {
+				permits.release();
+			}
 		}
-
-		LOG.trace("Complete DataBaseConnectionPool#createBackGroundConnection()");
 	}
 
 	/**
-	 * Start thread to create connection, add newly created connection to
-	 * available connection list
+	 * Free specify connection to make it available for new requests
+	 *
+	 * @param connection
 	 */
-	@Override
-	public void run() {
+	public void freeConnection(Connection connection) {
+
+		LOG.trace("Start DataBaseConnectionPool#freeConnection()");
 
-		LOG.trace("Start DataBaseConnectionPool#run()");
+		// undo resource counter changes, if transaction is not committed
+		ResourceIdManager.rollback(connection);
 
-		try {
-			final Connection connection = createConnection();
-			synchronized (this) {
-				if (availableConnections == null) {
-					throw new NullPointerException("Connection list is null");
-				} else {
-					availableConnections.add(connection);
-					pendingConnection = false;
-					notifyAll();
-				}
-			}
-		} catch (final Exception e) {
-			LOG.error(e, "Error ocurred while creating new connection : " + e);
+		if (activeConnections.remove(connection) == null) {
+			LOG.warning("Connection is not borrowed from pool : %s",
+					connection);
+			return;
 		}
 
-		LOG.trace("Complete DataBaseConnectionPool#run()");
+		if (closed) {
+			discard(connection);
+		} else {
+			idleConnections.offerFirst(connection);
+			idleCount.incrementAndGet();
+		}
+		permits.release();
+		LOG.trace("Complete DataBaseConnectionPool#freeConnection()");
 	}
 
 	/**
-	 * Create connection by using JDBC APIs
-	 * 
+	 * Get the count of connection available to be used
+	 *
 	 * @return
-	 * @throws SQLException
 	 */
-	private Connection createConnection() throws SQLException {
+	public int countConnections() {
 
-		LOG.trace("Start DataBaseConnectionPool#createConnection()");
-		final Connection connection = DriverManager.getConnection(
-				connectionProperties.getDbURL(),
-				connectionProperties.getDbUsername(),
-				connectionProperties.getDbPassword());
-		connection.setAutoCommit(false);
-		LOG.trace("Complete DataBaseConnectionPool#createConnection()");
-		return connection;
+		LOG.trace("Start DataBaseConnectionPool#countConnections()");
+		final int size = openCount.get();
+		LOG.debug("Count of connections: %s", size);
+		LOG.trace("Complete DataBaseConnectionPool#countConnections()");
+		return size;
 	}
 
 	/**
-	 * Free specify connection to make it available for new requests
-	 * 
-	 * @param connection
+	 * Get the count of borrowed connections
+	 *
+	 * @return
 	 */
-	public synchronized void freeConnection(Connection connection) {
+	public int getActiveConnections() {
+		return activeConnections.size();
+	}
 
-		LOG.trace("Start DataBaseConnectionPool#freeConnection()");
+	/**
+	 * Get the count of idle connections
+	 *
+	 * @return
+	 */
+	public int getIdleConnections() {
+		return idleCount.get();
+	}
 
-		if (usedConnections != null) {
-			usedConnections.remove(connection);
-		}
-		if (availableConnections != null) {
-			availableConnections.add(connection);
-		}
-		notifyAll();
-		LOG.trace("Complete DataBaseConnectionPool#freeConnection()");
+	/**
+	 * Get the count of requests which waited for a connection to be freed
+	 *
+	 * @return
+	 */
+	public long getWaitCount() {
+		return waitCount.get();
 	}
 
 	/**
-	 * Get the count of connection available to be used
-	 * 
+	 * Get the total time in milliseconds spent for waiting connections
+	 *
 	 * @return
 	 */
-	public synchronized int countConnections() {
+	public long getTotalWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(totalWaitTime.get());
+	}
 
-		LOG.trace("Start DataBaseConnectionPool#countConnections()");
-		int size = 0;
-		if (usedConnections != null) {
-			size = size + usedConnections.size();
-		}
+	/**
+	 * Get the maximum time in milliseconds spent for waiting a connection
+	 *
+	 * @return
+	 */
+	public long getMaxWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+	}
 
-		if (availableConnections != null) {
-			size = size + availableConnections.size();
-		}
-		LOG.debug("Count of connections: " + size);
-		LOG.trace("Complete DataBaseConnectionPool#countConnections()");
-		return size;
+	/**
+	 * Get the count of requests which could not get a connection
+	 *
+	 * @return
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * Get the count of connections detected as leaked
+	 *
+	 * @return
+	 */
+	public long getLeakCount() {
+		return leakCount.get();
 	}
 
 	/**
 	 * Close all connections and nullity available and used connection lists
 	 */
-	public synchronized void closeAllConnections() {
+	public void closeAllConnections() {
 
 		LOG.trace("Start DataBaseConnectionPool#closeAllConnections()");
 
-		closeConnections(availableConnections);
-		availableConnections = null;
-		closeConnections(usedConnections);
-		usedConnections = null;
+		closed = true;
+		timer.cancel();
+		ResourceIdManager.clear();
+
+		for (Connection connection = idleConnections.pollFirst(); connection != null; connection = idleConnections
+				.pollFirst()) {
+			idleCount.decrementAndGet();
+			discard(connection);
+		}
+		final List<Connection> connections = new ArrayList<Connection>(
+				activeConnections.keySet());
+		activeConnections.clear();
+		for (final Connection connection : connections) {
+			discard(connection);
+		}
 
 		LOG.trace("Complete DataBaseConnectionPool#closeAllConnections()");
 	}
 
 	/**
-	 * Close all JDBC connection specified by vector
-	 * 
-	 * @param connections
+	 * Take a valid connection from idle connections. Invalid connections are
+	 * closed.
+	 *
+	 * @return - valid connection, null if no idle connection is available
 	 */
-	private void closeConnections(List<Connection> connections) {
+	private Connection pollValidConnection() {
+		for (Connection connection = idleConnections.pollFirst(); connection != null; connection = idleConnections
+				.pollFirst()) {
+			idleCount.decrementAndGet();
+			if (validate(connection)) {
+				LOG.debug("Connection can be provided by initialized connection pool.");
+				return connection;
+			}
+			LOG.warning("Connection had been closed. Create new connection and return");
+			discard(connection);
+		}
+		return null;
+	}
+
+	/**
+	 * Check whether the specified connection is valid. The check is skipped
+	 * if the connection has been validated within validation interval.
+	 *
+	 * @param connection
+	 * @return - true if the connection is valid
+	 */
+	private boolean validate(Connection connection) {
+		final long now = System.currentTimeMillis();
+		final Long validated = validatedTimes.get(connection);
+		if (validated != null
+				&& now - validated.longValue() < connectionProperties
+						.getValidationInterval()) {
+			return true;
+		}
+
+		boolean valid = false;
+		try {
+			valid = !connection.isClosed()
+					&& connection.isValid(VALIDATION_TIMEOUT);
+		} catch (final SQLException e) {
+			LOG.error(e, "Error occurred while validating the connection : "
+					+ e);
+		}
+		if (valid) {
+			validatedTimes.put(connection, now);
+		}
+		return valid;
+	}
 
-		LOG.trace("Start DataBaseConnectionPool#closeConnections()");
+	/**
+	 * Open new connection and count it as open connection
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	private Connection openConnection() throws SQLException {
+		final Connection connection = createConnection();
+		openCount.incrementAndGet();
+		validatedTimes.put(connection, System.currentTimeMillis());
+		return connection;
+	}
 
+	/**
+	 * Close the specified connection and stop counting it as open connection
+	 *
+	 * @param connection
+	 */
+	private void discard(Connection connection) {
+		validatedTimes.remove(connection);
+		openCount.decrementAndGet();
 		try {
-			if (connections != null) {
-				for (int i = 0; i < connections.size(); i++) {
-					final Connection connection = connections.get(i);
-					if (!connection.isClosed()) {
-						LOG.debug("Close connections, if it is not closed.");
-						connection.close();
-					}
-				}
+			if (!connection.isClosed()) {
+				LOG.debug("Close connections, if it is not closed.");
+				connection.close();
 			}
 		} catch (final SQLException sqle) {
 			LOG.error(sqle, "Error occurred while closing the connection : " + sqle);
 		}
+	}
+
+	/**
+	 * Create idle connections till initial connection pool size
+	 *
+	 * @throws SQLException
+	 */
+	private void prewarm() throws SQLException {
+		final int minimum = connectionProperties.getInitialConnections();
+		while (!closed && openCount.get() < minimum
+				&& permits.tryAcquire()) {
+			try {
+				idleConnections.offerLast(openConnection());
+				idleCount.incrementAndGet();
+			} finally {
+				permits.release();
+			}
+		}
+	}
+
+	/**
+	 * Report leaked connections and keep the pool pre-warmed. Invoked by the
+	 * maintenance timer, and directly by unit tests.
+	 */
+	synchronized void maintain() {
+		final long now = System.currentTimeMillis();
+		final long threshold = connectionProperties.getLeakDetectionThreshold();
+		for (final Map.Entry<Connection, Lease> entry : activeConnections
+				.entrySet()) {
+			final Lease lease = entry.getValue();
+			if (!lease.reported && now - lease.borrowedTime > threshold) {
+				lease.reported = true;
+				leakCount.incrementAndGet();
+				LOG.warning("Connection may be leaked, borrowed by %s for %s ms : %s",
+						lease.threadName, now - lease.borrowedTime,
+						entry.getKey());
+			}
+		}
+
+		try {
+			prewarm();
+		} catch (final SQLException e) {
+			LOG.error(e, "Error ocurred while creating new connection : " + e);
+		}
+
+		LOG.debug("Connection pool status, active : %s, idle : %s, wait : %s, timeout : %s",
+				activeConnections.size(), idleCount.get(), waitCount.get(),
+				timeoutCount.get());
+	}
+
+	/**
+	 * Update wait time metrics
+	 *
+	 * @param nanos
+	 *            - wait time in nanoseconds
+	 */
+	private void recordWait(long nanos) {
+		waitCount.incrementAndGet();
+		totalWaitTime.addAndGet(nanos);
+		long max = maxWaitTime.get();
+		while (nanos > max && !maxWaitTime.compareAndSet(max, nanos)) {
+			max = maxWaitTime.get();
+		}
+	}
+
+	/**
+	 * Create connection by using JDBC APIs
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	private Connection createConnection() throws SQLException {
+
+		LOG.trace("Start DataBaseConnectionPool#createConnection()");
+		final Connection connection = DriverManager.getConnection(
+				connectionProperties.getDbURL(),
+				connectionProperties.getDbUsername(),
+				connectionProperties.getDbPassword());
+		connection.setAutoCommit(false);
+		LOG.trace("Complete DataBaseConnectionPool#createConnection()");
+		// reuse prepared statements during the life of connection
+		return StatementCache.wrap(connection);
+	}
+
+	/**
+	 * Lease of borrowed connection, used for leak detection
+	 */
+	private static final class Lease {
 
-		LOG.trace("Complete DataBaseConnectionPool#closeConnections()");
+		private final long borrowedTime = System.currentTimeMillis();
+		private final String threadName = Thread.currentThread().getName();
+		private volatile boolean reported = false;
 	}
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * In-memory allocator of auto-generated resource counters for one resource
+ * type of one VTN. Free counters and the next counter are loaded from the
+ * database once, and then counters are assigned in constant time without
+ * scanning resource tables.
+ *
+ * Every change is returned as a {@link Reservation}, which must be undone if
+ * the database transaction that used it is rolled back.
+ */
+final class ResourceIdAllocator {
+
+	/*
+	 * Counters which have a row in os_free_counter_tbl
+	 */
+	private final BitSet free = new BitSet();
+
+	/*
+	 * Unused counters which have no row in os_free_counter_tbl
+	 */
+	private final BitSet spare = new BitSet();
+
+	/*
+	 * Counter to be assigned when no free counter is available, -1 if this
+	 * resource type has no counter generator
+	 */
+	private int next = -1;
+
+	private boolean loaded = false;
+
+	/**
+	 * Check whether this allocator is already loaded from database
+	 *
+	 * @return - true if already loaded
+	 */
+	synchronized boolean isLoaded() {
+		return loaded;
+	}
+
+	/**
+	 * Initialize this allocator with the state loaded from database
+	 *
+	 * @param freeCounters
+	 *            - counters available in os_free_counter_tbl
+	 * @param unusedCounters
+	 *            - unused counters less than nextCounter, which are not
+	 *            available in os_free_counter_tbl
+	 * @param nextCounter
+	 *            - counter to be assigned when no free counter is available
+	 */
+	synchronized void load(List<Integer> freeCounters,
+			List<Integer> unusedCounters, int nextCounter) {
+		for (final Integer counter : freeCounters) {
+			free.set(counter.intValue());
+		}
+		for (final Integer counter : unusedCounters) {
+			spare.set(counter.intValue());
+		}
+		next = nextCounter;
+		loaded = true;
+	}
+
+	/**
+	 * Assign the smallest available counter
+	 *
+	 * @return - reservation of assigned counter, null if no counter is
+	 *         available
+	 */
+	synchronized Reservation allocate() {
+		final int freeCounter = free.nextSetBit(0);
+		final int spareCounter = spare.nextSetBit(0);
+		if (freeCounter >= 0
+				&& (spareCounter < 0 || freeCounter < spareCounter)) {
+			free.clear(freeCounter);
+			return new Reservation(this, freeCounter, Reservation.FREE);
+		}
+		if (spareCounter >= 0) {
+			spare.clear(spareCounter);
+			return new Reservation(this, spareCounter, Reservation.NEW);
+		}
+		if (next < 0) {
+			return null;
+		}
+		return new Reservation(this, next++, Reservation.NEW);
+	}
+
+	/**
+	 * Mark the specified counter as used, which is specified by the request
+	 * instead of auto-generation
+	 *
+	 * @param counter
+	 *            - counter to be used
+	 * @param persisted
+	 *            - true if the counter was removed from os_free_counter_tbl
+	 * @return - reservation of the counter
+	 */
+	synchronized Reservation reserve(int counter, boolean persisted) {
+		free.clear(counter);
+		spare.clear(counter);
+		if (next >= 0 && counter >= next) {
+			/*
+			 * keep skipped counters so that they are assigned later
+			 */
+			spare.set(next, counter);
+			next = counter + 1;
+		}
+		return new Reservation(this, counter, (persisted) ? Reservation.FREE
+				: Reservation.NEW);
+	}
+
+	/**
+	 * Return the specified counter to free resource counter pool
+	 *
+	 * @param counter
+	 *            - counter inserted into os_free_counter_tbl
+	 * @return - reservation of the counter
+	 */
+	synchronized Reservation release(int counter) {
+		spare.clear(counter);
+		free.set(counter);
+		return new Reservation(this, counter, Reservation.RELEASED);
+	}
+
+	/**
+	 * Undo the specified change, since the transaction is rolled back
+	 *
+	 * @param counter
+	 *            - changed counter
+	 * @param type
+	 *            - type of the change
+	 */
+	private synchronized void undo(int counter, int type) {
+		if (type == Reservation.FREE) {
+			free.set(counter);
+		} else if (type == Reservation.NEW) {
+			if (counter == next - 1) {
+				next--;
+			} else {
+				spare.set(counter);
+			}
+		} else {
+			free.clear(counter);
+		}
+	}
+
+	/**
+	 * Change of resource counter made by a database transaction
+	 */
+	static final class Reservation {
+
+		/* counter was taken from os_free_counter_tbl */
+		private static final int FREE = 0;
+
+		/* counter was newly generated */
+		private static final int NEW = 1;
+
+		/* counter was inserted into os_free_counter_tbl */
+		private static final int RELEASED = 2;
+
+		private final ResourceIdAllocator allocator;
+		private final int counter;
+		private final int type;
+
+		/**
+		 * Instantiates a new reservation
+		 *
+		 * @param allocator
+		 *            - allocator which made the change
+		 * @param counter
+		 *            - changed counter
+		 * @param type
+		 *            - type of the change
+		 */
+		private Reservation(ResourceIdAllocator allocator, int counter,
+				int type) {
+			this.allocator = allocator;
+			this.counter = counter;
+			this.type = type;
+		}
+
+		/**
+		 * Getter of counter
+		 *
+		 * @return - changed counter
+		 */
+		int getCounter() {
+			return counter;
+		}
+
+		/**
+		 * Check whether the counter must be deleted from os_free_counter_tbl
+		 *
+		 * @return - true if the counter was taken from os_free_counter_tbl
+		 */
+		boolean isFree() {
+			return type == FREE;
+		}
+
+		/**
+		 * Undo this change, since the transaction is rolled back
+		 */
+		void undo() {
+			allocator.undo(counter, type);
+		}
+	}
+}
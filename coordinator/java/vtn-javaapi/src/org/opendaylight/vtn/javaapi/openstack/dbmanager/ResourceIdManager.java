@@ -10,9 +10,16 @@ package org.opendaylight.vtn.javaapi.openstack.dbmanager;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.opendaylight.vtn.core.util.Logger;
+import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.openstack.beans.FreeCounterBean;
 import org.opendaylight.vtn.javaapi.openstack.beans.StaticRouteBean;
 import org.opendaylight.vtn.javaapi.openstack.beans.VBridgeBean;
@@ -40,10 +47,25 @@ public class ResourceIdManager {
 	private static final Logger LOG = Logger.getLogger(ResourceIdManager.class
 			.getName());
 
+	/*
+	 * Resource counter allocators, keyed by resource type and VTN name
+	 */
+	private static final ConcurrentMap<String, ResourceIdAllocator> ALLOCATORS = new ConcurrentHashMap<String, ResourceIdAllocator>();
+
+	/*
+	 * Changes of resource counters made by uncommitted transactions
+	 */
+	private static final ConcurrentMap<Connection, List<ResourceIdAllocator.Reservation>> RESERVATIONS = new ConcurrentHashMap<Connection, List<ResourceIdAllocator.Reservation>>();
+
 	/**
 	 * Generated resource counter for specified resource First check the
 	 * available counter, otherwise increment counter and return
 	 * 
+	 * Counters are assigned by in-memory allocator, which is loaded from
+	 * database only once for each resource type and VTN. Removal of the
+	 * counter from os_free_counter_tbl is still made in the transaction of
+	 * the specified connection.
+	 * 
 	 * @param connection
 	 *            - DB Connection instance
 	 * @param freeCounterBean
@@ -55,66 +77,113 @@ public class ResourceIdManager {
 			FreeCounterBean freeCounterBean) throws SQLException {
 		LOG.trace("Start ResourceIdManager#getResourceId()");
 		int resourceCounter = -1;
-		/*
-		 * Check if any resource counter is available that can be used
-		 */
 		final FreeCounterDao freeCounterDao = new FreeCounterDao();
-		resourceCounter = freeCounterDao
-				.getCounter(connection, freeCounterBean);
-
-		freeCounterBean.setResourceCounter(resourceCounter);
 
 		/*
-		 * resource counter is available in free resource counter pool then use
-		 * the same after deleting that from free resource counter pool. On the
-		 * other hand increment counter and return.
+		 * retry once with reloaded allocator, if in-memory free resource
+		 * counter pool is out of sync with database
 		 */
-		if (resourceCounter != -1) {
-			if (freeCounterDao.deleteCounter(connection, freeCounterBean) != 1) {
-				LOG.error("Error in deletion of resource counter from os_free_counter_tbl.");
-				resourceCounter = -1;
+		for (int i = 0; i < 2 && resourceCounter == -1; i++) {
+			final ResourceIdAllocator.Reservation reservation = getAllocator(
+					connection, freeCounterBean).allocate();
+			if (reservation == null) {
+				LOG.error("Resource counter can not be generated for : %s",
+						freeCounterBean.getResourceId());
+				break;
 			}
-		} else {
-			LOG.info("Resource counter is not available in os_free_counter_tbl.");
-
-			LOG.debug("Resource counter required to be generated for  : "
-					+ freeCounterBean.getResourceId() + " and vtn_name : "
-					+ freeCounterBean.getVtnName());
-
-			if (freeCounterBean.getResourceId().equalsIgnoreCase(
-					VtnServiceOpenStackConsts.TENANT_RES_ID)) {
-				LOG.debug("Resource generation for VTN.");
-				final VtnDao vtnDao = new VtnDao();
-				resourceCounter = vtnDao.getNextId(connection);
-			} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
-					VtnServiceOpenStackConsts.NETWORK_RES_ID)) {
-				LOG.debug("Resource generation for vBridge.");
-				final VBridgeDao vBridgeDao = new VBridgeDao();
-				resourceCounter = vBridgeDao.getNextId(connection,
-						freeCounterBean.getVtnName());
-			} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
-					VtnServiceOpenStackConsts.PORT_RES_ID)) {
-				LOG.debug("Resource generation for port/router interface.");
-				final VBridgeInterfaceDao vbrInterfaceDao = new VBridgeInterfaceDao();
-				int portResourceCounter = vbrInterfaceDao.getNextId(connection,
+
+			freeCounterBean.setResourceCounter(reservation.getCounter());
+
+			/*
+			 * resource counter is available in free resource counter pool then
+			 * use the same after deleting that from free resource counter pool.
+			 */
+			if (reservation.isFree()
+					&& freeCounterDao.deleteCounter(connection,
+							freeCounterBean) != 1) {
+				LOG.warning("Resource counter is not found in os_free_counter_tbl, reload resource counters.");
+				invalidate(freeCounterBean.getResourceId(),
 						freeCounterBean.getVtnName());
-				final VRouterInterfaceDao vrtInterfaceDao = new VRouterInterfaceDao();
-				int interfaceResourceCounter = vrtInterfaceDao.getNextId(
-						connection, freeCounterBean.getVtnName());
-				resourceCounter = portResourceCounter
-						+ interfaceResourceCounter - 1;
-			} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
-					VtnServiceOpenStackConsts.FILTER_RES_ID)) {
-				final FlowListDao flowListDao = new FlowListDao();
-				int flowFilterCounter = flowListDao.getNextId(connection);
-				resourceCounter = flowFilterCounter;
+				freeCounterBean.setResourceCounter(-1);
+			} else {
+				addReservation(connection, reservation);
+				resourceCounter = reservation.getCounter();
 			}
 		}
-		LOG.info("Resource counter that will be used : " + resourceCounter);
+		LOG.info("Resource counter that will be used : %s", resourceCounter);
 		LOG.trace("Complete ResourceIdManager#getResourceId()");
 		return resourceCounter;
 	}
 
+	/**
+	 * Mark the resource counter specified by the request as used. The counter
+	 * is deleted from os_free_counter_tbl if available.
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBean
+	 *            - Bean corresponding to os_free_counter_tbl
+	 * @throws SQLException
+	 */
+	public void reserveResourceCounter(Connection connection,
+			FreeCounterBean freeCounterBean) throws SQLException {
+		LOG.trace("Start ResourceIdManager#reserveResourceCounter()");
+		final FreeCounterDao freeCounterDao = new FreeCounterDao();
+		boolean persisted = false;
+		if (freeCounterDao.isCounterFound(connection, freeCounterBean)) {
+			persisted = freeCounterDao.deleteCounter(connection,
+					freeCounterBean) == 1;
+		}
+
+		final ResourceIdAllocator allocator = ALLOCATORS.get(getKey(
+				freeCounterBean.getResourceId(), freeCounterBean.getVtnName()));
+		if (allocator != null && allocator.isLoaded()) {
+			addReservation(connection, allocator.reserve(
+					freeCounterBean.getResourceCounter(), persisted));
+		}
+		LOG.trace("Complete ResourceIdManager#reserveResourceCounter()");
+	}
+
+	/**
+	 * Confirm changes of resource counters made by the transaction of
+	 * specified connection. Must be called after the transaction is
+	 * committed.
+	 * 
+	 * @param connection
+	 *            - committed DB Connection instance
+	 */
+	public static void commit(Connection connection) {
+		RESERVATIONS.remove(connection);
+	}
+
+	/**
+	 * Undo changes of resource counters made by the transaction of specified
+	 * connection, which are not committed
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 */
+	static void rollback(Connection connection) {
+		final List<ResourceIdAllocator.Reservation> reservations = RESERVATIONS
+				.remove(connection);
+		if (reservations != null) {
+			LOG.debug("Undo resource counter changes : %s",
+					reservations.size());
+			for (int i = reservations.size() - 1; i >= 0; i--) {
+				reservations.get(i).undo();
+			}
+		}
+	}
+
+	/**
+	 * Discard all in-memory resource counter allocators. They are loaded
+	 * again from database on next use.
+	 */
+	static void clear() {
+		ALLOCATORS.clear();
+		RESERVATIONS.clear();
+	}
+
 	/**
 	 * Delete resource information from corresponding database table and update
 	 * free resource counter pool, if resource was auto-generated
@@ -189,11 +258,66 @@ public class ResourceIdManager {
 					ifIds);
 		}
 
-		LOG.debug("Status of operation : " + result);
+		LOG.debug("Status of operation : %s", result);
 		LOG.trace("Complete ResourceIdManager#deleteResourceId()");
 		return result;
 	}
 
+	/**
+	 * Delete vBridge interfaces from database and update free resource counter
+	 * pool for auto-generated interface counters, by using batch updates
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBean
+	 *            - Bean corresponding to os_free_counter_tbl, which specifies
+	 *            resource type and VTN name
+	 * @param vInterfaceBeanList
+	 *            - Beans corresponding to os_vbr_if_tbl
+	 * @return - true is operation executed successfully for all interfaces
+	 * @throws SQLException
+	 */
+	public boolean deleteResourceIds(Connection connection,
+			FreeCounterBean freeCounterBean,
+			List<VBridgeInterfaceBean> vInterfaceBeanList) throws SQLException {
+		LOG.trace("Start ResourceIdManager#deleteResourceIds()");
+
+		boolean result = true;
+		final VBridgeInterfaceDao vInterfaceDao = new VBridgeInterfaceDao();
+		final int[] deletionStatus = vInterfaceDao.delete(connection,
+				vInterfaceBeanList);
+
+		final List<FreeCounterBean> counterBeans = new ArrayList<FreeCounterBean>();
+		for (int i = 0; i < deletionStatus.length; i++) {
+			final int counter = vInterfaceBeanList.get(i).getVbrIfId();
+			if (!isUpdated(deletionStatus[i])) {
+				LOG.info("counter deletion is failed for : %s", counter);
+				result = false;
+			} else if (counter != 0) {
+				final FreeCounterBean counterBean = new FreeCounterBean();
+				counterBean.setResourceId(freeCounterBean.getResourceId());
+				counterBean.setVtnName(freeCounterBean.getVtnName());
+				counterBean.setResourceCounter(counter);
+				counterBeans.add(counterBean);
+			}
+		}
+
+		final FreeCounterDao freeCounterDao = new FreeCounterDao();
+		final int[] insertionStatus = freeCounterDao.insertCounters(
+				connection, counterBeans);
+		for (int i = 0; i < insertionStatus.length; i++) {
+			if (isUpdated(insertionStatus[i])) {
+				release(connection, counterBeans.get(i));
+			} else {
+				result = false;
+			}
+		}
+
+		LOG.debug("Status of operation : %s", result);
+		LOG.trace("Complete ResourceIdManager#deleteResourceIds()");
+		return result;
+	}
+
 	/**
 	 * Manages the counters for all kind of resources available for OpenStack
 	 * operations
@@ -219,18 +343,27 @@ public class ResourceIdManager {
 			FreeCounterBean localBean = new FreeCounterBean();
 			localBean.setVtnName(((VtnBean) resourceBean).getVtnName());
 			freeCounterDao.deleteVtnChilds(connection, localBean);
+			invalidateVtnChilds(localBean.getVtnName());
 		} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
 				VtnServiceOpenStackConsts.NETWORK_RES_ID)
 				|| freeCounterBean.getResourceId().equalsIgnoreCase(
 						VtnServiceOpenStackConsts.ROUTER_RES_ID)) {
 			if (ifIds.size() > 0) {
 				// insert unused counter into os_free_resource_counter table
-				FreeCounterBean localBean = new FreeCounterBean();
-				localBean.setResourceId(VtnServiceOpenStackConsts.PORT);
-				localBean.setVtnName(freeCounterBean.getVtnName());
+				final List<FreeCounterBean> localBeans = new ArrayList<FreeCounterBean>();
 				for (int i = 0; i < ifIds.size(); i++) {
+					FreeCounterBean localBean = new FreeCounterBean();
+					localBean.setResourceId(VtnServiceOpenStackConsts.PORT);
+					localBean.setVtnName(freeCounterBean.getVtnName());
 					localBean.setResourceCounter(ifIds.get(i));
-					freeCounterDao.insertCounter(connection, localBean);
+					localBeans.add(localBean);
+				}
+				final int[] status = freeCounterDao.insertCounters(connection,
+						localBeans);
+				for (int i = 0; i < status.length; i++) {
+					if (isUpdated(status[i])) {
+						release(connection, localBeans.get(i));
+					}
 				}
 			}
 		}
@@ -245,7 +378,202 @@ public class ResourceIdManager {
 		} else {
 			LOG.debug("Resource is auto-generated, insertion required in os_res_counter table.");
 			result = freeCounterDao.insertCounter(connection, freeCounterBean) == 1;
+			if (result) {
+				release(connection, freeCounterBean);
+			}
 		}
 		return result;
 	}
+
+	/**
+	 * Get the allocator for resource type and VTN specified by the bean. The
+	 * allocator is loaded from database if it is not yet loaded.
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBean
+	 *            - Bean corresponding to os_free_counter_tbl
+	 * @return - loaded allocator
+	 * @throws SQLException
+	 */
+	private ResourceIdAllocator getAllocator(Connection connection,
+			FreeCounterBean freeCounterBean) throws SQLException {
+		final String key = getKey(freeCounterBean.getResourceId(),
+				freeCounterBean.getVtnName());
+		ResourceIdAllocator allocator = ALLOCATORS.get(key);
+		if (allocator == null) {
+			final ResourceIdAllocator newAllocator = new ResourceIdAllocator();
+			allocator = ALLOCATORS.putIfAbsent(key, newAllocator);
+			if (allocator == null) {
+				allocator = newAllocator;
+			}
+		}
+
+		synchronized (allocator) {
+			if (!allocator.isLoaded()) {
+				loadAllocator(connection, freeCounterBean, allocator);
+			}
+		}
+		return allocator;
+	}
+
+	/**
+	 * Load free resource counters and next resource counter from database
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBean
+	 *            - Bean corresponding to os_free_counter_tbl
+	 * @param allocator
+	 *            - allocator to be loaded
+	 * @throws SQLException
+	 */
+	private void loadAllocator(Connection connection,
+			FreeCounterBean freeCounterBean, ResourceIdAllocator allocator)
+			throws SQLException {
+		LOG.debug("Load resource counters for : %s and vtn_name : %s",
+				freeCounterBean.getResourceId(), freeCounterBean.getVtnName());
+
+		final FreeCounterDao freeCounterDao = new FreeCounterDao();
+		final List<Integer> freeCounters = freeCounterDao.getCounters(
+				connection, freeCounterBean);
+		final List<Integer> unusedCounters = new ArrayList<Integer>();
+		int resourceCounter = -1;
+
+		if (freeCounterBean.getResourceId().equalsIgnoreCase(
+				VtnServiceOpenStackConsts.TENANT_RES_ID)) {
+			LOG.debug("Resource generation for VTN.");
+			final VtnDao vtnDao = new VtnDao();
+			resourceCounter = vtnDao.getNextId(connection);
+		} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
+				VtnServiceOpenStackConsts.NETWORK_RES_ID)) {
+			LOG.debug("Resource generation for vBridge.");
+			final VBridgeDao vBridgeDao = new VBridgeDao();
+			resourceCounter = vBridgeDao.getNextId(connection,
+					freeCounterBean.getVtnName());
+		} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
+				VtnServiceOpenStackConsts.PORT_RES_ID)) {
+			LOG.debug("Resource generation for port/router interface.");
+			final VBridgeInterfaceDao vbrInterfaceDao = new VBridgeInterfaceDao();
+			int portResourceCounter = vbrInterfaceDao.getNextId(connection,
+					freeCounterBean.getVtnName());
+			final VRouterInterfaceDao vrtInterfaceDao = new VRouterInterfaceDao();
+			int interfaceResourceCounter = vrtInterfaceDao.getNextId(
+					connection, freeCounterBean.getVtnName());
+			resourceCounter = portResourceCounter + interfaceResourceCounter
+					- 1;
+		} else if (freeCounterBean.getResourceId().equalsIgnoreCase(
+				VtnServiceOpenStackConsts.FILTER_RES_ID)) {
+			/*
+			 * flow list ids are assigned from the smallest unused id
+			 */
+			final FlowListDao flowListDao = new FlowListDao();
+			resourceCounter = 1;
+			for (final Integer id : flowListDao.getIdList(connection)) {
+				while (resourceCounter < id.intValue()) {
+					unusedCounters.add(resourceCounter++);
+				}
+				resourceCounter = id.intValue() + 1;
+			}
+		}
+
+		allocator.load(freeCounters, unusedCounters, resourceCounter);
+	}
+
+	/**
+	 * Return the counter specified by the bean to in-memory free resource
+	 * counter pool, if the allocator is already loaded
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param freeCounterBean
+	 *            - Bean corresponding to os_free_counter_tbl
+	 */
+	private void release(Connection connection, FreeCounterBean freeCounterBean) {
+		final ResourceIdAllocator allocator = ALLOCATORS.get(getKey(
+				freeCounterBean.getResourceId(), freeCounterBean.getVtnName()));
+		if (allocator != null && allocator.isLoaded()) {
+			addReservation(connection,
+					allocator.release(freeCounterBean.getResourceCounter()));
+		}
+	}
+
+	/**
+	 * Record the change of resource counter made by the transaction of
+	 * specified connection
+	 * 
+	 * @param connection
+	 *            - DB Connection instance
+	 * @param reservation
+	 *            - change of resource counter
+	 */
+	private void addReservation(Connection connection,
+			ResourceIdAllocator.Reservation reservation) {
+		/*
+		 * connection is used by one request at a time
+		 */
+		List<ResourceIdAllocator.Reservation> reservations = RESERVATIONS
+				.get(connection);
+		if (reservations == null) {
+			reservations = new ArrayList<ResourceIdAllocator.Reservation>();
+			RESERVATIONS.put(connection, reservations);
+		}
+		reservations.add(reservation);
+	}
+
+	/**
+	 * Discard the allocator for specified resource type and VTN
+	 * 
+	 * @param resourceId
+	 *            - resource type
+	 * @param vtnName
+	 *            - VTN name
+	 */
+	private void invalidate(String resourceId, String vtnName) {
+		ALLOCATORS.remove(getKey(resourceId, vtnName));
+	}
+
+	/**
+	 * Discard allocators for all child resources of specified VTN
+	 * 
+	 * @param vtnName
+	 *            - VTN name
+	 */
+	private void invalidateVtnChilds(String vtnName) {
+		final String suffix = VtnServiceConsts.SLASH + vtnName;
+		final String tenantKey = getKey(
+				VtnServiceOpenStackConsts.TENANT_RES_ID, vtnName);
+		final Iterator<String> iterator = ALLOCATORS.keySet().iterator();
+		while (iterator.hasNext()) {
+			final String key = iterator.next();
+			if (key.endsWith(suffix) && !key.equals(tenantKey)) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * Check whether a row is updated by a statement in batch
+	 * 
+	 * @param status
+	 *            - update count returned by executeBatch()
+	 * @return - true if one row is updated
+	 */
+	private static boolean isUpdated(int status) {
+		return status == 1 || status == Statement.SUCCESS_NO_INFO;
+	}
+
+	/**
+	 * Get the key of allocator map
+	 * 
+	 * @param resourceId
+	 *            - resource type
+	 * @param vtnName
+	 *            - VTN name
+	 * @return - key of allocator map
+	 */
+	private static String getKey(String resourceId, String vtnName) {
+		return resourceId.toLowerCase(Locale.ENGLISH) + VtnServiceConsts.SLASH
+				+ vtnName;
+	}
 }
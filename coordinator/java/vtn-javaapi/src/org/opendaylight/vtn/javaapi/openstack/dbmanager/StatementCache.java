@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opendaylight.vtn.core.util.Logger;
+
+/**
+ * Prepared statement cache for pooled connections. A connection wrapped by
+ * this class returns the same prepared statement for the same SQL, so that
+ * the SQLs of VtnOpenStackSQLFactory are prepared only once per connection.
+ *
+ * Each call of prepareStatement() returns a new handle of the cached
+ * statement. Closing the handle only clears the parameters of the statement,
+ * and the statement is closed when it is evicted from the cache or the
+ * connection is closed. A closed handle can not be used any more, and closing
+ * it again does nothing. If the cached statement is still in use, a new
+ * statement is prepared without caching.
+ */
+final class StatementCache implements InvocationHandler {
+
+	private static final Logger LOG = Logger.getLogger(StatementCache.class
+			.getName());
+
+	/* maximum number of cached statements per connection */
+	static final int MAX_STATEMENTS = 128;
+
+	private static final String PREPARE_STATEMENT = "prepareStatement";
+	private static final String CLOSE = "close";
+	private static final String IS_CLOSED = "isClosed";
+	private static final String EQUALS = "equals";
+	private static final String HASH_CODE = "hashCode";
+
+	private final Connection connection;
+
+	private final LinkedHashMap<String, CachedStatement> statements = new LinkedHashMap<String, CachedStatement>(
+			16, 0.75f, true);
+
+	/**
+	 * Instantiates a new statement cache for specified connection
+	 *
+	 * @param connection
+	 *            - JDBC connection
+	 */
+	private StatementCache(Connection connection) {
+		this.connection = connection;
+	}
+
+	/**
+	 * Wrap the specified connection so that prepared statements are cached
+	 *
+	 * @param connection
+	 *            - JDBC connection
+	 * @return - wrapped connection
+	 */
+	static Connection wrap(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(
+				StatementCache.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new StatementCache(
+						connection));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object,
+	 * java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable {
+		final String name = method.getName();
+		if (PREPARE_STATEMENT.equals(name) && args.length == 1) {
+			return prepareStatement((String) args[0]);
+		} else if (CLOSE.equals(name) && args == null) {
+			closeStatements();
+		} else if (EQUALS.equals(name) && args.length == 1) {
+			return proxy == args[0];
+		} else if (HASH_CODE.equals(name) && args == null) {
+			return System.identityHashCode(proxy);
+		}
+		return invokeTarget(connection, method, args);
+	}
+
+	/**
+	 * Return the prepared statement for specified SQL
+	 *
+	 * @param sql
+	 *            - SQL string
+	 * @return - prepared statement
+	 * @throws SQLException
+	 */
+	private synchronized PreparedStatement prepareStatement(String sql)
+			throws SQLException {
+		CachedStatement cached = statements.get(sql);
+		if (cached != null && cached.inUse) {
+			LOG.debug("Cached statement is in use, prepare new statement.");
+			return connection.prepareStatement(sql);
+		}
+
+		if (cached == null) {
+			cached = new CachedStatement(connection.prepareStatement(sql));
+			statements.put(sql, cached);
+		}
+		/*
+		 * mark the statement as in use before eviction, so that the new
+		 * statement is never evicted
+		 */
+		cached.inUse = true;
+		evictStatements();
+		return new StatementLease(cached).proxy;
+	}
+
+	/**
+	 * Close least recently used statements which are not in use, while the
+	 * number of cached statements exceeds the limit
+	 *
+	 * @throws SQLException
+	 */
+	private void evictStatements() throws SQLException {
+		final Iterator<CachedStatement> iterator = statements.values()
+				.iterator();
+		while (statements.size() > MAX_STATEMENTS && iterator.hasNext()) {
+			final CachedStatement cached = iterator.next();
+			if (!cached.inUse) {
+				iterator.remove();
+				cached.statement.close();
+			}
+		}
+	}
+
+	/**
+	 * Close all cached statements
+	 */
+	private synchronized void closeStatements() {
+		final List<CachedStatement> list = new ArrayList<CachedStatement>(
+				statements.values());
+		statements.clear();
+		for (final CachedStatement cached : list) {
+			try {
+				cached.statement.close();
+			} catch (final SQLException e) {
+				LOG.error(e, "Error occurred while closing the statement : "
+						+ e);
+			}
+		}
+	}
+
+	/**
+	 * Release the specified statement, so that it can be used again. Nothing
+	 * is cleared if the statement is already closed by eviction or by
+	 * closing the connection.
+	 *
+	 * @param cached
+	 *            - cached statement
+	 * @throws SQLException
+	 */
+	private synchronized void release(CachedStatement cached)
+			throws SQLException {
+		if (cached.inUse) {
+			cached.inUse = false;
+			if (!cached.statement.isClosed()) {
+				cached.statement.clearParameters();
+				cached.statement.clearBatch();
+			}
+		}
+	}
+
+	/**
+	 * Invoke the method of the target object
+	 *
+	 * @param target
+	 *            - target object
+	 * @param method
+	 *            - method to be invoked
+	 * @param args
+	 *            - method arguments
+	 * @return - return value of the method
+	 * @throws Throwable
+	 */
+	private static Object invokeTarget(Object target, Method method,
+			Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (final InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Prepared statement kept in the cache
+	 */
+	private static final class CachedStatement {
+
+		private final PreparedStatement statement;
+		private boolean inUse = false;
+
+		/**
+		 * Instantiates a new cached statement
+		 *
+		 * @param statement
+		 *            - prepared statement
+		 */
+		private CachedStatement(PreparedStatement statement) {
+			this.statement = statement;
+		}
+	}
+
+	/**
+	 * Handle of the cached statement returned to one borrower. The handle is
+	 * valid until it is closed, so that a stale handle never affects the
+	 * statement leased to another borrower.
+	 */
+	private final class StatementLease implements InvocationHandler {
+
+		private final CachedStatement cached;
+		private final PreparedStatement proxy;
+		private boolean closed = false;
+
+		/**
+		 * Instantiates a new handle of the specified cached statement
+		 *
+		 * @param cached
+		 *            - cached statement
+		 */
+		private StatementLease(CachedStatement cached) {
+			this.cached = cached;
+			this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+					StatementCache.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, this);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object,
+		 * java.lang.reflect.Method, java.lang.Object[])
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+			final String name = method.getName();
+			if (CLOSE.equals(name) && args == null) {
+				if (!closed) {
+					closed = true;
+					release(cached);
+				}
+				return null;
+			} else if (IS_CLOSED.equals(name) && args == null) {
+				return closed || cached.statement.isClosed();
+			} else if (EQUALS.equals(name) && args.length == 1) {
+				return proxy == args[0];
+			} else if (HASH_CODE.equals(name) && args == null) {
+				return System.identityHashCode(proxy);
+			} else if (closed) {
+				throw new SQLException("Statement is already closed.");
+			}
+			return invokeTarget(cached.statement, method, args);
+		}
+	}
+}
@@ -15,6 +15,7 @@ public class VtnOpenStackSQLFactory {
 
 	/* CRUD SQLs for os_free_counter_tbl */
 	public static final String SEL_FC_SQL = "select os_res_counter from os_free_counter_tbl where os_res_id = ? and os_vtn_name = ? order by os_res_counter limit 1";
+	public static final String SEL_ALL_FC_SQL = "select os_res_counter from os_free_counter_tbl where os_res_id = ? and os_vtn_name = ?";
 	public static final String DEL_FC_SQL = "delete from os_free_counter_tbl where os_res_id = ? and os_vtn_name = ? and os_res_counter = ?";
 	public static final String INS_FC_SQL = "insert into os_free_counter_tbl(os_res_counter,os_vtn_name,os_res_id) values(?,?,?)";
 	public static final String DEL_VTN_CHILD_SQL = "delete from os_free_counter_tbl where os_vtn_name = ? and os_res_id != ?";
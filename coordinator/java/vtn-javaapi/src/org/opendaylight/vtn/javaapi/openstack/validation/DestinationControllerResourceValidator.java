@@ -44,7 +44,7 @@ public class DestinationControllerResourceValidator extends VtnServiceValidator
 	 */
 	public DestinationControllerResourceValidator(
 			final AbstractResource resource) {
-		LOG.debug("No use of resource instance : " + resource);
+		LOG.debug("No use of resource instance : %s", resource);
 	}
 
 	/**
@@ -87,8 +87,7 @@ public class DestinationControllerResourceValidator extends VtnServiceValidator
 		 */
 		if (!isValid) {
 			LOG.error("Validation failure");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
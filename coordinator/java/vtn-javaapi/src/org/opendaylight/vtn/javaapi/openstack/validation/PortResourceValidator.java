@@ -94,8 +94,7 @@ public class PortResourceValidator extends VtnServiceValidator {
 		 */
 		if (!isValid) {
 			LOG.error("Validation failure");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
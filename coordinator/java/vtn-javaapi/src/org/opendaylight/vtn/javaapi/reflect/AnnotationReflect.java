@@ -46,7 +46,7 @@ public final class AnnotationReflect {
 	public static AbstractResource getResource(final String path,
 			final VtnServiceExceptionHandler exceptionHandler) throws VtnServiceException {
 		LOG.trace("Start AnnotationReflect#getResource()");
-		LOG.debug("Resource path: " + path);
+		LOG.debug("Resource path: %s", path);
 		AbstractResource resource = null;
 
 		final Map<String, String> fields = new HashMap<String, String>();
@@ -86,11 +86,6 @@ public final class AnnotationReflect {
 					}
 				} catch (final Exception e) {
 					exceptionHandler.raise(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.INTERNAL_ERROR
 									.getErrorMessage(), e);
@@ -12,6 +12,8 @@ package org.opendaylight.vtn.javaapi.resources;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -49,6 +51,10 @@ public abstract class AbstractResource implements VtnServiceResource {
 
 	private static final Logger LOG = Logger.getLogger(AbstractResource.class
 			.getName());
+
+	/* Cache of IPC response conversion methods */
+	private static final ConcurrentMap<String, Method> CONVERTER_CACHE =
+			new ConcurrentHashMap<String, Method>();
 	private VtnServiceExceptionHandler exceptionHandler;
 	private VtnServiceValidator validator;
 	private JsonObject info;
@@ -411,7 +417,6 @@ public abstract class AbstractResource implements VtnServiceResource {
 		// session reset
 		requestProcessor.setServiceInfo(UncUPPLEnums.UPPL_IPC_SVC_NAME,
 				UncUPPLEnums.ServiceID.UPPL_SVC_READREQ.ordinal());
-		int status = ClientSession.RESP_FATAL;
 		long memberIndex = 0;
 		long max_repetition = 0;
 		//get max_repetition.
@@ -429,85 +434,11 @@ public abstract class AbstractResource implements VtnServiceResource {
 			} else {
 				uriParameters.add(memberLastIndex.get(IndexName).getAsString());
 			}
-			// (noSuchInstanceFlag = 0 ) means that all data has been acquired
-			// (noSuchInstanceFlag != 0) means that there may be data.
-			int noSuchInstanceFlag = 0;
-			noSuchInstanceFlag = responseArray.size();
-			while (noSuchInstanceFlag != 0 && memberIndex < max_repetition) {
-
-				JsonArray memberArray = null;
-				memberLastIndex = (JsonObject) responseArray.get(responseArray
-						.size() - 1);
-				uriParameters.remove(uriParameters.size() - 1);
-				uriParameters.add(uriParameters.size(),
-						memberLastIndex.get(IndexName).getAsString());
-
-				requestProcessor.createIpcRequestPacket(requestPackeEnumName,
-						requestBody, uriParameters);
-
-				// update the operation to read_sibling.
-				if (requestProcessor.getRequestPacket().getOperation().intValue() !=
-				    UncOperationEnum.UNC_OP_READ_SIBLING.ordinal()) {
-					requestProcessor.getRequestPacket().setOperation(new IpcUint32
-							(UncOperationEnum.UNC_OP_READ_SIBLING.ordinal()));
-				}
-				
-				status = requestProcessor.processIpcRequest();
-				if (status == ClientSession.RESP_FATAL) {
-					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR
-									.getErrorMessage());
-				}
-				try {
-					Method method;
-
-					final Class<IpcPhysicalResponseFactory> sourceClass = IpcPhysicalResponseFactory.class;
-					// get the method name to get the IpcLogicalResponseFactory
-					// object for given key
-					method = sourceClass.getMethod(methodName,
-							new Class<?>[] { IpcDataUnit[].class,
-									JsonObject.class, String.class });
-					// get IpcLogicalResponseFactory object
-
-					memberArray = ((JsonObject) method.invoke(
-							responseGenerator,
-							requestProcessor.getIpcResponsePacket(),
-							requestBody, VtnServiceJsonConsts.LIST))
-							.getAsJsonArray(JsonArrayName);
-					noSuchInstanceFlag = memberArray.size();
-				} catch (final Exception e) {
-					exceptionHandler.raise(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
-							UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
-							UncJavaAPIErrorCode.INTERNAL_ERROR
-									.getErrorMessage(), e);
-				}
-				if (null != memberArray && !memberArray.isJsonNull()
-						&& memberArray.size() > 0) {
-					// all the required data have been acquired.
-					if (memberIndex + memberArray.size() > max_repetition) {
-						for (long i = memberIndex; i<max_repetition; i++) {
-							responseArray.getAsJsonArray().add((memberArray.get((int)(i - memberIndex))));
-						}
-						memberIndex =  max_repetition;
-					} else {
-						responseArray.getAsJsonArray().addAll(memberArray);
-						memberIndex += memberArray.size();
-					}
-				} else {
-					break;
-				}
-			}
+			readSiblings(requestBody, requestProcessor, responseGenerator,
+					responseArray, JsonArrayName, IndexName,
+					requestPackeEnumName, uriParameters,
+					getConverter(IpcPhysicalResponseFactory.class, methodName),
+					memberIndex, max_repetition);
 		}
 		final JsonObject root = new JsonObject();
 		root.add(JsonArrayName, responseArray);
@@ -540,7 +471,6 @@ public abstract class AbstractResource implements VtnServiceResource {
 		// session reset
 		requestProcessor.setServiceInfo(UncUPLLEnums.UPLL_IPC_SERVICE_NAME,
 				UncUPLLEnums.ServiceID.UPLL_READ_SVC_ID.ordinal());
-		int status = ClientSession.RESP_FATAL;
 		long memberIndex = 0;
 		long max_repetition = 0;
 		//get max_repetition.
@@ -561,89 +491,143 @@ public abstract class AbstractResource implements VtnServiceResource {
 				uriParameters.add(memberLastIndex.get(param).getAsString());
 			}
 
-			// (noSuchInstanceFlag = 0 ) means that all data has been acquired.
-			// (noSuchInstanceFlag != 0) means that there may be data.
-			int noSuchInstanceFlag = 0;
-			noSuchInstanceFlag = responseArray.size();
-			while (noSuchInstanceFlag != 0 && memberIndex < max_repetition) {
+			readSiblings(requestBody, requestProcessor, responseGenerator,
+					responseArray, JsonArrayName, IndexName,
+					requestPackeEnumName, uriParameters,
+					getConverter(IpcLogicalResponseFactory.class, methodName),
+					memberIndex, max_repetition);
+		}
+		final JsonObject root = new JsonObject();
+		root.add(JsonArrayName, responseArray);
+		return root;
+	}
 
-				JsonArray memberArray = null;
-				memberLastIndex = (JsonObject) responseArray.get(responseArray
-						.size() - 1);
-				uriParameters.remove(uriParameters.size() - 1);
-				uriParameters.add(uriParameters.size(),
-						memberLastIndex.get(IndexName).getAsString());
+	/**
+	 * Resolve the method which converts the IPC response into JSON.
+	 * 
+	 * <p>
+	 * Resolved methods are cached per factory class and method name, so
+	 * that reflective lookup is performed only once per resource.
+	 * </p>
+	 * 
+	 * @param factoryClass
+	 *            - IpcPhysicalResponseFactory or IpcLogicalResponseFactory
+	 * @param methodName
+	 *            - name of the conversion method
+	 * @return conversion method
+	 * @throws VtnServiceException
+	 */
+	private Method getConverter(final Class<?> factoryClass,
+			final String methodName) throws VtnServiceException {
+		final String key = factoryClass.getName() + VtnServiceConsts.HYPHEN
+				+ methodName;
+		Method method = CONVERTER_CACHE.get(key);
+		if (method == null) {
+			try {
+				method = factoryClass.getMethod(methodName, new Class<?>[] {
+						IpcDataUnit[].class, JsonObject.class, String.class });
+			} catch (final NoSuchMethodException e) {
+				exceptionHandler.raise(
+						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
+						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorMessage(), e);
+			}
+			final Method old = CONVERTER_CACHE.putIfAbsent(key, method);
+			if (old != null) {
+				method = old;
+			}
+		}
+		return method;
+	}
 
-				requestProcessor.createIpcRequestPacket(requestPackeEnumName,
-						requestBody, uriParameters);
-				
-				// update the operation to read_sibling.
-				if (requestProcessor.getRequestPacket().getOperation().intValue() !=
-				    UncOperationEnum.UNC_OP_READ_SIBLING.ordinal()) {
-					requestProcessor.getRequestPacket().setOperation(new IpcUint32
-							(UncOperationEnum.UNC_OP_READ_SIBLING.ordinal()));
-				}
-				
-				status = requestProcessor.processIpcRequest();
-				if (status == ClientSession.RESP_FATAL) {
-					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR
-									.getErrorMessage());
-				}
-				try {
-					Method method;
-
-					final Class<IpcLogicalResponseFactory> sourceClass = IpcLogicalResponseFactory.class;
-					// get the method name to get the IpcLogicalResponseFactory
-					// object for given key
-					method = sourceClass.getMethod(methodName,
-							new Class<?>[] { IpcDataUnit[].class,
-									JsonObject.class, String.class });
-					// get IpcLogicalResponseFactory object
-
-					memberArray = ((JsonObject) method.invoke(
-							responseGenerator,
-							requestProcessor.getIpcResponsePacket(),
-							requestBody, VtnServiceJsonConsts.LIST))
-							.getAsJsonArray(JsonArrayName);
-					noSuchInstanceFlag = memberArray.size();
-				} catch (final Exception e) {
-					exceptionHandler.raise(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
-							UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
-							UncJavaAPIErrorCode.INTERNAL_ERROR
-									.getErrorMessage(), e);
-				}
-				if (null != memberArray && !memberArray.isJsonNull()
-						&& memberArray.size() > 0) {
-					// all the required data have been acquired.
-					if (memberIndex + memberArray.size() > max_repetition) {
-						for (long i = memberIndex; i<max_repetition; i++) {
-							responseArray.getAsJsonArray().add((memberArray.get((int)(i - memberIndex))));
-						}
-						memberIndex =  max_repetition;
-					} else {
-						responseArray.getAsJsonArray().addAll(memberArray);
-						memberIndex += memberArray.size();
-					}
-				} else {
-					break;
+	/**
+	 * Read sibling entries by repeating UNC_OP_READ_SIBLING requests until
+	 * max_repetition entries are acquired or no more entry is found.
+	 * 
+	 * <p>
+	 * The next request key depends on the last entry converted from the
+	 * current response, so requests are issued one after another. Converted
+	 * entries are appended to the response array directly.
+	 * </p>
+	 * 
+	 * @param requestBody
+	 * @param requestProcessor
+	 * @param responseGenerator
+	 * @param responseArray
+	 * @param JsonArrayName
+	 * @param IndexName
+	 * @param requestPackeEnumName
+	 * @param uriParameters
+	 * @param method
+	 *            - resolved conversion method
+	 * @param startIndex
+	 *            - number of entries already acquired
+	 * @param max_repetition
+	 *            - maximum number of entries
+	 * @throws VtnServiceException
+	 */
+	private void readSiblings(final JsonObject requestBody,
+			final IpcRequestProcessor requestProcessor,
+			final Object responseGenerator, final JsonArray responseArray,
+			final String JsonArrayName, final String IndexName,
+			final IpcRequestPacketEnum requestPackeEnumName,
+			final List<String> uriParameters, final Method method,
+			final long startIndex, final long max_repetition)
+			throws VtnServiceException {
+		long memberIndex = startIndex;
+		while (memberIndex < max_repetition) {
+			JsonArray memberArray = null;
+			final JsonObject memberLastIndex = (JsonObject) responseArray
+					.get(responseArray.size() - 1);
+			uriParameters.remove(uriParameters.size() - 1);
+			uriParameters.add(uriParameters.size(),
+					memberLastIndex.get(IndexName).getAsString());
+
+			requestProcessor.createIpcRequestPacket(requestPackeEnumName,
+					requestBody, uriParameters);
+
+			// update the operation to read_sibling.
+			if (requestProcessor.getRequestPacket().getOperation().intValue() !=
+			    UncOperationEnum.UNC_OP_READ_SIBLING.ordinal()) {
+				requestProcessor.getRequestPacket().setOperation(new IpcUint32
+						(UncOperationEnum.UNC_OP_READ_SIBLING.ordinal()));
+			}
+
+			final int status = requestProcessor.processIpcRequest();
+			if (status == ClientSession.RESP_FATAL) {
+				throw new VtnServiceException(
+						UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+						UncJavaAPIErrorCode.IPC_SERVER_ERROR
+								.getErrorMessage());
+			}
+			try {
+				memberArray = ((JsonObject) method.invoke(
+						responseGenerator,
+						requestProcessor.getIpcResponsePacket(),
+						requestBody, VtnServiceJsonConsts.LIST))
+						.getAsJsonArray(JsonArrayName);
+			} catch (final Exception e) {
+				exceptionHandler.raise(
+						UncJavaAPIErrorCode.INTERNAL_ERROR.getErrorCode(),
+						UncJavaAPIErrorCode.INTERNAL_ERROR
+								.getErrorMessage(), e);
+			}
+			if (null == memberArray || memberArray.isJsonNull()
+					|| memberArray.size() == 0) {
+				// all the required data have been acquired.
+				break;
+			}
+
+			if (memberIndex + memberArray.size() > max_repetition) {
+				for (long i = memberIndex; i < max_repetition; i++) {
+					responseArray.add(memberArray
+							.get((int) (i - memberIndex)));
 				}
+				memberIndex = max_repetition;
+			} else {
+				responseArray.addAll(memberArray);
+				memberIndex += memberArray.size();
 			}
 		}
-		final JsonObject root = new JsonObject();
-		root.add(JsonArrayName, responseArray);
-		return root;
 	}
 
 	/**
@@ -16,7 +16,6 @@ import org.opendaylight.vtn.core.ipc.IpcString;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
 import org.opendaylight.vtn.javaapi.ipc.conversion.IpcDataUnitWrapper;
@@ -133,24 +132,14 @@ public class AuditControllerResource extends AbstractResource {
 		} catch (final VtnServiceException e) {
 			LOG.info("Error occured while performing getSession operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
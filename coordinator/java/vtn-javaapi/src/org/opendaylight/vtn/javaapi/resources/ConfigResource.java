@@ -20,7 +20,6 @@ import org.opendaylight.vtn.core.ipc.IpcException;
 import org.opendaylight.vtn.core.ipc.IpcUint32;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -31,6 +30,7 @@ import org.opendaylight.vtn.javaapi.ipc.enums.UncCommonEnum.UncResultCode;
 import org.opendaylight.vtn.javaapi.ipc.enums.UncIpcErrorCode;
 import org.opendaylight.vtn.javaapi.ipc.enums.UncJavaAPIErrorCode;
 import org.opendaylight.vtn.javaapi.ipc.enums.UncTCEnums;
+import org.opendaylight.vtn.javaapi.openstack.dbmanager.ResourceIdManager;
 import org.opendaylight.vtn.javaapi.validation.ConfigResourceValidator;
 
 /**
@@ -179,24 +179,14 @@ public class ConfigResource extends AbstractResource {
 		} catch (final VtnServiceException e) {
 			LOG.error(e, "Error occured while performing getSession operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.error(e, "Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
@@ -230,6 +220,7 @@ public class ConfigResource extends AbstractResource {
 						.getCode()) {
 					LOG.debug("Commit operation");
 					connection.commit();
+					ResourceIdManager.commit(connection);
 				} else {
 					LOG.debug("Rollback operation");
 					connection.rollback();
@@ -237,12 +228,7 @@ public class ConfigResource extends AbstractResource {
 			} catch (SQLException e) {
 				LOG.error(e, "Error occured performing database commit/rollback operation");
 				getExceptionHandler()
-						.raise(Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
-								UncJavaAPIErrorCode.INTERNAL_ERROR
+						.raise(UncJavaAPIErrorCode.INTERNAL_ERROR
 										.getErrorCode(),
 								UncJavaAPIErrorCode.INTERNAL_ERROR
 										.getErrorMessage(), e);
@@ -376,15 +362,15 @@ public class ConfigResource extends AbstractResource {
 		for (int idx = COMMIT_RESPONSE_HEADER_SIZE; idx < total;) {
 			String strCtrlId = IpcDataUnitWrapper.getIpcDataUnitValue(
 					session.getResponse(idx));
-			LOG.trace("Controller ID: " + strCtrlId);
+			LOG.trace("Controller ID: %s", strCtrlId);
 
 			String strRepCode = IpcDataUnitWrapper.getIpcDataUnitValue(
 					session.getResponse(idx + 1));
-			LOG.trace("Response Code: " + strRepCode);
+			LOG.trace("Response Code: %s", strRepCode);
 			int curResponseCode = Integer.parseInt(strRepCode);
 			String msg = getFinalOperStatusMsg(operationStatus,
 					curResponseCode);
-			LOG.trace("Error Msg: " + msg);
+			LOG.trace("Error Msg: %s", msg);
 
 			/* Make controller info */
 			JsonObject ctrl = new JsonObject();
@@ -406,7 +392,7 @@ public class ConfigResource extends AbstractResource {
 
 			String strErrNumber = IpcDataUnitWrapper.getIpcDataUnitValue(
 					session.getResponse(idx + 2));
-			LOG.trace("NoOfErrors: " + strErrNumber);
+			LOG.trace("NoOfErrors: %s", strErrNumber);
 			int errNumber =  Integer.parseInt(strErrNumber);
 
 			/* Offset to the next controller */
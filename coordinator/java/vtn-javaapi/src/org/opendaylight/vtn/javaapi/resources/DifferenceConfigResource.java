@@ -14,7 +14,6 @@ import org.opendaylight.vtn.core.ipc.ClientSession;
 import org.opendaylight.vtn.core.ipc.IpcException;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
 import org.opendaylight.vtn.javaapi.ipc.conversion.IpcDataUnitWrapper;
@@ -88,9 +87,9 @@ public class DifferenceConfigResource extends AbstractResource {
 			String dirtyStatus = IpcDataUnitWrapper.getIpcDataUnitValue(session
 					.getResponse(VtnServiceJsonConsts.VAL_2));
 			LOG.debug("Response retreived successfully");
-			LOG.debug("Operation type: " + operationType);
-			LOG.debug("Result Code: " + result);
-			LOG.debug("DirtyStatus: " + dirtyStatus);
+			LOG.debug("Operation type: %s", operationType);
+			LOG.debug("Result Code: %s", result);
+			LOG.debug("DirtyStatus: %s", dirtyStatus);
 			if (result != UncIpcErrorCode.RC_SUCCESS) {
 				createTcErrorInfo(UncIpcErrorCode.getTcCodes(result));
 				status = UncCommonEnum.UncResultCode.UNC_SERVER_ERROR
@@ -110,7 +109,7 @@ public class DifferenceConfigResource extends AbstractResource {
 									.ordinal()));
 					LOG.debug("Request packet created successfully");
 					status = sessionUppl.invoke();
-					LOG.debug("Request packet processed with status:" + status);
+					LOG.debug("Request packet processed with status:%s", status);
 					operationType = IpcDataUnitWrapper
 							.getIpcDataUnitValue(sessionUppl
 									.getResponse(VtnServiceJsonConsts.VAL_0));
@@ -121,9 +120,9 @@ public class DifferenceConfigResource extends AbstractResource {
 							.getIpcDataUnitValue(sessionUppl
 									.getResponse(VtnServiceJsonConsts.VAL_2));
 					LOG.debug("Response retreived successfully");
-					LOG.debug("Operation type: " + operationType);
-					LOG.debug("Result Code: " + result);
-					LOG.debug("DirtyStatus: " + dirtyStatus);
+					LOG.debug("Operation type: %s", operationType);
+					LOG.debug("Result Code: %s", result);
+					LOG.debug("DirtyStatus: %s", dirtyStatus);
 					if (result != UncIpcErrorCode.RC_SUCCESS) {
 						createTcErrorInfo(UncIpcErrorCode.getTcCodes(result));
 						status = UncCommonEnum.UncResultCode.UNC_SERVER_ERROR
@@ -143,23 +142,13 @@ public class DifferenceConfigResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
@@ -16,7 +16,6 @@ import org.opendaylight.vtn.core.ipc.IpcStruct;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -119,24 +118,14 @@ public class SessionResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
@@ -216,24 +205,14 @@ public class SessionResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
@@ -263,7 +242,7 @@ public class SessionResource extends AbstractResource {
 		final JsonObject sessJson = new JsonObject();
 		final IpcStruct ipcResponseStructId = responseStruct
 				.getInner(VtnServiceIpcConsts.SESS);
-		LOG.debug("user_type:" + responseStruct.get("user_type"));
+		LOG.debug("user_type:%s", responseStruct.get("user_type"));
 		// LOG.debug("login_name:" + responseStruct.get("login_name"));
 		// LOG.debug("sess_uname:" + responseStruct.get("sess_uname"));
 
@@ -272,9 +251,9 @@ public class SessionResource extends AbstractResource {
 				VtnServiceJsonConsts.SESSIONID,
 				IpcDataUnitWrapper.getIpcStructUint32Value(ipcResponseStructId,
 						VtnServiceIpcConsts.ID).toString());
-		LOG.debug("session_id:"
-				+ IpcDataUnitWrapper.getIpcStructUint32Value(
-						ipcResponseStructId, VtnServiceIpcConsts.ID));
+		LOG.debug("session_id:%s",
+				IpcDataUnitWrapper.getIpcStructUint32Value(ipcResponseStructId,
+						VtnServiceIpcConsts.ID));
 		// add type to response json
 		if (IpcDataUnitWrapper
 				.getIpcStructUint32Value(responseStruct,
@@ -294,13 +273,13 @@ public class SessionResource extends AbstractResource {
 		} else {
 			LOG.debug("Incorrect value for type");
 		}
-		LOG.debug("type:"
-				+ IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
+		LOG.debug("type:%s",
+				IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
 						VtnServiceIpcConsts.SESS_TYPE));
 		// add user name to response json
 		final String userName = IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 				responseStruct, VtnServiceIpcConsts.SESS_UNAME);
-		LOG.debug("user_name:" + userName);
+		LOG.debug("user_name:%s", userName);
 		if (VtnServiceIpcConsts.USESS_USER_WEB_ADMIN.equals(userName)) {
 			sessJson.addProperty(VtnServiceJsonConsts.USERNAME,
 					VtnServiceJsonConsts.ADMIN);
@@ -326,26 +305,25 @@ public class SessionResource extends AbstractResource {
 		} else {
 			LOG.debug("Incorrect value for user_type");
 		}
-		LOG.debug("usertype:"
-				+ IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
+		LOG.debug("usertype:%s",
+				IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
 						VtnServiceIpcConsts.USER_TYPE));
 		// add ipaddress to response json
 		sessJson.addProperty(
 				VtnServiceJsonConsts.IPADDR,
 				IpcDataUnitWrapper.getIpcStructIpv4Value(responseStruct,
 						VtnServiceJsonConsts.IPADDR).toString());
-		LOG.debug("ipaddr:"
-				+ IpcDataUnitWrapper.getIpcStructIpv4Value(responseStruct,
+		LOG.debug("ipaddr:%s",
+				IpcDataUnitWrapper.getIpcStructIpv4Value(responseStruct,
 						VtnServiceJsonConsts.IPADDR));
 		// add login name to response json
 		sessJson.addProperty(
 				VtnServiceJsonConsts.LOGIN_NAME,
 				IpcDataUnitWrapper.getIpcStructUint8ArrayValue(responseStruct,
 						VtnServiceJsonConsts.LOGIN_NAME).toString());
-		LOG.debug("login_name:"
-				+ IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
-						responseStruct, VtnServiceJsonConsts.LOGIN_NAME)
-						.toString());
+		LOG.debug("login_name:%s",
+				IpcDataUnitWrapper.getIpcStructUint8ArrayValue(responseStruct,
+						VtnServiceJsonConsts.LOGIN_NAME).toString());
 		// add login time to response json
 		final IpcStruct ipcResponseTimeStruct = responseStruct
 				.getInner(VtnServiceIpcConsts.LOGIN_TIME);
@@ -354,17 +332,17 @@ public class SessionResource extends AbstractResource {
 				IpcDataUnitWrapper.getIpcStructInt64Value(
 						ipcResponseTimeStruct, VtnServiceIpcConsts.TV_SEC)
 						.toString());
-		LOG.debug("login_time:"
-				+ IpcDataUnitWrapper.getIpcStructInt64Value(
-						ipcResponseTimeStruct, VtnServiceIpcConsts.TV_SEC));
+		LOG.debug("login_time:%s",
+				IpcDataUnitWrapper.getIpcStructInt64Value(ipcResponseTimeStruct,
+						VtnServiceIpcConsts.TV_SEC));
 		// add info to response json
 		sessJson.addProperty(
 				VtnServiceJsonConsts.INFO,
 				IpcDataUnitWrapper.getIpcStructUint8ArrayValue(responseStruct,
 						VtnServiceJsonConsts.INFO).toString());
-		LOG.debug("info:"
-				+ IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
-						responseStruct, VtnServiceJsonConsts.INFO));
+		LOG.debug("info:%s",
+				IpcDataUnitWrapper.getIpcStructUint8ArrayValue(responseStruct,
+						VtnServiceJsonConsts.INFO));
 		// add mode to response json
 		if (IpcDataUnitWrapper
 				.getIpcStructUint32Value(responseStruct,
@@ -396,8 +374,8 @@ public class SessionResource extends AbstractResource {
 		} else {
 			LOG.debug("Incorrect value for mode");
 		}
-		LOG.debug("mode: "
-				+ IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
+		LOG.debug("mode: %s",
+				IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
 						VtnServiceIpcConsts.SESS_MODE));
 		// add configstatus to response json
 		if (IpcDataUnitWrapper
@@ -419,8 +397,8 @@ public class SessionResource extends AbstractResource {
 		} else {
 			LOG.debug("Incorrect value for config_status");
 		}
-		LOG.debug("configstatus: "
-				+ IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
+		LOG.debug("configstatus: %s",
+				IpcDataUnitWrapper.getIpcStructUint32Value(responseStruct,
 						VtnServiceIpcConsts.CONFIG_STATUS));
 		response.add(VtnServiceJsonConsts.SESSION, sessJson);
 		LOG.trace("Completed SessionResource#createGetResponse()");
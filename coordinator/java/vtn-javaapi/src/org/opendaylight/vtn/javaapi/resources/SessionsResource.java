@@ -112,22 +112,22 @@ public class SessionsResource extends AbstractResource {
 							.set(VtnServiceIpcConsts.SESS_UNAME,
 									IpcDataUnitWrapper
 											.setIpcUint8ArrayValue(VtnServiceIpcConsts.USESS_USER_WEB_ADMIN));
-					LOG.debug("Login from admin user"
-							+ sessionJson.getAsJsonPrimitive(
-									VtnServiceJsonConsts.USERNAME)
-									.getAsString());
+					LOG.debug("Login from admin user%s",
+							sessionJson.getAsJsonPrimitive(
+									VtnServiceJsonConsts.USERNAME).getAsString(
+									));
 				} else {
 					usessIpcReqSessAdd
 							.set(VtnServiceIpcConsts.SESS_UNAME,
 									IpcDataUnitWrapper
 											.setIpcUint8ArrayValue(VtnServiceIpcConsts.USESS_USER_WEB_OPER));
-					LOG.debug("Login from oper user"
-							+ sessionJson.getAsJsonPrimitive(
-									VtnServiceJsonConsts.USERNAME)
-									.getAsString());
+					LOG.debug("Login from oper user%s",
+							sessionJson.getAsJsonPrimitive(
+									VtnServiceJsonConsts.USERNAME).getAsString(
+									));
 				}
-				LOG.debug("sess_uname: "
-						+ IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
+				LOG.debug("sess_uname: %s",
+						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 								usessIpcReqSessAdd,
 								VtnServiceIpcConsts.SESS_UNAME));
 				// add password to usess_ipc_req_sess_add structure
@@ -175,8 +175,8 @@ public class SessionsResource extends AbstractResource {
 											.setIpcInt32Value(UncSessionEnums.UsessTypeE.USESS_TYPE_WEB_UI
 													.ordinal()));
 				}
-				LOG.debug("sess_type: "
-						+ IpcDataUnitWrapper.getIpcStructUint32Value(
+				LOG.debug("sess_type: %s",
+						IpcDataUnitWrapper.getIpcStructUint32Value(
 								usessIpcReqSessAdd,
 								VtnServiceIpcConsts.SESS_TYPE));
 
@@ -284,24 +284,14 @@ public class SessionsResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 
@@ -398,24 +388,14 @@ public class SessionsResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 
@@ -449,7 +429,7 @@ public class SessionsResource extends AbstractResource {
 		LOG.trace("Starts SessionsResource#createGetResponse()");
 		final JsonArray sessArray = new JsonArray();
 		final int count = session.getResponseCount();
-		LOG.debug("Operation:" + opType);
+		LOG.debug("Operation:%s", opType);
 		for (int i = VtnServiceJsonConsts.VAL_0; i < count; i++) {
 			final IpcStruct responseStruct = (IpcStruct) session.getResponse(i);
 			LOG.info("Response:" + responseStruct.toString());
@@ -462,8 +442,8 @@ public class SessionsResource extends AbstractResource {
 					IpcDataUnitWrapper.getIpcStructUint32Value(
 							ipcResponseStructId, VtnServiceIpcConsts.ID)
 							.toString());
-			LOG.debug("session_id:"
-					+ IpcDataUnitWrapper.getIpcStructUint32Value(
+			LOG.debug("session_id:%s",
+					IpcDataUnitWrapper.getIpcStructUint32Value(
 							ipcResponseStructId, VtnServiceIpcConsts.ID));
 
 			if (opType.equalsIgnoreCase(VtnServiceJsonConsts.DETAIL)) {
@@ -488,14 +468,14 @@ public class SessionsResource extends AbstractResource {
 				} else {
 					LOG.debug("Incorrect value for type");
 				}
-				LOG.debug("type:"
-						+ IpcDataUnitWrapper.getIpcStructUint32Value(
+				LOG.debug("type:%s",
+						IpcDataUnitWrapper.getIpcStructUint32Value(
 								responseStruct, VtnServiceIpcConsts.SESS_TYPE));
 				// add user name to response json
 				final String userName = IpcDataUnitWrapper
 						.getIpcStructUint8ArrayValue(responseStruct,
 								VtnServiceIpcConsts.SESS_UNAME);
-				LOG.debug("user_name:" + userName);
+				LOG.debug("user_name:%s", userName);
 				if (VtnServiceIpcConsts.USESS_USER_WEB_ADMIN.equals(userName)) {
 					sessJson.addProperty(VtnServiceJsonConsts.USERNAME,
 							VtnServiceJsonConsts.ADMIN);
@@ -526,8 +506,8 @@ public class SessionsResource extends AbstractResource {
 				} else {
 					LOG.debug("Incorrect value for usertype");
 				}
-				LOG.debug("usertype:"
-						+ IpcDataUnitWrapper.getIpcStructUint32Value(
+				LOG.debug("usertype:%s",
+						IpcDataUnitWrapper.getIpcStructUint32Value(
 								responseStruct, VtnServiceIpcConsts.USER_TYPE));
 				// add ipaddress to response json
 				sessJson.addProperty(
@@ -535,9 +515,9 @@ public class SessionsResource extends AbstractResource {
 						IpcDataUnitWrapper.getIpcStructIpv4Value(
 								responseStruct, VtnServiceJsonConsts.IPADDR)
 								.toString());
-				LOG.debug("ipaddr:"
-						+ IpcDataUnitWrapper.getIpcStructIpv4Value(
-								responseStruct, VtnServiceJsonConsts.IPADDR));
+				LOG.debug("ipaddr:%s",
+						IpcDataUnitWrapper.getIpcStructIpv4Value(responseStruct,
+								VtnServiceJsonConsts.IPADDR));
 				// add login name to response json
 				sessJson.addProperty(
 						VtnServiceJsonConsts.LOGIN_NAME,
@@ -545,10 +525,9 @@ public class SessionsResource extends AbstractResource {
 								.getIpcStructUint8ArrayValue(responseStruct,
 										VtnServiceJsonConsts.LOGIN_NAME)
 								.toString());
-				LOG.debug("login_name:"
-						+ IpcDataUnitWrapper
-								.getIpcStructUint8ArrayValue(responseStruct,
-										VtnServiceJsonConsts.LOGIN_NAME)
+				LOG.debug("login_name:%s",
+						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
+								responseStruct, VtnServiceJsonConsts.LOGIN_NAME)
 								.toString());
 				// add login time to response json
 				final IpcStruct ipcResponseTimeStruct = responseStruct
@@ -558,8 +537,8 @@ public class SessionsResource extends AbstractResource {
 						IpcDataUnitWrapper.getIpcStructInt64Value(
 								ipcResponseTimeStruct,
 								VtnServiceIpcConsts.TV_SEC).toString());
-				LOG.debug("login_time:"
-						+ IpcDataUnitWrapper.getIpcStructInt64Value(
+				LOG.debug("login_time:%s",
+						IpcDataUnitWrapper.getIpcStructInt64Value(
 								ipcResponseTimeStruct,
 								VtnServiceIpcConsts.TV_SEC));
 				// add info to response json
@@ -568,8 +547,8 @@ public class SessionsResource extends AbstractResource {
 						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 								responseStruct, VtnServiceJsonConsts.INFO)
 								.toString());
-				LOG.debug("info:"
-						+ IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
+				LOG.debug("info:%s",
+						IpcDataUnitWrapper.getIpcStructUint8ArrayValue(
 								responseStruct, VtnServiceJsonConsts.INFO));
 				// add mode to response json
 				if (IpcDataUnitWrapper
@@ -607,8 +586,8 @@ public class SessionsResource extends AbstractResource {
 				} else {
 					LOG.debug("Incorrect value for mode");
 				}
-				LOG.debug("mode: "
-						+ IpcDataUnitWrapper.getIpcStructUint32Value(
+				LOG.debug("mode: %s",
+						IpcDataUnitWrapper.getIpcStructUint32Value(
 								responseStruct, VtnServiceIpcConsts.SESS_MODE));
 				// add configstatus to response json
 				if (IpcDataUnitWrapper
@@ -630,8 +609,8 @@ public class SessionsResource extends AbstractResource {
 				} else {
 					LOG.debug("Incorrect value for config_status");
 				}
-				LOG.debug("configstatus: "
-						+ IpcDataUnitWrapper.getIpcStructUint32Value(
+				LOG.debug("configstatus: %s",
+						IpcDataUnitWrapper.getIpcStructUint32Value(
 								responseStruct,
 								VtnServiceIpcConsts.CONFIG_STATUS));
 			}
@@ -15,7 +15,6 @@ import org.opendaylight.vtn.core.ipc.IpcStruct;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -128,24 +127,14 @@ public class UserResource extends AbstractResource {
 		} catch (final VtnServiceException e) {
 			LOG.info("Error occured while performing getSession operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing invoke operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
@@ -169,14 +158,14 @@ public class UserResource extends AbstractResource {
 	 * @return
 	 */
 	private String getUNCUserName(final String userName) {
-		LOG.debug("User name : " + userName);
+		LOG.debug("User name : %s", userName);
 		String uncUserName = null;
 		if (userName.equalsIgnoreCase(VtnServiceJsonConsts.ADMIN)) {
 			uncUserName = VtnServiceIpcConsts.USESS_USER_WEB_ADMIN;
 		} else if (userName.equalsIgnoreCase(VtnServiceJsonConsts.OPER)) {
 			uncUserName = VtnServiceIpcConsts.USESS_USER_WEB_OPER;
 		}
-		LOG.debug("UNC user name : " + uncUserName);
+		LOG.debug("UNC user name : %s", uncUserName);
 		return uncUserName;
 	}
 }
@@ -87,24 +87,14 @@ public class CoordinatorVersionResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
 		} catch (final IpcException e) {
 			LOG.info("Error occured while performing addOutput operation");
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 		} finally {
@@ -137,23 +127,24 @@ public class CoordinatorVersionResource extends AbstractResource {
 				.getResponse(VtnServiceJsonConsts.VAL_0);
 		final String major = IpcDataUnitWrapper.getIpcStructUint16Value(
 				coordinatorVersionStruct, VtnServiceIpcConsts.MAJOR);
-		LOG.debug("major: "
-				+ IpcDataUnitWrapper.getIpcStructUint16Value(
+		LOG.debug("major: %s",
+				IpcDataUnitWrapper.getIpcStructUint16Value(
 						coordinatorVersionStruct, VtnServiceIpcConsts.MAJOR));
 		final String minor = IpcDataUnitWrapper.getIpcStructUint16Value(
 				coordinatorVersionStruct, VtnServiceIpcConsts.MINOR);
-		LOG.debug("minor: "
-				+ IpcDataUnitWrapper.getIpcStructUint16Value(
+		LOG.debug("minor: %s",
+				IpcDataUnitWrapper.getIpcStructUint16Value(
 						coordinatorVersionStruct, VtnServiceIpcConsts.MINOR));
 		final String revision = IpcDataUnitWrapper.getIpcStructUint16Value(
 				coordinatorVersionStruct, VtnServiceIpcConsts.REVISION);
-		LOG.debug("revision: "
-				+ IpcDataUnitWrapper.getIpcStructUint16Value(
-						coordinatorVersionStruct, VtnServiceIpcConsts.REVISION));
+		LOG.debug("revision: %s",
+				IpcDataUnitWrapper.getIpcStructUint16Value(
+						coordinatorVersionStruct,
+						VtnServiceIpcConsts.REVISION));
 		final String patchLevel = IpcDataUnitWrapper.getIpcStructUint16Value(
 				coordinatorVersionStruct, VtnServiceIpcConsts.PATCHLEVEL);
-		LOG.debug("patchLevel: "
-				+ IpcDataUnitWrapper.getIpcStructUint16Value(
+		LOG.debug("patchLevel: %s",
+				IpcDataUnitWrapper.getIpcStructUint16Value(
 						coordinatorVersionStruct,
 						VtnServiceIpcConsts.PATCHLEVEL));
 		final String version = VtnServiceJsonConsts.V + major
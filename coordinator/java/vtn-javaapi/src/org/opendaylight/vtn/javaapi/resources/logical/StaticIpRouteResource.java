@@ -114,16 +114,11 @@ public class StaticIpRouteResource extends AbstractResource {
 					getNullJsonObject(), getUriParameters());
 			LOG.debug("Request Packet created successfully");
 			status = requestProcessor.processIpcRequest();
-			LOG.debug("Request packet processed with status" + status);
+			LOG.debug("Request packet processed with status%s", status);
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -174,7 +169,7 @@ public class StaticIpRouteResource extends AbstractResource {
 					getUriParameters());
 			LOG.debug("Request Packet created successfully");
 			status = requestProcessor.processIpcRequest();
-			LOG.debug("Request packet processed with status" + status);
+			LOG.debug("Request packet processed with status%s", status);
 			final IpcLogicalResponseFactory responseGenerator = new IpcLogicalResponseFactory();
 			setInfo(responseGenerator.getStaticIpRouteResponse(
 					requestProcessor.getIpcResponsePacket(), requestBody,
@@ -183,12 +178,7 @@ public class StaticIpRouteResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -238,7 +228,7 @@ public class StaticIpRouteResource extends AbstractResource {
 	// getUriParameters());
 	// LOG.debug("Request Packet created successfully");
 	// status = requestProcessor.processIpcRequest();
-	// LOG.debug("Request packet processed with status" + status);
+	// LOG.debug("Request packet processed with status%s", status);
 	// LOG.debug("Complete Ipc framework call");
 	// } catch (final VtnServiceException e) {
 	// getExceptionHandler()
@@ -21,7 +21,6 @@ import org.opendaylight.vtn.core.ipc.IpcDataUnit;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -118,16 +117,11 @@ public class VBridgeInterfacesResource extends AbstractResource {
 					uriParameterList);
 			LOG.debug("Request Packet created successfully");
 			status = requestProcessor.processIpcRequest();
-			LOG.debug("Request packet processed with status" + status);
+			LOG.debug("Request packet processed with status%s", status);
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -179,15 +173,9 @@ public class VBridgeInterfacesResource extends AbstractResource {
 					uriParameterList);
 			LOG.debug("Request Packet created successfully for 1st call");
 			status = requestProcessor.processIpcRequest();
-			LOG.debug("Request packet processed for 1st call with status"
-					+ status);
+			LOG.debug("Request packet processed for 1st call with status%s", status);
 			if (status == ClientSession.RESP_FATAL) {
 				throw new VtnServiceException(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorMessage());
 			}
@@ -251,8 +239,7 @@ public class VBridgeInterfacesResource extends AbstractResource {
 													.ordinal()));
 					LOG.debug("Request packet created successfully for 2nd call");
 					status = requestProcessor.processIpcRequest();
-					LOG.debug("Request packet processed for 2nd call with status"
-							+ status);
+					LOG.debug("Request packet processed for 2nd call with status%s", status);
 					responsePacket = requestProcessor.getIpcResponsePacket();
 					neighbor = responseGenerator.getNeighborResponse(
 							responsePacket, requestBody,
@@ -269,12 +256,7 @@ public class VBridgeInterfacesResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -94,7 +94,7 @@ public class VTepGroupResource extends AbstractResource {
 		getRequestBody.addProperty(VtnServiceJsonConsts.TARGETDB,
 				VtnServiceJsonConsts.STATE);
 		status = get(getRequestBody);
-		LOG.debug("Request packet processed with status" + status);
+		LOG.debug("Request packet processed with status%s", status);
 		if (status == VtnServiceConsts.RESPONSE_SUCCESS) {
 			final JsonObject root = getInfo();
 			try {
@@ -139,8 +139,7 @@ public class VTepGroupResource extends AbstractResource {
 								ipcRollback.pushIpcPacket(requestProcessor
 										.getRequestPacket());
 								status = requestProcessor.processIpcRequest();
-								LOG.debug("Request packet processed with status"
-										+ status);
+								LOG.debug("Request packet processed with status%s", status);
 								if (status == ClientSession.RESP_FATAL) {
 									ipcRollback
 											.rollBackIpcRequest(requestProcessor);
@@ -183,8 +182,7 @@ public class VTepGroupResource extends AbstractResource {
 									.getRequestPacket());
 							LOG.debug("Request packet created successfully");
 							status = requestProcessor.processIpcRequest();
-							LOG.debug("Request packet processed with status"
-									+ status);
+							LOG.debug("Request packet processed with status%s", status);
 							if (status == ClientSession.RESP_FATAL) {
 								ipcRollback
 										.rollBackIpcRequest(requestProcessor);
@@ -196,12 +194,7 @@ public class VTepGroupResource extends AbstractResource {
 				LOG.debug("Creation of member data finished successfully..");
 			} catch (final VtnServiceException e) {
 				getExceptionHandler()
-						.raise(Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
-								UncJavaAPIErrorCode.IPC_SERVER_ERROR
+						.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR
 										.getErrorCode(),
 								UncJavaAPIErrorCode.IPC_SERVER_ERROR
 										.getErrorMessage(), e);
@@ -253,15 +246,10 @@ public class VTepGroupResource extends AbstractResource {
 					getNullJsonObject(), getUriParameters(getNullJsonObject()));
 			LOG.debug("Request packet created successfully");
 			status = requestProcessor.processIpcRequest();
-			LOG.debug("Request packet processed with status" + status);
+			LOG.debug("Request packet processed with status%s", status);
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -315,15 +303,9 @@ public class VTepGroupResource extends AbstractResource {
 					getUriParameters(requestBody));
 			LOG.debug("Request packet created successfully");
 			status = requestProcessor.processIpcRequest();
-			LOG.debug("Request packet processed for 1st call with status"
-					+ status);
+			LOG.debug("Request packet processed for 1st call with status%s", status);
 			if (status == ClientSession.RESP_FATAL) {
 				throw new VtnServiceException(
-						Thread.currentThread().getStackTrace()[1]
-								.getClassName()
-								+ VtnServiceConsts.HYPHEN
-								+ Thread.currentThread().getStackTrace()[1]
-										.getMethodName(),
 						UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 						UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorMessage());
 			}
@@ -347,14 +329,9 @@ public class VTepGroupResource extends AbstractResource {
 										.setIpcUint32Value(UncOperationEnum.UNC_OP_READ_SIBLING_BEGIN
 												.ordinal()));
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet processed with status" + status);
+				LOG.debug("Request packet processed with status%s", status);
 				if (status == ClientSession.RESP_FATAL) {
 					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage());
@@ -413,12 +390,7 @@ public class VTepGroupResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -62,7 +62,7 @@ public class DestinationControllerResource extends AbstractResource {
 				VtnServiceOpenStackConsts.ID).getAsString();
 
 		try {
-			LOG.debug("Set operation for controller_id : " + controllerId);
+			LOG.debug("Set operation for controller_id : %s", controllerId);
 
 			connection = VtnServiceInitManager.getDbConnectionPoolMap()
 					.getConnection();
@@ -36,7 +36,6 @@ import org.opendaylight.vtn.javaapi.openstack.constants.VtnServiceOpenStackConst
 import org.opendaylight.vtn.javaapi.openstack.convertor.FlowListResourceGenerator;
 import org.opendaylight.vtn.javaapi.openstack.dao.FlowFilterDao;
 import org.opendaylight.vtn.javaapi.openstack.dao.FlowListDao;
-import org.opendaylight.vtn.javaapi.openstack.dao.FreeCounterDao;
 import org.opendaylight.vtn.javaapi.openstack.dao.VBridgeDao;
 import org.opendaylight.vtn.javaapi.openstack.dao.VBridgeInterfaceDao;
 import org.opendaylight.vtn.javaapi.openstack.dao.VRouterDao;
@@ -108,8 +107,7 @@ public class FiltersResource extends AbstractResource {
 					counter = resourceIdManager.getResourceCounter(connection,
 							freeCounterBean);
 					if (-1 != counter) {
-						LOG.debug("Resource id auto-generation is successfull : "
-								+ counter);
+						LOG.debug("Resource id auto-generation is successfull : %s", counter);
 						priority = Integer.valueOf(
 								requestBody.get(
 										VtnServiceOpenStackConsts.PRIORITY)
@@ -149,13 +147,9 @@ public class FiltersResource extends AbstractResource {
 								.setVtnName(VtnServiceOpenStackConsts.FILTER_VTN_NAME);
 						freeCounterBean.setResourceCounter(Integer
 								.parseInt(generatedflName.substring(10)));
-						final FreeCounterDao freeCounterDao = new FreeCounterDao();
-						if (freeCounterDao.isCounterFound(connection,
-								freeCounterBean)) {
-							freeCounterDao.deleteCounter(connection,
-									freeCounterBean);
-
-						}
+						final ResourceIdManager resourceIdManager = new ResourceIdManager();
+						resourceIdManager.reserveResourceCounter(connection,
+								freeCounterBean);
 						flowListBean.setFlId(freeCounterBean
 								.getResourceCounter());
 					} else {
@@ -167,8 +167,7 @@ public class NetworkResource extends AbstractResource {
 				try {
 					vBridgeBean.setVbrId(Integer.parseInt(counter));
 				} catch (final NumberFormatException e) {
-					LOG.debug("Resource Id was not auto-generated during Create operation : "
-							+ counter);
+					LOG.debug("Resource Id was not auto-generated during Create operation : %s", counter);
 					vBridgeBean.setVbrId(0);
 				}
 				final ResourceIdManager resourceIdManager = new ResourceIdManager();
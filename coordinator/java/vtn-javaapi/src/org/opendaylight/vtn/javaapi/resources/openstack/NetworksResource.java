@@ -105,8 +105,7 @@ public class NetworksResource extends AbstractResource {
 					counter = resourceIdManager.getResourceCounter(connection,
 							freeCounterBean);
 					if (counter != -1) {
-						LOG.debug("Resource id auto-generation is successfull : "
-								+ counter);
+						LOG.debug("Resource id auto-generation is successfull : %s", counter);
 						// if id is generated successfully
 						generatedVbrName = VtnServiceOpenStackConsts.VBR_PREFIX
 								+ counter;
@@ -122,8 +121,8 @@ public class NetworksResource extends AbstractResource {
 							VtnServiceOpenStackConsts.ID).getAsString();
 				}
 
-				LOG.debug("Counter : " + counter);
-				LOG.debug("vbr_name : " + generatedVbrName);
+				LOG.debug("Counter : %s", counter);
+				LOG.debug("vbr_name : %s", generatedVbrName);
 
 				if (counter >= 0 && setControllerId(connection, requestBody)) {
 					/*
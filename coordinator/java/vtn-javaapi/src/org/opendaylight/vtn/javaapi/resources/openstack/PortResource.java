@@ -10,6 +10,8 @@ package org.opendaylight.vtn.javaapi.resources.openstack;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -124,8 +126,7 @@ public class PortResource extends AbstractResource {
 				try {
 					vInterfaceBean.setVbrIfId(Integer.parseInt(counter));
 				} catch (final NumberFormatException e) {
-					LOG.debug("Resource Id was not auto-generated during Create operation : "
-							+ counter);
+					LOG.debug("Resource Id was not auto-generated during Create operation : %s", counter);
 					vInterfaceBean.setVbrIfId(0);
 				}
 
@@ -302,22 +303,19 @@ public class PortResource extends AbstractResource {
 			final VBridgeInterfaceDao vBridgeInterfaceDao,
 			final ResourceIdManager resourceIdManager,
 			final FreeCounterBean freeCounterBean) throws SQLException {
-		boolean counterDeletion = true;
+		final List<VBridgeInterfaceBean> vInterfaceBeanList = new ArrayList<VBridgeInterfaceBean>();
 		for (Integer ifId : vBridgeInterfaceDao.getVbrIfIds(connection,
 				vInterfaceBean)) {
-			freeCounterBean.setResourceCounter(ifId);
-			vInterfaceBean.setVbrIfId(ifId);
-			vInterfaceBean.setVbrIfName(VtnServiceOpenStackConsts.IF_PREFIX
-					+ ifId);
-			if (resourceIdManager.deleteResourceId(connection, freeCounterBean,
-					vInterfaceBean)) {
-				LOG.debug("counter is deleted for : " + ifId);
-			} else {
-				LOG.info("counter deletion is failed for : " + ifId);
-				counterDeletion = false;
-			}
+			final VBridgeInterfaceBean bean = new VBridgeInterfaceBean();
+			bean.setVtnName(vInterfaceBean.getVtnName());
+			bean.setVbrName(vInterfaceBean.getVbrName());
+			bean.setVbrIfId(ifId);
+			bean.setVbrIfName(VtnServiceOpenStackConsts.IF_PREFIX + ifId);
+			vInterfaceBeanList.add(bean);
 		}
-		return counterDeletion;
+		// delete all interfaces and release their counters in batches
+		return resourceIdManager.deleteResourceIds(connection,
+				freeCounterBean, vInterfaceBeanList);
 	}
 
 	/**
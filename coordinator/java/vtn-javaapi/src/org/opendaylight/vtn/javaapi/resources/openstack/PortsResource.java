@@ -135,8 +135,9 @@ public class PortsResource extends AbstractResource {
 					counter = resourceIdManager.getResourceCounter(connection,
 							freeCounterBean);
 					if (counter != -1) {
-						LOG.debug("Resource id auto-generation is " +
-								"successfull : " + counter);
+						LOG.debug(
+								"Resource id auto-generation is successfull : %s",
+								counter);
 						// if id is generated successfully
 						generatedVbrIfName = VtnServiceOpenStackConsts.IF_PREFIX
 								+ counter;
@@ -152,8 +153,8 @@ public class PortsResource extends AbstractResource {
 					counter = 0;
 				}
 
-				LOG.debug("Counter : " + counter);
-				LOG.debug("if_name : " + generatedVbrIfName);
+				LOG.debug("Counter : %s", counter);
+				LOG.debug("if_name : %s", generatedVbrIfName);
 
 				if (counter >= 0) {
 					/*
@@ -120,8 +120,7 @@ public class RouterInterfacesResource extends AbstractResource {
 						freeCounterBean);
 
 				if (counter != -1) {
-					LOG.debug("Resource id auto-generation is successfull : "
-							+ counter);
+					LOG.debug("Resource id auto-generation is successfull : %s", counter);
 
 					if (counter > VtnServiceOpenStackConsts.MAX_ROUTER_IF_LIMIT) {
 						LOG.warning("Router interface creation reached at maximum limit");
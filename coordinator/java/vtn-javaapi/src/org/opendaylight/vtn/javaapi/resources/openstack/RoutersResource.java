@@ -102,7 +102,7 @@ public class RoutersResource extends AbstractResource {
 							VtnServiceOpenStackConsts.ID).getAsString();
 				}
 
-				LOG.debug("vrt_name : " + generatedVrtName);
+				LOG.debug("vrt_name : %s", generatedVrtName);
 
 				if (setControllerId(connection, requestBody)) {
 					/*
@@ -151,8 +151,7 @@ public class TenantResource extends AbstractResource {
 					try {
 						vtnBean.setVtnId(Integer.parseInt(counter));
 					} catch (final NumberFormatException e) {
-						LOG.debug("Resource Id was not auto-generated during Create operation : "
-								+ counter);
+						LOG.debug("Resource Id was not auto-generated during Create operation : %s", counter);
 						vtnBean.setVtnId(0);
 					}
 				} else {
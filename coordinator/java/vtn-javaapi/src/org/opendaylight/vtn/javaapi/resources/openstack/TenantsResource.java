@@ -99,8 +99,8 @@ public class TenantsResource extends AbstractResource {
 						.get(VtnServiceOpenStackConsts.ID).getAsString();
 			}
 
-			LOG.debug("Counter : " + counter);
-			LOG.debug("vtn_name : " + generatedVtnName);
+			LOG.debug("Counter : %s", counter);
+			LOG.debug("vtn_name : %s", generatedVtnName);
 
 			if (counter >= 0) {
 				/*
@@ -20,7 +20,6 @@ import org.opendaylight.vtn.core.ipc.IpcDataUnit;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -117,15 +116,9 @@ public class DomainLogicalPortsResource extends AbstractResource {
 
 			if (!queryString.has(VtnServiceJsonConsts.LOGICAL_PORT_ID)) {
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet 1st call processed with status:"
-						+ status);
+				LOG.debug("Request packet 1st call processed with status:%s", status);
 				if (status == ClientSession.RESP_FATAL) {
 					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage());
@@ -181,16 +174,9 @@ public class DomainLogicalPortsResource extends AbstractResource {
 														.ordinal()));
 						LOG.debug("Request packet for 2nd call created successfully");
 						status = requestProcessor.processIpcRequest();
-						LOG.debug("Request packet 2nd call processed with status:"
-								+ status);
+						LOG.debug("Request packet 2nd call processed with status:%s", status);
 						if (status == ClientSession.RESP_FATAL) {
 							throw new VtnServiceException(
-									Thread.currentThread().getStackTrace()[1]
-											.getClassName()
-											+ VtnServiceConsts.HYPHEN
-											+ Thread.currentThread()
-													.getStackTrace()[1]
-													.getMethodName(),
 									UncJavaAPIErrorCode.IPC_SERVER_ERROR
 											.getErrorCode(),
 									UncJavaAPIErrorCode.IPC_SERVER_ERROR
@@ -222,13 +208,6 @@ public class DomainLogicalPortsResource extends AbstractResource {
 								status = requestProcessor.processIpcRequest();
 								if (status == ClientSession.RESP_FATAL) {
 									throw new VtnServiceException(
-											Thread.currentThread()
-													.getStackTrace()[1]
-													.getClassName()
-													+ VtnServiceConsts.HYPHEN
-													+ Thread.currentThread()
-															.getStackTrace()[1]
-															.getMethodName(),
 											UncJavaAPIErrorCode.IPC_SERVER_ERROR
 													.getErrorCode(),
 											UncJavaAPIErrorCode.IPC_SERVER_ERROR
@@ -261,15 +240,9 @@ public class DomainLogicalPortsResource extends AbstractResource {
 								.setIpcUint32Value(UncOperationEnum.UNC_OP_READ
 										.ordinal()));
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet for 1st call processed with status:"
-						+ status);
+				LOG.debug("Request packet for 1st call processed with status:%s", status);
 				if (status == ClientSession.RESP_FATAL) {
 					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage());
@@ -304,16 +277,9 @@ public class DomainLogicalPortsResource extends AbstractResource {
 													.ordinal()));
 					LOG.debug("Request packet  2nd call created successfully");
 					status = requestProcessor.processIpcRequest();
-					LOG.debug("Request packet 2nd call processed with status:"
-							+ status);
+					LOG.debug("Request packet 2nd call processed with status:%s", status);
 					if (status == ClientSession.RESP_FATAL) {
 						throw new VtnServiceException(
-								Thread.currentThread().getStackTrace()[1]
-										.getClassName()
-										+ VtnServiceConsts.HYPHEN
-										+ Thread.currentThread()
-												.getStackTrace()[1]
-												.getMethodName(),
 								UncJavaAPIErrorCode.IPC_SERVER_ERROR
 										.getErrorCode(),
 								UncJavaAPIErrorCode.IPC_SERVER_ERROR
@@ -346,12 +312,6 @@ public class DomainLogicalPortsResource extends AbstractResource {
 							status = requestProcessor.processIpcRequest();
 							if (status == ClientSession.RESP_FATAL) {
 								throw new VtnServiceException(
-										Thread.currentThread().getStackTrace()[1]
-												.getClassName()
-												+ VtnServiceConsts.HYPHEN
-												+ Thread.currentThread()
-														.getStackTrace()[1]
-														.getMethodName(),
 										UncJavaAPIErrorCode.IPC_SERVER_ERROR
 												.getErrorCode(),
 										UncJavaAPIErrorCode.IPC_SERVER_ERROR
@@ -389,12 +349,7 @@ public class DomainLogicalPortsResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
@@ -17,7 +17,6 @@ import org.opendaylight.vtn.core.ipc.ClientSession;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -99,7 +98,7 @@ public class LinksResource extends AbstractResource {
 				ipcRequestPacketEnum = getModifiedRequestPacket(requestBody, requestProcessor);
 				LOG.debug("Request packet created successfully");
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet processed with status:" + status);
+				LOG.debug("Request packet processed with status:%s", status);
 				final IpcPhysicalResponseFactory responseGenerator = new IpcPhysicalResponseFactory();
 				JsonObject responseJson = responseGenerator.getLinkResponse(
 						requestProcessor.getIpcResponsePacket(), requestBody);
@@ -120,7 +119,7 @@ public class LinksResource extends AbstractResource {
 								.setIpcUint32Value(UncOperationEnum.UNC_OP_READ
 										.ordinal()));
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet processed with status:" + status);
+				LOG.debug("Request packet processed with status:%s", status);
 				final IpcPhysicalResponseFactory responseGenerator = new IpcPhysicalResponseFactory();
 				setInfo(responseGenerator.getLinkResponse(
 						requestProcessor.getIpcResponsePacket(), requestBody));
@@ -129,12 +128,7 @@ public class LinksResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
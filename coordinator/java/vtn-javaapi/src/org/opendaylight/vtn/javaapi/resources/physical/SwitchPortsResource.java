@@ -18,7 +18,6 @@ import org.opendaylight.vtn.core.ipc.IpcStruct;
 import org.opendaylight.vtn.core.util.Logger;
 import org.opendaylight.vtn.javaapi.annotation.UNCField;
 import org.opendaylight.vtn.javaapi.annotation.UNCVtnService;
-import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceIpcConsts;
 import org.opendaylight.vtn.javaapi.constants.VtnServiceJsonConsts;
 import org.opendaylight.vtn.javaapi.exception.VtnServiceException;
@@ -147,15 +146,9 @@ public class SwitchPortsResource extends AbstractResource {
 							valPortStStruct);
 				}
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet 1st call processed with status:"
-						+ status);
+				LOG.debug("Request packet 1st call processed with status:%s", status);
 				if (status == ClientSession.RESP_FATAL) {
 					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage());
@@ -188,15 +181,9 @@ public class SwitchPortsResource extends AbstractResource {
 								.setIpcUint32Value(UncOperationEnum.UNC_OP_READ
 										.ordinal()));
 				status = requestProcessor.processIpcRequest();
-				LOG.debug("Request packet 1st call processed with status:"
-						+ status);
+				LOG.debug("Request packet 1st call processed with status:%s", status);
 				if (status == ClientSession.RESP_FATAL) {
 					throw new VtnServiceException(
-							Thread.currentThread().getStackTrace()[1]
-									.getClassName()
-									+ VtnServiceConsts.HYPHEN
-									+ Thread.currentThread().getStackTrace()[1]
-											.getMethodName(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage());
@@ -234,16 +221,9 @@ public class SwitchPortsResource extends AbstractResource {
 													.ordinal()));
 					LOG.debug("Request Packet for 2nd created successfully");
 					status = requestProcessor.processIpcRequest();
-					LOG.debug("Request packet 2nd call processed with status:"
-							+ status);
+					LOG.debug("Request packet 2nd call processed with status:%s", status);
 					if (status == ClientSession.RESP_FATAL) {
 						throw new VtnServiceException(
-								Thread.currentThread().getStackTrace()[1]
-										.getClassName()
-										+ VtnServiceConsts.HYPHEN
-										+ Thread.currentThread()
-												.getStackTrace()[1]
-												.getMethodName(),
 								UncJavaAPIErrorCode.IPC_SERVER_ERROR
 										.getErrorCode(),
 								UncJavaAPIErrorCode.IPC_SERVER_ERROR
@@ -259,12 +239,7 @@ public class SwitchPortsResource extends AbstractResource {
 			LOG.debug("Complete Ipc framework call");
 		} catch (final VtnServiceException e) {
 			getExceptionHandler()
-					.raise(Thread.currentThread().getStackTrace()[1]
-							.getClassName()
-							+ VtnServiceConsts.HYPHEN
-							+ Thread.currentThread().getStackTrace()[1]
-									.getMethodName(),
-							UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
+					.raise(UncJavaAPIErrorCode.IPC_SERVER_ERROR.getErrorCode(),
 							UncJavaAPIErrorCode.IPC_SERVER_ERROR
 									.getErrorMessage(), e);
 			throw e;
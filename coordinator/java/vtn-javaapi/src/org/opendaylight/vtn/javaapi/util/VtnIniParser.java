@@ -175,6 +175,27 @@ public class VtnIniParser {
 				.parseBoolean(VtnServiceInitManager.getConfigurationMap()
 						.getConfigValue(
 								VtnServiceOpenStackConsts.DB_WAIT_CONDITION)));
+
+		connectionProperties.setConnectionWaitTimeout(Long
+				.parseLong(VtnServiceInitManager.getConfigurationMap()
+						.getConfigValue(
+								VtnServiceOpenStackConsts.DB_WAIT_TIMEOUT,
+								String.valueOf(connectionProperties
+										.getConnectionWaitTimeout()))));
+
+		connectionProperties.setValidationInterval(Long
+				.parseLong(VtnServiceInitManager.getConfigurationMap()
+						.getConfigValue(
+								VtnServiceOpenStackConsts.DB_VALIDATION_INTERVAL,
+								String.valueOf(connectionProperties
+										.getValidationInterval()))));
+
+		connectionProperties.setLeakDetectionThreshold(Long
+				.parseLong(VtnServiceInitManager.getConfigurationMap()
+						.getConfigValue(
+								VtnServiceOpenStackConsts.DB_LEAK_THRESHOLD,
+								String.valueOf(connectionProperties
+										.getLeakDetectionThreshold()))));
 		return connectionProperties;
 	}
 
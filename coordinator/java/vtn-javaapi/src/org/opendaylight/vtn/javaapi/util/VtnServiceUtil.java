@@ -94,7 +94,7 @@ public class VtnServiceUtil {
 				String paramName = entry.getKey();
 				if (!isallParamValuesValid(paramName, resource)) {
 					resource.getValidator().setInvalidParameter(paramName);
-					LOG.debug("validation failed for : " + paramName);
+					LOG.debug("validation failed for : %s", paramName);
 					throw new IllegalArgumentException(
 							"triming validation failed for : " + paramName);
 				}
@@ -113,7 +113,7 @@ public class VtnServiceUtil {
 							.equals(field.get(resource))) {
 				final String value = uncField.value();
 				resource.getValidator().setInvalidParameter(value);
-				LOG.debug("validation failed for : " + value);
+				LOG.debug("validation failed for : %s", value);
 				throw new IllegalArgumentException(
 						"triming validation failed for : " + value);
 			}
@@ -156,7 +156,7 @@ public class VtnServiceUtil {
 		} else {
 			flag = false;
 		}
-		LOG.debug("validation status for " + paramName + " is " + flag);
+		LOG.debug("validation status for %s is %s", paramName, flag);
 		LOG.trace("complete VtnServiceUtil#isallParamValuesValid()");
 		return flag;
 	}
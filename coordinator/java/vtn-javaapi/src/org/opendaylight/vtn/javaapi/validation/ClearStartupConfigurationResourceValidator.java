@@ -71,8 +71,7 @@ public class ClearStartupConfigurationResourceValidator extends
 		}
 		if (!isValid) {
 			LOG.error("Validation failed");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
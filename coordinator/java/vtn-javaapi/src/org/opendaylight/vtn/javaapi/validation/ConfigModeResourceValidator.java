@@ -91,8 +91,7 @@ public class ConfigModeResourceValidator extends VtnServiceValidator {
 		// Throws exception if validation fails
 		if (!isValid) {
 			LOG.error("Validation failed");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
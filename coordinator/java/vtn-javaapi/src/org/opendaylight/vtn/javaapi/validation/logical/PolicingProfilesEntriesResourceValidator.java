@@ -102,8 +102,9 @@ public class PolicingProfilesEntriesResourceValidator extends
 	public final void validate(final String method, final JsonObject requestBody)
 			throws VtnServiceException {
 		LOG.trace("Start PolicingProfilesEntriesResourceValidator#validate()");
-		LOG.debug("Validating request for " + method
-				+ " of PolicingProfilesEntriesValidation");
+		LOG.debug(
+				"Validating request for %s of PolicingProfilesEntriesValidation",
+				method);
 		boolean isValid = false;
 		try {
 			isValid = validateUri();
@@ -139,8 +140,7 @@ public class PolicingProfilesEntriesResourceValidator extends
 		// Throws exception if validation fails
 		if (!isValid) {
 			LOG.error("Validation failed");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
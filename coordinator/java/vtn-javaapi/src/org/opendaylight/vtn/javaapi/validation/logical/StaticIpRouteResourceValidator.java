@@ -164,8 +164,7 @@ public class StaticIpRouteResourceValidator extends VtnServiceValidator {
 		}
 		// Throws exception if validation fails
 		if (!isValid) {
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
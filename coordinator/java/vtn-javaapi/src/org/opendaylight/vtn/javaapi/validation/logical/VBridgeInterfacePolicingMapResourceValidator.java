@@ -134,8 +134,7 @@ public class VBridgeInterfacePolicingMapResourceValidator extends
 		// Throws exception if validation fails
 		if (!isValid) {
 			LOG.info("Validation failed");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
@@ -88,8 +88,9 @@ public class VBridgePolicingMapResourceValidator extends VtnServiceValidator {
 	public final void validate(final String method, final JsonObject requestBody)
 			throws VtnServiceException {
 		LOG.trace("Start VBridgePolicingMapResourceValidator#validate()");
-		LOG.debug("Validating request for " + method
-				+ " of VBridgePolicingMapResourceValidator");
+		LOG.debug(
+				"Validating request for %s of VBridgePolicingMapResourceValidator",
+				method);
 		boolean isValid = false;
 		try {
 			isValid = validateUri();
@@ -119,8 +120,7 @@ public class VBridgePolicingMapResourceValidator extends VtnServiceValidator {
 		// Throws exception if validation fails
 		if (!isValid) {
 			LOG.error("Validation failed");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
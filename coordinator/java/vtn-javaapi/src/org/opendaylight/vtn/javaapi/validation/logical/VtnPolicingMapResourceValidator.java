@@ -95,13 +95,12 @@ public class VtnPolicingMapResourceValidator extends VtnServiceValidator {
 		// Throws exception if validation fails
 		if (!isValid) {
 			LOG.error("Validation failed");
-			throw new VtnServiceException(Thread.currentThread()
-					.getStackTrace()[1].getMethodName(),
+			throw new VtnServiceException(
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorCode(),
 					UncJavaAPIErrorCode.VALIDATION_ERROR.getErrorMessage());
 		}
-		LOG.debug("validation successful for + " + method
-				+ " of VtnPolicingMapResource");
+		LOG.debug("validation successful for + %s of VtnPolicingMapResource",
+				method);
 		LOG.trace("Complete VtnPolicingMapResourceValidator#validate()");
 	}
 
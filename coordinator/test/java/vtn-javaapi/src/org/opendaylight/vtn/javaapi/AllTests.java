@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.opendaylight.vtn.javaapi.connection.ChannelPoolTest;
+import org.opendaylight.vtn.javaapi.connection.PooledConnectionTest;
+import org.opendaylight.vtn.javaapi.exception.ErrorContextTest;
+import org.opendaylight.vtn.javaapi.openstack.dbmanager.DataBaseConnectionPoolTest;
+import org.opendaylight.vtn.javaapi.openstack.dbmanager.ResourceIdAllocatorTest;
+import org.opendaylight.vtn.javaapi.openstack.dbmanager.ResourceIdManagerTest;
+import org.opendaylight.vtn.javaapi.openstack.dbmanager.StatementCacheTest;
+
+/**
+ * <p>
+ *   Bundle of all JUnit tests for vtn-javaapi library.
+ * </p>
+ */
+public class AllTests
+{
+	/**
+	 * <p>
+	 *   Return test suits which contains all JUnit tests for vtn-javaapi
+	 *   library.
+	 * </p>
+	 *
+	 * @return	{@code Test} instance which contains tests.
+	 */
+	public static Test suite()
+	{
+		TestSuite  suite = new TestSuite("All vtn-javaapi JUnit tests");
+
+		suite.addTest(new TestSuite(PooledConnectionTest.class));
+		suite.addTest(new TestSuite(ChannelPoolTest.class));
+		suite.addTest(new TestSuite(ErrorContextTest.class));
+		suite.addTest(new TestSuite(ResourceIdAllocatorTest.class));
+		suite.addTest(new TestSuite(ResourceIdManagerTest.class));
+		suite.addTest(new TestSuite(StatementCacheTest.class));
+		suite.addTest(new TestSuite(DataBaseConnectionPoolTest.class));
+
+		return suite;
+	}
+}
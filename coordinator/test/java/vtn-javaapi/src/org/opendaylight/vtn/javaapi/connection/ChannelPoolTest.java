@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.connection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.opendaylight.vtn.core.ipc.IpcException;
+
+/**
+ * <p>
+ *   Unit test class for {@link ChannelPool}.
+ * </p>
+ */
+public class ChannelPoolTest extends TestCase
+{
+	/**
+	 * IPC service name used for test.
+	 */
+	private final static String  SERVICE = "service";
+
+	/**
+	 * Idle timeout long enough not to expire during test.
+	 */
+	private final static long  IDLE_TIMEOUT = 3600000L;
+
+	/**
+	 * <p>
+	 *   Connection opener which records opened connections.
+	 * </p>
+	 */
+	private final static class TestOpener
+		implements ChannelPool.Opener<TestSessionFactory.Session>
+	{
+		/**
+		 * Session factories for opened connections.
+		 */
+		private final List<TestSessionFactory>  _factories =
+			Collections.synchronizedList(
+				new ArrayList<TestSessionFactory>());
+
+		/**
+		 * Set true if a connection can not be opened.
+		 */
+		private volatile boolean  _broken;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public SessionFactory<TestSessionFactory.Session> open()
+			throws IpcException
+		{
+			if (_broken) {
+				throw new IpcException("Channel is not available.");
+			}
+
+			TestSessionFactory factory = new TestSessionFactory();
+			_factories.add(factory);
+
+			return factory;
+		}
+
+		/**
+		 * Return the session factory for the specified connection.
+		 *
+		 * @param index	The index of the connection.
+		 * @return	The session factory.
+		 */
+		private TestSessionFactory get(int index)
+		{
+			return _factories.get(index);
+		}
+
+		/**
+		 * Return the number of sessions which are not destroyed.
+		 *
+		 * @return	The number of live sessions.
+		 */
+		private int getLiveCount()
+		{
+			int count = 0;
+			synchronized (_factories) {
+				for (TestSessionFactory factory: _factories) {
+					count += factory.getLiveCount();
+				}
+			}
+
+			return count;
+		}
+	}
+
+	/**
+	 * Create JUnit test case for {@link ChannelPool}.
+	 *
+	 * @param name	The test name.
+	 */
+	public ChannelPoolTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Ensure that sessions are acquired and released correctly under
+	 * contention.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testContention() throws Exception
+	{
+		TestOpener opener = new TestOpener();
+		final ChannelPool<TestSessionFactory.Session> pool =
+			new ChannelPool<TestSessionFactory.Session>(
+				"test", opener, 2, 4, 2, 4, IDLE_TIMEOUT);
+		assertEquals(2, pool.getConnectionCount());
+
+		// Make session creation fail once on the first connection.
+		// The connection must be replaced without breaking sessions
+		// used by other threads.
+		TestSessionFactory broken = opener.get(0);
+		broken.setFailAfter(3);
+
+		int nthreads = 16;
+		final int loop = 500;
+		final List<Throwable> errors =
+			Collections.synchronizedList(new ArrayList<Throwable>());
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[nthreads];
+		for (int i = 0; i < nthreads; i++) {
+			final int id = i % 3;
+			threads[i] = new Thread() {
+				@Override
+				public void run()
+				{
+					try {
+						start.await();
+						for (int j = 0; j < loop; j++) {
+							useSession(pool, id);
+						}
+					}
+					catch (Throwable t) {
+						errors.add(t);
+					}
+				}
+			};
+			threads[i].start();
+		}
+
+		start.countDown();
+		for (Thread t: threads) {
+			t.join(TimeUnit.SECONDS.toMillis(60));
+			assertFalse(t.isAlive());
+		}
+		if (!errors.isEmpty()) {
+			Throwable t = errors.get(0);
+			AssertionError e = new AssertionError(
+				errors.size() + " errors: " + t);
+			e.initCause(t);
+			throw e;
+		}
+
+		// All the sessions must be released, and every session which is
+		// not destroyed must be kept for reuse.
+		assertEquals(0, pool.getSessionCount());
+		int nconns = pool.getConnectionCount();
+		assertTrue(nconns >= 2 && nconns <= 4);
+		assertEquals(nconns + 1, opener._factories.size());
+		assertEquals(pool.getIdleSessionCount(), opener.getLiveCount());
+		assertTrue(pool.getIdleSessionCount() <= nconns * 4);
+		assertEquals(1, broken.getCloseCount());
+		assertEquals(0, broken.getLiveCount());
+
+		// Sessions must have been reused.
+		int created = 0;
+		for (TestSessionFactory factory: opener._factories) {
+			created += factory.getCreatedCount();
+		}
+		assertTrue("created=" + created, created < nthreads * loop / 2);
+
+		// Connections must shrink to the minimum size when idle.
+		for (int i = 0; i < 4; i++) {
+			pool.maintain(System.currentTimeMillis());
+		}
+		assertEquals(2, pool.getConnectionCount());
+		assertEquals(pool.getIdleSessionCount(), opener.getLiveCount());
+	}
+
+	/**
+	 * Acquire a session, use it and release it.
+	 *
+	 * @param pool	The pool to be tested.
+	 * @param id	The IPC service ID.
+	 * @throws Exception	An error occurred.
+	 */
+	private static void useSession(
+		ChannelPool<TestSessionFactory.Session> pool, int id)
+		throws Exception
+	{
+		TestSessionFactory.Session s = pool.acquire(SERVICE, id);
+		assertNotNull(s);
+		try {
+			// The session must not be shared by threads, and must be
+			// available for the requested service.
+			assertTrue(s.enter());
+			assertEquals(SERVICE, s.getServiceName());
+			assertEquals(id, s.getServiceId());
+			Thread.yield();
+		}
+		finally {
+			s.leave();
+			assertTrue(pool.release(s));
+		}
+	}
+
+	/**
+	 * Ensure that a broken connection is replaced with a new connection.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testSessionFailure() throws Exception
+	{
+		TestOpener opener = new TestOpener();
+		ChannelPool<TestSessionFactory.Session> pool =
+			new ChannelPool<TestSessionFactory.Session>(
+				"test", opener, 2, 2, 100, 0, IDLE_TIMEOUT);
+		TestSessionFactory broken = opener.get(0);
+		TestSessionFactory healthy = opener.get(1);
+		broken.setBroken(true);
+
+		// Session allocation must be retried on a new connection
+		// opened in place of the broken one.
+		List<TestSessionFactory.Session> sessions =
+			new ArrayList<TestSessionFactory.Session>();
+		for (int i = 0; i < 100; i++) {
+			sessions.add(pool.acquire(SERVICE, 1));
+		}
+		assertEquals(3, opener._factories.size());
+		TestSessionFactory replaced = opener.get(2);
+		assertEquals(2, pool.getConnectionCount());
+		assertEquals(sessions.size(), pool.getSessionCount());
+		assertEquals(1, broken.getCloseCount());
+		assertEquals(0, broken.getCreatedCount());
+		for (TestSessionFactory.Session s: sessions) {
+			assertTrue(s.getFactory() == healthy ||
+				   s.getFactory() == replaced);
+			assertTrue(s.isValid());
+		}
+
+		for (TestSessionFactory.Session session: sessions) {
+			assertTrue(pool.release(session));
+			assertTrue(session.isDestroyed());
+
+			// The session must not be released twice.
+			assertFalse(pool.release(session));
+		}
+		assertEquals(0, pool.getSessionCount());
+		assertEquals(0, opener.getLiveCount());
+		assertEquals(0, healthy.getCloseCount());
+		assertEquals(0, replaced.getCloseCount());
+	}
+
+	/**
+	 * Ensure that sessions on a broken connection are kept available
+	 * until they are released.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testSessionFailureShared() throws Exception
+	{
+		TestOpener opener = new TestOpener();
+		ChannelPool<TestSessionFactory.Session> pool =
+			new ChannelPool<TestSessionFactory.Session>(
+				"test", opener, 1, 1, 100, 4, IDLE_TIMEOUT);
+		TestSessionFactory first = opener.get(0);
+		TestSessionFactory.Session s1 = pool.acquire(SERVICE, 1);
+		assertSame(first, s1.getFactory());
+
+		// The caller must get a session on a new connection.
+		first.setBroken(true);
+		TestSessionFactory.Session s2 = pool.acquire(SERVICE, 1);
+		assertEquals(2, opener._factories.size());
+		TestSessionFactory second = opener.get(1);
+		assertSame(second, s2.getFactory());
+		assertEquals(1, pool.getConnectionCount());
+		assertEquals(2, pool.getSessionCount());
+
+		// The session on the broken connection must be kept available,
+		// and the connection must be closed when it is released.
+		assertTrue(s1.isValid());
+		assertEquals(0, first.getCloseCount());
+		assertTrue(pool.release(s1));
+		assertTrue(s1.isDestroyed());
+		assertEquals(1, first.getCloseCount());
+		assertEquals(1, pool.getSessionCount());
+
+		// An error must be thrown if no connection can be opened in
+		// place of the broken connection.
+		second.setBroken(true);
+		opener._broken = true;
+		try {
+			pool.acquire(SERVICE, 1);
+			fail("An exception must be thrown.");
+		}
+		catch (IpcException e) {
+		}
+		assertEquals(0, pool.getConnectionCount());
+		assertTrue(s2.isValid());
+		assertEquals(0, second.getCloseCount());
+		assertEquals(null, pool.acquire(SERVICE, 1));
+
+		// The maintenance must not fill the pool while the channel is
+		// unavailable.
+		pool.maintain(System.currentTimeMillis());
+		assertEquals(0, pool.getConnectionCount());
+
+		// The pool must be filled up to the minimum size once the
+		// channel becomes available.
+		opener._broken = false;
+		pool.maintain(System.currentTimeMillis());
+		assertEquals(1, pool.getConnectionCount());
+		TestSessionFactory.Session s3 = pool.acquire(SERVICE, 1);
+		assertSame(opener.get(2), s3.getFactory());
+
+		// The retired connection must be closed when the last session
+		// on it is released.
+		assertTrue(pool.release(s2));
+		assertEquals(1, second.getCloseCount());
+		assertTrue(pool.release(s3));
+		assertEquals(0, pool.getSessionCount());
+		assertEquals(1, pool.getIdleSessionCount());
+		assertEquals(1, opener.getLiveCount());
+	}
+
+	/**
+	 * Ensure that the pool grows and shrinks according to the load.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testGrowShrink() throws Exception
+	{
+		TestOpener opener = new TestOpener();
+		ChannelPool<TestSessionFactory.Session> pool =
+			new ChannelPool<TestSessionFactory.Session>(
+				"test", opener, 1, 3, 2, 4, IDLE_TIMEOUT);
+		assertEquals(1, pool.getConnectionCount());
+
+		// A new connection must be opened when the selected connection
+		// has as many sessions as the threshold.
+		List<TestSessionFactory.Session> sessions =
+			new ArrayList<TestSessionFactory.Session>();
+		int[] expected = {1, 1, 2, 2, 3, 3, 3, 3};
+		for (int nconns: expected) {
+			sessions.add(pool.acquire(SERVICE, 1));
+			assertEquals(nconns, pool.getConnectionCount());
+		}
+		assertEquals(expected.length, pool.getSessionCount());
+
+		// The pool must not grow if no connection can be opened.
+		TestOpener opener2 = new TestOpener();
+		ChannelPool<TestSessionFactory.Session> pool2 =
+			new ChannelPool<TestSessionFactory.Session>(
+				"test2", opener2, 1, 3, 1, 4, IDLE_TIMEOUT);
+		opener2._broken = true;
+		pool2.acquire(SERVICE, 1);
+		pool2.acquire(SERVICE, 1);
+		assertEquals(1, pool2.getConnectionCount());
+		assertEquals(2, pool2.getSessionCount());
+
+		// The pool must not shrink while connections are loaded.
+		pool.maintain(System.currentTimeMillis());
+		assertEquals(3, pool.getConnectionCount());
+
+		// Release sessions except one.
+		TestSessionFactory.Session kept = sessions.remove(0);
+		for (TestSessionFactory.Session s: sessions) {
+			assertTrue(pool.release(s));
+		}
+		assertEquals(1, pool.getSessionCount());
+
+		// The pool must shrink one by one, but never below the minimum
+		// size. The connection which has a session must be kept.
+		pool.maintain(System.currentTimeMillis());
+		assertEquals(2, pool.getConnectionCount());
+		pool.maintain(System.currentTimeMillis());
+		assertEquals(1, pool.getConnectionCount());
+		pool.maintain(System.currentTimeMillis());
+		assertEquals(1, pool.getConnectionCount());
+		assertSame(kept.getFactory(), pool.acquire(SERVICE, 1).getFactory());
+
+		// Retired connections must be closed, and their idle sessions
+		// must be destroyed.
+		for (TestSessionFactory.Session s: sessions) {
+			if (s.getFactory() != kept.getFactory()) {
+				assertTrue(s.isDestroyed());
+				assertEquals(1, s.getFactory().getCloseCount());
+			}
+		}
+		assertEquals(0, kept.getFactory().getCloseCount());
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.connection;
+
+import junit.framework.TestCase;
+
+import org.opendaylight.vtn.core.ipc.IpcException;
+
+/**
+ * <p>
+ *   Unit test class for {@link PooledConnection}.
+ * </p>
+ */
+public class PooledConnectionTest extends TestCase
+{
+	/**
+	 * IPC service name used for test.
+	 */
+	private final static String  SERVICE = "service";
+
+	/**
+	 * Create JUnit test case for {@link PooledConnection}.
+	 *
+	 * @param name	The test name.
+	 */
+	public PooledConnectionTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Ensure that a released session is reused for the same service.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testReuse() throws Exception
+	{
+		TestSessionFactory factory = new TestSessionFactory();
+		PooledConnection<TestSessionFactory.Session> conn =
+			new PooledConnection<TestSessionFactory.Session>(factory, 4);
+
+		PooledConnection.Lease<TestSessionFactory.Session> lease1 =
+			conn.acquire(SERVICE, 1);
+		TestSessionFactory.Session s1 = lease1.getSession();
+		assertSame(conn, lease1.getConnection());
+		assertEquals(1, conn.getCounter());
+		assertEquals(0, conn.getIdleCount());
+
+		conn.release(lease1);
+		assertEquals(0, conn.getCounter());
+		assertEquals(1, conn.getIdleCount());
+		assertEquals(1, factory.getResetCount());
+		assertFalse(s1.isDestroyed());
+
+		// The idle session must be reused for the same service.
+		PooledConnection.Lease<TestSessionFactory.Session> lease2 =
+			conn.acquire(SERVICE, 1);
+		assertSame(s1, lease2.getSession());
+		assertEquals(1, conn.getCounter());
+		assertEquals(0, conn.getIdleCount());
+		assertEquals(1, factory.getCreatedCount());
+
+		// The idle session must not be used for another service.
+		conn.release(lease2);
+		PooledConnection.Lease<TestSessionFactory.Session> lease3 =
+			conn.acquire(SERVICE, 2);
+		TestSessionFactory.Session s3 = lease3.getSession();
+		assertNotSame(s1, s3);
+		assertEquals(2, s3.getServiceId());
+		assertEquals(2, factory.getCreatedCount());
+		assertEquals(1, conn.getIdleCount());
+
+		// A session must be reset to the service for which it was
+		// allocated, even if it was reset to another service by the
+		// caller.
+		factory.resetSession(s3, SERVICE, 3);
+		conn.release(lease3);
+		assertEquals(2, s3.getServiceId());
+		assertEquals(2, conn.getIdleCount());
+		assertSame(s3, conn.acquire(SERVICE, 2).getSession());
+		assertFalse(conn.isRetired());
+	}
+
+	/**
+	 * Ensure that the number of idle sessions is limited.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testIdleLimit() throws Exception
+	{
+		TestSessionFactory factory = new TestSessionFactory();
+		PooledConnection<TestSessionFactory.Session> conn =
+			new PooledConnection<TestSessionFactory.Session>(factory, 2);
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		PooledConnection.Lease<TestSessionFactory.Session>[] leases =
+			new PooledConnection.Lease[3];
+		for (int i = 0; i < leases.length; i++) {
+			leases[i] = conn.acquire(SERVICE, i % 2);
+		}
+		assertEquals(3, conn.getCounter());
+
+		for (PooledConnection.Lease<TestSessionFactory.Session> lease:
+			     leases) {
+			conn.release(lease);
+		}
+		assertEquals(0, conn.getCounter());
+		assertEquals(2, conn.getIdleCount());
+		assertEquals(2, factory.getLiveCount());
+		assertTrue(leases[2].getSession().isDestroyed());
+
+		// No session is kept if the maximum is zero.
+		factory = new TestSessionFactory();
+		conn = new PooledConnection<TestSessionFactory.Session>(factory, 0);
+		PooledConnection.Lease<TestSessionFactory.Session> lease =
+			conn.acquire(SERVICE, 1);
+		conn.release(lease);
+		assertEquals(0, conn.getIdleCount());
+		assertTrue(lease.getSession().isDestroyed());
+		assertEquals(0, factory.getResetCount());
+	}
+
+	/**
+	 * Ensure that a session which can not be reset is destroyed.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testResetError() throws Exception
+	{
+		TestSessionFactory factory = new TestSessionFactory();
+		PooledConnection<TestSessionFactory.Session> conn =
+			new PooledConnection<TestSessionFactory.Session>(factory, 4);
+
+		factory.setResetError(true);
+		PooledConnection.Lease<TestSessionFactory.Session> lease =
+			conn.acquire(SERVICE, 1);
+		conn.release(lease);
+		assertTrue(lease.getSession().isDestroyed());
+		assertEquals(0, conn.getIdleCount());
+		assertEquals(0, conn.getCounter());
+
+		factory.setResetError(false);
+		lease = conn.acquire(SERVICE, 1);
+		assertFalse(lease.getSession().isDestroyed());
+		assertEquals(2, factory.getCreatedCount());
+	}
+
+	/**
+	 * Ensure that the connection is retired if a session can not be
+	 * created, without breaking sessions used by other threads.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testCreateError() throws Exception
+	{
+		TestSessionFactory factory = new TestSessionFactory();
+		PooledConnection<TestSessionFactory.Session> conn =
+			new PooledConnection<TestSessionFactory.Session>(factory, 4);
+
+		PooledConnection.Lease<TestSessionFactory.Session> lease1 =
+			conn.acquire(SERVICE, 1);
+		PooledConnection.Lease<TestSessionFactory.Session> lease2 =
+			conn.acquire(SERVICE, 2);
+		conn.release(lease1);
+		assertEquals(1, conn.getIdleCount());
+		assertFalse(conn.isRetired());
+
+		// The connection must be retired, and the error must be
+		// reported to the caller.
+		factory.setFailAfter(2);
+		try {
+			conn.acquire(SERVICE, 3);
+			fail("An exception must be thrown.");
+		}
+		catch (IpcException e) {
+		}
+		assertTrue(conn.isRetired());
+		assertEquals(1, conn.getCounter());
+		assertEquals(2, factory.getCreatedCount());
+
+		// Idle sessions must be destroyed.
+		assertEquals(0, conn.getIdleCount());
+		assertTrue(lease1.getSession().isDestroyed());
+
+		// The connection must not be closed while the session is used
+		// by another thread.
+		assertFalse(conn.isClosed());
+		assertEquals(0, factory.getCloseCount());
+		assertTrue(lease2.getSession().isValid());
+
+		// No session can be allocated on the retired connection, even
+		// if the error has gone.
+		assertEquals(null, conn.acquire(SERVICE, 2));
+		assertEquals(1, conn.getCounter());
+		assertEquals(2, factory.getCreatedCount());
+
+		// The retired connection must be closed when the last session
+		// is released. The released session must not be reused.
+		int resets = factory.getResetCount();
+		conn.release(lease2);
+		assertTrue(lease2.getSession().isDestroyed());
+		assertEquals(resets, factory.getResetCount());
+		assertEquals(0, conn.getCounter());
+		assertTrue(conn.isClosed());
+		assertEquals(1, factory.getCloseCount());
+
+		// Unused connection must be closed immediately.
+		factory = new TestSessionFactory();
+		conn = new PooledConnection<TestSessionFactory.Session>(factory, 4);
+		factory.setBroken(true);
+		try {
+			conn.acquire(SERVICE, 1);
+			fail("An exception must be thrown.");
+		}
+		catch (IpcException e) {
+		}
+		assertTrue(conn.isRetired());
+		assertTrue(conn.isClosed());
+		assertEquals(0, conn.getCounter());
+		assertEquals(1, factory.getCloseCount());
+	}
+
+	/**
+	 * Ensure that sessions idle for too long are destroyed.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testTrimIdleSessions() throws Exception
+	{
+		TestSessionFactory factory = new TestSessionFactory();
+		PooledConnection<TestSessionFactory.Session> conn =
+			new PooledConnection<TestSessionFactory.Session>(factory, 4);
+
+		PooledConnection.Lease<TestSessionFactory.Session> lease1 =
+			conn.acquire(SERVICE, 1);
+		PooledConnection.Lease<TestSessionFactory.Session> lease2 =
+			conn.acquire(SERVICE, 1);
+		PooledConnection.Lease<TestSessionFactory.Session> lease3 =
+			conn.acquire(SERVICE, 2);
+		long released = System.currentTimeMillis();
+		conn.release(lease1);
+		conn.release(lease2);
+		conn.release(lease3);
+		assertEquals(3, conn.getIdleCount());
+
+		long timeout = 60000L;
+		assertEquals(0, conn.trimIdleSessions(released, timeout));
+		assertEquals(3, conn.getIdleCount());
+
+		assertEquals(3, conn.trimIdleSessions(
+				     System.currentTimeMillis() + timeout, timeout));
+		assertEquals(0, conn.getIdleCount());
+		assertEquals(0, factory.getLiveCount());
+
+		// A new session must be created after trimming.
+		TestSessionFactory.Session s =
+			conn.acquire(SERVICE, 1).getSession();
+		assertFalse(s.isDestroyed());
+		assertEquals(4, factory.getCreatedCount());
+	}
+
+	/**
+	 * Ensure that a retired connection is closed when all the sessions are
+	 * released.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testRetire() throws Exception
+	{
+		TestSessionFactory factory = new TestSessionFactory();
+		PooledConnection<TestSessionFactory.Session> conn =
+			new PooledConnection<TestSessionFactory.Session>(factory, 4);
+
+		PooledConnection.Lease<TestSessionFactory.Session> lease1 =
+			conn.acquire(SERVICE, 1);
+		PooledConnection.Lease<TestSessionFactory.Session> lease2 =
+			conn.acquire(SERVICE, 1);
+		conn.release(lease1);
+		assertEquals(1, conn.getIdleCount());
+
+		// The connection must not be closed while a session is allocated.
+		conn.retire();
+		assertFalse(conn.isClosed());
+		assertEquals(0, factory.getCloseCount());
+		assertEquals(1, conn.getCounter());
+
+		conn.release(lease2);
+		assertTrue(lease2.getSession().isDestroyed());
+		assertTrue(lease1.getSession().isDestroyed());
+		assertTrue(conn.isClosed());
+		assertEquals(1, factory.getCloseCount());
+		assertEquals(0, conn.getCounter());
+		assertEquals(0, conn.getIdleCount());
+
+		// No session can be allocated on the closed connection.
+		assertEquals(null, conn.acquire(SERVICE, 1));
+		assertEquals(0, conn.getCounter());
+		conn.retire();
+		assertEquals(1, factory.getCloseCount());
+
+		// Unused connection must be closed immediately.
+		factory = new TestSessionFactory();
+		conn = new PooledConnection<TestSessionFactory.Session>(factory, 4);
+		conn.retire();
+		assertTrue(conn.isClosed());
+		assertEquals(1, factory.getCloseCount());
+	}
+}
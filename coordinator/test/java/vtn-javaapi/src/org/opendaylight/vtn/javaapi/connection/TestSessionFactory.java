@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.connection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opendaylight.vtn.core.ipc.IpcException;
+
+/**
+ * <p>
+ *   Session factory which creates {@link TestSessionFactory.Session}
+ *   instances without IPC library.
+ * </p>
+ */
+class TestSessionFactory implements SessionFactory<TestSessionFactory.Session>
+{
+	/**
+	 * <p>
+	 *   Session created by {@link TestSessionFactory}.
+	 * </p>
+	 */
+	static class Session
+	{
+		/**
+		 * The factory which created this session.
+		 */
+		private final TestSessionFactory  _factory;
+
+		/**
+		 * The IPC service name.
+		 */
+		private volatile String  _serviceName;
+
+		/**
+		 * The IPC service ID.
+		 */
+		private volatile int  _serviceId;
+
+		/**
+		 * The number of threads which use this session.
+		 */
+		private final AtomicInteger  _users = new AtomicInteger();
+
+		/**
+		 * Set true if this session is destroyed.
+		 */
+		private volatile boolean  _destroyed;
+
+		/**
+		 * Construct a new session.
+		 *
+		 * @param factory	The factory which created this session.
+		 * @param name		The IPC service name.
+		 * @param service	The IPC service ID.
+		 */
+		private Session(TestSessionFactory factory, String name,
+				int service)
+		{
+			_factory = factory;
+			_serviceName = name;
+			_serviceId = service;
+		}
+
+		/**
+		 * Return the factory which created this session.
+		 *
+		 * @return	The factory which created this session.
+		 */
+		TestSessionFactory getFactory()
+		{
+			return _factory;
+		}
+
+		/**
+		 * Return the IPC service name.
+		 *
+		 * @return	The IPC service name.
+		 */
+		String getServiceName()
+		{
+			return _serviceName;
+		}
+
+		/**
+		 * Return the IPC service ID.
+		 *
+		 * @return	The IPC service ID.
+		 */
+		int getServiceId()
+		{
+			return _serviceId;
+		}
+
+		/**
+		 * Determine whether this session is destroyed or not.
+		 *
+		 * @return	{@code true} only if this session is destroyed.
+		 */
+		boolean isDestroyed()
+		{
+			return _destroyed;
+		}
+
+		/**
+		 * Determine whether this session is still available or not.
+		 * A session is invalidated when its connection is closed.
+		 *
+		 * @return	{@code true} only if this session is available.
+		 */
+		boolean isValid()
+		{
+			return (!_destroyed && _factory.getCloseCount() == 0);
+		}
+
+		/**
+		 * Start using this session.
+		 *
+		 * @return	{@code true} only if no other thread uses this
+		 *		session.
+		 */
+		boolean enter()
+		{
+			return (_users.incrementAndGet() == 1 && isValid());
+		}
+
+		/**
+		 * Stop using this session.
+		 */
+		void leave()
+		{
+			_users.decrementAndGet();
+		}
+	}
+
+	/**
+	 * The number of sessions to be created before an error.
+	 * A negative value means that no error occurs.
+	 */
+	private volatile int  _failAfter = -1;
+
+	/**
+	 * Set true if session creation always fails.
+	 */
+	private volatile boolean  _broken;
+
+	/**
+	 * Set true if session reset fails.
+	 */
+	private volatile boolean  _resetError;
+
+	/**
+	 * The number of calls of {@link #close()}.
+	 */
+	private final AtomicInteger  _closed = new AtomicInteger();
+
+	/**
+	 * The number of calls of {@link #resetSession(Session, String, int)}.
+	 */
+	private final AtomicInteger  _reset = new AtomicInteger();
+
+	/**
+	 * All sessions created by this factory.
+	 */
+	private final List<Session>  _sessions =
+		Collections.synchronizedList(new ArrayList<Session>());
+
+	/**
+	 * Return the number of sessions created by this factory.
+	 *
+	 * @return	The number of created sessions.
+	 */
+	int getCreatedCount()
+	{
+		return _sessions.size();
+	}
+
+	/**
+	 * Return the number of sessions which are not destroyed.
+	 *
+	 * @return	The number of live sessions.
+	 */
+	int getLiveCount()
+	{
+		int count = 0;
+		synchronized (_sessions) {
+			for (Session s: _sessions) {
+				if (!s.isDestroyed()) {
+					count++;
+				}
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Return the number of calls of {@link #close()}.
+	 *
+	 * @return	The number of calls of {@link #close()}.
+	 */
+	int getCloseCount()
+	{
+		return _closed.get();
+	}
+
+	/**
+	 * Return the number of calls of
+	 * {@link #resetSession(Session, String, int)}.
+	 *
+	 * @return	The number of session resets.
+	 */
+	int getResetCount()
+	{
+		return _reset.get();
+	}
+
+	/**
+	 * Make session creation fail after the given number of sessions.
+	 *
+	 * @param count	The number of sessions to be created before an error.
+	 */
+	void setFailAfter(int count)
+	{
+		_failAfter = count;
+	}
+
+	/**
+	 * Make session creation always fail.
+	 *
+	 * @param broken	{@code true} if session creation always fails.
+	 */
+	void setBroken(boolean broken)
+	{
+		_broken = broken;
+	}
+
+	/**
+	 * Make session reset fail.
+	 *
+	 * @param error	{@code true} if session reset fails.
+	 */
+	void setResetError(boolean error)
+	{
+		_resetError = error;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Session createSession(String serviceName, int serviceID)
+		throws IpcException
+	{
+		if (_broken) {
+			throw new IpcException("Connection is broken.");
+		}
+
+		synchronized (_sessions) {
+			if (_sessions.size() == _failAfter) {
+				_failAfter = -1;
+				throw new IpcException("Session creation failed.");
+			}
+
+			Session s = new Session(this, serviceName, serviceID);
+			_sessions.add(s);
+
+			return s;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void resetSession(Session session, String serviceName,
+				 int serviceID)
+		throws IpcException
+	{
+		_reset.incrementAndGet();
+		if (_resetError || session._destroyed) {
+			throw new IpcException("Session reset failed.");
+		}
+		session._serviceName = serviceName;
+		session._serviceId = serviceID;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void destroySession(Session session)
+	{
+		session._destroyed = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close()
+	{
+		_closed.incrementAndGet();
+	}
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.exception;
+
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+/**
+ * <p>
+ *   Unit test class for {@link ErrorContext}.
+ * </p>
+ */
+public class ErrorContextTest extends TestCase
+{
+	/**
+	 * The name of this class.
+	 */
+	private final static String  CLASS_NAME = ErrorContextTest.class.getName();
+
+	/**
+	 * <p>
+	 *   Throwable which counts the number of calls of
+	 *   {@link #getStackTrace()}.
+	 * </p>
+	 */
+	private final static class CountingThrowable extends Throwable
+	{
+		/**
+		 * Version number for serialization.
+		 */
+		private final static long  serialVersionUID = 1L;
+
+		/**
+		 * The number of calls of {@link #getStackTrace()}.
+		 */
+		private int  _count;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public StackTraceElement[] getStackTrace()
+		{
+			_count++;
+			return super.getStackTrace();
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Nested class which raises errors.
+	 * </p>
+	 */
+	private final static class Raiser
+	{
+		/**
+		 * Raise an error by the exception handler.
+		 *
+		 * @param handler	The exception handler.
+		 * @throws VtnServiceException	Always thrown.
+		 */
+		private void raiseError(VtnServiceExceptionHandler handler)
+			throws VtnServiceException
+		{
+			handler.raise("code", "text", new IOException());
+		}
+	}
+
+	/**
+	 * Create JUnit test case for {@link ErrorContext}.
+	 *
+	 * @param name	The test name.
+	 */
+	public ErrorContextTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Ensure that the class and method names are resolved from the stack
+	 * frame at the given depth.
+	 */
+	public void testResolve()
+	{
+		ErrorContext ctx = new ErrorContext(new Throwable(), 0);
+		assertEquals(CLASS_NAME + "-testResolve", ctx.toString());
+
+		ctx = createContext(1);
+		assertEquals(CLASS_NAME + "-testResolve", ctx.toString());
+		ctx = createContext(0);
+		assertEquals(CLASS_NAME + "-createContext", ctx.toString());
+
+		// A depth beyond the stack must not be resolved.
+		Throwable t = new Throwable();
+		int depth = t.getStackTrace().length;
+		assertEquals("unknown", new ErrorContext(t, depth).toString());
+		assertEquals("unknown",
+			     new ErrorContext(t, Integer.MAX_VALUE).toString());
+	}
+
+	/**
+	 * Create an error context which refers to the stack frame at the
+	 * given depth from this method.
+	 *
+	 * @param depth	The depth of the stack frame.
+	 * @return	An error context.
+	 */
+	private static ErrorContext createContext(int depth)
+	{
+		return new ErrorContext(new Throwable(), depth);
+	}
+
+	/**
+	 * Ensure that stack frames are resolved only when the context is
+	 * rendered, and only once.
+	 */
+	public void testLazyResolution()
+	{
+		CountingThrowable t = new CountingThrowable();
+		ErrorContext ctx = new ErrorContext(t, 0);
+		assertEquals(0, t._count);
+
+		String s = ctx.toString();
+		assertEquals(CLASS_NAME + "-testLazyResolution", s);
+		assertEquals(1, t._count);
+		assertSame(s, ctx.toString());
+		assertEquals(1, t._count);
+	}
+
+	/**
+	 * Ensure that {@link VtnServiceException} names the method which
+	 * creates it.
+	 */
+	public void testException()
+	{
+		VtnServiceException e = createException(null);
+		assertEquals("[code]", e.getCode());
+		assertTrue(e.toString(), e.toString().contains(
+				   getSummary("createException", "code", "message")));
+
+		IOException cause = new IOException("cause");
+		e = createException(cause);
+		assertSame(cause, e.getCause());
+		assertTrue(e.toString(), e.toString().contains(
+				   getSummary("createException", "code", "message")));
+		assertTrue(e.toString(), e.toString().contains(cause.toString()));
+	}
+
+	/**
+	 * Create a {@link VtnServiceException}.
+	 *
+	 * @param cause	The cause of the exception, or {@code null}.
+	 * @return	A {@link VtnServiceException} instance.
+	 */
+	private static VtnServiceException createException(Throwable cause)
+	{
+		return (cause == null)
+			? new VtnServiceException("code", "message")
+			: new VtnServiceException("code", "message", cause);
+	}
+
+	/**
+	 * Ensure that the exception handler names the method which calls it.
+	 */
+	public void testRaise()
+	{
+		VtnServiceExceptionHandler handler =
+			new VtnServiceExceptionHandler();
+		IOException cause = new IOException("cause");
+
+		// A non-VtnServiceException must be wrapped.
+		VtnServiceException e = null;
+		try {
+			raiseWrapped(handler, cause);
+			fail("An exception must be thrown.");
+		}
+		catch (VtnServiceException ex) {
+			e = ex;
+		}
+		assertSame(cause, e.getCause());
+		assertEquals("[c1]", e.getCode());
+		String s = e.toString();
+		assertTrue(s, s.contains(getSummary("raiseWrapped", "c1", "t1")));
+
+		// A VtnServiceException must be enriched.
+		try {
+			enrich(handler, e);
+		}
+		catch (VtnServiceException ex) {
+			fail("Unexpected exception: " + ex);
+		}
+		assertEquals("[c2:c1]", e.getCode());
+		s = e.toString();
+		String enriched = getSummary("enrich", "c2", "t2");
+		String wrapped = getSummary("raiseWrapped", "c1", "t1");
+		assertTrue(s, s.contains(enriched));
+		assertTrue(s, s.indexOf(enriched) < s.indexOf(wrapped));
+
+		// Contexts must be resolved for the nested class.
+		try {
+			new Raiser().raiseError(handler);
+			fail("An exception must be thrown.");
+		}
+		catch (VtnServiceException ex) {
+			String name = Raiser.class.getName();
+			assertTrue(name.contains("$"));
+			assertTrue(ex.toString(), ex.toString().contains(
+					   "[" + name + "-raiseError][code:text]"));
+		}
+	}
+
+	/**
+	 * Ensure that {@link VtnServiceExceptionHandler#handle(String, String,
+	 * Exception)} names the method which calls it.
+	 */
+	public void testHandle()
+	{
+		VtnServiceExceptionHandler handler =
+			new VtnServiceExceptionHandler();
+		VtnServiceException e = createException(null);
+		handle(handler, e);
+		assertEquals("[c3:code]", e.getCode());
+		assertTrue(e.toString(),
+			   e.toString().contains(getSummary("handle", "c3", "t3")));
+	}
+
+	/**
+	 * Raise the given non-{@link VtnServiceException}.
+	 *
+	 * @param handler	The exception handler.
+	 * @param cause		The exception to be wrapped.
+	 * @throws VtnServiceException	Always thrown.
+	 */
+	private static void raiseWrapped(VtnServiceExceptionHandler handler,
+					 Exception cause)
+		throws VtnServiceException
+	{
+		handler.raise("c1", "t1", cause);
+	}
+
+	/**
+	 * Enrich the given {@link VtnServiceException}.
+	 *
+	 * @param handler	The exception handler.
+	 * @param e		The exception to be enriched.
+	 * @throws VtnServiceException	Never thrown.
+	 */
+	private static void enrich(VtnServiceExceptionHandler handler,
+				   VtnServiceException e)
+		throws VtnServiceException
+	{
+		handler.raise("c2", "t2", e);
+	}
+
+	/**
+	 * Handle the given {@link VtnServiceException}.
+	 *
+	 * @param handler	The exception handler.
+	 * @param e		The exception to be handled.
+	 */
+	private static void handle(VtnServiceExceptionHandler handler,
+				   VtnServiceException e)
+	{
+		handler.handle("c3", "t3", e);
+	}
+
+	/**
+	 * Return a summary line rendered by {@link VtnServiceException}.
+	 *
+	 * @param method	The method name expected in the context.
+	 * @param code		The error code.
+	 * @param text		The error text.
+	 * @return	A summary line.
+	 */
+	private static String getSummary(String method, String code,
+					 String text)
+	{
+		return "[" + CLASS_NAME + "-" + method + "][" + code + ":" +
+			text + "]";
+	}
+}
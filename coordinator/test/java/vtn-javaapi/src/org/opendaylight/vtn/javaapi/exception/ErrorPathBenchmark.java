@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.exception;
+
+import java.io.IOException;
+
+import org.opendaylight.vtn.javaapi.constants.VtnServiceConsts;
+
+/**
+ * <p>
+ *   Micro benchmark for the error path of vtn-javaapi.
+ * </p>
+ * <p>
+ *   This class compares the cost of raising an error with the error
+ *   context built eagerly from {@link Thread#getStackTrace()}, as call
+ *   sites used to do, against the cost with {@link ErrorContext}, which
+ *   is resolved only when the exception is rendered. Errors are raised
+ *   on a stack of configurable depth, because the cost of stack walk is
+ *   proportional to the depth.
+ * </p>
+ * <p>
+ *   This class is not a JUnit test. Run it by "make bench".
+ * </p>
+ */
+public final class ErrorPathBenchmark
+{
+	/**
+	 * The default number of operations in one round.
+	 */
+	private final static int  DEFAULT_OPERATIONS = 100000;
+
+	/**
+	 * The default depth of the stack on which errors are raised.
+	 */
+	private final static int  DEFAULT_DEPTH = 50;
+
+	/**
+	 * The number of warm-up rounds.
+	 */
+	private final static int  WARMUP_ROUNDS = 5;
+
+	/**
+	 * The number of measurement rounds.
+	 */
+	private final static int  MEASUREMENT_ROUNDS = 5;
+
+	/**
+	 * <p>
+	 *   Operation on the error path.
+	 * </p>
+	 */
+	private abstract static class Operation
+	{
+		/**
+		 * The name of this operation.
+		 */
+		private final String  _name;
+
+		/**
+		 * Construct a new operation.
+		 *
+		 * @param name	The name of this operation.
+		 */
+		private Operation(String name)
+		{
+			_name = name;
+		}
+
+		/**
+		 * Run this operation once.
+		 *
+		 * @param handler	The exception handler.
+		 * @param cause		The exception to be raised.
+		 * @return	A value which depends on the result.
+		 */
+		abstract int run(VtnServiceExceptionHandler handler,
+				 IOException cause);
+	}
+
+	/**
+	 * Operations to be measured.
+	 */
+	private final static Operation[]  OPERATIONS = {
+		new Operation("eagerRaise") {
+			@Override
+			int run(VtnServiceExceptionHandler handler,
+				IOException cause)
+			{
+				try {
+					handler.raise(Thread.currentThread()
+						      .getStackTrace()[1]
+						      .getClassName() +
+						      VtnServiceConsts.HYPHEN +
+						      Thread.currentThread()
+						      .getStackTrace()[1]
+						      .getMethodName(),
+						      "code", "text", cause);
+					return 0;
+				}
+				catch (VtnServiceException e) {
+					return e.getCode().length();
+				}
+			}
+		},
+		new Operation("lazyRaise") {
+			@Override
+			int run(VtnServiceExceptionHandler handler,
+				IOException cause)
+			{
+				try {
+					handler.raise("code", "text", cause);
+					return 0;
+				}
+				catch (VtnServiceException e) {
+					return e.getCode().length();
+				}
+			}
+		},
+		new Operation("lazyRender") {
+			@Override
+			int run(VtnServiceExceptionHandler handler,
+				IOException cause)
+			{
+				try {
+					handler.raise("code", "text", cause);
+					return 0;
+				}
+				catch (VtnServiceException e) {
+					return e.toString().length();
+				}
+			}
+		},
+	};
+
+	/**
+	 * A value which depends on all the results, in order to prevent
+	 * the JIT compiler from eliminating operations.
+	 */
+	private static volatile int  _sink;
+
+	/**
+	 * Private constructor to reject instantiation.
+	 */
+	private ErrorPathBenchmark()
+	{
+	}
+
+	/**
+	 * Run the benchmark.
+	 *
+	 * @param args	Optional arguments: the number of operations in one
+	 *		round, and the depth of the stack.
+	 */
+	public static void main(String[] args)
+	{
+		int nops = (args.length > 0)
+			? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+		int depth = (args.length > 1)
+			? Integer.parseInt(args[1]) : DEFAULT_DEPTH;
+
+		System.out.printf("operations=%d, depth=%d%n", nops, depth);
+		for (Operation op: OPERATIONS) {
+			for (int i = 0; i < WARMUP_ROUNDS; i++) {
+				measure(op, nops, depth);
+			}
+
+			long best = Long.MAX_VALUE;
+			for (int i = 0; i < MEASUREMENT_ROUNDS; i++) {
+				best = Math.min(best, measure(op, nops, depth));
+			}
+			System.out.printf("%-12s %10.1f ns/op%n", op._name,
+					  (double)best / nops);
+		}
+	}
+
+	/**
+	 * Measure one round of the given operation.
+	 *
+	 * @param op	The operation to be measured.
+	 * @param nops	The number of operations.
+	 * @param depth	The depth of the stack on which the operation runs.
+	 * @return	Elapsed time in nanoseconds.
+	 */
+	private static long measure(Operation op, int nops, int depth)
+	{
+		if (depth > 0) {
+			return measure(op, nops, depth - 1);
+		}
+
+		VtnServiceExceptionHandler handler =
+			new VtnServiceExceptionHandler();
+		IOException cause = new IOException("cause");
+		int sink = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < nops; i++) {
+			sink += op.run(handler, cause);
+		}
+		long elapsed = System.nanoTime() - start;
+		_sink += sink;
+
+		return elapsed;
+	}
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.opendaylight.vtn.javaapi.exception.VtnServiceExceptionHandler;
+
+/**
+ * <p>
+ *   Unit test class for {@link DataBaseConnectionPool}.
+ * </p>
+ */
+public class DataBaseConnectionPoolTest extends TestCase
+{
+	/**
+	 * Interval long enough not to expire during test, in milliseconds.
+	 */
+	private final static long  LONG_INTERVAL = 3600000L;
+
+	/**
+	 * Connection pools created by test.
+	 */
+	private final List<DataBaseConnectionPool>  _pools =
+		new ArrayList<DataBaseConnectionPool>();
+
+	/**
+	 * Create JUnit test case for {@link DataBaseConnectionPool}.
+	 *
+	 * @param name	The test name.
+	 */
+	public DataBaseConnectionPoolTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Set up the test environment.
+	 */
+	@Override
+	protected void setUp()
+	{
+		TestDriver.reset();
+	}
+
+	/**
+	 * Tear down the test environment.
+	 */
+	@Override
+	protected void tearDown()
+	{
+		for (DataBaseConnectionPool pool: _pools) {
+			pool.closeAllConnections();
+		}
+		_pools.clear();
+		TestDriver.reset();
+	}
+
+	/**
+	 * Ensure that idle connections are reused.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testReuse() throws Exception
+	{
+		DataBaseConnectionPool pool = createPool(2, 3, false, 0);
+		assertEquals(2, pool.countConnections());
+		assertEquals(2, pool.getIdleConnections());
+		assertEquals(0, pool.getActiveConnections());
+		for (TestConnection tc: TestDriver.getConnections()) {
+			assertFalse(tc.getAutoCommit());
+		}
+
+		Connection c1 = pool.getConnection();
+		assertEquals(1, pool.getActiveConnections());
+		assertEquals(1, pool.getIdleConnections());
+
+		// The most recently returned connection must be reused.
+		pool.freeConnection(c1);
+		assertSame(c1, pool.getConnection());
+
+		// A new connection must be opened when no idle connection is
+		// available.
+		Connection c2 = pool.getConnection();
+		Connection c3 = pool.getConnection();
+		assertNotSame(c1, c3);
+		assertNotSame(c2, c3);
+		assertEquals(3, pool.countConnections());
+		assertEquals(3, TestDriver.getConnections().size());
+		assertEquals(3, pool.getActiveConnections());
+		assertEquals(0, pool.getIdleConnections());
+
+		// A connection which is not borrowed must be ignored.
+		pool.freeConnection(c1);
+		pool.freeConnection(c1);
+		assertEquals(1, pool.getIdleConnections());
+		assertSame(c1, pool.getConnection());
+		try {
+			pool.getConnection();
+			fail("An exception must be thrown.");
+		}
+		catch (SQLException e) {
+		}
+		assertEquals(0, pool.getWaitCount());
+		assertEquals(1, pool.getTimeoutCount());
+	}
+
+	/**
+	 * Ensure that waiting for a connection is bounded by the timeout.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testTimeout() throws Exception
+	{
+		long timeout = 100L;
+		DataBaseConnectionPool pool = createPool(1, 1, true, timeout);
+		Connection conn = pool.getConnection();
+
+		long start = System.nanoTime();
+		try {
+			pool.getConnection();
+			fail("An exception must be thrown.");
+		}
+		catch (SQLException e) {
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(
+			System.nanoTime() - start);
+		assertTrue("elapsed=" + elapsed, elapsed >= timeout / 2);
+		assertEquals(1, pool.getWaitCount());
+		assertEquals(1, pool.getTimeoutCount());
+		assertTrue(pool.getMaxWaitTime() >= timeout / 2);
+		assertTrue(pool.getTotalWaitTime() >= pool.getMaxWaitTime());
+		pool.freeConnection(conn);
+
+		// A waiting thread must get a connection freed by another thread.
+		DataBaseConnectionPool pool2 =
+			createPool(1, 1, true, LONG_INTERVAL);
+		final Connection conn2 = pool2.getConnection();
+		final DataBaseConnectionPool p = pool2;
+		Thread t = new Thread() {
+			@Override
+			public void run()
+			{
+				try {
+					Thread.sleep(50);
+				}
+				catch (InterruptedException e) {
+				}
+				p.freeConnection(conn2);
+			}
+		};
+		t.start();
+		assertSame(conn2, pool2.getConnection());
+		t.join();
+		assertEquals(1, pool2.getWaitCount());
+		assertEquals(0, pool2.getTimeoutCount());
+		assertEquals(1, pool2.countConnections());
+	}
+
+	/**
+	 * Ensure that idle connections are validated on borrow.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testValidation() throws Exception
+	{
+		// Validation must be skipped within the validation interval.
+		DataBaseConnectionPool pool = createPool(1, 2, false, 0);
+		TestConnection tc = TestDriver.getConnections().get(0);
+		tc.setValid(false);
+		Connection conn = pool.getConnection();
+		assertEquals(0, tc.getValidationCount());
+		pool.freeConnection(conn);
+
+		// An invalid connection must be discarded, and the next idle
+		// connection must be validated.
+		TestDriver.reset();
+		ConnectionProperties props = createProperties(2, 2, false, 0);
+		props.setValidationInterval(0L);
+		pool = createPool(props);
+		List<TestConnection> conns = TestDriver.getConnections();
+		assertEquals(2, conns.size());
+		conns.get(0).setValid(false);
+
+		Connection c1 = pool.getConnection();
+		assertEquals(1, conns.get(0).getValidationCount());
+		assertTrue(conns.get(0).isClosed());
+		assertEquals(1, conns.get(1).getValidationCount());
+		assertFalse(conns.get(1).isClosed());
+		assertEquals(0, pool.getIdleConnections());
+		assertEquals(1, pool.countConnections());
+
+		// A closed connection must be replaced with a new connection
+		// without validation.
+		pool.freeConnection(c1);
+		conns.get(1).getConnection().close();
+		Connection c2 = pool.getConnection();
+		assertNotSame(c1, c2);
+		assertEquals(1, conns.get(1).getValidationCount());
+		assertEquals(3, TestDriver.getConnections().size());
+		assertFalse(c2.isClosed());
+		assertEquals(1, pool.countConnections());
+	}
+
+	/**
+	 * Ensure that leaked connections are reported once, and that the pool
+	 * is pre-warmed by maintenance.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testMaintain() throws Exception
+	{
+		ConnectionProperties props = createProperties(2, 3, false, 0);
+		props.setLeakDetectionThreshold(50L);
+		props.setValidationInterval(0L);
+		DataBaseConnectionPool pool = createPool(props);
+
+		Connection conn = pool.getConnection();
+		pool.maintain();
+		assertEquals(0, pool.getLeakCount());
+
+		Thread.sleep(100);
+		pool.maintain();
+		assertEquals(1, pool.getLeakCount());
+		pool.maintain();
+		assertEquals(1, pool.getLeakCount());
+
+		// A returned connection must not be reported.
+		pool.freeConnection(conn);
+		Connection conn2 = pool.getConnection();
+		assertSame(conn, conn2);
+		pool.maintain();
+		assertEquals(1, pool.getLeakCount());
+		pool.freeConnection(conn2);
+
+		// Discarded connections must be replaced by maintenance.
+		for (TestConnection tc: TestDriver.getConnections()) {
+			tc.setValid(false);
+		}
+		conn = pool.getConnection();
+		assertEquals(1, pool.countConnections());
+		pool.freeConnection(conn);
+
+		TestDriver.setBroken(true);
+		pool.maintain();
+		assertEquals(1, pool.countConnections());
+		TestDriver.setBroken(false);
+		pool.maintain();
+		assertEquals(2, pool.countConnections());
+		assertEquals(2, pool.getIdleConnections());
+	}
+
+	/**
+	 * Ensure that all connections are closed by the pool.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testClose() throws Exception
+	{
+		DataBaseConnectionPool pool = createPool(2, 3, false, 0);
+		Connection active = pool.getConnection();
+
+		pool.closeAllConnections();
+		for (TestConnection tc: TestDriver.getConnections()) {
+			assertTrue(tc.isClosed());
+		}
+		assertEquals(0, pool.getActiveConnections());
+		assertEquals(0, pool.getIdleConnections());
+		assertEquals(0, pool.countConnections());
+
+		try {
+			pool.getConnection();
+			fail("An exception must be thrown.");
+		}
+		catch (SQLException e) {
+		}
+
+		// A connection returned after close must be ignored.
+		pool.freeConnection(active);
+		assertEquals(0, pool.getIdleConnections());
+		assertEquals(0, pool.countConnections());
+	}
+
+	/**
+	 * Create connection properties for test.
+	 *
+	 * @param initial	The number of initial connections.
+	 * @param max		The maximum number of connections.
+	 * @param wait		{@code true} if waiting for connection is allowed.
+	 * @param timeout	Timeout of waiting in milliseconds.
+	 * @return	Connection properties.
+	 */
+	private static ConnectionProperties createProperties(int initial,
+							     int max,
+							     boolean wait,
+							     long timeout)
+	{
+		ConnectionProperties props = new ConnectionProperties();
+		props.setDbDriver(TestDriver.class.getName());
+		props.setDbURL(TestDriver.URL + "test");
+		props.setDbUsername("user");
+		props.setDbPassword("password");
+		props.setInitialConnections(initial);
+		props.setMaxPossibleConnections(max);
+		props.setWaitforUsedConnections(wait);
+		props.setConnectionWaitTimeout(timeout);
+		props.setValidationInterval(LONG_INTERVAL);
+		props.setLeakDetectionThreshold(LONG_INTERVAL);
+
+		return props;
+	}
+
+	/**
+	 * Create a connection pool for test.
+	 *
+	 * @param initial	The number of initial connections.
+	 * @param max		The maximum number of connections.
+	 * @param wait		{@code true} if waiting for connection is allowed.
+	 * @param timeout	Timeout of waiting in milliseconds.
+	 * @return	A connection pool.
+	 * @throws Exception	An error occurred.
+	 */
+	private DataBaseConnectionPool createPool(int initial, int max,
+						  boolean wait, long timeout)
+		throws Exception
+	{
+		return createPool(createProperties(initial, max, wait, timeout));
+	}
+
+	/**
+	 * Create a connection pool for test.
+	 *
+	 * @param props	Connection properties.
+	 * @return	A connection pool.
+	 * @throws Exception	An error occurred.
+	 */
+	private DataBaseConnectionPool createPool(ConnectionProperties props)
+		throws Exception
+	{
+		DataBaseConnectionPool pool = new DataBaseConnectionPool(
+			props, new VtnServiceExceptionHandler());
+		_pools.add(pool);
+
+		return pool;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * <p>
+ *   Unit test class for {@link ResourceIdAllocator}.
+ * </p>
+ */
+public class ResourceIdAllocatorTest extends TestCase
+{
+	/**
+	 * Create JUnit test case for {@link ResourceIdAllocator}.
+	 *
+	 * @param name	The test name.
+	 */
+	public ResourceIdAllocatorTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Ensure that the smallest available counter is assigned.
+	 */
+	public void testAllocate()
+	{
+		ResourceIdAllocator allocator = new ResourceIdAllocator();
+		assertFalse(allocator.isLoaded());
+		allocator.load(Arrays.asList(5, 2), Arrays.asList(3), 10);
+		assertTrue(allocator.isLoaded());
+
+		// Free counters and unused counters are assigned in ascending
+		// order, and then the next counter is assigned.
+		int[] expected = {2, 3, 5, 10, 11};
+		boolean[] free = {true, false, true, false, false};
+		for (int i = 0; i < expected.length; i++) {
+			ResourceIdAllocator.Reservation r = allocator.allocate();
+			assertEquals(expected[i], r.getCounter());
+			assertEquals(free[i], r.isFree());
+		}
+
+		// No counter is assigned if the resource type has no counter
+		// generator.
+		allocator = new ResourceIdAllocator();
+		allocator.load(Arrays.asList(1), Collections.<Integer>emptyList(),
+			       -1);
+		assertEquals(1, allocator.allocate().getCounter());
+		assertNull(allocator.allocate());
+	}
+
+	/**
+	 * Ensure that a counter specified by the request is not assigned.
+	 */
+	public void testReserve()
+	{
+		ResourceIdAllocator allocator = new ResourceIdAllocator();
+		allocator.load(Arrays.asList(2, 4), Collections.<Integer>emptyList(),
+			       6);
+
+		ResourceIdAllocator.Reservation r = allocator.reserve(2, true);
+		assertEquals(2, r.getCounter());
+		assertTrue(r.isFree());
+		assertFalse(allocator.reserve(3, false).isFree());
+
+		// Counters skipped by the reservation must be assigned later.
+		allocator.reserve(9, false);
+		int[] expected = {4, 6, 7, 8, 10};
+		for (int counter: expected) {
+			assertEquals(counter, allocator.allocate().getCounter());
+		}
+	}
+
+	/**
+	 * Ensure that a released counter is assigned again.
+	 */
+	public void testRelease()
+	{
+		ResourceIdAllocator allocator = new ResourceIdAllocator();
+		allocator.load(Collections.<Integer>emptyList(),
+			       Collections.<Integer>emptyList(), 1);
+		assertEquals(1, allocator.allocate().getCounter());
+		assertEquals(2, allocator.allocate().getCounter());
+
+		ResourceIdAllocator.Reservation r = allocator.release(1);
+		assertEquals(1, r.getCounter());
+		assertFalse(r.isFree());
+
+		r = allocator.allocate();
+		assertEquals(1, r.getCounter());
+		assertTrue(r.isFree());
+		assertEquals(3, allocator.allocate().getCounter());
+	}
+
+	/**
+	 * Ensure that undoing changes in reverse order restores the state.
+	 */
+	public void testUndo()
+	{
+		ResourceIdAllocator allocator = new ResourceIdAllocator();
+		allocator.load(Arrays.asList(3), Arrays.asList(1), 5);
+
+		// Make changes of all types, and undo them.
+		List<ResourceIdAllocator.Reservation> changes =
+			new ArrayList<ResourceIdAllocator.Reservation>();
+		changes.add(allocator.allocate());
+		changes.add(allocator.allocate());
+		changes.add(allocator.allocate());
+		changes.add(allocator.release(4));
+		changes.add(allocator.reserve(8, false));
+		changes.add(allocator.allocate());
+		Collections.reverse(changes);
+		for (ResourceIdAllocator.Reservation r: changes) {
+			r.undo();
+		}
+
+		int[] expected = {1, 3, 5, 6, 7, 8};
+		for (int counter: expected) {
+			assertEquals(counter, allocator.allocate().getCounter());
+		}
+
+		// An undone counter which is not the last one must be assigned
+		// again before the next counter.
+		allocator = new ResourceIdAllocator();
+		allocator.load(Collections.<Integer>emptyList(),
+			       Collections.<Integer>emptyList(), 1);
+		ResourceIdAllocator.Reservation r1 = allocator.allocate();
+		ResourceIdAllocator.Reservation r2 = allocator.allocate();
+		assertEquals(2, r2.getCounter());
+		r1.undo();
+		assertEquals(1, allocator.allocate().getCounter());
+		assertEquals(3, allocator.allocate().getCounter());
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.opendaylight.vtn.javaapi.openstack.beans.FreeCounterBean;
+import org.opendaylight.vtn.javaapi.openstack.constants.VtnServiceOpenStackConsts;
+
+/**
+ * <p>
+ *   Unit test class for {@link ResourceIdManager}.
+ * </p>
+ */
+public class ResourceIdManagerTest extends TestCase
+{
+	/**
+	 * VTN name used for test.
+	 */
+	private final static String  VTN_NAME = "vtn_1";
+
+	/**
+	 * Database used for test.
+	 */
+	private TestDatabase  _database;
+
+	/**
+	 * Connection to the database.
+	 */
+	private Connection  _connection;
+
+	/**
+	 * Resource ID manager to be tested.
+	 */
+	private ResourceIdManager  _manager;
+
+	/**
+	 * Create JUnit test case for {@link ResourceIdManager}.
+	 *
+	 * @param name	The test name.
+	 */
+	public ResourceIdManagerTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Set up the test environment.
+	 */
+	@Override
+	protected void setUp()
+	{
+		ResourceIdManager.clear();
+		_database = new TestDatabase();
+		_connection = new TestConnection(_database).getConnection();
+		_manager = new ResourceIdManager();
+	}
+
+	/**
+	 * Tear down the test environment.
+	 */
+	@Override
+	protected void tearDown()
+	{
+		ResourceIdManager.clear();
+	}
+
+	/**
+	 * Ensure that committed counters are not assigned again.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testCommit() throws Exception
+	{
+		_database.addFreeCounters(2, 4);
+		_database.setVtnCount(5);
+
+		// Free counters must be assigned first, and must be deleted from
+		// the database.
+		assertEquals(2, allocate());
+		assertEquals(Arrays.asList(4), _database.getFreeCounters());
+		assertEquals(4, allocate());
+		assertEquals(6, allocate());
+		assertEquals(Collections.<Integer>emptyList(),
+			     _database.getFreeCounters());
+		commit();
+
+		// Rollback after commit must not undo committed changes.
+		rollback();
+		assertEquals(7, allocate());
+		commit();
+
+		// Counters must be assigned from memory once loaded.
+		_database.setVtnCount(0);
+		assertEquals(8, allocate());
+	}
+
+	/**
+	 * Ensure that counters assigned by a transaction are assigned again
+	 * if the transaction is rolled back.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testRollback() throws Exception
+	{
+		_database.addFreeCounters(2, 3);
+		_database.setVtnCount(5);
+
+		assertEquals(2, allocate());
+		commit();
+
+		assertEquals(3, allocate());
+		assertEquals(6, allocate());
+		assertEquals(Collections.<Integer>emptyList(),
+			     _database.getFreeCounters());
+		rollback();
+
+		// Only changes made after the last commit must be undone.
+		assertEquals(Arrays.asList(3), _database.getFreeCounters());
+		assertEquals(3, allocate());
+		assertEquals(6, allocate());
+		assertEquals(7, allocate());
+	}
+
+	/**
+	 * Ensure that counters are reloaded if free counters in memory are
+	 * out of sync with the database.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testReload() throws Exception
+	{
+		_database.addFreeCounters(2, 3);
+		_database.setVtnCount(1);
+		assertEquals(2, allocate());
+		commit();
+
+		// Another process took the free counter, and added VTNs.
+		_database.removeFreeCounter(3);
+		_database.setVtnCount(4);
+		assertEquals(5, allocate());
+		commit();
+		assertEquals(6, allocate());
+	}
+
+	/**
+	 * Ensure that counters specified by requests are not assigned, and
+	 * that reservations are undone by rollback.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testReserve() throws Exception
+	{
+		_database.addFreeCounters(2, 9);
+		_database.setVtnCount(3);
+
+		// A counter must be deleted from the database even if the
+		// allocator is not yet loaded.
+		reserve(2);
+		assertEquals(Arrays.asList(9), _database.getFreeCounters());
+		commit();
+
+		assertEquals(9, allocate());
+		commit();
+
+		// Counters skipped by the reservation must be assigned later.
+		_database.addFreeCounters(8);
+		reserve(8);
+		reserve(6);
+		assertEquals(Collections.<Integer>emptyList(),
+			     _database.getFreeCounters());
+		assertEquals(4, allocate());
+		rollback();
+
+		assertEquals(Arrays.asList(8), _database.getFreeCounters());
+		int[] expected = {4, 5, 6, 7, 8, 9};
+		for (int counter: expected) {
+			assertEquals(counter, allocate());
+		}
+	}
+
+	/**
+	 * Assign a counter for VTN.
+	 *
+	 * @return	The assigned counter.
+	 * @throws Exception	An error occurred.
+	 */
+	private int allocate() throws Exception
+	{
+		FreeCounterBean bean = createBean(0);
+		int counter = _manager.getResourceCounter(_connection, bean);
+		assertEquals(counter, bean.getResourceCounter());
+
+		return counter;
+	}
+
+	/**
+	 * Reserve the given counter for VTN.
+	 *
+	 * @param counter	The counter to be reserved.
+	 * @throws Exception	An error occurred.
+	 */
+	private void reserve(int counter) throws Exception
+	{
+		_manager.reserveResourceCounter(_connection, createBean(counter));
+	}
+
+	/**
+	 * Commit the current transaction.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	private void commit() throws Exception
+	{
+		_connection.commit();
+		ResourceIdManager.commit(_connection);
+	}
+
+	/**
+	 * Roll back the current transaction.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	private void rollback() throws Exception
+	{
+		_connection.rollback();
+		ResourceIdManager.rollback(_connection);
+	}
+
+	/**
+	 * Create a bean which specifies a counter for VTN.
+	 *
+	 * @param counter	The resource counter.
+	 * @return	A bean corresponding to os_free_counter_tbl.
+	 */
+	private static FreeCounterBean createBean(int counter)
+	{
+		FreeCounterBean bean = new FreeCounterBean();
+		bean.setResourceId(VtnServiceOpenStackConsts.TENANT_RES_ID);
+		bean.setVtnName(VTN_NAME);
+		bean.setResourceCounter(counter);
+
+		return bean;
+	}
+}
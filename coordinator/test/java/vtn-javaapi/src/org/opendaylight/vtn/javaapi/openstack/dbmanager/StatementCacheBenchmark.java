@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opendaylight.vtn.javaapi.openstack.beans.FreeCounterBean;
+import org.opendaylight.vtn.javaapi.openstack.dao.FreeCounterDao;
+
+/**
+ * <p>
+ *   Micro benchmark for {@link StatementCache} and batch updates of
+ *   the OpenStack DAO layer.
+ * </p>
+ * <p>
+ *   This class inserts free resource counters by {@link FreeCounterDao}
+ *   into {@link TestDatabase}, one statement per counter or one batch
+ *   for all counters, on a plain connection and on a connection wrapped
+ *   by {@link StatementCache}. {@link TestConnection} prepares a statement
+ *   without database server, so the cost of statement preparation on the
+ *   server can be simulated by busy wait of configurable length.
+ * </p>
+ * <p>
+ *   This class is not a JUnit test. Run it by
+ *   "make bench BENCH=openstack.dbmanager.StatementCacheBenchmark".
+ * </p>
+ */
+public final class StatementCacheBenchmark
+{
+	/**
+	 * The default number of operations in one round.
+	 */
+	private final static int  DEFAULT_OPERATIONS = 10000;
+
+	/**
+	 * The default number of counters inserted by one operation.
+	 */
+	private final static int  DEFAULT_COUNTERS = 16;
+
+	/**
+	 * The default cost of statement preparation in nanoseconds.
+	 */
+	private final static long  DEFAULT_PREPARE_COST = 0;
+
+	/**
+	 * The number of warm-up rounds.
+	 */
+	private final static int  WARMUP_ROUNDS = 5;
+
+	/**
+	 * The number of measurement rounds.
+	 */
+	private final static int  MEASUREMENT_ROUNDS = 5;
+
+	/**
+	 * VTN name of free counters.
+	 */
+	private final static String  VTN_NAME = "vtn_1";
+
+	/**
+	 * Resource type of free counters.
+	 */
+	private final static String  RESOURCE_ID = "vbr";
+
+	/**
+	 * <p>
+	 *   Operation which inserts free counters.
+	 * </p>
+	 */
+	private abstract static class Operation
+	{
+		/**
+		 * The name of this operation.
+		 */
+		private final String  _name;
+
+		/**
+		 * Determine whether statements are cached or not.
+		 */
+		private final boolean  _cached;
+
+		/**
+		 * Construct a new operation.
+		 *
+		 * @param name		The name of this operation.
+		 * @param cached	{@code true} if statements are cached.
+		 */
+		private Operation(String name, boolean cached)
+		{
+			_name = name;
+			_cached = cached;
+		}
+
+		/**
+		 * Run this operation once.
+		 *
+		 * @param dao		DAO for free counters.
+		 * @param conn		The JDBC connection.
+		 * @param beans		Free counters to be inserted.
+		 * @return	The number of inserted counters.
+		 * @throws SQLException	An error occurred.
+		 */
+		abstract int run(FreeCounterDao dao, Connection conn,
+				 List<FreeCounterBean> beans)
+			throws SQLException;
+	}
+
+	/**
+	 * Insert counters one statement per counter.
+	 */
+	private final static class InsertEach extends Operation
+	{
+		/**
+		 * Construct a new operation.
+		 *
+		 * @param name		The name of this operation.
+		 * @param cached	{@code true} if statements are cached.
+		 */
+		private InsertEach(String name, boolean cached)
+		{
+			super(name, cached);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		int run(FreeCounterDao dao, Connection conn,
+			List<FreeCounterBean> beans)
+			throws SQLException
+		{
+			int count = 0;
+			for (FreeCounterBean bean: beans) {
+				count += dao.insertCounter(conn, bean);
+			}
+
+			return count;
+		}
+	}
+
+	/**
+	 * Insert counters by one batch.
+	 */
+	private final static class InsertBatch extends Operation
+	{
+		/**
+		 * Construct a new operation.
+		 *
+		 * @param name		The name of this operation.
+		 * @param cached	{@code true} if statements are cached.
+		 */
+		private InsertBatch(String name, boolean cached)
+		{
+			super(name, cached);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		int run(FreeCounterDao dao, Connection conn,
+			List<FreeCounterBean> beans)
+			throws SQLException
+		{
+			int count = 0;
+			for (int status: dao.insertCounters(conn, beans)) {
+				count += status;
+			}
+
+			return count;
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Connection handler which spends the given time on statement
+	 *   preparation.
+	 * </p>
+	 */
+	private final static class SlowPrepare implements InvocationHandler
+	{
+		/**
+		 * The target connection.
+		 */
+		private final Connection  _target;
+
+		/**
+		 * The cost of statement preparation in nanoseconds.
+		 */
+		private final long  _cost;
+
+		/**
+		 * Construct a new handler.
+		 *
+		 * @param target	The target connection.
+		 * @param cost		The cost of statement preparation in
+		 *			nanoseconds.
+		 */
+		private SlowPrepare(Connection target, long cost)
+		{
+			_target = target;
+			_cost = cost;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable
+		{
+			if (method.getName().equals("prepareStatement")) {
+				long end = System.nanoTime() + _cost;
+				while (System.nanoTime() < end) {
+					// Simulate parse on the database server.
+				}
+			}
+
+			try {
+				return method.invoke(_target, args);
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	/**
+	 * Operations to be measured.
+	 */
+	private final static Operation[]  OPERATIONS = {
+		new InsertEach("eachPlain", false),
+		new InsertEach("eachCached", true),
+		new InsertBatch("batchPlain", false),
+		new InsertBatch("batchCached", true),
+	};
+
+	/**
+	 * A value which depends on all the results, in order to prevent
+	 * the JIT compiler from eliminating operations.
+	 */
+	private static volatile int  _sink;
+
+	/**
+	 * Private constructor to reject instantiation.
+	 */
+	private StatementCacheBenchmark()
+	{
+	}
+
+	/**
+	 * Run the benchmark.
+	 *
+	 * @param args	Optional arguments: the number of operations in one
+	 *		round, the number of counters inserted by one
+	 *		operation, and the cost of statement preparation
+	 *		in nanoseconds.
+	 * @throws SQLException	An error occurred.
+	 */
+	public static void main(String[] args) throws SQLException
+	{
+		int nops = (args.length > 0)
+			? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+		int ncounters = (args.length > 1)
+			? Integer.parseInt(args[1]) : DEFAULT_COUNTERS;
+		long cost = (args.length > 2)
+			? Long.parseLong(args[2]) : DEFAULT_PREPARE_COST;
+
+		System.out.printf("operations=%d, counters=%d, prepare=%d ns%n",
+				  nops, ncounters, cost);
+		List<FreeCounterBean> beans = new ArrayList<FreeCounterBean>();
+		for (int i = 1; i <= ncounters; i++) {
+			FreeCounterBean bean = new FreeCounterBean();
+			bean.setResourceId(RESOURCE_ID);
+			bean.setVtnName(VTN_NAME);
+			bean.setResourceCounter(i);
+			beans.add(bean);
+		}
+
+		for (Operation op: OPERATIONS) {
+			for (int i = 0; i < WARMUP_ROUNDS; i++) {
+				measure(op, nops, beans, cost);
+			}
+
+			long best = Long.MAX_VALUE;
+			for (int i = 0; i < MEASUREMENT_ROUNDS; i++) {
+				best = Math.min(best,
+						measure(op, nops, beans, cost));
+			}
+			System.out.printf("%-12s %10.1f ns/op%n", op._name,
+					  (double)best / nops);
+		}
+	}
+
+	/**
+	 * Measure one round of the given operation.
+	 *
+	 * @param op	The operation to be measured.
+	 * @param nops	The number of operations.
+	 * @param beans	Free counters to be inserted by one operation.
+	 * @param cost	The cost of statement preparation in nanoseconds.
+	 * @return	Elapsed time in nanoseconds.
+	 * @throws SQLException	An error occurred.
+	 */
+	private static long measure(Operation op, int nops,
+				    List<FreeCounterBean> beans, long cost)
+		throws SQLException
+	{
+		TestDatabase db = new TestDatabase();
+		Connection conn = new TestConnection(db).getConnection();
+		if (cost > 0) {
+			conn = (Connection)Proxy.newProxyInstance(
+				StatementCacheBenchmark.class.getClassLoader(),
+				new Class<?>[]{Connection.class},
+				new SlowPrepare(conn, cost));
+		}
+		if (op._cached) {
+			conn = StatementCache.wrap(conn);
+		}
+
+		FreeCounterDao dao = new FreeCounterDao();
+		int sink = 0;
+		try {
+			long start = System.nanoTime();
+			for (int i = 0; i < nops; i++) {
+				sink += op.run(dao, conn, beans);
+			}
+			long elapsed = System.nanoTime() - start;
+			_sink += sink;
+
+			return elapsed;
+		}
+		finally {
+			conn.close();
+		}
+	}
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * <p>
+ *   Unit test class for {@link StatementCache}.
+ * </p>
+ */
+public class StatementCacheTest extends TestCase
+{
+	/**
+	 * SQL string used for test.
+	 */
+	private final static String  SQL = "select 1";
+
+	/**
+	 * Create JUnit test case for {@link StatementCache}.
+	 *
+	 * @param name	The test name.
+	 */
+	public StatementCacheTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * Ensure that a closed statement is reused for the same SQL.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testReuse() throws Exception
+	{
+		TestConnection target = new TestConnection();
+		Connection conn = StatementCache.wrap(target.getConnection());
+
+		PreparedStatement stmt = conn.prepareStatement(SQL);
+		assertFalse(stmt.isClosed());
+		stmt.setInt(1, 10);
+		stmt.addBatch();
+		stmt.close();
+
+		// Closing the statement must only clear its parameters.
+		assertTrue(stmt.isClosed());
+		List<TestConnection.Statement> prepared = target.getStatements();
+		assertEquals(1, prepared.size());
+		TestConnection.Statement st = prepared.get(0);
+		assertFalse(st.isClosed());
+		assertEquals(1, st.getClearCount());
+
+		// Closing the statement twice must be harmless.
+		stmt.close();
+		assertEquals(1, st.getClearCount());
+
+		// The statement must be reused through a new handle.
+		PreparedStatement stmt2 = conn.prepareStatement(SQL);
+		assertNotSame(stmt, stmt2);
+		assertFalse(stmt2.isClosed());
+		assertTrue(stmt.isClosed());
+		assertEquals(1, target.getStatements().size());
+
+		// Another SQL must be prepared by the connection.
+		PreparedStatement other = conn.prepareStatement(SQL + " + 1");
+		assertNotSame(stmt2, other);
+		assertEquals(2, target.getStatements().size());
+		assertFalse(stmt2.equals(other));
+		assertFalse(stmt2.equals(stmt));
+		assertTrue(stmt2.equals(stmt2));
+		assertEquals(System.identityHashCode(stmt2), stmt2.hashCode());
+	}
+
+	/**
+	 * Ensure that a stale handle never affects the statement leased to
+	 * another borrower.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testStaleHandle() throws Exception
+	{
+		TestDatabase db = new TestDatabase();
+		TestConnection target = new TestConnection(db);
+		Connection conn = StatementCache.wrap(target.getConnection());
+		String sql = VtnOpenStackSQLFactory.INS_FC_SQL;
+
+		PreparedStatement stale = conn.prepareStatement(sql);
+		stale.setInt(1, 1);
+		stale.close();
+
+		PreparedStatement stmt = conn.prepareStatement(sql);
+		stmt.setInt(1, 2);
+
+		// Closing the stale handle again must not clear parameters
+		// bound by the current borrower.
+		stale.close();
+		TestConnection.Statement st = target.getStatements().get(0);
+		assertEquals(1, st.getClearCount());
+		assertFalse(stmt.isClosed());
+
+		// The stale handle must not be usable.
+		try {
+			stale.setInt(1, 3);
+			fail("A closed handle must not be usable.");
+		}
+		catch (SQLException e) {
+		}
+
+		assertEquals(1, stmt.executeUpdate());
+		assertEquals(Arrays.asList(2), db.getFreeCounters());
+		stmt.close();
+		assertEquals(2, st.getClearCount());
+		assertEquals(1, target.getStatements().size());
+	}
+
+	/**
+	 * Ensure that a statement in use is not shared.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testInUse() throws Exception
+	{
+		TestConnection target = new TestConnection();
+		Connection conn = StatementCache.wrap(target.getConnection());
+
+		PreparedStatement stmt = conn.prepareStatement(SQL);
+		PreparedStatement stmt2 = conn.prepareStatement(SQL);
+		assertNotSame(stmt, stmt2);
+		List<TestConnection.Statement> prepared = target.getStatements();
+		assertEquals(2, prepared.size());
+
+		// The statement which is not cached must be closed.
+		stmt2.close();
+		assertTrue(prepared.get(1).isClosed());
+		assertFalse(prepared.get(0).isClosed());
+
+		stmt.close();
+		PreparedStatement stmt3 = conn.prepareStatement(SQL);
+		assertNotSame(stmt, stmt3);
+		assertFalse(stmt3.isClosed());
+		assertEquals(2, target.getStatements().size());
+	}
+
+	/**
+	 * Ensure that the least recently used statement is evicted.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testEviction() throws Exception
+	{
+		TestConnection target = new TestConnection();
+		Connection conn = StatementCache.wrap(target.getConnection());
+
+		int max = StatementCache.MAX_STATEMENTS;
+		for (int i = 0; i < max; i++) {
+			conn.prepareStatement(getSql(i)).close();
+		}
+
+		// Make the first statement most recently used.
+		conn.prepareStatement(getSql(0)).close();
+		List<TestConnection.Statement> prepared = target.getStatements();
+		assertEquals(max, prepared.size());
+		for (TestConnection.Statement st: prepared) {
+			assertFalse(st.isClosed());
+		}
+
+		// The second statement must be evicted.
+		conn.prepareStatement(getSql(max)).close();
+		prepared = target.getStatements();
+		assertEquals(max + 1, prepared.size());
+		for (int i = 0; i < prepared.size(); i++) {
+			assertEquals(getSql(i), prepared.get(i).getSql());
+			assertEquals(i == 1, prepared.get(i).isClosed());
+		}
+
+		conn.prepareStatement(getSql(0)).close();
+		assertEquals(max + 1, target.getStatements().size());
+		conn.prepareStatement(getSql(1)).close();
+		prepared = target.getStatements();
+		assertEquals(max + 2, prepared.size());
+		assertTrue(prepared.get(2).isClosed());
+	}
+
+	/**
+	 * Ensure that statements in use are not evicted.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testEvictionInUse() throws Exception
+	{
+		TestConnection target = new TestConnection();
+		Connection conn = StatementCache.wrap(target.getConnection());
+
+		int max = StatementCache.MAX_STATEMENTS;
+		List<PreparedStatement> stmts = new ArrayList<PreparedStatement>();
+		for (int i = 0; i < max; i++) {
+			stmts.add(conn.prepareStatement(getSql(i)));
+		}
+
+		// The cache may exceed the limit while all the statements are
+		// in use, and the new statement must be usable.
+		PreparedStatement stmt = conn.prepareStatement(getSql(max));
+		stmt.setInt(1, 1);
+		stmt.close();
+		for (TestConnection.Statement st: target.getStatements()) {
+			assertFalse(st.isClosed());
+		}
+
+		// Released statements must be evicted on the next preparation.
+		for (PreparedStatement s: stmts) {
+			s.close();
+		}
+		conn.prepareStatement(getSql(max + 1)).close();
+		List<TestConnection.Statement> prepared = target.getStatements();
+		assertEquals(max + 2, prepared.size());
+		for (int i = 0; i < prepared.size(); i++) {
+			assertEquals(i < 2, prepared.get(i).isClosed());
+		}
+	}
+
+	/**
+	 * Ensure that closing the connection closes cached statements.
+	 *
+	 * @throws Exception	An error occurred.
+	 */
+	public void testClose() throws Exception
+	{
+		TestConnection target = new TestConnection();
+		Connection conn = StatementCache.wrap(target.getConnection());
+
+		PreparedStatement stmt = conn.prepareStatement(SQL);
+		conn.prepareStatement(SQL + " + 1").close();
+		assertFalse(conn.isClosed());
+		assertTrue(conn.equals(conn));
+		assertEquals(System.identityHashCode(conn), conn.hashCode());
+
+		conn.close();
+		assertTrue(target.isClosed());
+		assertTrue(conn.isClosed());
+		for (TestConnection.Statement st: target.getStatements()) {
+			assertTrue(st.isClosed());
+		}
+
+		// A statement in use must be closed without error.
+		assertTrue(stmt.isClosed());
+		stmt.close();
+		assertTrue(stmt.isClosed());
+	}
+
+	/**
+	 * Return SQL string for test.
+	 *
+	 * @param index	An index of SQL string.
+	 * @return	SQL string.
+	 */
+	private static String getSql(int index)
+	{
+		return SQL + " + " + index;
+	}
+}
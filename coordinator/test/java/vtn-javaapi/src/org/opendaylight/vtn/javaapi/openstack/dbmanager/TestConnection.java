@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ *   JDBC connection which works without database server.
+ * </p>
+ * <p>
+ *   SQLs are executed by {@link TestDatabase} if it is specified.
+ *   Methods of JDBC interfaces which are not used by vtn-javaapi throw
+ *   {@link UnsupportedOperationException}.
+ * </p>
+ */
+class TestConnection implements InvocationHandler
+{
+	/**
+	 * <p>
+	 *   Prepared statement created by {@link TestConnection}.
+	 * </p>
+	 */
+	final class Statement implements InvocationHandler
+	{
+		/**
+		 * SQL string.
+		 */
+		private final String  _sql;
+
+		/**
+		 * Current parameters, keyed by the index.
+		 */
+		private Map<Integer, Object>  _params =
+			new HashMap<Integer, Object>();
+
+		/**
+		 * Parameters added to the batch.
+		 */
+		private final List<Map<Integer, Object>>  _batch =
+			new ArrayList<Map<Integer, Object>>();
+
+		/**
+		 * The number of calls of {@code clearParameters()}.
+		 */
+		private int  _cleared;
+
+		/**
+		 * Set true if this statement is closed.
+		 */
+		private boolean  _closed;
+
+		/**
+		 * Construct a new statement.
+		 *
+		 * @param sql	SQL string.
+		 */
+		private Statement(String sql)
+		{
+			_sql = sql;
+		}
+
+		/**
+		 * Return SQL string.
+		 *
+		 * @return	SQL string.
+		 */
+		String getSql()
+		{
+			return _sql;
+		}
+
+		/**
+		 * Return the number of calls of {@code clearParameters()}.
+		 *
+		 * @return	The number of calls of {@code clearParameters()}.
+		 */
+		int getClearCount()
+		{
+			return _cleared;
+		}
+
+		/**
+		 * Determine whether this statement is closed or not.
+		 *
+		 * @return	{@code true} only if this statement is closed.
+		 */
+		boolean isClosed()
+		{
+			return _closed;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable
+		{
+			String name = method.getName();
+			if (name.equals("close")) {
+				_closed = true;
+				return null;
+			}
+			if (name.equals("isClosed")) {
+				return _closed;
+			}
+			if (name.equals("equals")) {
+				return (proxy == args[0]);
+			}
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+			if (name.equals("toString")) {
+				return "Statement[" + _sql + "]";
+			}
+
+			if (_closed) {
+				throw new SQLException("Statement is closed.");
+			}
+			if (name.equals("setInt") || name.equals("setString")) {
+				_params.put((Integer)args[0], args[1]);
+				return null;
+			}
+			if (name.equals("clearParameters")) {
+				_params.clear();
+				_cleared++;
+				return null;
+			}
+			if (name.equals("addBatch")) {
+				_batch.add(_params);
+				_params = new HashMap<Integer, Object>();
+				return null;
+			}
+			if (name.equals("clearBatch")) {
+				_batch.clear();
+				return null;
+			}
+			if (name.equals("executeQuery")) {
+				return createResultSet(
+					getDatabase().query(_sql, _params));
+			}
+			if (name.equals("executeUpdate")) {
+				return getDatabase().update(_sql, _params);
+			}
+			if (name.equals("executeBatch")) {
+				int[] status = new int[_batch.size()];
+				for (int i = 0; i < status.length; i++) {
+					status[i] = getDatabase().update(
+						_sql, _batch.get(i));
+				}
+				_batch.clear();
+				return status;
+			}
+
+			throw new UnsupportedOperationException(name);
+		}
+
+		/**
+		 * Return the database which executes SQLs.
+		 *
+		 * @return	The database.
+		 * @throws SQLException	No database is specified.
+		 */
+		private TestDatabase getDatabase() throws SQLException
+		{
+			if (_database == null) {
+				throw new SQLException("No database.");
+			}
+
+			return _database;
+		}
+	}
+
+	/**
+	 * <p>
+	 *   Result set which contains one integer column.
+	 * </p>
+	 */
+	private final static class Rows implements InvocationHandler
+	{
+		/**
+		 * Iterator of rows.
+		 */
+		private final Iterator<Integer>  _iterator;
+
+		/**
+		 * The current row.
+		 */
+		private Integer  _current;
+
+		/**
+		 * Construct a new result set.
+		 *
+		 * @param rows	Values in the result rows.
+		 */
+		private Rows(List<Integer> rows)
+		{
+			_iterator = rows.iterator();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+			throws Throwable
+		{
+			String name = method.getName();
+			if (name.equals("next")) {
+				_current = (_iterator.hasNext())
+					? _iterator.next() : null;
+				return (_current != null);
+			}
+			if (name.equals("getInt") &&
+			    Integer.valueOf(1).equals(args[0])) {
+				return _current;
+			}
+			if (name.equals("close")) {
+				return null;
+			}
+
+			throw new UnsupportedOperationException(name);
+		}
+	}
+
+	/**
+	 * The database which executes SQLs, or {@code null}.
+	 */
+	private final TestDatabase  _database;
+
+	/**
+	 * The connection which invokes this handler.
+	 */
+	private final Connection  _connection;
+
+	/**
+	 * Statements prepared by this connection.
+	 */
+	private final List<Statement>  _statements =
+		Collections.synchronizedList(new ArrayList<Statement>());
+
+	/**
+	 * Set true if this connection is closed.
+	 */
+	private volatile boolean  _closed;
+
+	/**
+	 * Set false if this connection is broken.
+	 */
+	private volatile boolean  _valid = true;
+
+	/**
+	 * The number of calls of {@code isValid(int)}.
+	 */
+	private volatile int  _validated;
+
+	/**
+	 * The auto-commit mode.
+	 */
+	private volatile boolean  _autoCommit = true;
+
+	/**
+	 * Construct a new connection without database.
+	 */
+	TestConnection()
+	{
+		this(null);
+	}
+
+	/**
+	 * Construct a new connection.
+	 *
+	 * @param db	The database which executes SQLs, or {@code null}.
+	 */
+	TestConnection(TestDatabase db)
+	{
+		_database = db;
+		_connection = (Connection)Proxy.newProxyInstance(
+			TestConnection.class.getClassLoader(),
+			new Class<?>[]{Connection.class}, this);
+	}
+
+	/**
+	 * Return the JDBC connection.
+	 *
+	 * @return	The JDBC connection.
+	 */
+	Connection getConnection()
+	{
+		return _connection;
+	}
+
+	/**
+	 * Return statements prepared by this connection.
+	 *
+	 * @return	A list of prepared statements.
+	 */
+	List<Statement> getStatements()
+	{
+		synchronized (_statements) {
+			return new ArrayList<Statement>(_statements);
+		}
+	}
+
+	/**
+	 * Determine whether this connection is closed or not.
+	 *
+	 * @return	{@code true} only if this connection is closed.
+	 */
+	boolean isClosed()
+	{
+		return _closed;
+	}
+
+	/**
+	 * Make this connection valid or invalid.
+	 *
+	 * @param valid	{@code false} if this connection is broken.
+	 */
+	void setValid(boolean valid)
+	{
+		_valid = valid;
+	}
+
+	/**
+	 * Return the number of calls of {@code isValid(int)}.
+	 *
+	 * @return	The number of validations.
+	 */
+	int getValidationCount()
+	{
+		return _validated;
+	}
+
+	/**
+	 * Return the auto-commit mode.
+	 *
+	 * @return	The auto-commit mode.
+	 */
+	boolean getAutoCommit()
+	{
+		return _autoCommit;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args)
+		throws Throwable
+	{
+		String name = method.getName();
+		if (name.equals("close")) {
+			_closed = true;
+			return null;
+		}
+		if (name.equals("isClosed")) {
+			return _closed;
+		}
+		if (name.equals("equals")) {
+			return (proxy == args[0]);
+		}
+		if (name.equals("hashCode")) {
+			return System.identityHashCode(proxy);
+		}
+		if (name.equals("toString")) {
+			return "TestConnection@" +
+				Integer.toHexString(System.identityHashCode(proxy));
+		}
+
+		if (_closed) {
+			throw new SQLException("Connection is closed.");
+		}
+		if (name.equals("isValid")) {
+			_validated++;
+			return _valid;
+		}
+		if (name.equals("setAutoCommit")) {
+			_autoCommit = (Boolean)args[0];
+			return null;
+		}
+		if (name.equals("commit")) {
+			if (_database != null) {
+				_database.commit();
+			}
+			return null;
+		}
+		if (name.equals("rollback") && args == null) {
+			if (_database != null) {
+				_database.rollback();
+			}
+			return null;
+		}
+		if (name.equals("prepareStatement") && args.length == 1) {
+			Statement stmt = new Statement((String)args[0]);
+			_statements.add(stmt);
+			return Proxy.newProxyInstance(
+				TestConnection.class.getClassLoader(),
+				new Class<?>[]{PreparedStatement.class}, stmt);
+		}
+
+		throw new UnsupportedOperationException(name);
+	}
+
+	/**
+	 * Create a result set.
+	 *
+	 * @param rows	Values in the result rows.
+	 * @return	A result set.
+	 */
+	private static ResultSet createResultSet(List<Integer> rows)
+	{
+		return (ResultSet)Proxy.newProxyInstance(
+			TestConnection.class.getClassLoader(),
+			new Class<?>[]{ResultSet.class}, new Rows(rows));
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * <p>
+ *   In-memory database which executes SQLs for resource counters, which
+ *   are used by {@link ResourceIdManager}.
+ * </p>
+ * <p>
+ *   This database keeps free counters of one resource type in one VTN,
+ *   and the number of VTNs. Changes are kept until commit, and discarded
+ *   by rollback.
+ * </p>
+ */
+class TestDatabase
+{
+	/**
+	 * Committed free counters.
+	 */
+	private TreeSet<Integer>  _committed = new TreeSet<Integer>();
+
+	/**
+	 * Free counters modified by the current transaction.
+	 */
+	private TreeSet<Integer>  _free = new TreeSet<Integer>();
+
+	/**
+	 * The number of VTNs.
+	 */
+	private int  _vtnCount;
+
+	/**
+	 * Add free counters, and commit them.
+	 *
+	 * @param counters	Counters to be added.
+	 */
+	synchronized void addFreeCounters(Integer ... counters)
+	{
+		Collections.addAll(_free, counters);
+		commit();
+	}
+
+	/**
+	 * Remove a free counter, and commit the removal.
+	 *
+	 * @param counter	Counter to be removed.
+	 */
+	synchronized void removeFreeCounter(int counter)
+	{
+		_free.remove(counter);
+		commit();
+	}
+
+	/**
+	 * Return free counters modified by the current transaction.
+	 *
+	 * @return	A list of free counters.
+	 */
+	synchronized List<Integer> getFreeCounters()
+	{
+		return new ArrayList<Integer>(_free);
+	}
+
+	/**
+	 * Set the number of VTNs.
+	 *
+	 * @param count	The number of VTNs.
+	 */
+	synchronized void setVtnCount(int count)
+	{
+		_vtnCount = count;
+	}
+
+	/**
+	 * Commit the current transaction.
+	 */
+	synchronized void commit()
+	{
+		_committed = new TreeSet<Integer>(_free);
+	}
+
+	/**
+	 * Discard changes made by the current transaction.
+	 */
+	synchronized void rollback()
+	{
+		_free = new TreeSet<Integer>(_committed);
+	}
+
+	/**
+	 * Execute the given query.
+	 *
+	 * @param sql		SQL string.
+	 * @param params	Parameters of the SQL, keyed by the index.
+	 * @return	Values in the first column of the result rows.
+	 * @throws SQLException	The given SQL is not supported.
+	 */
+	synchronized List<Integer> query(String sql, Map<Integer, Object> params)
+		throws SQLException
+	{
+		List<Integer> rows = new ArrayList<Integer>();
+		if (VtnOpenStackSQLFactory.SEL_ALL_FC_SQL.equals(sql)) {
+			rows.addAll(_free);
+		}
+		else if (VtnOpenStackSQLFactory.FID_FC_SQL.equals(sql)) {
+			rows.add(_free.contains(params.get(3)) ? 1 : 0);
+		}
+		else if (VtnOpenStackSQLFactory.SEL_VTN_ID_SQL.equals(sql)) {
+			rows.add(_vtnCount);
+		}
+		else {
+			throw new SQLException("Unsupported query: " + sql);
+		}
+
+		return rows;
+	}
+
+	/**
+	 * Execute the given update.
+	 *
+	 * @param sql		SQL string.
+	 * @param params	Parameters of the SQL, keyed by the index.
+	 * @return	The number of updated rows.
+	 * @throws SQLException	The given SQL is not supported.
+	 */
+	synchronized int update(String sql, Map<Integer, Object> params)
+		throws SQLException
+	{
+		if (VtnOpenStackSQLFactory.DEL_FC_SQL.equals(sql)) {
+			return (_free.remove(params.get(3))) ? 1 : 0;
+		}
+		if (VtnOpenStackSQLFactory.INS_FC_SQL.equals(sql)) {
+			return (_free.add((Integer)params.get(1))) ? 1 : 0;
+		}
+
+		throw new SQLException("Unsupported update: " + sql);
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.javaapi.openstack.dbmanager;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * <p>
+ *   JDBC driver which creates {@link TestConnection} instances.
+ * </p>
+ * <p>
+ *   This driver is registered to {@link DriverManager} when this class
+ *   is loaded by the name.
+ * </p>
+ */
+public class TestDriver implements Driver
+{
+	/**
+	 * URL accepted by this driver.
+	 */
+	final static String  URL = "jdbc:vtntest:";
+
+	/**
+	 * Connections created by this driver.
+	 */
+	private final static List<TestConnection>  _connections =
+		Collections.synchronizedList(new ArrayList<TestConnection>());
+
+	/**
+	 * Set true if a connection can not be created.
+	 */
+	private static volatile boolean  _broken;
+
+	/**
+	 * Register the driver.
+	 */
+	static {
+		try {
+			DriverManager.registerDriver(new TestDriver());
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException(
+				"Failed to register test driver.", e);
+		}
+	}
+
+	/**
+	 * Discard all connections created by this driver.
+	 */
+	static void reset()
+	{
+		_connections.clear();
+		_broken = false;
+	}
+
+	/**
+	 * Return connections created by this driver.
+	 *
+	 * @return	A list of connections.
+	 */
+	static List<TestConnection> getConnections()
+	{
+		synchronized (_connections) {
+			return new ArrayList<TestConnection>(_connections);
+		}
+	}
+
+	/**
+	 * Make connection creation fail.
+	 *
+	 * @param broken	{@code true} if a connection can not be created.
+	 */
+	static void setBroken(boolean broken)
+	{
+		_broken = broken;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Connection connect(String url, Properties info)
+		throws SQLException
+	{
+		if (!acceptsURL(url)) {
+			return null;
+		}
+		if (_broken) {
+			throw new SQLException("Database is not available.");
+		}
+
+		TestConnection conn = new TestConnection();
+		_connections.add(conn);
+
+		return conn.getConnection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean acceptsURL(String url)
+	{
+		return (url != null && url.startsWith(URL));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DriverPropertyInfo[] getPropertyInfo(String url, Properties info)
+	{
+		return new DriverPropertyInfo[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getMajorVersion()
+	{
+		return 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getMinorVersion()
+	{
+		return 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean jdbcCompliant()
+	{
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException
+	{
+		throw new SQLFeatureNotSupportedException();
+	}
+}
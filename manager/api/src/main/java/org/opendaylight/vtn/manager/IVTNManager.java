@@ -2885,6 +2885,57 @@ public interface IVTNManager {
      */
     List<MacAddressEntry> getMacEntries(VBridgePath path) throws VTNException;
 
+    /**
+     * Return a chunk of {@link MacAddressEntry} objects learned in the
+     * {@linkplain <a href="package-summary.html#macTable">MAC address table</a>}
+     * of the specified
+     * {@linkplain <a href="package-summary.html#vBridge">vBridge</a>}.
+     *
+     * <p>
+     *   MAC address entries are returned in ascending order of MAC address.
+     *   Unlike {@link #getMacEntries(VBridgePath)}, this method returns at
+     *   most {@code limit} entries. If more entries are available, a
+     *   continuation token is set to the returned {@link ListPage}.
+     * </p>
+     *
+     * @param path    A {@link VBridgePath} object that specifies the position
+     *                of the vBridge.
+     * @param cursor  A continuation token returned by the previous call of
+     *                this method.
+     *                {@code null} means the first page is required.
+     * @param limit   The maximum number of entries to be returned.
+     *                Zero or a negative value means no limit.
+     * @return  A {@link ListPage} object which contains
+     *          {@link MacAddressEntry} objects.
+     * @throws VTNException  An error occurred.
+     *   The following are the main {@code StatusCode} set in {@link Status}
+     *   delivered by the exception.
+     *   <dl style="margin-left: 1em;">
+     *     <dt style="font-weight: bold;">{@code StatusCode.BADREQUEST}
+     *     <dd>
+     *       <ul style="padding-left: 1em;">
+     *         <li>{@code null} is passed to {@code path}.</li>
+     *         <li>
+     *           {@code null} is configured in {@code path} for the
+     *           {@linkplain VTenantPath#getTenantName() VTN name} or
+     *           {@linkplain VBridgePath#getBridgeName() vBridge name}.
+     *         </li>
+     *         <li>An invalid token is passed to {@code cursor}.</li>
+     *       </ul>
+     *
+     *     <dt style="font-weight: bold;">{@code StatusCode.NOTFOUND}
+     *     <dd>{@linkplain <a href="package-summary.html#VTN">VTN</a>} or
+     *         vBridge specified by {@code path} does not exist.
+     *
+     *     <dt style="font-weight: bold;">{@code StatusCode.INTERNALERROR}
+     *     <dd>Fatal internal error occurred in the VTN Manager.
+     *   </dl>
+     * @since  Lithium
+     */
+    ListPage<MacAddressEntry> getMacEntries(VBridgePath path, String cursor,
+                                            int limit)
+        throws VTNException;
+
     /**
      * Search the
      * {@linkplain <a href="package-summary.html#macTable">MAC address table</a>}
@@ -3139,6 +3190,71 @@ public interface IVTNManager {
                                 DataFlowFilter filter, int interval)
         throws VTNException;
 
+    /**
+     * Return a chunk of information about data flows present in the
+     * specified {@linkplain <a href="package-summary.html#VTN">VTN</a>}.
+     *
+     * <p>
+     *   Data flows are returned in ascending order of flow identifier.
+     *   Unlike {@link #getDataFlows(VTenantPath, DataFlowMode, DataFlowFilter, int)},
+     *   this method returns at most {@code limit} data flows. If more data
+     *   flows are available, a continuation token is set to the returned
+     *   {@link ListPage}.
+     * </p>
+     *
+     * @param path
+     *   A {@link VTenantPath} object that specifies the position of the VTN.
+     * @param mode
+     *   A {@link DataFlowMode} instance which specifies behavior of this
+     *   method. See
+     *   {@link #getDataFlows(VTenantPath, DataFlowMode, DataFlowFilter, int)}
+     *   for details.
+     * @param filter
+     *    If a {@link DataFlowFilter} instance is specified, only data flows
+     *    that meet the condition specified by {@link DataFlowFilter} instance
+     *    is returned.
+     *    All data flows in the VTN is returned if {@code null} is specified.
+     * @param interval
+     *    Time interval in seconds for retrieving the average statistics.
+     *    See
+     *    {@link #getDataFlows(VTenantPath, DataFlowMode, DataFlowFilter, int)}
+     *    for details.
+     * @param cursor
+     *    A continuation token returned by the previous call of this method.
+     *    {@code null} means the first page is required.
+     * @param limit
+     *    The maximum number of data flows to be returned.
+     *    Zero or a negative value means no limit.
+     * @return  A {@link ListPage} object which contains {@link DataFlow}
+     *          instances.
+     * @throws VTNException  An error occurred.
+     *   The following are the main {@code StatusCode} set in {@link Status}
+     *   delivered by the exception.
+     *   <dl style="margin-left: 1em;">
+     *     <dt style="font-weight: bold;">{@code StatusCode.BADREQUEST}
+     *     <dd>
+     *       <ul style="padding-left: 1em;">
+     *         <li>{@code null} is passed to {@code path} or {@code mode}.</li>
+     *         <li>
+     *           {@code null} is configured in {@code path} for the
+     *           {@linkplain VTenantPath#getTenantName() VTN name}.
+     *         </li>
+     *         <li>An invalid token is passed to {@code cursor}.</li>
+     *       </ul>
+     *
+     *     <dt style="font-weight: bold;">{@code StatusCode.NOTFOUND}
+     *     <dd>VTN specified by {@code path} does not exist.
+     *
+     *     <dt style="font-weight: bold;">{@code StatusCode.INTERNALERROR}
+     *     <dd>Fatal internal error occurred in the VTN Manager.
+     *   </dl>
+     * @since  Lithium
+     */
+    ListPage<DataFlow> getDataFlows(VTenantPath path, DataFlowMode mode,
+                                    DataFlowFilter filter, int interval,
+                                    String cursor, int limit)
+        throws VTNException;
+
     /**
      * Return information about the specified data flow in the
      * {@linkplain <a href="package-summary.html#VTN">VTN</a>}.
@@ -4783,4 +4899,82 @@ public interface IVTNManager {
      * @since  Helium
      */
     Status clearFlowFilter(FlowFilterId fid);
+
+    /**
+     * Determine whether latency measurement of the PACKET_IN processing
+     * pipeline is enabled or not.
+     *
+     * @return  {@code true} only if the latency measurement is enabled.
+     * @since  Lithium
+     */
+    boolean isPacketStatsEnabled();
+
+    /**
+     * Enable or disable latency measurement of the PACKET_IN processing
+     * pipeline.
+     *
+     * <p>
+     *   The latency measurement is disabled by default, and it costs
+     *   nothing while disabled. Statistics measured previously are
+     *   discarded when the latency measurement is enabled.
+     * </p>
+     *
+     * @param enabled  {@code true} to enable the latency measurement.
+     *                 {@code false} to disable the latency measurement.
+     * @return  A {@link Status} object which represents the result of the
+     *          operation.
+     *   <p>
+     *     <strong>{@code StatusCode.SUCCESS}</strong> is set in a returned
+     *     object if the operation completed successfully.
+     *     Otherwise a {@code StatusCode} which indicates the cause of error
+     *     is set in a returned {@link Status} object.
+     *     The following are the main {@code StatusCode} configured in
+     *     {@link Status}.
+     *   </p>
+     *   <dl style="margin-left: 1em;">
+     *     <dt style="font-weight: bold;">{@code StatusCode.NOSERVICE}
+     *     <dd>The VTN service is not available.
+     *   </dl>
+     * @since  Lithium
+     */
+    Status setPacketStatsEnabled(boolean enabled);
+
+    /**
+     * Return latency statistics about stages of the PACKET_IN processing
+     * pipeline.
+     *
+     * <p>
+     *   Statistics are measured only while the latency measurement is
+     *   enabled by {@link #setPacketStatsEnabled(boolean)}.
+     *   Stages processed before the
+     *   {@linkplain <a href="package-summary.html#VTN">VTN</a>} for the
+     *   packet is determined, such as packet decoding, are counted only
+     *   in statistics for the whole container.
+     * </p>
+     *
+     * @param path  A {@link VTenantPath} object that specifies the position
+     *              of the VTN.
+     *              If {@code null} is specified, statistics measured for
+     *              the whole container are returned.
+     * @return  A list of {@link PacketStageStats} instances, one per
+     *          pipeline stage.
+     * @throws VTNException  An error occurred.
+     *   The following are the main {@code StatusCode} set in {@link Status}
+     *   delivered by the exception.
+     *   <dl style="margin-left: 1em;">
+     *     <dt style="font-weight: bold;">{@code StatusCode.BADREQUEST}
+     *     <dd>
+     *       {@code null} is configured in {@code path} for the
+     *       {@linkplain VTenantPath#getTenantName() VTN name}.
+     *
+     *     <dt style="font-weight: bold;">{@code StatusCode.NOTFOUND}
+     *     <dd>VTN specified by {@code path} does not exist.
+     *
+     *     <dt style="font-weight: bold;">{@code StatusCode.NOSERVICE}
+     *     <dd>The VTN service is not available.
+     *   </dl>
+     * @since  Lithium
+     */
+    List<PacketStageStats> getPacketStageStats(VTenantPath path)
+        throws VTNException;
 }
@@ -20,6 +20,11 @@ import org.opendaylight.controller.sal.core.UpdateType;
  *   registered in the OSGi service registry, corresponding method is called
  *   when the management information about the VTN Manager is changed.
  * </p>
+ * <p>
+ *   Notifications are delivered to each listener asynchronously, in the
+ *   order of changes. Superseded notifications may be merged before
+ *   delivery. See {@link IVTNManagerBatchAware} for details.
+ * </p>
  */
 public interface IVTNManagerAware {
     /**
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager;
+
+/**
+ * {@code IVTNManagerBatchAware} defines the listener interface that is
+ * told where a batch of {@link IVTNManagerAware} notifications begins and
+ * ends.
+ *
+ * <p>
+ *   The VTN Manager delivers notifications to each {@link IVTNManagerAware}
+ *   listener asynchronously, in the order of changes. If a listener service
+ *   also implements {@code IVTNManagerBatchAware}, the VTN Manager calls
+ *   {@link #batchStarted(int)} before delivering a group of queued
+ *   notifications, and {@link #batchFinished()} after it delivers them.
+ *   So a listener can defer expensive work, such as recomputing derived
+ *   state, until the end of the batch.
+ * </p>
+ * <p>
+ *   If a notification is superseded before delivery, it may be merged
+ *   into a later one:
+ * </p>
+ * <ul>
+ *   <li>
+ *     A notification with {@code UpdateType.CHANGED} is merged into
+ *     a pending notification for the same virtual node that has not been
+ *     delivered yet. The pending notification keeps its update type, and
+ *     gets the latest information.
+ *   </li>
+ *   <li>
+ *     A pending notification with {@code UpdateType.CHANGED} is discarded
+ *     if the same virtual node is removed before delivery.
+ *   </li>
+ * </ul>
+ *
+ * @since  Lithium
+ */
+public interface IVTNManagerBatchAware extends IVTNManagerAware {
+    /**
+     * Invoked before a batch of notifications is delivered.
+     *
+     * @param count  The number of notifications in the batch.
+     */
+    void batchStarted(int count);
+
+    /**
+     * Invoked after all notifications in the batch have been delivered.
+     */
+    void batchFinished();
+}
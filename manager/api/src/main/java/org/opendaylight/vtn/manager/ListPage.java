@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code ListPage} class describes a chunk of a list of objects returned by
+ * cursor-based list APIs in {@link IVTNManager}.
+ *
+ * <p>
+ *   A cursor-based list API returns objects in stable order, and stops
+ *   returning objects when the number of objects reaches the limit specified
+ *   by the caller. If more objects are available, an opaque string called
+ *   continuation token is set to the {@code ListPage}. The rest of objects
+ *   can be retrieved by passing the continuation token to the same API.
+ * </p>
+ *
+ * @param <T>  The type of objects in the list.
+ * @since  Lithium
+ */
+public final class ListPage<T> implements Serializable {
+    /**
+     * Version number for serialization.
+     */
+    private static final long serialVersionUID = 3163413447937046428L;
+
+    /**
+     * A list of objects in this page.
+     */
+    private final List<T>  entries;
+
+    /**
+     * A continuation token which specifies the next page.
+     */
+    private final String  nextCursor;
+
+    /**
+     * Construct a new list page.
+     *
+     * @param list    A list of objects in this page.
+     *                {@code null} is treated as an empty list.
+     * @param cursor  A continuation token which specifies the next page.
+     *                {@code null} must be specified if this page is the
+     *                last page.
+     */
+    public ListPage(List<T> list, String cursor) {
+        entries = (list == null) ? new ArrayList<T>(0) : list;
+        nextCursor = cursor;
+    }
+
+    /**
+     * Return a list of objects in this page.
+     *
+     * @return  A list of objects in this page.
+     */
+    public List<T> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Return a continuation token which specifies the next page.
+     *
+     * @return  A continuation token to be passed to the list API in order
+     *          to get the next page.
+     *          {@code null} is returned if this page is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Determine whether this page is the last page or not.
+     *
+     * @return  {@code true} only if this page is the last page.
+     */
+    public boolean isLast() {
+        return (nextCursor == null);
+    }
+
+    /**
+     * Determine whether the given object is identical to this object.
+     *
+     * @param o  An object to be compared.
+     * @return   {@code true} if identical. Otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof ListPage)) {
+            return false;
+        }
+
+        ListPage<?> page = (ListPage<?>)o;
+        if (nextCursor == null) {
+            if (page.nextCursor != null) {
+                return false;
+            }
+        } else if (!nextCursor.equals(page.nextCursor)) {
+            return false;
+        }
+
+        return entries.equals(page.entries);
+    }
+
+    /**
+     * Return the hash code of this object.
+     *
+     * @return  The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = entries.hashCode();
+        if (nextCursor != null) {
+            h += nextCursor.hashCode() * 31;
+        }
+
+        return h;
+    }
+
+    /**
+     * Return a string representation of this object.
+     *
+     * @return  A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ListPage[entries=");
+        builder.append(entries);
+        if (nextCursor != null) {
+            builder.append(",next=").append(nextCursor);
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager;
+
+import java.io.Serializable;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.opendaylight.vtn.manager.util.NumberUtils;
+
+/**
+ * This class describes latency statistics about a stage of the PACKET_IN
+ * processing pipeline.
+ *
+ * <p>
+ *   All latency values are represented in microseconds.
+ * </p>
+ *
+ * <h4>Example JSON</h4>
+ * <pre class="prettyprint lang-json">
+ * {
+ * &nbsp;&nbsp;"stage": "route",
+ * &nbsp;&nbsp;"count": 1024,
+ * &nbsp;&nbsp;"average": 35,
+ * &nbsp;&nbsp;"max": 812,
+ * &nbsp;&nbsp;"p50": 31,
+ * &nbsp;&nbsp;"p90": 47,
+ * &nbsp;&nbsp;"p99": 191
+ * }</pre>
+ *
+ * @since  Lithium
+ */
+@JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+@XmlRootElement(name = "packetstagestats")
+@XmlAccessorType(XmlAccessType.NONE)
+public final class PacketStageStats implements Serializable {
+    /**
+     * Version number for serialization.
+     */
+    private static final long serialVersionUID = -5147180318836206927L;
+
+    /**
+     * The name of the pipeline stage.
+     */
+    @XmlAttribute(name = "stage", required = true)
+    private String  stage;
+
+    /**
+     * The number of measured samples.
+     */
+    @XmlAttribute(name = "count")
+    private long  count;
+
+    /**
+     * The average latency in microseconds.
+     */
+    @XmlAttribute(name = "average")
+    private long  average;
+
+    /**
+     * The maximum latency in microseconds.
+     */
+    @XmlAttribute(name = "max")
+    private long  maximum;
+
+    /**
+     * The 50th percentile of latency in microseconds.
+     */
+    @XmlAttribute(name = "p50")
+    private long  p50;
+
+    /**
+     * The 90th percentile of latency in microseconds.
+     */
+    @XmlAttribute(name = "p90")
+    private long  p90;
+
+    /**
+     * The 99th percentile of latency in microseconds.
+     */
+    @XmlAttribute(name = "p99")
+    private long  p99;
+
+    /**
+     * Private constructor only for JAXB.
+     */
+    private PacketStageStats() {
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name  The name of the pipeline stage.
+     * @param cnt   The number of measured samples.
+     * @param avg   The average latency in microseconds.
+     * @param max   The maximum latency in microseconds.
+     * @param pc50  The 50th percentile of latency in microseconds.
+     * @param pc90  The 90th percentile of latency in microseconds.
+     * @param pc99  The 99th percentile of latency in microseconds.
+     */
+    public PacketStageStats(String name, long cnt, long avg, long max,
+                            long pc50, long pc90, long pc99) {
+        stage = name;
+        count = cnt;
+        average = avg;
+        maximum = max;
+        p50 = pc50;
+        p90 = pc90;
+        p99 = pc99;
+    }
+
+    /**
+     * Return the name of the pipeline stage.
+     *
+     * @return  The name of the pipeline stage.
+     */
+    public String getStage() {
+        return stage;
+    }
+
+    /**
+     * Return the number of measured samples.
+     *
+     * @return  The number of measured samples.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Return the average latency.
+     *
+     * @return  The average latency in microseconds.
+     */
+    public long getAverage() {
+        return average;
+    }
+
+    /**
+     * Return the maximum latency.
+     *
+     * @return  The maximum latency in microseconds.
+     */
+    public long getMax() {
+        return maximum;
+    }
+
+    /**
+     * Return the 50th percentile of latency.
+     *
+     * @return  The 50th percentile of latency in microseconds.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Return the 90th percentile of latency.
+     *
+     * @return  The 90th percentile of latency in microseconds.
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * Return the 99th percentile of latency.
+     *
+     * @return  The 99th percentile of latency in microseconds.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    // Object
+
+    /**
+     * Determine whether the given object is identical to this object.
+     *
+     * @param o  An object to be compared.
+     * @return   {@code true} if identical. Otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof PacketStageStats)) {
+            return false;
+        }
+
+        PacketStageStats stats = (PacketStageStats)o;
+        if (stage == null) {
+            if (stats.stage != null) {
+                return false;
+            }
+        } else if (!stage.equals(stats.stage)) {
+            return false;
+        }
+
+        return (count == stats.count && average == stats.average &&
+                maximum == stats.maximum && p50 == stats.p50 &&
+                p90 == stats.p90 && p99 == stats.p99);
+    }
+
+    /**
+     * Return the hash code of this object.
+     *
+     * @return  The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = (stage == null) ? 0 : stage.hashCode();
+        h = h * NumberUtils.HASH_PRIME + NumberUtils.hashCode(count);
+        h = h * NumberUtils.HASH_PRIME + NumberUtils.hashCode(average);
+        h = h * NumberUtils.HASH_PRIME + NumberUtils.hashCode(maximum);
+        h = h * NumberUtils.HASH_PRIME + NumberUtils.hashCode(p50);
+        h = h * NumberUtils.HASH_PRIME + NumberUtils.hashCode(p90);
+        return h * NumberUtils.HASH_PRIME + NumberUtils.hashCode(p99);
+    }
+
+    /**
+     * Return a string representation of this object.
+     *
+     * @return  A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PacketStageStats[stage=");
+        builder.append(stage).append(",count=").append(count).
+            append(",avg=").append(average).
+            append(",max=").append(maximum).
+            append(",p50=").append(p50).
+            append(",p90=").append(p90).
+            append(",p99=").append(p99).append(']');
+
+        return builder.toString();
+    }
+}
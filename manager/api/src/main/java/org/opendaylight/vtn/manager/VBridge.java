@@ -134,7 +134,8 @@ public class VBridge extends VBridgeConfig implements VTNIdentifiable<String> {
      */
     public VBridge(String bridgeName, VnodeState state, int faults,
                    VBridgeConfig bconf) {
-        super(bconf.getDescription(), bconf.getAgeInterval());
+        super(bconf.getDescription(), bconf.getAgeInterval(),
+              bconf.getAggregateFlow(), bconf.getArpProxy());
         name = bridgeName;
         this.faults = faults;
 
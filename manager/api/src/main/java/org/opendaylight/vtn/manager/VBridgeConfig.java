@@ -31,7 +31,9 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
  * <pre class="prettyprint lang-json">
  * {
  * &nbsp;&nbsp;"description": "Description about vBridge 1",
- * &nbsp;&nbsp;"ageInterval": "600"
+ * &nbsp;&nbsp;"ageInterval": "600",
+ * &nbsp;&nbsp;"aggregateFlow": "true",
+ * &nbsp;&nbsp;"arpProxy": "true"
  * }</pre>
  *
  * @see  <a href="package-summary.html#vBridge">vBridge</a>
@@ -67,6 +69,52 @@ public class VBridgeConfig implements Serializable {
      */
     private int  ageInterval;
 
+    /**
+     * A boolean value which determines whether flow entries for transit
+     * switches should be aggregated by the destination MAC address or not.
+     *
+     * <ul>
+     *   <li>
+     *     If {@code true} is specified, flow entries installed to switches
+     *     on the packet route, except for ingress and egress switches,
+     *     are shared by all the source hosts which send packets to the
+     *     same destination host.
+     *   </li>
+     *   <li>
+     *     If {@code false} is specified, a flow entry is installed for
+     *     each pair of source and destination hosts.
+     *   </li>
+     *   <li>
+     *     The value is not configured if omitted.
+     *   </li>
+     * </ul>
+     */
+    @XmlAttribute
+    private Boolean  aggregateFlow;
+
+    /**
+     * A boolean value which determines whether the vBridge should answer
+     * ARP requests on behalf of hosts or not.
+     *
+     * <ul>
+     *   <li>
+     *     If {@code true} is specified, an ARP request for an IP address
+     *     learned in the MAC address table of the vBridge is answered by
+     *     the VTN Manager instead of being flooded to the vBridge.
+     *     An ARP request for an unknown IP address is flooded as usual.
+     *   </li>
+     *   <li>
+     *     If {@code false} is specified, all ARP requests are flooded to
+     *     the vBridge.
+     *   </li>
+     *   <li>
+     *     The value is not configured if omitted.
+     *   </li>
+     * </ul>
+     */
+    @XmlAttribute
+    private Boolean  arpProxy;
+
     /**
      * Private constructor used for JAXB mapping.
      */
@@ -122,8 +170,60 @@ public class VBridgeConfig implements Serializable {
      *   </ul>
      */
     public VBridgeConfig(String desc, int age) {
+        this(desc, age, null);
+    }
+
+    /**
+     * Construct a new
+     * {@linkplain <a href="package-summary.html#vBridge">vBridge</a>}
+     * configuration.
+     *
+     * @param desc  An arbitrary description of the vBridge.
+     *              Specifying {@code null} will imply that description is
+     *              not configured for the vBridge.
+     * @param age
+     *   The interval of
+     *   {@linkplain <a href="package-summary.html#macTable.aging">MAC address table aging</a>}
+     *   in seconds.
+     *   Negative value will be ignored and treated as if no value is set.
+     * @param aggr
+     *   A boolean value which determines whether flow entries for transit
+     *   switches should be aggregated by the destination MAC address or not.
+     *   Specifying {@code null} will imply that the value is not configured.
+     * @since  Lithium
+     */
+    public VBridgeConfig(String desc, int age, Boolean aggr) {
+        this(desc, age, aggr, null);
+    }
+
+    /**
+     * Construct a new
+     * {@linkplain <a href="package-summary.html#vBridge">vBridge</a>}
+     * configuration.
+     *
+     * @param desc  An arbitrary description of the vBridge.
+     *              Specifying {@code null} will imply that description is
+     *              not configured for the vBridge.
+     * @param age
+     *   The interval of
+     *   {@linkplain <a href="package-summary.html#macTable.aging">MAC address table aging</a>}
+     *   in seconds.
+     *   Negative value will be ignored and treated as if no value is set.
+     * @param aggr
+     *   A boolean value which determines whether flow entries for transit
+     *   switches should be aggregated by the destination MAC address or not.
+     *   Specifying {@code null} will imply that the value is not configured.
+     * @param proxy
+     *   A boolean value which determines whether the vBridge should answer
+     *   ARP requests on behalf of hosts or not.
+     *   Specifying {@code null} will imply that the value is not configured.
+     * @since  Lithium
+     */
+    public VBridgeConfig(String desc, int age, Boolean aggr, Boolean proxy) {
         description = desc;
         this.ageInterval = (age < 0) ? -1 : age;
+        aggregateFlow = aggr;
+        arpProxy = proxy;
     }
 
     /**
@@ -148,6 +248,37 @@ public class VBridgeConfig implements Serializable {
         return ageInterval;
     }
 
+    /**
+     * Return a boolean value which determines whether flow entries for
+     * transit switches should be aggregated by the destination MAC address
+     * or not.
+     *
+     * @return  {@code Boolean.TRUE} if flow entries should be aggregated.
+     *          {@code Boolean.FALSE} if flow entries should not be
+     *          aggregated.
+     *          {@code null} is returned if this object does not keep the
+     *          value.
+     * @since  Lithium
+     */
+    public Boolean getAggregateFlow() {
+        return aggregateFlow;
+    }
+
+    /**
+     * Return a boolean value which determines whether the vBridge should
+     * answer ARP requests on behalf of hosts or not.
+     *
+     * @return  {@code Boolean.TRUE} if ARP requests should be answered by
+     *          the VTN Manager.
+     *          {@code Boolean.FALSE} if ARP requests should be flooded.
+     *          {@code null} is returned if this object does not keep the
+     *          value.
+     * @since  Lithium
+     */
+    public Boolean getArpProxy() {
+        return arpProxy;
+    }
+
     /**
      * Return an {@link Integer} object which represents the number of seconds
      * between MAC address table aging.
@@ -220,6 +351,15 @@ public class VBridgeConfig implements Serializable {
         }
         if (ageInterval >= 0) {
             builder.append(pfx).append("ageInterval=").append(ageInterval);
+            pfx = ",";
+        }
+        if (aggregateFlow != null) {
+            builder.append(pfx).append("aggregateFlow=").
+                append(aggregateFlow);
+            pfx = ",";
+        }
+        if (arpProxy != null) {
+            builder.append(pfx).append("arpProxy=").append(arpProxy);
         }
 
         return (builder.length() != len);
@@ -247,6 +387,14 @@ public class VBridgeConfig implements Serializable {
      *         The interval of
      *         {@linkplain <a href="package-summary.html#macTable.aging">MAC address table aging</a>}.
      *       </li>
+     *       <li>
+     *         Whether flow entries for transit switches should be
+     *         aggregated or not.
+     *       </li>
+     *       <li>
+     *         Whether ARP requests should be answered by the VTN Manager
+     *         or not.
+     *       </li>
      *     </ul>
      *   </li>
      * </ul>
@@ -268,6 +416,22 @@ public class VBridgeConfig implements Serializable {
             return false;
         }
 
+        if (aggregateFlow == null) {
+            if (bconf.aggregateFlow != null) {
+                return false;
+            }
+        } else if (!aggregateFlow.equals(bconf.aggregateFlow)) {
+            return false;
+        }
+
+        if (arpProxy == null) {
+            if (bconf.arpProxy != null) {
+                return false;
+            }
+        } else if (!arpProxy.equals(bconf.arpProxy)) {
+            return false;
+        }
+
         if (description == null) {
             return (bconf.description == null);
         }
@@ -286,6 +450,12 @@ public class VBridgeConfig implements Serializable {
         if (description != null) {
             h ^= description.hashCode();
         }
+        if (aggregateFlow != null) {
+            h += aggregateFlow.hashCode();
+        }
+        if (arpProxy != null) {
+            h += arpProxy.hashCode() * 31;
+        }
 
         return h;
     }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ListPage}.
+ */
+public class ListPageTest extends TestBase {
+    /**
+     * Test case for getter methods.
+     */
+    @Test
+    public void testGetter() {
+        ListPage<String> page = new ListPage<String>(null, null);
+        assertEquals(0, page.getEntries().size());
+        assertNull(page.getNextCursor());
+        assertTrue(page.isLast());
+
+        for (String cursor: createStrings("cursor")) {
+            List<String> list = createStrings("entry", false);
+            page = new ListPage<String>(list, cursor);
+            assertSame(list, page.getEntries());
+            assertEquals(cursor, page.getNextCursor());
+            assertEquals(cursor == null, page.isLast());
+        }
+    }
+
+    /**
+     * Test case for {@link ListPage#equals(Object)} and
+     * {@link ListPage#hashCode()}.
+     */
+    @Test
+    public void testEquals() {
+        HashSet<Object> set = new HashSet<Object>();
+        List<String> cursors = createStrings("cursor");
+        List<Integer> sizes = createIntegers(0, 3, false);
+        for (String cursor: cursors) {
+            for (Integer size: sizes) {
+                List<Integer> l1 = new ArrayList<Integer>();
+                List<Integer> l2 = new ArrayList<Integer>();
+                for (int i = 0; i < size.intValue(); i++) {
+                    l1.add(Integer.valueOf(i));
+                    l2.add(Integer.valueOf(i));
+                }
+
+                ListPage<Integer> p1 = new ListPage<Integer>(l1, cursor);
+                ListPage<Integer> p2 =
+                    new ListPage<Integer>(l2, copy(cursor));
+                testEquals(set, p1, p2);
+            }
+        }
+
+        assertEquals(cursors.size() * sizes.size(), set.size());
+    }
+
+    /**
+     * Ensure that {@link ListPage} is serializable.
+     */
+    @Test
+    public void testSerialize() {
+        List<String> list = createStrings("entry", false);
+        ListPage<String> page = new ListPage<String>(list, "123abc");
+        serializeTest(page);
+
+        page = new ListPage<String>(list, null);
+        serializeTest(page);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link PacketStageStats}.
+ */
+public class PacketStageStatsTest extends TestBase {
+    /**
+     * Root XML element name associated with {@link PacketStageStats} class.
+     */
+    private static final String  XML_ROOT = "packetstagestats";
+
+    /**
+     * Create a list of {@link PacketStageStats} instances for test.
+     *
+     * @return  A list of {@link PacketStageStats} instances.
+     */
+    private List<PacketStageStats> createStats() {
+        String[] stages = {"parse", "route", "flowadd"};
+        long[] counts = {0L, 1L, 123456789L};
+        long[][] values = {
+            {0L, 0L, 0L, 0L, 0L},
+            {35L, 812L, 31L, 47L, 191L},
+            {1000L, 99999L, 900L, 2000L, 65535L},
+        };
+
+        List<PacketStageStats> list = new ArrayList<PacketStageStats>();
+        for (String stage: stages) {
+            for (long c: counts) {
+                for (long[] v: values) {
+                    list.add(new PacketStageStats(stage, c, v[0], v[1], v[2],
+                                                  v[3], v[4]));
+                }
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Test case for getter methods.
+     */
+    @Test
+    public void testGetter() {
+        PacketStageStats stats =
+            new PacketStageStats("route", 10L, 35L, 812L, 31L, 47L, 191L);
+        assertEquals("route", stats.getStage());
+        assertEquals(10L, stats.getCount());
+        assertEquals(35L, stats.getAverage());
+        assertEquals(812L, stats.getMax());
+        assertEquals(31L, stats.getP50());
+        assertEquals(47L, stats.getP90());
+        assertEquals(191L, stats.getP99());
+    }
+
+    /**
+     * Test case for {@link PacketStageStats#equals(Object)} and
+     * {@link PacketStageStats#hashCode()}.
+     */
+    @Test
+    public void testEquals() {
+        HashSet<Object> set = new HashSet<Object>();
+        List<PacketStageStats> list = createStats();
+        for (PacketStageStats stats: list) {
+            PacketStageStats copy = new PacketStageStats(
+                stats.getStage(), stats.getCount(), stats.getAverage(),
+                stats.getMax(), stats.getP50(), stats.getP90(),
+                stats.getP99());
+            testEquals(set, stats, copy);
+        }
+
+        assertEquals(list.size(), set.size());
+    }
+
+    /**
+     * Test case for {@link PacketStageStats#toString()}.
+     */
+    @Test
+    public void testToString() {
+        PacketStageStats stats =
+            new PacketStageStats("route", 10L, 35L, 812L, 31L, 47L, 191L);
+        String required = "PacketStageStats[stage=route,count=10,avg=35," +
+            "max=812,p50=31,p90=47,p99=191]";
+        assertEquals(required, stats.toString());
+    }
+
+    /**
+     * Ensure that {@link PacketStageStats} is serializable.
+     */
+    @Test
+    public void testSerialize() {
+        for (PacketStageStats stats: createStats()) {
+            serializeTest(stats);
+        }
+    }
+
+    /**
+     * Ensure that {@link PacketStageStats} is mapped to XML root element.
+     */
+    @Test
+    public void testJAXB() {
+        for (PacketStageStats stats: createStats()) {
+            jaxbTest(stats, PacketStageStats.class, XML_ROOT);
+        }
+
+        // Ensure that broken values in XML can be detected.
+        jaxbErrorTest(PacketStageStats.class,
+                      new XmlAttributeType(XML_ROOT, "count", long.class),
+                      new XmlAttributeType(XML_ROOT, "average", long.class),
+                      new XmlAttributeType(XML_ROOT, "max", long.class),
+                      new XmlAttributeType(XML_ROOT, "p50", long.class),
+                      new XmlAttributeType(XML_ROOT, "p90", long.class),
+                      new XmlAttributeType(XML_ROOT, "p99", long.class));
+    }
+
+    /**
+     * Ensure that {@link PacketStageStats} is mapped to JSON object.
+     */
+    @Test
+    public void testJSON() {
+        for (PacketStageStats stats: createStats()) {
+            jsonTest(stats, PacketStageStats.class);
+        }
+    }
+}
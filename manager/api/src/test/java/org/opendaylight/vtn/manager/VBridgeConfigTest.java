@@ -71,6 +71,78 @@ public class VBridgeConfigTest extends TestBase {
         }
     }
 
+    /**
+     * Test case for the aggregate flow configuration.
+     */
+    @Test
+    public void testAggregateFlow() {
+        Boolean[] values = {null, Boolean.TRUE, Boolean.FALSE};
+        HashSet<Object> set = new HashSet<Object>();
+        for (Boolean aggr: values) {
+            VBridgeConfig bconf = new VBridgeConfig("desc", 600, aggr);
+            assertEquals("desc", bconf.getDescription());
+            assertEquals(600, bconf.getAgeInterval());
+            assertEquals(aggr, bconf.getAggregateFlow());
+
+            String required = (aggr == null)
+                ? "VBridgeConfig[desc=desc,ageInterval=600]"
+                : "VBridgeConfig[desc=desc,ageInterval=600,aggregateFlow=" +
+                aggr + "]";
+            assertEquals(required, bconf.toString());
+
+            testEquals(set, bconf, new VBridgeConfig("desc", 600, aggr));
+            serializeTest(bconf);
+            jaxbTest(bconf, VBridgeConfig.class, XML_ROOT);
+        }
+        assertEquals(values.length, set.size());
+
+        // Aggregate flow configuration must be inherited by VBridge.
+        VBridgeConfig bconf = new VBridgeConfig(null, 10, Boolean.TRUE);
+        VBridge vbridge = new VBridge("vbr", null, 0, bconf);
+        assertEquals(Boolean.TRUE, vbridge.getAggregateFlow());
+    }
+
+    /**
+     * Test case for the ARP proxy configuration.
+     */
+    @Test
+    public void testArpProxy() {
+        Boolean[] values = {null, Boolean.TRUE, Boolean.FALSE};
+        HashSet<Object> set = new HashSet<Object>();
+        for (Boolean aggr: values) {
+            for (Boolean proxy: values) {
+                VBridgeConfig bconf =
+                    new VBridgeConfig("desc", 600, aggr, proxy);
+                assertEquals("desc", bconf.getDescription());
+                assertEquals(600, bconf.getAgeInterval());
+                assertEquals(aggr, bconf.getAggregateFlow());
+                assertEquals(proxy, bconf.getArpProxy());
+
+                StringBuilder builder = new StringBuilder(
+                    "VBridgeConfig[desc=desc,ageInterval=600");
+                if (aggr != null) {
+                    builder.append(",aggregateFlow=").append(aggr);
+                }
+                if (proxy != null) {
+                    builder.append(",arpProxy=").append(proxy);
+                }
+                assertEquals(builder.append(']').toString(),
+                             bconf.toString());
+
+                testEquals(set, bconf,
+                           new VBridgeConfig("desc", 600, aggr, proxy));
+                serializeTest(bconf);
+                jaxbTest(bconf, VBridgeConfig.class, XML_ROOT);
+            }
+        }
+        assertEquals(values.length * values.length, set.size());
+
+        // ARP proxy configuration must be inherited by VBridge.
+        VBridgeConfig bconf = new VBridgeConfig(null, 10, null, Boolean.TRUE);
+        VBridge vbridge = new VBridge("vbr", null, 0, bconf);
+        assertEquals(Boolean.TRUE, vbridge.getArpProxy());
+    }
+
     /**
      * Test case for {@link VBridgeConfig#equals(Object)} and
      * {@link VBridgeConfig#hashCode()}.
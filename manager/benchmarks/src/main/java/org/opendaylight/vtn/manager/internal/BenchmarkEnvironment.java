@@ -0,0 +1,520 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+import java.util.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.base.Optional;
+import com.google.common.util.concurrent.Futures;
+
+import org.apache.felix.dm.Component;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.opendaylight.vtn.manager.flow.cond.FlowCondition;
+import org.opendaylight.vtn.manager.flow.cond.FlowMatch;
+import org.opendaylight.vtn.manager.flow.cond.Inet4Match;
+import org.opendaylight.vtn.manager.flow.cond.TcpMatch;
+
+import org.opendaylight.vtn.manager.internal.config.VTNConfigImpl;
+import org.opendaylight.vtn.manager.internal.packet.PacketInEvent;
+import org.opendaylight.vtn.manager.internal.packet.VTNPacketListener;
+import org.opendaylight.vtn.manager.internal.util.flow.cond.VTNFlowCondition;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+import org.opendaylight.vtn.manager.internal.util.rpc.RpcException;
+import org.opendaylight.vtn.manager.internal.util.tx.ReadTxContext;
+
+import org.opendaylight.controller.clustering.services.IClusterGlobalServices;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.IEEE8021Q;
+import org.opendaylight.controller.sal.packet.IPv4;
+import org.opendaylight.controller.sal.packet.Packet;
+import org.opendaylight.controller.sal.packet.TCP;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+import org.opendaylight.controller.sal.utils.IPProtocols;
+
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
+
+/**
+ * {@code BenchmarkEnvironment} provides in-process stubs of services
+ * required by VTN Manager, and utilities to create packets used by
+ * benchmarks.
+ *
+ * <ul>
+ *   <li>
+ *     The MD-SAL datastore is emulated by a {@link ConcurrentMap} which
+ *     maps {@link InstanceIdentifier} to {@link DataObject}.
+ *     Read transactions complete immediately.
+ *   </li>
+ *   <li>
+ *     Cluster caches are emulated by {@link ConcurrentHashMap}.
+ *   </li>
+ * </ul>
+ */
+public final class BenchmarkEnvironment {
+    /**
+     * The name of the container used by benchmarks.
+     */
+    public static final String  CONTAINER_NAME = "default";
+
+    /**
+     * The name of the virtual tenant used by benchmarks.
+     */
+    public static final String  TENANT_NAME = "vtn_bench";
+
+    /**
+     * Data objects in the emulated MD-SAL datastore.
+     */
+    private final ConcurrentMap<InstanceIdentifier<?>, DataObject>  dataStore =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Caches in the emulated cluster service.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<?, ?>>  clusterCaches =
+        new ConcurrentHashMap<>();
+
+    /**
+     * A timer used by the VTN Manager.
+     */
+    private final Timer  timer = new Timer("VTN benchmark timer", true);
+
+    /**
+     * Stub of the MD-SAL data broker.
+     */
+    private final DataBroker  dataBroker;
+
+    /**
+     * Stub of the VTN Manager provider.
+     */
+    private final VTNManagerProvider  vtnProvider;
+
+    /**
+     * Global resource manager that uses the emulated cluster service.
+     */
+    private GlobalResourceManager  resourceManager;
+
+    /**
+     * VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * Construct a new instance.
+     */
+    public BenchmarkEnvironment() {
+        dataBroker = createDataBroker();
+        vtnProvider = createProvider();
+    }
+
+    /**
+     * Return the stub of the VTN Manager provider.
+     *
+     * @return  A {@link VTNManagerProvider} instance.
+     */
+    public VTNManagerProvider getVTNProvider() {
+        return vtnProvider;
+    }
+
+    /**
+     * Return the stub of the MD-SAL data broker.
+     *
+     * @return  A {@link DataBroker} instance.
+     */
+    public DataBroker getDataBroker() {
+        return dataBroker;
+    }
+
+    /**
+     * Put the given data object into the emulated MD-SAL datastore.
+     *
+     * @param path  Path to the data object.
+     * @param data  A data object.
+     * @param <T>   The type of the data object.
+     */
+    public <T extends DataObject> void put(InstanceIdentifier<T> path,
+                                           T data) {
+        dataStore.put(path, data);
+    }
+
+    /**
+     * Return the cache in the emulated cluster service.
+     *
+     * @param name  The name of the cluster cache.
+     * @param <K>   The type of keys.
+     * @param <V>   The type of values.
+     * @return  A {@link ConcurrentMap} instance.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> ConcurrentMap<K, V> getClusterCache(String name) {
+        ConcurrentMap<?, ?> cache = clusterCaches.get(name);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<K, V>();
+            ConcurrentMap<?, ?> old = clusterCaches.putIfAbsent(name, cache);
+            if (old != null) {
+                cache = old;
+            }
+        }
+
+        return (ConcurrentMap<K, V>)cache;
+    }
+
+    /**
+     * Return the global resource manager which uses the emulated cluster
+     * service.
+     *
+     * @return  A {@link GlobalResourceManager} instance.
+     */
+    public synchronized GlobalResourceManager getResourceManager() {
+        GlobalResourceManager grsc = resourceManager;
+        if (grsc == null) {
+            grsc = new GlobalResourceManager();
+            grsc.setClusterGlobalService(createClusterService());
+            grsc.init(null);
+            resourceManager = grsc;
+        }
+
+        return grsc;
+    }
+
+    /**
+     * Return the VTN Manager service initialized with stub services.
+     *
+     * @return  A {@link VTNManagerImpl} instance.
+     */
+    public synchronized VTNManagerImpl getVTNManager() {
+        VTNManagerImpl mgr = vtnManager;
+        if (mgr == null) {
+            mgr = new VTNManagerImpl();
+            mgr.setResourceManager(getResourceManager());
+            mgr.setVTNProvider(vtnProvider);
+
+            Dictionary<String, Object> props = new Hashtable<>();
+            props.put("containerName", CONTAINER_NAME);
+            Component c = Mockito.mock(Component.class);
+            Mockito.when(c.getServiceProperties()).thenReturn(props);
+            mgr.init(c);
+            vtnManager = mgr;
+        }
+
+        return mgr;
+    }
+
+    /**
+     * Release resources held by this instance.
+     */
+    public synchronized void destroy() {
+        VTNManagerImpl mgr = vtnManager;
+        if (mgr != null) {
+            vtnManager = null;
+            mgr.stopping();
+            mgr.stop();
+            mgr.destroy();
+        }
+
+        timer.cancel();
+    }
+
+    /**
+     * Create a flow condition which contains the given number of flow
+     * match conditions.
+     *
+     * <p>
+     *   Only the last flow match condition matches TCP packets sent to the
+     *   given destination. Other conditions match the same destination
+     *   address with different TCP port numbers.
+     * </p>
+     *
+     * @param name   The name of the flow condition.
+     * @param count  The number of flow match conditions.
+     * @param dst    Destination IP address of matched packets.
+     * @param dport  Destination TCP port of matched packets.
+     * @return  A {@link VTNFlowCondition} instance.
+     * @throws RpcException  An error occurred.
+     */
+    public static VTNFlowCondition createFlowCondition(
+        String name, int count, InetAddress dst, int dport)
+        throws RpcException {
+        List<FlowMatch> matches = new ArrayList<>(count);
+        Short proto = Short.valueOf(IPProtocols.TCP.shortValue());
+        for (int i = 1; i <= count; i++) {
+            int port = (i == count) ? dport : dport + i;
+            Inet4Match im = new Inet4Match(null, null, dst, null, proto, null);
+            TcpMatch tm = new TcpMatch(null, Integer.valueOf(port));
+            matches.add(new FlowMatch(i, null, im, tm));
+        }
+
+        return new VTNFlowCondition(name, new FlowCondition(name, matches));
+    }
+
+    /**
+     * Put the given flow condition into the emulated MD-SAL datastore.
+     *
+     * @param vfcond  A {@link VTNFlowCondition} instance.
+     */
+    public void put(VTNFlowCondition vfcond) {
+        put(vfcond.getPath(), vfcond.toVtnFlowConditionBuilder().build());
+    }
+
+    /**
+     * Create a new read-only transaction context.
+     *
+     * @return  A {@link ReadTxContext} instance.
+     */
+    public ReadTxContext newReadContext() {
+        return new ReadTxContext(vtnProvider);
+    }
+
+    /**
+     * Create a PACKET_IN event which notifies the given packet.
+     *
+     * @param ether    An ethernet frame.
+     * @param ingress  The ingress switch port.
+     * @param ctx      A MD-SAL transaction context to be associated with
+     *                 the event.
+     * @return  A {@link PacketInEvent} instance.
+     * @throws Exception  An error occurred.
+     */
+    public static PacketInEvent createPacketIn(Ethernet ether, SalPort ingress,
+                                               TxContext ctx)
+        throws Exception {
+        PacketInEvent ev = createPacketIn(ether.serialize(), ingress);
+        if (ctx != null) {
+            // Bind the transaction context to the event.
+            ev.execute(ctx, 0);
+        }
+
+        return ev;
+    }
+
+    /**
+     * Create a PACKET_IN event which notifies the given payload.
+     *
+     * @param payload  A raw packet.
+     * @param ingress  The ingress switch port.
+     * @return  A {@link PacketInEvent} instance.
+     * @throws Exception  An error occurred.
+     */
+    public static PacketInEvent createPacketIn(byte[] payload, SalPort ingress)
+        throws Exception {
+        PacketReceivedBuilder builder = new PacketReceivedBuilder();
+        builder.setPayload(payload);
+        return new PacketInEvent(new NullPacketListener(), builder.build(),
+                                 ingress);
+    }
+
+    /**
+     * Create an ethernet frame that contains a TCP segment.
+     *
+     * @param src      Source MAC address.
+     * @param dst      Destination MAC address.
+     * @param vlan     VLAN ID. Untagged frame is created if negative.
+     * @param sip      Source IP address.
+     * @param dip      Destination IP address.
+     * @param sport    Source TCP port.
+     * @param dport    Destination TCP port.
+     * @return  An {@link Ethernet} instance.
+     */
+    public static Ethernet createTcpPacket(byte[] src, byte[] dst, short vlan,
+                                           InetAddress sip, InetAddress dip,
+                                           int sport, int dport) {
+        TCP tcp = new TCP();
+        tcp.setSourcePort((short)sport).setDestinationPort((short)dport).
+            setSequenceNumber(1).setAckNumber(0).
+            setDataOffset((byte)5).setHeaderLenFlags((short)2).
+            setWindowSize((short)8192).setRawPayload(new byte[64]);
+
+        IPv4 ip = new IPv4();
+        ip.setVersion((byte)4).setIdentification((short)5).
+            setDiffServ((byte)0).setECN((byte)0).setFlags((byte)2).
+            setFragmentOffset((short)0).setTtl((byte)64).
+            setProtocol(IPProtocols.TCP.byteValue()).
+            setSourceAddress(sip).setDestinationAddress(dip);
+        ip.setPayload(tcp);
+
+        return createEthernet(src, dst, vlan, EtherTypes.IPv4.shortValue(),
+                              ip);
+    }
+
+    /**
+     * Create an ethernet frame.
+     *
+     * @param src      Source MAC address.
+     * @param dst      Destination MAC address.
+     * @param vlan     VLAN ID. Untagged frame is created if negative.
+     * @param type     Ethernet type of the payload.
+     * @param payload  Payload of the ethernet frame.
+     * @return  An {@link Ethernet} instance.
+     */
+    public static Ethernet createEthernet(byte[] src, byte[] dst, short vlan,
+                                          short type, Packet payload) {
+        Ethernet eth = new Ethernet();
+        eth.setSourceMACAddress(src).setDestinationMACAddress(dst);
+
+        if (vlan >= 0) {
+            eth.setEtherType(EtherTypes.VLANTAGGED.shortValue());
+            IEEE8021Q tag = new IEEE8021Q();
+            tag.setCfi((byte)0).setPcp((byte)0).setVid(vlan).
+                setEtherType(type).setParent(eth);
+            tag.setPayload(payload);
+            eth.setPayload(tag);
+        } else {
+            eth.setEtherType(type).setPayload(payload);
+        }
+
+        return eth;
+    }
+
+    /**
+     * Create a MAC address from the given long value.
+     *
+     * @param value  A long value which represents a MAC address.
+     * @return  A byte array which represents a MAC address.
+     */
+    public static byte[] createMacAddress(long value) {
+        byte[] mac = new byte[6];
+        long v = value;
+        for (int i = mac.length - 1; i >= 0; i--) {
+            mac[i] = (byte)v;
+            v >>>= Byte.SIZE;
+        }
+
+        return mac;
+    }
+
+    /**
+     * Create a list of switch ports.
+     *
+     * @param nodes  The number of switches.
+     * @param ports  The number of ports per switch.
+     * @return  A list of {@link SalPort} instances.
+     */
+    public static List<SalPort> createPorts(int nodes, int ports) {
+        List<SalPort> list = new ArrayList<>(nodes * ports);
+        for (long dpid = 1L; dpid <= nodes; dpid++) {
+            for (long pid = 1L; pid <= ports; pid++) {
+                list.add(new SalPort(dpid, pid));
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Create a stub of the MD-SAL data broker.
+     *
+     * @return  A {@link DataBroker} instance.
+     */
+    private DataBroker createDataBroker() {
+        final ReadOnlyTransaction rtx =
+            Mockito.mock(ReadOnlyTransaction.class);
+        Mockito.when(rtx.read(any(LogicalDatastoreType.class),
+                              any(InstanceIdentifier.class))).
+            thenAnswer(new Answer<Object>() {
+                @Override
+                public Object answer(InvocationOnMock inv) {
+                    Object path = inv.getArguments()[1];
+                    Optional<DataObject> opt =
+                        Optional.fromNullable(dataStore.get(path));
+                    return Futures.<Optional<DataObject>, ReadFailedException>
+                        immediateCheckedFuture(opt);
+                }
+            });
+
+        DataBroker broker = Mockito.mock(DataBroker.class);
+        Mockito.when(broker.newReadOnlyTransaction()).thenReturn(rtx);
+        return broker;
+    }
+
+    /**
+     * Create a stub of the VTN Manager provider.
+     *
+     * @return  A {@link VTNManagerProvider} instance.
+     */
+    private VTNManagerProvider createProvider() {
+        final VTNManagerProvider provider =
+            Mockito.mock(VTNManagerProvider.class);
+        Mockito.when(provider.getDataBroker()).thenReturn(dataBroker);
+        Mockito.when(provider.getTimer()).thenReturn(timer);
+        Mockito.when(provider.getVTNConfig()).thenReturn(new VTNConfigImpl());
+        Mockito.when(provider.executeTask(any(Runnable.class))).
+            thenReturn(true);
+        Mockito.when(provider.newTxContext()).
+            thenAnswer(new Answer<TxContext>() {
+                @Override
+                public TxContext answer(InvocationOnMock inv) {
+                    return new ReadTxContext(provider);
+                }
+            });
+        return provider;
+    }
+
+    /**
+     * Create a stub of the cluster global service.
+     *
+     * @return  A {@link IClusterGlobalServices} instance.
+     */
+    private IClusterGlobalServices createClusterService() {
+        IClusterGlobalServices cs = Mockito.mock(IClusterGlobalServices.class);
+        Answer<ConcurrentMap<?, ?>> answer = new Answer<ConcurrentMap<?, ?>>() {
+            @Override
+            public ConcurrentMap<?, ?> answer(InvocationOnMock inv) {
+                String name = (String)inv.getArguments()[0];
+                return getClusterCache(name);
+            }
+        };
+
+        try {
+            Mockito.when(cs.createCache(anyString(), any(Set.class))).
+                thenAnswer(answer);
+        } catch (Exception e) {
+            // This should never happen.
+            throw new IllegalStateException("Failed to stub cluster service.",
+                                            e);
+        }
+        Mockito.when(cs.getCache(anyString())).thenAnswer(answer);
+        Mockito.when(cs.getMyAddress()).
+            thenReturn(InetAddress.getLoopbackAddress());
+        return cs;
+    }
+
+    /**
+     * A packet listener that ignores all packets.
+     */
+    private static final class NullPacketListener
+        implements VTNPacketListener {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void notifyPacket(PacketInEvent ev) {
+        }
+    }
+}
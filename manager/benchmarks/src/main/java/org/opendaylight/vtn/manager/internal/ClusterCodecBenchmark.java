@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.VBridgePath;
+
+import org.opendaylight.vtn.manager.internal.cluster.ClusterCodec;
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+/**
+ * Benchmarks for serialization of {@link MacTableEntry}, which is
+ * replicated through the cluster cache whenever a MAC address is learned.
+ *
+ * <p>
+ *   The serialization format is selected by {@code vtn.cluster.compact}
+ *   system property, so benchmarks for the legacy format and compact
+ *   format run in separate forks. Each entry is written to a new stream
+ *   because the cluster cache serializes each entry independently.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ClusterCodecBenchmark {
+    /**
+     * JVM argument which enables compact format.
+     */
+    private static final String  COMPACT = "-Dvtn.cluster.compact=true";
+
+    /**
+     * JVM argument which disables compact format.
+     */
+    private static final String  LEGACY = "-Dvtn.cluster.compact=false";
+
+    /**
+     * MAC address table entry to be serialized.
+     */
+    private MacTableEntry  entry;
+
+    /**
+     * A serialized MAC address table entry.
+     */
+    private byte[]  serialized;
+
+    /**
+     * Set up the benchmark state.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        VBridgePath bpath =
+            new VBridgePath(BenchmarkEnvironment.TENANT_NAME, "vbr");
+        List<SalPort> ports = BenchmarkEnvironment.createPorts(1, 1);
+        entry = new MacTableEntry(
+            bpath, 0x001122334455L, ports.get(0).getAdNodeConnector(),
+            (short)10, InetAddress.getByName("192.168.10.1"));
+        serialized = encode(entry);
+
+        // Ensure that the format is selected as expected.
+        String form = "SerializedForm";
+        boolean compact = new String(serialized, StandardCharsets.ISO_8859_1).
+            contains(form);
+        if (compact != ClusterCodec.isCompactFormat()) {
+            throw new IllegalStateException(
+                "Unexpected serialization format: compact=" + compact);
+        }
+    }
+
+    /**
+     * Serialize the given object into a new stream.
+     *
+     * @param o  An object to be serialized.
+     * @return  A byte array which contains the serialized object.
+     * @throws IOException  An error occurred.
+     */
+    private static byte[] encode(Object o) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(o);
+        out.close();
+        return bout.toByteArray();
+    }
+
+    /**
+     * Deserialize an object from the given byte array.
+     *
+     * @param b  A byte array which contains a serialized object.
+     * @return  A deserialized object.
+     * @throws Exception  An error occurred.
+     */
+    private static Object decode(byte[] b) throws Exception {
+        ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(b));
+        return in.readObject();
+    }
+
+    /**
+     * Serialize a MAC address table entry in the legacy format.
+     *
+     * @return  A byte array which contains the serialized entry.
+     * @throws IOException  An error occurred.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = LEGACY)
+    public byte[] encodeLegacy() throws IOException {
+        return encode(entry);
+    }
+
+    /**
+     * Serialize a MAC address table entry in compact format.
+     *
+     * @return  A byte array which contains the serialized entry.
+     * @throws IOException  An error occurred.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = COMPACT)
+    public byte[] encodeCompact() throws IOException {
+        return encode(entry);
+    }
+
+    /**
+     * Deserialize a MAC address table entry in the legacy format.
+     *
+     * @return  A deserialized entry.
+     * @throws Exception  An error occurred.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = LEGACY)
+    public Object decodeLegacy() throws Exception {
+        return decode(serialized);
+    }
+
+    /**
+     * Deserialize a MAC address table entry in compact format.
+     *
+     * @return  A deserialized entry.
+     * @throws Exception  An error occurred.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = COMPACT)
+    public Object decodeCompact() throws Exception {
+        return decode(serialized);
+    }
+}
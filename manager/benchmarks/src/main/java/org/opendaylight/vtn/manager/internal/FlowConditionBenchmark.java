@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.internal.packet.PacketInEvent;
+import org.opendaylight.vtn.manager.internal.util.flow.cond.VTNFlowCondition;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.sal.packet.Ethernet;
+
+/**
+ * Benchmarks for {@link VTNFlowCondition#match(org.opendaylight.vtn.manager.internal.util.flow.match.FlowMatchContext)}.
+ *
+ * <p>
+ *   The flow condition contains the specified number of flow match
+ *   conditions, and only the last one matches the packet.
+ *   A new {@link PacketContext} is created for each packet because
+ *   it caches decoded headers and matched fields.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowConditionBenchmark {
+    /**
+     * The number of flow match conditions in the flow condition.
+     */
+    @Param({"1", "8", "32"})
+    public int  matches;
+
+    /**
+     * Destination TCP port of the packet.
+     */
+    private static final int  DST_PORT = 80;
+
+    /**
+     * The flow condition to be tested.
+     */
+    private VTNFlowCondition  condition;
+
+    /**
+     * A PACKET_IN event which contains a TCP packet.
+     */
+    private PacketInEvent  event;
+
+    /**
+     * A PACKET_IN event which never matches the flow condition.
+     */
+    private PacketInEvent  unmatchedEvent;
+
+    /**
+     * Set up the benchmark state.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        InetAddress sip = InetAddress.getByName("192.168.10.1");
+        InetAddress dip = InetAddress.getByName("192.168.20.1");
+        condition = BenchmarkEnvironment.createFlowCondition(
+            "cond_bench", matches, dip, DST_PORT);
+
+        byte[] src = BenchmarkEnvironment.createMacAddress(0x001122334455L);
+        byte[] dst = BenchmarkEnvironment.createMacAddress(0x00aabbccddeeL);
+        SalPort ingress = new SalPort(1L, 1L);
+        Ethernet ether = BenchmarkEnvironment.createTcpPacket(
+            src, dst, (short)-1, sip, dip, 34567, DST_PORT);
+        event = BenchmarkEnvironment.createPacketIn(ether.serialize(),
+                                                    ingress);
+
+        ether = BenchmarkEnvironment.createTcpPacket(
+            src, dst, (short)-1, sip, dip, 34567, 1);
+        unmatchedEvent = BenchmarkEnvironment.createPacketIn(
+            ether.serialize(), ingress);
+    }
+
+    /**
+     * Evaluate the flow condition against a packet which matches the last
+     * flow match condition.
+     *
+     * @return  {@code true}.
+     */
+    @Benchmark
+    public boolean matched() {
+        return condition.match(new PacketContext(event));
+    }
+
+    /**
+     * Evaluate the flow condition against a packet which matches no flow
+     * match condition.
+     *
+     * @return  {@code false}.
+     */
+    @Benchmark
+    public boolean unmatched() {
+        return condition.match(new PacketContext(unmatchedEvent));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VTenantPath;
+import org.opendaylight.vtn.manager.flow.filter.FlowFilter;
+import org.opendaylight.vtn.manager.flow.filter.PassFilter;
+
+import org.opendaylight.vtn.manager.internal.cluster.FlowFilterMap;
+import org.opendaylight.vtn.manager.internal.cluster.FlowFilterNode;
+import org.opendaylight.vtn.manager.internal.packet.PacketInEvent;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.sal.packet.Ethernet;
+
+/**
+ * Benchmarks for {@link FlowFilterMap#evaluate(VTNManagerImpl, PacketContext, short)}.
+ *
+ * <p>
+ *   The flow filter map contains the specified number of PASS filters,
+ *   and only the flow condition of the last filter matches the packet.
+ *   Flow conditions are read from the emulated MD-SAL datastore.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowFilterBenchmark {
+    /**
+     * The number of flow filters in the flow filter map.
+     */
+    @Param({"1", "8", "32"})
+    public int  filters;
+
+    /**
+     * If {@code true}, a new MD-SAL transaction context is used for each
+     * packet, as done for PACKET_IN messages. Otherwise flow conditions are
+     * served from the cache in the transaction context.
+     */
+    @Param({"true", "false"})
+    public boolean  newContext;
+
+    /**
+     * Destination TCP port of the packet.
+     */
+    private static final int  DST_PORT = 80;
+
+    /**
+     * Stub services.
+     */
+    private BenchmarkEnvironment  environment;
+
+    /**
+     * VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * The flow filter map to be tested.
+     */
+    private FlowFilterMap  filterMap;
+
+    /**
+     * A PACKET_IN event which contains a TCP packet.
+     */
+    private PacketInEvent  event;
+
+    /**
+     * A virtual node which contains the flow filter map.
+     */
+    private static final class FilterNode implements FlowFilterNode {
+        /**
+         * Version number for serialization.
+         */
+        private static final long  serialVersionUID = 1L;
+
+        /**
+         * Path to this node.
+         */
+        private final VTenantPath  path;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param p  Path to this node.
+         */
+        private FilterNode(VTenantPath p) {
+            path = p;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getContainerName() {
+            return BenchmarkEnvironment.CONTAINER_NAME;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public VTenantPath getPath() {
+            return path;
+        }
+    }
+
+    /**
+     * Set up the benchmark state.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment();
+        vtnManager = environment.getVTNManager();
+
+        InetAddress sip = InetAddress.getByName("192.168.10.1");
+        InetAddress dip = InetAddress.getByName("192.168.20.1");
+        VBridgePath bpath =
+            new VBridgePath(BenchmarkEnvironment.TENANT_NAME, "vbr");
+        filterMap = FlowFilterMap.createIncoming(new FilterNode(bpath));
+        for (int i = 1; i <= filters; i++) {
+            // Only the last flow condition matches the packet.
+            String cname = "cond_" + i;
+            int port = (i == filters) ? DST_PORT : DST_PORT + i;
+            environment.put(BenchmarkEnvironment.createFlowCondition(
+                                cname, 1, dip, port));
+            FlowFilter ff = new FlowFilter(cname, new PassFilter(), null);
+            filterMap.set(vtnManager, i, ff);
+        }
+
+        Ethernet ether = BenchmarkEnvironment.createTcpPacket(
+            BenchmarkEnvironment.createMacAddress(0x001122334455L),
+            BenchmarkEnvironment.createMacAddress(0x00aabbccddeeL),
+            (short)-1, sip, dip, 34567, DST_PORT);
+        event = BenchmarkEnvironment.createPacketIn(
+            ether, new SalPort(1L, 1L), environment.newReadContext());
+    }
+
+    /**
+     * Tear down the benchmark state.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.destroy();
+    }
+
+    /**
+     * Evaluate the flow filter map against a packet.
+     *
+     * @return  A {@link PacketContext} instance.
+     * @throws Exception  An error occurred.
+     */
+    @Benchmark
+    public PacketContext evaluate() throws Exception {
+        if (newContext) {
+            event.execute(environment.newReadContext(), 0);
+        }
+
+        PacketContext pctx = new PacketContext(event);
+        return filterMap.evaluate(vtnManager, pctx, (short)-1);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VNodeRoute;
+
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+import org.opendaylight.vtn.manager.internal.cluster.VBridgeNode;
+import org.opendaylight.vtn.manager.internal.packet.PacketInEvent;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.sal.packet.Ethernet;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.flow.rev150410.VirtualRouteReason;
+
+/**
+ * Benchmarks for learning and looking up MAC addresses in
+ * {@link MacAddressTable}.
+ *
+ * <p>
+ *   The {@code contended} group runs one thread which learns MAC addresses
+ *   from PACKET_IN messages and three threads which look up the table.
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MacAddressTableBenchmark {
+    /**
+     * The number of hosts in the MAC address table.
+     */
+    @Param({"100", "10000"})
+    public int  hosts;
+
+    /**
+     * Stub services.
+     */
+    private BenchmarkEnvironment  environment;
+
+    /**
+     * The MAC address table to be tested.
+     */
+    private MacAddressTable  table;
+
+    /**
+     * The virtual bridge which maps hosts.
+     */
+    private VBridgeNode  bridgeNode;
+
+    /**
+     * PACKET_IN events sent by hosts.
+     */
+    private PacketInEvent[]  events;
+
+    /**
+     * Keys of MAC addresses in the table.
+     */
+    private Long[]  keys;
+
+    /**
+     * A cursor for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        /**
+         * The current index.
+         */
+        private int  index;
+
+        /**
+         * Return the next index.
+         *
+         * @param size  The number of elements.
+         * @return  The next index.
+         */
+        private int next(int size) {
+            int idx = index;
+            index = (idx + 1 == size) ? 0 : idx + 1;
+            return idx;
+        }
+    }
+
+    /**
+     * A virtual bridge which maps all hosts.
+     */
+    private static final class BridgeNode implements VBridgeNode {
+        /**
+         * Version number for serialization.
+         */
+        private static final long  serialVersionUID = 1L;
+
+        /**
+         * Path to this bridge.
+         */
+        private final VBridgePath  path;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param p  Path to this bridge.
+         */
+        private BridgeNode(VBridgePath p) {
+            path = p;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public VBridgePath getPath() {
+            return path;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public VNodeRoute getIngressRoute() {
+            return new VNodeRoute(path, VirtualRouteReason.PORTMAPPED);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void disableInput(VTNManagerImpl mgr, PacketContext pctx) {
+        }
+    }
+
+    /**
+     * Set up the benchmark state.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        environment = new BenchmarkEnvironment();
+        VTNManagerImpl mgr = environment.getVTNManager();
+        VBridgePath bpath =
+            new VBridgePath(BenchmarkEnvironment.TENANT_NAME, "vbr");
+        bridgeNode = new BridgeNode(bpath);
+        table = new MacAddressTable(mgr, bpath, 600);
+
+        List<SalPort> ports = BenchmarkEnvironment.createPorts(16, 16);
+        InetAddress dip = InetAddress.getByName("10.0.0.1");
+        byte[] dst = BenchmarkEnvironment.createMacAddress(0x00ffffffffffL);
+        events = new PacketInEvent[hosts];
+        keys = new Long[hosts];
+        for (int i = 0; i < hosts; i++) {
+            long mac = 0x001000000000L + i + 1;
+            Ethernet ether = BenchmarkEnvironment.createTcpPacket(
+                BenchmarkEnvironment.createMacAddress(mac), dst, (short)0,
+                InetAddress.getByName("10.1." + ((i >> 8) & 0xff) + "." +
+                                      (i & 0xff)),
+                dip, 10000 + (i & 0xfff), 80);
+            SalPort ingress = ports.get(i % ports.size());
+            events[i] = BenchmarkEnvironment.createPacketIn(
+                ether, ingress, environment.newReadContext());
+            keys[i] = Long.valueOf(mac);
+
+            // Learn all hosts in advance.
+            table.add(new PacketContext(events[i]), bridgeNode);
+        }
+    }
+
+    /**
+     * Tear down the benchmark state.
+     */
+    @TearDown
+    public void tearDown() {
+        table.destroy(false);
+        environment.destroy();
+    }
+
+    /**
+     * Learn the source MAC address of a PACKET_IN message.
+     *
+     * @param cursor  A cursor for the calling thread.
+     */
+    @Benchmark
+    public void learn(Cursor cursor) {
+        int idx = cursor.next(events.length);
+        table.add(new PacketContext(events[idx]), bridgeNode);
+    }
+
+    /**
+     * Look up a MAC address in the table.
+     *
+     * @param cursor  A cursor for the calling thread.
+     * @return  A {@link MacTableEntry} instance.
+     */
+    @Benchmark
+    public MacTableEntry lookup(Cursor cursor) {
+        return table.get(keys[cursor.next(keys.length)]);
+    }
+
+    /**
+     * Learn MAC addresses while other threads look up the table.
+     *
+     * @param cursor  A cursor for the calling thread.
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedLearn(Cursor cursor) {
+        learn(cursor);
+    }
+
+    /**
+     * Look up MAC addresses while another thread learns MAC addresses.
+     *
+     * @param cursor  A cursor for the calling thread.
+     * @return  A {@link MacTableEntry} instance.
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public MacTableEntry contendedLookup(Cursor cursor) {
+        return lookup(cursor);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.VBridgeIfPath;
+import org.opendaylight.vtn.manager.VBridgePath;
+
+import org.opendaylight.vtn.manager.internal.cluster.MapReference;
+import org.opendaylight.vtn.manager.internal.cluster.MapType;
+import org.opendaylight.vtn.manager.internal.cluster.NodeVlan;
+import org.opendaylight.vtn.manager.internal.cluster.PortVlan;
+import org.opendaylight.vtn.manager.internal.cluster.VlanMapPath;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.sal.core.NodeConnector;
+
+/**
+ * Benchmarks for {@link GlobalResourceManager#getMapReference(byte[], NodeConnector, short)},
+ * which determines the virtual mapping for every PACKET_IN message.
+ *
+ * <p>
+ *   Even-numbered switch ports are port-mapped, and all switches are
+ *   VLAN-mapped. Mappings are kept in the emulated cluster caches.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapReferenceBenchmark {
+    /**
+     * The number of switches.
+     */
+    @Param({"16", "256"})
+    public int  nodes;
+
+    /**
+     * The number of ports per switch.
+     */
+    private static final int  PORTS_PER_NODE = 48;
+
+    /**
+     * VLAN ID used by benchmarks.
+     */
+    private static final short  VLAN_ID = 10;
+
+    /**
+     * Stub services.
+     */
+    private BenchmarkEnvironment  environment;
+
+    /**
+     * The global resource manager to be tested.
+     */
+    private GlobalResourceManager  resourceManager;
+
+    /**
+     * Port-mapped switch ports.
+     */
+    private NodeConnector[]  mappedPorts;
+
+    /**
+     * Switch ports which are not port-mapped.
+     */
+    private NodeConnector[]  unmappedPorts;
+
+    /**
+     * MAC address of the host.
+     */
+    private byte[]  macAddress;
+
+    /**
+     * A cursor for each benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        /**
+         * The current index.
+         */
+        private int  index;
+
+        /**
+         * Return the next index.
+         *
+         * @param size  The number of elements.
+         * @return  The next index.
+         */
+        private int next(int size) {
+            int idx = index;
+            index = (idx + 1 == size) ? 0 : idx + 1;
+            return idx;
+        }
+    }
+
+    /**
+     * Set up the benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        environment = new BenchmarkEnvironment();
+        resourceManager = environment.getResourceManager();
+
+        ConcurrentMap<PortVlan, MapReference> portMaps =
+            environment.getClusterCache("vtn.portmap");
+        ConcurrentMap<NodeVlan, MapReference> vlanMaps =
+            environment.getClusterCache("vtn.vlanmap");
+        String cname = BenchmarkEnvironment.CONTAINER_NAME;
+        VBridgePath bpath =
+            new VBridgePath(BenchmarkEnvironment.TENANT_NAME, "vbr");
+
+        List<SalPort> ports =
+            BenchmarkEnvironment.createPorts(nodes, PORTS_PER_NODE);
+        int half = ports.size() / 2;
+        mappedPorts = new NodeConnector[half];
+        unmappedPorts = new NodeConnector[half];
+        int m = 0;
+        int u = 0;
+        for (SalPort sport: ports) {
+            NodeConnector nc = sport.getAdNodeConnector();
+            if ((sport.getPortNumber() & 1L) == 0) {
+                VBridgeIfPath ipath = new VBridgeIfPath(
+                    bpath, "if_" + sport.getNodeNumber() + "_" +
+                    sport.getPortNumber());
+                portMaps.put(new PortVlan(nc, VLAN_ID),
+                             new MapReference(MapType.PORT, cname, ipath));
+                mappedPorts[m++] = nc;
+            } else {
+                unmappedPorts[u++] = nc;
+            }
+
+            if (sport.getPortNumber() == 1L) {
+                NodeVlan nvlan = new NodeVlan(nc.getNode(), VLAN_ID);
+                VlanMapPath vpath =
+                    new VlanMapPath(bpath, "vmap_" + sport.getNodeNumber());
+                vlanMaps.put(nvlan,
+                             new MapReference(MapType.VLAN, cname, vpath));
+            }
+        }
+
+        macAddress = BenchmarkEnvironment.createMacAddress(0x001122334455L);
+    }
+
+    /**
+     * Tear down the benchmark state.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.destroy();
+    }
+
+    /**
+     * Resolve the virtual mapping for a packet received from a port-mapped
+     * switch port.
+     *
+     * @param cursor  A cursor for the calling thread.
+     * @return  A {@link MapReference} instance.
+     */
+    @Benchmark
+    public MapReference portMapped(Cursor cursor) {
+        NodeConnector nc = mappedPorts[cursor.next(mappedPorts.length)];
+        return resourceManager.getMapReference(macAddress, nc, VLAN_ID);
+    }
+
+    /**
+     * Resolve the virtual mapping for a packet received from a VLAN-mapped
+     * switch port.
+     *
+     * @param cursor  A cursor for the calling thread.
+     * @return  A {@link MapReference} instance.
+     */
+    @Benchmark
+    public MapReference vlanMapped(Cursor cursor) {
+        NodeConnector nc = unmappedPorts[cursor.next(unmappedPorts.length)];
+        return resourceManager.getMapReference(macAddress, nc, VLAN_ID);
+    }
+
+    /**
+     * Resolve the virtual mapping for a packet which is not mapped.
+     *
+     * @param cursor  A cursor for the calling thread.
+     * @return  {@code null}.
+     */
+    @Benchmark
+    public MapReference unmapped(Cursor cursor) {
+        NodeConnector nc = unmappedPorts[cursor.next(unmappedPorts.length)];
+        return resourceManager.getMapReference(macAddress, nc, (short)0);
+    }
+}
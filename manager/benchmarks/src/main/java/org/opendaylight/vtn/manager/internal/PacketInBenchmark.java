@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.opendaylight.vtn.manager.internal.packet.PacketInEvent;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+import org.opendaylight.vtn.manager.internal.util.packet.InetHeader;
+import org.opendaylight.vtn.manager.internal.util.packet.Layer4Header;
+
+import org.opendaylight.controller.sal.packet.Ethernet;
+
+/**
+ * Benchmarks for decoding a PACKET_IN message and accessing packet headers
+ * through {@link PacketContext}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketInBenchmark {
+    /**
+     * VLAN ID of the packet. Untagged frame is used if negative.
+     */
+    @Param({"-1", "10"})
+    public short  vlan;
+
+    /**
+     * The ingress switch port.
+     */
+    private SalPort  ingress;
+
+    /**
+     * Serialized TCP packet.
+     */
+    private byte[]  payload;
+
+    /**
+     * A PACKET_IN event which contains a TCP packet.
+     */
+    private PacketInEvent  event;
+
+    /**
+     * Set up the benchmark state.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        ingress = new SalPort(1L, 1L);
+        Ethernet ether = BenchmarkEnvironment.createTcpPacket(
+            BenchmarkEnvironment.createMacAddress(0x001122334455L),
+            BenchmarkEnvironment.createMacAddress(0x00aabbccddeeL), vlan,
+            InetAddress.getByName("192.168.10.1"),
+            InetAddress.getByName("192.168.20.1"), 34567, 80);
+        payload = ether.serialize();
+        event = BenchmarkEnvironment.createPacketIn(payload, ingress);
+    }
+
+    /**
+     * Measure the cost to decode a PACKET_IN message.
+     *
+     * @return  A {@link PacketInEvent} instance.
+     * @throws Exception  An error occurred.
+     */
+    @Benchmark
+    public PacketInEvent decode() throws Exception {
+        return BenchmarkEnvironment.createPacketIn(payload, ingress);
+    }
+
+    /**
+     * Measure the cost to create a packet context and read all headers
+     * used for packet matching.
+     *
+     * @param bh  A {@link Blackhole} instance.
+     */
+    @Benchmark
+    public void headers(Blackhole bh) {
+        PacketContext pctx = new PacketContext(event);
+        bh.consume(pctx.getSourceAddress());
+        bh.consume(pctx.getDestinationAddress());
+        bh.consume(pctx.getVlan());
+        bh.consume(pctx.getIncomingNetwork());
+
+        InetHeader inet = pctx.getInetHeader();
+        bh.consume(inet.getSourceAddress());
+        bh.consume(inet.getDestinationAddress());
+        bh.consume(inet.getProtocol());
+
+        Layer4Header l4 = pctx.getLayer4Header();
+        bh.consume(l4);
+    }
+
+    /**
+     * Measure the cost to decode a PACKET_IN message, and then read all
+     * headers used for packet matching.
+     *
+     * @param bh  A {@link Blackhole} instance.
+     * @throws Exception  An error occurred.
+     */
+    @Benchmark
+    public void decodeAndHeaders(Blackhole bh) throws Exception {
+        PacketInEvent ev =
+            BenchmarkEnvironment.createPacketIn(payload, ingress);
+        PacketContext pctx = new PacketContext(ev);
+        bh.consume(pctx.getSourceAddress());
+        bh.consume(pctx.getDestinationAddress());
+        bh.consume(pctx.getVlan());
+
+        InetHeader inet = pctx.getInetHeader();
+        bh.consume(inet.getSourceAddress());
+        bh.consume(inet.getDestinationAddress());
+        bh.consume(pctx.getLayer4Header());
+    }
+}
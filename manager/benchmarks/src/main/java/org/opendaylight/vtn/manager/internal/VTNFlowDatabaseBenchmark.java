@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Output;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+
+/**
+ * Benchmarks for indices maintained by {@link VTNFlowDatabase}.
+ *
+ * <p>
+ *   {@link VTNFlowDatabase#install(VTNManagerImpl, VTNFlow)} and
+ *   {@code removeFlows()} index VTN flows on the calling thread, and
+ *   pass FLOW_MOD work to the VTN flow thread. These benchmarks measure
+ *   the indexing work done on the calling thread, with the specified number
+ *   of VTN flows already installed.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VTNFlowDatabaseBenchmark {
+    /**
+     * The number of VTN flows already installed.
+     */
+    @Param({"1000", "10000"})
+    public int  flows;
+
+    /**
+     * The number of switches in the path of a VTN flow.
+     */
+    @Param({"1", "4"})
+    public int  hops;
+
+    /**
+     * The number of switches in the network.
+     */
+    private static final int  NUM_NODES = 16;
+
+    /**
+     * The number of edge ports per switch.
+     */
+    private static final int  NUM_PORTS = 48;
+
+    /**
+     * Port number used for inter-switch links.
+     */
+    private static final long  LINK_PORT = 100L;
+
+    /**
+     * Stub services.
+     */
+    private BenchmarkEnvironment  environment;
+
+    /**
+     * VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * The VTN flow database to be tested.
+     */
+    private VTNFlowDatabase  flowDatabase;
+
+    /**
+     * A VTN flow to be indexed by benchmarks.
+     */
+    private VTNFlow  vtnFlow;
+
+    /**
+     * The ingress flow entry of {@link #vtnFlow}.
+     */
+    private FlowEntry  ingressFlow;
+
+    /**
+     * Set up the benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        environment = new BenchmarkEnvironment();
+        vtnManager = environment.getVTNManager();
+        flowDatabase = new VTNFlowDatabase(BenchmarkEnvironment.TENANT_NAME);
+
+        List<SalPort> ports =
+            BenchmarkEnvironment.createPorts(NUM_NODES, NUM_PORTS);
+        for (int i = 0; i < flows; i++) {
+            VTNFlow vflow = createFlow(ports.get(i % ports.size()), i);
+            flowDatabase.createIndex(vtnManager, vflow);
+        }
+
+        vtnFlow = createFlow(ports.get(0), flows);
+        ingressFlow = vtnFlow.getFlowEntries().get(0);
+    }
+
+    /**
+     * Tear down the benchmark state.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.destroy();
+    }
+
+    /**
+     * Index a VTN flow, and then remove it from indices.
+     *
+     * @return  {@code true}.
+     */
+    @Benchmark
+    public boolean indexAndRemove() {
+        flowDatabase.createIndex(vtnManager, vtnFlow);
+        return flowDatabase.removeIndex(vtnManager, vtnFlow);
+    }
+
+    /**
+     * Determine whether the ingress flow is already installed.
+     *
+     * @return  {@code false}.
+     */
+    @Benchmark
+    public boolean containsIngressFlow() {
+        return flowDatabase.containsIngressFlow(ingressFlow);
+    }
+
+    /**
+     * Create a VTN flow which forwards packets from the given port.
+     *
+     * @param ingress  The ingress switch port.
+     * @param seq      A sequence number used to make the flow unique.
+     * @return  A {@link VTNFlow} instance.
+     */
+    private VTNFlow createFlow(SalPort ingress, int seq) {
+        VTNFlow vflow = flowDatabase.create(vtnManager);
+        byte[] src = BenchmarkEnvironment.createMacAddress(
+            0x001000000000L + seq);
+        byte[] dst = BenchmarkEnvironment.createMacAddress(
+            0x002000000000L + seq);
+        Short vlan = Short.valueOf((short)0);
+
+        long dpid = ingress.getNodeNumber();
+        NodeConnector in = ingress.getAdNodeConnector();
+        for (int h = 0; h < hops; h++) {
+            boolean last = (h == hops - 1);
+            SalPort out = (last)
+                ? new SalPort(dpid, (ingress.getPortNumber() % NUM_PORTS) + 1)
+                : new SalPort(dpid, LINK_PORT);
+
+            Match match = new Match();
+            match.setField(MatchType.IN_PORT, in);
+            match.setField(MatchType.DL_SRC, src);
+            match.setField(MatchType.DL_DST, dst);
+            match.setField(MatchType.DL_VLAN, vlan);
+
+            List<Action> actions = new ArrayList<>(1);
+            NodeConnector outPort = out.getAdNodeConnector();
+            actions.add(new Output(outPort));
+            Flow flow = new Flow(match, actions);
+            flow.setPriority((short)10);
+            vflow.addFlow(vtnManager, flow, in.getNode());
+
+            // Move to the next switch.
+            dpid = (dpid % NUM_NODES) + 1;
+            in = new SalPort(dpid, LINK_PORT).getAdNodeConnector();
+        }
+
+        return vflow;
+    }
+}
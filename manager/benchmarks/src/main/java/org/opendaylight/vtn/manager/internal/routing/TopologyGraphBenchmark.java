@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.routing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opendaylight.vtn.manager.internal.BenchmarkEnvironment;
+import org.opendaylight.vtn.manager.internal.RouteResolver;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+import org.opendaylight.vtn.manager.internal.util.pathpolicy.PathPolicyUtils;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.topology.rev150209.vtn.topology.VtnLink;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.topology.rev150209.vtn.topology.VtnLinkBuilder;
+
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.LinkId;
+
+/**
+ * Benchmarks for packet route resolution by {@link TopologyGraph}.
+ *
+ * <p>
+ *   Switches are connected in a ring, and each switch also has a link to
+ *   the switch located square root of the number of switches ahead.
+ *   Routes from the first switch to every other switch are resolved by
+ *   the default route resolver. {@code resolve} resets routes cached by
+ *   the resolver before each invocation, as done on topology change.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopologyGraphBenchmark {
+    /**
+     * The number of switches in the network.
+     */
+    @Param({"50", "200", "1000"})
+    public int  nodes;
+
+    /**
+     * Port number of ring link to the next switch.
+     */
+    private static final long  PORT_RING_OUT = 1L;
+
+    /**
+     * Port number of ring link from the previous switch.
+     */
+    private static final long  PORT_RING_IN = 2L;
+
+    /**
+     * Port number of chord link to the switch ahead.
+     */
+    private static final long  PORT_CHORD_OUT = 3L;
+
+    /**
+     * Port number of chord link from the switch behind.
+     */
+    private static final long  PORT_CHORD_IN = 4L;
+
+    /**
+     * Port number of the link toggled to reset cached routes.
+     */
+    private static final long  PORT_SPARE = 5L;
+
+    /**
+     * Stub services.
+     */
+    private BenchmarkEnvironment  environment;
+
+    /**
+     * The network topology to be tested.
+     */
+    private TopologyGraph  topology;
+
+    /**
+     * The default route resolver.
+     */
+    private RouteResolver  resolver;
+
+    /**
+     * The source switch of routes.
+     */
+    private SalNode  source;
+
+    /**
+     * Destination switches of routes.
+     */
+    private SalNode[]  destinations;
+
+    /**
+     * A link toggled to reset cached routes.
+     */
+    private List<VtnLink>  spareLink;
+
+    /**
+     * The index of the next destination.
+     */
+    private int  index;
+
+    /**
+     * A state which resets routes cached by the route resolver before
+     * each invocation.
+     */
+    @State(Scope.Thread)
+    public static class RouteReset {
+        /**
+         * Reset routes cached by the route resolver.
+         *
+         * @param bench  The benchmark state.
+         */
+        @Setup(Level.Invocation)
+        public void reset(TopologyGraphBenchmark bench) {
+            List<VtnLink> empty = Collections.<VtnLink>emptyList();
+            bench.topology.update(bench.spareLink, empty);
+            bench.topology.update(empty, bench.spareLink);
+        }
+    }
+
+    /**
+     * Set up the benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        environment = new BenchmarkEnvironment();
+        topology = new TopologyGraph(environment.getVTNProvider());
+
+        List<VtnLink> links = new ArrayList<>();
+        int chord = Math.max(2, (int)Math.sqrt(nodes));
+        for (long i = 1; i <= nodes; i++) {
+            long next = (i % nodes) + 1;
+            addLink(links, new SalPort(i, PORT_RING_OUT),
+                    new SalPort(next, PORT_RING_IN));
+
+            long ahead = ((i - 1 + chord) % nodes) + 1;
+            addLink(links, new SalPort(i, PORT_CHORD_OUT),
+                    new SalPort(ahead, PORT_CHORD_IN));
+        }
+        topology.initialize(links);
+
+        spareLink = new ArrayList<>(2);
+        addLink(spareLink, new SalPort(1L, PORT_SPARE),
+                new SalPort(2L, PORT_SPARE));
+
+        resolver = topology.getResolver(
+            Integer.valueOf(PathPolicyUtils.DEFAULT_POLICY));
+        source = new SalNode(1L);
+        destinations = new SalNode[nodes - 1];
+        for (int i = 0; i < destinations.length; i++) {
+            destinations[i] = new SalNode((long)(i + 2));
+        }
+    }
+
+    /**
+     * Tear down the benchmark state.
+     */
+    @TearDown
+    public void tearDown() {
+        environment.destroy();
+    }
+
+    /**
+     * Resolve a route after the topology has been changed.
+     *
+     * @param reset  A state which resets cached routes.
+     * @return  A list of {@link LinkEdge} instances.
+     */
+    @Benchmark
+    public List<LinkEdge> resolve(RouteReset reset) {
+        return resolver.getRoute(null, source, nextDestination());
+    }
+
+    /**
+     * Resolve a route cached by the route resolver.
+     *
+     * @return  A list of {@link LinkEdge} instances.
+     */
+    @Benchmark
+    public List<LinkEdge> cached() {
+        return resolver.getRoute(null, source, nextDestination());
+    }
+
+    /**
+     * Return the next destination switch.
+     *
+     * @return  A {@link SalNode} instance.
+     */
+    private SalNode nextDestination() {
+        int idx = index;
+        index = (idx + 1 == destinations.length) ? 0 : idx + 1;
+        return destinations[idx];
+    }
+
+    /**
+     * Add a bidirectional link between the given ports.
+     *
+     * @param links  A list of links.
+     * @param src    A port at one side of the link.
+     * @param dst    A port at the other side of the link.
+     */
+    private static void addLink(List<VtnLink> links, SalPort src,
+                                SalPort dst) {
+        links.add(createLink(src, dst));
+        links.add(createLink(dst, src));
+    }
+
+    /**
+     * Create a unidirectional link.
+     *
+     * @param src  The source port of the link.
+     * @param dst  The destination port of the link.
+     * @return  A {@link VtnLink} instance.
+     */
+    private static VtnLink createLink(SalPort src, SalPort dst) {
+        return new VtnLinkBuilder().
+            setLinkId(new LinkId(src.toString())).
+            setSource(src.getNodeConnectorId()).
+            setDestination(dst.getNodeConnectorId()).build();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.opendaylight.vtn.manager.util.EtherAddress;
+import org.opendaylight.vtn.manager.util.Ip4Network;
+import org.opendaylight.vtn.manager.util.NumberUtils;
+
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+import org.opendaylight.vtn.manager.internal.util.packet.ArpPacketBuilder;
+
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.packet.ARP;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.Packet;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+
+/**
+ * {@code ArpProxy} class is a collection of utility class methods to answer
+ * ARP requests on behalf of hosts learned by MAC address tables.
+ */
+public final class ArpProxy {
+    /**
+     * Private constructor that protects this class from instantiating.
+     */
+    private ArpProxy() {}
+
+    /**
+     * Return the target IP address of the ARP request which can be answered
+     * on behalf of the target host.
+     *
+     * <p>
+     *   {@code null} is returned if the given packet must be forwarded to
+     *   the target host, or flooded. That is, if the given packet meets
+     *   any of the following conditions.
+     * </p>
+     * <ul>
+     *   <li>The packet is not an IPv4 ARP request.</li>
+     *   <li>
+     *     The destination MAC address is unicast address. Unicast ARP
+     *     request may be sent in order to verify the target host.
+     *   </li>
+     *   <li>The packet was modified by flow filters.</li>
+     *   <li>
+     *     The packet is a duplicate address detection or a gratuitous ARP.
+     *   </li>
+     * </ul>
+     *
+     * @param pctx  The context of the received packet.
+     * @return  The target IP address if the given packet can be answered.
+     *          Otherwise {@code null}.
+     */
+    public static InetAddress getTarget(PacketContext pctx) {
+        if (pctx.getDestinationAddress().isUnicast()) {
+            return null;
+        }
+
+        Collection<Action> filterActions = pctx.getFilterActions();
+        if (filterActions != null && !filterActions.isEmpty()) {
+            return null;
+        }
+
+        ARP arp = getArpRequest(pctx);
+        if (arp == null) {
+            return null;
+        }
+
+        byte[] spa = arp.getSenderProtocolAddress();
+        byte[] tpa = arp.getTargetProtocolAddress();
+        if (NumberUtils.toInteger(spa) == 0 || Arrays.equals(spa, tpa)) {
+            return null;
+        }
+
+        try {
+            return InetAddress.getByAddress(tpa);
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Create an ARP reply to the received ARP request on behalf of the
+     * host specified by the given MAC address table entry.
+     *
+     * <p>
+     *   The ARP reply is sent from the target host to the sender of the
+     *   ARP request, and it is tagged with the VLAN ID of the received
+     *   packet.
+     * </p>
+     *
+     * @param pctx  The context of the received ARP request.
+     *              The caller must ensure that {@link #getTarget(PacketContext)}
+     *              returns a non-{@code null} value.
+     * @param tent  A MAC address table entry for the target host.
+     * @return  An Ethernet frame which contains an ARP reply.
+     *          {@code null} is returned if the ARP request was sent by the
+     *          target host itself.
+     */
+    public static Ethernet createReply(PacketContext pctx,
+                                       MacTableEntry tent) {
+        EtherAddress src = pctx.getSourceAddress();
+        EtherAddress tha = new EtherAddress(tent.getMacAddress());
+        if (tha.equals(src)) {
+            return null;
+        }
+
+        ARP arp = getArpRequest(pctx);
+        int vlan = pctx.getEtherPacket().getOriginalVlan();
+        return new ArpPacketBuilder(vlan, ARP.REPLY).
+            setSenderProtocolAddress(
+                new Ip4Network(arp.getTargetProtocolAddress())).
+            build(tha, src, new Ip4Network(arp.getSenderProtocolAddress()));
+    }
+
+    /**
+     * Return an IPv4 ARP request in the given packet.
+     *
+     * @param pctx  The context of the packet.
+     * @return  An {@link ARP} instance if the given packet is an IPv4 ARP
+     *          request. Otherwise {@code null}.
+     */
+    private static ARP getArpRequest(PacketContext pctx) {
+        Packet payload = pctx.getPayload();
+        if (payload instanceof ARP) {
+            ARP arp = (ARP)payload;
+            if (arp.getOpCode() == ARP.REQUEST &&
+                arp.getProtocolType() == EtherTypes.IPv4.shortValue()) {
+                return arp;
+            }
+        }
+
+        return null;
+    }
+}
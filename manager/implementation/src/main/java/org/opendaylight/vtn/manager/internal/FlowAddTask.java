@@ -64,6 +64,29 @@ public class FlowAddTask extends RemoteFlowModTask {
      */
     @Override
     protected boolean execute() {
+        boolean succeeded = false;
+        try {
+            succeeded = installFlow();
+        } finally {
+            // Notify the flow database of the end of flow installation.
+            VTNManagerImpl mgr = getVTNManager();
+            FlowGroupId gid = vtnFlow.getGroupId();
+            VTNFlowDatabase fdb = mgr.getTenantFlowDB(gid.getTenantName());
+            if (fdb != null) {
+                fdb.flowInstalled(mgr, vtnFlow, succeeded);
+            }
+        }
+
+        return succeeded;
+    }
+
+    /**
+     * Install the VTN flow.
+     *
+     * @return  {@code true} is returned if the VTN flow was installed
+     *          successfully. Otherwise {@code false} is returned.
+     */
+    private boolean installFlow() {
         // Fix up the VTN flow.
         vtnFlow.fixUp();
 
@@ -240,6 +263,8 @@ public class FlowAddTask extends RemoteFlowModTask {
      *
      * @param entries  A list of {@code FlowEntry} to store flow entries
      *                 in the target VTN flow except for the ingress flow.
+     *                 Flow entries installed by other VTN flows are not
+     *                 stored.
      * @return  Upon successful completion, a {@code FlowEntry} object
      *          associated with the ingress flow is returned.
      *          Otherwise {@code null} is returned.
@@ -254,8 +279,14 @@ public class FlowAddTask extends RemoteFlowModTask {
         }
 
         FlowEntry ingress = it.next();
+        String gname = vtnFlow.getGroupId().toString();
         while (it.hasNext()) {
-            entries.add(it.next());
+            // Shared flow entry installed by another VTN flow must not be
+            // installed again.
+            FlowEntry fent = it.next();
+            if (gname.equals(fent.getGroupName())) {
+                entries.add(fent);
+            }
         }
 
         // This class expects that the ingress flow is installed to local node.
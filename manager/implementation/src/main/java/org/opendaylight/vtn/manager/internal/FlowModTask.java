@@ -223,6 +223,47 @@ public abstract class FlowModTask extends AbstractVTNFuture<FlowModResult>
         return true;
     }
 
+    /**
+     * Modify a single flow entry in local node.
+     *
+     * @param frm   Forwarding rule manager service.
+     * @param cur   A flow entry currently installed.
+     * @param fent  A flow entry which replaces {@code cur}.
+     *              It must be associated with the same node as
+     *              {@code cur}.
+     * @return  {@code true} is returned if the given flow entry was modified
+     *          successfully.
+     */
+    protected boolean modifyLocal(IForwardingRulesManager frm, FlowEntry cur,
+                                  FlowEntry fent) {
+        Status status;
+        TimerTask alarm = vtnManager.setFlowModAlarm();
+        try {
+            status = frm.modifyFlowEntry(cur, fent);
+        } finally {
+            vtnManager.cancelAlarm(alarm);
+        }
+
+        Logger logger = getLogger();
+        if (!status.isSuccess()) {
+            if (exists(fent.getNode())) {
+                logger.error("{}: Failed to modify flow entry: " +
+                             "status={}, current={}, entry={}",
+                             vtnManager.getContainerName(), status, cur, fent);
+            } else if (logger.isTraceEnabled()) {
+                logger.trace("{}: Failed to modify flow entry: No node: " +
+                             "entry={}", vtnManager.getContainerName(), fent);
+            }
+            return false;
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}: Modified flow entry: current={}, entry={}",
+                         vtnManager.getContainerName(), cur, fent);
+        }
+        return true;
+    }
+
     /**
      * Uninstall a single flow entry from local node.
      *
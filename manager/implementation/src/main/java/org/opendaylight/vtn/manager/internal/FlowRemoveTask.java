@@ -119,6 +119,34 @@ public class FlowRemoveTask extends RemoteFlowModTask {
         taskTimeout = (long)vc.getBulkFlowModTimeout();
     }
 
+    /**
+     * Return a set of VTN flow identifiers to be removed only for unit test.
+     *
+     * @return  A set of VTN flow identifiers.
+     */
+    Set<FlowGroupId> getGroupSet() {
+        return new HashSet<FlowGroupId>(groupSet);
+    }
+
+    /**
+     * Return a list of ingress flows to be removed only for unit test.
+     *
+     * @return  A list of ingress flows.
+     */
+    List<FlowEntry> getIngressFlows() {
+        return new ArrayList<FlowEntry>(ingressFlows);
+    }
+
+    /**
+     * Return a list of flow entries to be removed except for ingress flows
+     * only for unit test.
+     *
+     * @return  A list of flow entries.
+     */
+    List<FlowEntry> getFlowEntries() {
+        return new ArrayList<FlowEntry>(flowEntries);
+    }
+
     /**
      * Wait for completion of this task.
      *
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.internal.cluster.FlowGroupId;
+import org.opendaylight.vtn.manager.internal.cluster.FlowModResult;
+import org.opendaylight.vtn.manager.internal.cluster.ObjectPair;
+import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
+
+import org.opendaylight.controller.connectionmanager.IConnectionManager;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.forwardingrulesmanager.
+    IForwardingRulesManager;
+import org.opendaylight.controller.sal.connection.ConnectionLocality;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.match.Match;
+
+/**
+ * This class implements flow programming task which moves a VTN flow to
+ * a new packet route without breaking the flow.
+ *
+ * <p>
+ *   Flow entries for the new route are installed before the ingress flow
+ *   is switched to the new route, and flow entries no longer used are
+ *   uninstalled after that. Flow entries which have the same match as the
+ *   old flow entries are modified in place. If the VTN flow can not be
+ *   rerouted, flow entries of both VTN flows are uninstalled.
+ * </p>
+ * <p>
+ *   Note that the forwarding rules manager modifies a flow entry only if
+ *   the new flow entry has the same name. So the new VTN flow must have
+ *   the same flow group ID as the old VTN flow.
+ * </p>
+ */
+public class FlowRerouteTask extends FlowModTask {
+    /**
+     * Logger instance.
+     */
+    private static final Logger  LOG =
+        LoggerFactory.getLogger(FlowRerouteTask.class);
+
+    /**
+     * A VTN flow to be replaced.
+     */
+    private final VTNFlow  oldFlow;
+
+    /**
+     * A VTN flow which forwards packets along the new route.
+     */
+    private final VTNFlow  newFlow;
+
+    /**
+     * Flow entries in {@link #oldFlow} to be uninstalled except for the
+     * ingress flow.
+     */
+    private final List<FlowEntry>  obsoleteFlows;
+
+    /**
+     * The system time, in nanoseconds, when the link failure was detected.
+     */
+    private final long  startTime;
+
+    /**
+     * Construct a new flow reroute task.
+     *
+     * @param mgr       VTN Manager service.
+     * @param ctx       MD-SAL datastore transaction context.
+     * @param oldflow   A VTN flow to be replaced.
+     * @param newflow   A VTN flow which replaces {@code oldflow}.
+     * @param obsolete  A list of flow entries in {@code oldflow} to be
+     *                  uninstalled except for the ingress flow.
+     * @param start     The system time, in nanoseconds, when the link
+     *                  failure was detected.
+     */
+    FlowRerouteTask(VTNManagerImpl mgr, TxContext ctx, VTNFlow oldflow,
+                    VTNFlow newflow, List<FlowEntry> obsolete, long start) {
+        super(mgr, ctx);
+        oldFlow = oldflow;
+        newFlow = newflow;
+        obsoleteFlows = obsolete;
+        startTime = start;
+    }
+
+    /**
+     * Return the VTN flow to be replaced only for unit test.
+     *
+     * @return  A VTN flow to be replaced.
+     */
+    VTNFlow getOldFlow() {
+        return oldFlow;
+    }
+
+    /**
+     * Return the VTN flow which forwards packets along the new route
+     * only for unit test.
+     *
+     * @return  A VTN flow which replaces the old VTN flow.
+     */
+    VTNFlow getNewFlow() {
+        return newFlow;
+    }
+
+    /**
+     * Return flow entries in the old VTN flow to be uninstalled only for
+     * unit test.
+     *
+     * @return  A list of flow entries except for the ingress flow.
+     */
+    List<FlowEntry> getObsoleteFlows() {
+        return obsoleteFlows;
+    }
+
+    /**
+     * Execute flow reroute task.
+     *
+     * @return  {@code true} is returned if this task completed successfully.
+     *          Otherwise {@code false} is returned.
+     */
+    @Override
+    protected boolean execute() {
+        VTNManagerImpl mgr = getVTNManager();
+        FlowSetupStats stats = mgr.getFlowSetupStats();
+        if (!reroute()) {
+            stats.rerouteFailed();
+            return false;
+        }
+
+        long nanos = System.nanoTime() - startTime;
+        stats.flowRerouted(nanos);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{}: VTN flow rerouted in {} us: group={}",
+                      mgr.getContainerName(),
+                      TimeUnit.NANOSECONDS.toMicros(nanos),
+                      newFlow.getGroupId());
+        }
+
+        return true;
+    }
+
+    /**
+     * Return a logger object for this class.
+     *
+     * @return  A logger object.
+     */
+    @Override
+    protected Logger getLogger() {
+        return LOG;
+    }
+
+    /**
+     * Move the VTN flow to the new route.
+     *
+     * @return  {@code true} is returned if the VTN flow was rerouted
+     *          successfully. Otherwise {@code false} is returned.
+     */
+    private boolean reroute() {
+        newFlow.fixUp();
+
+        // All the switches must be connected to this controller.
+        List<FlowEntry> entries = newFlow.getFlowEntries();
+        if (!isLocal(entries) || !isLocal(obsoleteFlows)) {
+            abort(null, null);
+            return false;
+        }
+
+        // Flow entries which have the same match as old flow entries are
+        // modified in place.
+        Map<ObjectPair<Node, Match>, FlowEntry> obsolete =
+            new HashMap<ObjectPair<Node, Match>, FlowEntry>();
+        for (FlowEntry fent: obsoleteFlows) {
+            obsolete.put(getKey(fent), fent);
+        }
+
+        // Install flow entries except for ingress flow.
+        VTNManagerImpl mgr = getVTNManager();
+        IForwardingRulesManager frm = mgr.getForwardingRuleManager();
+        List<LocalFlowAddTask> local = new ArrayList<LocalFlowAddTask>();
+        List<FlowEntry> modified = new ArrayList<FlowEntry>();
+        boolean succeeded = true;
+        for (FlowEntry fent: entries.subList(1, entries.size())) {
+            FlowEntry cur = obsolete.remove(getKey(fent));
+            if (cur != null) {
+                if (cur.getFlowName().equals(fent.getFlowName())) {
+                    modified.add(fent);
+                    if (!modifyLocal(frm, cur, fent)) {
+                        succeeded = false;
+                        break;
+                    }
+                    continue;
+                }
+
+                // The flow entry is at a different position in the new
+                // route, so it has to be reinstalled.
+                if (!uninstallLocal(frm, cur)) {
+                    succeeded = false;
+                    break;
+                }
+            }
+
+            LocalFlowAddTask task =
+                new LocalFlowAddTask(mgr, getTxContext(), fent);
+            local.add(task);
+            mgr.postAsync(task);
+        }
+
+        for (LocalFlowAddTask task: local) {
+            if (task.waitFor() != FlowModResult.SUCCEEDED) {
+                succeeded = false;
+            }
+        }
+        if (!succeeded) {
+            abort(local, modified);
+            return false;
+        }
+
+        // Switch the ingress flow to the new route.
+        // The new VTN flow replaces the old one in the cluster cache
+        // because they have the same flow group ID.
+        ConcurrentMap<FlowGroupId, VTNFlow> db = mgr.getFlowDB();
+        db.put(newFlow.getGroupId(), newFlow);
+        if (!modifyLocal(frm, oldFlow.getFlowEntries().get(0),
+                         entries.get(0))) {
+            abort(local, modified);
+            return false;
+        }
+
+        // Uninstall flow entries no longer used.
+        for (FlowEntry fent: obsolete.values()) {
+            uninstallLocal(frm, fent);
+        }
+
+        return true;
+    }
+
+    /**
+     * Determine whether all the given flow entries are installed to
+     * switches connected to this controller.
+     *
+     * <p>
+     *   Flow entries in removed switches are ignored.
+     * </p>
+     *
+     * @param entries  A list of flow entries.
+     * @return  {@code true} only if all the given flow entries are
+     *          associated with local switches.
+     */
+    private boolean isLocal(List<FlowEntry> entries) {
+        VTNManagerImpl mgr = getVTNManager();
+        IConnectionManager cnm = mgr.getConnectionManager();
+        for (FlowEntry fent: entries) {
+            Node node = fent.getNode();
+            ConnectionLocality cl = cnm.getLocalityStatus(node);
+            if (cl == ConnectionLocality.NOT_LOCAL ||
+                (cl != ConnectionLocality.LOCAL && exists(node))) {
+                LOG.debug("{}: Unable to reroute VTN flow via non-local " +
+                          "node: group={}, node={}", mgr.getContainerName(),
+                          oldFlow.getGroupId(), node);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Uninstall flow entries of both VTN flows because the VTN flow could
+     * not be rerouted.
+     *
+     * @param local     A list of local flow add tasks for the new route.
+     *                  {@code null} means no flow entry was installed.
+     * @param modified  A list of flow entries modified in place.
+     *                  {@code null} means no flow entry was modified.
+     */
+    private void abort(List<LocalFlowAddTask> local,
+                       List<FlowEntry> modified) {
+        VTNManagerImpl mgr = getVTNManager();
+        LOG.warn("{}: Failed to reroute VTN flow: group={}",
+                 mgr.getContainerName(), oldFlow.getGroupId());
+
+        // Remove the new VTN flow from the flow database.
+        FlowGroupId gid = newFlow.getGroupId();
+        VTNFlowDatabase fdb = mgr.getTenantFlowDB(gid.getTenantName());
+        if (fdb != null) {
+            fdb.removeIndex(mgr, newFlow);
+        }
+
+        ConcurrentMap<FlowGroupId, VTNFlow> db = mgr.getFlowDB();
+        db.remove(gid);
+
+        // Uninstall the ingress flow at first.
+        IForwardingRulesManager frm = mgr.getForwardingRuleManager();
+        uninstallLocal(frm, oldFlow.getFlowEntries().get(0));
+
+        // Flow entries modified in place or reinstalled must be uninstalled
+        // by the new flow entries.
+        Map<ObjectPair<Node, Match>, FlowEntry> entries =
+            new LinkedHashMap<ObjectPair<Node, Match>, FlowEntry>();
+        for (FlowEntry fent: obsoleteFlows) {
+            entries.put(getKey(fent), fent);
+        }
+        if (modified != null) {
+            for (FlowEntry fent: modified) {
+                entries.put(getKey(fent), fent);
+            }
+        }
+        if (local != null) {
+            for (LocalFlowAddTask task: local) {
+                if (task.waitFor() == FlowModResult.SUCCEEDED) {
+                    FlowEntry fent = task.getFlowEntry();
+                    entries.put(getKey(fent), fent);
+                }
+            }
+        }
+
+        for (FlowEntry fent: entries.values()) {
+            uninstallLocal(frm, fent);
+        }
+    }
+
+    /**
+     * Return a key which identifies the given flow entry in a switch.
+     *
+     * @param fent  A flow entry.
+     * @return  A pair of the target node and the match of the given flow
+     *          entry.
+     */
+    private static ObjectPair<Node, Match> getKey(FlowEntry fent) {
+        return new ObjectPair<Node, Match>(fent.getNode(),
+                                           fent.getFlow().getMatch());
+    }
+}
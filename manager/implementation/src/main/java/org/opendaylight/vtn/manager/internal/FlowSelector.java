@@ -9,6 +9,8 @@
 
 package org.opendaylight.vtn.manager.internal;
 
+import java.util.Collection;
+
 import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
 
 /**
@@ -25,6 +27,23 @@ public interface FlowSelector {
      */
     boolean accept(VTNFlow vflow);
 
+    /**
+     * Return VTN flows which may be accepted by this selector.
+     *
+     * <p>
+     *   This method is used to narrow down VTN flows to be passed to
+     *   {@link #accept(VTNFlow)} by indices maintained by the given
+     *   VTN flow database. Note that this method is called with holding
+     *   the lock of the given VTN flow database.
+     * </p>
+     *
+     * @param fdb  The VTN flow database to be scanned.
+     * @return  A collection of VTN flows which may be accepted by this
+     *          selector. {@code null} if all VTN flows in {@code fdb}
+     *          need to be tested.
+     */
+    Collection<VTNFlow> getCandidates(VTNFlowDatabase fdb);
+
     /**
      * Return a brief description about this filter.
      *
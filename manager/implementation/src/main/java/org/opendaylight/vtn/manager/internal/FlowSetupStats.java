@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code FlowSetupStats} keeps statistics about VTN flow setup.
+ *
+ * <p>
+ *   This class is thread-safe.
+ * </p>
+ */
+public final class FlowSetupStats {
+    /**
+     * The number of PACKET_IN messages handled without route resolution
+     * because the same flow was being installed.
+     */
+    private final AtomicLong  suppressedPackets = new AtomicLong();
+
+    /**
+     * The number of VTN flows successfully installed.
+     */
+    private final AtomicLong  installedFlows = new AtomicLong();
+
+    /**
+     * The number of VTN flows which could not be installed.
+     */
+    private final AtomicLong  failedFlows = new AtomicLong();
+
+    /**
+     * The sum of time, in nanoseconds, taken to install VTN flows.
+     */
+    private final AtomicLong  totalInstallTime = new AtomicLong();
+
+    /**
+     * The maximum time, in nanoseconds, taken to install a VTN flow.
+     */
+    private final AtomicLong  maxInstallTime = new AtomicLong();
+
+    /**
+     * The number of VTN flows successfully rerouted.
+     */
+    private final AtomicLong  reroutedFlows = new AtomicLong();
+
+    /**
+     * The number of VTN flows which could not be rerouted.
+     */
+    private final AtomicLong  rerouteFailedFlows = new AtomicLong();
+
+    /**
+     * The sum of time, in nanoseconds, taken to reroute VTN flows.
+     */
+    private final AtomicLong  totalRerouteTime = new AtomicLong();
+
+    /**
+     * The maximum time, in nanoseconds, taken to reroute a VTN flow.
+     */
+    private final AtomicLong  maxRerouteTime = new AtomicLong();
+
+    /**
+     * Update the given maximum value.
+     *
+     * @param max    An {@link AtomicLong} instance which keeps the maximum
+     *               value.
+     * @param value  A value to be compared with the current maximum value.
+     */
+    private static void updateMax(AtomicLong max, long value) {
+        long cur;
+        do {
+            cur = max.get();
+            if (value <= cur) {
+                break;
+            }
+        } while (!max.compareAndSet(cur, value));
+    }
+
+    /**
+     * Return the average of the given total value.
+     *
+     * @param total  The sum of time in nanoseconds.
+     * @param count  The number of samples.
+     * @param unit   Time unit of the returned value.
+     * @return  The average time. Zero is returned if {@code count} is zero.
+     */
+    private static long getAverage(long total, long count, TimeUnit unit) {
+        long avg = (count == 0) ? 0 : total / count;
+        return unit.convert(avg, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a PACKET_IN suppressed by an in-flight VTN flow.
+     */
+    public void packetSuppressed() {
+        suppressedPackets.incrementAndGet();
+    }
+
+    /**
+     * Record a VTN flow that has been installed.
+     *
+     * @param nanos  Time, in nanoseconds, elapsed from the flow creation
+     *               until the ingress flow was installed.
+     */
+    public void flowInstalled(long nanos) {
+        installedFlows.incrementAndGet();
+        totalInstallTime.addAndGet(nanos);
+        updateMax(maxInstallTime, nanos);
+    }
+
+    /**
+     * Record a VTN flow which could not be installed.
+     */
+    public void flowFailed() {
+        failedFlows.incrementAndGet();
+    }
+
+    /**
+     * Record a VTN flow that has been rerouted.
+     *
+     * @param nanos  Time, in nanoseconds, elapsed from the detection of the
+     *               link failure until the ingress flow was switched to the
+     *               new route.
+     */
+    public void flowRerouted(long nanos) {
+        reroutedFlows.incrementAndGet();
+        totalRerouteTime.addAndGet(nanos);
+        updateMax(maxRerouteTime, nanos);
+    }
+
+    /**
+     * Record a VTN flow which could not be rerouted.
+     */
+    public void rerouteFailed() {
+        rerouteFailedFlows.incrementAndGet();
+    }
+
+    /**
+     * Return the number of PACKET_IN messages suppressed by in-flight
+     * VTN flows.
+     *
+     * @return  The number of suppressed PACKET_IN messages.
+     */
+    public long getSuppressedPackets() {
+        return suppressedPackets.get();
+    }
+
+    /**
+     * Return the number of VTN flows successfully installed.
+     *
+     * @return  The number of installed VTN flows.
+     */
+    public long getInstalledFlows() {
+        return installedFlows.get();
+    }
+
+    /**
+     * Return the number of VTN flows which could not be installed.
+     *
+     * @return  The number of failed VTN flows.
+     */
+    public long getFailedFlows() {
+        return failedFlows.get();
+    }
+
+    /**
+     * Return the average time taken to install a VTN flow.
+     *
+     * @param unit  Time unit of the returned value.
+     * @return  The average time to install a VTN flow.
+     *          Zero is returned if no VTN flow has been installed.
+     */
+    public long getAverageInstallTime(TimeUnit unit) {
+        return getAverage(totalInstallTime.get(), installedFlows.get(), unit);
+    }
+
+    /**
+     * Return the maximum time taken to install a VTN flow.
+     *
+     * @param unit  Time unit of the returned value.
+     * @return  The maximum time to install a VTN flow.
+     */
+    public long getMaxInstallTime(TimeUnit unit) {
+        return unit.convert(maxInstallTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Return the number of VTN flows successfully rerouted.
+     *
+     * @return  The number of rerouted VTN flows.
+     */
+    public long getReroutedFlows() {
+        return reroutedFlows.get();
+    }
+
+    /**
+     * Return the number of VTN flows which could not be rerouted.
+     *
+     * @return  The number of VTN flows removed instead of being rerouted.
+     */
+    public long getRerouteFailedFlows() {
+        return rerouteFailedFlows.get();
+    }
+
+    /**
+     * Return the average time taken to reroute a VTN flow.
+     *
+     * @param unit  Time unit of the returned value.
+     * @return  The average time to reroute a VTN flow.
+     *          Zero is returned if no VTN flow has been rerouted.
+     */
+    public long getAverageRerouteTime(TimeUnit unit) {
+        return getAverage(totalRerouteTime.get(), reroutedFlows.get(), unit);
+    }
+
+    /**
+     * Return the maximum time taken to reroute a VTN flow.
+     *
+     * @param unit  Time unit of the returned value.
+     * @return  The maximum time to reroute a VTN flow.
+     */
+    public long getMaxRerouteTime(TimeUnit unit) {
+        return unit.convert(maxRerouteTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Return a string representation of this object.
+     *
+     * @return  A string representation of this object.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("FlowSetupStats[");
+        builder.append("suppressed=").append(getSuppressedPackets()).
+            append(",installed=").append(getInstalledFlows()).
+            append(",failed=").append(getFailedFlows()).
+            append(",avg=").
+            append(getAverageInstallTime(TimeUnit.MICROSECONDS)).
+            append("us,max=").
+            append(getMaxInstallTime(TimeUnit.MICROSECONDS)).
+            append("us,rerouted=").append(getReroutedFlows()).
+            append(",rerouteFailed=").append(getRerouteFailedFlows()).
+            append(",rerouteAvg=").
+            append(getAverageRerouteTime(TimeUnit.MICROSECONDS)).
+            append("us,rerouteMax=").
+            append(getMaxRerouteTime(TimeUnit.MICROSECONDS)).
+            append("us]");
+
+        return builder.toString();
+    }
+}
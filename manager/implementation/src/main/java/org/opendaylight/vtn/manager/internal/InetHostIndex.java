@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opendaylight.vtn.manager.VBridgePath;
+
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+
+/**
+ * {@code InetHostIndex} is an index of hosts learned by MAC address tables,
+ * keyed by IP address.
+ *
+ * <p>
+ *   An IP address may be learned by more than one vBridge, so each IP
+ *   address is associated with a map which keeps MAC address table entries
+ *   per vBridge. Within one vBridge, an IP address is associated with the
+ *   MAC address table entry which learned it most recently.
+ * </p>
+ * <p>
+ *   IP addresses are distributed over a fixed number of shards, and each
+ *   shard is guarded by its own lock. This class is thread-safe.
+ * </p>
+ */
+public final class InetHostIndex {
+    /**
+     * The number of shards. This must be a power of 2.
+     */
+    private static final int  NUM_SHARDS = 16;
+
+    /**
+     * A shard of the index.
+     */
+    private static final class Shard {
+        /**
+         * A map which keeps MAC address table entries per IP address.
+         */
+        private final Map<InetAddress, Map<VBridgePath, MacTableEntry>>  hosts =
+            new HashMap<InetAddress, Map<VBridgePath, MacTableEntry>>();
+
+        /**
+         * Associate the given MAC address table entry with the given
+         * IP address.
+         *
+         * @param path  Path to the vBridge which learned the host.
+         * @param addr  An IP address of the host.
+         * @param tent  A MAC address table entry.
+         */
+        private synchronized void add(VBridgePath path, InetAddress addr,
+                                      MacTableEntry tent) {
+            Map<VBridgePath, MacTableEntry> map = hosts.get(addr);
+            if (map == null) {
+                map = new HashMap<VBridgePath, MacTableEntry>();
+                hosts.put(addr, map);
+            }
+            map.put(path, tent);
+        }
+
+        /**
+         * Remove the association between the given IP address and the
+         * MAC address.
+         *
+         * @param path  Path to the vBridge which learned the host.
+         * @param addr  An IP address of the host.
+         * @param mac   A long value which represents the MAC address.
+         */
+        private synchronized void remove(VBridgePath path, InetAddress addr,
+                                         long mac) {
+            Map<VBridgePath, MacTableEntry> map = hosts.get(addr);
+            if (map != null) {
+                MacTableEntry tent = map.get(path);
+                if (tent != null && tent.getMacAddress() == mac) {
+                    map.remove(path);
+                    if (map.isEmpty()) {
+                        hosts.remove(addr);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Return the MAC address table entry associated with the given
+         * IP address in the given vBridge.
+         *
+         * @param path  Path to the vBridge.
+         * @param addr  An IP address.
+         * @return  A MAC address table entry if found.
+         *          {@code null} if not found.
+         */
+        private synchronized MacTableEntry get(VBridgePath path,
+                                               InetAddress addr) {
+            Map<VBridgePath, MacTableEntry> map = hosts.get(addr);
+            return (map == null) ? null : map.get(path);
+        }
+
+        /**
+         * Return all the MAC address table entries associated with the
+         * given IP address.
+         *
+         * @param addr  An IP address.
+         * @return  A map which keeps MAC address table entries per vBridge.
+         *          An empty map if not found.
+         */
+        private synchronized Map<VBridgePath, MacTableEntry> get(
+            InetAddress addr) {
+            Map<VBridgePath, MacTableEntry> map = hosts.get(addr);
+            if (map == null) {
+                return Collections.<VBridgePath, MacTableEntry>emptyMap();
+            }
+
+            return new HashMap<VBridgePath, MacTableEntry>(map);
+        }
+
+        /**
+         * Remove all entries in this shard.
+         */
+        private synchronized void clear() {
+            hosts.clear();
+        }
+    }
+
+    /**
+     * Shards of the index.
+     */
+    private final Shard[]  shards;
+
+    /**
+     * Construct a new instance.
+     */
+    public InetHostIndex() {
+        shards = new Shard[NUM_SHARDS];
+        for (int i = 0; i < NUM_SHARDS; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Associate the given MAC address table entry with the given IP address.
+     *
+     * @param path  Path to the vBridge which learned the host.
+     * @param addr  An IP address of the host.
+     * @param tent  A MAC address table entry.
+     */
+    public void add(VBridgePath path, InetAddress addr, MacTableEntry tent) {
+        getShard(addr).add(path, addr, tent);
+    }
+
+    /**
+     * Remove the association between the given IP address and the MAC
+     * address.
+     *
+     * <p>
+     *   Nothing is removed if the IP address is associated with another
+     *   MAC address in the given vBridge.
+     * </p>
+     *
+     * @param path  Path to the vBridge which learned the host.
+     * @param addr  An IP address of the host.
+     * @param mac   A long value which represents the MAC address.
+     */
+    public void remove(VBridgePath path, InetAddress addr, long mac) {
+        getShard(addr).remove(path, addr, mac);
+    }
+
+    /**
+     * Return the MAC address table entry associated with the given IP
+     * address in the given vBridge.
+     *
+     * @param path  Path to the vBridge.
+     * @param addr  An IP address.
+     * @return  A MAC address table entry if found.
+     *          {@code null} if not found.
+     */
+    public MacTableEntry get(VBridgePath path, InetAddress addr) {
+        return getShard(addr).get(path, addr);
+    }
+
+    /**
+     * Return all the MAC address table entries associated with the given
+     * IP address.
+     *
+     * @param addr  An IP address.
+     * @return  A map which keeps MAC address table entries per vBridge.
+     *          An empty map is returned if not found.
+     */
+    public Map<VBridgePath, MacTableEntry> get(InetAddress addr) {
+        return getShard(addr).get(addr);
+    }
+
+    /**
+     * Remove all entries in this index.
+     */
+    public void clear() {
+        for (Shard shard: shards) {
+            shard.clear();
+        }
+    }
+
+    /**
+     * Return the shard which keeps the given IP address.
+     *
+     * @param addr  An IP address.
+     * @return  A {@link Shard} instance.
+     */
+    private Shard getShard(InetAddress addr) {
+        int h = addr.hashCode();
+        h ^= (h >>> 16);
+        return shards[h & (NUM_SHARDS - 1)];
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@code LatencyHistogram} keeps a histogram of latency values.
+ *
+ * <p>
+ *   Values are counted in log-linear buckets. Every power of 2 range is
+ *   divided into {@link #SUB_BUCKETS} linear buckets, so the relative error
+ *   of a recorded value never exceeds 1/{@link #SUB_BUCKETS}. Recording a
+ *   value costs a few atomic increments, and does not allocate any object.
+ * </p>
+ * <p>
+ *   This class is thread-safe.
+ * </p>
+ */
+public final class LatencyHistogram {
+    /**
+     * The number of bits used to divide a power of 2 range.
+     */
+    private static final int  SUB_BITS = 4;
+
+    /**
+     * The number of linear buckets in a power of 2 range.
+     */
+    static final int  SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * A mask to extract sub bucket index.
+     */
+    private static final long  SUB_MASK = SUB_BUCKETS - 1;
+
+    /**
+     * The number of buckets.
+     */
+    private static final int  NUM_BUCKETS =
+        (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+    /**
+     * Counters for buckets.
+     */
+    private final AtomicLongArray  buckets = new AtomicLongArray(NUM_BUCKETS);
+
+    /**
+     * The number of recorded values.
+     */
+    private final AtomicLong  count = new AtomicLong();
+
+    /**
+     * The sum of recorded values.
+     */
+    private final AtomicLong  total = new AtomicLong();
+
+    /**
+     * The maximum value.
+     */
+    private final AtomicLong  maximum = new AtomicLong();
+
+    /**
+     * Return the index of the bucket for the given value.
+     *
+     * @param value  A value. It must not be negative.
+     * @return  The index of the bucket.
+     */
+    static int getIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int)value;
+        }
+
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) -
+            SUB_BITS;
+        int sub = (int)((value >>> shift) & SUB_MASK);
+        return ((shift + 1) << SUB_BITS) + sub;
+    }
+
+    /**
+     * Return the largest value counted in the given bucket.
+     *
+     * @param index  The index of the bucket.
+     * @return  The largest value counted in the given bucket.
+     */
+    static long getUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return (long)index;
+        }
+
+        int shift = (index >>> SUB_BITS) - 1;
+        long base = (long)((index & (int)SUB_MASK) + SUB_BUCKETS + 1);
+        return (base << shift) - 1L;
+    }
+
+    /**
+     * Record the given value.
+     *
+     * @param value  A value to be recorded.
+     *               A negative value is treated as zero.
+     */
+    public void record(long value) {
+        long v = (value < 0) ? 0 : value;
+        buckets.incrementAndGet(getIndex(v));
+        count.incrementAndGet();
+        total.addAndGet(v);
+
+        long cur;
+        do {
+            cur = maximum.get();
+            if (v <= cur) {
+                break;
+            }
+        } while (!maximum.compareAndSet(cur, v));
+    }
+
+    /**
+     * Return the number of recorded values.
+     *
+     * @return  The number of recorded values.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Return the average of recorded values.
+     *
+     * @return  The average value.
+     *          Zero is returned if no value is recorded.
+     */
+    public long getAverage() {
+        long c = count.get();
+        return (c == 0) ? 0 : total.get() / c;
+    }
+
+    /**
+     * Return the maximum value.
+     *
+     * @return  The maximum value.
+     */
+    public long getMax() {
+        return maximum.get();
+    }
+
+    /**
+     * Return the value at the given percentile.
+     *
+     * <p>
+     *   The returned value is the upper bound of the bucket which contains
+     *   the value at the given percentile, but never exceeds the maximum
+     *   value.
+     * </p>
+     *
+     * @param percentile  A percentile, from 0 to 100.
+     * @return  The value at the given percentile.
+     *          Zero is returned if no value is recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[NUM_BUCKETS];
+        long sum = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            long c = buckets.get(i);
+            counts[i] = c;
+            sum += c;
+        }
+        if (sum == 0) {
+            return 0;
+        }
+
+        double p = Math.min(Math.max(percentile, 0d), 100d);
+        long target = Math.max((long)Math.ceil(sum * p / 100d), 1L);
+        long max = maximum.get();
+        long acc = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            acc += counts[i];
+            if (acc >= target) {
+                return Math.min(getUpperBound(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Discard all the recorded values.
+     *
+     * <p>
+     *   Note that values recorded concurrently may be lost.
+     * </p>
+     */
+    public void clear() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        maximum.set(0);
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.TreeMap;
@@ -25,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.MacAddressEntry;
 import org.opendaylight.vtn.manager.VBridgePath;
 import org.opendaylight.vtn.manager.VTNException;
@@ -35,10 +37,13 @@ import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
 import org.opendaylight.vtn.manager.internal.cluster.MacTableEntryId;
 import org.opendaylight.vtn.manager.internal.cluster.VBridgeNode;
 import org.opendaylight.vtn.manager.internal.util.MiscUtils;
+import org.opendaylight.vtn.manager.internal.util.PageCursor;
+import org.opendaylight.vtn.manager.internal.util.packet.ArpPacketBuilder;
 
 import org.opendaylight.controller.hosttracker.hostAware.HostNodeConnector;
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.packet.Ethernet;
 import org.opendaylight.controller.sal.packet.address.DataLinkAddress;
 import org.opendaylight.controller.sal.packet.address.EthernetAddress;
 import org.opendaylight.controller.sal.utils.Status;
@@ -82,8 +87,13 @@ public class MacAddressTable {
 
     /**
      * MAC address table.
+     *
+     * <p>
+     *   Entries are sorted by MAC address so that cursor-based listing can
+     *   resume iteration at the position where the previous page ended.
+     * </p>
      */
-    private Map<Long, MacTableEntry>  macAddressTable =
+    private NavigableMap<Long, MacTableEntry>  macAddressTable =
         new TreeMap<Long, MacTableEntry>();
 
     /**
@@ -127,6 +137,7 @@ public class MacAddressTable {
                     }
                     removed.add(tent.getEntryId());
                     it.remove();
+                    unindex(tent);
                 }
             }
 
@@ -629,7 +640,8 @@ public class MacAddressTable {
         Map<Long, MacTableEntry> table = macAddressTable;
         if (table != null) {
             Long key = Long.valueOf(tent.getMacAddress());
-            table.put(key, tent);
+            unindex(table.put(key, tent));
+            index(tent);
         }
     }
 
@@ -665,6 +677,7 @@ public class MacAddressTable {
         if (table != null) {
             MacTableEntry tent = table.remove(key);
             if (tent != null) {
+                unindex(tent);
                 vtnManager.removeMacTableEntry(tent.getEntryId());
             }
         }
@@ -691,6 +704,48 @@ public class MacAddressTable {
         return list;
     }
 
+    /**
+     * Return MAC address entries in the page specified by the given cursor.
+     *
+     * <p>
+     *   MAC address entries are returned in ascending order of MAC address.
+     * </p>
+     *
+     * @param cursor  A {@link PageCursor} instance which specifies the page
+     *                to be returned.
+     * @return  A {@link ListPage} instance which contains MAC address
+     *          entries.
+     * @throws VTNException  An error occurred.
+     */
+    public synchronized ListPage<MacAddressEntry> getEntries(
+        PageCursor cursor) throws VTNException {
+        NavigableMap<Long, MacTableEntry> table = macAddressTable;
+        if (table == null) {
+            return new ListPage<MacAddressEntry>(null, null);
+        }
+
+        Long last = cursor.getLastKey();
+        if (last != null) {
+            table = table.tailMap(last, false);
+        }
+
+        int limit = cursor.getLimit();
+        List<MacAddressEntry> list = new ArrayList<MacAddressEntry>();
+        for (Iterator<Map.Entry<Long, MacTableEntry>> it =
+                 table.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Long, MacTableEntry> entry = it.next();
+            list.add(entry.getValue().getEntry());
+            if (list.size() >= limit) {
+                String next = (it.hasNext())
+                    ? cursor.next(entry.getKey().longValue())
+                    : null;
+                return new ListPage<MacAddressEntry>(list, next);
+            }
+        }
+
+        return new ListPage<MacAddressEntry>(list, null);
+    }
+
     /**
      * Return a MAC address entry associated with the specified MAC address.
      *
@@ -739,6 +794,7 @@ public class MacAddressTable {
             if (tent == null) {
                 return null;
             }
+            unindex(tent);
             vtnManager.removeMacTableEntry(tent.getEntryId());
         }
 
@@ -763,6 +819,89 @@ public class MacAddressTable {
         return (tent == null) ? null : tent.getInetAddresses();
     }
 
+    /**
+     * Return the MAC address table entry associated with the specified
+     * IP address.
+     *
+     * <p>
+     *   This method never affects the used flag of the MAC address table
+     *   entry.
+     * </p>
+     *
+     * @param addr  An {@link InetAddress} instance.
+     * @return  A MAC address table entry if found. {@code null} if not found.
+     */
+    public synchronized MacTableEntry getEntryByInetAddress(InetAddress addr) {
+        Map<Long, MacTableEntry> table = macAddressTable;
+        if (table == null) {
+            return null;
+        }
+
+        InetHostIndex index = vtnManager.getInetHostIndex();
+        MacTableEntry tent = index.get(bridgePath, addr);
+        if (tent == null) {
+            return null;
+        }
+
+        Long key = Long.valueOf(tent.getMacAddress());
+        return table.get(key);
+    }
+
+    /**
+     * Determine whether an ARP request should be sent to the host specified
+     * by the given MAC address table entry in order to refresh the entry.
+     *
+     * <p>
+     *   Refresh requests are sent at most twice per aging interval so that
+     *   an entry for a host which no longer exists is aged out.
+     * </p>
+     *
+     * @param tent  A MAC address table entry in this table.
+     * @return  {@code true} is returned if a refresh request should be sent.
+     *          Otherwise {@code false}.
+     */
+    public boolean isRefreshNeeded(MacTableEntry tent) {
+        long interval = TimeUnit.SECONDS.toMillis((long)ageInterval) / 2L;
+        return tent.isRefreshNeeded(System.currentTimeMillis(), interval);
+    }
+
+    /**
+     * Send a unicast ARP request to the host specified by the given
+     * MAC address table entry if the entry needs to be refreshed.
+     *
+     * <p>
+     *   This method is used by both the ARP proxy and host discovery, so
+     *   the host is probed at most twice per aging interval in total.
+     * </p>
+     *
+     * @param tent  A MAC address table entry in this table.
+     * @param addr  The IP address of the host.
+     * @return  {@code true} is returned if an ARP request was sent.
+     *          Otherwise {@code false}.
+     * @see #isRefreshNeeded(MacTableEntry)
+     */
+    public boolean refresh(MacTableEntry tent, InetAddress addr) {
+        if (!isRefreshNeeded(tent)) {
+            return false;
+        }
+
+        EtherAddress src =
+            vtnManager.getVTNConfig().getControllerMacAddress();
+        EtherAddress dst = new EtherAddress(tent.getMacAddress());
+        Ethernet ether = new ArpPacketBuilder((int)tent.getVlan()).
+            build(src, dst, addr);
+        if (ether == null) {
+            return false;
+        }
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{}: Send an ARP request to known host: tpa={}, " +
+                      "host={}", getTableName(), addr.getHostAddress(), tent);
+        }
+        vtnManager.transmit(tent.getPort(), ether);
+        return true;
+    }
+
     /**
      * Flush all MAC address table entries.
      */
@@ -936,6 +1075,8 @@ public class MacAddressTable {
 
         Long key = Long.valueOf(tent.getMacAddress());
         MacTableEntry old = table.put(key, tent);
+        unindex(old);
+        index(tent);
         if (LOG.isTraceEnabled()) {
             String tname = getTableName();
             if (old != null) {
@@ -969,7 +1110,11 @@ public class MacAddressTable {
         if (!tent.getEntryId().equals(id)) {
             // Another entry is mapped to this MAC address.
             table.put(key, tent);
-        } else if (LOG.isTraceEnabled()) {
+            return;
+        }
+
+        unindex(tent);
+        if (LOG.isTraceEnabled()) {
             LOG.trace("{}: MAC address was removed by another controller: {}",
                       getTableName(), tent);
         }
@@ -1070,6 +1215,7 @@ public class MacAddressTable {
                           getTableName(), tent);
             }
             table.put(key, tent);
+            index(tent);
             vtnManager.putMacTableEntry(tent);
 
             // Obsolete flow entries may remain when a host is moved to other
@@ -1091,10 +1237,12 @@ public class MacAddressTable {
             }
             pctx.addObsoleteEntry(tent);
             vtnManager.removeMacTableEntry(tent.getEntryId());
+            unindex(tent);
 
             // Replace the table entry.
             newEnt = new MacTableEntry(mapPath, key, port, vlan, ipaddr);
             table.put(key, newEnt);
+            index(newEnt);
             vtnManager.putMacTableEntry(newEnt);
             changed = true;
 
@@ -1105,6 +1253,8 @@ public class MacAddressTable {
                 // Append IP address to this entry.
                 changed = tent.addInetAddress(ipaddr);
                 if (changed) {
+                    vtnManager.getInetHostIndex().add(bridgePath, ipaddr,
+                                                      tent);
                     vtnManager.updateMacTableEntry(tent);
                 }
             }
@@ -1121,6 +1271,48 @@ public class MacAddressTable {
         return newEnt;
     }
 
+    /**
+     * Add IP addresses in the given MAC address table entry to the global
+     * IP address index.
+     *
+     * <p>
+     *   Note that this method must be called with holding the lock for
+     *   this instance.
+     * </p>
+     *
+     * @param tent  A MAC address table entry.
+     */
+    private void index(MacTableEntry tent) {
+        InetHostIndex index = vtnManager.getInetHostIndex();
+        for (InetAddress addr: tent.getInetAddresses()) {
+            index.add(bridgePath, addr, tent);
+        }
+    }
+
+    /**
+     * Remove IP addresses in the given MAC address table entry from the
+     * global IP address index.
+     *
+     * <p>
+     *   An IP address is retained if it has already been associated with
+     *   another MAC address.
+     *   Note that this method must be called with holding the lock for
+     *   this instance.
+     * </p>
+     *
+     * @param tent  A MAC address table entry.
+     *              {@code null} is ignored.
+     */
+    private void unindex(MacTableEntry tent) {
+        if (tent != null) {
+            InetHostIndex index = vtnManager.getInetHostIndex();
+            long mac = tent.getMacAddress();
+            for (InetAddress addr: tent.getInetAddresses()) {
+                index.remove(bridgePath, addr, mac);
+            }
+        }
+    }
+
     /**
      * Return the source IP address of the received packet.
      *
@@ -9,6 +9,7 @@
 
 package org.opendaylight.vtn.manager.internal;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -225,6 +226,19 @@ public final class MacMapCleaner
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *   This method always returns {@code null} because mapping of
+     *   edge hosts is not indexed.
+     * </p>
+     */
+    @Override
+    public Collection<VTNFlow> getCandidates(VTNFlowDatabase fdb) {
+        return null;
+    }
+
     /**
      * {@inheritDoc}
      */
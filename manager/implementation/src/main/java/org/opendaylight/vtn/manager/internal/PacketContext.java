@@ -699,6 +699,33 @@ public class PacketContext implements Cloneable, FlowMatchContext {
         }
     }
 
+    /**
+     * Create match for a flow entry shared with all source hosts which
+     * send packets to the same destination host.
+     *
+     * <p>
+     *   The returned match tests only the incoming switch port, VLAN ID,
+     *   and the destination MAC address.
+     * </p>
+     *
+     * @param inPort  A node connector associated with incoming switch port.
+     * @return  A match object that matches packets destined for the
+     *          destination host of the received packet.
+     */
+    public Match createAggregatedMatch(NodeConnector inPort) {
+        assert !flooding;
+        Match match = new Match();
+        match.setField(MatchType.IN_PORT, inPort);
+
+        // Note that this code expects MatchType.DL_VLAN_NONE is zero.
+        match.setField(MatchType.DL_VLAN,
+                       (short)etherFrame.getOriginalVlan());
+        match.setField(MatchType.DL_DST,
+                       etherFrame.getDestinationAddress().getBytes());
+
+        return match;
+    }
+
     /**
      * Create match for a flow entry.
      *
@@ -874,6 +901,24 @@ public class PacketContext implements Cloneable, FlowMatchContext {
         return (pri + nmatches);
     }
 
+    /**
+     * Return a priority value for flow entries shared with all source hosts
+     * which send packets to the same destination host.
+     *
+     * <p>
+     *   A shared flow entry created by {@link #createAggregatedMatch(NodeConnector)}
+     *   matches a superset of packets matched by exact flow entries which
+     *   have the same incoming port. So it is installed with a priority
+     *   strictly lower than any exact flow entry.
+     * </p>
+     *
+     * @return  A flow priority value for shared flow entries.
+     */
+    public int getAggregatedFlowPriority() {
+        VTNManagerProvider provider = txContext.getProvider();
+        return provider.getVTNConfig().getL2FlowPriority() - 1;
+    }
+
     /**
      * Install a flow entry that discards the packet.
      *
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+/**
+ * {@code PacketStage} describes a stage of the PACKET_IN processing pipeline
+ * measured by {@link PacketStats}.
+ */
+public enum PacketStage {
+    /**
+     * Decoding a received packet.
+     */
+    PARSE("parse"),
+
+    /**
+     * Waiting in the MD-SAL transaction queue.
+     */
+    TX_QUEUE_WAIT("txqueue"),
+
+    /**
+     * Determining the virtual mapping for the received packet.
+     */
+    MAP_REFERENCE("mapref"),
+
+    /**
+     * Handling the received packet in the VTN.
+     */
+    TENANT_RECEIVE("receive"),
+
+    /**
+     * Evaluating a flow filter list.
+     */
+    FLOW_FILTER("flowfilter"),
+
+    /**
+     * Evaluating path maps.
+     */
+    PATH_MAP("pathmap"),
+
+    /**
+     * Resolving the packet route.
+     */
+    ROUTE_RESOLVE("route"),
+
+    /**
+     * Creating a VTN flow and posting it to the flow task thread.
+     */
+    FLOW_INSTALL("install"),
+
+    /**
+     * Completion of the flow add task, measured from the time when the
+     * VTN flow was posted.
+     */
+    FLOW_ADD_TASK("flowadd");
+
+    /**
+     * The name of this stage.
+     */
+    private final String  stageName;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name  The name of this stage.
+     */
+    private PacketStage(String name) {
+        stageName = name;
+    }
+
+    /**
+     * Return the name of this stage.
+     *
+     * @return  The name of this stage.
+     */
+    public String getStageName() {
+        return stageName;
+    }
+}
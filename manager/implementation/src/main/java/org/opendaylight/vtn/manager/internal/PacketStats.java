@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.PacketStageStats;
+
+/**
+ * {@code PacketStats} keeps latency statistics about the PACKET_IN
+ * processing pipeline.
+ *
+ * <p>
+ *   Latency of each {@link PacketStage} is recorded in a
+ *   {@link LatencyHistogram} for the whole container, and in another one
+ *   for the VTN which handles the packet. The latency measurement is
+ *   disabled by default. While disabled, {@link #start()} returns zero
+ *   without reading the system clock, and
+ *   {@link #record(PacketStage, String, long)} ignores zero.
+ * </p>
+ * <p>
+ *   This class is thread-safe.
+ * </p>
+ */
+public final class PacketStats implements PacketStatsMXBean {
+    /**
+     * Logger instance.
+     */
+    private static final Logger  LOG =
+        LoggerFactory.getLogger(PacketStats.class);
+
+    /**
+     * The name of the MXBean.
+     */
+    private static final String  MXBEAN_NAME =
+        "org.opendaylight.vtn.manager:type=PacketStats";
+
+    /**
+     * Percentiles returned as statistics.
+     */
+    private static final double[]  PERCENTILES = {50d, 90d, 99d};
+
+    /**
+     * An instance which never records latency.
+     */
+    public static final PacketStats  DISABLED = new PacketStats();
+
+    /**
+     * Determine whether the latency measurement is enabled or not.
+     */
+    private volatile boolean  enabled;
+
+    /**
+     * Latency histograms for the whole container, indexed by the ordinal of
+     * {@link PacketStage}.
+     */
+    private final LatencyHistogram[]  globalStats = newHistograms();
+
+    /**
+     * Latency histograms for each VTN.
+     */
+    private final ConcurrentMap<String, LatencyHistogram[]>  tenantStats =
+        new ConcurrentHashMap<String, LatencyHistogram[]>();
+
+    /**
+     * The name of the registered MXBean.
+     */
+    private ObjectName  mxbeanName;
+
+    /**
+     * Create an array of latency histograms for all the pipeline stages.
+     *
+     * @return  An array of {@link LatencyHistogram} instances.
+     */
+    private static LatencyHistogram[] newHistograms() {
+        PacketStage[] stages = PacketStage.values();
+        LatencyHistogram[] array = new LatencyHistogram[stages.length];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = new LatencyHistogram();
+        }
+
+        return array;
+    }
+
+    /**
+     * Return the start time of the latency measurement.
+     *
+     * @return  The current system time in nanoseconds if the latency
+     *          measurement is enabled. Otherwise zero.
+     */
+    public long start() {
+        return (enabled) ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record the latency of the given pipeline stage.
+     *
+     * @param stage  The pipeline stage.
+     * @param tname  The name of the VTN which handled the packet.
+     *               {@code null} means the VTN is not yet determined.
+     * @param start  The value returned by {@link #start()} when the stage
+     *               began. Nothing is recorded if zero is specified.
+     */
+    public void record(PacketStage stage, String tname, long start) {
+        if (start == 0L || !enabled) {
+            return;
+        }
+
+        long nanos = System.nanoTime() - start;
+        int idx = stage.ordinal();
+        globalStats[idx].record(nanos);
+
+        if (tname != null) {
+            LatencyHistogram[] hists = tenantStats.get(tname);
+            if (hists == null) {
+                hists = newHistograms();
+                LatencyHistogram[] old = tenantStats.putIfAbsent(tname, hists);
+                if (old != null) {
+                    hists = old;
+                }
+            }
+            hists[idx].record(nanos);
+        }
+    }
+
+    /**
+     * Discard latency statistics for the given VTN.
+     *
+     * @param tname  The name of the VTN.
+     */
+    public void removeTenant(String tname) {
+        tenantStats.remove(tname);
+    }
+
+    /**
+     * Register this instance to the platform MBean server.
+     */
+    public synchronized void register() {
+        if (mxbeanName != null) {
+            return;
+        }
+
+        try {
+            ObjectName name = new ObjectName(MXBEAN_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(this, name);
+            mxbeanName = name;
+        } catch (Exception e) {
+            LOG.warn("Failed to register packet statistics MXBean.", e);
+        }
+    }
+
+    /**
+     * Unregister this instance from the platform MBean server.
+     */
+    public synchronized void unregister() {
+        ObjectName name = mxbeanName;
+        if (name == null) {
+            return;
+        }
+
+        mxbeanName = null;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.unregisterMBean(name);
+        } catch (Exception e) {
+            LOG.warn("Failed to unregister packet statistics MXBean.", e);
+        }
+    }
+
+    /**
+     * Convert the given latency histograms into a list of
+     * {@link PacketStageStats} instances.
+     *
+     * @param hists  An array of latency histograms.
+     *               {@code null} means no latency has been recorded.
+     * @return  A list of {@link PacketStageStats} instances.
+     */
+    private List<PacketStageStats> toStageStats(LatencyHistogram[] hists) {
+        PacketStage[] stages = PacketStage.values();
+        List<PacketStageStats> list =
+            new ArrayList<PacketStageStats>(stages.length);
+        for (PacketStage stage: stages) {
+            String name = stage.getStageName();
+            if (hists == null) {
+                list.add(new PacketStageStats(name, 0L, 0L, 0L, 0L, 0L, 0L));
+                continue;
+            }
+
+            LatencyHistogram h = hists[stage.ordinal()];
+            long[] pc = new long[PERCENTILES.length];
+            for (int i = 0; i < pc.length; i++) {
+                pc[i] = toMicros(h.getPercentile(PERCENTILES[i]));
+            }
+            list.add(new PacketStageStats(
+                         name, h.getCount(), toMicros(h.getAverage()),
+                         toMicros(h.getMax()), pc[0], pc[1], pc[2]));
+        }
+
+        return list;
+    }
+
+    /**
+     * Convert the given nanoseconds into microseconds.
+     *
+     * @param nanos  Time in nanoseconds.
+     * @return  Time in microseconds.
+     */
+    private long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    // PacketStatsMXBean
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setEnabled(boolean en) {
+        if (this == DISABLED) {
+            return;
+        }
+
+        synchronized (this) {
+            if (en && !enabled) {
+                clear();
+            }
+            enabled = en;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PacketStageStats> getStageStats() {
+        return toStageStats(globalStats);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PacketStageStats> getTenantStageStats(String tname) {
+        return toStageStats(tenantStats.get(tname));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (LatencyHistogram h: globalStats) {
+            h.clear();
+        }
+        tenantStats.clear();
+    }
+}
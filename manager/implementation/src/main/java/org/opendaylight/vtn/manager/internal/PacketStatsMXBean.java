@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.List;
+
+import org.opendaylight.vtn.manager.PacketStageStats;
+
+/**
+ * JMX management interface for latency statistics about the PACKET_IN
+ * processing pipeline.
+ */
+public interface PacketStatsMXBean {
+    /**
+     * Determine whether the latency measurement is enabled or not.
+     *
+     * @return  {@code true} only if the latency measurement is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Enable or disable the latency measurement.
+     *
+     * <p>
+     *   Statistics measured previously are discarded when the latency
+     *   measurement is enabled.
+     * </p>
+     *
+     * @param enabled  {@code true} to enable the latency measurement.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Return latency statistics about all the pipeline stages.
+     *
+     * @return  A list of {@link PacketStageStats} instances.
+     */
+    List<PacketStageStats> getStageStats();
+
+    /**
+     * Return latency statistics about all the pipeline stages measured
+     * for the specified VTN.
+     *
+     * @param tname  The name of the VTN.
+     * @return  A list of {@link PacketStageStats} instances.
+     */
+    List<PacketStageStats> getTenantStageStats(String tname);
+
+    /**
+     * Discard all the latency statistics.
+     */
+    void clear();
+}
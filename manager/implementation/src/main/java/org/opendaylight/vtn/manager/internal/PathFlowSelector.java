@@ -9,6 +9,8 @@
 
 package org.opendaylight.vtn.manager.internal;
 
+import java.util.Collection;
+
 import org.opendaylight.vtn.manager.VTenantPath;
 import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
 
@@ -42,6 +44,14 @@ public class PathFlowSelector implements FlowSelector {
         return vflow.dependsOn(nodePath);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<VTNFlow> getCandidates(VTNFlowDatabase fdb) {
+        return fdb.getFlowsByPath(nodePath);
+    }
+
     /**
      * {@inheritDoc}
      */
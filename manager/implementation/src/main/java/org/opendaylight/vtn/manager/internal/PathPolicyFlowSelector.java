@@ -9,6 +9,7 @@
 
 package org.opendaylight.vtn.manager.internal;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 
@@ -52,6 +53,14 @@ public class PathPolicyFlowSelector implements FlowSelector {
         return policyIds.contains(vflow.getPathPolicy());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<VTNFlow> getCandidates(VTNFlowDatabase fdb) {
+        return fdb.getFlowsByPathPolicy(policyIds);
+    }
+
     /**
      * {@inheritDoc}
      */
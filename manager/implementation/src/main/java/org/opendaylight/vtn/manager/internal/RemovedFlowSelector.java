@@ -9,8 +9,11 @@
 
 package org.opendaylight.vtn.manager.internal;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
 
@@ -48,24 +51,57 @@ public class RemovedFlowSelector implements FlowSelector {
      */
     @Override
     public boolean accept(VTNFlow vflow) {
-        HashSet<String> installed = new HashSet<String>();
+        // Note that shared flow entries may be installed by another
+        // VTN flow.
         String group = vflow.getGroupId().toString();
-        for (FlowEntry fent: fwRulesManager.getFlowEntriesForGroup(group)) {
-            installed.add(fent.getFlowName());
+        Map<String, Set<String>> installed =
+            new HashMap<String, Set<String>>();
+        int count = 0;
+        for (FlowEntry fent: vflow.getFlowEntries()) {
+            String gname = fent.getGroupName();
+            Set<String> names = installed.get(gname);
+            if (names == null) {
+                names = getInstalledFlows(gname);
+                installed.put(gname, names);
+            }
+            if (!names.contains(fent.getFlowName())) {
+                return true;
+            }
+            if (group.equals(gname)) {
+                count++;
+            }
         }
 
-        List<FlowEntry> entries = vflow.getFlowEntries();
-        if (entries.size() != installed.size()) {
-            return true;
-        }
+        Set<String> names = installed.get(group);
+        return (names == null || names.size() != count);
+    }
 
-        for (FlowEntry fent: entries) {
-            if (!installed.contains(fent.getFlowName())) {
-                return true;
-            }
+    /**
+     * Return a set of flow names installed in the given flow group.
+     *
+     * @param group  The name of the flow group.
+     * @return  A set of flow names.
+     */
+    private Set<String> getInstalledFlows(String group) {
+        Set<String> names = new HashSet<String>();
+        for (FlowEntry fent: fwRulesManager.getFlowEntriesForGroup(group)) {
+            names.add(fent.getFlowName());
         }
 
-        return false;
+        return names;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     *   This method always returns {@code null} because flow entries
+     *   removed from switches are not indexed.
+     * </p>
+     */
+    @Override
+    public Collection<VTNFlow> getCandidates(VTNFlowDatabase fdb) {
+        return null;
     }
 
     /**
@@ -10,29 +10,43 @@
 package org.opendaylight.vtn.manager.internal;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.VTenantPath;
 import org.opendaylight.vtn.manager.flow.DataFlow;
 
 import org.opendaylight.vtn.manager.internal.cluster.FlowGroupId;
 import org.opendaylight.vtn.manager.internal.cluster.MacVlan;
+import org.opendaylight.vtn.manager.internal.cluster.ObjectPair;
 import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
 import org.opendaylight.vtn.manager.internal.util.MiscUtils;
+import org.opendaylight.vtn.manager.internal.util.PageCursor;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
 
 import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Output;
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.flowprogrammer.Flow;
@@ -49,6 +63,20 @@ public class VTNFlowDatabase {
     private static final Logger  LOG =
         LoggerFactory.getLogger(VTNFlowDatabase.class);
 
+    /**
+     * A comparator which sorts VTN flows in ascending order of flow
+     * identifier.
+     */
+    private static final Comparator<VTNFlow>  FLOW_ID_ORDER =
+        new Comparator<VTNFlow>() {
+            @Override
+            public int compare(VTNFlow f1, VTNFlow f2) {
+                long id1 = f1.getGroupId().getEventId();
+                long id2 = f2.getGroupId().getEventId();
+                return (id1 < id2) ? -1 : ((id1 == id2) ? 0 : 1);
+            }
+        };
+
     /**
      * The name of the virtual tenant.
      */
@@ -65,30 +93,133 @@ public class VTNFlowDatabase {
      *
      * <p>
      *   A cluster event ID configured in {@link FlowGroupId} is used as the
-     *   map key.
+     *   map key. Flows are sorted by the map key so that cursor-based
+     *   listing can resume iteration at the position where the previous
+     *   page ended.
      * </p>
      */
-    private final Map<Long, VTNFlow>  groupFlows =
-        new HashMap<Long, VTNFlow>();
+    private final NavigableMap<Long, VTNFlow>  groupFlows =
+        new TreeMap<Long, VTNFlow>();
 
     /**
      * Flow entries in the VTN indexed by related node.
+     *
+     * <p>
+     *   Flows in each index entry are sorted by flow identifier as well as
+     *   {@link #groupFlows} so that cursor-based listing can page over
+     *   the index.
+     * </p>
      */
-    private final Map<Node, Set<VTNFlow>>  nodeFlows =
-        new HashMap<Node, Set<VTNFlow>>();
+    private final Map<Node, NavigableSet<VTNFlow>>  nodeFlows =
+        new HashMap<Node, NavigableSet<VTNFlow>>();
 
     /**
      * Flow entries in the VTN indexed by related switch port.
      */
-    private final Map<NodeConnector, Set<VTNFlow>>  portFlows =
-        new HashMap<NodeConnector, Set<VTNFlow>>();
+    private final Map<NodeConnector, NavigableSet<VTNFlow>>  portFlows =
+        new HashMap<NodeConnector, NavigableSet<VTNFlow>>();
 
     /**
      * Flow entries in the VTN indexed by the source host, which is represented
      * by a pair of MAC address and VLAN ID.
      */
-    private final Map<MacVlan, Set<VTNFlow>>  sourceHostFlows =
-        new HashMap<MacVlan, Set<VTNFlow>>();
+    private final Map<MacVlan, NavigableSet<VTNFlow>>  sourceHostFlows =
+        new HashMap<MacVlan, NavigableSet<VTNFlow>>();
+
+    /**
+     * Flow entries in the VTN indexed by the virtual node path on which
+     * they depend.
+     *
+     * <p>
+     *   Note that a VTN flow also depends on virtual nodes which contain
+     *   the virtual node specified by the map key.
+     * </p>
+     */
+    private final Map<VTenantPath, Set<VTNFlow>>  pathFlows =
+        new HashMap<VTenantPath, Set<VTNFlow>>();
+
+    /**
+     * Flow entries in the VTN indexed by the identifier of the path policy
+     * which routed them.
+     */
+    private final Map<Integer, Set<VTNFlow>>  pathPolicyFlows =
+        new HashMap<Integer, Set<VTNFlow>>();
+
+    /**
+     * Flow entries in the VTN indexed by inter-switch link.
+     */
+    private final Map<LinkEdge, Set<VTNFlow>>  linkFlows =
+        new HashMap<LinkEdge, Set<VTNFlow>>();
+
+    /**
+     * VTN flows being installed, indexed by the match of the ingress flow.
+     *
+     * <p>
+     *   A VTN flow is added to this map when it is indexed by
+     *   {@link #install(VTNManagerImpl, VTNFlow)}, and is removed when
+     *   the flow installation task completes. PACKET_IN messages that match
+     *   the ingress flow of a pending VTN flow are forwarded without
+     *   creating another VTN flow.
+     * </p>
+     */
+    private final Map<Match, PendingFlow>  pendingFlows =
+        new HashMap<Match, PendingFlow>();
+
+    /**
+     * A VTN flow being installed.
+     */
+    private static final class PendingFlow {
+        /**
+         * The VTN flow being installed.
+         */
+        private final VTNFlow  vtnFlow;
+
+        /**
+         * The system time, in nanoseconds, when the flow installation
+         * was requested.
+         */
+        private final long  startTime = System.nanoTime();
+
+        /**
+         * Construct a new instance.
+         *
+         * @param vflow  The VTN flow being installed.
+         */
+        private PendingFlow(VTNFlow vflow) {
+            vtnFlow = vflow;
+        }
+    }
+
+    /**
+     * Flow entries shared by VTN flows, indexed by the pair of the target
+     * node and the match.
+     */
+    private final Map<ObjectPair<Node, Match>, SharedFlow>  sharedFlows =
+        new HashMap<ObjectPair<Node, Match>, SharedFlow>();
+
+    /**
+     * A flow entry shared by VTN flows.
+     */
+    private static final class SharedFlow {
+        /**
+         * The flow entry installed by the VTN flow which created it.
+         */
+        private final FlowEntry  flowEntry;
+
+        /**
+         * A set of VTN flows that use this flow entry.
+         */
+        private final Set<VTNFlow>  users = new HashSet<VTNFlow>();
+
+        /**
+         * Construct a new instance.
+         *
+         * @param fent  The flow entry to be shared.
+         */
+        private SharedFlow(FlowEntry fent) {
+            flowEntry = fent;
+        }
+    }
 
     /**
      * Fix broken flow entry originated by Open vSwitch.
@@ -184,9 +315,11 @@ public class VTNFlowDatabase {
             if (match(mgr, ingress)) {
                 ingressFlows.add(ingress);
             }
+
+            releaseSharedFlows(vflow);
             while (it.hasNext()) {
                 FlowEntry fent = it.next();
-                if (match(mgr, fent)) {
+                if (isUninstallable(vflow, fent) && match(mgr, fent)) {
                     flowEntries.add(fent);
                 }
             }
@@ -291,6 +424,11 @@ public class VTNFlowDatabase {
 
         // Create indices for the given VTN flow.
         if (createIndex(mgr, vflow)) {
+            // Suppress subsequent PACKET_IN for this flow until the flow
+            // installation completes.
+            Match match = vflow.getFlowEntries().get(0).getFlow().getMatch();
+            pendingFlows.put(match, new PendingFlow(vflow));
+
             // Rest of work will be done by the VTN flow task thread.
             TxContext ctx = provider.newTxContext();
             FlowAddTask task = new FlowAddTask(mgr, ctx, vflow);
@@ -299,28 +437,167 @@ public class VTNFlowDatabase {
     }
 
     /**
-     * Invoked when a SAL flow has expired.
+     * Determine whether a VTN flow whose ingress flow has the given match
+     * is being installed or not.
      *
      * <p>
-     *   Note that the given SAL flow must be associated with an ingress flow
-     *   of a VTN flow.
+     *   If this method returns {@code true}, the caller can forward the
+     *   packet without resolving the packet route and creating a new
+     *   VTN flow.
      * </p>
      *
      * @param mgr    VTN Manager service.
-     * @param entry  A flow entry object which contains expired SAL flow.
-     * @param rmIn   If {@code true} is specified, this method tries to remove
-     *               ingress flow from the forwarding rule manager.
+     * @param match  The match of the ingress flow for the received packet.
+     * @return  {@code true} is returned only if a VTN flow for the given
+     *          match is being installed.
+     */
+    public synchronized boolean isFlowPending(VTNManagerImpl mgr,
+                                              Match match) {
+        PendingFlow pf = pendingFlows.get(match);
+        if (pf == null) {
+            return false;
+        }
+
+        // Ignore pending flow if the flow installation seems to be stuck.
+        VTNConfig vc = mgr.getVTNConfig();
+        long timeout = TimeUnit.MILLISECONDS.toNanos(
+            (long)vc.getFlowModTimeout() +
+            (long)vc.getRemoteFlowModTimeout());
+        if (System.nanoTime() - pf.startTime > timeout) {
+            LOG.debug("{}:{}: Pending VTN flow expired: group={}",
+                      mgr.getContainerName(), tenantName,
+                      pf.vtnFlow.getGroupId());
+            pendingFlows.remove(match);
+            return false;
+        }
+
+        mgr.getFlowSetupStats().packetSuppressed();
+        return true;
+    }
+
+    /**
+     * Invoked when the installation of the given VTN flow has completed.
+     *
+     * @param mgr        VTN Manager service.
+     * @param vflow      A VTN flow.
+     * @param succeeded  {@code true} if the VTN flow has been installed
+     *                   successfully.
+     */
+    synchronized void flowInstalled(VTNManagerImpl mgr, VTNFlow vflow,
+                                    boolean succeeded) {
+        PendingFlow pf = removePending(vflow);
+        FlowSetupStats stats = mgr.getFlowSetupStats();
+        if (!succeeded) {
+            stats.flowFailed();
+        } else if (pf != null) {
+            long nanos = System.nanoTime() - pf.startTime;
+            stats.flowInstalled(nanos);
+            mgr.getPacketStats().record(PacketStage.FLOW_ADD_TASK,
+                                        tenantName, pf.startTime);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("{}:{}: VTN flow installed in {} us: group={}",
+                          mgr.getContainerName(), tenantName,
+                          TimeUnit.NANOSECONDS.toMicros(nanos),
+                          vflow.getGroupId());
+            }
+        }
+    }
+
+    /**
+     * Remove the given VTN flow from the pending flow map.
+     *
+     * @param vflow  A VTN flow.
+     * @return  A {@link PendingFlow} instance associated with the given
+     *          VTN flow, or {@code null} if not found.
+     */
+    private PendingFlow removePending(VTNFlow vflow) {
+        List<FlowEntry> entries = vflow.getFlowEntries();
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Match match = entries.get(0).getFlow().getMatch();
+        PendingFlow pf = pendingFlows.get(match);
+        if (pf != null && pf.vtnFlow == vflow) {
+            pendingFlows.remove(match);
+            return pf;
+        }
+
+        return null;
+    }
+
+    /**
+     * Invoked when SAL flows have expired.
+     *
+     * <p>
+     *   Note that the given SAL flows must be associated with ingress flows
+     *   of VTN flows. Flow entries which need to be uninstalled are
+     *   uninstalled by a single {@link FlowRemoveTask}.
+     * </p>
+     *
+     * @param mgr      VTN Manager service.
+     * @param entries  A list of flow entries which contain expired SAL flows.
+     * @param rmIn     If {@code true} is specified, this method tries to
+     *                 remove ingress flows from the forwarding rule manager.
+     * @return  A list of flow entries in {@code entries} which are not
+     *          contained in this instance.
+     */
+    public synchronized List<FlowEntry> flowRemoved(VTNManagerImpl mgr,
+                                                    List<FlowEntry> entries,
+                                                    boolean rmIn) {
+        List<FlowEntry> missed = new ArrayList<FlowEntry>();
+        Set<FlowGroupId> gidSet = new HashSet<FlowGroupId>();
+        List<FlowEntry> uninstall = new ArrayList<FlowEntry>();
+        for (FlowEntry entry: entries) {
+            if (!flowRemoved(mgr, entry, rmIn, gidSet, uninstall)) {
+                missed.add(entry);
+            }
+        }
+
+        if (!uninstall.isEmpty()) {
+            // Uninstall flow entries.
+            VTNManagerProvider provider = mgr.getVTNProvider();
+            if (provider != null) {
+                TxContext ctx = provider.newTxContext();
+                List<FlowEntry> empty = new ArrayList<FlowEntry>(0);
+                FlowRemoveTask task =
+                    new FlowRemoveTask(mgr, ctx, gidSet, empty, uninstall);
+                mgr.postFlowTask(task);
+            }
+        }
+
+        return missed;
+    }
+
+    /**
+     * Remove the VTN flow associated with the expired SAL flow.
+     *
+     * <p>
+     *   Note that this method must be called with holding the lock for
+     *   this instance.
+     * </p>
+     *
+     * @param mgr        VTN Manager service.
+     * @param entry      A flow entry object which contains expired SAL flow.
+     * @param rmIn       If {@code true} is specified, the ingress flow is
+     *                   also added to {@code uninstall}.
+     * @param gidSet     A set of VTN flow identifiers to store identifiers
+     *                   of removed VTN flows.
+     * @param uninstall  A list of flow entries to store flow entries to be
+     *                   uninstalled.
      * @return  {@code true} is returned if the specified flow was actually
      *          removed from this instance.
      *          {@code false} is returned if the specified flow is not
      *          contained in this instance.
      */
-    public synchronized boolean flowRemoved(VTNManagerImpl mgr,
-                                            FlowEntry entry, boolean rmIn) {
+    private boolean flowRemoved(VTNManagerImpl mgr, FlowEntry entry,
+                                boolean rmIn, Set<FlowGroupId> gidSet,
+                                List<FlowEntry> uninstall) {
         VTNFlow vflow = vtnFlows.remove(entry);
         if (vflow == null) {
             return false;
         }
+        removePending(vflow);
 
         // Remove this VTN flow from the database and the cluster cache.
         FlowGroupId gid = vflow.getGroupId();
@@ -328,6 +605,8 @@ public class VTNFlowDatabase {
         removeNodeIndex(vflow);
         removePortIndex(vflow);
         removeSourceHostIndex(vflow);
+        removeRouteIndex(vflow);
+        releaseSharedFlows(vflow);
 
         ListIterator<FlowEntry> it = vflow.getFlowEntries().listIterator();
         if (!it.hasNext()) {
@@ -343,26 +622,25 @@ public class VTNFlowDatabase {
                       mgr.getContainerName(), tenantName, gid, ingress);
         }
 
-        boolean hasNext;
         if (rmIn) {
             // Move iterator cursor backwards in order to remove ingress flow.
             it.previous();
-            hasNext = true;
-        } else {
-            hasNext = it.hasNext();
         }
 
-        if (hasNext) {
-            // Uninstall flow entries.
-            VTNManagerProvider provider = mgr.getVTNProvider();
-            if (provider != null) {
-                TxContext ctx = provider.newTxContext();
-                FlowRemoveTask task =
-                    new FlowRemoveTask(mgr, ctx, gid, null, it);
-                mgr.postFlowTask(task);
+        // Shared flow entries still used by other VTN flows must be kept.
+        boolean found = false;
+        while (it.hasNext()) {
+            FlowEntry fent = it.next();
+            if (isUninstallable(vflow, fent)) {
+                uninstall.add(fent);
+                found = true;
             }
         }
 
+        if (found) {
+            gidSet.add(gid);
+        }
+
         return true;
     }
 
@@ -381,6 +659,8 @@ public class VTNFlowDatabase {
             removeNodeIndex(vflow);
             removePortIndex(vflow);
             removeSourceHostIndex(vflow);
+            removeRouteIndex(vflow);
+            releaseSharedFlows(vflow);
         }
     }
 
@@ -500,6 +780,8 @@ public class VTNFlowDatabase {
             removeFlowIndex(vflow);
             removePortIndex(vflow);
             removeSourceHostIndex(vflow);
+            removeRouteIndex(vflow);
+            releaseSharedFlows(vflow);
             it.remove();
 
             // Collect flow entries to be uninstalled.
@@ -554,6 +836,226 @@ public class VTNFlowDatabase {
         return collector.uninstall(mgr);
     }
 
+    /**
+     * Remove VTN flows which use the given switch port as an edge port.
+     *
+     * <p>
+     *   VTN flows which use the given switch port only for inter-switch
+     *   links are kept because they are rerouted when inter-switch links
+     *   are removed from the routing table.
+     * </p>
+     *
+     * @param mgr   VTN Manager service.
+     * @param port  A node connector associated with a switch port.
+     * @return  A {@link FlowRemoveTask} object that will execute the actual
+     *          work is returned. {@code null} is returned if there is no flow
+     *          entry to be removed.
+     * @see #reroute(VTNManagerImpl, InventoryReader, Set)
+     */
+    public synchronized FlowRemoveTask removeEdgeFlows(VTNManagerImpl mgr,
+                                                       NodeConnector port) {
+        Set<VTNFlow> vflows = portFlows.get(port);
+        SalPort sport = SalPort.create(port);
+        if (vflows == null || sport == null) {
+            return null;
+        }
+
+        VTNManagerProvider provider = mgr.getVTNProvider();
+        if (provider == null) {
+            return null;
+        }
+
+        FlowCollector collector = new FlowCollector(provider.newTxContext());
+        for (VTNFlow vflow: new ArrayList<VTNFlow>(vflows)) {
+            if (isLinkOnly(vflow, sport)) {
+                continue;
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{}:{}: Remove VTN flow related to port {}: " +
+                          "group={}", mgr.getContainerName(), tenantName,
+                          port, vflow.getGroupId());
+            }
+
+            // Remove this VTN flow from the database.
+            removeIndex(mgr, vflow);
+
+            // Collect flow entries to be uninstalled.
+            collector.collect(mgr, vflow);
+        }
+
+        // Uninstall flow entries in background.
+        return collector.uninstall(mgr);
+    }
+
+    /**
+     * Determine whether the given VTN flow uses the given switch port only
+     * for inter-switch links.
+     *
+     * @param vflow  A VTN flow.
+     * @param sport  A {@link SalPort} instance.
+     * @return  {@code true} only if the given switch port is neither the
+     *          incoming port of the ingress flow nor the outgoing port of
+     *          the egress flow.
+     */
+    private static boolean isLinkOnly(VTNFlow vflow, SalPort sport) {
+        boolean link = false;
+        for (LinkEdge le: vflow.getLinkEdges()) {
+            if (sport.equals(le.getSourcePort()) ||
+                sport.equals(le.getDestinationPort())) {
+                link = true;
+                break;
+            }
+        }
+
+        if (link) {
+            // The port must not be used by the ingress or egress flow.
+            List<FlowEntry> entries = vflow.getFlowEntries();
+            FlowEntry ingress = entries.get(0);
+            Match match = ingress.getFlow().getMatch();
+            NodeConnector in =
+                (NodeConnector)match.getField(MatchType.IN_PORT).getValue();
+            if (sport.equals(SalPort.create(in))) {
+                return false;
+            }
+
+            FlowEntry egress = entries.get(entries.size() - 1);
+            for (Action action: egress.getFlow().getActions()) {
+                if (action instanceof Output &&
+                    sport.equals(SalPort.create(((Output)action).getPort()))) {
+                    return false;
+                }
+            }
+        }
+
+        return link;
+    }
+
+    /**
+     * Reroute VTN flows which forward packets via the given inter-switch
+     * links.
+     *
+     * <p>
+     *   A new VTN flow is created for each affected VTN flow using the route
+     *   resolver associated with the path policy which routed the VTN flow,
+     *   and it replaces the affected VTN flow in this database. Switches are
+     *   reprogrammed by {@link FlowRerouteTask}. VTN flows which can not be
+     *   rerouted are removed.
+     * </p>
+     *
+     * @param mgr    VTN Manager service.
+     * @param rdr    A {@link InventoryReader} instance which contains active
+     *               read transaction for the MD-SAL datastore.
+     * @param links  A set of inter-switch links removed from the routing
+     *               table.
+     * @return  The number of VTN flows to be rerouted.
+     */
+    public synchronized int reroute(VTNManagerImpl mgr, InventoryReader rdr,
+                                    Set<LinkEdge> links) {
+        Set<VTNFlow> affected = new HashSet<VTNFlow>();
+        for (LinkEdge le: links) {
+            Set<VTNFlow> vflows = linkFlows.get(le);
+            if (vflows != null) {
+                affected.addAll(vflows);
+            }
+        }
+        if (affected.isEmpty()) {
+            return 0;
+        }
+
+        VTNManagerProvider provider = mgr.getVTNProvider();
+        if (provider == null) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        FlowCollector collector = new FlowCollector(provider.newTxContext());
+        int count = 0;
+        for (VTNFlow vflow: affected) {
+            // Remove this VTN flow from the database.
+            removeIndex(mgr, vflow);
+
+            VTNFlow newFlow = createReroute(mgr, provider, rdr, vflow);
+            if (newFlow == null || !createIndex(mgr, newFlow)) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("{}:{}: Remove VTN flow which can not be " +
+                              "rerouted: group={}", mgr.getContainerName(),
+                              tenantName, vflow.getGroupId());
+                }
+                mgr.getFlowSetupStats().rerouteFailed();
+                collector.collect(mgr, vflow);
+                continue;
+            }
+
+            // Collect flow entries which may be uninstalled.
+            List<FlowEntry> obsolete = new ArrayList<FlowEntry>();
+            Iterator<FlowEntry> it = vflow.getFlowEntries().iterator();
+
+            // Ingress flow is modified by the new VTN flow.
+            it.next();
+            while (it.hasNext()) {
+                FlowEntry fent = it.next();
+                if (isUninstallable(vflow, fent)) {
+                    obsolete.add(fent);
+                }
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{}:{}: Reroute VTN flow: group={}",
+                          mgr.getContainerName(), tenantName,
+                          vflow.getGroupId());
+            }
+
+            FlowRerouteTask task =
+                new FlowRerouteTask(mgr, provider.newTxContext(), vflow,
+                                    newFlow, obsolete, start);
+            mgr.postFlowTask(task);
+            count++;
+        }
+
+        // Uninstall flow entries in background.
+        collector.uninstall(mgr);
+
+        return count;
+    }
+
+    /**
+     * Create a new VTN flow which replaces the given VTN flow.
+     *
+     * @param mgr       VTN Manager service.
+     * @param provider  VTN Manager provider service.
+     * @param rdr       A {@link InventoryReader} instance which contains
+     *                  active read transaction for the MD-SAL datastore.
+     * @param vflow     A VTN flow to be rerouted.
+     * @return  A new VTN flow.
+     *          {@code null} is returned if the given VTN flow can not be
+     *          rerouted.
+     */
+    private VTNFlow createReroute(VTNManagerImpl mgr,
+                                  VTNManagerProvider provider,
+                                  InventoryReader rdr, VTNFlow vflow) {
+        List<FlowEntry> entries = vflow.getFlowEntries();
+        int size = entries.size();
+        if (size < 2) {
+            return null;
+        }
+
+        RouteResolver rr =
+            provider.getRouteResolver(Integer.valueOf(vflow.getPathPolicy()));
+        SalNode src = SalNode.create(entries.get(0).getNode());
+        SalNode dst = SalNode.create(entries.get(size - 1).getNode());
+        if (rr == null || src == null || dst == null) {
+            return null;
+        }
+
+        List<LinkEdge> path = rr.getRoute(rdr, src, dst);
+        if (path == null) {
+            return null;
+        }
+
+        return vflow.reroute(mgr, path);
+    }
+
     /**
      * Remove all VTN flows related to the given edge network.
      *
@@ -609,6 +1111,8 @@ public class VTNFlowDatabase {
             removeFlowIndex(vflow);
             removeNodeIndex(vflow);
             removeSourceHostIndex(vflow);
+            removeRouteIndex(vflow);
+            releaseSharedFlows(vflow);
             it.remove();
 
             // Collect flow entries to be uninstalled.
@@ -688,6 +1192,8 @@ public class VTNFlowDatabase {
                 removeFlowIndex(vflow);
                 removeNodeIndex(vflow);
                 removeSourceHostIndex(vflow);
+                removeRouteIndex(vflow);
+                releaseSharedFlows(vflow);
                 it.remove();
 
                 // Collect flow entries to be uninstalled.
@@ -757,27 +1263,29 @@ public class VTNFlowDatabase {
             return null;
         }
 
+        // Narrow down VTN flows to be tested by indices if possible.
+        Collection<VTNFlow> candidates = selector.getCandidates(this);
+        if (candidates == null) {
+            candidates = new ArrayList<VTNFlow>(vtnFlows.values());
+        } else if (candidates.isEmpty()) {
+            return null;
+        }
+
         FlowCollector collector = new FlowCollector(provider.newTxContext());
-        for (Iterator<VTNFlow> it = vtnFlows.values().iterator();
-             it.hasNext();) {
-            VTNFlow vflow = it.next();
+        for (VTNFlow vflow: candidates) {
             if (selector.accept(vflow)) {
-                FlowGroupId gid = vflow.getGroupId();
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("{}:{}: Remove VTN flow accepted by filter" +
                               "({}): group={}", mgr.getContainerName(),
-                              tenantName, selector.getDescription(), gid);
+                              tenantName, selector.getDescription(),
+                              vflow.getGroupId());
                 }
 
                 // Remove this VTN flow from the database.
-                groupFlows.remove(gid.getEventId());
-                removeNodeIndex(vflow);
-                removePortIndex(vflow);
-                removeSourceHostIndex(vflow);
-                it.remove();
-
-                // Collect flow entries to be uninstalled.
-                collector.collect(mgr, vflow);
+                if (removeIndex(mgr, vflow)) {
+                    // Collect flow entries to be uninstalled.
+                    collector.collect(mgr, vflow);
+                }
             }
         }
 
@@ -822,33 +1330,36 @@ public class VTNFlowDatabase {
             return false;
         }
 
+        // Associate shared flow entries with flow entries already installed
+        // by other VTN flows. Note that this must be done before the given
+        // VTN flow is put into hash-based indices.
+        if (!acquireSharedFlows(mgr, vflow)) {
+            vtnFlows.remove(ingress);
+            groupFlows.remove(flowId);
+            return false;
+        }
+
         // Create index by related switches and switch ports.
         for (Node node: vflow.getFlowNodes()) {
-            Set<VTNFlow> vflows = nodeFlows.get(node);
-            if (vflows == null) {
-                vflows = new HashSet<VTNFlow>();
-                nodeFlows.put(node, vflows);
-            }
-            vflows.add(vflow);
+            addToSortedIndex(nodeFlows, node, vflow);
         }
         for (NodeConnector port: vflow.getFlowPorts()) {
-            Set<VTNFlow> vflows = portFlows.get(port);
-            if (vflows == null) {
-                vflows = new HashSet<VTNFlow>();
-                portFlows.put(port, vflows);
-            }
-            vflows.add(vflow);
+            addToSortedIndex(portFlows, port, vflow);
         }
 
         // Create index by the source host.
         L2Host src = vflow.getSourceHost();
-        MacVlan mvlan = src.getHost();
-        Set<VTNFlow> vflows = sourceHostFlows.get(mvlan);
-        if (vflows == null) {
-            vflows = new HashSet<VTNFlow>();
-            sourceHostFlows.put(mvlan, vflows);
+        addToSortedIndex(sourceHostFlows, src.getHost(), vflow);
+
+        // Create index by virtual nodes, path policy, and inter-switch links.
+        for (VTenantPath path: vflow.getDependedPaths()) {
+            addToIndex(pathFlows, path, vflow);
+        }
+        addToIndex(pathPolicyFlows, Integer.valueOf(vflow.getPathPolicy()),
+                   vflow);
+        for (LinkEdge le: vflow.getLinkEdges()) {
+            addToIndex(linkFlows, le, vflow);
         }
-        vflows.add(vflow);
 
         return true;
     }
@@ -885,9 +1396,14 @@ public class VTNFlowDatabase {
 
         // Clean up indices.
         groupFlows.clear();
+        pendingFlows.clear();
+        sharedFlows.clear();
         nodeFlows.clear();
         portFlows.clear();
         sourceHostFlows.clear();
+        pathFlows.clear();
+        pathPolicyFlows.clear();
+        linkFlows.clear();
 
         // Uninstall flow entries in background.
         return collector.uninstall(mgr);
@@ -920,6 +1436,8 @@ public class VTNFlowDatabase {
             removeNodeIndex(vflow);
             removePortIndex(vflow);
             removeSourceHostIndex(vflow);
+            removeRouteIndex(vflow);
+            releaseSharedFlows(vflow);
             return true;
         }
 
@@ -976,6 +1494,58 @@ public class VTNFlowDatabase {
         return list;
     }
 
+    /**
+     * Return information about VTN flows in the page specified by the
+     * given cursor.
+     *
+     * <p>
+     *   VTN flows are returned in ascending order of flow identifier.
+     *   This method holds the lock of this database only while VTN flows
+     *   in the page are picked up. Conversion into {@link DataFlow} is
+     *   done without holding the lock.
+     * </p>
+     *
+     * @param ctx       MD-SAL datastore transaction context.
+     * @param streader  If a {@link StatsReader} instance is specified,
+     *                  this method returns detailed information about the VTN
+     *                  flow including statistics information.
+     * @param update    if {@code true}, flow statistics are derived from
+     *                  physical switch.
+     * @param filter    A {@link DataFlowFilterImpl} instance which selects
+     *                  data flows to be returned.
+     * @param interval  Time interval in seconds for retrieving the average
+     *                  statistics.
+     * @param cursor    A {@link PageCursor} instance which specifies the
+     *                  page to be returned.
+     * @return  A {@link ListPage} instance which contains {@link DataFlow}
+     *          instances.
+     */
+    public ListPage<DataFlow> getFlows(TxContext ctx, StatsReader streader,
+                                       boolean update,
+                                       DataFlowFilterImpl filter,
+                                       int interval, PageCursor cursor) {
+        if (filter.isNotMatch()) {
+            // No data flow should be selected.
+            return new ListPage<DataFlow>(null, null);
+        }
+
+        List<VTNFlow> flist = new ArrayList<VTNFlow>();
+        String next = getIndexedFlows(filter, cursor, flist);
+
+        boolean detail = (streader != null);
+        List<DataFlow> list = new ArrayList<DataFlow>(flist.size());
+        for (VTNFlow vflow: flist) {
+            DataFlow df = vflow.getDataFlow(ctx, detail);
+            if (detail) {
+                FlowEntry fent = vflow.getFlowEntries().get(0);
+                streader.set(df, fent, update, interval);
+            }
+            list.add(df);
+        }
+
+        return new ListPage<DataFlow>(list, next);
+    }
+
     /**
      * Return information about the specified VTN flow present in the VTN.
      *
@@ -1012,6 +1582,64 @@ public class VTNFlowDatabase {
         return df;
     }
 
+    /**
+     * Return VTN flows which depend on the given virtual node.
+     *
+     * <p>
+     *   Note that a returned collection may contain VTN flows which do not
+     *   depend on the given virtual node. The caller must test returned
+     *   VTN flows by {@link VTNFlow#dependsOn(VTenantPath)}.
+     * </p>
+     *
+     * @param path  A path to the virtual node.
+     * @return  A collection of {@link VTNFlow} instances.
+     */
+    synchronized Collection<VTNFlow> getFlowsByPath(VTenantPath path) {
+        // The number of virtual nodes is much less than the number of
+        // VTN flows.
+        Set<VTNFlow> fset = new HashSet<VTNFlow>();
+        for (Map.Entry<VTenantPath, Set<VTNFlow>> entry:
+                 pathFlows.entrySet()) {
+            if (path.contains(entry.getKey())) {
+                fset.addAll(entry.getValue());
+            }
+        }
+
+        return fset;
+    }
+
+    /**
+     * Return VTN flows routed by the given path policies.
+     *
+     * @param ids  A set of path policy identifiers.
+     * @return  A collection of {@link VTNFlow} instances.
+     */
+    synchronized Collection<VTNFlow> getFlowsByPathPolicy(Set<Integer> ids) {
+        List<VTNFlow> list = new ArrayList<VTNFlow>();
+        for (Integer id: ids) {
+            Set<VTNFlow> fset = pathPolicyFlows.get(id);
+            if (fset != null) {
+                list.addAll(fset);
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Determine whether all the indices of VTN flows are empty or not
+     * only for unit test.
+     *
+     * @return  {@code true} only if no VTN flow is indexed.
+     */
+    synchronized boolean isIndexEmpty() {
+        return (vtnFlows.isEmpty() && groupFlows.isEmpty() &&
+                pendingFlows.isEmpty() && sharedFlows.isEmpty() &&
+                nodeFlows.isEmpty() && portFlows.isEmpty() &&
+                sourceHostFlows.isEmpty() && pathFlows.isEmpty() &&
+                pathPolicyFlows.isEmpty() && linkFlows.isEmpty());
+    }
+
     /**
      * Return a list of all VTN flows.
      *
@@ -1029,6 +1657,7 @@ public class VTNFlowDatabase {
     private synchronized void removeFlowIndex(VTNFlow vflow) {
         FlowEntry ingress = vflow.getFlowEntries().get(0);
         vtnFlows.remove(ingress);
+        removePending(vflow);
     }
 
     /**
@@ -1043,7 +1672,6 @@ public class VTNFlowDatabase {
                 vflows.remove(vflow);
                 if (vflows.isEmpty()) {
                     nodeFlows.remove(node);
-                    return;
                 }
             }
         }
@@ -1061,7 +1689,6 @@ public class VTNFlowDatabase {
                 vflows.remove(vflow);
                 if (vflows.isEmpty()) {
                     portFlows.remove(port);
-                    return;
                 }
             }
         }
@@ -1086,6 +1713,251 @@ public class VTNFlowDatabase {
         }
     }
 
+    /**
+     * Remove the given VTN flow from virtual node, path policy, and
+     * inter-switch link indices.
+     *
+     * @param vflow  A VTN flow.
+     */
+    private synchronized void removeRouteIndex(VTNFlow vflow) {
+        for (VTenantPath path: vflow.getDependedPaths()) {
+            removeFromIndex(pathFlows, path, vflow);
+        }
+        removeFromIndex(pathPolicyFlows,
+                        Integer.valueOf(vflow.getPathPolicy()), vflow);
+        for (LinkEdge le: vflow.getLinkEdges()) {
+            removeFromIndex(linkFlows, le, vflow);
+        }
+    }
+
+    /**
+     * Add the given VTN flow to the given index.
+     *
+     * @param index  A map which indexes VTN flows.
+     * @param key    The index key.
+     * @param vflow  A VTN flow.
+     * @param <K>    The type of the index key.
+     */
+    private static <K> void addToIndex(Map<K, Set<VTNFlow>> index, K key,
+                                       VTNFlow vflow) {
+        Set<VTNFlow> vflows = index.get(key);
+        if (vflows == null) {
+            vflows = new HashSet<VTNFlow>();
+            index.put(key, vflows);
+        }
+        vflows.add(vflow);
+    }
+
+    /**
+     * Add the given VTN flow to the given index which keeps VTN flows
+     * sorted by flow identifier.
+     *
+     * @param index  A map which indexes VTN flows.
+     * @param key    The index key.
+     * @param vflow  A VTN flow.
+     * @param <K>    The type of the index key.
+     */
+    private static <K> void addToSortedIndex(
+        Map<K, NavigableSet<VTNFlow>> index, K key, VTNFlow vflow) {
+        NavigableSet<VTNFlow> vflows = index.get(key);
+        if (vflows == null) {
+            vflows = new TreeSet<VTNFlow>(FLOW_ID_ORDER);
+            index.put(key, vflows);
+        }
+        vflows.add(vflow);
+    }
+
+    /**
+     * Remove the given VTN flow from the given index.
+     *
+     * @param index  A map which indexes VTN flows.
+     * @param key    The index key.
+     * @param vflow  A VTN flow.
+     * @param <K>    The type of the index key.
+     */
+    private static <K> void removeFromIndex(Map<K, Set<VTNFlow>> index,
+                                            K key, VTNFlow vflow) {
+        Set<VTNFlow> vflows = index.get(key);
+        if (vflows != null && vflows.remove(vflow) && vflows.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Return the key of the shared flow map for the given flow entry.
+     *
+     * @param fent  A flow entry.
+     * @return  A pair of the target node and the match of the given flow
+     *          entry.
+     */
+    private static ObjectPair<Node, Match> getSharedFlowKey(FlowEntry fent) {
+        return new ObjectPair<Node, Match>(fent.getNode(),
+                                           fent.getFlow().getMatch());
+    }
+
+    /**
+     * Associate shared flow entries in the given VTN flow with flow entries
+     * already installed by other VTN flows.
+     *
+     * <p>
+     *   A shared flow entry in the given VTN flow is replaced with the
+     *   installed flow entry if found. If the installed flow entry has
+     *   the same match but different actions or priority, the shared flow
+     *   entry is replaced with a flow entry which matches the packet
+     *   exactly.
+     * </p>
+     *
+     * @param mgr    VTN Manager service.
+     * @param vflow  A VTN flow to be installed.
+     * @return  {@code true} on success. {@code false} if at least one
+     *          shared flow entry conflicts with the installed flow entry,
+     *          and it could not be replaced.
+     */
+    private synchronized boolean acquireSharedFlows(VTNManagerImpl mgr,
+                                                    VTNFlow vflow) {
+        List<FlowEntry> entries =
+            new ArrayList<FlowEntry>(vflow.getSharedFlows());
+        if (entries.isEmpty()) {
+            return true;
+        }
+
+        for (Iterator<FlowEntry> it = entries.iterator(); it.hasNext();) {
+            FlowEntry fent = it.next();
+            SharedFlow sf = sharedFlows.get(getSharedFlowKey(fent));
+            if (sf == null || sf.flowEntry.getFlow().equals(fent.getFlow())) {
+                continue;
+            }
+
+            // Use exact match flow entry owned by this VTN flow.
+            if (!vflow.unshareFlow(fent)) {
+                LOG.warn("{}:{}: Shared flow conflicts with installed " +
+                         "flow: group={}, installed={}, flow={}",
+                         mgr.getContainerName(), tenantName,
+                         vflow.getGroupId(), sf.flowEntry, fent);
+                return false;
+            }
+            it.remove();
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{}:{}: Shared flow conflicts with installed " +
+                          "flow, use exact match: group={}, installed={}, " +
+                          "flow={}", mgr.getContainerName(), tenantName,
+                          vflow.getGroupId(), sf.flowEntry, fent);
+            }
+        }
+
+        for (FlowEntry fent: entries) {
+            ObjectPair<Node, Match> key = getSharedFlowKey(fent);
+            SharedFlow sf = sharedFlows.get(key);
+            if (sf == null) {
+                sharedFlows.put(key, new SharedFlow(fent));
+            } else {
+                vflow.shareFlow(fent, sf.flowEntry);
+            }
+        }
+
+        // VTN flow must be added after all the shared flow entries are
+        // fixed because its hash code depends on flow entries.
+        for (FlowEntry fent: vflow.getSharedFlows()) {
+            sharedFlows.get(getSharedFlowKey(fent)).users.add(vflow);
+        }
+
+        return true;
+    }
+
+    /**
+     * Release shared flow entries used by the given VTN flow.
+     *
+     * @param vflow  A VTN flow to be removed.
+     */
+    private synchronized void releaseSharedFlows(VTNFlow vflow) {
+        for (FlowEntry fent: vflow.getSharedFlows()) {
+            ObjectPair<Node, Match> key = getSharedFlowKey(fent);
+            SharedFlow sf = sharedFlows.get(key);
+            if (sf != null && sf.users.remove(vflow) && sf.users.isEmpty()) {
+                sharedFlows.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Determine whether the given flow entry in the given VTN flow can be
+     * uninstalled or not.
+     *
+     * <p>
+     *   Note that shared flow entries used by the given VTN flow must be
+     *   released in advance.
+     * </p>
+     *
+     * @param vflow  A VTN flow to be removed.
+     * @param fent   A flow entry in {@code vflow}.
+     * @return  {@code true} is returned if the given flow entry can be
+     *          uninstalled. {@code false} is returned if the given flow
+     *          entry is still used by another VTN flow.
+     */
+    private synchronized boolean isUninstallable(VTNFlow vflow,
+                                                 FlowEntry fent) {
+        if (!vflow.isSharedFlow(fent)) {
+            return true;
+        }
+
+        SharedFlow sf = sharedFlows.get(getSharedFlowKey(fent));
+        return (sf == null || !sf.flowEntry.equals(fent));
+    }
+
+    /**
+     * Pick up VTN flows in the page specified by the given cursor.
+     *
+     * <p>
+     *   If the given filter specifies an index, this method pages over
+     *   the index directly, so only VTN flows in the page are visited.
+     * </p>
+     *
+     * @param filter  A {@link DataFlowFilterImpl} instance.
+     * @param cursor  A {@link PageCursor} instance.
+     * @param flist   A list to store VTN flows in the page.
+     * @return  A continuation token which specifies the next page.
+     *          {@code null} is returned if no more VTN flow is present.
+     */
+    private synchronized String getIndexedFlows(DataFlowFilterImpl filter,
+                                                PageCursor cursor,
+                                                List<VTNFlow> flist) {
+        Long last = cursor.getLastKey();
+        Iterator<VTNFlow> it;
+        if (filter.getIndexType() == DataFlowFilterImpl.INDEX_NONE) {
+            NavigableMap<Long, VTNFlow> map = (last == null)
+                ? groupFlows : groupFlows.tailMap(last, false);
+            it = map.values().iterator();
+        } else {
+            NavigableSet<VTNFlow> fset = getIndexSet(filter);
+            if (fset == null) {
+                return null;
+            }
+            if (last != null) {
+                // Create a search key which has the last flow ID.
+                FlowGroupId gid =
+                    new FlowGroupId(null, last.longValue(), tenantName);
+                fset = fset.tailSet(new VTNFlow(gid), false);
+            }
+            it = fset.iterator();
+        }
+
+        int limit = cursor.getLimit();
+        while (it.hasNext()) {
+            VTNFlow vflow = it.next();
+            if (filter.select(vflow)) {
+                flist.add(vflow);
+                if (flist.size() >= limit) {
+                    return (it.hasNext())
+                        ? cursor.next(vflow.getGroupId().getEventId())
+                        : null;
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Return a list of VTN flows indexed by the index specified by
      * {@link DataFlowFilterImpl} instance.
@@ -1095,28 +1967,46 @@ public class VTNFlowDatabase {
      */
     private synchronized List<VTNFlow> getIndexedFlows(
         DataFlowFilterImpl filter) {
-        int index = filter.getIndexType();
-        Set<VTNFlow> fset;
-
-        if (index == DataFlowFilterImpl.INDEX_L2SRC) {
-            // Use source L2 host index.
-            MacVlan src = filter.getSourceHost();
-            fset = sourceHostFlows.get(src);
-        } else if (index == DataFlowFilterImpl.INDEX_PORT) {
-            // Use physical switch port index.
-            NodeConnector port = filter.getPort();
-            fset = portFlows.get(port);
-        } else if (index == DataFlowFilterImpl.INDEX_SWITCH) {
-            // Use physical switch index.
-            Node node = filter.getNode();
-            fset = nodeFlows.get(node);
-        } else {
+        if (filter.getIndexType() == DataFlowFilterImpl.INDEX_NONE) {
             // Scan all flows.
             return new ArrayList<VTNFlow>(vtnFlows.values());
         }
 
+        Set<VTNFlow> fset = getIndexSet(filter);
         return (fset == null)
             ? new ArrayList<VTNFlow>(0)
             : new ArrayList<VTNFlow>(fset);
     }
+
+    /**
+     * Return a set of VTN flows in the index specified by
+     * {@link DataFlowFilterImpl} instance.
+     *
+     * <p>
+     *   Note that this method must be called with holding the lock for
+     *   this instance.
+     * </p>
+     *
+     * @param filter  A {@link DataFlowFilterImpl} instance.
+     * @return  A set of {@link VTNFlow} instances sorted by flow identifier.
+     *          {@code null} is returned if no VTN flow is indexed, or
+     *          the given filter does not specify any index.
+     */
+    private NavigableSet<VTNFlow> getIndexSet(DataFlowFilterImpl filter) {
+        int index = filter.getIndexType();
+        if (index == DataFlowFilterImpl.INDEX_L2SRC) {
+            // Use source L2 host index.
+            return sourceHostFlows.get(filter.getSourceHost());
+        }
+        if (index == DataFlowFilterImpl.INDEX_PORT) {
+            // Use physical switch port index.
+            return portFlows.get(filter.getPort());
+        }
+        if (index == DataFlowFilterImpl.INDEX_SWITCH) {
+            // Use physical switch index.
+            return nodeFlows.get(filter.getNode());
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.IVTNManagerAware;
+
+import org.opendaylight.controller.sal.core.UpdateType;
+
+/**
+ * {@code VTNListenerDispatcher} dispatches events to
+ * {@link IVTNManagerAware} listeners registered to a container.
+ *
+ * <p>
+ *   Each listener has its own {@link VTNListenerQueue}, so a slow listener
+ *   never delays event delivery to other listeners. If events for a slow
+ *   listener are discarded, the current VTN configuration is replayed to
+ *   the listener by {@link VTNListenerResyncHandler}.
+ * </p>
+ */
+public final class VTNListenerDispatcher implements VTNListenerStatsMXBean {
+    /**
+     * Logger instance.
+     */
+    private static final Logger  LOG =
+        LoggerFactory.getLogger(VTNListenerDispatcher.class);
+
+    /**
+     * Prefix of the name of the MXBean.
+     */
+    private static final String  MXBEAN_NAME_PREFIX =
+        "org.opendaylight.vtn.manager:type=ListenerStats,container=";
+
+    /**
+     * The name of the container.
+     */
+    private final String  containerName;
+
+    /**
+     * The executor which runs event delivery tasks.
+     */
+    private final Executor  executor;
+
+    /**
+     * The handler which replays the VTN configuration to a listener.
+     */
+    private final VTNListenerResyncHandler  resyncHandler;
+
+    /**
+     * The maximum number of pending events per listener.
+     */
+    private final int  queueCapacity;
+
+    /**
+     * Event queues for registered listeners.
+     */
+    private final CopyOnWriteArrayList<VTNListenerQueue>  listenerQueues =
+        new CopyOnWriteArrayList<VTNListenerQueue>();
+
+    /**
+     * The name of the registered MXBean.
+     */
+    private ObjectName  mxbeanName;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param cname    The name of the container.
+     * @param exec     The executor which runs event delivery tasks.
+     * @param handler  The handler which replays the VTN configuration to
+     *                 a listener which missed events.
+     */
+    public VTNListenerDispatcher(String cname, Executor exec,
+                                 VTNListenerResyncHandler handler) {
+        this(cname, exec, handler, VTNListenerQueue.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param cname    The name of the container.
+     * @param exec     The executor which runs event delivery tasks.
+     * @param handler  The handler which replays the VTN configuration to
+     *                 a listener which missed events.
+     * @param cap      The maximum number of pending events per listener.
+     */
+    public VTNListenerDispatcher(String cname, Executor exec,
+                                 VTNListenerResyncHandler handler, int cap) {
+        containerName = cname;
+        executor = exec;
+        resyncHandler = handler;
+        queueCapacity = cap;
+    }
+
+    /**
+     * Add the given listener.
+     *
+     * @param listener  The listener to be added.
+     * @return  {@code true} if the given listener was added.
+     *          {@code false} if the given listener is already added.
+     */
+    public synchronized boolean add(IVTNManagerAware listener) {
+        if (find(listener) != null) {
+            return false;
+        }
+
+        listenerQueues.add(new VTNListenerQueue(listener, containerName,
+                                                executor, resyncHandler,
+                                                queueCapacity));
+        return true;
+    }
+
+    /**
+     * Remove the given listener.
+     *
+     * <p>
+     *   Events pending for the given listener are discarded.
+     * </p>
+     *
+     * @param listener  The listener to be removed.
+     * @return  {@code true} if the given listener was removed.
+     *          {@code false} if the given listener is not found.
+     */
+    public synchronized boolean remove(IVTNManagerAware listener) {
+        VTNListenerQueue queue = find(listener);
+        if (queue == null) {
+            return false;
+        }
+
+        listenerQueues.remove(queue);
+        queue.close();
+        return true;
+    }
+
+    /**
+     * Remove all listeners.
+     */
+    public synchronized void clear() {
+        for (VTNListenerQueue queue: listenerQueues) {
+            queue.close();
+        }
+        listenerQueues.clear();
+    }
+
+    /**
+     * Post the given event to all listeners.
+     *
+     * @param ev    The event to be delivered.
+     * @param type  The type of the change.
+     */
+    public void post(VTNListenerEvent ev, UpdateType type) {
+        for (VTNListenerQueue queue: listenerQueues) {
+            queue.post(ev, type);
+        }
+    }
+
+    /**
+     * Post the given event which notifies the current VTN configuration to
+     * the specified listener.
+     *
+     * <p>
+     *   The given event is never discarded even if the queue for the
+     *   listener is full.
+     * </p>
+     *
+     * @param listener  The listener to be notified.
+     * @param ev        The event to be delivered.
+     * @param type      The type of the change.
+     */
+    public void postConfiguration(IVTNManagerAware listener,
+                                  VTNListenerEvent ev, UpdateType type) {
+        VTNListenerQueue queue = find(listener);
+        if (queue != null) {
+            queue.postConfiguration(ev, type);
+        }
+    }
+
+    /**
+     * Return the event queue for the given listener.
+     *
+     * @param listener  The listener.
+     * @return  A {@link VTNListenerQueue} instance if found.
+     *          {@code null} if not found.
+     */
+    private VTNListenerQueue find(IVTNManagerAware listener) {
+        for (VTNListenerQueue queue: listenerQueues) {
+            if (queue.getListener() == listener) {
+                return queue;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Register this instance to the platform MBean server.
+     */
+    public synchronized void register() {
+        if (mxbeanName != null) {
+            return;
+        }
+
+        try {
+            ObjectName name =
+                new ObjectName(MXBEAN_NAME_PREFIX + containerName);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean(this, name);
+            mxbeanName = name;
+        } catch (Exception e) {
+            LOG.warn(containerName +
+                     ": Failed to register listener statistics MXBean.", e);
+        }
+    }
+
+    /**
+     * Unregister this instance from the platform MBean server.
+     */
+    public synchronized void unregister() {
+        ObjectName name = mxbeanName;
+        if (name == null) {
+            return;
+        }
+
+        mxbeanName = null;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.unregisterMBean(name);
+        } catch (Exception e) {
+            LOG.warn(containerName +
+                     ": Failed to unregister listener statistics MXBean.", e);
+        }
+    }
+
+    // VTNListenerStatsMXBean
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<VTNListenerStats> getListenerStats() {
+        List<VTNListenerStats> list = new ArrayList<VTNListenerStats>();
+        for (VTNListenerQueue queue: listenerQueues) {
+            list.add(queue.getStats());
+        }
+        return list;
+    }
+}
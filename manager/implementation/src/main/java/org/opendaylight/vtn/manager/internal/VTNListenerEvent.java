@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.opendaylight.vtn.manager.IVTNManagerAware;
+import org.opendaylight.vtn.manager.MacMapConfig;
+import org.opendaylight.vtn.manager.PortMap;
+import org.opendaylight.vtn.manager.VBridge;
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VInterface;
+import org.opendaylight.vtn.manager.VInterfacePath;
+import org.opendaylight.vtn.manager.VTenant;
+import org.opendaylight.vtn.manager.VTenantPath;
+import org.opendaylight.vtn.manager.VTerminal;
+import org.opendaylight.vtn.manager.VTerminalPath;
+import org.opendaylight.vtn.manager.VlanMap;
+
+import org.opendaylight.controller.sal.core.UpdateType;
+
+/**
+ * {@code VTNListenerEvent} describes a change to be delivered to
+ * {@link IVTNManagerAware} listeners.
+ *
+ * <p>
+ *   Events which have the same key describe the same target, so a pending
+ *   event can be superseded by a later event with the same key.
+ * </p>
+ */
+public abstract class VTNListenerEvent {
+    /**
+     * The key which identifies the target of this event.
+     */
+    private final List<Object>  eventKey;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param keys  Objects which identify the target of this event.
+     */
+    private VTNListenerEvent(Object ... keys) {
+        eventKey = Arrays.asList(keys);
+    }
+
+    /**
+     * Create an event which notifies the change of the VTN.
+     *
+     * @param path     Path to the VTN.
+     * @param vtenant  Information about the VTN.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VTenantPath path,
+                                          final VTenant vtenant) {
+        return new VTNListenerEvent("vtn", path) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                listener.vtnChanged(path, vtenant, type);
+            }
+        };
+    }
+
+    /**
+     * Create an event which notifies the change of the vBridge.
+     *
+     * @param path     Path to the vBridge.
+     * @param vbridge  Information about the vBridge.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VBridgePath path,
+                                          final VBridge vbridge) {
+        return new VTNListenerEvent("vbridge", path) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                listener.vBridgeChanged(path, vbridge, type);
+            }
+        };
+    }
+
+    /**
+     * Create an event which notifies the change of the vTerminal.
+     *
+     * @param path   Path to the vTerminal.
+     * @param vterm  Information about the vTerminal.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VTerminalPath path,
+                                          final VTerminal vterm) {
+        return new VTNListenerEvent("vterminal", path) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                listener.vTerminalChanged(path, vterm, type);
+            }
+        };
+    }
+
+    /**
+     * Create an event which notifies the change of the virtual interface.
+     *
+     * @param path    Path to the virtual interface.
+     * @param viface  Information about the virtual interface.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VInterfacePath path,
+                                          final VInterface viface) {
+        return new VTNListenerEvent("interface", path) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                path.vInterfaceChanged(listener, viface, type);
+            }
+        };
+    }
+
+    /**
+     * Create an event which notifies the change of the VLAN mapping.
+     *
+     * @param path   Path to the vBridge associated with the VLAN mapping.
+     * @param vlmap  Information about the VLAN mapping.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VBridgePath path,
+                                          final VlanMap vlmap) {
+        return new VTNListenerEvent("vlanmap", path, vlmap.getId()) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                listener.vlanMapChanged(path, vlmap, type);
+            }
+        };
+    }
+
+    /**
+     * Create an event which notifies the change of the MAC mapping.
+     *
+     * @param path    Path to the vBridge associated with the MAC mapping.
+     * @param mcconf  Configuration information about the MAC mapping.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VBridgePath path,
+                                          final MacMapConfig mcconf) {
+        return new VTNListenerEvent("macmap", path) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                listener.macMapChanged(path, mcconf, type);
+            }
+        };
+    }
+
+    /**
+     * Create an event which notifies the change of the port mapping.
+     *
+     * @param path  Path to the virtual interface.
+     * @param pmap  Information about the port mapping.
+     * @return  A {@link VTNListenerEvent} instance.
+     */
+    public static VTNListenerEvent create(final VInterfacePath path,
+                                          final PortMap pmap) {
+        return new VTNListenerEvent("portmap", path) {
+            @Override
+            void deliver(IVTNManagerAware listener, UpdateType type) {
+                path.portMapChanged(listener, pmap, type);
+            }
+        };
+    }
+
+    /**
+     * Return the key which identifies the target of this event.
+     *
+     * @return  The key of this event.
+     */
+    final Object getKey() {
+        return eventKey;
+    }
+
+    /**
+     * Deliver this event to the given listener.
+     *
+     * @param listener  The listener to be notified.
+     * @param type      The type of the change.
+     */
+    abstract void deliver(IVTNManagerAware listener, UpdateType type);
+
+    /**
+     * Return a string representation of this instance.
+     *
+     * @return  A string representation of this instance.
+     */
+    @Override
+    public String toString() {
+        return "VTNListenerEvent" + eventKey;
+    }
+}
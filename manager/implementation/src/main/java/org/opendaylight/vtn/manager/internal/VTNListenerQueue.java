@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.IVTNManagerAware;
+import org.opendaylight.vtn.manager.IVTNManagerBatchAware;
+
+import org.opendaylight.controller.sal.core.UpdateType;
+
+/**
+ * {@code VTNListenerQueue} delivers events to one {@link IVTNManagerAware}
+ * listener asynchronously.
+ *
+ * <p>
+ *   Events are delivered in posted order by a task submitted to the
+ *   executor. At most {@link #BATCH_LIMIT} events are delivered by one
+ *   task, so a slow listener never occupies an executor thread for long.
+ *   An event with {@link UpdateType#CHANGED} is merged into a pending event
+ *   with the same key, and a pending event with {@link UpdateType#CHANGED}
+ *   is discarded when a {@link UpdateType#REMOVED} event with the same key
+ *   is posted.
+ * </p>
+ * <p>
+ *   The number of pending events is limited to the queue capacity.
+ *   Once an event which can not be merged is posted to the full queue,
+ *   all events are discarded until pending events are drained. After that,
+ *   discarded {@link UpdateType#REMOVED} events are delivered, and then
+ *   {@link VTNListenerResyncHandler} is requested to replay the current
+ *   VTN configuration to the listener. So the listener may receive
+ *   {@link UpdateType#ADDED} events for virtual nodes it already knows,
+ *   but it never misses any change. Events which notify the current
+ *   VTN configuration are never discarded.
+ * </p>
+ */
+public final class VTNListenerQueue implements Runnable {
+    /**
+     * Logger instance.
+     */
+    private static final Logger  LOG =
+        LoggerFactory.getLogger(VTNListenerQueue.class);
+
+    /**
+     * Default capacity of the queue.
+     */
+    static final int  DEFAULT_CAPACITY = 10000;
+
+    /**
+     * The maximum number of events delivered by one task.
+     */
+    static final int  BATCH_LIMIT = 100;
+
+    /**
+     * The number of milliseconds which determines slow listener calls.
+     */
+    static final long  SLOW_THRESHOLD = 1000L;
+
+    /**
+     * A pending event in the queue.
+     */
+    private static final class Slot {
+        /**
+         * The event to be delivered.
+         */
+        private VTNListenerEvent  event;
+
+        /**
+         * The type of the change.
+         */
+        private final UpdateType  type;
+
+        /**
+         * Set {@code true} if this event has been superseded.
+         */
+        private boolean  cancelled;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param ev  The event to be delivered.
+         * @param t   The type of the change.
+         */
+        private Slot(VTNListenerEvent ev, UpdateType t) {
+            event = ev;
+            type = t;
+        }
+    }
+
+    /**
+     * The listener to be notified.
+     */
+    private final IVTNManagerAware  listener;
+
+    /**
+     * The name of the container.
+     */
+    private final String  containerName;
+
+    /**
+     * The executor which runs the delivery task.
+     */
+    private final Executor  executor;
+
+    /**
+     * The handler which replays the VTN configuration to the listener.
+     */
+    private final VTNListenerResyncHandler  resyncHandler;
+
+    /**
+     * The maximum number of pending events.
+     */
+    private final int  capacity;
+
+    /**
+     * Pending events in posted order.
+     */
+    private final Deque<Slot>  eventQueue = new ArrayDeque<>();
+
+    /**
+     * Pending events which can still be superseded, keyed by the event key.
+     */
+    private final Map<Object, Slot>  mergeable = new HashMap<>();
+
+    /**
+     * {@link UpdateType#REMOVED} events discarded while the queue is full,
+     * keyed by the event key.
+     */
+    private final Map<Object, VTNListenerEvent>  discardedRemovals =
+        new LinkedHashMap<>();
+
+    /**
+     * The number of pending events which are not cancelled.
+     */
+    private int  queueDepth;
+
+    /**
+     * Set {@code true} if the delivery task is scheduled.
+     */
+    private boolean  scheduled;
+
+    /**
+     * Set {@code true} if this queue is closed.
+     */
+    private boolean  closed;
+
+    /**
+     * Set {@code true} while events are being discarded.
+     */
+    private boolean  overflow;
+
+    /**
+     * Set {@code true} if the VTN configuration needs to be replayed to
+     * the listener.
+     */
+    private boolean  resync;
+
+    /**
+     * The maximum number of pending events observed.
+     */
+    private int  maxQueueDepth;
+
+    /**
+     * The number of events posted.
+     */
+    private long  postedCount;
+
+    /**
+     * The number of events delivered.
+     */
+    private long  deliveredCount;
+
+    /**
+     * The number of events merged into pending events.
+     */
+    private long  coalescedCount;
+
+    /**
+     * The number of events discarded.
+     */
+    private long  droppedCount;
+
+    /**
+     * The number of batches delivered.
+     */
+    private long  batchCount;
+
+    /**
+     * The number of times the VTN configuration was replayed.
+     */
+    private long  resyncCount;
+
+    /**
+     * The number of slow listener calls.
+     */
+    private long  slowCount;
+
+    /**
+     * The maximum time in nanoseconds spent by a listener call.
+     */
+    private long  maxCallNanos;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param l        The listener to be notified.
+     * @param cname    The name of the container.
+     * @param exec     The executor which runs the delivery task.
+     * @param handler  The handler which replays the VTN configuration
+     *                 after events were discarded.
+     * @param cap      The maximum number of pending events.
+     */
+    public VTNListenerQueue(IVTNManagerAware l, String cname, Executor exec,
+                            VTNListenerResyncHandler handler, int cap) {
+        listener = l;
+        containerName = cname;
+        executor = exec;
+        resyncHandler = handler;
+        capacity = cap;
+    }
+
+    /**
+     * Return the listener associated with this queue.
+     *
+     * @return  The listener.
+     */
+    public IVTNManagerAware getListener() {
+        return listener;
+    }
+
+    /**
+     * Post an event to this queue.
+     *
+     * @param ev    The event to be delivered.
+     * @param type  The type of the change.
+     */
+    public void post(VTNListenerEvent ev, UpdateType type) {
+        if (enqueue(ev, type, false)) {
+            executor.execute(this);
+        }
+    }
+
+    /**
+     * Post an event which notifies the current VTN configuration to this
+     * queue.
+     *
+     * <p>
+     *   The given event is queued even if the queue is full, because
+     *   it can not be recovered by replaying the VTN configuration again.
+     * </p>
+     *
+     * @param ev    The event to be delivered.
+     * @param type  The type of the change.
+     */
+    public void postConfiguration(VTNListenerEvent ev, UpdateType type) {
+        if (enqueue(ev, type, true)) {
+            executor.execute(this);
+        }
+    }
+
+    /**
+     * Put an event into the queue.
+     *
+     * @param ev     The event to be delivered.
+     * @param type   The type of the change.
+     * @param force  {@code true} if the event must be queued even if the
+     *               queue is full.
+     * @return  {@code true} if the delivery task needs to be scheduled.
+     */
+    private synchronized boolean enqueue(VTNListenerEvent ev,
+                                         UpdateType type, boolean force) {
+        if (closed) {
+            return false;
+        }
+
+        postedCount++;
+        Object key = ev.getKey();
+        Slot slot = mergeable.get(key);
+        if (slot != null) {
+            if (type == UpdateType.CHANGED) {
+                // Deliver the latest information with the pending type.
+                slot.event = ev;
+                coalescedCount++;
+                return false;
+            }
+            if (type == UpdateType.REMOVED &&
+                slot.type == UpdateType.CHANGED) {
+                // The pending change is superseded by the removal.
+                slot.cancelled = true;
+                mergeable.remove(key);
+                queueDepth--;
+                coalescedCount++;
+            }
+        }
+
+        if (!force && (overflow || queueDepth >= capacity)) {
+            droppedCount++;
+            if (!overflow) {
+                overflow = true;
+                LOG.error("{}: Listener queue is full, discarding events " +
+                          "until the VTN configuration is replayed: " +
+                          "listener={}, capacity={}", containerName,
+                          listener, capacity);
+            }
+            if (type == UpdateType.REMOVED) {
+                // Removal can not be recovered by the configuration replay.
+                // Pending events must not be updated after the removal.
+                mergeable.remove(key);
+                discardedRemovals.remove(key);
+                discardedRemovals.put(key, ev);
+            }
+            return false;
+        }
+
+        slot = new Slot(ev, type);
+        eventQueue.addLast(slot);
+        if (type == UpdateType.REMOVED) {
+            mergeable.remove(key);
+        } else {
+            mergeable.put(key, slot);
+        }
+
+        queueDepth++;
+        if (queueDepth > maxQueueDepth) {
+            maxQueueDepth = queueDepth;
+        }
+
+        if (scheduled) {
+            return false;
+        }
+        scheduled = true;
+        return true;
+    }
+
+    /**
+     * Remove pending events to be delivered by one task.
+     *
+     * @return  A list of pending events.
+     */
+    private synchronized List<Slot> dequeue() {
+        List<Slot> batch =
+            new ArrayList<Slot>(Math.min(queueDepth, BATCH_LIMIT));
+        while (batch.size() < BATCH_LIMIT) {
+            Slot slot = eventQueue.pollFirst();
+            if (slot == null) {
+                break;
+            }
+            if (slot.cancelled) {
+                continue;
+            }
+
+            // This event can not be superseded any more.
+            Object key = slot.event.getKey();
+            if (mergeable.get(key) == slot) {
+                mergeable.remove(key);
+            }
+            batch.add(slot);
+        }
+
+        queueDepth -= batch.size();
+        return batch;
+    }
+
+    /**
+     * Update statistics after a batch has been delivered.
+     *
+     * @param count    The number of events delivered.
+     * @param slow     The number of slow listener calls.
+     * @param maxCall  The maximum time in nanoseconds spent by a listener
+     *                 call in the batch.
+     * @return  {@code true} if the delivery task needs to be scheduled
+     *          again.
+     */
+    private synchronized boolean delivered(int count, int slow,
+                                           long maxCall) {
+        deliveredCount += count;
+        slowCount += slow;
+        if (count > 0) {
+            batchCount++;
+        }
+        if (maxCall > maxCallNanos) {
+            maxCallNanos = maxCall;
+        }
+
+        if (overflow && !closed && eventQueue.isEmpty()) {
+            // All the events accepted before the overflow have been
+            // delivered. Deliver discarded removals, and then replay the
+            // current configuration.
+            overflow = false;
+            resync = true;
+            resyncCount++;
+            LOG.info("{}: Listener queue has been drained, replaying " +
+                     "VTN configuration: listener={}, dropped={}",
+                     containerName, listener, droppedCount);
+            for (VTNListenerEvent ev: discardedRemovals.values()) {
+                eventQueue.addLast(new Slot(ev, UpdateType.REMOVED));
+                queueDepth++;
+            }
+            discardedRemovals.clear();
+        }
+
+        if (closed || eventQueue.isEmpty()) {
+            scheduled = false;
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Determine whether the VTN configuration needs to be replayed to the
+     * listener, and clear the request.
+     *
+     * @return  {@code true} if the VTN configuration needs to be replayed.
+     */
+    private synchronized boolean takeResync() {
+        boolean ret = resync && !closed;
+        resync = false;
+        return ret;
+    }
+
+    /**
+     * Discard all pending events, and stop delivery.
+     */
+    public synchronized void close() {
+        closed = true;
+        eventQueue.clear();
+        mergeable.clear();
+        discardedRemovals.clear();
+        queueDepth = 0;
+    }
+
+    /**
+     * Return statistics about this queue.
+     *
+     * @return  A {@link VTNListenerStats} instance.
+     */
+    public synchronized VTNListenerStats getStats() {
+        return new VTNListenerStats(
+            String.valueOf(listener), queueDepth, maxQueueDepth, postedCount,
+            deliveredCount, coalescedCount, droppedCount, batchCount,
+            resyncCount, slowCount,
+            TimeUnit.NANOSECONDS.toMillis(maxCallNanos));
+    }
+
+    /**
+     * Deliver pending events to the listener.
+     */
+    @Override
+    public void run() {
+        List<Slot> batch = dequeue();
+        int count = batch.size();
+        IVTNManagerBatchAware batchAware =
+            (count > 0 && listener instanceof IVTNManagerBatchAware)
+            ? (IVTNManagerBatchAware)listener : null;
+        if (batchAware != null) {
+            try {
+                batchAware.batchStarted(count);
+            } catch (Exception e) {
+                logException("batch start", e);
+            }
+        }
+
+        int slow = 0;
+        long maxCall = 0;
+        long threshold = TimeUnit.MILLISECONDS.toNanos(SLOW_THRESHOLD);
+        for (Slot slot: batch) {
+            long start = System.nanoTime();
+            try {
+                slot.event.deliver(listener, slot.type);
+            } catch (Exception e) {
+                logException(slot.event.toString(), e);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            if (elapsed > maxCall) {
+                maxCall = elapsed;
+            }
+            if (elapsed > threshold) {
+                slow++;
+                LOG.warn("{}: Slow listener: listener={}, event={}, " +
+                         "type={}, time={}ms", containerName, listener,
+                         slot.event, slot.type,
+                         TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+
+        if (batchAware != null) {
+            try {
+                batchAware.batchFinished();
+            } catch (Exception e) {
+                logException("batch finish", e);
+            }
+        }
+
+        boolean again = delivered(count, slow, maxCall);
+        if (takeResync() && resyncHandler != null) {
+            // Discarded removals are already queued, so events posted by
+            // the handler are delivered after them.
+            try {
+                resyncHandler.resync(listener);
+            } catch (Exception e) {
+                LOG.error(containerName +
+                          ": Failed to replay VTN configuration: " +
+                          listener, e);
+            }
+        }
+        if (again) {
+            executor.execute(this);
+        }
+    }
+
+    /**
+     * Log an exception thrown by the listener.
+     *
+     * @param desc  A brief description about the listener call.
+     * @param e     An exception thrown by the listener.
+     */
+    private void logException(String desc, Exception e) {
+        StringBuilder builder = new StringBuilder(containerName);
+        builder.append(": Unhandled exception in listener: ").
+            append(listener).append(": ").append(desc).append(": ").
+            append(e.toString());
+        LOG.error(builder.toString(), e);
+    }
+}
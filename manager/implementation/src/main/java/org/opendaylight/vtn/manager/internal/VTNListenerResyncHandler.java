@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import org.opendaylight.vtn.manager.IVTNManagerAware;
+
+/**
+ * {@code VTNListenerResyncHandler} determines the interface of objects
+ * which bring a {@link IVTNManagerAware} listener up to date after
+ * {@link VTNListenerQueue} discarded events for the listener.
+ */
+public interface VTNListenerResyncHandler {
+    /**
+     * Notify the given listener of the current VTN configuration.
+     *
+     * <p>
+     *   This method is called on the thread which delivers events to the
+     *   given listener. Events which notify the current configuration
+     *   must be posted to the listener queue, not delivered directly.
+     * </p>
+     *
+     * @param listener  The listener which missed events.
+     */
+    void resync(IVTNManagerAware listener);
+}
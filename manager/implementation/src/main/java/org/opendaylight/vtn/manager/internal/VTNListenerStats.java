@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * {@code VTNListenerStats} describes statistics about event delivery to
+ * an {@code IVTNManagerAware} listener.
+ *
+ * <p>
+ *   This class is immutable.
+ * </p>
+ */
+public final class VTNListenerStats {
+    /**
+     * A string which represents the listener.
+     */
+    private final String  listener;
+
+    /**
+     * The number of events in the queue.
+     */
+    private final int  queueDepth;
+
+    /**
+     * The maximum number of events observed in the queue.
+     */
+    private final int  maxQueueDepth;
+
+    /**
+     * The number of events posted to the queue.
+     */
+    private final long  posted;
+
+    /**
+     * The number of events delivered to the listener.
+     */
+    private final long  delivered;
+
+    /**
+     * The number of events merged into pending events.
+     */
+    private final long  coalesced;
+
+    /**
+     * The number of events discarded because the queue was full.
+     */
+    private final long  dropped;
+
+    /**
+     * The number of batches delivered to the listener.
+     */
+    private final long  batches;
+
+    /**
+     * The number of times the VTN configuration was replayed to the
+     * listener because events were discarded.
+     */
+    private final long  resyncs;
+
+    /**
+     * The number of listener calls which took longer than the slow
+     * listener threshold.
+     */
+    private final long  slowCalls;
+
+    /**
+     * The maximum time in milliseconds spent by a listener call.
+     */
+    private final long  maxCallMillis;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param listener       A string which represents the listener.
+     * @param queueDepth     The number of events in the queue.
+     * @param maxQueueDepth  The maximum number of events observed in the
+     *                       queue.
+     * @param posted         The number of events posted to the queue.
+     * @param delivered      The number of events delivered.
+     * @param coalesced      The number of events merged into pending events.
+     * @param dropped        The number of events discarded.
+     * @param batches        The number of batches delivered.
+     * @param resyncs        The number of times the VTN configuration was
+     *                       replayed to the listener.
+     * @param slowCalls      The number of slow listener calls.
+     * @param maxCallMillis  The maximum time in milliseconds spent by
+     *                       a listener call.
+     */
+    @ConstructorProperties({
+        "listener", "queueDepth", "maxQueueDepth", "posted", "delivered",
+        "coalesced", "dropped", "batches", "resyncs", "slowCalls",
+        "maxCallMillis"})
+    public VTNListenerStats(String listener, int queueDepth,
+                            int maxQueueDepth, long posted, long delivered,
+                            long coalesced, long dropped, long batches,
+                            long resyncs, long slowCalls,
+                            long maxCallMillis) {
+        this.listener = listener;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.posted = posted;
+        this.delivered = delivered;
+        this.coalesced = coalesced;
+        this.dropped = dropped;
+        this.batches = batches;
+        this.resyncs = resyncs;
+        this.slowCalls = slowCalls;
+        this.maxCallMillis = maxCallMillis;
+    }
+
+    /**
+     * Return a string which represents the listener.
+     *
+     * @return  A string which represents the listener.
+     */
+    public String getListener() {
+        return listener;
+    }
+
+    /**
+     * Return the number of events in the queue.
+     *
+     * @return  The number of events in the queue.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Return the maximum number of events observed in the queue.
+     *
+     * @return  The maximum queue depth.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * Return the number of events posted to the queue.
+     *
+     * @return  The number of events posted to the queue.
+     */
+    public long getPosted() {
+        return posted;
+    }
+
+    /**
+     * Return the number of events delivered to the listener.
+     *
+     * @return  The number of events delivered to the listener.
+     */
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /**
+     * Return the number of events merged into pending events.
+     *
+     * @return  The number of coalesced events.
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Return the number of events discarded because the queue was full.
+     *
+     * @return  The number of dropped events.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Return the number of batches delivered to the listener.
+     *
+     * @return  The number of batches.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Return the number of times the VTN configuration was replayed to the
+     * listener because events were discarded.
+     *
+     * @return  The number of configuration replays.
+     */
+    public long getResyncs() {
+        return resyncs;
+    }
+
+    /**
+     * Return the number of listener calls which took longer than the slow
+     * listener threshold.
+     *
+     * @return  The number of slow listener calls.
+     */
+    public long getSlowCalls() {
+        return slowCalls;
+    }
+
+    /**
+     * Return the maximum time in milliseconds spent by a listener call.
+     *
+     * @return  The maximum time in milliseconds spent by a listener call.
+     */
+    public long getMaxCallMillis() {
+        return maxCallMillis;
+    }
+
+    /**
+     * Return a string representation of this instance.
+     *
+     * @return  A string representation of this instance.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("VTNListenerStats[");
+        builder.append("listener=").append(listener).
+            append(",depth=").append(queueDepth).
+            append(",maxDepth=").append(maxQueueDepth).
+            append(",posted=").append(posted).
+            append(",delivered=").append(delivered).
+            append(",coalesced=").append(coalesced).
+            append(",dropped=").append(dropped).
+            append(",batches=").append(batches).
+            append(",resyncs=").append(resyncs).
+            append(",slow=").append(slowCalls).
+            append(",maxCall=").append(maxCallMillis).append("ms]");
+        return builder.toString();
+    }
+}
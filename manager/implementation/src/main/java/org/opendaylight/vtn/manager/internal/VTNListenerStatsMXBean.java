@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.List;
+
+/**
+ * JMX management interface for statistics about event delivery to
+ * {@code IVTNManagerAware} listeners.
+ */
+public interface VTNListenerStatsMXBean {
+    /**
+     * Return statistics about event delivery to each listener.
+     *
+     * @return  A list of {@link VTNListenerStats} instances.
+     */
+    List<VTNListenerStats> getListenerStats();
+}
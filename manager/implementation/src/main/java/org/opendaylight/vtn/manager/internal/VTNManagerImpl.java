@@ -16,18 +16,23 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.Dictionary;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -41,9 +46,11 @@ import org.opendaylight.vtn.manager.IVTNFlowDebugger;
 import org.opendaylight.vtn.manager.IVTNManager;
 import org.opendaylight.vtn.manager.IVTNManagerAware;
 import org.opendaylight.vtn.manager.IVTNModeListener;
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.MacAddressEntry;
 import org.opendaylight.vtn.manager.MacMap;
 import org.opendaylight.vtn.manager.MacMapConfig;
+import org.opendaylight.vtn.manager.PacketStageStats;
 import org.opendaylight.vtn.manager.PathMap;
 import org.opendaylight.vtn.manager.PathPolicy;
 import org.opendaylight.vtn.manager.PortLocation;
@@ -85,6 +92,7 @@ import org.opendaylight.vtn.manager.internal.packet.VTNPacketListener;
 import org.opendaylight.vtn.manager.internal.routing.RoutingEvent;
 import org.opendaylight.vtn.manager.internal.routing.VTNRoutingListener;
 import org.opendaylight.vtn.manager.internal.util.MiscUtils;
+import org.opendaylight.vtn.manager.internal.util.PageCursor;
 import org.opendaylight.vtn.manager.internal.util.concurrent.AbstractVTNFuture;
 import org.opendaylight.vtn.manager.internal.util.concurrent.VTNFuture;
 import org.opendaylight.vtn.manager.internal.util.flow.cond.FlowCondUtils;
@@ -92,6 +100,7 @@ import org.opendaylight.vtn.manager.internal.util.flow.cond.VTNFlowCondition;
 import org.opendaylight.vtn.manager.internal.util.flow.cond.VTNFlowMatch;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryUtils;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.inventory.NodeUtils;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
@@ -139,6 +148,7 @@ import org.opendaylight.controller.forwardingrulesmanager.
 import org.opendaylight.controller.hosttracker.IfHostListener;
 import org.opendaylight.controller.hosttracker.hostAware.HostNodeConnector;
 import org.opendaylight.controller.hosttracker.hostAware.IHostFinder;
+import org.opendaylight.controller.sal.core.ConstructionException;
 import org.opendaylight.controller.sal.core.ContainerFlow;
 import org.opendaylight.controller.sal.core.IContainerListener;
 import org.opendaylight.controller.sal.core.Node;
@@ -354,10 +364,9 @@ public class VTNManagerImpl
     private IVTNResourceManager  resourceManager;
 
     /**
-     * VTN manager listeners.
+     * Dispatcher of events for VTN manager listeners.
      */
-    private final CopyOnWriteArrayList<IVTNManagerAware>  vtnManagerAware =
-        new CopyOnWriteArrayList<IVTNManagerAware>();
+    private VTNListenerDispatcher  listenerDispatcher;
 
     /**
      * VTN mode listeners.
@@ -386,6 +395,12 @@ public class VTNManagerImpl
      */
     private TaskQueueThread  flowTaskThread;
 
+    /**
+     * Single-threaded task queue runner which handles FLOW_REMOVED
+     * notifications.
+     */
+    private TaskQueueThread  flowRemovedThread;
+
     /**
      * True if VTN is active.
      */
@@ -420,18 +435,53 @@ public class VTNManagerImpl
     private final ConcurrentMap<VBridgePath, MacAddressTable> macTableMap =
         new ConcurrentHashMap<VBridgePath, MacAddressTable>();
 
+    /**
+     * An index of hosts learned by MAC address tables, keyed by IP address.
+     */
+    private final InetHostIndex  inetHostIndex = new InetHostIndex();
+
     /**
      * Flow database associated with virtual tenants.
      */
     private final ConcurrentMap<String, VTNFlowDatabase> vtnFlowMap =
         new ConcurrentHashMap<String, VTNFlowDatabase>();
 
+    /**
+     * Names of virtual tenants keyed by the flow cookie assigned to them.
+     *
+     * <p>
+     *   Note that different virtual tenants may have the same flow cookie.
+     * </p>
+     *
+     * @see FlowGroupId#getTenantCookie(String)
+     */
+    private final Map<Long, Set<String>>  cookieTenants =
+        new HashMap<Long, Set<String>>();
+
+    /**
+     * Flow entries notified by FLOW_REMOVED notifications, which are not
+     * yet processed.
+     */
+    private final ConcurrentLinkedQueue<FlowEntry>  removedFlows =
+        new ConcurrentLinkedQueue<FlowEntry>();
+
+    /**
+     * A boolean value which indicates whether a task to process
+     * {@link #removedFlows} is already posted or not.
+     */
+    private final AtomicBoolean  removedFlowsPosted = new AtomicBoolean();
+
     /**
      * Set of remote flow modification requests.
      */
     private final Set<RemoteFlowRequest>  remoteFlowRequests =
         new HashSet<RemoteFlowRequest>();
 
+    /**
+     * Statistics about VTN flow setup.
+     */
+    private final FlowSetupStats  flowSetupStats = new FlowSetupStats();
+
     private volatile StatsReader statsReader;
 
     /**
@@ -650,6 +700,24 @@ public class VTNManagerImpl
 
         createCaches();
 
+        // Create the dispatcher of VTN manager listener events.
+        Executor exec = new Executor() {
+            @Override
+            public void execute(Runnable r) {
+                postListenerTask(r);
+            }
+        };
+        VTNListenerResyncHandler resync = new VTNListenerResyncHandler() {
+            @Override
+            public void resync(IVTNManagerAware listener) {
+                LOG.info("{}: Replay VTN configuration to listener: {}",
+                         containerName, listener);
+                notifyConfiguration(listener);
+            }
+        };
+        listenerDispatcher = new VTNListenerDispatcher(cname, exec, resync);
+        listenerDispatcher.register();
+
         // Start VTN task thread.
         taskQueueThread = new TaskQueueThread("VTN Task Thread: " + cname);
         taskQueueThread.start();
@@ -658,6 +726,11 @@ public class VTNManagerImpl
         flowTaskThread = new TaskQueueThread("VTN Flow Thread: " + cname);
         flowTaskThread.start();
 
+        // Start VTN flow removed thread.
+        flowRemovedThread =
+            new TaskQueueThread("VTN Flow Removed Thread: " + cname);
+        flowRemovedThread.start();
+
         Timer timer = null;
         if (vtnProvider != null) {
             TxTask<Void> initTask = new AbstractTxTask<Void>() {
@@ -746,7 +819,10 @@ public class VTNManagerImpl
     void destroy() {
         LOG.trace("{}: destroy() called", containerName);
         resourceManager.removeManager(this);
-        vtnManagerAware.clear();
+        if (listenerDispatcher != null) {
+            listenerDispatcher.clear();
+            listenerDispatcher.unregister();
+        }
 
         // Remove all MAC address tables.
         for (Iterator<MacAddressTable> it = macTableMap.values().iterator();
@@ -757,6 +833,18 @@ public class VTNManagerImpl
         }
 
         // Terminate internal threads.
+        if (flowRemovedThread != null) {
+            flowRemovedThread.shutdown();
+            try {
+                flowRemovedThread.join();
+            } catch (InterruptedException e) {
+                LOG.warn("{}: Interrupted while joining thread: {}",
+                         containerName, flowRemovedThread.getName());
+            }
+            flowRemovedThread = null;
+        }
+        removedFlows.clear();
+
         if (flowTaskThread != null) {
             flowTaskThread.shutdown(false);
             try {
@@ -1259,7 +1347,7 @@ public class VTNManagerImpl
      * @param service  VTN manager listener service.
      */
     void addVTNManagerAware(IVTNManagerAware service) {
-        if (vtnManagerAware.addIfAbsent(service)) {
+        if (listenerDispatcher.add(service)) {
             LOG.trace("{}: Add VTN manager listener: {}", containerName,
                       service);
             notifyConfiguration(service);
@@ -1272,7 +1360,7 @@ public class VTNManagerImpl
      * @param service  VTN manager listener service.
      */
     void removeVTNManagerAware(IVTNManagerAware service) {
-        if (vtnManagerAware.remove(service)) {
+        if (listenerDispatcher.remove(service)) {
             LOG.trace("{}: Remove VTN manager listener: {}", containerName,
                       service);
         }
@@ -1341,6 +1429,28 @@ public class VTNManagerImpl
         tenantDB.put(vtn.getName(), vtn);
     }
 
+    /**
+     * Return statistics about VTN flow setup.
+     *
+     * @return  A {@link FlowSetupStats} instance.
+     */
+    public FlowSetupStats getFlowSetupStats() {
+        return flowSetupStats;
+    }
+
+    /**
+     * Return latency statistics about the PACKET_IN processing pipeline.
+     *
+     * @return  A {@link PacketStats} instance.
+     *          {@link PacketStats#DISABLED} is returned if the VTN Manager
+     *          provider is not available.
+     */
+    public PacketStats getPacketStats() {
+        VTNManagerProvider provider = vtnProvider;
+        return (provider == null)
+            ? PacketStats.DISABLED : provider.getPacketStats();
+    }
+
     /**
      * Return a {@link VTNConfig} object which contains global configuration.
      *
@@ -1459,6 +1569,15 @@ public class VTNManagerImpl
         return macTableMap.get(bpath);
     }
 
+    /**
+     * Return the index of hosts learned by MAC address tables.
+     *
+     * @return  An {@link InetHostIndex} instance.
+     */
+    public InetHostIndex getInetHostIndex() {
+        return inetHostIndex;
+    }
+
     /**
      * Return a MAC address table that contains the specified MAC address
      * table entry.
@@ -1478,8 +1597,27 @@ public class VTNManagerImpl
      * @param name  The name of the virtual tenant.
      */
     public void createTenantFlowDB(String name) {
-        VTNFlowDatabase fdb = new VTNFlowDatabase(name);
+        putTenantFlowDB(name, new VTNFlowDatabase(name));
+    }
+
+    /**
+     * Associate the given VTN flow database with the virtual tenant.
+     *
+     * @param name  The name of the virtual tenant.
+     * @param fdb   A VTN flow database for the virtual tenant.
+     */
+    void putTenantFlowDB(String name, VTNFlowDatabase fdb) {
         vtnFlowMap.put(name, fdb);
+
+        Long cookie = Long.valueOf(FlowGroupId.getTenantCookie(name));
+        synchronized (cookieTenants) {
+            Set<String> names = cookieTenants.get(cookie);
+            if (names == null) {
+                names = new HashSet<String>();
+                cookieTenants.put(cookie, names);
+            }
+            names.add(name);
+        }
     }
 
     /**
@@ -1490,6 +1628,15 @@ public class VTNManagerImpl
      *          {@code null} is returned if database does not exist.
      */
     public VTNFlowDatabase removeTenantFlowDB(String name) {
+        Long cookie = Long.valueOf(FlowGroupId.getTenantCookie(name));
+        synchronized (cookieTenants) {
+            Set<String> names = cookieTenants.get(cookie);
+            if (names != null && names.remove(name) && names.isEmpty()) {
+                cookieTenants.remove(cookie);
+            }
+        }
+
+        getPacketStats().removeTenant(name);
         return vtnFlowMap.remove(name);
     }
 
@@ -1505,6 +1652,37 @@ public class VTNManagerImpl
         return vtnFlowMap.get(name);
     }
 
+    /**
+     * Return VTN flow databases which may contain the flow entry with the
+     * given flow cookie.
+     *
+     * @param cookie  A flow cookie.
+     * @return  A list of VTN flow databases.
+     *          All VTN flow databases are returned if the given flow cookie
+     *          was not assigned by the VTN Manager.
+     */
+    private List<VTNFlowDatabase> getTenantFlowDBs(long cookie) {
+        if (!FlowGroupId.isFlowCookie(cookie)) {
+            return new ArrayList<VTNFlowDatabase>(vtnFlowMap.values());
+        }
+
+        List<VTNFlowDatabase> list = new ArrayList<VTNFlowDatabase>();
+        Long tcookie = Long.valueOf(cookie & FlowGroupId.COOKIE_MASK_TENANT);
+        synchronized (cookieTenants) {
+            Set<String> names = cookieTenants.get(tcookie);
+            if (names != null) {
+                for (String tname: names) {
+                    VTNFlowDatabase fdb = vtnFlowMap.get(tname);
+                    if (fdb != null) {
+                        list.add(fdb);
+                    }
+                }
+            }
+        }
+
+        return list;
+    }
+
     /**
      * Return a VTN flow database which contains flow entry specified by the
      * given name.
@@ -1967,6 +2145,54 @@ public class VTNManagerImpl
         }
     }
 
+    /**
+     * Run the specified task which delivers events to a VTN manager
+     * listener.
+     *
+     * <p>
+     *   The task is run on the global async thread pool if available,
+     *   or on the VTN task thread otherwise.
+     * </p>
+     *
+     * @param r  A runnable which delivers events to a listener.
+     */
+    private void postListenerTask(Runnable r) {
+        if (vtnProvider != null && vtnProvider.executeTask(r)) {
+            return;
+        }
+
+        TaskQueueThread th = taskQueueThread;
+        if (th == null || !th.post(r)) {
+            LOG.error("{}: Listener task was rejected: {}", containerName, r);
+        }
+    }
+
+    /**
+     * Post the given event which notifies the current VTN configuration to
+     * the specified VTN manager listener on the VTN task thread.
+     *
+     * <p>
+     *   The event is posted via the VTN task thread in order to preserve
+     *   the order of events posted by {@code notifyChange()} variants
+     *   which notify all listeners.
+     * </p>
+     *
+     * @param listener  VTN manager listener service.
+     * @param ev        The event to be delivered.
+     * @param type      The type of the change.
+     */
+    private void postListenerEvent(final IVTNManagerAware listener,
+                                   final VTNListenerEvent ev,
+                                   final UpdateType type) {
+        Runnable r = new Runnable() {
+            @Override
+            public void run() {
+                listenerDispatcher.postConfiguration(listener, ev, type);
+            }
+        };
+        postTask(r);
+    }
+
     /**
      * Run the specified flow mod task on the global async thread pool.
      *
@@ -2180,7 +2406,7 @@ public class VTNManagerImpl
     }
 
     /**
-     * Call virtual tenant listeners on the calling thread.
+     * Post virtual tenant events to listener queues.
      *
      * @param path    Path to the tenant.
      * @param vtenant Information about the virtual tenant.
@@ -2193,16 +2419,7 @@ public class VTNManagerImpl
         LOG.info("{}:{}: Tenant {}: {}", containerName, path, type.getName(),
                  vtenant);
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                listener.vtnChanged(path, vtenant, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(": Unhandled exception in tenant listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, vtenant), type);
     }
 
     /**
@@ -2238,17 +2455,12 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VTenantPath path, final VTenant vtenant,
                              final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                listener.vtnChanged(path, vtenant, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, vtenant),
+                          type);
     }
 
     /**
-     * Call virtual L2 bridge listeners on the calling thread.
+     * Post virtual L2 bridge events to listener queues.
      *
      * @param path     Path to the bridge.
      * @param vbridge  Information about the virtual L2 bridge.
@@ -2261,16 +2473,7 @@ public class VTNManagerImpl
         LOG.info("{}:{}: Bridge {}: {}", containerName, path, type.getName(),
                  vbridge);
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                listener.vBridgeChanged(path, vbridge, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(": Unhandled exception in bridge listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, vbridge), type);
     }
 
     /**
@@ -2306,17 +2509,12 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VBridgePath path, final VBridge vbridge,
                              final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                listener.vBridgeChanged(path, vbridge, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, vbridge),
+                          type);
     }
 
     /**
-     * Call vTerminal listeners on the calling thread.
+     * Post vTerminal events to listener queues.
      *
      * @param path   Path to the vTerminal.
      * @param vterm  Information about the vTerminal.
@@ -2329,16 +2527,7 @@ public class VTNManagerImpl
         LOG.info("{}:{}: vTerminal {}: {}", containerName, path,
                  type.getName(), vterm);
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                listener.vTerminalChanged(path, vterm, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(": Unhandled exception in vTerminal listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, vterm), type);
     }
 
     /**
@@ -2374,17 +2563,12 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VTerminalPath path, final VTerminal vterm,
                              final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                listener.vTerminalChanged(path, vterm, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, vterm),
+                          type);
     }
 
     /**
-     * Call virtual interface listeners on the calling thread.
+     * Post virtual interface events to listener queues.
      *
      * @param path    Path to the virtual interface.
      * @param viface  Information about the virtual interface.
@@ -2397,18 +2581,7 @@ public class VTNManagerImpl
         LOG.info("{}:{}: Virtual interface {}: {}", containerName, path,
                  type.getName(), viface);
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                path.vInterfaceChanged(listener, viface, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(": Unhandled exception in ").
-                    append(path.getNodeType()).
-                    append(" interface listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, viface), type);
     }
 
     /**
@@ -2444,17 +2617,12 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VInterfacePath path,
                              final VInterface viface, final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                path.vInterfaceChanged(listener, viface, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, viface),
+                          type);
     }
 
     /**
-     * Call VLAN mapping listeners on the calling thread.
+     * Post VLAN mapping events to listener queues.
      *
      * @param path   Path to the bridge associated with the VLAN mapping.
      * @param vlmap  Information about the VLAN mapping.
@@ -2466,17 +2634,7 @@ public class VTNManagerImpl
         LOG.info("{}:{}: VLAN mapping {}: {}", containerName, path,
                  type.getName(), vlmap);
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                listener.vlanMapChanged(path, vlmap, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(
-                    ": Unhandled exception in VLAN mapping listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, vlmap), type);
     }
 
     /**
@@ -2510,17 +2668,12 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VBridgePath path, final VlanMap vlmap,
                              final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                listener.vlanMapChanged(path, vlmap, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, vlmap),
+                          type);
     }
 
     /**
-     * Call MAC mapping listeners on the calling thread.
+     * Post MAC mapping events to listener queues.
      *
      * @param path    Path to the bridge associated with the MAC mapping.
      * @param mcconf  Configuration information about the MAC mapping.
@@ -2539,17 +2692,7 @@ public class VTNManagerImpl
                      type.getName());
         }
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                listener.macMapChanged(path, mcconf, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(
-                    ": Unhandled exception in MAC mapping listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, mcconf), type);
     }
 
     /**
@@ -2585,17 +2728,12 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VBridgePath path, final MacMapConfig mcconf,
                              final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                listener.macMapChanged(path, mcconf, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, mcconf),
+                          type);
     }
 
     /**
-     * Call port mapping listeners on the calling thread.
+     * Post port mapping events to listener queues.
      *
      * @param path  Path to the virtual interface.
      * @param pmap  Information about the port mapping.
@@ -2607,17 +2745,7 @@ public class VTNManagerImpl
         LOG.info("{}:{}: Port mapping {}: {}",
                  containerName, path, type.getName(), pmap);
 
-        for (IVTNManagerAware listener: vtnManagerAware) {
-            try {
-                path.portMapChanged(listener, pmap, type);
-            } catch (Exception e) {
-                StringBuilder builder = new StringBuilder(containerName);
-                builder.append(
-                    ": Unhandled exception in port mapping listener: ").
-                    append(listener).append(": ").append(e.toString());
-                LOG.error(builder.toString(), e);
-            }
-        }
+        listenerDispatcher.post(VTNListenerEvent.create(path, pmap), type);
     }
 
     /**
@@ -2651,13 +2779,8 @@ public class VTNManagerImpl
     public void notifyChange(final IVTNManagerAware listener,
                              final VInterfacePath path, final PortMap pmap,
                              final UpdateType type) {
-        Runnable r = new Runnable() {
-            @Override
-            public void run() {
-                path.portMapChanged(listener, pmap, type);
-            }
-        };
-        postTask(r);
+        postListenerEvent(listener, VTNListenerEvent.create(path, pmap),
+                          type);
     }
 
     /**
@@ -4362,6 +4485,11 @@ public class VTNManagerImpl
      *   If a host is found, it is reported to {@code HostTracker} via
      *   {@code IfHostListener}.
      * </p>
+     * <p>
+     *   A host already learned by the MAC address table of the virtual
+     *   L2 bridge is reported immediately, and no ARP request is flooded
+     *   to that bridge.
+     * </p>
      *
      * @param addr     IP address.
      * @param pathSet  A set of destination paths of virtual L2 bridges.
@@ -4404,6 +4532,9 @@ public class VTNManagerImpl
 
             if (pathSet != null) {
                 for (VBridgePath bpath: pathSet) {
+                    if (reportKnownHost(addr, bpath)) {
+                        continue;
+                    }
                     try {
                         VTenantImpl vtn = getTenantImpl(bpath);
                         vtn.findHost(this, pctx, bpath);
@@ -4413,8 +4544,17 @@ public class VTNManagerImpl
                     }
                 }
             } else {
-                for (VTenantImpl vtn: tenantDB.values()) {
-                    vtn.findHost(this, pctx);
+                boolean found = false;
+                for (VBridgePath bpath: inetHostIndex.get(addr).keySet()) {
+                    if (reportKnownHost(addr, bpath)) {
+                        found = true;
+                    }
+                }
+
+                if (!found) {
+                    for (VTenantImpl vtn: tenantDB.values()) {
+                        vtn.findHost(this, pctx);
+                    }
                 }
             }
         } finally {
@@ -4474,6 +4614,16 @@ public class VTNManagerImpl
         }
 
         short vlan = host.getVlan();
+        if (isKnownHost(target, dst, nc, vlan)) {
+            // The host has been seen recently.
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("{}: probeHost: Known host: {}", containerName,
+                          host);
+            }
+            notifyHost(host);
+            return true;
+        }
+
         Ethernet ether = new ArpPacketBuilder((int)vlan).
             build(getVTNConfig().getControllerMacAddress(),
                   new EtherAddress(dst), target);
@@ -4524,6 +4674,78 @@ public class VTNManagerImpl
         return false;
     }
 
+    /**
+     * Report the host learned by the MAC address table of the specified
+     * virtual L2 bridge to {@code HostTracker}.
+     *
+     * <p>
+     *   A unicast ARP request is also sent to the host at most twice per
+     *   aging interval so that the MAC address table entry is aged out if
+     *   the host no longer exists.
+     * </p>
+     *
+     * @param addr  IP address of the host.
+     * @param path  Path to the virtual L2 bridge.
+     * @return  {@code true} if the host was reported.
+     *          {@code false} if the specified bridge does not know the host.
+     */
+    private boolean reportKnownHost(InetAddress addr, VBridgePath path) {
+        MacAddressTable table = getMacAddressTable(path);
+        MacTableEntry tent = (table == null)
+            ? null : table.getEntryByInetAddress(addr);
+        if (tent == null) {
+            return false;
+        }
+
+        EtherAddress mac = new EtherAddress(tent.getMacAddress());
+        NodeConnector port = tent.getPort();
+        short vlan = tent.getVlan();
+        try {
+            HostNodeConnector host =
+                new HostNodeConnector(mac.getBytes(), addr, port, vlan);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("{}: findHost: Known host: path={}, host={}",
+                          containerName, path, host);
+            }
+            notifyHost(host);
+        } catch (ConstructionException e) {
+            LOG.error(containerName + ": findHost: Unable to create host: " +
+                      tent, e);
+            return false;
+        }
+
+        table.refresh(tent, addr);
+
+        return true;
+    }
+
+    /**
+     * Determine whether the specified host has been seen recently by
+     * MAC address tables.
+     *
+     * @param addr  IP address of the host.
+     * @param mac   MAC address of the host.
+     * @param nc    A node connector where the host is connected.
+     * @param vlan  VLAN ID of the host.
+     * @return  {@code true} if the host is known, and it does not need to
+     *          be probed. Otherwise {@code false}.
+     */
+    private boolean isKnownHost(InetAddress addr, byte[] mac,
+                                NodeConnector nc, short vlan) {
+        long lmac = EtherAddress.toLong(mac);
+        for (Map.Entry<VBridgePath, MacTableEntry> entry:
+                 inetHostIndex.get(addr).entrySet()) {
+            MacTableEntry tent = entry.getValue();
+            if (tent.getMacAddress() == lmac && tent.getVlan() == vlan &&
+                tent.getPort().equals(nc) && tent.getUsed()) {
+                MacAddressTable table = macTableMap.get(entry.getKey());
+                return (table != null && !table.isRefreshNeeded(tent));
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Return a list of MAC address entries learned by the specified virtual
      * L2 bridge.
@@ -4545,6 +4767,32 @@ public class VTNManagerImpl
         }
     }
 
+    /**
+     * Return MAC address entries learned by the specified virtual L2 bridge
+     * in the page specified by the given continuation token.
+     *
+     * @param path    Path to the bridge.
+     * @param cursor  A continuation token. {@code null} means the first page.
+     * @param limit   The maximum number of entries to be returned.
+     * @return  A {@link ListPage} instance which contains MAC address
+     *          entries.
+     * @throws VTNException  An error occurred.
+     */
+    @Override
+    public ListPage<MacAddressEntry> getMacEntries(VBridgePath path,
+                                                   String cursor, int limit)
+        throws VTNException {
+        PageCursor pc = new PageCursor(PageCursor.TYPE_MAC, cursor, limit);
+        Lock rdlock = rwLock.readLock();
+        rdlock.lock();
+        try {
+            VTenantImpl vtn = getTenantImpl(path);
+            return vtn.getMacEntries(this, path, pc);
+        } finally {
+            unlock(rdlock);
+        }
+    }
+
     /**
      * Search for a MAC address entry from the MAC address table in the
      * specified virtual L2 bridge.
@@ -4666,6 +4914,56 @@ public class VTNManagerImpl
         }
     }
 
+    /**
+     * Return information about data flows present in the specified VTN
+     * in the page specified by the given continuation token.
+     *
+     * @param path      A {@link VTenantPath} object that specifies the
+     *                  position of the VTN.
+     * @param mode      A {@link DataFlowMode} instance which specifies
+     *                  behavior of this method.
+     * @param filter    If a {@link DataFlowFilter} instance is specified,
+     *                  only data flows that meet the condition specified by
+     *                  {@link DataFlowFilter} instance is returned.
+     * @param interval  Time interval in seconds for retrieving the average
+     *                  statistics.
+     * @param cursor    A continuation token. {@code null} means the first
+     *                  page.
+     * @param limit     The maximum number of data flows to be returned.
+     * @return  A {@link ListPage} instance which contains {@link DataFlow}
+     *          instances.
+     * @throws VTNException  An error occurred.
+     */
+    @Override
+    public ListPage<DataFlow> getDataFlows(VTenantPath path, DataFlowMode mode,
+                                           DataFlowFilter filter, int interval,
+                                           String cursor, int limit)
+        throws VTNException {
+        VTNManagerProvider provider = checkService();
+        if (mode == null) {
+            throw new VTNException(MiscUtils.argumentIsNull("Mode"));
+        }
+
+        PageCursor pc = new PageCursor(PageCursor.TYPE_FLOW, cursor, limit);
+        if (inContainerMode) {
+            // No flow entry is active in container mode.
+            return new ListPage<DataFlow>(null, null);
+        }
+
+        // Synchronization will be done by VTNFlowDatabase appropriately.
+        boolean update = (mode == DataFlowMode.UPDATESTATS);
+        StatsReader streader = (mode == DataFlowMode.SUMMARY)
+            ? null : statsReader;
+        TxContext ctx = provider.newTxContext();
+        try {
+            VTNFlowDatabase fdb = getTenantFlowDB(path);
+            DataFlowFilterImpl flt = new DataFlowFilterImpl(ctx, filter);
+            return fdb.getFlows(ctx, streader, update, flt, interval, pc);
+        } finally {
+            ctx.cancelTransaction();
+        }
+    }
+
     /**
      * Return information about the specified data flow in the VTN.
      *
@@ -5837,6 +6135,62 @@ public class VTNManagerImpl
         }
     }
 
+    /**
+     * Determine whether latency measurement of the PACKET_IN processing
+     * pipeline is enabled or not.
+     *
+     * @return  {@code true} only if the latency measurement is enabled.
+     */
+    @Override
+    public boolean isPacketStatsEnabled() {
+        return getPacketStats().isEnabled();
+    }
+
+    /**
+     * Enable or disable latency measurement of the PACKET_IN processing
+     * pipeline.
+     *
+     * @param enabled  {@code true} to enable the latency measurement.
+     * @return  A {@link Status} object which represents the result of the
+     *          operation is returned.
+     */
+    @Override
+    public Status setPacketStatsEnabled(boolean enabled) {
+        try {
+            VTNManagerProvider provider = checkService();
+            provider.getPacketStats().setEnabled(enabled);
+        } catch (VTNException e) {
+            return e.getStatus();
+        }
+
+        LOG.info("{}: Packet latency measurement has been {}.",
+                 containerName, (enabled) ? "enabled" : "disabled");
+        return new Status(StatusCode.SUCCESS, null);
+    }
+
+    /**
+     * Return latency statistics about stages of the PACKET_IN processing
+     * pipeline.
+     *
+     * @param path  A {@link VTenantPath} object that specifies the position
+     *              of the VTN. {@code null} means the whole container.
+     * @return  A list of {@link PacketStageStats} instances.
+     * @throws VTNException  An error occurred.
+     */
+    @Override
+    public List<PacketStageStats> getPacketStageStats(VTenantPath path)
+        throws VTNException {
+        VTNManagerProvider provider = checkService();
+        PacketStats stats = provider.getPacketStats();
+        if (path == null) {
+            return stats.getStageStats();
+        }
+
+        // Ensure that the specified VTN exists.
+        getTenantFlowDB(path);
+        return stats.getTenantStageStats(path.getTenantName());
+    }
+
     // IVTNFlowDebugger
 
     /**
@@ -6113,7 +6467,9 @@ public class VTNManagerImpl
         wrlock.lock();
         try {
             // Uninstall VTN flows affected by the port if it has been disabled
-            // or its link state has been changed.
+            // or its link state has been changed. Note that VTN flows which
+            // use the port only for inter-switch links are rerouted when
+            // the routing table is updated.
             boolean disabled;
             if (ev.getUpdateType() == VtnUpdateType.REMOVED) {
                 disabled = true;
@@ -6124,7 +6480,7 @@ public class VTNManagerImpl
             Boolean isl = ev.getInterSwitchLinkChange();
             if (disabled || isl != null) {
                 for (VTNFlowDatabase fdb: vtnFlowMap.values()) {
-                    fdb.removeFlows(this, nc);
+                    fdb.removeEdgeFlows(this, nc);
                 }
             }
 
@@ -6242,6 +6598,9 @@ public class VTNManagerImpl
      */
     @Override
     public void notifyPacket(PacketInEvent ev) throws VTNException {
+        PacketStats stats = getPacketStats();
+        stats.record(PacketStage.TX_QUEUE_WAIT, null, ev.getPostedTime());
+
         // Create a packet context.
         PacketContext pctx = new PacketContext(ev);
 
@@ -6283,15 +6642,21 @@ public class VTNManagerImpl
             // Determine virtual network mapping that maps the packet.
             short vlan = (short)pctx.getVlan();
             byte[] srcMac = src.getBytes();
+            long start = stats.start();
             MapReference ref =
                 resourceManager.getMapReference(srcMac, nc, vlan);
             if (ref != null && containerName.equals(ref.getContainerName())) {
                 pctx.setMapReference(ref);
                 VNodePath path = ref.getPath();
+                String tname = path.getTenantName();
+                stats.record(PacketStage.MAP_REFERENCE, tname, start);
                 VTenantImpl vtn = getTenantImpl(path);
+                start = stats.start();
                 vtn.receive(this, ref, pctx);
+                stats.record(PacketStage.TENANT_RECEIVE, tname, start);
                 return;
             }
+            stats.record(PacketStage.MAP_REFERENCE, null, start);
         } catch (VTNException e) {
             LOG.error(containerName + ": Ignore packet: " + e.getMessage(), e);
         } catch (Exception e) {
@@ -6311,8 +6676,26 @@ public class VTNManagerImpl
         Lock rdlock = rwLock.readLock();
         rdlock.lock();
         try {
-            for (VTenantImpl vtn: tenantDB.values()) {
-                vtn.recalculateDone(this, ev);
+            // Path faults can be resolved only by new inter-switch links.
+            if (!ev.getAddedLinks().isEmpty()) {
+                for (VTenantImpl vtn: tenantDB.values()) {
+                    vtn.recalculateDone(this, ev);
+                }
+            }
+
+            // Reroute VTN flows affected by removed inter-switch links.
+            Set<LinkEdge> removed = ev.getRemovedLinks();
+            if (!removed.isEmpty()) {
+                InventoryReader reader =
+                    ev.getTxContext().getInventoryReader();
+                int count = 0;
+                for (VTNFlowDatabase fdb: vtnFlowMap.values()) {
+                    count += fdb.reroute(this, reader, removed);
+                }
+                if (count != 0) {
+                    LOG.info("{}: {} VTN flow(s) are being rerouted: " +
+                             "removed={}", containerName, count, removed);
+                }
             }
         } finally {
             unlock(rdlock);
@@ -6389,30 +6772,103 @@ public class VTNManagerImpl
         LOG.trace("{}: flowRemoved() called: node={}, flow={}",
                   containerName, node, flow);
 
+        // FLOW_REMOVED notifications are processed in batches on the
+        // VTN flow removed thread.
         String empty = "";
-        FlowEntry entry = new FlowEntry(empty, empty, flow, node);
-        for (VTNFlowDatabase fdb: vtnFlowMap.values()) {
-            if (fdb.flowRemoved(this, entry, false)) {
+        removedFlows.add(new FlowEntry(empty, empty, flow, node));
+        if (removedFlowsPosted.compareAndSet(false, true)) {
+            TaskQueueThread thr = flowRemovedThread;
+            Runnable r = new Runnable() {
+                @Override
+                public void run() {
+                    removedFlowsPosted.set(false);
+                    processRemovedFlows();
+                }
+            };
+            if (thr == null || !thr.post(r)) {
+                removedFlowsPosted.set(false);
+            }
+        }
+    }
+
+    /**
+     * Process FLOW_REMOVED notifications queued in {@link #removedFlows}.
+     *
+     * <p>
+     *   Flow entries are classified by the flow cookie, and each batch is
+     *   passed to only VTN flow databases which may contain them.
+     * </p>
+     */
+    void processRemovedFlows() {
+        Map<Long, List<FlowEntry>> batches =
+            new HashMap<Long, List<FlowEntry>>();
+        for (FlowEntry entry = removedFlows.poll(); entry != null;
+             entry = removedFlows.poll()) {
+            long cookie = entry.getFlow().getId();
+            Long key = (FlowGroupId.isFlowCookie(cookie))
+                ? Long.valueOf(cookie & FlowGroupId.COOKIE_MASK_TENANT)
+                : Long.valueOf(0L);
+            List<FlowEntry> list = batches.get(key);
+            if (list == null) {
+                list = new ArrayList<FlowEntry>();
+                batches.put(key, list);
+            }
+            list.add(entry);
+        }
+
+        for (Map.Entry<Long, List<FlowEntry>> batch: batches.entrySet()) {
+            List<VTNFlowDatabase> fdbs =
+                getTenantFlowDBs(batch.getKey().longValue());
+            flowRemoved(fdbs, batch.getValue());
+        }
+    }
+
+    /**
+     * Remove VTN flows associated with the given expired flow entries.
+     *
+     * @param fdbs     A list of VTN flow databases which may contain the
+     *                 given flow entries.
+     * @param entries  A list of expired flow entries.
+     */
+    private void flowRemoved(List<VTNFlowDatabase> fdbs,
+                             List<FlowEntry> entries) {
+        List<FlowEntry> rest = entries;
+        for (VTNFlowDatabase fdb: fdbs) {
+            rest = fdb.flowRemoved(this, rest, false);
+            if (rest.isEmpty()) {
                 return;
             }
         }
 
         // Below are workaround for a bug of old version of Open vSwitch.
-        Flow fixedFlow = VTNFlowDatabase.fixBrokenOvsFlow(flow);
-        if (fixedFlow != null) {
-            entry = new FlowEntry(empty, empty, fixedFlow, node);
-            for (VTNFlowDatabase fdb: vtnFlowMap.values()) {
-                // In this case we need to uninstall ingress flow too because
-                // it may be still kept by the forwarding rule manager.
-                if (fdb.flowRemoved(this, entry, true)) {
-                    return;
-                }
+        List<FlowEntry> fixed = new ArrayList<FlowEntry>();
+        for (FlowEntry entry: rest) {
+            Flow fixedFlow = VTNFlowDatabase.fixBrokenOvsFlow(entry.getFlow());
+            if (fixedFlow != null) {
+                String empty = "";
+                fixed.add(new FlowEntry(empty, empty, fixedFlow,
+                                        entry.getNode()));
+            } else if (entry.getFlow().getIdleTimeout() != 0) {
+                LOG.trace("{}: Expired flow not found: node={}, flow={}",
+                          containerName, entry.getNode(), entry.getFlow());
+            }
+        }
+
+        for (VTNFlowDatabase fdb: fdbs) {
+            if (fixed.isEmpty()) {
+                return;
             }
+
+            // In this case we need to uninstall ingress flow too because
+            // it may be still kept by the forwarding rule manager.
+            fixed = fdb.flowRemoved(this, fixed, true);
         }
 
-        if (flow.getIdleTimeout() != 0) {
-            LOG.trace("{}: Expired flow not found: node={}, flow={}",
-                      containerName, node, flow);
+        for (FlowEntry entry: fixed) {
+            if (entry.getFlow().getIdleTimeout() != 0) {
+                LOG.trace("{}: Expired flow not found: node={}, flow={}",
+                          containerName, entry.getNode(), entry.getFlow());
+            }
         }
     }
 
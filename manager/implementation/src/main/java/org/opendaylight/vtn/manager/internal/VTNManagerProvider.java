@@ -19,6 +19,7 @@ import com.google.common.util.concurrent.FutureCallback;
 import org.opendaylight.vtn.manager.VTNException;
 
 import org.opendaylight.vtn.manager.internal.util.concurrent.VTNFuture;
+import org.opendaylight.vtn.manager.internal.util.inventory.EdgePortIndex;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
 
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
@@ -115,6 +116,21 @@ public interface VTNManagerProvider extends AutoCloseable, Executor, TxQueue {
      */
     void transmit(SalPort egress, Packet packet);
 
+    /**
+     * Return the index of edge ports in up state.
+     *
+     * @return  An {@link EdgePortIndex} instance on success.
+     *          {@code null} if the inventory service is already closed.
+     */
+    EdgePortIndex getEdgePortIndex();
+
+    /**
+     * Return latency statistics about the PACKET_IN processing pipeline.
+     *
+     * @return  A {@link PacketStats} instance.
+     */
+    PacketStats getPacketStats();
+
     /**
      * Return the packet route resolver associated with the system default
      * routing policy.
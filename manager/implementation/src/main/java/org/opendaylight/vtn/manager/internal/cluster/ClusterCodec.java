@@ -0,0 +1,528 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.cluster;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.opendaylight.vtn.manager.VBridgeIfPath;
+import org.opendaylight.vtn.manager.VBridgePath;
+
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.Node.NodeIDType;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.core.NodeConnector.NodeConnectorIDType;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+/**
+ * {@code ClusterCodec} class is a collection of utilities to encode objects
+ * replicated through cluster caches into compact binary format.
+ *
+ * <p>
+ *   Integers are encoded in variable-length format, and well-known node
+ *   and port identifiers are encoded without any class descriptor.
+ *   Node connectors decoded by this class are interned so that each
+ *   cluster node keeps only one instance per switch port.
+ * </p>
+ * <p>
+ *   Objects encoded in compact format always start with a format version
+ *   number. Compact format is not used unless {@code vtn.cluster.compact}
+ *   system property is defined as {@code true}, because controllers that
+ *   do not know compact format can not decode it. Objects in the legacy
+ *   format are always accepted, so the system property can be enabled
+ *   after all the controllers in the cluster are upgraded.
+ * </p>
+ * <p>
+ *   Currently only the MAC address table cache uses compact format.
+ * </p>
+ */
+public final class ClusterCodec {
+    /**
+     * The maximum number of interned node connectors.
+     */
+    static final int  MAX_INTERNED_PORTS = 65536;
+
+    /**
+     * The name of the system property which enables compact format.
+     */
+    static final String  PROP_COMPACT = "vtn.cluster.compact";
+
+    /**
+     * The current version of compact format.
+     */
+    static final int  FORMAT_VERSION = 1;
+
+    /**
+     * Encoding type that indicates {@code null}.
+     */
+    private static final int  TYPE_NULL = 0;
+
+    /**
+     * Encoding type that indicates an object encoded by standard Java
+     * serialization.
+     */
+    private static final int  TYPE_OBJECT = 1;
+
+    /**
+     * Encoding type that indicates an OpenFlow node connector.
+     */
+    private static final int  TYPE_OF_PORT = 2;
+
+    /**
+     * Encoding type that indicates a {@link VBridgePath} instance.
+     */
+    private static final int  TYPE_BRIDGE_PATH = 3;
+
+    /**
+     * Encoding type that indicates a {@link VBridgeIfPath} instance.
+     */
+    private static final int  TYPE_BRIDGE_IF_PATH = 4;
+
+    /**
+     * Encoding type that indicates a {@link MacMapPath} instance.
+     */
+    private static final int  TYPE_MACMAP_PATH = 5;
+
+    /**
+     * Encoding type that indicates a {@link VlanMapPath} instance.
+     */
+    private static final int  TYPE_VLANMAP_PATH = 6;
+
+    /**
+     * A mask which indicates the lower 7 bits in a byte.
+     */
+    private static final int  MASK_VARINT = 0x7f;
+
+    /**
+     * A bit which indicates that more bytes follow in a variable-length
+     * integer.
+     */
+    private static final int  VARINT_MORE = 0x80;
+
+    /**
+     * The number of bits encoded in one byte of variable-length integer.
+     */
+    private static final int  VARINT_SHIFT = 7;
+
+    /**
+     * Upper bound of the bit shift used to decode a variable-length long
+     * integer.
+     *
+     * <p>
+     *   Decoding fails once the shift reaches this value.
+     * </p>
+     */
+    private static final int  VARINT_MAX_SHIFT = Long.SIZE + VARINT_SHIFT;
+
+    /**
+     * Interned node connectors.
+     */
+    private static final ConcurrentMap<NodeConnector, NodeConnector>  PORTS =
+        new ConcurrentHashMap<NodeConnector, NodeConnector>();
+
+    /**
+     * Determine whether compact format is enabled or not.
+     */
+    private static volatile boolean  compactFormat =
+        Boolean.getBoolean(PROP_COMPACT);
+
+    /**
+     * Private constructor that protects this class from instantiating.
+     */
+    private ClusterCodec() {}
+
+    /**
+     * Determine whether objects should be encoded in compact format or not.
+     *
+     * @return  {@code true} if compact format is enabled.
+     *          {@code false} if objects should be encoded in the legacy
+     *          format.
+     */
+    public static boolean isCompactFormat() {
+        return compactFormat;
+    }
+
+    /**
+     * Enable or disable compact format only for unit test.
+     *
+     * @param compact  {@code true} enables compact format.
+     */
+    static void setCompactFormat(boolean compact) {
+        compactFormat = compact;
+    }
+
+    /**
+     * Write the current version of compact format.
+     *
+     * @param out  An output stream.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeVersion(ObjectOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+    }
+
+    /**
+     * Read the version of compact format written by
+     * {@link #writeVersion(ObjectOutput)}.
+     *
+     * @param in  An input stream.
+     * @return  The version of compact format.
+     * @throws IOException
+     *    An I/O error occurred.
+     * @throws InvalidObjectException
+     *    The stream was encoded in unsupported format.
+     */
+    public static int readVersion(ObjectInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new InvalidObjectException(
+                "Unsupported format version: " + version);
+        }
+
+        return version;
+    }
+
+    /**
+     * Write the given long integer in variable-length format.
+     *
+     * <p>
+     *   The given value is treated as unsigned value. So negative value
+     *   is always encoded into 10 bytes.
+     * </p>
+     *
+     * @param out    An output stream.
+     * @param value  A long integer to be written.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeVarLong(ObjectOutput out, long value)
+        throws IOException {
+        long v = value;
+        while ((v & ~(long)MASK_VARINT) != 0L) {
+            out.writeByte(((int)v & MASK_VARINT) | VARINT_MORE);
+            v >>>= VARINT_SHIFT;
+        }
+        out.writeByte((int)v);
+    }
+
+    /**
+     * Read a long integer encoded by
+     * {@link #writeVarLong(ObjectOutput, long)}.
+     *
+     * @param in  An input stream.
+     * @return  A long integer.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static long readVarLong(ObjectInput in) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < VARINT_MAX_SHIFT;
+             shift += VARINT_SHIFT) {
+            int b = in.readUnsignedByte();
+            value |= (long)(b & MASK_VARINT) << shift;
+            if ((b & VARINT_MORE) == 0) {
+                return value;
+            }
+        }
+
+        throw new InvalidObjectException("Malformed variable-length integer");
+    }
+
+    /**
+     * Write the given integer in variable-length format.
+     *
+     * @param out    An output stream.
+     * @param value  An integer to be written.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeVarInt(ObjectOutput out, int value)
+        throws IOException {
+        writeVarLong(out, (long)value & 0xffffffffL);
+    }
+
+    /**
+     * Read an integer encoded by {@link #writeVarInt(ObjectOutput, int)}.
+     *
+     * @param in  An input stream.
+     * @return  An integer.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static int readVarInt(ObjectInput in) throws IOException {
+        return (int)readVarLong(in);
+    }
+
+    /**
+     * Write the given string.
+     *
+     * @param out  An output stream.
+     * @param str  A string to be written. {@code null} is allowed.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeString(ObjectOutput out, String str)
+        throws IOException {
+        if (str == null) {
+            writeVarInt(out, 0);
+        } else {
+            byte[] b = str.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, b.length + 1);
+            out.write(b);
+        }
+    }
+
+    /**
+     * Read a string encoded by {@link #writeString(ObjectOutput, String)}.
+     *
+     * @param in  An input stream.
+     * @return  A string or {@code null}.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static String readString(ObjectInput in) throws IOException {
+        int len = readVarInt(in);
+        if (len == 0) {
+            return null;
+        }
+
+        byte[] b = new byte[len - 1];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write the given IP address.
+     *
+     * @param out     An output stream.
+     * @param ipaddr  An {@link InetAddress} instance.
+     *                {@code null} is allowed.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeInetAddress(ObjectOutput out, InetAddress ipaddr)
+        throws IOException {
+        if (ipaddr == null) {
+            out.writeByte(0);
+        } else {
+            byte[] raw = ipaddr.getAddress();
+            out.writeByte(raw.length);
+            out.write(raw);
+        }
+    }
+
+    /**
+     * Read an IP address encoded by
+     * {@link #writeInetAddress(ObjectOutput, InetAddress)}.
+     *
+     * @param in  An input stream.
+     * @return  An {@link InetAddress} instance or {@code null}.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static InetAddress readInetAddress(ObjectInput in)
+        throws IOException {
+        int len = in.readUnsignedByte();
+        if (len == 0) {
+            return null;
+        }
+
+        byte[] raw = new byte[len];
+        in.readFully(raw);
+        return InetAddress.getByAddress(raw);
+    }
+
+    /**
+     * Write the given node connector.
+     *
+     * <p>
+     *   OpenFlow node connector is encoded into a pair of datapath ID and
+     *   port number. Other node connectors are encoded by standard Java
+     *   serialization.
+     * </p>
+     *
+     * @param out  An output stream.
+     * @param nc   A {@link NodeConnector} instance.
+     *             {@code null} is allowed.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeNodeConnector(ObjectOutput out, NodeConnector nc)
+        throws IOException {
+        if (nc == null) {
+            out.writeByte(TYPE_NULL);
+            return;
+        }
+
+        Node node = nc.getNode();
+        if (NodeConnectorIDType.OPENFLOW.equals(nc.getType()) &&
+            NodeIDType.OPENFLOW.equals(node.getType())) {
+            out.writeByte(TYPE_OF_PORT);
+            writeVarLong(out, ((Long)node.getID()).longValue());
+            writeVarInt(out, ((Short)nc.getID()).intValue() & 0xffff);
+        } else {
+            out.writeByte(TYPE_OBJECT);
+            out.writeObject(nc);
+        }
+    }
+
+    /**
+     * Read a node connector encoded by
+     * {@link #writeNodeConnector(ObjectOutput, NodeConnector)}.
+     *
+     * @param in  An input stream.
+     * @return  An interned {@link NodeConnector} instance or {@code null}.
+     * @throws IOException
+     *    An I/O error occurred.
+     * @throws ClassNotFoundException
+     *    At least one necessary class was not found.
+     */
+    public static NodeConnector readNodeConnector(ObjectInput in)
+        throws IOException, ClassNotFoundException {
+        int type = in.readUnsignedByte();
+        NodeConnector nc;
+        if (type == TYPE_NULL) {
+            return null;
+        } else if (type == TYPE_OF_PORT) {
+            long dpid = readVarLong(in);
+            short port = (short)readVarInt(in);
+            Node node = NodeCreator.createOFNode(Long.valueOf(dpid));
+            nc = NodeConnectorCreator.
+                createOFNodeConnector(Short.valueOf(port), node);
+            if (nc == null) {
+                throw new InvalidObjectException(
+                    "Invalid OpenFlow port: " + dpid + ":" + port);
+            }
+        } else if (type == TYPE_OBJECT) {
+            nc = (NodeConnector)in.readObject();
+        } else {
+            throw new InvalidObjectException(
+                "Unexpected port encoding: " + type);
+        }
+
+        return intern(nc);
+    }
+
+    /**
+     * Write the given path to the virtual L2 bridge or its child node.
+     *
+     * @param out   An output stream.
+     * @param path  A {@link VBridgePath} instance.
+     *              {@code null} is allowed.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    public static void writeBridgePath(ObjectOutput out, VBridgePath path)
+        throws IOException {
+        if (path == null) {
+            out.writeByte(TYPE_NULL);
+            return;
+        }
+
+        Class<?> cls = path.getClass();
+        if (cls.equals(VBridgePath.class)) {
+            out.writeByte(TYPE_BRIDGE_PATH);
+        } else if (cls.equals(VBridgeIfPath.class)) {
+            out.writeByte(TYPE_BRIDGE_IF_PATH);
+            writeString(out, ((VBridgeIfPath)path).getInterfaceName());
+        } else if (cls.equals(MacMapPath.class)) {
+            out.writeByte(TYPE_MACMAP_PATH);
+        } else if (cls.equals(VlanMapPath.class)) {
+            out.writeByte(TYPE_VLANMAP_PATH);
+            writeString(out, ((VlanMapPath)path).getMapId());
+        } else {
+            out.writeByte(TYPE_OBJECT);
+            out.writeObject(path);
+            return;
+        }
+
+        writeString(out, path.getTenantName());
+        writeString(out, path.getBridgeName());
+    }
+
+    /**
+     * Read a path encoded by
+     * {@link #writeBridgePath(ObjectOutput, VBridgePath)}.
+     *
+     * @param in  An input stream.
+     * @return  A {@link VBridgePath} instance or {@code null}.
+     * @throws IOException
+     *    An I/O error occurred.
+     * @throws ClassNotFoundException
+     *    At least one necessary class was not found.
+     */
+    public static VBridgePath readBridgePath(ObjectInput in)
+        throws IOException, ClassNotFoundException {
+        int type = in.readUnsignedByte();
+        if (type == TYPE_NULL) {
+            return null;
+        }
+        if (type == TYPE_OBJECT) {
+            return (VBridgePath)in.readObject();
+        }
+
+        String name = null;
+        if (type == TYPE_BRIDGE_IF_PATH || type == TYPE_VLANMAP_PATH) {
+            name = readString(in);
+        }
+
+        String tname = readString(in);
+        String bname = readString(in);
+        VBridgePath bpath = new VBridgePath(tname, bname);
+        switch (type) {
+        case TYPE_BRIDGE_PATH:
+            return bpath;
+
+        case TYPE_BRIDGE_IF_PATH:
+            return new VBridgeIfPath(bpath, name);
+
+        case TYPE_MACMAP_PATH:
+            return new MacMapPath(bpath);
+
+        case TYPE_VLANMAP_PATH:
+            return new VlanMapPath(bpath, name);
+
+        default:
+            throw new InvalidObjectException(
+                "Unexpected path encoding: " + type);
+        }
+    }
+
+    /**
+     * Return the interned instance of the given node connector.
+     *
+     * @param nc  A {@link NodeConnector} instance.
+     * @return  A {@link NodeConnector} instance which is equal to the given
+     *          instance.
+     */
+    static NodeConnector intern(NodeConnector nc) {
+        NodeConnector old = PORTS.get(nc);
+        if (old != null) {
+            return old;
+        }
+
+        if (PORTS.size() >= MAX_INTERNED_PORTS) {
+            // Too many ports. Discard interned ports in order to bound
+            // memory usage.
+            PORTS.clear();
+        }
+
+        old = PORTS.putIfAbsent(nc, nc);
+        return (old == null) ? nc : old;
+    }
+}
@@ -24,6 +24,8 @@ import org.opendaylight.vtn.manager.VTenantPath;
 import org.opendaylight.vtn.manager.flow.filter.FlowFilter;
 
 import org.opendaylight.vtn.manager.internal.PacketContext;
+import org.opendaylight.vtn.manager.internal.PacketStage;
+import org.opendaylight.vtn.manager.internal.PacketStats;
 import org.opendaylight.vtn.manager.internal.VTNFlowDatabase;
 import org.opendaylight.vtn.manager.internal.VTNManagerImpl;
 import org.opendaylight.vtn.manager.internal.VTNThreadData;
@@ -367,7 +369,16 @@ public abstract class FlowFilterMap implements Serializable, Cloneable {
                 logDisabled(pctx);
             } else {
                 pc = getPacketContext(pctx);
-                evaluateImpl(mgr, pc, vid);
+                PacketStats stats = mgr.getPacketStats();
+                long start = stats.start();
+                try {
+                    evaluateImpl(mgr, pc, vid);
+                } finally {
+                    if (start != 0L) {
+                        String tname = parent.getPath().getTenantName();
+                        stats.record(PacketStage.FLOW_FILTER, tname, start);
+                    }
+                }
             }
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013-2014 NEC Corporation
+ * Copyright (c) 2013-2015 NEC Corporation
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -37,6 +37,58 @@ public class FlowGroupId extends ClusterEventId {
      */
     private static final String  NAME_PREFIX = "vtn:";
 
+    /**
+     * A tag set in the most significant byte of flow cookies assigned to
+     * flow entries installed by the VTN Manager.
+     */
+    private static final long  COOKIE_TAG = 0x5600000000000000L;
+
+    /**
+     * A mask which selects the VTN Manager tag in a flow cookie.
+     */
+    private static final long  COOKIE_TAG_MASK = 0xff00000000000000L;
+
+    /**
+     * The number of bits to shift the tenant tag in a flow cookie.
+     */
+    private static final int  COOKIE_TENANT_SHIFT = 32;
+
+    /**
+     * The number of bits in the tenant tag of a flow cookie.
+     */
+    private static final int  COOKIE_TENANT_WIDTH = 24;
+
+    /**
+     * A mask which selects the tenant tag in a flow cookie.
+     */
+    private static final int  COOKIE_TENANT_BITS = 0xffffff;
+
+    /**
+     * A mask which selects the flow group tag in a flow cookie.
+     */
+    private static final long  COOKIE_GROUP_BITS = 0xffffffffL;
+
+    /**
+     * A flow cookie mask which selects all flow entries in the virtual
+     * tenant.
+     *
+     * <p>
+     *   Flow entries with the cookie returned by
+     *   {@link #getTenantCookie(String)} can be selected by this mask.
+     * </p>
+     */
+    public static final long  COOKIE_MASK_TENANT = ~COOKIE_GROUP_BITS;
+
+    /**
+     * A flow cookie mask which selects flow entries in the flow group.
+     *
+     * <p>
+     *   Note that shared flow entries are not selected by this mask because
+     *   they do not belong to a specific flow group.
+     * </p>
+     */
+    public static final long  COOKIE_MASK_GROUP = -1L;
+
     /**
      * The name of the virtual tenant to which the flow group belongs.
      */
@@ -72,6 +124,51 @@ public class FlowGroupId extends ClusterEventId {
         return null;
     }
 
+    /**
+     * Return a flow cookie which identifies flow entries in the given
+     * virtual tenant.
+     *
+     * <p>
+     *   A flow cookie is a 64-bit value that consists of the following
+     *   fields:
+     * </p>
+     * <ul>
+     *   <li>Bits 63-56: A tag that identifies the VTN Manager.</li>
+     *   <li>Bits 55-32: A tag derived from the name of the virtual tenant.</li>
+     *   <li>
+     *     Bits 31-0: A tag derived from the flow group ID.
+     *     Zero is set if the flow entry is shared with other flow groups.
+     *   </li>
+     * </ul>
+     * <p>
+     *   Note that tenant tags are derived from tenant names so that all
+     *   controllers in the cluster assign the same tag. Different virtual
+     *   tenants may have the same tag.
+     * </p>
+     *
+     * @param tname  The name of the virtual tenant.
+     * @return  A flow cookie which has no flow group tag.
+     */
+    public static long getTenantCookie(String tname) {
+        int h = tname.hashCode();
+        long tag = (long)((h ^ (h >>> COOKIE_TENANT_WIDTH)) &
+                          COOKIE_TENANT_BITS);
+        return COOKIE_TAG | (tag << COOKIE_TENANT_SHIFT);
+    }
+
+    /**
+     * Determine whether the given flow cookie was assigned by the
+     * VTN Manager or not.
+     *
+     * @param cookie  A flow cookie.
+     * @return  {@code true} only if the given flow cookie contains the tag
+     *          which identifies the VTN Manager.
+     * @see #getTenantCookie(String)
+     */
+    public static boolean isFlowCookie(long cookie) {
+        return ((cookie & COOKIE_TAG_MASK) == COOKIE_TAG);
+    }
+
     /**
      * Construct a new flow group ID.
      *
@@ -111,6 +208,22 @@ public class FlowGroupId extends ClusterEventId {
         return tenantName;
     }
 
+    /**
+     * Return a flow cookie which identifies flow entries in this flow group.
+     *
+     * @return  A flow cookie.
+     * @see #getTenantCookie(String)
+     */
+    public long getFlowCookie() {
+        long tag = (long)super.hashCode() & COOKIE_GROUP_BITS;
+        if (tag == 0L) {
+            // Zero is reserved for shared flow entries.
+            tag = 1L;
+        }
+
+        return getTenantCookie(tenantName) | tag;
+    }
+
     /**
      * Determine whether the given object is identical to this object.
      *
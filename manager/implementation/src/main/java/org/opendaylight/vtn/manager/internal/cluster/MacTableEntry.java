@@ -9,8 +9,11 @@
 
 package org.opendaylight.vtn.manager.internal.cluster;
 
+import java.io.Externalizable;
 import java.io.IOException;
+import java.io.ObjectInput;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.net.InetAddress;
@@ -28,6 +31,12 @@ import org.opendaylight.controller.sal.packet.address.EthernetAddress;
 /**
  * {@code MacTableEntry} class represents a table entry in the MAC address
  * table.
+ *
+ * <p>
+ *   An instance of this class is serialized into compact binary format
+ *   by {@link SerializedForm} if compact format is enabled by
+ *   {@link ClusterCodec}.
+ * </p>
  */
 public class MacTableEntry implements Serializable {
     /**
@@ -72,6 +81,7 @@ public class MacTableEntry implements Serializable {
      *   <li>{@link #equals(Object)}</li>
      *   <li>{@link #hashCode()}</li>
      *   <li>{@link #writeObject(ObjectOutputStream)}</li>
+     *   <li>{@link #writeReplace()}</li>
      * </ul>
      */
     private transient boolean  used = true;
@@ -87,10 +97,28 @@ public class MacTableEntry implements Serializable {
      *   <li>{@link #equals(Object)}</li>
      *   <li>{@link #hashCode()}</li>
      *   <li>{@link #writeObject(ObjectOutputStream)}</li>
+     *   <li>{@link #writeReplace()}</li>
      * </ul>
      */
     private transient int  probeCount;
 
+    /**
+     * System time in milliseconds when an ARP request was sent to this
+     * host in order to refresh this entry.
+     *
+     * <p>
+     *   Note that this field never affects object identity, and it is never
+     *   serialized. Below methods always ignore this field.
+     * </p>
+     * <ul>
+     *   <li>{@link #equals(Object)}</li>
+     *   <li>{@link #hashCode()}</li>
+     *   <li>{@link #writeObject(ObjectOutputStream)}</li>
+     *   <li>{@link #writeReplace()}</li>
+     * </ul>
+     */
+    private transient long  refreshTime;
+
     /**
      * Construct a new MAC address table entry.
      *
@@ -131,6 +159,26 @@ public class MacTableEntry implements Serializable {
         }
     }
 
+    /**
+     * Construct a new MAC address table entry deserialized from the cluster
+     * cache.
+     *
+     * @param id       Identifier of this entry.
+     * @param port     A node connector associated with the MAC address.
+     * @param vlan     VLAN ID. Zero means no VLAN ID was found.
+     * @param ipaddrs  A set of IP addresses assigned to the MAC address.
+     */
+    private MacTableEntry(MacTableEntryId id, NodeConnector port, short vlan,
+                          Set<InetAddress> ipaddrs) {
+        this.entryId = id;
+        this.port = port;
+        this.vlan = vlan;
+        ipAddresses = ipaddrs;
+
+        // Disable IP address probe request.
+        probeCount = MAX_IP_PROBE;
+    }
+
     /**
      * Return an identifier of this entry.
      *
@@ -238,6 +286,29 @@ public class MacTableEntry implements Serializable {
         return ret;
     }
 
+    /**
+     * Determine whether an ARP request should be sent to this host in order
+     * to refresh this entry or not.
+     *
+     * <p>
+     *   This method returns {@code true} at most once in the given interval.
+     * </p>
+     *
+     * @param now       The current system time in milliseconds.
+     * @param interval  The minimum interval in milliseconds between
+     *                  refresh requests.
+     * @return  {@code true} is returned if a refresh request should be sent.
+     *          Otherwise {@code false}.
+     */
+    public synchronized boolean isRefreshNeeded(long now, long interval) {
+        if (now - refreshTime < interval) {
+            return false;
+        }
+
+        refreshTime = now;
+        return true;
+    }
+
     /**
      * Create a MAC address entry object.
      *
@@ -298,9 +369,26 @@ public class MacTableEntry implements Serializable {
                  mpath.equals(entryId.getMapPath()));
     }
 
+    /**
+     * Return an object to be serialized instead of this object.
+     *
+     * @return  A {@link SerializedForm} instance if compact format is
+     *          enabled. Otherwise this instance.
+     */
+    @SuppressWarnings("unused")
+    private Object writeReplace() {
+        return (ClusterCodec.isCompactFormat())
+            ? new SerializedForm(this) : this;
+    }
+
     /**
      * Read data from the given input stream and deserialize.
      *
+     * <p>
+     *   This method is used to read an object serialized in the legacy
+     *   format.
+     * </p>
+     *
      * @param in  An input stream.
      * @throws IOException
      *    An I/O error occurred.
@@ -323,7 +411,8 @@ public class MacTableEntry implements Serializable {
     }
 
     /**
-     * Serialize this object and write it to the given output stream.
+     * Serialize this object in the legacy format and write it to the given
+     * output stream.
      *
      * @param out  An output stream.
      * @throws IOException
@@ -401,4 +490,97 @@ public class MacTableEntry implements Serializable {
 
         return builder.append("}]").toString();
     }
+
+    /**
+     * {@code SerializedForm} describes the serialized form of
+     * {@link MacTableEntry}.
+     */
+    private static final class SerializedForm implements Externalizable {
+        /**
+         * Version number for serialization.
+         */
+        private static final long serialVersionUID = -8395716446153812417L;
+
+        /**
+         * The MAC address table entry to be serialized.
+         */
+        private MacTableEntry  entry;
+
+        /**
+         * Construct an empty instance.
+         *
+         * <p>
+         *   This constructor is used only for deserialization.
+         * </p>
+         */
+        public SerializedForm() {
+        }
+
+        /**
+         * Construct a new instance.
+         *
+         * @param tent  The MAC address table entry to be serialized.
+         */
+        private SerializedForm(MacTableEntry tent) {
+            entry = tent;
+        }
+
+        /**
+         * Return the MAC address table entry deserialized from the stream.
+         *
+         * @return  A {@link MacTableEntry} instance.
+         */
+        @SuppressWarnings("unused")
+        private Object readResolve() {
+            return entry;
+        }
+
+        /**
+         * Serialize the MAC address table entry.
+         *
+         * @param out  An output stream.
+         * @throws IOException
+         *    An I/O error occurred.
+         */
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            MacTableEntry tent = entry;
+            ClusterCodec.writeVersion(out);
+            MacTableEntryId.writeEntryId(out, tent.entryId);
+            ClusterCodec.writeNodeConnector(out, tent.port);
+            ClusterCodec.writeVarInt(out, (int)tent.vlan & 0xffff);
+
+            Set<InetAddress> addrs = tent.getInetAddresses();
+            ClusterCodec.writeVarInt(out, addrs.size());
+            for (InetAddress ipaddr: addrs) {
+                ClusterCodec.writeInetAddress(out, ipaddr);
+            }
+        }
+
+        /**
+         * Deserialize the MAC address table entry.
+         *
+         * @param in  An input stream.
+         * @throws IOException
+         *    An I/O error occurred.
+         * @throws ClassNotFoundException
+         *    At least one necessary class was not found.
+         */
+        @Override
+        public void readExternal(ObjectInput in)
+            throws IOException, ClassNotFoundException {
+            ClusterCodec.readVersion(in);
+            MacTableEntryId id = MacTableEntryId.readEntryId(in);
+            NodeConnector nc = ClusterCodec.readNodeConnector(in);
+            short vlan = (short)ClusterCodec.readVarInt(in);
+
+            int count = ClusterCodec.readVarInt(in);
+            Set<InetAddress> addrs = new HashSet<InetAddress>();
+            for (int i = 0; i < count; i++) {
+                addrs.add(ClusterCodec.readInetAddress(in));
+            }
+
+            entry = new MacTableEntry(id, nc, vlan, addrs);
+        }
+    }
 }
@@ -9,6 +9,10 @@
 
 package org.opendaylight.vtn.manager.internal.cluster;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.net.InetAddress;
 
 import org.opendaylight.vtn.manager.VBridgePath;
@@ -75,6 +79,45 @@ public class MacTableEntryId extends ClusterEventId {
         macAddress = mac;
     }
 
+    /**
+     * Write the given MAC address table entry ID in compact binary format.
+     *
+     * @param out  An output stream.
+     * @param id   A {@link MacTableEntryId} instance.
+     * @throws IOException
+     *    An I/O error occurred.
+     */
+    static void writeEntryId(ObjectOutput out, MacTableEntryId id)
+        throws IOException {
+        ClusterCodec.writeInetAddress(out, id.getControllerAddress());
+        ClusterCodec.writeVarLong(out, id.getEventId());
+        ClusterCodec.writeBridgePath(out, id.mapPath);
+        long mac = id.macAddress;
+        out.writeShort((int)(mac >>> Integer.SIZE));
+        out.writeInt((int)mac);
+    }
+
+    /**
+     * Read a MAC address table entry ID encoded by
+     * {@link #writeEntryId(ObjectOutput, MacTableEntryId)}.
+     *
+     * @param in  An input stream.
+     * @return  A {@link MacTableEntryId} instance.
+     * @throws IOException
+     *    An I/O error occurred.
+     * @throws ClassNotFoundException
+     *    At least one necessary class was not found.
+     */
+    static MacTableEntryId readEntryId(ObjectInput in)
+        throws IOException, ClassNotFoundException {
+        InetAddress addr = ClusterCodec.readInetAddress(in);
+        long id = ClusterCodec.readVarLong(in);
+        VBridgePath path = ClusterCodec.readBridgePath(in);
+        long mac = ((long)in.readUnsignedShort() << Integer.SIZE) |
+            ((long)in.readInt() & 0xffffffffL);
+        return new MacTableEntryId(addr, id, path, mac);
+    }
+
     /**
      * Return the path to the virtual node which maps the MAC address.
      *
@@ -103,6 +146,18 @@ public class MacTableEntryId extends ClusterEventId {
         return macAddress;
     }
 
+    /**
+     * Return an object to be serialized instead of this object.
+     *
+     * @return  A {@link SerializedForm} instance if compact format is
+     *          enabled. Otherwise this instance.
+     */
+    @SuppressWarnings("unused")
+    private Object writeReplace() {
+        return (ClusterCodec.isCompactFormat())
+            ? new SerializedForm(this) : this;
+    }
+
     /**
      * Determine whether the given object is identical to this object.
      *
@@ -147,4 +202,79 @@ public class MacTableEntryId extends ClusterEventId {
             append(SEPARATOR).append(super.toString());
         return builder.toString();
     }
+
+    /**
+     * {@code SerializedForm} describes the serialized form of
+     * {@link MacTableEntryId}.
+     */
+    private static final class SerializedForm implements Externalizable {
+        /**
+         * Version number for serialization.
+         */
+        private static final long serialVersionUID = 3329180578614623154L;
+
+        /**
+         * The MAC address table entry ID to be serialized.
+         */
+        private MacTableEntryId  entryId;
+
+        /**
+         * Construct an empty instance.
+         *
+         * <p>
+         *   This constructor is used only for deserialization.
+         * </p>
+         */
+        public SerializedForm() {
+        }
+
+        /**
+         * Construct a new instance.
+         *
+         * @param id  The MAC address table entry ID to be serialized.
+         */
+        private SerializedForm(MacTableEntryId id) {
+            entryId = id;
+        }
+
+        /**
+         * Return the MAC address table entry ID deserialized from the
+         * stream.
+         *
+         * @return  A {@link MacTableEntryId} instance.
+         */
+        @SuppressWarnings("unused")
+        private Object readResolve() {
+            return entryId;
+        }
+
+        /**
+         * Serialize the MAC address table entry ID.
+         *
+         * @param out  An output stream.
+         * @throws IOException
+         *    An I/O error occurred.
+         */
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            ClusterCodec.writeVersion(out);
+            writeEntryId(out, entryId);
+        }
+
+        /**
+         * Deserialize the MAC address table entry ID.
+         *
+         * @param in  An input stream.
+         * @throws IOException
+         *    An I/O error occurred.
+         * @throws ClassNotFoundException
+         *    At least one necessary class was not found.
+         */
+        @Override
+        public void readExternal(ObjectInput in)
+            throws IOException, ClassNotFoundException {
+            ClusterCodec.readVersion(in);
+            entryId = readEntryId(in);
+        }
+    }
 }
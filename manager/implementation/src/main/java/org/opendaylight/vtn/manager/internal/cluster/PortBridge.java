@@ -9,6 +9,7 @@
 
 package org.opendaylight.vtn.manager.internal.cluster;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
@@ -25,6 +26,8 @@ import org.opendaylight.vtn.manager.VTenantPath;
 import org.opendaylight.vtn.manager.internal.ActionList;
 import org.opendaylight.vtn.manager.internal.LockStack;
 import org.opendaylight.vtn.manager.internal.PacketContext;
+import org.opendaylight.vtn.manager.internal.PacketStage;
+import org.opendaylight.vtn.manager.internal.PacketStats;
 import org.opendaylight.vtn.manager.internal.RouteResolver;
 import org.opendaylight.vtn.manager.internal.TxContext;
 import org.opendaylight.vtn.manager.internal.VTNFlowDatabase;
@@ -36,7 +39,9 @@ import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
 import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+import org.opendaylight.vtn.manager.internal.util.pathpolicy.PathPolicyUtils;
 
+import org.opendaylight.controller.sal.action.Action;
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.match.Match;
@@ -456,12 +461,36 @@ public abstract class PortBridge<T extends PortInterface>
             return;
         }
 
+        // If a VTN flow for this packet is being installed, forward the
+        // packet without resolving the route and creating another flow.
+        VTNFlowDatabase fdb = mgr.getTenantFlowDB(getTenantName());
+        if (fdb != null) {
+            pctx.addUnicastMatchFields();
+            Match ingressMatch =
+                pctx.createMatch(pctx.getIncomingNodeConnector());
+            if (fdb.isFlowPending(mgr, ingressMatch)) {
+                Ethernet frame = pctx.createFrame(outVlan);
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}:{}: Forward packet on pending flow: {}",
+                                 getContainerName(), getNodePath(),
+                                 pctx.getDescription(frame, outgoing,
+                                                     outVlan));
+                }
+                mgr.transmit(egress, frame);
+                return;
+            }
+        }
+
         SalPort ingress = pctx.getIngressPort();
         SalNode snode = ingress.getSalNode();
         SalNode dnode = egress.getSalNode();
         RouteResolver rr = pctx.getRouteResolver();
         InventoryReader reader = pctx.getTxContext().getInventoryReader();
+        PacketStats stats = mgr.getPacketStats();
+        String tname = getTenantName();
+        long start = stats.start();
         List<LinkEdge> path = rr.getRoute(reader, snode, dnode);
+        stats.record(PacketStage.ROUTE_RESOLVE, tname, start);
         if (path == null) {
             if (addFaultedPath(mgr, snode, dnode)) {
                 logger.error("{}:{}: Path fault: {} -> {}",
@@ -484,7 +513,9 @@ public abstract class PortBridge<T extends PortInterface>
         mgr.transmit(egress, frame);
 
         // Install VTN flow.
+        start = stats.start();
         installFlow(mgr, pctx, outgoing, outVlan, path);
+        stats.record(PacketStage.FLOW_INSTALL, tname, start);
     }
 
     /**
@@ -521,15 +552,28 @@ public abstract class PortBridge<T extends PortInterface>
         short vlan = (short)pctx.getEtherPacket().getOriginalVlan();
         int pri = pctx.getFlowPriority();
         VTNFlow vflow = fdb.create(mgr);
+        boolean aggr = isAggregatable(pctx);
+        int aggrPri = (aggr) ? pctx.getAggregatedFlowPriority() : pri;
 
         // Create flow entries except for egress flow.
+        boolean ingress = true;
         for (LinkEdge le: path) {
-            Match match = pctx.createMatch(incoming);
             NodeConnector port = le.getSourcePort().getAdNodeConnector();
             ActionList actions = new ActionList(port.getNode(), vlan);
             actions.addOutput(port);
-            vflow.addFlow(mgr, match, actions, pri);
+            if (aggr && !ingress) {
+                // Transit flow can be shared with other source hosts.
+                // Exact match is used if the shared flow entry conflicts
+                // with the installed one.
+                Match match = pctx.createAggregatedMatch(incoming);
+                Match exact = pctx.createMatch(incoming);
+                vflow.addSharedFlow(mgr, match, actions, aggrPri, exact, pri);
+            } else {
+                Match match = pctx.createMatch(incoming);
+                vflow.addFlow(mgr, match, actions, pri);
+            }
             incoming = le.getDestinationPort().getAdNodeConnector();
+            ingress = false;
         }
 
         // Create egress flow entry.
@@ -551,6 +595,52 @@ public abstract class PortBridge<T extends PortInterface>
         fdb.install(mgr, vflow);
     }
 
+    /**
+     * Determine whether flow entries for transit switches can be aggregated
+     * by the destination MAC address or not.
+     *
+     * <p>
+     *   Flow entries are never aggregated if the packet is modified or
+     *   redirected by flow filter, or the packet route is determined by
+     *   path map.
+     * </p>
+     * <p>
+     *   Note that this method must be called with holding the bridge lock.
+     * </p>
+     *
+     * @param pctx  The context of the received packet.
+     * @return  {@code true} only if flow entries for transit switches can
+     *          be aggregated.
+     */
+    private boolean isAggregatable(PacketContext pctx) {
+        if (!isFlowAggregated() || pctx.getFirstRedirection() != null) {
+            return false;
+        }
+
+        Collection<Action> filterActions = pctx.getFilterActions();
+        if (filterActions != null && !filterActions.isEmpty()) {
+            return false;
+        }
+
+        RouteResolver rr = pctx.getRouteResolver();
+        return (rr.getPathPolicyId() == PathPolicyUtils.DEFAULT_POLICY);
+    }
+
+    /**
+     * Determine whether flow entries for transit switches should be
+     * aggregated by the destination MAC address or not.
+     *
+     * <p>
+     *   Note that this method must be called with holding the bridge lock.
+     * </p>
+     *
+     * @return  {@code true} only if flow entries for transit switches
+     *          should be aggregated.
+     */
+    protected boolean isFlowAggregated() {
+        return false;
+    }
+
     /**
      * Return the virtual network node in this bridge which maps the specified
      * VLAN network.
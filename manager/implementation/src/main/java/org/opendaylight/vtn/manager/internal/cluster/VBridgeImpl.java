@@ -12,6 +12,7 @@ package org.opendaylight.vtn.manager.internal.cluster;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.IOException;
+import java.net.InetAddress;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.TreeMap;
@@ -44,6 +45,7 @@ import org.opendaylight.vtn.manager.VlanMap;
 import org.opendaylight.vtn.manager.VlanMapConfig;
 import org.opendaylight.vtn.manager.util.EtherAddress;
 
+import org.opendaylight.vtn.manager.internal.ArpProxy;
 import org.opendaylight.vtn.manager.internal.LockStack;
 import org.opendaylight.vtn.manager.internal.MacAddressTable;
 import org.opendaylight.vtn.manager.internal.PacketContext;
@@ -62,6 +64,7 @@ import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
 import org.opendaylight.controller.sal.core.Node;
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.core.UpdateType;
+import org.opendaylight.controller.sal.packet.Ethernet;
 import org.opendaylight.controller.sal.packet.PacketResult;
 import org.opendaylight.controller.sal.packet.address.DataLinkAddress;
 import org.opendaylight.controller.sal.utils.Status;
@@ -614,15 +617,26 @@ public final class VBridgeImpl extends PortBridge<VBridgeIfImpl>
     private VBridgeConfig merge(VBridgeConfig bconf) {
         String desc = bconf.getDescription();
         int age = bconf.getAgeInterval();
+        Boolean aggr = bconf.getAggregateFlow();
+        Boolean proxy = bconf.getArpProxy();
+        if (desc == null && age < 0 && aggr == null && proxy == null) {
+            return bridgeConfig;
+        }
+
         if (desc == null) {
-            return (age < 0)
-                ? bridgeConfig
-                : new VBridgeConfig(bridgeConfig.getDescription(), age);
-        } else if (age < 0) {
-            return new VBridgeConfig(desc, bridgeConfig.getAgeInterval());
+            desc = bridgeConfig.getDescription();
+        }
+        if (age < 0) {
+            age = bridgeConfig.getAgeInterval();
+        }
+        if (aggr == null) {
+            aggr = bridgeConfig.getAggregateFlow();
+        }
+        if (proxy == null) {
+            proxy = bridgeConfig.getArpProxy();
         }
 
-        return bconf;
+        return new VBridgeConfig(desc, age, aggr, proxy);
     }
 
     /**
@@ -635,7 +649,9 @@ public final class VBridgeImpl extends PortBridge<VBridgeIfImpl>
         int age = bconf.getAgeInterval();
         if (age < 0) {
             return new VBridgeConfig(bconf.getDescription(),
-                                     DEFAULT_AGE_INTERVAL);
+                                     DEFAULT_AGE_INTERVAL,
+                                     bconf.getAggregateFlow(),
+                                     bconf.getArpProxy());
         }
 
         return bconf;
@@ -871,6 +887,101 @@ public final class VBridgeImpl extends PortBridge<VBridgeIfImpl>
         return tent;
     }
 
+    /**
+     * Determine whether ARP requests should be answered by the VTN Manager
+     * or not.
+     *
+     * <p>
+     *   Note that this method must be called with holding the bridge lock.
+     * </p>
+     *
+     * @return  {@code true} only if the ARP proxy is enabled in this
+     *          vBridge.
+     */
+    private boolean isArpProxyEnabled() {
+        return Boolean.TRUE.equals(bridgeConfig.getArpProxy());
+    }
+
+    /**
+     * Return the MAC address table entry which can be used to answer
+     * ARP requests for the given IP address.
+     *
+     * <p>
+     *   Note that this method must be called with holding the bridge lock.
+     * </p>
+     *
+     * @param mgr     VTN Manager service.
+     * @param table   The MAC address table for this bridge.
+     * @param target  The target IP address.
+     * @return  A {@link MacTableEntry} instance if found.
+     *          {@code null} if not found, or the host is not reachable.
+     */
+    private MacTableEntry getProxyEntry(VTNManagerImpl mgr,
+                                        MacAddressTable table,
+                                        InetAddress target) {
+        if (target == null) {
+            return null;
+        }
+
+        MacTableEntry tent = table.getEntryByInetAddress(target);
+        if (tent == null) {
+            return null;
+        }
+
+        // Ensure that the host is mapped to this bridge.
+        VBridgeNode bnode =
+            match(mgr, tent.getMacAddress(), tent.getPort(), tent.getVlan());
+        return (bnode == null || !bnode.isEnabled()) ? null : tent;
+    }
+
+    /**
+     * Answer the received ARP request on behalf of the target host.
+     *
+     * <p>
+     *   An ARP reply is sent to the incoming network only if the broadcast
+     *   ARP request for the IP address learned in the MAC address table
+     *   is received. In addition, an
+     *   ARP request is sent to the target host at most twice per aging
+     *   interval so that the MAC address table entry is refreshed, or
+     *   aged out if the host no longer exists.
+     * </p>
+     * <p>
+     *   Note that this method must be called with holding the bridge lock.
+     * </p>
+     *
+     * @param mgr    VTN Manager service.
+     * @param pctx   The context of the received packet.
+     * @param table  The MAC address table for this bridge.
+     * @return  {@code true} if an ARP reply was sent.
+     *          {@code false} if the received packet should be forwarded.
+     */
+    private boolean proxyArp(VTNManagerImpl mgr, PacketContext pctx,
+                             MacAddressTable table) {
+        InetAddress target = ArpProxy.getTarget(pctx);
+        MacTableEntry tent = getProxyEntry(mgr, table, target);
+        if (tent == null) {
+            return false;
+        }
+
+        Ethernet reply = ArpProxy.createReply(pctx, tent);
+        if (reply == null) {
+            return false;
+        }
+
+        // Send an ARP reply to the incoming network.
+        NodeConnector incoming = pctx.getIncomingNodeConnector();
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("{}:{}: Answer ARP request: tpa={}, host={}, {}",
+                      getContainerName(), getNodePath(),
+                      target.getHostAddress(), tent,
+                      pctx.getDescription(incoming));
+        }
+        mgr.transmit(incoming, reply);
+        table.refresh(tent, target);
+
+        return true;
+    }
+
     /**
      * Flood the specified packet to this bridge.
      *
@@ -1263,6 +1374,22 @@ public final class VBridgeImpl extends PortBridge<VBridgeIfImpl>
 
     // PortBridge
 
+    /**
+     * Determine whether flow entries for transit switches should be
+     * aggregated by the destination MAC address or not.
+     *
+     * <p>
+     *   Note that this method must be called with holding the bridge lock.
+     * </p>
+     *
+     * @return  {@code true} only if the aggregate flow mode is enabled
+     *          in this vBridge.
+     */
+    @Override
+    protected boolean isFlowAggregated() {
+        return Boolean.TRUE.equals(bridgeConfig.getAggregateFlow());
+    }
+
     /**
      * Evaluate flow filters configured in this vBridge against the given
      * outgoing packet.
@@ -1414,6 +1541,11 @@ public final class VBridgeImpl extends PortBridge<VBridgeIfImpl>
         // Evaluate vBridge flow filters for incoming packets.
         inFlowFilters.evaluate(mgr, pctx, FlowFilterMap.VLAN_UNSPEC);
 
+        if (isArpProxyEnabled() && proxyArp(mgr, pctx, table)) {
+            // The ARP request was answered on behalf of the target host.
+            return PacketResult.KEEP_PROCESSING;
+        }
+
         // Determine whether the destination address is known or not.
         MacTableEntry tent = getDestination(mgr, pctx, table);
         if (tent != null) {
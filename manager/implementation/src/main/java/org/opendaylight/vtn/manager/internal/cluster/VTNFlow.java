@@ -15,8 +15,11 @@ import java.io.Serializable;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.opendaylight.vtn.manager.NodeRoute;
@@ -52,6 +55,7 @@ import org.opendaylight.vtn.manager.internal.PortFilter;
 import org.opendaylight.vtn.manager.internal.TxContext;
 import org.opendaylight.vtn.manager.internal.VTNManagerImpl;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
 
 import org.opendaylight.controller.connectionmanager.IConnectionManager;
@@ -118,6 +122,30 @@ public final class VTNFlow implements Serializable {
      */
     private final List<FlowEntry>  flowEntries = new ArrayList<FlowEntry>();
 
+    /**
+     * Set of flow entries which can be shared with other VTN flows.
+     *
+     * <p>
+     *   {@code null} is set if this VTN flow has no shared flow entry.
+     * </p>
+     */
+    private Set<FlowEntry>  sharedFlows;
+
+    /**
+     * SAL flows which match the packet exactly, indexed by shared flow
+     * entries.
+     *
+     * <p>
+     *   A SAL flow in this map is installed instead of the shared flow
+     *   entry if the shared flow entry conflicts with the flow entry
+     *   already installed by another VTN flow.
+     * </p>
+     * <p>
+     *   Note that this field does not affect identify of this instance.
+     * </p>
+     */
+    private transient Map<FlowEntry, Flow>  exactFlows;
+
     /**
      * Set of nodes related to this flow.
      *
@@ -564,6 +592,133 @@ public final class VTNFlow implements Serializable {
         addFlow(mgr, flow, node);
     }
 
+    /**
+     * Add a flow entry which can be shared with other VTN flows.
+     *
+     * <p>
+     *   A shared flow entry is installed only if the same flow entry is not
+     *   yet installed by another VTN flow, and it is uninstalled when all
+     *   the VTN flows that use it are removed.
+     * </p>
+     *
+     * @param mgr        VTN Manager service.
+     * @param match      Match object for a new flow entry.
+     * @param actions    A list of actions.
+     * @param priority   Priority value for a new flow entry.
+     * @param exact      Match object which matches the packet exactly.
+     *                   It is used if the shared flow entry conflicts with
+     *                   the flow entry installed by another VTN flow.
+     * @param exactPri   Priority value for a flow entry which matches
+     *                   the packet exactly.
+     * @see #unshareFlow(FlowEntry)
+     */
+    public void addSharedFlow(VTNManagerImpl mgr, Match match,
+                              ActionList actions, int priority, Match exact,
+                              int exactPri) {
+        addFlow(mgr, match, actions, priority);
+        if (sharedFlows == null) {
+            sharedFlows = new HashSet<FlowEntry>();
+        }
+
+        // A shared flow entry does not belong to this flow group.
+        FlowEntry fent = flowEntries.get(flowEntries.size() - 1);
+        fent.getFlow().setId(
+            FlowGroupId.getTenantCookie(groupId.getTenantName()));
+        sharedFlows.add(fent);
+
+        Flow flow = new Flow(exact, actions.get());
+        flow.setPriority((short)exactPri);
+        flow.setId(groupId.getFlowCookie());
+        if (exactFlows == null) {
+            exactFlows = new HashMap<FlowEntry, Flow>();
+        }
+        exactFlows.put(fent, flow);
+    }
+
+    /**
+     * Return a set of flow entries which can be shared with other VTN flows.
+     *
+     * @return  A set of shared flow entries.
+     *          An empty set is returned if this VTN flow has no shared
+     *          flow entry.
+     */
+    public Set<FlowEntry> getSharedFlows() {
+        return (sharedFlows == null)
+            ? Collections.<FlowEntry>emptySet()
+            : Collections.unmodifiableSet(sharedFlows);
+    }
+
+    /**
+     * Determine whether the given flow entry is shared with other VTN flows
+     * or not.
+     *
+     * @param fent  A flow entry in this VTN flow.
+     * @return  {@code true} only if the given flow entry can be shared with
+     *          other VTN flows.
+     */
+    public boolean isSharedFlow(FlowEntry fent) {
+        return (sharedFlows != null && sharedFlows.contains(fent));
+    }
+
+    /**
+     * Replace the given shared flow entry with the flow entry already
+     * installed by another VTN flow.
+     *
+     * <p>
+     *   This method must be called before this VTN flow is put into any
+     *   hash-based collection because it changes the hash code of this
+     *   instance.
+     * </p>
+     *
+     * @param fent       A shared flow entry in this VTN flow.
+     * @param installed  A flow entry installed by another VTN flow.
+     *                   It must have the same node and SAL flow as
+     *                   {@code fent}.
+     */
+    public void shareFlow(FlowEntry fent, FlowEntry installed) {
+        int index = flowEntries.indexOf(fent);
+        if (index > 0 && sharedFlows.remove(fent)) {
+            flowEntries.set(index, installed);
+            sharedFlows.add(installed);
+        }
+    }
+
+    /**
+     * Replace the given shared flow entry with a flow entry which matches
+     * the packet exactly.
+     *
+     * <p>
+     *   This method is used if the given shared flow entry conflicts with
+     *   the flow entry installed by another VTN flow. A new flow entry
+     *   belongs to this flow group, and it is never shared with other
+     *   VTN flows.
+     * </p>
+     * <p>
+     *   This method must be called before this VTN flow is put into any
+     *   hash-based collection because it changes the hash code of this
+     *   instance.
+     * </p>
+     *
+     * @param fent  A shared flow entry in this VTN flow.
+     * @return  {@code true} if the given flow entry was replaced.
+     *          {@code false} if no flow entry which matches the packet
+     *          exactly is available.
+     */
+    public boolean unshareFlow(FlowEntry fent) {
+        int index = flowEntries.indexOf(fent);
+        Flow flow = (exactFlows == null) ? null : exactFlows.get(fent);
+        if (index <= 0 || flow == null || !sharedFlows.remove(fent)) {
+            return false;
+        }
+
+        exactFlows.remove(fent);
+        FlowEntry entry = new FlowEntry(fent.getGroupName(),
+                                        fent.getFlowName(), flow,
+                                        fent.getNode());
+        flowEntries.set(index, entry);
+        return true;
+    }
+
     /**
      * Add a flow entry that drops matched packets.
      *
@@ -585,11 +740,17 @@ public final class VTNFlow implements Serializable {
     /**
      * Add a flow entry.
      *
+     * <p>
+     *   The flow cookie which identifies this flow group is set to the
+     *   given SAL flow.
+     * </p>
+     *
      * @param mgr   VTN Manager service.
      * @param flow  A SAL flow to be added.
      * @param node  A node associated with the given flow.
      */
     public void addFlow(VTNManagerImpl mgr, Flow flow, Node node) {
+        flow.setId(groupId.getFlowCookie());
         int index = flowEntries.size();
         String gname = groupId.toString();
         StringBuilder builder = new StringBuilder(gname);
@@ -720,6 +881,62 @@ public final class VTNFlow implements Serializable {
         return false;
     }
 
+    /**
+     * Return a set of virtual node paths on which this flow depends.
+     *
+     * <p>
+     *   A returned set contains virtual node paths in the virtual packet
+     *   routing path and the additional dependency set.
+     *   Note that this flow also depends on virtual nodes which contain
+     *   virtual nodes in the returned set.
+     * </p>
+     *
+     * @return  A set of {@link VTenantPath} instances.
+     */
+    public Set<VTenantPath> getDependedPaths() {
+        Set<VTenantPath> paths = new HashSet<VTenantPath>();
+        for (VNodeRoute vroute: virtualRoute) {
+            VNodePath path = vroute.getPath();
+            if (path != null) {
+                paths.add(path);
+            }
+        }
+        if (dependNodes != null) {
+            paths.addAll(dependNodes);
+        }
+
+        return paths;
+    }
+
+    /**
+     * Return a list of inter-switch links used by this flow.
+     *
+     * <p>
+     *   An inter-switch link is determined by the output port of a flow
+     *   entry and the input port of the next flow entry.
+     * </p>
+     *
+     * @return  A list of {@link LinkEdge} instances.
+     */
+    public List<LinkEdge> getLinkEdges() {
+        List<LinkEdge> edges = new ArrayList<LinkEdge>();
+        SalPort out = null;
+        for (FlowEntry fent: flowEntries) {
+            Flow flow = fent.getFlow();
+            if (out != null) {
+                // IN_PORT field should be contained in every flow entry.
+                MatchField mf = flow.getMatch().getField(MatchType.IN_PORT);
+                SalPort in = SalPort.create((NodeConnector)mf.getValue());
+                if (in != null && in.getNodeNumber() != out.getNodeNumber()) {
+                    edges.add(new LinkEdge(out, in));
+                }
+            }
+            out = SalPort.create(getOutputPort(flow.getActions()));
+        }
+
+        return edges;
+    }
+
     /**
      * Determine whether this flow depends on the specified host entry
      * represented by a pair of MAC address and a VLAN ID or not.
@@ -1069,6 +1286,89 @@ public final class VTNFlow implements Serializable {
         return pathPolicy;
     }
 
+    /**
+     * Create a new VTN flow which forwards packets along the given physical
+     * packet route instead of the route used by this VTN flow.
+     *
+     * <p>
+     *   The ingress and egress flow entries keep their match and actions
+     *   except for switch ports along the route. Flow entries for transit
+     *   switches are never shared with other VTN flows.
+     * </p>
+     * <p>
+     *   The new VTN flow inherits the flow group ID of this VTN flow.
+     *   So the ingress flow entry of the new VTN flow has the same name as
+     *   this VTN flow, and it can be modified in place by the forwarding
+     *   rules manager.
+     * </p>
+     *
+     * @param mgr   VTN Manager service.
+     * @param path  A list of {@link LinkEdge} instances which represents the
+     *              packet route from the ingress switch to the egress
+     *              switch.
+     * @return  A new VTN flow.
+     *          {@code null} is returned if this VTN flow can not be
+     *          rerouted along the given route.
+     */
+    public VTNFlow reroute(VTNManagerImpl mgr, List<LinkEdge> path) {
+        int size = flowEntries.size();
+        if (size < 2 || path.isEmpty()) {
+            return null;
+        }
+
+        Flow ingress = flowEntries.get(0).getFlow();
+        FlowEntry egress = flowEntries.get(size - 1);
+        Match base = ingress.getMatch();
+        MatchField mf = base.getField(MatchType.IN_PORT);
+        NodeConnector incoming = (NodeConnector)mf.getValue();
+        short pri = ingress.getPriority();
+
+        // Create flow entries except for egress flow.
+        VTNFlow vflow = new VTNFlow(groupId);
+        for (LinkEdge le: path) {
+            NodeConnector port = le.getSourcePort().getAdNodeConnector();
+            Node node = port.getNode();
+            if (!node.equals(incoming.getNode())) {
+                return null;
+            }
+
+            Match match = base.clone();
+            match.setField(MatchType.IN_PORT, incoming);
+            List<Action> actions = new ArrayList<Action>();
+            for (Action action: ingress.getActions()) {
+                actions.add((action instanceof Output)
+                            ? new Output(port) : action);
+            }
+
+            Flow flow = new Flow(match, actions);
+            flow.setPriority(pri);
+            vflow.addFlow(mgr, flow, node);
+            incoming = le.getDestinationPort().getAdNodeConnector();
+        }
+
+        // Create egress flow entry.
+        Node dnode = egress.getNode();
+        if (!dnode.equals(incoming.getNode())) {
+            return null;
+        }
+
+        Flow eflow = egress.getFlow();
+        Match match = eflow.getMatch().clone();
+        match.setField(MatchType.IN_PORT, incoming);
+        Flow flow = new Flow(match, new ArrayList<Action>(eflow.getActions()));
+        flow.setPriority(eflow.getPriority());
+        vflow.addFlow(mgr, flow, dnode);
+
+        vflow.setTimeout(ingress.getIdleTimeout(), ingress.getHardTimeout());
+        vflow.pathPolicy = pathPolicy;
+        vflow.virtualRoute.addAll(virtualRoute);
+        if (dependNodes != null) {
+            vflow.addDependency(dependNodes);
+        }
+
+        return vflow;
+    }
+
     /**
      * Read data from the given input stream and deserialize.
      *
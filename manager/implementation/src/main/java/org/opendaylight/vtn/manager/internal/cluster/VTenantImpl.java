@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import org.opendaylight.vtn.manager.DataLinkHost;
 import org.opendaylight.vtn.manager.IVTNManagerAware;
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.MacAddressEntry;
 import org.opendaylight.vtn.manager.MacMap;
 import org.opendaylight.vtn.manager.MacMapConfig;
@@ -58,6 +59,8 @@ import org.opendaylight.vtn.manager.internal.ContainerConfig;
 import org.opendaylight.vtn.manager.internal.LockStack;
 import org.opendaylight.vtn.manager.internal.MacAddressTable;
 import org.opendaylight.vtn.manager.internal.PacketContext;
+import org.opendaylight.vtn.manager.internal.PacketStage;
+import org.opendaylight.vtn.manager.internal.PacketStats;
 import org.opendaylight.vtn.manager.internal.PortFilter;
 import org.opendaylight.vtn.manager.internal.RouteResolver;
 import org.opendaylight.vtn.manager.internal.TxContext;
@@ -67,6 +70,7 @@ import org.opendaylight.vtn.manager.internal.inventory.VtnPortEvent;
 import org.opendaylight.vtn.manager.internal.routing.PathMapEvaluator;
 import org.opendaylight.vtn.manager.internal.routing.RoutingEvent;
 import org.opendaylight.vtn.manager.internal.util.MiscUtils;
+import org.opendaylight.vtn.manager.internal.util.PageCursor;
 
 import org.opendaylight.controller.sal.core.NodeConnector;
 import org.opendaylight.controller.sal.core.UpdateType;
@@ -1250,6 +1254,32 @@ public final class VTenantImpl implements FlowFilterNode {
         }
     }
 
+    /**
+     * Return MAC address entries learned by the specified virtual L2 bridge
+     * in the page specified by the given cursor.
+     *
+     * @param mgr     VTN Manager service.
+     * @param path    Path to the bridge.
+     * @param cursor  A {@link PageCursor} instance which specifies the page
+     *                to be returned.
+     * @return  A {@link ListPage} instance which contains MAC address
+     *          entries.
+     * @throws VTNException  An error occurred.
+     */
+    public ListPage<MacAddressEntry> getMacEntries(VTNManagerImpl mgr,
+                                                   VBridgePath path,
+                                                   PageCursor cursor)
+        throws VTNException {
+        Lock rdlock = rwLock.readLock();
+        rdlock.lock();
+        try {
+            MacAddressTable table = getMacAddressTable(mgr, path);
+            return table.getEntries(cursor);
+        } finally {
+            rdlock.unlock();
+        }
+    }
+
     /**
      * Search for a MAC address entry from the MAC address table in the
      * specified virtual L2 bridge.
@@ -1544,8 +1574,11 @@ public final class VTenantImpl implements FlowFilterNode {
             }
 
             // Evaluate path maps.
+            PacketStats stats = mgr.getPacketStats();
+            long start = stats.start();
             RouteResolver rr = new PathMapEvaluator(pctx).evaluate(tenantName);
             pctx.setRouteResolver(rr);
+            stats.record(PacketStage.PATH_MAP, tenantName, start);
 
             // Evaluate VTN flow filters.
             flowFilters.evaluate(mgr, pctx, FlowFilterMap.VLAN_UNSPEC);
@@ -30,6 +30,7 @@ import org.opendaylight.vtn.manager.internal.VTNManagerImpl;
 import org.opendaylight.vtn.manager.internal.VlanMapPortFilter;
 import org.opendaylight.vtn.manager.internal.inventory.VtnNodeEvent;
 import org.opendaylight.vtn.manager.internal.inventory.VtnPortEvent;
+import org.opendaylight.vtn.manager.internal.util.inventory.EdgePortIndex;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryUtils;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
@@ -293,12 +294,19 @@ public final class VlanMapImpl implements VBridgeNode {
         HashSet<NodeConnector> ports = new HashSet<NodeConnector>();
         VlanMapPortFilter filter =
             VlanMapPortFilter.create(resMgr, node, vlan, sent);
-        InventoryReader reader = pctx.getTxContext().getInventoryReader();
-        try {
-            reader.collectUpEdgePorts(ports, filter);
-        } catch (Exception e) {
-            mgr.logException(LOG, mapPath, e);
-            return;
+        TxContext ctx = pctx.getTxContext();
+        EdgePortIndex index = ctx.getProvider().getEdgePortIndex();
+        if (index != null) {
+            // Use the edge port index in order to avoid datastore read.
+            index.collectUpEdgePorts(ports, node, filter);
+        } else {
+            InventoryReader reader = ctx.getInventoryReader();
+            try {
+                reader.collectUpEdgePorts(ports, filter);
+            } catch (Exception e) {
+                mgr.logException(LOG, mapPath, e);
+                return;
+            }
         }
 
         if (ports.isEmpty()) {
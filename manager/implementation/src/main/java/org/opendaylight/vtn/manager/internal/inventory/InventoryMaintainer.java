@@ -12,6 +12,7 @@ package org.opendaylight.vtn.manager.internal.inventory;
 import org.opendaylight.vtn.manager.internal.TxQueue;
 import org.opendaylight.vtn.manager.internal.TxTask;
 import org.opendaylight.vtn.manager.internal.util.DataStoreListener;
+import org.opendaylight.vtn.manager.internal.util.MiscUtils;
 
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
@@ -23,16 +24,30 @@ import org.opendaylight.yangtools.yang.binding.DataObject;
  * Base class for MD-SAL data change listeners that maintain the VTN inventory
  * data.
  *
+ * <p>
+ *   Each data change event is converted into a transaction task that
+ *   updates the VTN inventory. If the task created by the previous event
+ *   has not been started yet, updates are merged into that task instead of
+ *   submitting a new task. So a burst of events, such as a switch with
+ *   many ports reconnecting, is processed by a few transactions.
+ * </p>
+ *
  * @param <T>  Type of data object in the MD-SAL datastore to listen.
  * @param <C>  Type of event context.
  */
-public abstract class InventoryMaintainer<T extends DataObject, C>
+public abstract class InventoryMaintainer
+    <T extends DataObject, C extends MergeableUpdateTask<? super C>>
     extends DataStoreListener<T, C> {
     /**
      * The transaction submit queue for the VTN inventory data models.
      */
     private final TxQueue  txQueue;
 
+    /**
+     * The task submitted most recently.
+     */
+    private C  pendingTask;
+
     /**
      * Construct a new instance.
      *
@@ -59,6 +74,31 @@ public abstract class InventoryMaintainer<T extends DataObject, C>
         txQueue.post(task);
     }
 
+    /**
+     * Submit the given inventory update task.
+     *
+     * <p>
+     *   If the task submitted previously has not been started yet, updates
+     *   in the given task are merged into that task.
+     * </p>
+     *
+     * @param task  An inventory update task.
+     */
+    private void submitUpdate(C task) {
+        synchronized (this) {
+            C pending = pendingTask;
+            if (pending != null && pending.merge(task)) {
+                MiscUtils.VERBOSE_LOG.
+                    trace("{}: Inventory updates have been merged.",
+                          getTargetType().getSimpleName());
+                return;
+            }
+            pendingTask = task;
+        }
+
+        submit(task);
+    }
+
     /**
      * Execute the given transaction task for initialization on the
      * transaction queue.
@@ -68,4 +108,16 @@ public abstract class InventoryMaintainer<T extends DataObject, C>
     protected final void submitInitial(TxTask<?> task) {
         txQueue.postFirst(task);
     }
+
+    // DataStoreListener
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final void exitEvent(C ectx) {
+        if (ectx.hasUpdates()) {
+            submitUpdate(ectx);
+        }
+    }
 }
@@ -20,7 +20,6 @@ import org.opendaylight.vtn.manager.VTNException;
 
 import org.opendaylight.vtn.manager.internal.TxContext;
 import org.opendaylight.vtn.manager.internal.util.DataStoreUtils;
-import org.opendaylight.vtn.manager.internal.util.tx.AbstractTxTask;
 
 import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
@@ -36,7 +35,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
  *             target inventory.
  */
 abstract class InventoryUpdateTask<T extends DataObject, L>
-    extends AbstractTxTask<Void> {
+    extends MergeableUpdateTask<InventoryUpdateTask<T, L>> {
     /**
      * A map that keeps locations of notified inventories.
      */
@@ -67,16 +66,6 @@ abstract class InventoryUpdateTask<T extends DataObject, L>
         updated.put(loc, path);
     }
 
-    /**
-     * Determine whether this task contains at least one notification or not.
-     *
-     * @return  {@code true} only if this instance contains at least one
-     *          notification.
-     */
-    final boolean hasUpdates() {
-        return !updated.isEmpty();
-    }
-
     /**
      * Return a {@link Logger} instance.
      *
@@ -125,6 +114,24 @@ abstract class InventoryUpdateTask<T extends DataObject, L>
     protected abstract void fixUp(TxContext ctx, boolean added)
         throws VTNException;
 
+    // MergeableUpdateTask
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    final boolean hasUpdates() {
+        return !updated.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final void mergeUpdates(InventoryUpdateTask<T, L> task) {
+        updated.putAll(task.updated);
+    }
+
     // TxTask
 
     /**
@@ -132,6 +139,7 @@ abstract class InventoryUpdateTask<T extends DataObject, L>
      */
     @Override
     public final Void execute(TxContext ctx) throws VTNException {
+        start();
         ReadWriteTransaction tx = ctx.getReadWriteTransaction();
         LogicalDatastoreType oper = LogicalDatastoreType.OPERATIONAL;
         boolean added = false;
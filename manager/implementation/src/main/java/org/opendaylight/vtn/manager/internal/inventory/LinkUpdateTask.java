@@ -25,7 +25,6 @@ import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryUtils;
 import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
-import org.opendaylight.vtn.manager.internal.util.tx.AbstractTxTask;
 
 import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
@@ -41,7 +40,7 @@ import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.
 /**
  * A MD-SAL datastore transaction task that updates VTN topology information.
  */
-final class LinkUpdateTask extends AbstractTxTask<Void> {
+final class LinkUpdateTask extends MergeableUpdateTask<LinkUpdateTask> {
     /**
      * A set of paths to updated inter-switch links.
      */
@@ -70,16 +69,6 @@ final class LinkUpdateTask extends AbstractTxTask<Void> {
         updated.add(path);
     }
 
-    /**
-     * Determine whether this task contains at least one notification or not.
-     *
-     * @return  {@code true} only if this instance contains at least one
-     *          notification.
-     */
-    boolean hasUpdates() {
-        return !updated.isEmpty();
-    }
-
     /**
      * Add a VTN link information corresponding to the given MD-SAL
      * inter-switch link.
@@ -148,6 +137,24 @@ final class LinkUpdateTask extends AbstractTxTask<Void> {
         }
     }
 
+    // MergeableUpdateTask
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean hasUpdates() {
+        return !updated.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void mergeUpdates(LinkUpdateTask task) {
+        updated.addAll(task.updated);
+    }
+
     // TxTask
 
     /**
@@ -155,6 +162,7 @@ final class LinkUpdateTask extends AbstractTxTask<Void> {
      */
     @Override
     public Void execute(TxContext ctx) throws VTNException {
+        start();
         ReadWriteTransaction tx = ctx.getReadWriteTransaction();
         LogicalDatastoreType oper = LogicalDatastoreType.OPERATIONAL;
         InventoryReader reader = ctx.getInventoryReader();
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.inventory;
+
+import org.opendaylight.vtn.manager.internal.util.tx.AbstractTxTask;
+
+/**
+ * Base class for MD-SAL datastore transaction tasks that update inventory
+ * information notified by data change events.
+ *
+ * <p>
+ *   A task of this type only keeps the locations of notified inventories,
+ *   and reads the current inventory data when it is executed. So updates
+ *   notified by a later data change event can be merged into a task which
+ *   has not been started yet, and intermediate states of the same inventory
+ *   are collapsed into one update.
+ * </p>
+ *
+ * @param <T>  The type of the task itself.
+ */
+abstract class MergeableUpdateTask<T extends MergeableUpdateTask<T>>
+    extends AbstractTxTask<Void> {
+    /**
+     * Set {@code true} if this task has been started.
+     */
+    private boolean  started;
+
+    /**
+     * Merge updates in the given task into this task.
+     *
+     * @param task  A task that contains updates to be merged.
+     * @return  {@code true} if updates have been merged.
+     *          {@code false} if this task has already been started.
+     */
+    final synchronized boolean merge(T task) {
+        if (started) {
+            return false;
+        }
+
+        mergeUpdates(task);
+        return true;
+    }
+
+    /**
+     * Mark this task as started.
+     *
+     * <p>
+     *   This method must be called before the task reads updates.
+     *   No updates will be merged into this task after this call.
+     * </p>
+     */
+    protected final synchronized void start() {
+        started = true;
+    }
+
+    /**
+     * Determine whether this task contains at least one notification or not.
+     *
+     * @return  {@code true} only if this instance contains at least one
+     *          notification.
+     */
+    abstract boolean hasUpdates();
+
+    /**
+     * Merge updates in the given task into this task.
+     *
+     * @param task  A task that contains updates to be merged.
+     */
+    protected abstract void mergeUpdates(T task);
+}
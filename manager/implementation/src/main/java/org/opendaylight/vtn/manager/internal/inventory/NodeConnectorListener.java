@@ -97,16 +97,6 @@ public final class NodeConnectorListener
         return new PortUpdateTask(LOG);
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void exitEvent(PortUpdateTask ectx) {
-        if (ectx.hasUpdates()) {
-            submit(ectx);
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
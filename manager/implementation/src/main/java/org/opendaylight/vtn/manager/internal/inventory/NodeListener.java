@@ -181,16 +181,6 @@ public final class NodeListener
         return new NodeUpdateTask(LOG);
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void exitEvent(NodeUpdateTask ectx) {
-        if (ectx.hasUpdates()) {
-            submit(ectx);
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -178,16 +178,6 @@ public final class TopologyListener
         return new LinkUpdateTask(LOG);
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    protected void exitEvent(LinkUpdateTask ectx) {
-        if (ectx.hasUpdates()) {
-            submit(ectx);
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
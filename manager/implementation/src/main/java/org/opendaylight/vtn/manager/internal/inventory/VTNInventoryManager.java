@@ -21,6 +21,7 @@ import org.opendaylight.vtn.manager.internal.util.IdentifiedData;
 import org.opendaylight.vtn.manager.internal.util.IdentifierTargetComparator;
 import org.opendaylight.vtn.manager.internal.util.MiscUtils;
 import org.opendaylight.vtn.manager.internal.util.MultiDataStoreListener;
+import org.opendaylight.vtn.manager.internal.util.inventory.EdgePortIndex;
 import org.opendaylight.vtn.manager.internal.util.inventory.InventoryUtils;
 import org.opendaylight.vtn.manager.internal.util.tx.TxQueueImpl;
 
@@ -76,6 +77,11 @@ public final class VTNInventoryManager
      */
     private final AtomicBoolean  serviceState = new AtomicBoolean(true);
 
+    /**
+     * Index of edge ports in up state.
+     */
+    private final EdgePortIndex  edgePortIndex = new EdgePortIndex();
+
     /**
      * Initialize static fields.
      */
@@ -124,6 +130,15 @@ public final class VTNInventoryManager
         vtnListeners.addIfAbsent(l);
     }
 
+    /**
+     * Return the index of edge ports in up state.
+     *
+     * @return  An {@link EdgePortIndex} instance.
+     */
+    public EdgePortIndex getEdgePortIndex() {
+        return edgePortIndex;
+    }
+
     /**
      * Determine whether the VTN inventory service is alive or not.
      *
@@ -157,6 +172,11 @@ public final class VTNInventoryManager
             LOG.info("Node has been {}: id={}, proto={}",
                      MiscUtils.toLowerCase(type.name()),
                      vnode.getId().getValue(), vnode.getOpenflowVersion());
+            if (type == VtnUpdateType.REMOVED) {
+                edgePortIndex.remove(vnode);
+            } else {
+                edgePortIndex.update(vnode);
+            }
             postVtnNodeEvent(vnode, type);
             return;
         }
@@ -168,6 +188,11 @@ public final class VTNInventoryManager
             LOG.info("Port has been {}: {}",
                      MiscUtils.toLowerCase(type.name()),
                      InventoryUtils.toString(vport));
+            if (type == VtnUpdateType.REMOVED) {
+                edgePortIndex.remove(vport);
+            } else {
+                edgePortIndex.update(vport);
+            }
             postVtnPortEvent(vport, isl, type);
             return;
         }
@@ -206,6 +231,7 @@ public final class VTNInventoryManager
         LOG.info("Port has been changed: old={}, new={}",
                  InventoryUtils.toString(oldPort),
                  InventoryUtils.toString(newPort));
+        edgePortIndex.update(newPort);
         postVtnPortEvent(newPort, isl, VtnUpdateType.CHANGED);
     }
 
@@ -253,6 +279,7 @@ public final class VTNInventoryManager
     public void close() {
         shutdown();
         super.close();
+        edgePortIndex.clear();
     }
 
     // MultiDataStoreListener
@@ -46,6 +46,16 @@ public final class PacketInEvent extends TxEvent {
      */
     private final Ethernet  ethernet;
 
+    /**
+     * The system time, in nanoseconds, when this event was posted to the
+     * transaction queue.
+     *
+     * <p>
+     *   Zero means the latency measurement is disabled.
+     * </p>
+     */
+    private long  postedTime;
+
     /**
      * Construct a new instance.
      *
@@ -86,6 +96,28 @@ public final class PacketInEvent extends TxEvent {
         ethernet = ev.ethernet;
     }
 
+    /**
+     * Set the system time when this event is posted to the transaction
+     * queue.
+     *
+     * @param time  The system time in nanoseconds.
+     *              Zero means the latency measurement is disabled.
+     */
+    void setPostedTime(long time) {
+        postedTime = time;
+    }
+
+    /**
+     * Return the system time when this event was posted to the transaction
+     * queue.
+     *
+     * @return  The system time in nanoseconds.
+     *          Zero is returned if the latency measurement is disabled.
+     */
+    public long getPostedTime() {
+        return postedTime;
+    }
+
     /**
      * Return a {@link SalPort} instance which specifies the ingress switch
      * port.
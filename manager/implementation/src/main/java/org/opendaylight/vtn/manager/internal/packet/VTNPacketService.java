@@ -20,6 +20,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.opendaylight.vtn.manager.internal.PacketStage;
+import org.opendaylight.vtn.manager.internal.PacketStats;
 import org.opendaylight.vtn.manager.internal.VTNManagerProvider;
 import org.opendaylight.vtn.manager.internal.inventory.VTNInventoryListener;
 import org.opendaylight.vtn.manager.internal.inventory.VtnNodeEvent;
@@ -236,9 +238,11 @@ public final class VTNPacketService extends SalNotificationListener
             return;
         }
 
+        PacketStats stats = vtnProvider.getPacketStats();
         PacketInEvent ev = null;
         for (VTNPacketListener l: listeners) {
             if (ev == null) {
+                long start = stats.start();
                 try {
                     ev = new PacketInEvent(l, notification, ingress);
                 } catch (IllegalArgumentException e) {
@@ -255,10 +259,12 @@ public final class VTNPacketService extends SalNotificationListener
                     // Ignore LLDP packet.
                     return;
                 }
+                stats.record(PacketStage.PARSE, null, start);
             } else {
                 ev = new PacketInEvent(l, ev);
             }
 
+            ev.setPostedTime(stats.start());
             vtnProvider.post(ev);
         }
     }
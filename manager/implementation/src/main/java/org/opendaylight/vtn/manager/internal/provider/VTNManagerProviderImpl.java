@@ -26,6 +26,7 @@ import com.google.common.util.concurrent.ListenableFuture;
 import org.opendaylight.vtn.manager.VTNException;
 
 import org.opendaylight.vtn.manager.internal.FlowSelector;
+import org.opendaylight.vtn.manager.internal.PacketStats;
 import org.opendaylight.vtn.manager.internal.RouteResolver;
 import org.opendaylight.vtn.manager.internal.TxContext;
 import org.opendaylight.vtn.manager.internal.TxTask;
@@ -44,6 +45,7 @@ import org.opendaylight.vtn.manager.internal.util.concurrent.FutureCallbackTask;
 import org.opendaylight.vtn.manager.internal.util.concurrent.FutureCanceller;
 import org.opendaylight.vtn.manager.internal.util.concurrent.VTNFuture;
 import org.opendaylight.vtn.manager.internal.util.concurrent.VTNThreadPool;
+import org.opendaylight.vtn.manager.internal.util.inventory.EdgePortIndex;
 import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
 import org.opendaylight.vtn.manager.internal.util.pathpolicy.PathPolicyUtils;
 import org.opendaylight.vtn.manager.internal.util.tx.ReadTxContext;
@@ -139,6 +141,11 @@ public final class VTNManagerProviderImpl implements VTNManagerProvider {
      */
     private final SubSystemRegistry  subSystems = new SubSystemRegistry();
 
+    /**
+     * Latency statistics about the PACKET_IN processing pipeline.
+     */
+    private final PacketStats  packetStats = new PacketStats();
+
     /**
      * AD-SAL VTN Manager service.
      */
@@ -214,6 +221,7 @@ public final class VTNManagerProviderImpl implements VTNManagerProvider {
             throw e;
         }
 
+        packetStats.register();
         LOG.info("VTN Manager provider has been initialized.");
     }
 
@@ -374,6 +382,23 @@ public final class VTNManagerProviderImpl implements VTNManagerProvider {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EdgePortIndex getEdgePortIndex() {
+        VTNInventoryManager vim = inventoryManager.get();
+        return (vim == null) ? null : vim.getEdgePortIndex();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PacketStats getPacketStats() {
+        return packetStats;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -514,6 +539,7 @@ public final class VTNManagerProviderImpl implements VTNManagerProvider {
 
             globalExecutor.close();
             vtnManager.set(null);
+            packetStats.unregister();
 
             LOG.info("VTN Manager provider has been closed.");
         }
@@ -9,8 +9,12 @@
 
 package org.opendaylight.vtn.manager.internal.routing;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.opendaylight.vtn.manager.VTNException;
 
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.tx.TxEvent;
 
 /**
@@ -23,13 +27,48 @@ public final class RoutingEvent extends TxEvent {
      */
     private final VTNRoutingListener  listener;
 
+    /**
+     * A set of inter-switch links added to the routing table.
+     */
+    private final Set<LinkEdge>  addedLinks;
+
+    /**
+     * A set of inter-switch links removed from the routing table.
+     */
+    private final Set<LinkEdge>  removedLinks;
+
     /**
      * Construct a new instance.
      *
-     * @param l  A {@link VTNRoutingListener} instance.
+     * @param l        A {@link VTNRoutingListener} instance.
+     * @param added    A set of inter-switch links added to the routing
+     *                 table.
+     * @param removed  A set of inter-switch links removed from the routing
+     *                 table.
      */
-    RoutingEvent(VTNRoutingListener l) {
+    RoutingEvent(VTNRoutingListener l, Set<LinkEdge> added,
+                 Set<LinkEdge> removed) {
         listener = l;
+        addedLinks = Collections.unmodifiableSet(added);
+        removedLinks = Collections.unmodifiableSet(removed);
+    }
+
+    /**
+     * Return a set of inter-switch links added to the routing table.
+     *
+     * @return  An unmodifiable set of {@link LinkEdge} instances.
+     */
+    public Set<LinkEdge> getAddedLinks() {
+        return addedLinks;
+    }
+
+    /**
+     * Return a set of inter-switch links removed from the routing table.
+     *
+     * @return  An unmodifiable set of {@link LinkEdge} instances.
+     */
+    public Set<LinkEdge> getRemovedLinks() {
+        return removedLinks;
     }
 
     // TxEvent
@@ -11,6 +11,7 @@ package org.opendaylight.vtn.manager.internal.routing;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -30,6 +31,7 @@ import org.opendaylight.vtn.manager.internal.util.DataStoreListener;
 import org.opendaylight.vtn.manager.internal.util.DataStoreUtils;
 import org.opendaylight.vtn.manager.internal.util.IdentifiedData;
 import org.opendaylight.vtn.manager.internal.util.concurrent.VTNFuture;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
 import org.opendaylight.vtn.manager.internal.util.rpc.RpcFuture;
 import org.opendaylight.vtn.manager.internal.util.rpc.RpcUtils;
 
@@ -194,6 +196,27 @@ public final class VTNRoutingManager
         vtnProvider.publish(updated);
     }
 
+    /**
+     * Convert the given list of {@link VtnLink} instances into a set of
+     * {@link LinkEdge} instances.
+     *
+     * @param vlinks  A list of {@link VtnLink} instances.
+     * @return  A set of {@link LinkEdge} instances.
+     *          Unsupported links are ignored.
+     */
+    private static Set<LinkEdge> toLinkEdges(List<VtnLink> vlinks) {
+        Set<LinkEdge> edges = new HashSet<>();
+        for (VtnLink vlink: vlinks) {
+            try {
+                edges.add(new LinkEdge(vlink));
+            } catch (RuntimeException e) {
+                LOG.trace("Ignore unsupported inter-switch link: {}", vlink);
+            }
+        }
+
+        return edges;
+    }
+
     // AutoCloseable
 
     /**
@@ -224,8 +247,10 @@ public final class VTNRoutingManager
         List<VtnLink> created = ectx.getCreated();
         List<VtnLink> removed = ectx.getRemoved();
         if (topology.update(created, removed)) {
+            Set<LinkEdge> added = toLinkEdges(created);
+            Set<LinkEdge> gone = toLinkEdges(removed);
             for (VTNRoutingListener l: vtnListeners) {
-                RoutingEvent rev = new RoutingEvent(l);
+                RoutingEvent rev = new RoutingEvent(l, added, gone);
                 vtnProvider.post(rev);
             }
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.util;
+
+import org.opendaylight.vtn.manager.internal.util.rpc.RpcException;
+
+/**
+ * {@code PageCursor} describes a continuation token used by cursor-based
+ * list APIs.
+ *
+ * <p>
+ *   A continuation token is a string which consists of a single character
+ *   that specifies the type of the list, and the last map key returned in
+ *   the previous page. The key is encoded in radix 36 so that the token
+ *   is treated as an opaque string by users.
+ * </p>
+ */
+public final class PageCursor {
+    /**
+     * Token type that indicates a list of data flows.
+     */
+    public static final char  TYPE_FLOW = 'f';
+
+    /**
+     * Token type that indicates a list of MAC address table entries.
+     */
+    public static final char  TYPE_MAC = 'm';
+
+    /**
+     * Radix used to encode the key.
+     */
+    private static final int  RADIX = Character.MAX_RADIX;
+
+    /**
+     * The type of the list.
+     */
+    private final char  type;
+
+    /**
+     * The last key returned by the previous page.
+     * {@code null} means the first page.
+     */
+    private final Long  lastKey;
+
+    /**
+     * The maximum number of entries in a page.
+     */
+    private final int  limit;
+
+    /**
+     * Construct a new cursor which specifies the first page.
+     *
+     * @param type   The type of the list.
+     * @param limit  The maximum number of entries in a page.
+     *               Zero or a negative value means no limit.
+     */
+    public PageCursor(char type, int limit) {
+        this(type, (Long)null, limit);
+    }
+
+    /**
+     * Construct a new cursor from the given continuation token.
+     *
+     * @param type   The type of the list.
+     * @param token  A continuation token. {@code null} means the first page.
+     * @param limit  The maximum number of entries in a page.
+     *               Zero or a negative value means no limit.
+     * @throws RpcException
+     *    An invalid continuation token is specified.
+     */
+    public PageCursor(char type, String token, int limit)
+        throws RpcException {
+        this(type, decode(type, token), limit);
+    }
+
+    /**
+     * Construct a new cursor.
+     *
+     * @param type   The type of the list.
+     * @param key    The last key returned by the previous page.
+     * @param limit  The maximum number of entries in a page.
+     *               Zero or a negative value means no limit.
+     */
+    private PageCursor(char type, Long key, int limit) {
+        this.type = type;
+        lastKey = key;
+        this.limit = (limit <= 0) ? Integer.MAX_VALUE : limit;
+    }
+
+    /**
+     * Decode the given continuation token.
+     *
+     * @param type   The type of the list.
+     * @param token  A continuation token.
+     * @return  A {@link Long} instance decoded from the given token.
+     *          {@code null} if {@code token} is {@code null}.
+     * @throws RpcException
+     *    An invalid continuation token is specified.
+     */
+    private static Long decode(char type, String token) throws RpcException {
+        if (token == null) {
+            return null;
+        }
+
+        if (token.length() > 1 && token.charAt(0) == type) {
+            try {
+                return Long.valueOf(Long.parseLong(token.substring(1), RADIX));
+            } catch (NumberFormatException e) {
+                // Fall through.
+            }
+        }
+
+        throw RpcException.getBadArgumentException(
+            "Invalid continuation token: " + token);
+    }
+
+    /**
+     * Return the last key returned by the previous page.
+     *
+     * @return  The last key returned by the previous page.
+     *          {@code null} is returned if this cursor specifies the first
+     *          page.
+     */
+    public Long getLastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Return the maximum number of entries in a page.
+     *
+     * @return  The maximum number of entries in a page.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Create a continuation token which specifies the page next to the
+     * given key.
+     *
+     * @param key  The last key in the current page.
+     * @return  A continuation token.
+     */
+    public String next(long key) {
+        return type + Long.toString(key, RADIX);
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.util.inventory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.opendaylight.vtn.manager.internal.PortFilter;
+
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.node.info.VtnPort;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.nodes.VtnNode;
+
+/**
+ * {@code EdgePortIndex} keeps edge switch ports in up state, grouped by
+ * switch.
+ *
+ * <p>
+ *   This index is updated incrementally by VTN inventory events, and
+ *   publishes an immutable snapshot on every update. So edge ports can be
+ *   looked up without any MD-SAL datastore read.
+ * </p>
+ * <p>
+ *   Note that update methods are synchronized, but lookup methods never
+ *   acquire the lock.
+ * </p>
+ */
+public final class EdgePortIndex {
+    /**
+     * An immutable map which keeps edge ports in up state, grouped by
+     * switch.
+     */
+    private volatile Map<Node, Map<NodeConnector, VtnPort>>  snapshot =
+        Collections.<Node, Map<NodeConnector, VtnPort>>emptyMap();
+
+    /**
+     * Return an immutable snapshot of edge ports in up state.
+     *
+     * @return  An unmodifiable map which keeps pairs of {@link Node} and
+     *          unmodifiable map of edge ports in up state.
+     */
+    public Map<Node, Map<NodeConnector, VtnPort>> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Collect node connectors associated with edge switch ports in up state.
+     *
+     * @param portSet  A set of {@link NodeConnector} instances to store
+     *                 results.
+     * @param node     A {@link Node} instance to select the switch.
+     *                 Edge ports in all switches are collected if
+     *                 {@code null} is specified.
+     * @param filter   A {@link PortFilter} instance which filters switch port.
+     *                 All switch ports are stored to {@code portSet} if
+     *                 {@code null} is specified.
+     */
+    public void collectUpEdgePorts(Set<NodeConnector> portSet, Node node,
+                                   PortFilter filter) {
+        Map<Node, Map<NodeConnector, VtnPort>> map = snapshot;
+        if (node == null) {
+            for (Map<NodeConnector, VtnPort> ports: map.values()) {
+                collect(portSet, ports, filter);
+            }
+        } else {
+            Map<NodeConnector, VtnPort> ports = map.get(node);
+            if (ports != null) {
+                collect(portSet, ports, filter);
+            }
+        }
+    }
+
+    /**
+     * Determine whether the given switch port is an edge port in up state
+     * or not.
+     *
+     * @param nc  A {@link NodeConnector} instance.
+     * @return  {@code true} only if the given port is an edge port in up
+     *          state.
+     */
+    public boolean isUpEdgePort(NodeConnector nc) {
+        Map<NodeConnector, VtnPort> ports = snapshot.get(nc.getNode());
+        return (ports != null && ports.containsKey(nc));
+    }
+
+    /**
+     * Determine whether the given switch has at least one edge port in up
+     * state or not.
+     *
+     * @param node  A {@link Node} instance.
+     * @return  {@code true} only if the given switch has at least one edge
+     *          port in up state.
+     */
+    public boolean hasEdgePort(Node node) {
+        return snapshot.containsKey(node);
+    }
+
+    /**
+     * Update the index with the given VTN node.
+     *
+     * @param vnode  A {@link VtnNode} instance.
+     */
+    public synchronized void update(VtnNode vnode) {
+        SalNode snode = SalNode.create(vnode.getId());
+        if (snode == null) {
+            return;
+        }
+
+        Map<NodeConnector, VtnPort> ports =
+            new HashMap<NodeConnector, VtnPort>();
+        List<VtnPort> vports = vnode.getVtnPort();
+        if (vports != null) {
+            for (VtnPort vport: vports) {
+                SalPort sport = SalPort.create(vport.getId());
+                if (sport != null && InventoryUtils.isEnabledEdge(vport)) {
+                    ports.put(sport.getAdNodeConnector(), vport);
+                }
+            }
+        }
+
+        publish(snode.getAdNode(), ports);
+    }
+
+    /**
+     * Update the index with the given VTN port.
+     *
+     * @param vport  A {@link VtnPort} instance.
+     */
+    public synchronized void update(VtnPort vport) {
+        SalPort sport = SalPort.create(vport.getId());
+        if (sport == null) {
+            return;
+        }
+
+        NodeConnector nc = sport.getAdNodeConnector();
+        Node node = nc.getNode();
+        Map<NodeConnector, VtnPort> cur = snapshot.get(node);
+        Map<NodeConnector, VtnPort> ports;
+        if (InventoryUtils.isEnabledEdge(vport)) {
+            ports = (cur == null)
+                ? new HashMap<NodeConnector, VtnPort>()
+                : new HashMap<NodeConnector, VtnPort>(cur);
+            ports.put(nc, vport);
+        } else if (cur != null && cur.containsKey(nc)) {
+            ports = new HashMap<NodeConnector, VtnPort>(cur);
+            ports.remove(nc);
+        } else {
+            return;
+        }
+
+        publish(node, ports);
+    }
+
+    /**
+     * Remove the given VTN port from the index.
+     *
+     * @param vport  A {@link VtnPort} instance.
+     */
+    public synchronized void remove(VtnPort vport) {
+        SalPort sport = SalPort.create(vport.getId());
+        if (sport == null) {
+            return;
+        }
+
+        NodeConnector nc = sport.getAdNodeConnector();
+        Node node = nc.getNode();
+        Map<NodeConnector, VtnPort> cur = snapshot.get(node);
+        if (cur != null && cur.containsKey(nc)) {
+            Map<NodeConnector, VtnPort> ports =
+                new HashMap<NodeConnector, VtnPort>(cur);
+            ports.remove(nc);
+            publish(node, ports);
+        }
+    }
+
+    /**
+     * Remove all the ports in the given VTN node from the index.
+     *
+     * @param vnode  A {@link VtnNode} instance.
+     */
+    public synchronized void remove(VtnNode vnode) {
+        SalNode snode = SalNode.create(vnode.getId());
+        if (snode != null) {
+            publish(snode.getAdNode(), null);
+        }
+    }
+
+    /**
+     * Remove all the ports from the index.
+     */
+    public synchronized void clear() {
+        snapshot = Collections.<Node, Map<NodeConnector, VtnPort>>emptyMap();
+    }
+
+    /**
+     * Publish a new snapshot which contains the given ports in the given
+     * switch.
+     *
+     * @param node   A {@link Node} instance.
+     * @param ports  A map which keeps edge ports in up state in the given
+     *               switch. {@code null} or an empty map means that the
+     *               given switch has no edge port in up state.
+     */
+    private void publish(Node node, Map<NodeConnector, VtnPort> ports) {
+        Map<Node, Map<NodeConnector, VtnPort>> map =
+            new HashMap<Node, Map<NodeConnector, VtnPort>>(snapshot);
+        if (ports == null || ports.isEmpty()) {
+            if (map.remove(node) == null) {
+                return;
+            }
+        } else {
+            map.put(node, Collections.unmodifiableMap(ports));
+        }
+
+        snapshot = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Collect edge ports accepted by the given filter.
+     *
+     * @param portSet  A set of {@link NodeConnector} instances to store
+     *                 results.
+     * @param ports    A map which keeps edge ports in a switch.
+     * @param filter   A {@link PortFilter} instance which filters switch port.
+     *                 All switch ports are stored to {@code portSet} if
+     *                 {@code null} is specified.
+     */
+    private void collect(Set<NodeConnector> portSet,
+                         Map<NodeConnector, VtnPort> ports,
+                         PortFilter filter) {
+        if (filter == null) {
+            portSet.addAll(ports.keySet());
+            return;
+        }
+
+        for (Map.Entry<NodeConnector, VtnPort> ent: ports.entrySet()) {
+            NodeConnector nc = ent.getKey();
+            if (filter.accept(nc, ent.getValue())) {
+                portSet.add(nc);
+            }
+        }
+    }
+}
@@ -29,6 +29,19 @@ public final class LinkEdge {
      */
     private final SalPort  destinationPort;
 
+    /**
+     * Construct a new instance.
+     *
+     * @param src  The source port of the edge.
+     *             Specifying {@code null} results in undefined behavior.
+     * @param dst  The destination port of the edge.
+     *             Specifying {@code null} results in undefined behavior.
+     */
+    public LinkEdge(SalPort src, SalPort dst) {
+        sourcePort = src;
+        destinationPort = dst;
+    }
+
     /**
      * Construct a new instance.
      *
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.util.EtherAddress;
+import org.opendaylight.vtn.manager.util.Ip4Network;
+
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+import org.opendaylight.vtn.manager.internal.util.packet.ArpPacketBuilder;
+import org.opendaylight.vtn.manager.internal.util.packet.EtherHeader;
+
+import org.opendaylight.controller.sal.action.SetDlSrc;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.packet.ARP;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.IEEE8021Q;
+import org.opendaylight.controller.sal.packet.Packet;
+import org.opendaylight.controller.sal.utils.EtherTypes;
+
+/**
+ * JUnit test for {@link ArpProxy}.
+ */
+public class ArpProxyTest extends TestBase {
+    /**
+     * MAC address of the host which sends ARP requests.
+     */
+    private static final EtherAddress  SENDER_MAC =
+        new EtherAddress(0x001122334455L);
+
+    /**
+     * MAC address of the host to be answered by the ARP proxy.
+     */
+    private static final EtherAddress  TARGET_MAC =
+        new EtherAddress(0x00aabbccddeeL);
+
+    /**
+     * IP address of the host which sends ARP requests.
+     */
+    private static final Ip4Network  SENDER_IP =
+        new Ip4Network("192.168.10.1");
+
+    /**
+     * IP address of the host to be answered by the ARP proxy.
+     */
+    private static final Ip4Network  TARGET_IP =
+        new Ip4Network("192.168.10.254");
+
+    /**
+     * Test case for {@link ArpProxy#getTarget(PacketContext)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testGetTarget() throws Exception {
+        InetAddress target = TARGET_IP.getInetAddress();
+        short[] vlans = {EtherHeader.VLAN_NONE, 1, 4095};
+        for (short vlan: vlans) {
+            // Broadcast ARP request.
+            PacketContext pctx = createRequest(vlan, EtherAddress.BROADCAST,
+                                               SENDER_IP, TARGET_IP);
+            assertEquals(target, ArpProxy.getTarget(pctx));
+
+            // Unicast ARP request must be forwarded to the target host.
+            pctx = createRequest(vlan, TARGET_MAC, SENDER_IP, TARGET_IP);
+            assertEquals(null, ArpProxy.getTarget(pctx));
+
+            // Duplicate address detection.
+            pctx = createRequest(vlan, EtherAddress.BROADCAST,
+                                 new Ip4Network(0), TARGET_IP);
+            assertEquals(null, ArpProxy.getTarget(pctx));
+
+            // Gratuitous ARP.
+            pctx = createRequest(vlan, EtherAddress.BROADCAST,
+                                 TARGET_IP, TARGET_IP);
+            assertEquals(null, ArpProxy.getTarget(pctx));
+
+            // ARP reply.
+            Ethernet ether = new ArpPacketBuilder(vlan, ARP.REPLY).
+                setSenderProtocolAddress(SENDER_IP).
+                build(SENDER_MAC, EtherAddress.BROADCAST, TARGET_IP);
+            pctx = new PacketContext(ether, null, null);
+            assertEquals(null, ArpProxy.getTarget(pctx));
+
+            // ARP request modified by flow filter.
+            pctx = createRequest(vlan, EtherAddress.BROADCAST,
+                                 SENDER_IP, TARGET_IP);
+            pctx.addFilterAction(new SetDlSrc(SENDER_MAC.getBytes()));
+            assertEquals(null, ArpProxy.getTarget(pctx));
+        }
+
+        // Non-IPv4 ARP request.
+        PacketContext pctx = createRequest(EtherHeader.VLAN_NONE,
+                                           EtherAddress.BROADCAST,
+                                           SENDER_IP, TARGET_IP);
+        ARP arp = (ARP)pctx.getFrame().getPayload();
+        arp.setProtocolType(EtherTypes.IPv6.shortValue());
+        pctx = new PacketContext(pctx.getFrame(), null, null);
+        assertEquals(null, ArpProxy.getTarget(pctx));
+
+        // Non-ARP packet.
+        Ethernet ether = new Ethernet();
+        ether.setSourceMACAddress(SENDER_MAC.getBytes()).
+            setDestinationMACAddress(EtherAddress.BROADCAST.getBytes()).
+            setEtherType(EtherTypes.IPv4.shortValue());
+        pctx = new PacketContext(ether, null, null);
+        assertEquals(null, ArpProxy.getTarget(pctx));
+    }
+
+    /**
+     * Test case for
+     * {@link ArpProxy#createReply(PacketContext, MacTableEntry)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testCreateReply() throws Exception {
+        VBridgePath bpath = new VBridgePath("tenant", "bridge");
+        NodeConnector nc = createNodeConnectors(1, false).get(0);
+        InetAddress target = TARGET_IP.getInetAddress();
+        short[] vlans = {EtherHeader.VLAN_NONE, 1, 4095};
+        for (short vlan: vlans) {
+            PacketContext pctx = createRequest(vlan, EtherAddress.BROADCAST,
+                                               SENDER_IP, TARGET_IP);
+            MacTableEntry tent = new MacTableEntry(
+                bpath, TARGET_MAC.getAddress(), nc, vlan, target);
+            Ethernet reply = ArpProxy.createReply(pctx, tent);
+            assertNotNull(reply);
+
+            // Reply must be sent from the target host to the sender.
+            assertEquals(TARGET_MAC,
+                         new EtherAddress(reply.getSourceMACAddress()));
+            assertEquals(SENDER_MAC,
+                         new EtherAddress(reply.getDestinationMACAddress()));
+
+            // VLAN tag of the request must be preserved.
+            Packet payload = reply.getPayload();
+            if (vlan == EtherHeader.VLAN_NONE) {
+                assertEquals(EtherTypes.ARP.shortValue(),
+                             reply.getEtherType());
+            } else {
+                assertEquals(EtherTypes.VLANTAGGED.shortValue(),
+                             reply.getEtherType());
+                IEEE8021Q tag = (IEEE8021Q)payload;
+                assertEquals(vlan, tag.getVid());
+                assertEquals(EtherTypes.ARP.shortValue(), tag.getEtherType());
+                payload = tag.getPayload();
+            }
+
+            ARP arp = (ARP)payload;
+            assertEquals(ARP.REPLY, arp.getOpCode());
+            assertEquals(EtherTypes.IPv4.shortValue(), arp.getProtocolType());
+            assertEquals(TARGET_MAC,
+                         new EtherAddress(arp.getSenderHardwareAddress()));
+            assertEquals(TARGET_IP,
+                         new Ip4Network(arp.getSenderProtocolAddress()));
+            assertEquals(SENDER_MAC,
+                         new EtherAddress(arp.getTargetHardwareAddress()));
+            assertEquals(SENDER_IP,
+                         new Ip4Network(arp.getTargetProtocolAddress()));
+
+            // ARP request sent by the target host itself must not be
+            // answered.
+            Ethernet ether = new ArpPacketBuilder(vlan).
+                setSenderProtocolAddress(SENDER_IP).
+                build(TARGET_MAC, EtherAddress.BROADCAST, TARGET_IP);
+            pctx = new PacketContext(ether, null, null);
+            assertEquals(null, ArpProxy.createReply(pctx, tent));
+        }
+    }
+
+    /**
+     * Create a packet context which contains an ARP request sent by
+     * {@link #SENDER_MAC}.
+     *
+     * @param vlan  VLAN ID of the ARP request.
+     * @param dst   Destination MAC address.
+     * @param spa   Sender protocol address.
+     * @param tpa   Target protocol address.
+     * @return  A {@link PacketContext} instance.
+     */
+    private PacketContext createRequest(short vlan, EtherAddress dst,
+                                        Ip4Network spa, Ip4Network tpa) {
+        Ethernet ether = new ArpPacketBuilder((int)vlan).
+            setSenderProtocolAddress(spa).build(SENDER_MAC, dst, tpa);
+        return new PacketContext(ether, null, null);
+    }
+}
@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.opendaylight.vtn.manager.util.EtherAddress;
+
+import org.opendaylight.vtn.manager.internal.cluster.FlowGroupId;
+import org.opendaylight.vtn.manager.internal.cluster.FlowModResult;
+import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
+import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.connectionmanager.IConnectionManager;
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.forwardingrulesmanager.IForwardingRulesManager;
+import org.opendaylight.controller.sal.connection.ConnectionLocality;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+import org.opendaylight.controller.sal.utils.Status;
+import org.opendaylight.controller.sal.utils.StatusCode;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.nodes.VtnNodeBuilder;
+
+/**
+ * JUnit test for {@link FlowRerouteTask}.
+ */
+public class FlowRerouteTaskTest extends TestBase {
+    /**
+     * The name of the virtual tenant used for test.
+     */
+    private static final String  TENANT_NAME = "vtn";
+
+    /**
+     * Flow priority used for test.
+     */
+    private static final int  PRIORITY = 10;
+
+    /**
+     * Mock-up of VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * Mock-up of MD-SAL transaction context.
+     */
+    private TxContext  txContext;
+
+    /**
+     * Mock-up of connection manager service.
+     */
+    private IConnectionManager  connectionManager;
+
+    /**
+     * Mock-up of forwarding rules manager service.
+     */
+    private IForwardingRulesManager  fwRulesManager;
+
+    /**
+     * The cluster cache of VTN flows.
+     */
+    private ConcurrentMap<FlowGroupId, VTNFlow>  flowDB;
+
+    /**
+     * The VTN flow database for the virtual tenant.
+     */
+    private VTNFlowDatabase  tenantFlowDB;
+
+    /**
+     * Statistics about VTN flow setup.
+     */
+    private FlowSetupStats  flowSetupStats;
+
+    /**
+     * Switches used for test.
+     */
+    private Node[]  nodes;
+
+    /**
+     * Set up mock-up of VTN Manager service.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Before
+    public void setUp() throws Exception {
+        nodes = new Node[4];
+        InventoryReader reader = new InventoryReader(null);
+        for (int i = 0; i < nodes.length; i++) {
+            Node node = NodeCreator.createOFNode(Long.valueOf(i + 1));
+            SalNode snode = SalNode.create(node);
+            reader.prefetch(snode, new VtnNodeBuilder().
+                            setId(snode.getNodeId()).build());
+            nodes[i] = node;
+        }
+
+        txContext = Mockito.mock(TxContext.class);
+        Mockito.when(txContext.getInventoryReader()).thenReturn(reader);
+
+        connectionManager = Mockito.mock(IConnectionManager.class);
+        Mockito.when(connectionManager.getLocalityStatus(
+                         Mockito.any(Node.class))).
+            thenReturn(ConnectionLocality.LOCAL);
+
+        Status success = new Status(StatusCode.SUCCESS);
+        fwRulesManager = Mockito.mock(IForwardingRulesManager.class);
+        Mockito.when(fwRulesManager.installFlowEntry(
+                         Mockito.any(FlowEntry.class))).
+            thenReturn(success);
+        Mockito.when(fwRulesManager.uninstallFlowEntry(
+                         Mockito.any(FlowEntry.class))).
+            thenReturn(success);
+
+        // Forwarding rules manager modifies the flow entry only if the new
+        // flow entry has the same node and the same name.
+        Mockito.when(fwRulesManager.modifyFlowEntry(
+                         Mockito.any(FlowEntry.class),
+                         Mockito.any(FlowEntry.class))).
+            thenAnswer(new Answer<Status>() {
+                @Override
+                public Status answer(InvocationOnMock inv) {
+                    Object[] args = inv.getArguments();
+                    FlowEntry cur = (FlowEntry)args[0];
+                    FlowEntry fent = (FlowEntry)args[1];
+                    if (cur.getNode().equals(fent.getNode()) &&
+                        cur.getGroupName().equals(fent.getGroupName()) &&
+                        cur.getFlowName().equals(fent.getFlowName())) {
+                        return new Status(StatusCode.SUCCESS);
+                    }
+                    return new Status(StatusCode.BADREQUEST,
+                                      "Modify with different name");
+                }
+            });
+
+        flowDB = new ConcurrentHashMap<FlowGroupId, VTNFlow>();
+        flowSetupStats = new FlowSetupStats();
+        tenantFlowDB = new VTNFlowDatabase(TENANT_NAME);
+
+        vtnManager = Mockito.mock(VTNManagerImpl.class);
+        Mockito.when(vtnManager.getContainerName()).thenReturn("default");
+        Mockito.when(vtnManager.getConnectionManager()).
+            thenReturn(connectionManager);
+        Mockito.when(vtnManager.getForwardingRuleManager()).
+            thenReturn(fwRulesManager);
+        Mockito.when(vtnManager.getFlowDB()).thenReturn(flowDB);
+        Mockito.when(vtnManager.getFlowSetupStats()).
+            thenReturn(flowSetupStats);
+        Mockito.when(vtnManager.getTenantFlowDB(TENANT_NAME)).
+            thenReturn(tenantFlowDB);
+
+        // Run asynchronous tasks on the calling thread.
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock inv) {
+                FlowModTask task = (FlowModTask)inv.getArguments()[0];
+                task.run();
+                return null;
+            }
+        }).when(vtnManager).postAsync(Mockito.any(FlowModTask.class));
+    }
+
+    /**
+     * Create a switch port.
+     *
+     * @param node  The switch.
+     * @param id    The port number.
+     * @return  A {@link NodeConnector} instance.
+     */
+    private NodeConnector createPort(Node node, int id) {
+        return NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)id), node);
+    }
+
+    /**
+     * Create a VTN flow which forwards packets from {@code nodes[0]} to
+     * {@code nodes[2]} via {@code nodes[1]}, and put it into the cluster
+     * cache.
+     *
+     * @return  A {@link VTNFlow} instance.
+     */
+    private VTNFlow createFlow() {
+        NodeConnector[] ports = {
+            createPort(nodes[0], 1), createPort(nodes[0], 10),
+            createPort(nodes[1], 1), createPort(nodes[1], 2),
+            createPort(nodes[2], 1), createPort(nodes[2], 2),
+        };
+
+        short vlan = 0;
+        VTNFlow vflow = new VTNFlow(new FlowGroupId(TENANT_NAME));
+        for (int i = 0; i < ports.length; i += 2) {
+            NodeConnector in = ports[i];
+            Match match = new Match();
+            match.setField(MatchType.IN_PORT, in);
+            match.setField(MatchType.DL_SRC, EtherAddress.toBytes(1L));
+            match.setField(MatchType.DL_DST, EtherAddress.toBytes(0xa0L));
+            match.setField(MatchType.DL_VLAN, vlan);
+            vflow.addFlow(
+                vtnManager, match,
+                new ActionList(in.getNode(), vlan).addOutput(ports[i + 1]),
+                PRIORITY);
+        }
+
+        flowDB.put(vflow.getGroupId(), vflow);
+        return vflow;
+    }
+
+    /**
+     * Create a VTN flow which replaces the given VTN flow, and put it into
+     * the VTN flow database.
+     *
+     * @param vflow  A VTN flow to be rerouted.
+     * @param ports  An array of switch ports which represents inter-switch
+     *               links along the new route.
+     * @return  A {@link VTNFlow} instance.
+     */
+    private VTNFlow createReroute(VTNFlow vflow, NodeConnector ... ports) {
+        List<LinkEdge> path = new ArrayList<LinkEdge>();
+        for (int i = 0; i < ports.length; i += 2) {
+            path.add(new LinkEdge(SalPort.create(ports[i]),
+                                  SalPort.create(ports[i + 1])));
+        }
+
+        VTNFlow newFlow = vflow.reroute(vtnManager, path);
+        assertNotNull(newFlow);
+        assertEquals(vflow.getGroupId(), newFlow.getGroupId());
+        assertTrue(tenantFlowDB.createIndex(vtnManager, newFlow));
+        return newFlow;
+    }
+
+    /**
+     * Create a flow reroute task.
+     *
+     * @param oldFlow  A VTN flow to be replaced.
+     * @param newFlow  A VTN flow which replaces {@code oldFlow}.
+     * @return  A {@link FlowRerouteTask} instance.
+     */
+    private FlowRerouteTask createTask(VTNFlow oldFlow, VTNFlow newFlow) {
+        List<FlowEntry> entries = oldFlow.getFlowEntries();
+        List<FlowEntry> obsolete =
+            new ArrayList<FlowEntry>(entries.subList(1, entries.size()));
+        return new FlowRerouteTask(vtnManager, txContext, oldFlow, newFlow,
+                                   obsolete, System.nanoTime());
+    }
+
+    /**
+     * Return a list of flow entries uninstalled by the forwarding rules
+     * manager.
+     *
+     * @param count  The expected number of uninstalled flow entries.
+     * @return  A list of uninstalled flow entries.
+     */
+    private List<FlowEntry> getUninstalled(int count) {
+        ArgumentCaptor<FlowEntry> captor =
+            ArgumentCaptor.forClass(FlowEntry.class);
+        Mockito.verify(fwRulesManager, Mockito.times(count)).
+            uninstallFlowEntry(captor.capture());
+        return captor.getAllValues();
+    }
+
+    /**
+     * Ensure that the VTN flow was rerouted successfully.
+     *
+     * @param task     A {@link FlowRerouteTask} instance.
+     * @param newFlow  A VTN flow which replaced the old VTN flow.
+     */
+    private void checkSucceeded(FlowRerouteTask task, VTNFlow newFlow) {
+        assertEquals(FlowModResult.SUCCEEDED, task.waitFor());
+        assertSame(newFlow, flowDB.get(newFlow.getGroupId()));
+        assertEquals(1, flowDB.size());
+        assertEquals(1, tenantFlowDB.getFlowCount());
+        assertEquals(1L, flowSetupStats.getReroutedFlows());
+        assertEquals(0L, flowSetupStats.getRerouteFailedFlows());
+    }
+
+    /**
+     * Ensure that the VTN flow could not be rerouted.
+     *
+     * @param task     A {@link FlowRerouteTask} instance.
+     * @param newFlow  A VTN flow which was expected to replace the old
+     *                 VTN flow.
+     */
+    private void checkFailed(FlowRerouteTask task, VTNFlow newFlow) {
+        assertEquals(FlowModResult.FAILED, task.waitFor());
+        assertFalse(flowDB.containsKey(newFlow.getGroupId()));
+        assertEquals(0, tenantFlowDB.getFlowCount());
+        assertTrue(tenantFlowDB.isIndexEmpty());
+        assertEquals(0L, flowSetupStats.getReroutedFlows());
+        assertEquals(1L, flowSetupStats.getRerouteFailedFlows());
+    }
+
+    /**
+     * Ensure that a VTN flow is moved to the new route, and flow entries
+     * at the same position in both routes are modified in place.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testReroute() throws Exception {
+        // nodes[0] -> nodes[3] -> nodes[2]
+        VTNFlow oldFlow = createFlow();
+        VTNFlow newFlow = createReroute(
+            oldFlow,
+            createPort(nodes[0], 11), createPort(nodes[3], 1),
+            createPort(nodes[3], 2), createPort(nodes[2], 1));
+        FlowRerouteTask task = createTask(oldFlow, newFlow);
+        task.run();
+        checkSucceeded(task, newFlow);
+
+        List<FlowEntry> oldEntries = oldFlow.getFlowEntries();
+        List<FlowEntry> newEntries = newFlow.getFlowEntries();
+        assertEquals(3, newEntries.size());
+
+        // Transit flow in nodes[3] must be installed.
+        Mockito.verify(fwRulesManager).installFlowEntry(newEntries.get(1));
+        Mockito.verify(fwRulesManager, Mockito.times(1)).
+            installFlowEntry(Mockito.any(FlowEntry.class));
+
+        // Egress flow and ingress flow must be modified in place.
+        Mockito.verify(fwRulesManager).
+            modifyFlowEntry(oldEntries.get(2), newEntries.get(2));
+        Mockito.verify(fwRulesManager).
+            modifyFlowEntry(oldEntries.get(0), newEntries.get(0));
+        Mockito.verify(fwRulesManager, Mockito.times(2)).
+            modifyFlowEntry(Mockito.any(FlowEntry.class),
+                            Mockito.any(FlowEntry.class));
+
+        // Transit flow in nodes[1] must be uninstalled.
+        List<FlowEntry> uninstalled = getUninstalled(1);
+        assertEquals(oldEntries.get(1), uninstalled.get(0));
+    }
+
+    /**
+     * Ensure that flow entries which have the same match as the old flow
+     * entries are reinstalled if they are at a different position in the
+     * new route.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRerouteReinstall() throws Exception {
+        // nodes[0] -> nodes[3] -> nodes[1] -> nodes[2]
+        VTNFlow oldFlow = createFlow();
+        VTNFlow newFlow = createReroute(
+            oldFlow,
+            createPort(nodes[0], 11), createPort(nodes[3], 1),
+            createPort(nodes[3], 2), createPort(nodes[1], 1),
+            createPort(nodes[1], 2), createPort(nodes[2], 1));
+        FlowRerouteTask task = createTask(oldFlow, newFlow);
+        task.run();
+        checkSucceeded(task, newFlow);
+
+        List<FlowEntry> oldEntries = oldFlow.getFlowEntries();
+        List<FlowEntry> newEntries = newFlow.getFlowEntries();
+        assertEquals(4, newEntries.size());
+
+        // Only the ingress flow must be modified in place.
+        Mockito.verify(fwRulesManager).
+            modifyFlowEntry(oldEntries.get(0), newEntries.get(0));
+        Mockito.verify(fwRulesManager, Mockito.times(1)).
+            modifyFlowEntry(Mockito.any(FlowEntry.class),
+                            Mockito.any(FlowEntry.class));
+
+        // Flow entries in nodes[1] and nodes[2] must be reinstalled.
+        List<FlowEntry> uninstalled = getUninstalled(2);
+        assertEquals(oldEntries.subList(1, oldEntries.size()), uninstalled);
+        ArgumentCaptor<FlowEntry> captor =
+            ArgumentCaptor.forClass(FlowEntry.class);
+        Mockito.verify(fwRulesManager, Mockito.times(3)).
+            installFlowEntry(captor.capture());
+        assertEquals(newEntries.subList(1, newEntries.size()),
+                     captor.getAllValues());
+        for (FlowEntry fent: captor.getAllValues()) {
+            assertEquals(newFlow.getGroupId().toString(),
+                         fent.getGroupName());
+        }
+    }
+
+    /**
+     * Ensure that a VTN flow is not rerouted via a switch connected to
+     * another controller.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRerouteNotLocal() throws Exception {
+        Mockito.when(connectionManager.getLocalityStatus(nodes[3])).
+            thenReturn(ConnectionLocality.NOT_LOCAL);
+        VTNFlow oldFlow = createFlow();
+        VTNFlow newFlow = createReroute(
+            oldFlow,
+            createPort(nodes[0], 11), createPort(nodes[3], 1),
+            createPort(nodes[3], 2), createPort(nodes[2], 1));
+        FlowRerouteTask task = createTask(oldFlow, newFlow);
+        task.run();
+        checkFailed(task, newFlow);
+
+        // All the flow entries of the old VTN flow must be uninstalled,
+        // and no flow entry must be installed.
+        Mockito.verify(fwRulesManager, Mockito.never()).
+            installFlowEntry(Mockito.any(FlowEntry.class));
+        Mockito.verify(fwRulesManager, Mockito.never()).
+            modifyFlowEntry(Mockito.any(FlowEntry.class),
+                            Mockito.any(FlowEntry.class));
+        assertEquals(oldFlow.getFlowEntries(), getUninstalled(3));
+    }
+
+    /**
+     * Ensure that flow entries of both VTN flows are uninstalled if a flow
+     * entry for the new route could not be installed.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRerouteInstallFailed() throws Exception {
+        VTNFlow oldFlow = createFlow();
+        VTNFlow newFlow = createReroute(
+            oldFlow,
+            createPort(nodes[0], 11), createPort(nodes[3], 1),
+            createPort(nodes[3], 2), createPort(nodes[2], 1));
+        List<FlowEntry> oldEntries = oldFlow.getFlowEntries();
+        List<FlowEntry> newEntries = newFlow.getFlowEntries();
+        Mockito.when(fwRulesManager.installFlowEntry(newEntries.get(1))).
+            thenReturn(new Status(StatusCode.INTERNALERROR));
+
+        FlowRerouteTask task = createTask(oldFlow, newFlow);
+        task.run();
+        checkFailed(task, newFlow);
+
+        // The ingress flow must not be switched to the new route.
+        Mockito.verify(fwRulesManager, Mockito.never()).
+            modifyFlowEntry(oldEntries.get(0), newEntries.get(0));
+
+        // The old ingress flow must be uninstalled at first.
+        // The egress flow modified in place must be uninstalled only once.
+        List<FlowEntry> uninstalled = getUninstalled(3);
+        assertEquals(oldEntries.get(0), uninstalled.get(0));
+        assertEquals(oldEntries.get(1), uninstalled.get(1));
+        assertEquals(newEntries.get(2), uninstalled.get(2));
+    }
+
+    /**
+     * Ensure that flow entries of both VTN flows are uninstalled if the
+     * ingress flow could not be switched to the new route.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRerouteIngressFailed() throws Exception {
+        VTNFlow oldFlow = createFlow();
+        VTNFlow newFlow = createReroute(
+            oldFlow,
+            createPort(nodes[0], 11), createPort(nodes[3], 1),
+            createPort(nodes[3], 2), createPort(nodes[2], 1));
+        List<FlowEntry> oldEntries = oldFlow.getFlowEntries();
+        List<FlowEntry> newEntries = newFlow.getFlowEntries();
+        Mockito.when(fwRulesManager.modifyFlowEntry(oldEntries.get(0),
+                                                    newEntries.get(0))).
+            thenReturn(new Status(StatusCode.INTERNALERROR));
+
+        FlowRerouteTask task = createTask(oldFlow, newFlow);
+        task.run();
+        checkFailed(task, newFlow);
+
+        // Flow entries installed or modified for the new route must be
+        // uninstalled as well as the old flow entries.
+        List<FlowEntry> uninstalled = getUninstalled(4);
+        assertEquals(oldEntries.get(0), uninstalled.get(0));
+        assertEquals(oldEntries.get(1), uninstalled.get(1));
+        assertEquals(newEntries.get(2), uninstalled.get(2));
+        assertEquals(newEntries.get(1), uninstalled.get(3));
+    }
+}
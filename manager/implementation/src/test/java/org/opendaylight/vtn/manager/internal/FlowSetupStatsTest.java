@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link FlowSetupStats}.
+ */
+public class FlowSetupStatsTest extends TestBase {
+    /**
+     * Test case for {@link FlowSetupStats}.
+     */
+    @Test
+    public void testStats() {
+        FlowSetupStats stats = new FlowSetupStats();
+        assertEquals(0L, stats.getSuppressedPackets());
+        assertEquals(0L, stats.getInstalledFlows());
+        assertEquals(0L, stats.getFailedFlows());
+        assertEquals(0L, stats.getAverageInstallTime(TimeUnit.NANOSECONDS));
+        assertEquals(0L, stats.getMaxInstallTime(TimeUnit.NANOSECONDS));
+
+        for (int i = 1; i <= 10; i++) {
+            stats.packetSuppressed();
+            assertEquals((long)i, stats.getSuppressedPackets());
+        }
+
+        stats.flowInstalled(TimeUnit.MILLISECONDS.toNanos(3L));
+        stats.flowInstalled(TimeUnit.MILLISECONDS.toNanos(1L));
+        stats.flowInstalled(TimeUnit.MILLISECONDS.toNanos(5L));
+        assertEquals(3L, stats.getInstalledFlows());
+        assertEquals(3L, stats.getAverageInstallTime(TimeUnit.MILLISECONDS));
+        assertEquals(5L, stats.getMaxInstallTime(TimeUnit.MILLISECONDS));
+
+        stats.flowFailed();
+        stats.flowFailed();
+        assertEquals(2L, stats.getFailedFlows());
+        assertEquals(3L, stats.getInstalledFlows());
+        assertEquals(10L, stats.getSuppressedPackets());
+
+        assertEquals(0L, stats.getReroutedFlows());
+        assertEquals(0L, stats.getRerouteFailedFlows());
+        assertEquals(0L, stats.getAverageRerouteTime(TimeUnit.NANOSECONDS));
+        assertEquals(0L, stats.getMaxRerouteTime(TimeUnit.NANOSECONDS));
+
+        stats.flowRerouted(TimeUnit.MILLISECONDS.toNanos(2L));
+        stats.flowRerouted(TimeUnit.MILLISECONDS.toNanos(6L));
+        stats.rerouteFailed();
+        assertEquals(2L, stats.getReroutedFlows());
+        assertEquals(1L, stats.getRerouteFailedFlows());
+        assertEquals(4L, stats.getAverageRerouteTime(TimeUnit.MILLISECONDS));
+        assertEquals(6L, stats.getMaxRerouteTime(TimeUnit.MILLISECONDS));
+        assertEquals(3L, stats.getInstalledFlows());
+        assertEquals(2L, stats.getFailedFlows());
+
+        assertEquals("FlowSetupStats[suppressed=10,installed=3,failed=2," +
+                     "avg=3000us,max=5000us,rerouted=2,rerouteFailed=1," +
+                     "rerouteAvg=4000us,rerouteMax=6000us]",
+                     stats.toString());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.VBridgePath;
+
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+
+import org.opendaylight.controller.sal.core.NodeConnector;
+
+/**
+ * JUnit test for {@link InetHostIndex}.
+ */
+public class InetHostIndexTest extends TestBase {
+    /**
+     * Test case for {@link InetHostIndex}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testIndex() throws Exception {
+        InetHostIndex index = new InetHostIndex();
+        VBridgePath bpath1 = new VBridgePath("tenant", "bridge1");
+        VBridgePath bpath2 = new VBridgePath("tenant", "bridge2");
+        NodeConnector nc = createNodeConnectors(1, false).get(0);
+        InetAddress addr = InetAddress.getByName("192.168.10.1");
+        InetAddress other = InetAddress.getByName("192.168.10.2");
+        short vlan = 0;
+
+        assertTrue(index.get(addr).isEmpty());
+        assertNull(index.get(bpath1, addr));
+
+        MacTableEntry tent1 = new MacTableEntry(bpath1, 1L, nc, vlan, addr);
+        MacTableEntry tent2 = new MacTableEntry(bpath2, 2L, nc, vlan, addr);
+        index.add(bpath1, addr, tent1);
+        index.add(bpath2, addr, tent2);
+        assertSame(tent1, index.get(bpath1, addr));
+        assertSame(tent2, index.get(bpath2, addr));
+        assertNull(index.get(bpath1, other));
+
+        Map<VBridgePath, MacTableEntry> map = index.get(addr);
+        assertEquals(2, map.size());
+        assertSame(tent1, map.get(bpath1));
+        assertSame(tent2, map.get(bpath2));
+
+        // The IP address is moved to another MAC address in bridge1.
+        MacTableEntry tent3 = new MacTableEntry(bpath1, 3L, nc, vlan, addr);
+        index.add(bpath1, addr, tent3);
+        assertSame(tent3, index.get(bpath1, addr));
+
+        // Removal of the old MAC address must be ignored.
+        index.remove(bpath1, addr, 1L);
+        assertSame(tent3, index.get(bpath1, addr));
+
+        index.remove(bpath1, addr, 3L);
+        assertNull(index.get(bpath1, addr));
+        assertSame(tent2, index.get(bpath2, addr));
+        assertEquals(1, index.get(addr).size());
+
+        index.remove(bpath2, addr, 2L);
+        assertTrue(index.get(addr).isEmpty());
+
+        index.add(bpath1, addr, tent1);
+        index.add(bpath1, other, tent1);
+        index.clear();
+        assertTrue(index.get(addr).isEmpty());
+        assertTrue(index.get(other).isEmpty());
+    }
+}
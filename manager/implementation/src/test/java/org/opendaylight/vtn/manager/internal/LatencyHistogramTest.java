@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.PacketStageStats;
+
+/**
+ * JUnit test for {@link LatencyHistogram} and {@link PacketStats}.
+ */
+public class LatencyHistogramTest extends TestBase {
+    /**
+     * Test case for bucket index calculation.
+     */
+    @Test
+    public void testIndex() {
+        for (long v = 0; v < LatencyHistogram.SUB_BUCKETS; v++) {
+            int idx = LatencyHistogram.getIndex(v);
+            assertEquals((int)v, idx);
+            assertEquals(v, LatencyHistogram.getUpperBound(idx));
+        }
+
+        long[] values = {
+            16L, 17L, 31L, 32L, 33L, 34L, 1000L, 123456789L,
+            Integer.MAX_VALUE, Long.MAX_VALUE / 3, Long.MAX_VALUE,
+        };
+        for (long v: values) {
+            int idx = LatencyHistogram.getIndex(v);
+            long upper = LatencyHistogram.getUpperBound(idx);
+            assertTrue("v=" + v + ", upper=" + upper, v <= upper);
+            if (idx > 0) {
+                long lower = LatencyHistogram.getUpperBound(idx - 1);
+                assertTrue("v=" + v + ", lower=" + lower, lower < v);
+            }
+
+            // Relative error must not exceed 1/16.
+            assertTrue(upper - v <= v / LatencyHistogram.SUB_BUCKETS);
+        }
+
+        // Buckets must be contiguous.
+        long prev = -1L;
+        int last = LatencyHistogram.getIndex(Long.MAX_VALUE);
+        for (int idx = 0; idx <= last; idx++) {
+            long upper = LatencyHistogram.getUpperBound(idx);
+            assertTrue(upper > prev);
+            assertEquals(idx, LatencyHistogram.getIndex(upper));
+            if (prev >= 0) {
+                assertEquals(idx, LatencyHistogram.getIndex(prev + 1));
+            }
+            prev = upper;
+        }
+        assertEquals(Long.MAX_VALUE, prev);
+    }
+
+    /**
+     * Test case for {@link LatencyHistogram#record(long)}.
+     */
+    @Test
+    public void testRecord() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0L, h.getCount());
+        assertEquals(0L, h.getAverage());
+        assertEquals(0L, h.getMax());
+        assertEquals(0L, h.getPercentile(50d));
+
+        for (long v = 1; v <= 100; v++) {
+            h.record(v * 1000L);
+        }
+        assertEquals(100L, h.getCount());
+        assertEquals(50500L, h.getAverage());
+        assertEquals(100000L, h.getMax());
+        assertEquals(100000L, h.getPercentile(100d));
+
+        long[][] expected = {
+            {50L, 50000L},
+            {90L, 90000L},
+            {99L, 99000L},
+        };
+        for (long[] exp: expected) {
+            long value = h.getPercentile((double)exp[0]);
+            long min = exp[1];
+            long max = min + min / LatencyHistogram.SUB_BUCKETS;
+            assertTrue("value=" + value, value >= min && value <= max);
+        }
+
+        h.clear();
+        assertEquals(0L, h.getCount());
+        assertEquals(0L, h.getAverage());
+        assertEquals(0L, h.getMax());
+        assertEquals(0L, h.getPercentile(99d));
+    }
+
+    /**
+     * Test case for {@link PacketStats}.
+     */
+    @Test
+    public void testPacketStats() {
+        PacketStats stats = new PacketStats();
+        assertFalse(stats.isEnabled());
+        assertEquals(0L, stats.start());
+
+        // Nothing should be recorded while disabled.
+        stats.record(PacketStage.PARSE, null, 1L);
+        for (PacketStageStats pst: stats.getStageStats()) {
+            assertEquals(0L, pst.getCount());
+        }
+
+        stats.setEnabled(true);
+        assertTrue(stats.isEnabled());
+        long start = stats.start();
+        assertTrue(start != 0L);
+        stats.record(PacketStage.PARSE, null, start);
+        stats.record(PacketStage.ROUTE_RESOLVE, "vtn1", start);
+        stats.record(PacketStage.ROUTE_RESOLVE, "vtn1", 0L);
+
+        PacketStage[] stages = PacketStage.values();
+        List<PacketStageStats> global = stats.getStageStats();
+        List<PacketStageStats> tenant = stats.getTenantStageStats("vtn1");
+        assertEquals(stages.length, global.size());
+        assertEquals(stages.length, tenant.size());
+        for (PacketStage stage: stages) {
+            PacketStageStats g = global.get(stage.ordinal());
+            PacketStageStats t = tenant.get(stage.ordinal());
+            assertEquals(stage.getStageName(), g.getStage());
+            assertEquals(stage.getStageName(), t.getStage());
+            long gcount = (stage == PacketStage.PARSE ||
+                           stage == PacketStage.ROUTE_RESOLVE) ? 1L : 0L;
+            long tcount = (stage == PacketStage.ROUTE_RESOLVE) ? 1L : 0L;
+            assertEquals(gcount, g.getCount());
+            assertEquals(tcount, t.getCount());
+        }
+
+        // Disabling does not discard statistics.
+        stats.setEnabled(false);
+        assertEquals(0L, stats.start());
+        global = stats.getStageStats();
+        assertEquals(1L, global.get(PacketStage.PARSE.ordinal()).getCount());
+
+        stats.removeTenant("vtn1");
+        tenant = stats.getTenantStageStats("vtn1");
+        for (PacketStageStats pst: tenant) {
+            assertEquals(0L, pst.getCount());
+        }
+
+        // Enabling discards statistics.
+        stats.setEnabled(true);
+        for (PacketStageStats pst: stats.getStageStats()) {
+            assertEquals(0L, pst.getCount());
+        }
+
+        // DISABLED instance can not be enabled.
+        PacketStats.DISABLED.setEnabled(true);
+        assertFalse(PacketStats.DISABLED.isEnabled());
+        assertEquals(0L, PacketStats.DISABLED.start());
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import org.opendaylight.vtn.manager.ListPage;
+import org.opendaylight.vtn.manager.MacAddressEntry;
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.util.EtherAddress;
+import org.opendaylight.vtn.manager.util.Ip4Network;
+import org.opendaylight.vtn.manager.util.IpNetwork;
+
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntry;
+import org.opendaylight.vtn.manager.internal.cluster.MacTableEntryId;
+import org.opendaylight.vtn.manager.internal.util.PageCursor;
+
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.packet.ARP;
+import org.opendaylight.controller.sal.packet.Ethernet;
+import org.opendaylight.controller.sal.packet.IEEE8021Q;
+import org.opendaylight.controller.sal.packet.address.EthernetAddress;
+
+/**
+ * JUnit test for {@link MacAddressTable}.
+ */
+public class MacAddressTableTest extends TestBase {
+    /**
+     * Aging interval used for test.
+     */
+    private static final int  AGE_INTERVAL = 600;
+
+    /**
+     * The global timer for test.
+     */
+    private Timer  timer;
+
+    /**
+     * Mock-up of VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * The global IP address index.
+     */
+    private InetHostIndex  inetHostIndex;
+
+    /**
+     * Set up mock-up of VTN Manager service.
+     */
+    @Before
+    public void setUp() {
+        timer = new Timer(true);
+        inetHostIndex = new InetHostIndex();
+        VTNManagerProvider provider = Mockito.mock(VTNManagerProvider.class);
+        Mockito.when(provider.getTimer()).thenReturn(timer);
+        vtnManager = Mockito.mock(VTNManagerImpl.class);
+        Mockito.when(vtnManager.getVTNProvider()).thenReturn(provider);
+        Mockito.when(vtnManager.getInetHostIndex()).thenReturn(inetHostIndex);
+        Mockito.when(vtnManager.getContainerName()).thenReturn("default");
+    }
+
+    /**
+     * Stop the global timer.
+     */
+    @After
+    public void tearDown() {
+        timer.cancel();
+    }
+
+    /**
+     * Test case for {@link MacAddressTable#getEntries(PageCursor)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testGetEntriesPage() throws Exception {
+        VBridgePath bpath = new VBridgePath("tenant", "bridge");
+        MacAddressTable table =
+            new MacAddressTable(vtnManager, bpath, AGE_INTERVAL);
+
+        // Empty table.
+        for (int limit = -1; limit <= 2; limit++) {
+            ListPage<MacAddressEntry> page =
+                table.getEntries(new PageCursor(PageCursor.TYPE_MAC, limit));
+            assertTrue(page.getEntries().isEmpty());
+            assertEquals(null, page.getNextCursor());
+        }
+
+        // Add MAC addresses in random order.
+        NodeConnector nc = createNodeConnectors(1, false).get(0);
+        short vlan = 0;
+        long[] macs = {
+            0x10L, 0x3L, 0xa0b0c0d0e0f0L, 0x1L, 0x7fL, 0xffffffffffL,
+            0x2L, 0x12345678L, 0x80L, 0x4L, 0x0000fffff000L, 0x55L,
+            0x111111L, 0x9L, 0xfedcba987654L, 0x8L, 0x20L,
+        };
+        TreeSet<Long> expected = new TreeSet<Long>();
+        for (long mac: macs) {
+            table.add(new MacTableEntry(bpath, mac, nc, vlan, null));
+            expected.add(Long.valueOf(mac));
+        }
+
+        int size = macs.length;
+        int[] limits = {1, 2, 3, 5, size - 1, size, size + 1, 1000};
+        for (int limit: limits) {
+            List<Long> result = getAllEntries(table, limit);
+            assertEquals(new ArrayList<Long>(expected), result);
+        }
+
+        // Zero or a negative limit means no limit.
+        for (int limit = -2; limit <= 0; limit++) {
+            ListPage<MacAddressEntry> page =
+                table.getEntries(new PageCursor(PageCursor.TYPE_MAC, limit));
+            assertEquals(size, page.getEntries().size());
+            assertEquals(null, page.getNextCursor());
+        }
+
+        // The next page should be determined correctly even if the last
+        // entry in the previous page is removed.
+        int limit = 4;
+        PageCursor pc = new PageCursor(PageCursor.TYPE_MAC, limit);
+        ListPage<MacAddressEntry> page = table.getEntries(pc);
+        List<MacAddressEntry> entries = page.getEntries();
+        assertEquals(limit, entries.size());
+        Long last = getMacAddress(entries.get(limit - 1));
+        table.remove(last);
+        expected.remove(last);
+
+        pc = new PageCursor(PageCursor.TYPE_MAC, page.getNextCursor(), limit);
+        page = table.getEntries(pc);
+        List<Long> rest = new ArrayList<Long>(expected.tailSet(last, false));
+        List<Long> result = new ArrayList<Long>();
+        for (MacAddressEntry ment: page.getEntries()) {
+            result.add(getMacAddress(ment));
+        }
+        assertEquals(rest.subList(0, limit), result);
+
+        // A cursor beyond the last entry should return an empty page.
+        pc = new PageCursor(PageCursor.TYPE_MAC, 100);
+        String token = pc.next(expected.last().longValue());
+        page = table.getEntries(
+            new PageCursor(PageCursor.TYPE_MAC, token, 100));
+        assertTrue(page.getEntries().isEmpty());
+        assertEquals(null, page.getNextCursor());
+    }
+
+    /**
+     * Ensure that IP addresses in MAC address table entries are indexed
+     * by the global IP address index.
+     *
+     * <ul>
+     *   <li>{@link MacAddressTable#getEntryByInetAddress(InetAddress)}</li>
+     *   <li>{@link MacAddressTable#entryUpdated(MacTableEntry)}</li>
+     *   <li>{@link MacAddressTable#entryDeleted(MacTableEntryId)}</li>
+     *   <li>{@link MacAddressTable#flush()}</li>
+     *   <li>{@link MacAddressTable#flush(Set)}</li>
+     *   <li>{@link MacAddressTable#destroy(boolean)}</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testInetIndex() throws Exception {
+        VBridgePath bpath1 = new VBridgePath("tenant", "bridge1");
+        VBridgePath bpath2 = new VBridgePath("tenant", "bridge2");
+        MacAddressTable table1 =
+            new MacAddressTable(vtnManager, bpath1, AGE_INTERVAL);
+        MacAddressTable table2 =
+            new MacAddressTable(vtnManager, bpath2, AGE_INTERVAL);
+        NodeConnector nc = createNodeConnectors(1, false).get(0);
+        short vlan = 0;
+        long mac1 = 0x001122334455L;
+        long mac2 = 0x00aabbccddeeL;
+        InetAddress ip1 = IpNetwork.getInetAddress("192.168.10.1");
+        InetAddress ip2 = IpNetwork.getInetAddress("192.168.10.2");
+        InetAddress ip3 = IpNetwork.getInetAddress("192.168.10.3");
+
+        // The same IP address can be mapped in different bridges.
+        MacTableEntry tent1 = new MacTableEntry(bpath1, mac1, nc, vlan, ip1);
+        tent1.addInetAddress(ip2);
+        MacTableEntry tent2 = new MacTableEntry(bpath2, mac2, nc, vlan, ip1);
+        table1.add(tent1);
+        table2.add(tent2);
+        assertSame(tent1, inetHostIndex.get(bpath1, ip1));
+        assertSame(tent1, inetHostIndex.get(bpath1, ip2));
+        assertSame(tent2, inetHostIndex.get(bpath2, ip1));
+        assertEquals(null, inetHostIndex.get(bpath2, ip2));
+        assertSame(tent1, table1.getEntryByInetAddress(ip1));
+        assertSame(tent1, table1.getEntryByInetAddress(ip2));
+        assertEquals(null, table1.getEntryByInetAddress(ip3));
+        assertSame(tent2, table2.getEntryByInetAddress(ip1));
+        assertEquals(null, table2.getEntryByInetAddress(ip2));
+
+        // getEntryByInetAddress() must not affect the used flag.
+        assertFalse(tent1.getUsed());
+        assertSame(tent1, table1.get(Long.valueOf(mac1)));
+        assertTrue(tent1.getUsed());
+        tent1.clearUsed();
+        assertSame(tent1, table1.getEntryByInetAddress(ip1));
+        assertFalse(tent1.getUsed());
+
+        // Update the entry by remote cluster node.
+        MacTableEntry tent3 = new MacTableEntry(bpath1, mac1, nc, vlan, ip3);
+        table1.entryUpdated(tent3);
+        assertEquals(null, inetHostIndex.get(bpath1, ip1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip2));
+        assertSame(tent3, inetHostIndex.get(bpath1, ip3));
+        assertEquals(null, table1.getEntryByInetAddress(ip1));
+        assertSame(tent3, table1.getEntryByInetAddress(ip3));
+        assertSame(tent2, table2.getEntryByInetAddress(ip1));
+
+        // Removal request for obsolete entry must be ignored.
+        table1.entryDeleted(tent1.getEntryId());
+        assertSame(tent3, table1.getEntryByInetAddress(ip3));
+        table1.entryDeleted(tent3.getEntryId());
+        assertEquals(null, inetHostIndex.get(bpath1, ip3));
+        assertEquals(null, table1.getEntryByInetAddress(ip3));
+
+        // Remove an entry.
+        table1.add(tent1);
+        assertSame(tent1, table1.getEntryByInetAddress(ip1));
+        table1.remove(Long.valueOf(mac1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip2));
+        assertSame(tent2, table2.getEntryByInetAddress(ip1));
+
+        // Flush all entries.
+        table1.add(tent1);
+        table1.flush();
+        assertEquals(null, table1.getEntryByInetAddress(ip1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip2));
+        assertSame(tent2, table2.getEntryByInetAddress(ip1));
+
+        // Flush entries created by the specified controller.
+        InetAddress remote = IpNetwork.getInetAddress("10.0.0.1");
+        MacTableEntryId rid =
+            new MacTableEntryId(remote, 1L, bpath1, mac1);
+        MacTableEntry rtent = new MacTableEntry(rid, nc, vlan, ip1);
+        table1.entryUpdated(rtent);
+        assertSame(rtent, table1.getEntryByInetAddress(ip1));
+        Set<InetAddress> addrs = new HashSet<InetAddress>();
+        addrs.add(InetAddress.getLoopbackAddress());
+        table1.flush(addrs);
+        assertSame(rtent, table1.getEntryByInetAddress(ip1));
+        addrs.add(remote);
+        table1.flush(addrs);
+        assertEquals(null, table1.getEntryByInetAddress(ip1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip1));
+
+        // Destroy tables.
+        table1.add(tent1);
+        table1.destroy(false);
+        assertEquals(null, table1.getEntryByInetAddress(ip1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip1));
+        assertEquals(null, inetHostIndex.get(bpath1, ip2));
+        assertSame(tent2, table2.getEntryByInetAddress(ip1));
+
+        table2.destroy(true);
+        assertEquals(null, inetHostIndex.get(bpath2, ip1));
+        assertTrue(inetHostIndex.get(ip1).isEmpty());
+    }
+
+    /**
+     * Test case for
+     * {@link MacAddressTable#refresh(MacTableEntry, InetAddress)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRefresh() throws Exception {
+        EtherAddress ctlrMac = new EtherAddress(0x00ffeeddccbbL);
+        VTNConfig vtnConfig = Mockito.mock(VTNConfig.class);
+        Mockito.when(vtnConfig.getControllerMacAddress()).thenReturn(ctlrMac);
+        Mockito.when(vtnManager.getVTNConfig()).thenReturn(vtnConfig);
+
+        VBridgePath bpath = new VBridgePath("tenant", "bridge");
+        MacAddressTable table =
+            new MacAddressTable(vtnManager, bpath, AGE_INTERVAL);
+        NodeConnector nc = createNodeConnectors(1, false).get(0);
+        short vlan = 10;
+        long mac = 0x001122334455L;
+        Ip4Network ip4 = new Ip4Network("192.168.10.1");
+        InetAddress ip = ip4.getInetAddress();
+        MacTableEntry tent = new MacTableEntry(bpath, mac, nc, vlan, ip);
+        table.add(tent);
+
+        // The first request should send a unicast ARP request to the host.
+        assertTrue(table.refresh(tent, ip));
+        ArgumentCaptor<Ethernet> captor =
+            ArgumentCaptor.forClass(Ethernet.class);
+        Mockito.verify(vtnManager).transmit(Mockito.eq(nc), captor.capture());
+        Ethernet ether = captor.getValue();
+        assertEquals(ctlrMac, new EtherAddress(ether.getSourceMACAddress()));
+        assertEquals(new EtherAddress(mac),
+                     new EtherAddress(ether.getDestinationMACAddress()));
+        IEEE8021Q tag = (IEEE8021Q)ether.getPayload();
+        assertEquals(vlan, tag.getVid());
+        ARP arp = (ARP)tag.getPayload();
+        assertEquals(ARP.REQUEST, arp.getOpCode());
+        assertEquals(ip4, new Ip4Network(arp.getTargetProtocolAddress()));
+        assertEquals(new EtherAddress(mac),
+                     new EtherAddress(arp.getTargetHardwareAddress()));
+
+        // Refresh must be rate-limited within half of the aging interval,
+        // whichever of the ARP proxy or host discovery requests it.
+        for (int i = 0; i < 10; i++) {
+            assertFalse(table.isRefreshNeeded(tent));
+            assertFalse(table.refresh(tent, ip));
+        }
+        Mockito.verify(vtnManager, Mockito.times(1)).
+            transmit(Mockito.any(NodeConnector.class),
+                     Mockito.any(Ethernet.class));
+
+        table.destroy(false);
+    }
+
+    /**
+     * Return all MAC addresses in the given table using page cursor.
+     *
+     * @param table  A {@link MacAddressTable} instance.
+     * @param limit  The maximum number of entries in a page.
+     * @return  A list of MAC addresses.
+     * @throws Exception  An error occurred.
+     */
+    private List<Long> getAllEntries(MacAddressTable table, int limit)
+        throws Exception {
+        List<Long> result = new ArrayList<Long>();
+        String token = null;
+        do {
+            PageCursor pc = new PageCursor(PageCursor.TYPE_MAC, token, limit);
+            ListPage<MacAddressEntry> page = table.getEntries(pc);
+            List<MacAddressEntry> entries = page.getEntries();
+            token = page.getNextCursor();
+            if (token == null) {
+                assertTrue(entries.size() <= limit);
+            } else {
+                // Only the last page can contain less entries than the limit.
+                assertEquals(limit, entries.size());
+            }
+
+            for (MacAddressEntry ment: entries) {
+                result.add(getMacAddress(ment));
+            }
+        } while (token != null);
+
+        return result;
+    }
+
+    /**
+     * Return the MAC address in the given MAC address entry.
+     *
+     * @param ment  A {@link MacAddressEntry} instance.
+     * @return  A {@link Long} instance which represents the MAC address.
+     */
+    private Long getMacAddress(MacAddressEntry ment) {
+        EthernetAddress eaddr = (EthernetAddress)ment.getAddress();
+        return Long.valueOf(EtherAddress.toLong(eaddr.getValue()));
+    }
+}
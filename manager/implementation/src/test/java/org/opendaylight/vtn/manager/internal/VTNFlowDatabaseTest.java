@@ -0,0 +1,1323 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import org.opendaylight.vtn.manager.ListPage;
+import org.opendaylight.vtn.manager.VBridgeIfPath;
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VNodeRoute;
+import org.opendaylight.vtn.manager.VTenantPath;
+import org.opendaylight.vtn.manager.flow.DataFlow;
+import org.opendaylight.vtn.manager.flow.DataFlowFilter;
+import org.opendaylight.vtn.manager.util.EtherAddress;
+
+import org.opendaylight.vtn.manager.internal.cluster.FlowGroupId;
+import org.opendaylight.vtn.manager.internal.cluster.MacVlan;
+import org.opendaylight.vtn.manager.internal.cluster.VTNFlow;
+import org.opendaylight.vtn.manager.internal.util.PageCursor;
+import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalNode;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.flow.rev150410.VirtualRouteReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.nodes.VtnNodeBuilder;
+
+/**
+ * JUnit test for {@link VTNFlowDatabase}.
+ */
+public class VTNFlowDatabaseTest extends TestBase {
+    /**
+     * The name of the virtual tenant used for test.
+     */
+    private static final String  TENANT_NAME = "vtn";
+
+    /**
+     * Flow priority used for test.
+     */
+    private static final int  PRIORITY = 10;
+
+    /**
+     * Mock-up of VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * Mock-up of MD-SAL transaction context.
+     */
+    private TxContext  txContext;
+
+    /**
+     * Mock-up of VTN Manager provider service.
+     */
+    private VTNManagerProvider  vtnProvider;
+
+    /**
+     * Mock-up of VTN Manager configuration.
+     */
+    private VTNConfig  vtnConfig;
+
+    /**
+     * Statistics about VTN flow setup.
+     */
+    private FlowSetupStats  flowSetupStats;
+
+    /**
+     * Set up mock-up of VTN Manager service.
+     */
+    @Before
+    public void setUp() {
+        txContext = Mockito.mock(TxContext.class);
+        vtnProvider = Mockito.mock(VTNManagerProvider.class);
+        Mockito.when(vtnProvider.newTxContext()).thenReturn(txContext);
+        vtnConfig = Mockito.mock(VTNConfig.class);
+        setFlowModTimeout(10000, 10000);
+        flowSetupStats = new FlowSetupStats();
+
+        vtnManager = Mockito.mock(VTNManagerImpl.class);
+        Mockito.when(vtnManager.getContainerName()).thenReturn("default");
+        Mockito.when(vtnManager.isAvailable()).thenReturn(true);
+        Mockito.when(vtnManager.getVTNProvider()).thenReturn(vtnProvider);
+        Mockito.when(vtnManager.getVTNConfig()).thenReturn(vtnConfig);
+        Mockito.when(vtnManager.getFlowSetupStats()).
+            thenReturn(flowSetupStats);
+        Mockito.when(vtnManager.getPacketStats()).
+            thenReturn(PacketStats.DISABLED);
+    }
+
+    /**
+     * Set flow modification timeouts into the mock-up of VTN Manager
+     * configuration.
+     *
+     * @param local   Timeout in milliseconds for local flow modification.
+     * @param remote  Timeout in milliseconds for remote flow modification.
+     */
+    private void setFlowModTimeout(int local, int remote) {
+        Mockito.when(vtnConfig.getFlowModTimeout()).thenReturn(local);
+        Mockito.when(vtnConfig.getRemoteFlowModTimeout()).thenReturn(remote);
+    }
+
+    /**
+     * Return the match of the ingress flow in the given VTN flow.
+     *
+     * @param vflow  A VTN flow.
+     * @return  A {@link Match} instance.
+     */
+    private Match getIngressMatch(VTNFlow vflow) {
+        return vflow.getFlowEntries().get(0).getFlow().getMatch();
+    }
+
+    /**
+     * Create a switch port.
+     *
+     * @param node  The switch.
+     * @param id    The port number.
+     * @return  A {@link NodeConnector} instance.
+     */
+    private NodeConnector createPort(Node node, int id) {
+        return NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)id), node);
+    }
+
+    /**
+     * Create a VTN flow which contains one flow entry.
+     *
+     * @param in   The incoming switch port.
+     * @param out  The outgoing switch port.
+     * @param src  The source MAC address.
+     * @param dst  The destination MAC address.
+     * @return  A {@link VTNFlow} instance.
+     */
+    private VTNFlow createFlow(NodeConnector in, NodeConnector out, long src,
+                               long dst) {
+        short vlan = 0;
+        Match match = new Match();
+        match.setField(MatchType.IN_PORT, in);
+        match.setField(MatchType.DL_SRC, EtherAddress.toBytes(src));
+        match.setField(MatchType.DL_DST, EtherAddress.toBytes(dst));
+        match.setField(MatchType.DL_VLAN, vlan);
+
+        VTNFlow vflow = new VTNFlow(new FlowGroupId(TENANT_NAME));
+        vflow.addFlow(null, match,
+                      new ActionList(in.getNode(), vlan).addOutput(out),
+                      PRIORITY);
+        return vflow;
+    }
+
+    /**
+     * Create a VTN flow which forwards packets from {@code in} to
+     * {@code out} via the given transit switch port.
+     *
+     * <p>
+     *   The returned VTN flow contains an exact ingress flow entry, a shared
+     *   transit flow entry aggregated by the destination MAC address, and
+     *   an exact egress flow entry. The shared transit flow entry is
+     *   replaced with an exact one if it conflicts with the installed one.
+     * </p>
+     *
+     * @param in       The incoming switch port.
+     * @param transit  A pair of incoming and outgoing switch port in the
+     *                 transit switch.
+     * @param out      A pair of incoming and outgoing switch port in the
+     *                 egress switch.
+     * @param src      The source MAC address.
+     * @param dst      The destination MAC address.
+     * @return  A {@link VTNFlow} instance.
+     */
+    private VTNFlow createSharedFlow(NodeConnector in, NodeConnector[] transit,
+                                     NodeConnector[] out, long src,
+                                     long dst) {
+        short vlan = 0;
+        VTNFlow vflow = createFlow(in, out[0], src, dst);
+
+        Match match = new Match();
+        match.setField(MatchType.IN_PORT, transit[0]);
+        match.setField(MatchType.DL_DST, EtherAddress.toBytes(dst));
+        match.setField(MatchType.DL_VLAN, vlan);
+        Match exact = new Match();
+        exact.setField(MatchType.IN_PORT, transit[0]);
+        exact.setField(MatchType.DL_SRC, EtherAddress.toBytes(src));
+        exact.setField(MatchType.DL_DST, EtherAddress.toBytes(dst));
+        exact.setField(MatchType.DL_VLAN, vlan);
+        vflow.addSharedFlow(
+            vtnManager, match,
+            new ActionList(transit[0].getNode(), vlan).addOutput(transit[1]),
+            PRIORITY - 1, exact, PRIORITY);
+
+        match = new Match();
+        match.setField(MatchType.IN_PORT, out[0]);
+        match.setField(MatchType.DL_SRC, EtherAddress.toBytes(src));
+        match.setField(MatchType.DL_DST, EtherAddress.toBytes(dst));
+        match.setField(MatchType.DL_VLAN, vlan);
+        vflow.addFlow(
+            vtnManager, match,
+            new ActionList(out[0].getNode(), vlan).addOutput(out[1]),
+            PRIORITY);
+        return vflow;
+    }
+
+    /**
+     * Create a VTN flow which forwards packets along the given switch ports.
+     *
+     * <p>
+     *   Each pair of elements in {@code ports} is used as incoming and
+     *   outgoing switch port of an exact flow entry.
+     * </p>
+     *
+     * @param ports  An array of switch ports.
+     * @param src    The source MAC address.
+     * @param dst    The destination MAC address.
+     * @return  A {@link VTNFlow} instance.
+     */
+    private VTNFlow createLinkedFlow(NodeConnector[] ports, long src,
+                                     long dst) {
+        short vlan = 0;
+        VTNFlow vflow = new VTNFlow(new FlowGroupId(TENANT_NAME));
+        for (int i = 0; i < ports.length; i += 2) {
+            NodeConnector in = ports[i];
+            Match match = new Match();
+            match.setField(MatchType.IN_PORT, in);
+            match.setField(MatchType.DL_SRC, EtherAddress.toBytes(src));
+            match.setField(MatchType.DL_DST, EtherAddress.toBytes(dst));
+            match.setField(MatchType.DL_VLAN, vlan);
+            vflow.addFlow(
+                vtnManager, match,
+                new ActionList(in.getNode(), vlan).addOutput(ports[i + 1]),
+                PRIORITY);
+        }
+        return vflow;
+    }
+
+    /**
+     * Create an inter-switch link.
+     *
+     * @param src  The source port of the link.
+     * @param dst  The destination port of the link.
+     * @return  A {@link LinkEdge} instance.
+     */
+    private LinkEdge createLink(NodeConnector src, NodeConnector dst) {
+        return new LinkEdge(SalPort.create(src), SalPort.create(dst));
+    }
+
+    /**
+     * Set up the inventory reader that contains the given switches.
+     *
+     * @param nodes  Switches to be present.
+     */
+    private void setUpInventory(Node ... nodes) {
+        InventoryReader reader = new InventoryReader(null);
+        for (Node node: nodes) {
+            SalNode snode = SalNode.create(node);
+            reader.prefetch(snode, new VtnNodeBuilder().
+                            setId(snode.getNodeId()).build());
+        }
+        Mockito.when(txContext.getInventoryReader()).thenReturn(reader);
+    }
+
+    /**
+     * Remove the given VTN flow, and return the flow entries to be
+     * uninstalled.
+     *
+     * @param fdb    A {@link VTNFlowDatabase} instance.
+     * @param vflow  A VTN flow to be removed.
+     * @return  A set of flow entries to be uninstalled.
+     */
+    private Set<FlowEntry> removeFlow(VTNFlowDatabase fdb, VTNFlow vflow) {
+        List<VTNFlow> vflows = new ArrayList<VTNFlow>();
+        vflows.add(vflow);
+        FlowRemoveTask task = fdb.removeFlows(vtnManager, vflows);
+        assertNotNull(task);
+
+        Set<FlowEntry> entries = new HashSet<FlowEntry>();
+        List<FlowEntry> ingress = task.getIngressFlows();
+        assertEquals(1, ingress.size());
+        assertEquals(vflow.getFlowEntries().get(0), ingress.get(0));
+        entries.addAll(ingress);
+        entries.addAll(task.getFlowEntries());
+        assertEquals(1, task.getGroupSet().size());
+        assertTrue(task.getGroupSet().contains(vflow.getGroupId()));
+        return entries;
+    }
+
+    /**
+     * Create VTN flows which depend on virtual nodes, path policies, and
+     * inter-switch links, and put them into the given flow database.
+     *
+     * <p>
+     *   The ingress flow of the VTN flow at index {@code i} is installed
+     *   in {@code nodes[0]} with incoming port number {@code i + 1}.
+     *   All the VTN flows are forwarded to the same host via
+     *   {@code nodes[1]} and {@code nodes[2]}.
+     * </p>
+     *
+     * @param fdb    A {@link VTNFlowDatabase} instance.
+     * @param nodes  An array of three switches.
+     * @param count  The number of VTN flows to be created.
+     * @return  A list of created VTN flows.
+     */
+    private List<VTNFlow> createRoutedFlows(VTNFlowDatabase fdb, Node[] nodes,
+                                            int count) {
+        NodeConnector[] transit = {
+            createPort(nodes[1], 1), createPort(nodes[1], 2),
+        };
+        NodeConnector[] out = {
+            createPort(nodes[2], 1), createPort(nodes[2], 2),
+        };
+        VTenantPath shared = new VBridgePath(TENANT_NAME, "bridge_shared");
+
+        List<VTNFlow> vflows = new ArrayList<VTNFlow>(count);
+        for (int i = 0; i < count; i++) {
+            NodeConnector in = createPort(nodes[0], i + 1);
+            VTNFlow vflow = createSharedFlow(in, transit, out,
+                                             (long)(i + 1), 0xa0L);
+            VBridgeIfPath ipath = new VBridgeIfPath(
+                TENANT_NAME, "bridge_" + (i % 2), "if_" + i);
+            vflow.addVirtualRoute(
+                new VNodeRoute(ipath, VirtualRouteReason.PORTMAPPED));
+            if ((i % 3) == 0) {
+                vflow.addDependency(shared);
+            }
+            vflow.setPathPolicy(i % 3);
+            assertFalse(vflow.getLinkEdges().isEmpty());
+            assertTrue(fdb.createIndex(vtnManager, vflow));
+            vflows.add(vflow);
+        }
+        assertEquals(count, fdb.getFlowCount());
+        assertFalse(fdb.isIndexEmpty());
+
+        return vflows;
+    }
+
+    /**
+     * Ensure that all the indices in the given flow database are empty.
+     *
+     * @param fdb  A {@link VTNFlowDatabase} instance.
+     */
+    private void checkIndexEmpty(VTNFlowDatabase fdb) {
+        assertEquals(0, fdb.getFlowCount());
+        assertTrue(fdb.getAllFlows().isEmpty());
+        assertTrue(fdb.isIndexEmpty());
+    }
+
+    /**
+     * Test case for
+     * {@link VTNFlowDatabase#getFlows(TxContext, StatsReader, boolean, DataFlowFilterImpl, int, PageCursor)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testGetFlowsPage() throws Exception {
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        Node[] nodes = {
+            NodeCreator.createOFNode(Long.valueOf(1L)),
+            NodeCreator.createOFNode(Long.valueOf(2L)),
+        };
+        long[] hosts = {0x10L, 0x20L, 0x30L};
+        long dst = 0xa0L;
+
+        // Create VTN flows in ascending order of flow ID.
+        int nflows = 30;
+        List<VTNFlow> all = new ArrayList<VTNFlow>();
+        for (int i = 0; i < nflows; i++) {
+            Node node = nodes[i % nodes.length];
+            NodeConnector in = createPort(node, 1 + (i % 4));
+            NodeConnector out = createPort(node, 10);
+            VTNFlow vflow = createFlow(in, out, hosts[i % hosts.length],
+                                       dst + i);
+            assertTrue(fdb.createIndex(vtnManager, vflow));
+            all.add(vflow);
+        }
+
+        int[] limits = {1, 2, 3, 4, 9, 10, 11, nflows, nflows + 1};
+
+        // No index.
+        DataFlowFilterImpl filter = new DataFlowFilterImpl(null, null);
+        for (int limit: limits) {
+            assertEquals(getFlowIds(all),
+                         getAllFlowIds(fdb, filter, limit));
+        }
+
+        // Switch index.
+        for (Node node: nodes) {
+            List<VTNFlow> expected = new ArrayList<VTNFlow>();
+            for (VTNFlow vflow: all) {
+                if (vflow.getFlowNodes().contains(node)) {
+                    expected.add(vflow);
+                }
+            }
+
+            DataFlowFilter df = new DataFlowFilter().setNode(node);
+            filter = new DataFlowFilterImpl(null, df);
+            assertEquals(DataFlowFilterImpl.INDEX_SWITCH,
+                         filter.getIndexType());
+            for (int limit: limits) {
+                assertEquals(getFlowIds(expected),
+                             getAllFlowIds(fdb, filter, limit));
+            }
+        }
+
+        // Source host index.
+        short vlan = 0;
+        for (long mac: hosts) {
+            List<VTNFlow> expected = new ArrayList<VTNFlow>();
+            for (VTNFlow vflow: all) {
+                if (vflow.getSourceHost().getHost().getMacAddress() == mac) {
+                    expected.add(vflow);
+                }
+            }
+
+            DataFlowFilter df = new DataFlowFilter().
+                setSourceHost(createEthernetHost(mac, vlan));
+            filter = new DataFlowFilterImpl(null, df);
+            assertEquals(DataFlowFilterImpl.INDEX_L2SRC,
+                         filter.getIndexType());
+            for (int limit: limits) {
+                assertEquals(getFlowIds(expected),
+                             getAllFlowIds(fdb, filter, limit));
+            }
+
+            // Source host index with switch condition.
+            for (Node node: nodes) {
+                List<VTNFlow> selected = new ArrayList<VTNFlow>();
+                for (VTNFlow vflow: expected) {
+                    if (vflow.getFlowNodes().contains(node)) {
+                        selected.add(vflow);
+                    }
+                }
+
+                df.setNode(node);
+                filter = new DataFlowFilterImpl(null, df);
+                for (int limit: limits) {
+                    assertEquals(getFlowIds(selected),
+                                 getAllFlowIds(fdb, filter, limit));
+                }
+            }
+        }
+
+        // Unknown switch.
+        Node unknown = NodeCreator.createOFNode(Long.valueOf(100L));
+        filter = new DataFlowFilterImpl(
+            null, new DataFlowFilter().setNode(unknown));
+        assertTrue(getAllFlowIds(fdb, filter, 1).isEmpty());
+
+        // The next page should be determined correctly even if the last
+        // VTN flow in the previous page is removed.
+        DataFlowFilter df = new DataFlowFilter().setNode(nodes[0]);
+        filter = new DataFlowFilterImpl(null, df);
+        int limit = 3;
+        PageCursor pc = new PageCursor(PageCursor.TYPE_FLOW, limit);
+        ListPage<DataFlow> page =
+            fdb.getFlows(txContext, null, false, filter, 0, pc);
+        List<DataFlow> dflows = page.getEntries();
+        assertEquals(limit, dflows.size());
+        long lastId = dflows.get(limit - 1).getFlowId();
+
+        List<VTNFlow> expected = new ArrayList<VTNFlow>();
+        boolean found = false;
+        for (VTNFlow vflow: all) {
+            long id = vflow.getGroupId().getEventId();
+            if (id == lastId) {
+                assertTrue(fdb.removeIndex(vtnManager, vflow));
+                found = true;
+            } else if (found && vflow.getFlowNodes().contains(nodes[0])) {
+                expected.add(vflow);
+            }
+        }
+        assertTrue(found);
+
+        pc = new PageCursor(PageCursor.TYPE_FLOW, page.getNextCursor(), 0);
+        page = fdb.getFlows(txContext, null, false, filter, 0, pc);
+        assertEquals(null, page.getNextCursor());
+        List<Long> ids = new ArrayList<Long>();
+        for (DataFlow dflow: page.getEntries()) {
+            ids.add(Long.valueOf(dflow.getFlowId()));
+        }
+        assertEquals(getFlowIds(expected), ids);
+    }
+
+    /**
+     * Test case for pending VTN flows.
+     *
+     * <ul>
+     *   <li>{@link VTNFlowDatabase#install(VTNManagerImpl, VTNFlow)}</li>
+     *   <li>{@link VTNFlowDatabase#isFlowPending(VTNManagerImpl, Match)}</li>
+     *   <li>{@link VTNFlowDatabase#flowInstalled(VTNManagerImpl, VTNFlow, boolean)}</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testPendingFlow() throws Exception {
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        Node node = NodeCreator.createOFNode(Long.valueOf(1L));
+        NodeConnector in = createPort(node, 1);
+        NodeConnector out = createPort(node, 2);
+        long src = 0x10L;
+        long dst = 0x20L;
+
+        // No VTN flow is installed.
+        VTNFlow vflow1 = createFlow(in, out, src, dst++);
+        Match match1 = getIngressMatch(vflow1);
+        assertFalse(fdb.isFlowPending(vtnManager, match1));
+        assertEquals(0L, flowSetupStats.getSuppressedPackets());
+
+        // Install a VTN flow.
+        fdb.install(vtnManager, vflow1);
+        ArgumentCaptor<FlowModTask> captor =
+            ArgumentCaptor.forClass(FlowModTask.class);
+        Mockito.verify(vtnManager).postFlowTask(captor.capture());
+        assertTrue(captor.getValue() instanceof FlowAddTask);
+
+        // PACKET_IN that matches the ingress flow should be suppressed until
+        // the flow installation completes.
+        long suppressed = 0;
+        for (int i = 0; i < 5; i++) {
+            assertTrue(fdb.isFlowPending(vtnManager, match1));
+            suppressed++;
+            assertEquals(suppressed, flowSetupStats.getSuppressedPackets());
+        }
+
+        // Another VTN flow does not affect the pending flow.
+        VTNFlow vflow2 = createFlow(in, out, src, dst++);
+        Match match2 = getIngressMatch(vflow2);
+        assertFalse(fdb.isFlowPending(vtnManager, match2));
+        fdb.flowInstalled(vtnManager, vflow2, true);
+        assertTrue(fdb.isFlowPending(vtnManager, match1));
+        suppressed++;
+
+        // A VTN flow which has the same ingress match, but is not the
+        // pending flow, must not complete the pending flow.
+        VTNFlow dup = createFlow(in, out, src, dst - 2);
+        assertEquals(match1, getIngressMatch(dup));
+        fdb.flowInstalled(vtnManager, dup, true);
+        assertTrue(fdb.isFlowPending(vtnManager, match1));
+        suppressed++;
+        assertEquals(0L, flowSetupStats.getInstalledFlows());
+        assertEquals(0L, flowSetupStats.getFailedFlows());
+
+        // Complete the flow installation.
+        fdb.flowInstalled(vtnManager, vflow1, true);
+        assertFalse(fdb.isFlowPending(vtnManager, match1));
+        assertEquals(suppressed, flowSetupStats.getSuppressedPackets());
+        assertEquals(1L, flowSetupStats.getInstalledFlows());
+        assertEquals(0L, flowSetupStats.getFailedFlows());
+        assertEquals(1, fdb.getFlowCount());
+
+        // The pending flow must be cleaned up when the installation fails.
+        fdb.install(vtnManager, vflow2);
+        assertTrue(fdb.isFlowPending(vtnManager, match2));
+        suppressed++;
+        fdb.flowInstalled(vtnManager, vflow2, false);
+        assertFalse(fdb.isFlowPending(vtnManager, match2));
+        assertEquals(suppressed, flowSetupStats.getSuppressedPackets());
+        assertEquals(1L, flowSetupStats.getInstalledFlows());
+        assertEquals(1L, flowSetupStats.getFailedFlows());
+
+        // The pending flow must be cleaned up when the VTN flow is removed.
+        VTNFlow vflow3 = createFlow(in, out, src, dst++);
+        Match match3 = getIngressMatch(vflow3);
+        fdb.install(vtnManager, vflow3);
+        assertTrue(fdb.isFlowPending(vtnManager, match3));
+        suppressed++;
+        assertTrue(fdb.removeIndex(vtnManager, vflow3));
+        assertFalse(fdb.isFlowPending(vtnManager, match3));
+
+        VTNFlow vflow4 = createFlow(in, out, src, dst++);
+        Match match4 = getIngressMatch(vflow4);
+        fdb.install(vtnManager, vflow4);
+        assertTrue(fdb.isFlowPending(vtnManager, match4));
+        suppressed++;
+        fdb.flowRemoved(vtnManager, vflow4.getGroupId());
+        assertFalse(fdb.isFlowPending(vtnManager, match4));
+        assertEquals(suppressed, flowSetupStats.getSuppressedPackets());
+
+        // A pending flow expires when the flow installation takes longer
+        // than the sum of flow modification timeouts.
+        VTNFlow vflow5 = createFlow(in, out, src, dst++);
+        Match match5 = getIngressMatch(vflow5);
+        fdb.install(vtnManager, vflow5);
+        assertTrue(fdb.isFlowPending(vtnManager, match5));
+        suppressed++;
+
+        setFlowModTimeout(1, 1);
+        Thread.sleep(10L);
+        assertFalse(fdb.isFlowPending(vtnManager, match5));
+        assertEquals(suppressed, flowSetupStats.getSuppressedPackets());
+
+        // Expired flow must be removed from the pending flow map.
+        setFlowModTimeout(10000, 10000);
+        assertFalse(fdb.isFlowPending(vtnManager, match5));
+
+        // Completion of the expired flow must not update statistics.
+        fdb.flowInstalled(vtnManager, vflow5, true);
+        assertEquals(suppressed, flowSetupStats.getSuppressedPackets());
+        assertEquals(1L, flowSetupStats.getInstalledFlows());
+
+        // No VTN flow is installed if the VTN Manager is not available.
+        Mockito.when(vtnManager.isAvailable()).thenReturn(false);
+        VTNFlow vflow6 = createFlow(in, out, src, dst++);
+        fdb.install(vtnManager, vflow6);
+        assertFalse(fdb.isFlowPending(vtnManager, getIngressMatch(vflow6)));
+        Mockito.verify(vtnManager, Mockito.times(5)).
+            postFlowTask(Mockito.any(FlowModTask.class));
+    }
+
+    /**
+     * Test case for flow entries shared with multiple VTN flows.
+     *
+     * <ul>
+     *   <li>{@link VTNFlowDatabase#createIndex(VTNManagerImpl, VTNFlow)}</li>
+     *   <li>{@link VTNFlowDatabase#removeIndex(VTNManagerImpl, VTNFlow)}</li>
+     *   <li>{@link VTNFlowDatabase#removeFlows(VTNManagerImpl, List)}</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testSharedFlow() throws Exception {
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        Node node1 = NodeCreator.createOFNode(Long.valueOf(1L));
+        Node node2 = NodeCreator.createOFNode(Long.valueOf(2L));
+        Node node3 = NodeCreator.createOFNode(Long.valueOf(3L));
+        setUpInventory(node1, node2, node3);
+        Mockito.when(vtnConfig.getBulkFlowModTimeout()).thenReturn(10000);
+
+        NodeConnector in1 = createPort(node1, 1);
+        NodeConnector in2 = createPort(node1, 2);
+        NodeConnector[] transit = {createPort(node2, 1), createPort(node2, 2)};
+        NodeConnector[] out = {createPort(node3, 1), createPort(node3, 2)};
+        long dst = 0xa0L;
+
+        // The first VTN flow installs the shared flow entry.
+        VTNFlow vflow1 = createSharedFlow(in1, transit, out, 0x1L, dst);
+        FlowEntry shared1 = vflow1.getFlowEntries().get(1);
+        assertTrue(vflow1.isSharedFlow(shared1));
+        assertTrue(fdb.createIndex(vtnManager, vflow1));
+        assertSame(shared1, vflow1.getFlowEntries().get(1));
+
+        // Other VTN flows to the same destination share the flow entry
+        // installed by the first VTN flow.
+        VTNFlow vflow2 = createSharedFlow(in2, transit, out, 0x2L, dst);
+        FlowEntry shared2 = vflow2.getFlowEntries().get(1);
+        assertFalse(shared1.equals(shared2));
+        assertEquals(shared1.getFlow(), shared2.getFlow());
+        assertTrue(fdb.createIndex(vtnManager, vflow2));
+        assertSame(shared1, vflow2.getFlowEntries().get(1));
+        assertTrue(vflow2.isSharedFlow(shared1));
+        assertFalse(vflow2.isSharedFlow(shared2));
+
+        VTNFlow vflow3 = createSharedFlow(in1, transit, out, 0x3L, dst);
+        assertTrue(fdb.createIndex(vtnManager, vflow3));
+        assertSame(shared1, vflow3.getFlowEntries().get(1));
+        assertEquals(3, fdb.getFlowCount());
+
+        // The shared flow entry must not be uninstalled while other VTN
+        // flows use it.
+        Set<FlowEntry> removed = removeFlow(fdb, vflow1);
+        Set<FlowEntry> expected = new HashSet<FlowEntry>();
+        expected.add(vflow1.getFlowEntries().get(0));
+        expected.add(vflow1.getFlowEntries().get(2));
+        assertEquals(expected, removed);
+        assertEquals(2, fdb.getFlowCount());
+
+        // Removing a VTN flow twice must not release the shared flow entry
+        // twice.
+        assertFalse(fdb.removeIndex(vtnManager, vflow1));
+        removed = removeFlow(fdb, vflow2);
+        expected.clear();
+        expected.add(vflow2.getFlowEntries().get(0));
+        expected.add(vflow2.getFlowEntries().get(2));
+        assertEquals(expected, removed);
+        assertEquals(1, fdb.getFlowCount());
+
+        // The shared flow entry must be uninstalled with the last user.
+        removed = removeFlow(fdb, vflow3);
+        expected.clear();
+        expected.addAll(vflow3.getFlowEntries());
+        assertTrue(expected.contains(shared1));
+        assertEquals(expected, removed);
+        assertEquals(0, fdb.getFlowCount());
+
+        // removeIndex() must also release the shared flow entry.
+        VTNFlow vflow4 = createSharedFlow(in1, transit, out, 0x4L, dst);
+        FlowEntry shared4 = vflow4.getFlowEntries().get(1);
+        assertTrue(fdb.createIndex(vtnManager, vflow4));
+        assertSame(shared4, vflow4.getFlowEntries().get(1));
+        assertTrue(fdb.removeIndex(vtnManager, vflow4));
+        assertEquals(0, fdb.getFlowCount());
+
+        VTNFlow vflow5 = createSharedFlow(in2, transit, out, 0x5L, dst);
+        FlowEntry shared5 = vflow5.getFlowEntries().get(1);
+        assertTrue(fdb.createIndex(vtnManager, vflow5));
+        assertSame(shared5, vflow5.getFlowEntries().get(1));
+    }
+
+    /**
+     * Test case for a shared flow entry which conflicts with the flow entry
+     * installed by another VTN flow.
+     *
+     * <p>
+     *   A VTN flow must be installed with a flow entry which matches the
+     *   packet exactly instead of the conflicting shared flow entry.
+     * </p>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testSharedFlowConflict() throws Exception {
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        Node node1 = NodeCreator.createOFNode(Long.valueOf(1L));
+        Node node2 = NodeCreator.createOFNode(Long.valueOf(2L));
+        Node node3 = NodeCreator.createOFNode(Long.valueOf(3L));
+        setUpInventory(node1, node2, node3);
+        Mockito.when(vtnConfig.getBulkFlowModTimeout()).thenReturn(10000);
+
+        NodeConnector in1 = createPort(node1, 1);
+        NodeConnector in2 = createPort(node1, 2);
+        NodeConnector[] transit = {createPort(node2, 1), createPort(node2, 2)};
+        NodeConnector[] out = {createPort(node3, 1), createPort(node3, 2)};
+        long dst = 0xa0L;
+
+        VTNFlow vflow1 = createSharedFlow(in1, transit, out, 0x1L, dst);
+        FlowEntry shared1 = vflow1.getFlowEntries().get(1);
+        assertTrue(fdb.createIndex(vtnManager, vflow1));
+
+        // A VTN flow which has the same shared match but different actions
+        // must be installed with an exact match flow entry.
+        long src = 0x2L;
+        NodeConnector[] diverted = {transit[0], createPort(node2, 3)};
+        VTNFlow conflict = createSharedFlow(in2, diverted, out, src, dst);
+        FlowEntry shared2 = conflict.getFlowEntries().get(1);
+        assertTrue(fdb.createIndex(vtnManager, conflict));
+        assertEquals(2, fdb.getFlowCount());
+        assertTrue(fdb.containsIngressFlow(conflict.getFlowEntries().get(0)));
+        assertTrue(conflict.getSharedFlows().isEmpty());
+
+        FlowEntry exact = conflict.getFlowEntries().get(1);
+        assertFalse(shared2.equals(exact));
+        assertFalse(conflict.isSharedFlow(exact));
+        assertEquals(shared2.getGroupName(), exact.getGroupName());
+        assertEquals(shared2.getFlowName(), exact.getFlowName());
+        assertEquals(node2, exact.getNode());
+        assertEquals(conflict.getGroupId().getFlowCookie(),
+                     exact.getFlow().getId());
+        assertEquals((short)PRIORITY, exact.getFlow().getPriority());
+        assertEquals(shared2.getFlow().getActions(),
+                     exact.getFlow().getActions());
+        Match match = exact.getFlow().getMatch();
+        assertEquals(transit[0], match.getField(MatchType.IN_PORT).getValue());
+        assertArrayEquals(EtherAddress.toBytes(src),
+                          (byte[])match.getField(MatchType.DL_SRC).
+                          getValue());
+        assertArrayEquals(EtherAddress.toBytes(dst),
+                          (byte[])match.getField(MatchType.DL_DST).
+                          getValue());
+
+        // Other VTN flows still share the installed flow entry.
+        VTNFlow vflow3 = createSharedFlow(in2, transit, out, 0x3L, dst);
+        assertTrue(fdb.createIndex(vtnManager, vflow3));
+        assertSame(shared1, vflow3.getFlowEntries().get(1));
+        assertEquals(3, fdb.getFlowCount());
+
+        // The exact match flow entry must be uninstalled with the VTN flow.
+        Set<FlowEntry> removed = removeFlow(fdb, conflict);
+        Set<FlowEntry> expected =
+            new HashSet<FlowEntry>(conflict.getFlowEntries());
+        assertTrue(expected.contains(exact));
+        assertEquals(expected, removed);
+        assertEquals(2, fdb.getFlowCount());
+
+        // The shared flow entry must be kept until its last user is
+        // removed.
+        removed = removeFlow(fdb, vflow1);
+        assertFalse(removed.contains(shared1));
+        removed = removeFlow(fdb, vflow3);
+        assertTrue(removed.contains(shared1));
+        assertEquals(0, fdb.getFlowCount());
+
+        // A shared flow entry that has already been replaced must not be
+        // replaced again.
+        assertFalse(conflict.unshareFlow(shared2));
+    }
+
+    /**
+     * Ensure that all the indices are cleaned up by the removal of
+     * VTN flows.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testIndexRemoval() throws Exception {
+        Node[] nodes = {
+            NodeCreator.createOFNode(Long.valueOf(1L)),
+            NodeCreator.createOFNode(Long.valueOf(2L)),
+            NodeCreator.createOFNode(Long.valueOf(3L)),
+        };
+        setUpInventory(nodes);
+        Mockito.when(vtnConfig.getBulkFlowModTimeout()).thenReturn(10000);
+        int count = 6;
+        short vlan = 0;
+
+        // flowRemoved(VTNManagerImpl, List, boolean)
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        List<VTNFlow> vflows = createRoutedFlows(fdb, nodes, count);
+        List<FlowEntry> ingress = new ArrayList<FlowEntry>();
+        for (VTNFlow vflow: vflows) {
+            ingress.add(vflow.getFlowEntries().get(0));
+        }
+        assertTrue(fdb.flowRemoved(vtnManager, ingress, false).isEmpty());
+        checkIndexEmpty(fdb);
+        assertEquals(ingress, fdb.flowRemoved(vtnManager, ingress, false));
+
+        // flowRemoved(VTNManagerImpl, FlowGroupId)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        vflows = createRoutedFlows(fdb, nodes, count);
+        for (VTNFlow vflow: vflows) {
+            fdb.flowRemoved(vtnManager, vflow.getGroupId());
+        }
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, Node)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        assertNotNull(fdb.removeFlows(vtnManager, nodes[1]));
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, Node, PortFilter, short)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        vflows = createRoutedFlows(fdb, nodes, count);
+        for (int i = 0; i < count; i++) {
+            NodeConnector in = createPort(nodes[0], i + 1);
+            PortFilter filter = new SpecificPortFilter(in);
+            assertNotNull(fdb.removeFlows(vtnManager, nodes[0], filter,
+                                          vlan));
+            assertEquals(count - i - 1, fdb.getFlowCount());
+        }
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, NodeConnector)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        assertNotNull(fdb.removeFlows(vtnManager, createPort(nodes[1], 1)));
+        checkIndexEmpty(fdb);
+
+        // removeEdgeFlows(VTNManagerImpl, NodeConnector)
+        // VTN flows must be kept if the port is used only for inter-switch
+        // links.
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        assertNull(fdb.removeEdgeFlows(vtnManager, createPort(nodes[1], 1)));
+        assertEquals(count, fdb.getFlowCount());
+        for (int i = 0; i < count; i++) {
+            NodeConnector in = createPort(nodes[0], i + 1);
+            assertNotNull(fdb.removeEdgeFlows(vtnManager, in));
+            assertEquals(count - i - 1, fdb.getFlowCount());
+        }
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, NodeConnector, short)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        assertNotNull(fdb.removeFlows(vtnManager, createPort(nodes[2], 2),
+                                      vlan));
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, MacVlan, NodeConnector)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        for (int i = 0; i < count; i++) {
+            NodeConnector in = createPort(nodes[0], i + 1);
+            MacVlan mvlan = new MacVlan((long)(i + 1), vlan);
+            assertNotNull(fdb.removeFlows(vtnManager, mvlan, in));
+            assertEquals(count - i - 1, fdb.getFlowCount());
+        }
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, List)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        vflows = createRoutedFlows(fdb, nodes, count);
+        assertNotNull(fdb.removeFlows(vtnManager, vflows));
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, VTenantPath)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        assertNotNull(fdb.removeFlows(vtnManager,
+                                      new VTenantPath(TENANT_NAME)));
+        checkIndexEmpty(fdb);
+
+        // removeFlows(VTNManagerImpl, FlowSelector)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        Set<Integer> ids = new HashSet<Integer>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(Integer.valueOf(i));
+        }
+        assertNotNull(fdb.removeFlows(vtnManager,
+                                      new PathPolicyFlowSelector(ids)));
+        checkIndexEmpty(fdb);
+
+        // removeIndex(VTNManagerImpl, VTNFlow)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        vflows = createRoutedFlows(fdb, nodes, count);
+        for (VTNFlow vflow: vflows) {
+            assertTrue(fdb.removeIndex(vtnManager, vflow));
+        }
+        checkIndexEmpty(fdb);
+
+        // clear(VTNManagerImpl)
+        fdb = new VTNFlowDatabase(TENANT_NAME);
+        createRoutedFlows(fdb, nodes, count);
+        assertNotNull(fdb.clear(vtnManager));
+        checkIndexEmpty(fdb);
+    }
+
+    /**
+     * Test case for
+     * {@link VTNFlowDatabase#reroute(VTNManagerImpl, InventoryReader, Set)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testReroute() throws Exception {
+        Node[] nodes = {
+            NodeCreator.createOFNode(Long.valueOf(1L)),
+            NodeCreator.createOFNode(Long.valueOf(2L)),
+            NodeCreator.createOFNode(Long.valueOf(3L)),
+            NodeCreator.createOFNode(Long.valueOf(4L)),
+        };
+        setUpInventory(nodes);
+        Mockito.when(vtnConfig.getBulkFlowModTimeout()).thenReturn(10000);
+        InventoryReader rdr = txContext.getInventoryReader();
+
+        // nodes[0] -> nodes[1] -> nodes[2]
+        NodeConnector l1src = createPort(nodes[0], 10);
+        NodeConnector l1dst = createPort(nodes[1], 1);
+        NodeConnector l2src = createPort(nodes[1], 2);
+        NodeConnector l2dst = createPort(nodes[2], 1);
+        NodeConnector out = createPort(nodes[2], 2);
+        LinkEdge link1 = createLink(l1src, l1dst);
+        LinkEdge link2 = createLink(l2src, l2dst);
+
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        int count = 4;
+        List<VTNFlow> vflows = new ArrayList<VTNFlow>();
+        for (int i = 0; i < count; i++) {
+            NodeConnector[] ports = {
+                createPort(nodes[0], i + 1), l1src,
+                l1dst, l2src,
+                l2dst, out,
+            };
+            VTNFlow vflow = createLinkedFlow(ports, (long)(i + 1), 0xa0L);
+            vflow.setPathPolicy(i % 2);
+            assertTrue(fdb.createIndex(vtnManager, vflow));
+            vflows.add(vflow);
+        }
+
+        // No VTN flow uses the given link.
+        Set<LinkEdge> links = new HashSet<LinkEdge>();
+        links.add(createLink(out, createPort(nodes[3], 1)));
+        assertEquals(0, fdb.reroute(vtnManager, rdr, links));
+        Mockito.verify(vtnManager, Mockito.never()).
+            postFlowTask(Matchers.any(FlowModTask.class));
+
+        // VTN flows routed by path policy 0 are moved to
+        // nodes[0] -> nodes[3] -> nodes[2].
+        // VTN flows routed by path policy 1 can not be rerouted.
+        List<LinkEdge> route = new ArrayList<LinkEdge>();
+        LinkEdge link3 = createLink(createPort(nodes[0], 11),
+                                    createPort(nodes[3], 1));
+        LinkEdge link4 = createLink(createPort(nodes[3], 2), l2dst);
+        route.add(link3);
+        route.add(link4);
+        RouteResolver rr = Mockito.mock(RouteResolver.class);
+        Mockito.when(rr.getRoute(rdr, SalNode.create(nodes[0]),
+                                 SalNode.create(nodes[2]))).
+            thenReturn(route);
+        Mockito.when(vtnProvider.getRouteResolver(Integer.valueOf(0))).
+            thenReturn(rr);
+        Mockito.when(vtnProvider.getRouteResolver(Integer.valueOf(1))).
+            thenReturn(null);
+
+        links.clear();
+        links.add(link2);
+        assertEquals(2, fdb.reroute(vtnManager, rdr, links));
+        assertEquals(2, fdb.getFlowCount());
+        assertEquals(2L, flowSetupStats.getRerouteFailedFlows());
+
+        ArgumentCaptor<FlowModTask> captor =
+            ArgumentCaptor.forClass(FlowModTask.class);
+        Mockito.verify(vtnManager, Mockito.times(3)).
+            postFlowTask(captor.capture());
+        Set<FlowGroupId> rerouted = new HashSet<FlowGroupId>();
+        Set<FlowGroupId> removed = new HashSet<FlowGroupId>();
+        for (FlowModTask t: captor.getAllValues()) {
+            if (t instanceof FlowRemoveTask) {
+                removed.addAll(((FlowRemoveTask)t).getGroupSet());
+                continue;
+            }
+
+            FlowRerouteTask task = (FlowRerouteTask)t;
+            VTNFlow oldFlow = task.getOldFlow();
+            VTNFlow newFlow = task.getNewFlow();
+            assertEquals(0, oldFlow.getPathPolicy());
+            assertTrue(vflows.contains(oldFlow));
+
+            // The new VTN flow must inherit the flow group ID.
+            FlowGroupId gid = oldFlow.getGroupId();
+            assertEquals(gid, newFlow.getGroupId());
+            assertTrue(rerouted.add(gid));
+            assertEquals(route, newFlow.getLinkEdges());
+            assertEquals(getIngressMatch(oldFlow), getIngressMatch(newFlow));
+
+            // Flow entries except for the ingress flow are obsolete.
+            List<FlowEntry> entries = oldFlow.getFlowEntries();
+            assertEquals(entries.subList(1, entries.size()),
+                         task.getObsoleteFlows());
+        }
+        assertEquals(2, rerouted.size());
+        for (VTNFlow vflow: vflows) {
+            FlowGroupId gid = vflow.getGroupId();
+            if (vflow.getPathPolicy() == 0) {
+                assertTrue(rerouted.contains(gid));
+                assertFalse(removed.contains(gid));
+            } else {
+                assertFalse(rerouted.contains(gid));
+                assertTrue(removed.contains(gid));
+            }
+        }
+
+        // Rerouted VTN flows no longer use removed links.
+        links.clear();
+        links.add(link1);
+        links.add(link2);
+        assertEquals(0, fdb.reroute(vtnManager, rdr, links));
+        Mockito.verify(vtnManager, Mockito.times(3)).
+            postFlowTask(Matchers.any(FlowModTask.class));
+        assertEquals(2, fdb.getFlowCount());
+
+        fdb.removeFlows(vtnManager, new VTenantPath(TENANT_NAME));
+        checkIndexEmpty(fdb);
+    }
+
+    /**
+     * Test case for
+     * {@link VTNFlowDatabase#removeEdgeFlows(VTNManagerImpl, NodeConnector)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRemoveEdgeFlows() throws Exception {
+        Node[] nodes = {
+            NodeCreator.createOFNode(Long.valueOf(1L)),
+            NodeCreator.createOFNode(Long.valueOf(2L)),
+            NodeCreator.createOFNode(Long.valueOf(3L)),
+        };
+        setUpInventory(nodes);
+        Mockito.when(vtnConfig.getBulkFlowModTimeout()).thenReturn(10000);
+
+        // nodes[0] -> nodes[1] -> nodes[2]
+        NodeConnector in = createPort(nodes[0], 1);
+        NodeConnector out = createPort(nodes[2], 2);
+        NodeConnector[] ports = {
+            in, createPort(nodes[0], 10),
+            createPort(nodes[1], 1), createPort(nodes[1], 2),
+            createPort(nodes[2], 1), out,
+        };
+
+        // Switch ports used only for inter-switch links.
+        VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+        VTNFlow vflow = createLinkedFlow(ports, 1L, 0xa0L);
+        assertTrue(fdb.createIndex(vtnManager, vflow));
+        for (int i = 1; i < ports.length - 1; i++) {
+            assertNull(fdb.removeEdgeFlows(vtnManager, ports[i]));
+            assertEquals(1, fdb.getFlowCount());
+        }
+
+        // Switch port which is not used by the VTN flow.
+        assertNull(fdb.removeEdgeFlows(vtnManager, createPort(nodes[1], 3)));
+        assertEquals(1, fdb.getFlowCount());
+
+        // Incoming port of the ingress flow.
+        FlowRemoveTask task = fdb.removeEdgeFlows(vtnManager, in);
+        assertNotNull(task);
+        assertTrue(task.getGroupSet().contains(vflow.getGroupId()));
+        checkIndexEmpty(fdb);
+
+        // Outgoing port of the egress flow.
+        vflow = createLinkedFlow(ports, 1L, 0xa0L);
+        assertTrue(fdb.createIndex(vtnManager, vflow));
+        task = fdb.removeEdgeFlows(vtnManager, out);
+        assertNotNull(task);
+        assertTrue(task.getGroupSet().contains(vflow.getGroupId()));
+        checkIndexEmpty(fdb);
+
+        // VTN flow in a single switch is always removed.
+        NodeConnector port1 = createPort(nodes[0], 1);
+        NodeConnector port2 = createPort(nodes[0], 2);
+        vflow = createFlow(port1, port2, 1L, 0xa0L);
+        assertTrue(vflow.getLinkEdges().isEmpty());
+        assertTrue(fdb.createIndex(vtnManager, vflow));
+        assertNotNull(fdb.removeEdgeFlows(vtnManager, port2));
+        checkIndexEmpty(fdb);
+    }
+
+    /**
+     * Ensure that {@link VTNFlowDatabase#removeFlows(VTNManagerImpl, FlowSelector)}
+     * removes the same VTN flows regardless of whether the selector narrows
+     * down VTN flows by indices or not.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testSelectorCandidates() throws Exception {
+        Node[] nodes = {
+            NodeCreator.createOFNode(Long.valueOf(1L)),
+            NodeCreator.createOFNode(Long.valueOf(2L)),
+            NodeCreator.createOFNode(Long.valueOf(3L)),
+        };
+        setUpInventory(nodes);
+        Mockito.when(vtnConfig.getBulkFlowModTimeout()).thenReturn(10000);
+        int count = 6;
+
+        VBridgePath bpath0 = new VBridgePath(TENANT_NAME, "bridge_0");
+        Set<Integer> ids = new HashSet<Integer>();
+        ids.add(Integer.valueOf(1));
+        ids.add(Integer.valueOf(2));
+        FlowSelector[] selectors = {
+            new PathFlowSelector(new VTenantPath(TENANT_NAME)),
+            new PathFlowSelector(bpath0),
+            new PathFlowSelector(new VBridgeIfPath(bpath0, "if_2")),
+            new PathFlowSelector(
+                new VBridgePath(TENANT_NAME, "bridge_shared")),
+            new PathFlowSelector(new VBridgePath(TENANT_NAME, "unknown")),
+            new PathFlowSelector(new VTenantPath("unknown")),
+            new PathPolicyFlowSelector(0),
+            new PathPolicyFlowSelector(ids),
+            new PathPolicyFlowSelector(10),
+        };
+        int[][] expected = {
+            {0, 1, 2, 3, 4, 5},
+            {0, 2, 4},
+            {2},
+            {0, 3},
+            {},
+            {},
+            {0, 3},
+            {1, 2, 4, 5},
+            {},
+        };
+
+        for (int i = 0; i < selectors.length; i++) {
+            FlowSelector selector = selectors[i];
+            Set<Integer> exp = new HashSet<Integer>();
+            for (int idx: expected[i]) {
+                exp.add(Integer.valueOf(idx));
+            }
+
+            VTNFlowDatabase fdb = new VTNFlowDatabase(TENANT_NAME);
+            List<VTNFlow> vflows = createRoutedFlows(fdb, nodes, count);
+            Set<Integer> indexed = getRemovedIndices(
+                vflows, fdb.removeFlows(vtnManager, selector));
+            assertEquals(selector.getDescription(), exp, indexed);
+            assertEquals(count - exp.size(), fdb.getFlowCount());
+
+            VTNFlowDatabase full = new VTNFlowDatabase(TENANT_NAME);
+            List<VTNFlow> fflows = createRoutedFlows(full, nodes, count);
+            FlowSelector scan = new FullScanSelector(selector);
+            assertNull(scan.getCandidates(full));
+            Set<Integer> scanned = getRemovedIndices(
+                fflows, full.removeFlows(vtnManager, scan));
+            assertEquals(selector.getDescription(), indexed, scanned);
+            assertEquals(count - exp.size(), full.getFlowCount());
+
+            // Remaining VTN flows must be still indexed.
+            fdb.removeFlows(vtnManager, new VTenantPath(TENANT_NAME));
+            checkIndexEmpty(fdb);
+        }
+    }
+
+    /**
+     * Return a set of indices of VTN flows removed by the given task.
+     *
+     * @param vflows  A list of VTN flows.
+     * @param task    A {@link FlowRemoveTask} instance.
+     * @return  A set of indices in {@code vflows}.
+     */
+    private Set<Integer> getRemovedIndices(List<VTNFlow> vflows,
+                                           FlowRemoveTask task) {
+        Set<Integer> indices = new HashSet<Integer>();
+        if (task != null) {
+            Set<FlowGroupId> gidSet = task.getGroupSet();
+            for (int i = 0; i < vflows.size(); i++) {
+                if (gidSet.contains(vflows.get(i).getGroupId())) {
+                    indices.add(Integer.valueOf(i));
+                }
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Return a list of flow IDs of the given VTN flows.
+     *
+     * @param vflows  A list of VTN flows.
+     * @return  A list of flow IDs.
+     */
+    private List<Long> getFlowIds(List<VTNFlow> vflows) {
+        List<Long> list = new ArrayList<Long>(vflows.size());
+        for (VTNFlow vflow: vflows) {
+            list.add(Long.valueOf(vflow.getGroupId().getEventId()));
+        }
+        return list;
+    }
+
+    /**
+     * Return flow IDs of all the VTN flows selected by the given filter
+     * using page cursor.
+     *
+     * @param fdb     A {@link VTNFlowDatabase} instance.
+     * @param filter  A {@link DataFlowFilterImpl} instance.
+     * @param limit   The maximum number of VTN flows in a page.
+     * @return  A list of flow IDs.
+     * @throws Exception  An error occurred.
+     */
+    private List<Long> getAllFlowIds(VTNFlowDatabase fdb,
+                                     DataFlowFilterImpl filter, int limit)
+        throws Exception {
+        List<Long> result = new ArrayList<Long>();
+        String token = null;
+        do {
+            PageCursor pc = new PageCursor(PageCursor.TYPE_FLOW, token, limit);
+            ListPage<DataFlow> page =
+                fdb.getFlows(txContext, null, false, filter, 0, pc);
+            List<DataFlow> dflows = page.getEntries();
+            token = page.getNextCursor();
+            if (token == null) {
+                assertTrue(dflows.size() <= limit);
+            } else {
+                // Only the last page can contain less flows than the limit.
+                assertEquals(limit, dflows.size());
+            }
+
+            for (DataFlow dflow: dflows) {
+                result.add(Long.valueOf(dflow.getFlowId()));
+            }
+        } while (token != null);
+
+        return result;
+    }
+
+    /**
+     * A {@link FlowSelector} which makes the flow database scan all the
+     * VTN flows.
+     */
+    private static final class FullScanSelector implements FlowSelector {
+        /**
+         * The flow selector which determines VTN flows to be removed.
+         */
+        private final FlowSelector  selector;
+
+        /**
+         * Construct a new instance.
+         *
+         * @param sel  The flow selector which determines VTN flows to be
+         *             removed.
+         */
+        private FullScanSelector(FlowSelector sel) {
+            selector = sel;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean accept(VTNFlow vflow) {
+            return selector.accept(vflow);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Collection<VTNFlow> getCandidates(VTNFlowDatabase fdb) {
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDescription() {
+            return selector.getDescription();
+        }
+    }
+}
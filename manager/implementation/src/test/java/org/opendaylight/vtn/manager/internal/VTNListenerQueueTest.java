@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.IVTNManagerAware;
+import org.opendaylight.vtn.manager.IVTNManagerBatchAware;
+import org.opendaylight.vtn.manager.VBridge;
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VTenant;
+import org.opendaylight.vtn.manager.VTenantConfig;
+import org.opendaylight.vtn.manager.VTenantPath;
+
+import org.opendaylight.controller.sal.core.UpdateType;
+
+/**
+ * JUnit test for {@link VTNListenerQueue} and {@link VTNListenerDispatcher}.
+ */
+public class VTNListenerQueueTest extends TestBase {
+    /**
+     * An executor which runs tasks only when requested.
+     */
+    private static final class ManualExecutor implements Executor {
+        /**
+         * Tasks to be run.
+         */
+        private final LinkedList<Runnable>  tasks = new LinkedList<Runnable>();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute(Runnable r) {
+            tasks.addLast(r);
+        }
+
+        /**
+         * Return the number of pending tasks.
+         *
+         * @return  The number of pending tasks.
+         */
+        private int size() {
+            return tasks.size();
+        }
+
+        /**
+         * Run one pending task.
+         */
+        private void runOne() {
+            tasks.removeFirst().run();
+        }
+
+        /**
+         * Run all pending tasks, including tasks scheduled by them.
+         */
+        private void runAll() {
+            while (!tasks.isEmpty()) {
+                runOne();
+            }
+        }
+    }
+
+    /**
+     * A listener which records batch boundaries.
+     */
+    private static final class BatchListener extends OrderedVTNListener
+        implements IVTNManagerBatchAware {
+        /**
+         * The sizes of batches notified by {@link #batchStarted(int)}.
+         */
+        private final List<Integer>  batches = new ArrayList<Integer>();
+
+        /**
+         * The number of calls of {@link #batchFinished()}.
+         */
+        private int  finished;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void batchStarted(int count) {
+            batches.add(Integer.valueOf(count));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void batchFinished() {
+            finished++;
+        }
+    }
+
+    /**
+     * A resync handler which replays the given VTN configuration.
+     */
+    private static final class ReplayHandler
+        implements VTNListenerResyncHandler {
+        /**
+         * Listeners passed to {@link #resync(IVTNManagerAware)}.
+         */
+        private final List<IVTNManagerAware>  listeners =
+            new ArrayList<IVTNManagerAware>();
+
+        /**
+         * Events to be replayed.
+         */
+        private final List<VTNListenerEvent>  events =
+            new ArrayList<VTNListenerEvent>();
+
+        /**
+         * The queue to which replayed events are posted.
+         */
+        private VTNListenerQueue  queue;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void resync(IVTNManagerAware listener) {
+            listeners.add(listener);
+            for (VTNListenerEvent ev: events) {
+                queue.postConfiguration(ev, UpdateType.ADDED);
+            }
+        }
+    }
+
+    /**
+     * Create information about the VTN.
+     *
+     * @param path  Path to the VTN.
+     * @param desc  Description about the VTN.
+     * @return  A {@link VTenant} instance.
+     */
+    private VTenant createTenant(VTenantPath path, String desc) {
+        return new VTenant(path.getTenantName(), new VTenantConfig(desc));
+    }
+
+    /**
+     * Ensure that an event with {@link UpdateType#CHANGED} is merged into
+     * a pending event.
+     */
+    @Test
+    public void testCoalesce() {
+        ManualExecutor exec = new ManualExecutor();
+        OrderedVTNListener listener = new OrderedVTNListener();
+        VTNListenerQueue queue =
+            new VTNListenerQueue(listener, "default", exec, null, 100);
+
+        VTenantPath tpath1 = new VTenantPath("vtn1");
+        VTenantPath tpath2 = new VTenantPath("vtn2");
+        VTenant t1a = createTenant(tpath1, "a");
+        VTenant t1b = createTenant(tpath1, "b");
+        VTenant t1c = createTenant(tpath1, "c");
+        VTenant t2a = createTenant(tpath2, "a");
+        VTenant t2b = createTenant(tpath2, "b");
+
+        queue.post(VTNListenerEvent.create(tpath1, t1a), UpdateType.ADDED);
+        queue.post(VTNListenerEvent.create(tpath2, t2a), UpdateType.ADDED);
+        queue.post(VTNListenerEvent.create(tpath1, t1b), UpdateType.CHANGED);
+        queue.post(VTNListenerEvent.create(tpath1, t1c), UpdateType.CHANGED);
+        queue.post(VTNListenerEvent.create(tpath2, t2b), UpdateType.CHANGED);
+
+        // Only one delivery task should be scheduled.
+        assertEquals(1, exec.size());
+        VTNListenerStats stats = queue.getStats();
+        assertEquals(2, stats.getQueueDepth());
+        assertEquals(5L, stats.getPosted());
+        assertEquals(3L, stats.getCoalesced());
+
+        exec.runAll();
+        listener.checkEvent(VTNListenerType.VTN, tpath1, t1c,
+                            UpdateType.ADDED);
+        listener.checkEvent(VTNListenerType.VTN, tpath2, t2b,
+                            UpdateType.ADDED);
+        listener.checkEmtpy();
+
+        // A delivered event must not be updated.
+        queue.post(VTNListenerEvent.create(tpath1, t1a), UpdateType.CHANGED);
+        exec.runAll();
+        listener.checkEvent(VTNListenerType.VTN, tpath1, t1a,
+                            UpdateType.CHANGED);
+        listener.checkEmtpy();
+
+        stats = queue.getStats();
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(2, stats.getMaxQueueDepth());
+        assertEquals(6L, stats.getPosted());
+        assertEquals(3L, stats.getDelivered());
+        assertEquals(0L, stats.getDropped());
+        assertEquals(2L, stats.getBatches());
+    }
+
+    /**
+     * Ensure that a pending event with {@link UpdateType#CHANGED} is
+     * discarded by an event with {@link UpdateType#REMOVED}.
+     */
+    @Test
+    public void testRemoved() {
+        ManualExecutor exec = new ManualExecutor();
+        OrderedVTNListener listener = new OrderedVTNListener();
+        VTNListenerQueue queue =
+            new VTNListenerQueue(listener, "default", exec, null, 100);
+
+        VTenantPath tpath = new VTenantPath("vtn1");
+        VTenant ta = createTenant(tpath, "a");
+        VTenant tb = createTenant(tpath, "b");
+        VTenant tc = createTenant(tpath, "c");
+
+        queue.post(VTNListenerEvent.create(tpath, ta), UpdateType.CHANGED);
+        queue.post(VTNListenerEvent.create(tpath, tb), UpdateType.REMOVED);
+        queue.post(VTNListenerEvent.create(tpath, tc), UpdateType.ADDED);
+        queue.post(VTNListenerEvent.create(tpath, ta), UpdateType.CHANGED);
+        exec.runAll();
+
+        listener.checkEvent(VTNListenerType.VTN, tpath, tb,
+                            UpdateType.REMOVED);
+        listener.checkEvent(VTNListenerType.VTN, tpath, ta,
+                            UpdateType.ADDED);
+        listener.checkEmtpy();
+
+        // ADDED followed by REMOVED must be delivered as is.
+        queue.post(VTNListenerEvent.create(tpath, ta), UpdateType.ADDED);
+        queue.post(VTNListenerEvent.create(tpath, tb), UpdateType.REMOVED);
+        exec.runAll();
+        listener.checkEvent(VTNListenerType.VTN, tpath, ta,
+                            UpdateType.ADDED);
+        listener.checkEvent(VTNListenerType.VTN, tpath, tb,
+                            UpdateType.REMOVED);
+        listener.checkEmtpy();
+
+        VTNListenerStats stats = queue.getStats();
+        assertEquals(6L, stats.getPosted());
+        assertEquals(4L, stats.getDelivered());
+        assertEquals(2L, stats.getCoalesced());
+    }
+
+    /**
+     * Ensure that events are delivered in batches.
+     */
+    @Test
+    public void testBatch() {
+        ManualExecutor exec = new ManualExecutor();
+        BatchListener listener = new BatchListener();
+        VTNListenerQueue queue =
+            new VTNListenerQueue(listener, "default", exec, null, 1000);
+
+        int count = VTNListenerQueue.BATCH_LIMIT + 10;
+        VTenantPath tpath = new VTenantPath("vtn1");
+        List<VBridgePath> paths = new ArrayList<VBridgePath>();
+        for (int i = 0; i < count; i++) {
+            VBridgePath bpath = new VBridgePath(tpath, "vbr" + i);
+            paths.add(bpath);
+            queue.post(VTNListenerEvent.create(bpath, (VBridge)null),
+                       UpdateType.ADDED);
+        }
+        assertEquals(1, exec.size());
+
+        // The first task delivers up to BATCH_LIMIT events, and then
+        // schedules itself again.
+        exec.runOne();
+        assertEquals(1, exec.size());
+        assertEquals(1, listener.batches.size());
+        assertEquals(VTNListenerQueue.BATCH_LIMIT,
+                     listener.batches.get(0).intValue());
+        assertEquals(1, listener.finished);
+
+        exec.runOne();
+        assertEquals(0, exec.size());
+        assertEquals(2, listener.batches.size());
+        assertEquals(10, listener.batches.get(1).intValue());
+        assertEquals(2, listener.finished);
+
+        for (VBridgePath bpath: paths) {
+            listener.checkEvent(VTNListenerType.VBRIDGE, bpath, null,
+                                UpdateType.ADDED);
+        }
+        listener.checkEmtpy();
+        assertEquals(2L, queue.getStats().getBatches());
+    }
+
+    /**
+     * Ensure that events are discarded if the queue is full, and the
+     * VTN configuration is replayed after the queue is drained.
+     */
+    @Test
+    public void testOverflow() {
+        ManualExecutor exec = new ManualExecutor();
+        OrderedVTNListener listener = new OrderedVTNListener();
+        ReplayHandler handler = new ReplayHandler();
+        VTNListenerQueue queue =
+            new VTNListenerQueue(listener, "default", exec, handler, 2);
+        handler.queue = queue;
+
+        VTenantPath[] paths = {
+            new VTenantPath("vtn1"),
+            new VTenantPath("vtn2"),
+            new VTenantPath("vtn3"),
+            new VTenantPath("vtn4"),
+        };
+        for (int i = 0; i < 3; i++) {
+            queue.post(VTNListenerEvent.create(paths[i], (VTenant)null),
+                       UpdateType.ADDED);
+        }
+
+        // An event can still be merged into a pending event.
+        VTenant ta = createTenant(paths[0], "a");
+        queue.post(VTNListenerEvent.create(paths[0], ta), UpdateType.CHANGED);
+
+        // Removal must be retained even if the queue is full.
+        // Events must not be merged into a pending event after the removal.
+        VTenant tb = createTenant(paths[1], "b");
+        queue.post(VTNListenerEvent.create(paths[1], tb), UpdateType.REMOVED);
+        queue.post(VTNListenerEvent.create(paths[1], tb), UpdateType.CHANGED);
+
+        // Events are discarded until the queue is drained.
+        queue.post(VTNListenerEvent.create(paths[3], (VTenant)null),
+                   UpdateType.ADDED);
+
+        VTNListenerStats stats = queue.getStats();
+        assertEquals(2, stats.getQueueDepth());
+        assertEquals(4L, stats.getDropped());
+        assertEquals(1L, stats.getCoalesced());
+        assertEquals(0L, stats.getResyncs());
+        assertTrue(handler.listeners.isEmpty());
+
+        // Pending events are delivered at first, and then discarded removal
+        // is delivered before the current configuration is replayed.
+        VTenant tc = createTenant(paths[2], "c");
+        VTenant td = createTenant(paths[3], "d");
+        handler.events.add(VTNListenerEvent.create(paths[0], ta));
+        handler.events.add(VTNListenerEvent.create(paths[2], tc));
+        handler.events.add(VTNListenerEvent.create(paths[3], td));
+        exec.runAll();
+        assertEquals(1, handler.listeners.size());
+        assertSame(listener, handler.listeners.get(0));
+        listener.checkEvent(VTNListenerType.VTN, paths[0], ta,
+                            UpdateType.ADDED);
+        listener.checkEvent(VTNListenerType.VTN, paths[1], null,
+                            UpdateType.ADDED);
+        listener.checkEvent(VTNListenerType.VTN, paths[1], tb,
+                            UpdateType.REMOVED);
+        listener.checkEvent(VTNListenerType.VTN, paths[0], ta,
+                            UpdateType.ADDED);
+        listener.checkEvent(VTNListenerType.VTN, paths[2], tc,
+                            UpdateType.ADDED);
+        listener.checkEvent(VTNListenerType.VTN, paths[3], td,
+                            UpdateType.ADDED);
+        listener.checkEmtpy();
+
+        stats = queue.getStats();
+        assertEquals(0, stats.getQueueDepth());
+        assertEquals(4, stats.getMaxQueueDepth());
+        assertEquals(1L, stats.getResyncs());
+        assertEquals(6L, stats.getDelivered());
+
+        // Events are accepted again after the configuration is replayed.
+        queue.post(VTNListenerEvent.create(paths[2], tc), UpdateType.REMOVED);
+        exec.runAll();
+        listener.checkEvent(VTNListenerType.VTN, paths[2], tc,
+                            UpdateType.REMOVED);
+        listener.checkEmtpy();
+        assertEquals(1, handler.listeners.size());
+        assertEquals(1L, queue.getStats().getResyncs());
+
+        // Pending events and removals discarded by the full queue are
+        // dropped when the queue is closed.
+        for (int i = 0; i < 3; i++) {
+            queue.post(VTNListenerEvent.create(paths[i], (VTenant)null),
+                       UpdateType.REMOVED);
+        }
+        queue.close();
+        exec.runAll();
+        listener.checkEmtpy();
+        assertEquals(1, handler.listeners.size());
+    }
+
+    /**
+     * Test case for {@link VTNListenerDispatcher}.
+     */
+    @Test
+    public void testDispatcher() {
+        ManualExecutor exec = new ManualExecutor();
+        VTNListenerDispatcher disp =
+            new VTNListenerDispatcher("default", exec, null);
+        OrderedVTNListener l1 = new OrderedVTNListener();
+        OrderedVTNListener l2 = new OrderedVTNListener();
+        assertTrue(disp.add(l1));
+        assertFalse(disp.add(l1));
+        assertTrue(disp.add(l2));
+
+        VTenantPath tpath = new VTenantPath("vtn1");
+        VTenant vtenant = createTenant(tpath, null);
+        disp.post(VTNListenerEvent.create(tpath, vtenant), UpdateType.ADDED);
+        disp.postConfiguration(l2, VTNListenerEvent.create(tpath, vtenant),
+                               UpdateType.CHANGED);
+        assertEquals(2, exec.size());
+        exec.runAll();
+
+        l1.checkEvent(VTNListenerType.VTN, tpath, vtenant, UpdateType.ADDED);
+        l1.checkEmtpy();
+        l2.checkEvent(VTNListenerType.VTN, tpath, vtenant, UpdateType.ADDED);
+        l2.checkEmtpy();
+
+        List<VTNListenerStats> stats = disp.getListenerStats();
+        assertEquals(2, stats.size());
+        assertEquals(String.valueOf(l1), stats.get(0).getListener());
+        assertEquals(1L, stats.get(0).getDelivered());
+        assertEquals(String.valueOf(l2), stats.get(1).getListener());
+        assertEquals(1L, stats.get(1).getCoalesced());
+
+        // Pending events are discarded when the listener is removed.
+        disp.post(VTNListenerEvent.create(tpath, vtenant),
+                  UpdateType.REMOVED);
+        assertTrue(disp.remove(l1));
+        assertFalse(disp.remove(l1));
+        exec.runAll();
+        l1.checkEmtpy();
+        l2.checkEvent(VTNListenerType.VTN, tpath, vtenant,
+                      UpdateType.REMOVED);
+        l2.checkEmtpy();
+        assertEquals(1, disp.getListenerStats().size());
+
+        disp.clear();
+        assertEquals(0, disp.getListenerStats().size());
+    }
+}
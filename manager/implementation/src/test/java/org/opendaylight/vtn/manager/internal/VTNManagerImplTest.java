@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import org.opendaylight.vtn.manager.internal.cluster.FlowGroupId;
+
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Output;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+/**
+ * JUnit test for {@link VTNManagerImpl}.
+ */
+public class VTNManagerImplTest extends TestBase {
+    /**
+     * The name of the first virtual tenant.
+     */
+    private static final String  TENANT_1 = "vtn1";
+
+    /**
+     * The name of the second virtual tenant.
+     */
+    private static final String  TENANT_2 = "vtn2";
+
+    /**
+     * The name of the virtual tenant which has the same flow cookie as
+     * {@link #TENANT_COLLIDED_2}.
+     */
+    private static final String  TENANT_COLLIDED_1 = "Aa";
+
+    /**
+     * The name of the virtual tenant which has the same flow cookie as
+     * {@link #TENANT_COLLIDED_1}.
+     */
+    private static final String  TENANT_COLLIDED_2 = "BB";
+
+    /**
+     * VTN Manager service.
+     */
+    private VTNManagerImpl  vtnManager;
+
+    /**
+     * A switch used for test.
+     */
+    private Node  node;
+
+    /**
+     * A sequence number used to create unique flow entries.
+     */
+    private short  flowSequence;
+
+    /**
+     * An {@link Answer} instance which emulates
+     * {@link VTNFlowDatabase#flowRemoved(VTNManagerImpl, List, boolean)}.
+     */
+    private static final class FlowRemovedAnswer
+        implements Answer<List<FlowEntry>> {
+        /**
+         * A set of SAL flows owned by the VTN flow database.
+         */
+        private final Set<Flow>  ownedFlows =
+            Collections.newSetFromMap(new IdentityHashMap<Flow, Boolean>());
+
+        /**
+         * Determine whether flow entries fixed by
+         * {@link VTNFlowDatabase#fixBrokenOvsFlow(Flow)} are owned or not.
+         */
+        private boolean  fixedOwned;
+
+        /**
+         * Flow entries passed to the VTN flow database without fixing.
+         */
+        private final List<List<FlowEntry>>  removedCalls =
+            new ArrayList<List<FlowEntry>>();
+
+        /**
+         * Flow entries fixed by {@link VTNFlowDatabase#fixBrokenOvsFlow(Flow)}
+         * passed to the VTN flow database.
+         */
+        private final List<List<FlowEntry>>  fixedCalls =
+            new ArrayList<List<FlowEntry>>();
+
+        /**
+         * Let the VTN flow database own the given SAL flow.
+         *
+         * @param flow  A SAL flow.
+         */
+        private void addOwnedFlow(Flow flow) {
+            ownedFlows.add(flow);
+        }
+
+        /**
+         * Let the VTN flow database own all flow entries fixed by
+         * {@link VTNFlowDatabase#fixBrokenOvsFlow(Flow)}.
+         */
+        private void setFixedOwned() {
+            fixedOwned = true;
+        }
+
+        /**
+         * Return a list of flow entries passed without fixing.
+         *
+         * @return  A list of flow entry lists per call.
+         */
+        private List<List<FlowEntry>> getRemovedCalls() {
+            return removedCalls;
+        }
+
+        /**
+         * Return a list of flow entries fixed by
+         * {@link VTNFlowDatabase#fixBrokenOvsFlow(Flow)}.
+         *
+         * @return  A list of flow entry lists per call.
+         */
+        private List<List<FlowEntry>> getFixedCalls() {
+            return fixedCalls;
+        }
+
+        /**
+         * Return flow entries not owned by the VTN flow database.
+         *
+         * @param inv  Information about the invocation.
+         * @return  A list of flow entries not found.
+         */
+        @Override
+        public List<FlowEntry> answer(InvocationOnMock inv) {
+            Object[] args = inv.getArguments();
+            @SuppressWarnings("unchecked")
+            List<FlowEntry> entries = (List<FlowEntry>)args[1];
+            boolean rmIn = ((Boolean)args[2]).booleanValue();
+
+            List<FlowEntry> missed = new ArrayList<FlowEntry>();
+            if (rmIn) {
+                fixedCalls.add(new ArrayList<FlowEntry>(entries));
+                if (!fixedOwned) {
+                    missed.addAll(entries);
+                }
+            } else {
+                removedCalls.add(new ArrayList<FlowEntry>(entries));
+                for (FlowEntry fent: entries) {
+                    if (!ownedFlows.contains(fent.getFlow())) {
+                        missed.add(fent);
+                    }
+                }
+            }
+
+            return missed;
+        }
+    }
+
+    /**
+     * Set up the test environment.
+     */
+    @Before
+    public void setUp() {
+        vtnManager = new VTNManagerImpl();
+        node = NodeCreator.createOFNode(Long.valueOf(1L));
+    }
+
+    /**
+     * Ensure that FLOW_REMOVED notifications are passed to VTN flow
+     * databases in batches per flow cookie.
+     */
+    @Test
+    public void testFlowRemovedBatch() {
+        assertEquals(FlowGroupId.getTenantCookie(TENANT_COLLIDED_1),
+                     FlowGroupId.getTenantCookie(TENANT_COLLIDED_2));
+        FlowRemovedAnswer ans1 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ans2 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ansC1 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ansC2 = new FlowRemovedAnswer();
+        VTNFlowDatabase fdb1 = addTenantFlowDB(TENANT_1, ans1);
+        VTNFlowDatabase fdb2 = addTenantFlowDB(TENANT_2, ans2);
+        addTenantFlowDB(TENANT_COLLIDED_1, ansC1);
+        addTenantFlowDB(TENANT_COLLIDED_2, ansC2);
+
+        List<Flow> flows1 = new ArrayList<Flow>();
+        for (int i = 0; i < 3; i++) {
+            Flow flow = createFlow(TENANT_1, false);
+            flows1.add(flow);
+            ans1.addOwnedFlow(flow);
+            vtnManager.flowRemoved(node, flow);
+        }
+        Flow flow2 = createFlow(TENANT_2, false);
+        ans2.addOwnedFlow(flow2);
+        vtnManager.flowRemoved(node, flow2);
+        vtnManager.processRemovedFlows();
+
+        // All flows in the same tenant must be passed in one call, and
+        // they must never be passed to other tenants.
+        assertEquals(1, ans1.getRemovedCalls().size());
+        assertEquals(flows1, getFlows(ans1.getRemovedCalls().get(0)));
+        assertEquals(1, ans2.getRemovedCalls().size());
+        assertEquals(Collections.singletonList(flow2),
+                     getFlows(ans2.getRemovedCalls().get(0)));
+        assertTrue(ansC1.getRemovedCalls().isEmpty());
+        assertTrue(ansC2.getRemovedCalls().isEmpty());
+        for (FlowRemovedAnswer ans: new FlowRemovedAnswer[]{
+                ans1, ans2, ansC1, ansC2}) {
+            assertTrue(ans.getFixedCalls().isEmpty());
+        }
+
+        // Notifications must be consumed.
+        vtnManager.processRemovedFlows();
+        assertEquals(1, ans1.getRemovedCalls().size());
+        assertEquals(1, ans2.getRemovedCalls().size());
+        Mockito.verify(fdb1, Mockito.times(1)).
+            flowRemoved(Mockito.any(VTNManagerImpl.class),
+                        Mockito.anyListOf(FlowEntry.class),
+                        Mockito.anyBoolean());
+        Mockito.verify(fdb2, Mockito.times(1)).
+            flowRemoved(Mockito.any(VTNManagerImpl.class),
+                        Mockito.anyListOf(FlowEntry.class),
+                        Mockito.anyBoolean());
+    }
+
+    /**
+     * Ensure that FLOW_REMOVED notifications are passed to all the
+     * virtual tenants which have the same flow cookie.
+     */
+    @Test
+    public void testFlowRemovedCollided() {
+        FlowRemovedAnswer ans1 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ansC1 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ansC2 = new FlowRemovedAnswer();
+        addTenantFlowDB(TENANT_1, ans1);
+        addTenantFlowDB(TENANT_COLLIDED_1, ansC1);
+        addTenantFlowDB(TENANT_COLLIDED_2, ansC2);
+
+        Flow flowC1 = createFlow(TENANT_COLLIDED_1, false);
+        Flow flowC2 = createFlow(TENANT_COLLIDED_2, false);
+        ansC1.addOwnedFlow(flowC1);
+        ansC2.addOwnedFlow(flowC2);
+        vtnManager.flowRemoved(node, flowC1);
+        vtnManager.flowRemoved(node, flowC2);
+        vtnManager.processRemovedFlows();
+
+        // Both flows must be passed to the first database in one call,
+        // and only the flow not found must be passed to the second.
+        List<Flow> both = new ArrayList<Flow>();
+        both.add(flowC1);
+        both.add(flowC2);
+        assertEquals(1, ansC1.getRemovedCalls().size());
+        assertEquals(1, ansC2.getRemovedCalls().size());
+        List<Flow> first1 = getFlows(ansC1.getRemovedCalls().get(0));
+        List<Flow> first2 = getFlows(ansC2.getRemovedCalls().get(0));
+        if (first1.size() == 2) {
+            assertEquals(both, first1);
+            assertEquals(Collections.singletonList(flowC2), first2);
+        } else {
+            assertEquals(both, first2);
+            assertEquals(Collections.singletonList(flowC1), first1);
+        }
+
+        assertTrue(ans1.getRemovedCalls().isEmpty());
+        assertTrue(ansC1.getFixedCalls().isEmpty());
+        assertTrue(ansC2.getFixedCalls().isEmpty());
+    }
+
+    /**
+     * Ensure that FLOW_REMOVED notifications with flow cookie not assigned
+     * by the VTN Manager are passed to all the virtual tenants until found.
+     */
+    @Test
+    public void testFlowRemovedForeignCookie() {
+        FlowRemovedAnswer ans1 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ans2 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ansC1 = new FlowRemovedAnswer();
+        addTenantFlowDB(TENANT_1, ans1);
+        addTenantFlowDB(TENANT_2, ans2);
+        addTenantFlowDB(TENANT_COLLIDED_1, ansC1);
+
+        Flow flow = createFlow(TENANT_2, false);
+        flow.setId(0L);
+        ans2.addOwnedFlow(flow);
+        vtnManager.flowRemoved(node, flow);
+        vtnManager.processRemovedFlows();
+
+        // Search must stop when the flow is found.
+        assertEquals(1, ans2.getRemovedCalls().size());
+        assertEquals(Collections.singletonList(flow),
+                     getFlows(ans2.getRemovedCalls().get(0)));
+        for (FlowRemovedAnswer ans: new FlowRemovedAnswer[]{ans1, ansC1}) {
+            assertTrue(ans.getRemovedCalls().size() <= 1);
+            for (List<FlowEntry> entries: ans.getRemovedCalls()) {
+                assertEquals(Collections.singletonList(flow),
+                             getFlows(entries));
+            }
+        }
+
+        // A flow owned by nobody must be passed to all databases.
+        Flow unknown = createFlow(TENANT_2, false);
+        unknown.setId(0L);
+        vtnManager.flowRemoved(node, unknown);
+        vtnManager.processRemovedFlows();
+        for (FlowRemovedAnswer ans: new FlowRemovedAnswer[]{
+                ans1, ans2, ansC1}) {
+            List<List<FlowEntry>> calls = ans.getRemovedCalls();
+            assertEquals(Collections.singletonList(unknown),
+                         getFlows(calls.get(calls.size() - 1)));
+            assertTrue(ans.getFixedCalls().isEmpty());
+        }
+    }
+
+    /**
+     * Ensure that the workaround for broken Open vSwitch flow is applied
+     * only to VTN flow databases selected by the flow cookie.
+     */
+    @Test
+    public void testFlowRemovedBrokenOvs() {
+        FlowRemovedAnswer ans1 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ans2 = new FlowRemovedAnswer();
+        FlowRemovedAnswer ansC1 = new FlowRemovedAnswer();
+        ans1.setFixedOwned();
+        ans2.setFixedOwned();
+        ansC1.setFixedOwned();
+        addTenantFlowDB(TENANT_1, ans1);
+        addTenantFlowDB(TENANT_2, ans2);
+        addTenantFlowDB(TENANT_COLLIDED_1, ansC1);
+
+        // A flow which contains DL_VLAN_PR match field must be retried
+        // without DL_VLAN_PR.
+        Flow broken = createFlow(TENANT_1, true);
+        short pri = broken.getPriority();
+        vtnManager.flowRemoved(node, broken);
+
+        // A flow without DL_VLAN_PR must not be retried.
+        Flow missed = createFlow(TENANT_2, false);
+        vtnManager.flowRemoved(node, missed);
+        vtnManager.processRemovedFlows();
+
+        assertEquals(1, ans1.getRemovedCalls().size());
+        assertEquals(Collections.singletonList(broken),
+                     getFlows(ans1.getRemovedCalls().get(0)));
+        assertEquals(1, ans1.getFixedCalls().size());
+        List<FlowEntry> fixed = ans1.getFixedCalls().get(0);
+        assertEquals(1, fixed.size());
+        FlowEntry fent = fixed.get(0);
+        assertEquals(node, fent.getNode());
+        Flow fixedFlow = fent.getFlow();
+        assertEquals(null, fixedFlow.getMatch().getField(MatchType.DL_VLAN_PR));
+        assertNotNull(fixedFlow.getMatch().getField(MatchType.IN_PORT));
+        assertEquals(pri, fixedFlow.getPriority());
+
+        assertEquals(1, ans2.getRemovedCalls().size());
+        assertEquals(Collections.singletonList(missed),
+                     getFlows(ans2.getRemovedCalls().get(0)));
+        assertTrue(ans2.getFixedCalls().isEmpty());
+
+        assertTrue(ansC1.getRemovedCalls().isEmpty());
+        assertTrue(ansC1.getFixedCalls().isEmpty());
+    }
+
+    /**
+     * Register a mock-up of VTN flow database to the VTN Manager.
+     *
+     * @param tname  The name of the virtual tenant.
+     * @param ans    An {@link Answer} instance which emulates
+     *               {@code VTNFlowDatabase.flowRemoved()}.
+     * @return  A mock-up of VTN flow database.
+     */
+    private VTNFlowDatabase addTenantFlowDB(String tname,
+                                            FlowRemovedAnswer ans) {
+        VTNFlowDatabase fdb = Mockito.mock(VTNFlowDatabase.class);
+        Mockito.when(fdb.flowRemoved(Mockito.any(VTNManagerImpl.class),
+                                     Mockito.anyListOf(FlowEntry.class),
+                                     Mockito.anyBoolean())).
+            thenAnswer(ans);
+        vtnManager.putTenantFlowDB(tname, fdb);
+        return fdb;
+    }
+
+    /**
+     * Create a SAL flow which has the flow cookie of the given virtual
+     * tenant.
+     *
+     * @param tname   The name of the virtual tenant.
+     * @param broken  If {@code true}, DL_VLAN_PR match field is configured
+     *                as if the flow was notified by old Open vSwitch.
+     * @return  A SAL flow.
+     */
+    private Flow createFlow(String tname, boolean broken) {
+        short seq = ++flowSequence;
+        NodeConnector in = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)1), node);
+        NodeConnector out = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)2), node);
+        Match match = new Match();
+        match.setField(MatchType.IN_PORT, in);
+        match.setField(MatchType.DL_VLAN, Short.valueOf(seq));
+        if (broken) {
+            match.setField(MatchType.DL_VLAN_PR, Byte.valueOf((byte)0));
+        }
+
+        List<Action> actions = new ArrayList<Action>();
+        actions.add(new Output(out));
+        Flow flow = new Flow(match, actions);
+        flow.setId(FlowGroupId.getTenantCookie(tname) | (long)seq);
+        flow.setPriority((short)(10 + seq));
+        flow.setIdleTimeout((short)300);
+
+        return flow;
+    }
+
+    /**
+     * Return SAL flows in the given flow entries.
+     *
+     * @param entries  A list of flow entries.
+     * @return  A list of SAL flows.
+     */
+    private List<Flow> getFlows(List<FlowEntry> entries) {
+        List<Flow> flows = new ArrayList<Flow>();
+        for (FlowEntry fent: entries) {
+            flows.add(fent.getFlow());
+        }
+        return flows;
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.VBridgeIfPath;
+import org.opendaylight.vtn.manager.VBridgePath;
+
+import org.opendaylight.vtn.manager.internal.TestBase;
+
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+/**
+ * JUnit test for {@link ClusterCodec}.
+ */
+public class ClusterCodecTest extends TestBase {
+    /**
+     * Test case for variable-length integer and string encoding.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testPrimitive() throws Exception {
+        long[] longs = {
+            0L, 1L, 0x7fL, 0x80L, 0x3fffL, 0x4000L, 0xffffffffL,
+            Long.MAX_VALUE, Long.MIN_VALUE, -1L,
+        };
+        int[] longSizes = {1, 1, 1, 2, 2, 3, 5, 9, 10, 10};
+        int[] ints = {0, 1, 4095, 65535, Integer.MAX_VALUE, -1};
+        String[] strings = {null, "", "vtn_1", "bridge_\u00e9"};
+
+        for (int i = 0; i < longs.length; i++) {
+            ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            ObjectOutputStream out = new ObjectOutputStream(bout);
+            int base = size(bout, out);
+            ClusterCodec.writeVarLong(out, longs[i]);
+            assertEquals(longSizes[i], size(bout, out) - base);
+            out.close();
+
+            ObjectInputStream in = toInput(bout);
+            assertEquals(longs[i], ClusterCodec.readVarLong(in));
+        }
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        for (int v: ints) {
+            ClusterCodec.writeVarInt(out, v);
+        }
+        for (String str: strings) {
+            ClusterCodec.writeString(out, str);
+        }
+        out.close();
+
+        ObjectInputStream in = toInput(bout);
+        for (int v: ints) {
+            assertEquals(v, ClusterCodec.readVarInt(in));
+        }
+        for (String str: strings) {
+            assertEquals(str, ClusterCodec.readString(in));
+        }
+    }
+
+    /**
+     * Test case for encoding of network identifiers.
+     *
+     * <ul>
+     *   <li>{@link ClusterCodec#writeInetAddress(java.io.ObjectOutput, InetAddress)}</li>
+     *   <li>{@link ClusterCodec#writeNodeConnector(java.io.ObjectOutput, NodeConnector)}</li>
+     *   <li>{@link ClusterCodec#writeBridgePath(java.io.ObjectOutput, VBridgePath)}</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testIdentifier() throws Exception {
+        List<InetAddress> addrs = new ArrayList<InetAddress>();
+        addrs.add(null);
+        addrs.add(InetAddress.getByName("192.168.10.1"));
+        addrs.add(InetAddress.getByName("::1"));
+
+        List<NodeConnector> ports = new ArrayList<NodeConnector>();
+        ports.add(null);
+        for (long dpid: new long[]{0L, 1L, 0x123456789abcdefL, -1L}) {
+            Node node = NodeCreator.createOFNode(Long.valueOf(dpid));
+            for (short pnum: new short[]{1, 0x7fff, (short)0xff00}) {
+                ports.add(NodeConnectorCreator.
+                          createOFNodeConnector(Short.valueOf(pnum), node));
+            }
+        }
+        ports.addAll(createNodeConnectors(3, false));
+
+        VBridgePath bpath = new VBridgePath("tenant", "bridge");
+        List<VBridgePath> paths = new ArrayList<VBridgePath>();
+        paths.add(null);
+        paths.add(bpath);
+        paths.add(new VBridgeIfPath(bpath, "if_1"));
+        paths.add(new MacMapPath(bpath));
+        paths.add(new VlanMapPath(bpath, "ANY.0"));
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        for (InetAddress addr: addrs) {
+            ClusterCodec.writeInetAddress(out, addr);
+        }
+        for (NodeConnector nc: ports) {
+            ClusterCodec.writeNodeConnector(out, nc);
+        }
+        for (VBridgePath path: paths) {
+            ClusterCodec.writeBridgePath(out, path);
+        }
+        out.close();
+
+        ObjectInputStream in = toInput(bout);
+        for (InetAddress addr: addrs) {
+            assertEquals(addr, ClusterCodec.readInetAddress(in));
+        }
+        for (NodeConnector nc: ports) {
+            NodeConnector decoded = ClusterCodec.readNodeConnector(in);
+            assertEquals(nc, decoded);
+            if (nc != null) {
+                // Decoded node connector must be interned.
+                assertSame(decoded, ClusterCodec.intern(nc));
+            }
+        }
+        for (VBridgePath path: paths) {
+            VBridgePath decoded = ClusterCodec.readBridgePath(in);
+            assertEquals(path, decoded);
+            if (path != null) {
+                assertEquals(path.getClass(), decoded.getClass());
+            }
+        }
+    }
+
+    /**
+     * Test case for the format version.
+     *
+     * <ul>
+     *   <li>{@link ClusterCodec#writeVersion(java.io.ObjectOutput)}</li>
+     *   <li>{@link ClusterCodec#readVersion(java.io.ObjectInput)}</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testVersion() throws Exception {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        ClusterCodec.writeVersion(out);
+        out.close();
+        assertEquals(ClusterCodec.FORMAT_VERSION,
+                     ClusterCodec.readVersion(toInput(bout)));
+
+        int[] unsupported = {0, ClusterCodec.FORMAT_VERSION + 1, 0xff};
+        for (int version: unsupported) {
+            bout = new ByteArrayOutputStream();
+            out = new ObjectOutputStream(bout);
+            out.writeByte(version);
+            out.close();
+            try {
+                ClusterCodec.readVersion(toInput(bout));
+                unexpected();
+            } catch (InvalidObjectException e) {
+                assertEquals("Unsupported format version: " + version,
+                             e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Ensure that {@link MacTableEntry} is serialized in the legacy format
+     * unless compact format is enabled, and that both formats can be
+     * deserialized.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testMacTableEntryFormat() throws Exception {
+        VBridgePath path = new VBridgePath("tenant_1", "bridge_1");
+        Node node = NodeCreator.createOFNode(Long.valueOf(1L));
+        NodeConnector nc = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)10), node);
+        MacTableEntry tent = new MacTableEntry(
+            path, 0x001122334455L, nc, (short)10,
+            InetAddress.getByName("10.0.0.1"));
+        String form = "SerializedForm";
+        assertFalse(ClusterCodec.isCompactFormat());
+
+        // Legacy format.
+        byte[] legacy = serialize(tent);
+        assertFalse(new String(legacy, StandardCharsets.ISO_8859_1).
+                    contains(form));
+
+        // Compact format.
+        byte[] compact;
+        ClusterCodec.setCompactFormat(true);
+        try {
+            compact = serialize(tent);
+        } finally {
+            ClusterCodec.setCompactFormat(false);
+        }
+        assertTrue(new String(compact, StandardCharsets.ISO_8859_1).
+                   contains(form));
+        assertTrue(compact.length < legacy.length);
+
+        // Both formats must be accepted regardless of the configuration.
+        for (boolean enabled: new boolean[]{false, true}) {
+            ClusterCodec.setCompactFormat(enabled);
+            try {
+                for (byte[] b: new byte[][]{legacy, compact}) {
+                    ObjectInputStream in = new ObjectInputStream(
+                        new ByteArrayInputStream(b));
+                    MacTableEntry decoded = (MacTableEntry)in.readObject();
+                    assertEquals(tent, decoded);
+                    assertEquals(tent.getEntryId(), decoded.getEntryId());
+                    assertEquals(tent.getInetAddresses(),
+                                 decoded.getInetAddresses());
+                    assertTrue(decoded.clearUsed());
+                }
+            } finally {
+                ClusterCodec.setCompactFormat(false);
+            }
+        }
+    }
+
+    /**
+     * Ensure that the serialized form of {@link MacTableEntry} is compact.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testMacTableEntrySize() throws Exception {
+        ClusterCodec.setCompactFormat(true);
+        try {
+            checkMacTableEntrySize();
+        } finally {
+            ClusterCodec.setCompactFormat(false);
+        }
+    }
+
+    /**
+     * Ensure that the serialized form of {@link MacTableEntry} is compact
+     * when compact format is enabled.
+     *
+     * @throws Exception  An error occurred.
+     */
+    private void checkMacTableEntrySize() throws Exception {
+        VBridgePath path = new VBridgePath("tenant_1", "bridge_1");
+        Node node = NodeCreator.createOFNode(Long.valueOf(1L));
+        NodeConnector nc = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)10), node);
+        MacTableEntry tent = new MacTableEntry(
+            path, 0x001122334455L, nc, (short)10,
+            InetAddress.getByName("10.0.0.1"));
+
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(tent);
+        int first = size(bout, out);
+
+        // Class descriptors are written only once per stream.
+        // So the second entry must be encoded without any descriptor.
+        out.writeObject(new MacTableEntry(
+            path, 0x001122334456L, nc, (short)10, null));
+        int second = size(bout, out) - first;
+        assertTrue("second=" + second, second < 64);
+        out.close();
+
+        ObjectInputStream in = toInput(bout);
+        assertEquals(tent, in.readObject());
+        MacTableEntry tent2 = (MacTableEntry)in.readObject();
+        assertEquals(0x001122334456L, tent2.getMacAddress());
+        assertSame(((MacTableEntry)toInput(bout).readObject()).getPort(),
+                   tent2.getPort());
+    }
+
+    /**
+     * Serialize the given object.
+     *
+     * @param o  An object to be serialized.
+     * @return  A byte array which contains the serialized object.
+     * @throws IOException  An error occurred.
+     */
+    private byte[] serialize(Object o) throws IOException {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bout);
+        out.writeObject(o);
+        out.close();
+        return bout.toByteArray();
+    }
+
+    /**
+     * Return the number of bytes written to the given stream.
+     *
+     * @param bout  A byte array output stream.
+     * @param out   An object output stream which wraps {@code bout}.
+     * @return  The number of bytes written to the stream.
+     * @throws IOException  An error occurred.
+     */
+    private int size(ByteArrayOutputStream bout, ObjectOutputStream out)
+        throws IOException {
+        out.flush();
+        return bout.size();
+    }
+
+    /**
+     * Create an object input stream which reads the given bytes.
+     *
+     * @param bout  A byte array output stream.
+     * @return  An {@link ObjectInputStream} instance.
+     * @throws IOException  An error occurred.
+     */
+    private ObjectInputStream toInput(ByteArrayOutputStream bout)
+        throws IOException {
+        return new ObjectInputStream(
+            new ByteArrayInputStream(bout.toByteArray()));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013 NEC Corporation
+ * Copyright (c) 2013-2015 NEC Corporation
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -141,6 +141,48 @@ public class FlowGroupIdTest extends TestBase {
         }
     }
 
+    /**
+     * Test case for {@link FlowGroupId#getTenantCookie(String)} and
+     * {@link FlowGroupId#getFlowCookie()}.
+     */
+    @Test
+    public void testFlowCookie() {
+        ClusterEventId.setLocalAddress(null);
+
+        for (String tname : createStrings("tenant", false)) {
+            long tcookie = FlowGroupId.getTenantCookie(tname);
+            assertEquals(tcookie, FlowGroupId.getTenantCookie(tname));
+            assertEquals(0L, tcookie & ~FlowGroupId.COOKIE_MASK_TENANT);
+            assertEquals(0x56L, tcookie >>> 56);
+            assertTrue(FlowGroupId.isFlowCookie(tcookie));
+
+            long[] values = new long[] {0, Long.MIN_VALUE, Long.MAX_VALUE};
+            for (long id : values) {
+                for (Set<InetAddress> iset : createInetAddresses(false)) {
+                    for (InetAddress ipaddr : iset) {
+                        FlowGroupId cev = new FlowGroupId(ipaddr, id, tname);
+                        long cookie = cev.getFlowCookie();
+                        assertEquals(tcookie,
+                                     cookie & FlowGroupId.COOKIE_MASK_TENANT);
+
+                        // Group tag must not be zero.
+                        assertTrue(cookie != tcookie);
+
+                        FlowGroupId cev1 = new FlowGroupId(ipaddr, id, tname);
+                        assertEquals(cookie, cev1.getFlowCookie());
+                        assertTrue(FlowGroupId.isFlowCookie(cookie));
+                    }
+                }
+            }
+        }
+
+        // Flow cookies not assigned by the VTN Manager.
+        long[] others = {0L, 1L, -1L, 0x5500000000000000L, Long.MAX_VALUE};
+        for (long cookie: others) {
+            assertFalse(FlowGroupId.isFlowCookie(cookie));
+        }
+    }
+
     /**
      * Ensure that {@link FlowGroupId} is serializable.
      */
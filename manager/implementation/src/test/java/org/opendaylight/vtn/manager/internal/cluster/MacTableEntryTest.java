@@ -158,6 +158,25 @@ public class MacTableEntryTest extends TestBase {
         assertFalse(me.clearUsed());
     }
 
+    /**
+     * Test case for {@link MacTableEntry#isRefreshNeeded(long, long)}.
+     */
+    @Test
+    public void testRefresh() {
+        short vlan = 0;
+        NodeConnector nc = createNodeConnectors(1, false).get(0);
+        VBridgePath path = new VBridgePath("tenant", "bridge");
+        MacTableEntry me = new MacTableEntry(path, 12345L, nc, vlan, null);
+
+        long interval = 10000L;
+        long now = System.currentTimeMillis();
+        assertTrue(me.isRefreshNeeded(now, interval));
+        assertFalse(me.isRefreshNeeded(now, interval));
+        assertFalse(me.isRefreshNeeded(now + interval - 1L, interval));
+        assertTrue(me.isRefreshNeeded(now + interval, interval));
+        assertFalse(me.isRefreshNeeded(now + interval, interval));
+    }
+
     /**
      * Test case for {@link MacTableEntry#reassignEntryId()}.
      */
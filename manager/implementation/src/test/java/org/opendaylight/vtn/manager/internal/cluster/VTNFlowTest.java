@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.cluster;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.VBridgeIfPath;
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VNodeRoute;
+import org.opendaylight.vtn.manager.VTenantPath;
+
+import org.opendaylight.vtn.manager.internal.ActionList;
+import org.opendaylight.vtn.manager.internal.TestBase;
+import org.opendaylight.vtn.manager.internal.util.inventory.LinkEdge;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.forwardingrulesmanager.FlowEntry;
+import org.opendaylight.controller.sal.action.Action;
+import org.opendaylight.controller.sal.action.Output;
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+import org.opendaylight.controller.sal.flowprogrammer.Flow;
+import org.opendaylight.controller.sal.match.Match;
+import org.opendaylight.controller.sal.match.MatchType;
+import org.opendaylight.controller.sal.utils.NodeConnectorCreator;
+import org.opendaylight.controller.sal.utils.NodeCreator;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.flow.rev150410.VirtualRouteReason;
+
+/**
+ * JUnit test for {@link VTNFlow}.
+ */
+public class VTNFlowTest extends TestBase {
+    /**
+     * Create a match which contains the given incoming port and
+     * destination MAC address.
+     *
+     * @param port  Incoming switch port.
+     * @param dst   Destination MAC address.
+     * @return  A {@link Match} instance.
+     */
+    private Match createMatch(NodeConnector port, byte[] dst) {
+        Match match = new Match();
+        match.setField(MatchType.IN_PORT, port);
+        match.setField(MatchType.DL_VLAN, (short)0);
+        match.setField(MatchType.DL_DST, dst);
+        return match;
+    }
+
+    /**
+     * Create a switch port.
+     *
+     * @param node  The switch.
+     * @param id    The port number.
+     * @return  A {@link NodeConnector} instance.
+     */
+    private NodeConnector createPort(Node node, int id) {
+        return NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)id), node);
+    }
+
+    /**
+     * Create an inter-switch link.
+     *
+     * @param src  The source port of the link.
+     * @param dst  The destination port of the link.
+     * @return  A {@link LinkEdge} instance.
+     */
+    private LinkEdge createLink(NodeConnector src, NodeConnector dst) {
+        return new LinkEdge(SalPort.create(src), SalPort.create(dst));
+    }
+
+    /**
+     * Ensure that the given flow entry forwards packets from {@code in} to
+     * {@code out}.
+     *
+     * @param fent  A flow entry to be tested.
+     * @param in    The expected incoming port.
+     * @param out   The expected outgoing port.
+     * @param pri   The expected flow priority.
+     * @param dst   The expected destination MAC address.
+     */
+    private void checkFlowEntry(FlowEntry fent, NodeConnector in,
+                                NodeConnector out, int pri, byte[] dst) {
+        assertEquals(in.getNode(), fent.getNode());
+        Flow flow = fent.getFlow();
+        assertEquals((short)pri, flow.getPriority());
+        Match match = flow.getMatch();
+        assertEquals(in, match.getField(MatchType.IN_PORT).getValue());
+        assertArrayEquals(dst,
+                          (byte[])match.getField(MatchType.DL_DST).getValue());
+
+        List<NodeConnector> outputs = new ArrayList<NodeConnector>();
+        for (Action action: flow.getActions()) {
+            if (action instanceof Output) {
+                outputs.add(((Output)action).getPort());
+            }
+        }
+        assertEquals(1, outputs.size());
+        assertEquals(out, outputs.get(0));
+    }
+
+    /**
+     * Test case for shared flow entries.
+     *
+     * <ul>
+     *   <li>{@link VTNFlow#addSharedFlow(org.opendaylight.vtn.manager.internal.VTNManagerImpl, Match, ActionList, int, Match, int)}</li>
+     *   <li>{@link VTNFlow#isSharedFlow(FlowEntry)}</li>
+     *   <li>{@link VTNFlow#shareFlow(FlowEntry, FlowEntry)}</li>
+     *   <li>{@link VTNFlow#unshareFlow(FlowEntry)}</li>
+     * </ul>
+     */
+    @Test
+    public void testSharedFlow() {
+        Node node1 = NodeCreator.createOFNode(Long.valueOf(1L));
+        Node node2 = NodeCreator.createOFNode(Long.valueOf(2L));
+        NodeConnector in1 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)1), node1);
+        NodeConnector out1 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)2), node1);
+        NodeConnector in2 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)1), node2);
+        NodeConnector out2 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)2), node2);
+        byte[] dst = {0x00, 0x11, 0x22, 0x33, 0x44, 0x55};
+        short vlan = 0;
+        int pri = 10;
+
+        VTNFlow vflow1 = new VTNFlow(new FlowGroupId("vtn"));
+        assertTrue(vflow1.getSharedFlows().isEmpty());
+        vflow1.addFlow(null, createMatch(in1, dst),
+                       new ActionList(node1, vlan).addOutput(out1), pri);
+        vflow1.addSharedFlow(null, createMatch(in2, dst),
+                             new ActionList(node2, vlan).addOutput(out2),
+                             pri, createMatch(in2, dst), pri);
+
+        List<FlowEntry> entries1 = vflow1.getFlowEntries();
+        assertEquals(2, entries1.size());
+        FlowEntry ingress = entries1.get(0);
+        FlowEntry shared1 = entries1.get(1);
+        assertFalse(vflow1.isSharedFlow(ingress));
+        assertTrue(vflow1.isSharedFlow(shared1));
+        Set<FlowEntry> set = vflow1.getSharedFlows();
+        assertEquals(1, set.size());
+        assertTrue(set.contains(shared1));
+        assertTrue(vflow1.getFlowNodes().contains(node2));
+        assertTrue(vflow1.getFlowPorts().contains(out2));
+
+        // Replace the shared flow entry with the one installed by
+        // another VTN flow.
+        VTNFlow vflow2 = new VTNFlow(new FlowGroupId("vtn"));
+        vflow2.addFlow(null, createMatch(in1, dst),
+                       new ActionList(node1, vlan).addOutput(out1), pri);
+        vflow2.addSharedFlow(null, createMatch(in2, dst),
+                             new ActionList(node2, vlan).addOutput(out2),
+                             pri, createMatch(in2, dst), pri);
+        FlowEntry shared2 = vflow2.getFlowEntries().get(1);
+        assertFalse(shared1.equals(shared2));
+        assertEquals(shared1.getFlow(), shared2.getFlow());
+
+        vflow2.shareFlow(shared2, shared1);
+        assertEquals(shared1, vflow2.getFlowEntries().get(1));
+        assertTrue(vflow2.isSharedFlow(shared1));
+        assertFalse(vflow2.isSharedFlow(shared2));
+
+        // Ingress flow must not be replaced.
+        FlowEntry ingress2 = vflow2.getFlowEntries().get(0);
+        vflow2.shareFlow(ingress2, ingress);
+        assertEquals(ingress2, vflow2.getFlowEntries().get(0));
+
+        // Shared flow entries must be preserved by serialization.
+        VTNFlow copy = (VTNFlow)serializeTest(vflow2);
+        assertTrue(copy.isSharedFlow(shared1));
+
+        // Replace the shared flow entry with the exact match flow entry.
+        assertFalse(vflow1.unshareFlow(ingress));
+        assertTrue(vflow1.unshareFlow(shared1));
+        FlowEntry exact = vflow1.getFlowEntries().get(1);
+        assertFalse(shared1.equals(exact));
+        assertFalse(vflow1.isSharedFlow(exact));
+        assertTrue(vflow1.getSharedFlows().isEmpty());
+        assertEquals(shared1.getFlowName(), exact.getFlowName());
+        assertEquals(vflow1.getGroupId().getFlowCookie(),
+                     exact.getFlow().getId());
+        assertFalse(vflow1.unshareFlow(shared1));
+    }
+
+    /**
+     * Test case for {@link VTNFlow#getLinkEdges()} and
+     * {@link VTNFlow#getDependedPaths()}.
+     */
+    @Test
+    public void testRouteIndex() {
+        Node node1 = NodeCreator.createOFNode(Long.valueOf(1L));
+        Node node2 = NodeCreator.createOFNode(Long.valueOf(2L));
+        Node node3 = NodeCreator.createOFNode(Long.valueOf(3L));
+        NodeConnector in1 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)1), node1);
+        NodeConnector out1 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)2), node1);
+        NodeConnector in2 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)3), node2);
+        NodeConnector out2 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)4), node2);
+        NodeConnector in3 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)5), node3);
+        NodeConnector out3 = NodeConnectorCreator.
+            createOFNodeConnector(Short.valueOf((short)6), node3);
+        byte[] dst = {0x00, 0x11, 0x22, 0x33, 0x44, 0x55};
+        short vlan = 0;
+        int pri = 10;
+
+        VTNFlow vflow = new VTNFlow(new FlowGroupId("vtn"));
+        assertTrue(vflow.getLinkEdges().isEmpty());
+        assertTrue(vflow.getDependedPaths().isEmpty());
+
+        // Single switch flow.
+        vflow.addFlow(null, createMatch(in1, dst),
+                      new ActionList(node1, vlan).addOutput(out1), pri);
+        assertTrue(vflow.getLinkEdges().isEmpty());
+
+        vflow.addFlow(null, createMatch(in2, dst),
+                      new ActionList(node2, vlan).addOutput(out2), pri);
+        vflow.addSharedFlow(null, createMatch(in3, dst),
+                            new ActionList(node3, vlan).addOutput(out3),
+                            pri, createMatch(in3, dst), pri);
+        List<LinkEdge> edges = vflow.getLinkEdges();
+        assertEquals(2, edges.size());
+        assertEquals(new LinkEdge(SalPort.create(out1), SalPort.create(in2)),
+                     edges.get(0));
+        assertEquals(new LinkEdge(SalPort.create(out2), SalPort.create(in3)),
+                     edges.get(1));
+
+        VBridgePath bpath1 = new VBridgePath("vtn", "bridge_1");
+        VBridgePath bpath2 = new VBridgePath("vtn", "bridge_2");
+        VBridgeIfPath ipath = new VBridgeIfPath(bpath1, "if_1");
+        VTenantPath dpath = new VTenantPath("vtn_1");
+        vflow.addVirtualRoute(
+            new VNodeRoute(ipath, VirtualRouteReason.PORTMAPPED));
+        vflow.addVirtualRoute(
+            new VNodeRoute(bpath2, VirtualRouteReason.FORWARDED));
+        vflow.setEgressVNodeRoute(null);
+        vflow.addDependency(dpath);
+
+        Set<VTenantPath> expected = new HashSet<VTenantPath>();
+        expected.add(ipath);
+        expected.add(bpath2);
+        expected.add(dpath);
+        assertEquals(expected, vflow.getDependedPaths());
+
+        // Route indices must be preserved by serialization.
+        VTNFlow copy = (VTNFlow)serializeTest(vflow);
+        assertEquals(edges, copy.getLinkEdges());
+        assertEquals(expected, copy.getDependedPaths());
+    }
+
+    /**
+     * Test case for
+     * {@link VTNFlow#reroute(org.opendaylight.vtn.manager.internal.VTNManagerImpl, List)}.
+     */
+    @Test
+    public void testReroute() {
+        Node node1 = NodeCreator.createOFNode(Long.valueOf(1L));
+        Node node2 = NodeCreator.createOFNode(Long.valueOf(2L));
+        Node node3 = NodeCreator.createOFNode(Long.valueOf(3L));
+        Node node4 = NodeCreator.createOFNode(Long.valueOf(4L));
+        NodeConnector in1 = createPort(node1, 1);
+        NodeConnector out1 = createPort(node1, 2);
+        NodeConnector in2 = createPort(node2, 1);
+        NodeConnector out2 = createPort(node2, 2);
+        NodeConnector in3 = createPort(node3, 1);
+        NodeConnector out3 = createPort(node3, 2);
+        byte[] dst = {0x00, 0x11, 0x22, 0x33, 0x44, 0x55};
+        short vlan = 0;
+        int pri = 10;
+        int epri = 11;
+        int idle = 300;
+        int hard = 0;
+
+        // node1 -> node2 -> node3
+        FlowGroupId gid = new FlowGroupId("vtn");
+        VTNFlow vflow = new VTNFlow(gid);
+        vflow.addFlow(null, createMatch(in1, dst),
+                      new ActionList(node1, vlan).addOutput(out1), pri);
+        vflow.addSharedFlow(null, createMatch(in2, dst),
+                            new ActionList(node2, vlan).addOutput(out2),
+                            pri, createMatch(in2, dst), pri);
+        vflow.addFlow(null, createMatch(in3, dst),
+                      new ActionList(node3, vlan).addOutput(out3), epri);
+        vflow.setTimeout(idle, hard);
+        vflow.setPathPolicy(2);
+        VBridgeIfPath ipath = new VBridgeIfPath("vtn", "bridge_1", "if_1");
+        vflow.addVirtualRoute(
+            new VNodeRoute(ipath, VirtualRouteReason.PORTMAPPED));
+        VTenantPath dpath = new VTenantPath("vtn_1");
+        vflow.addDependency(dpath);
+        List<FlowEntry> oldEntries = vflow.getFlowEntries();
+
+        // node1 -> node4 -> node2 -> node3
+        NodeConnector[] path = {
+            createPort(node1, 3), createPort(node4, 1),
+            createPort(node4, 2), createPort(node2, 3),
+            out2, createPort(node3, 3),
+        };
+        List<LinkEdge> edges = new ArrayList<LinkEdge>();
+        for (int i = 0; i < path.length; i += 2) {
+            edges.add(createLink(path[i], path[i + 1]));
+        }
+
+        VTNFlow rerouted = vflow.reroute(null, edges);
+        assertNotNull(rerouted);
+        assertNotSame(vflow, rerouted);
+        assertEquals(edges, rerouted.getLinkEdges());
+
+        // The rerouted flow must inherit the flow group ID, so that the
+        // ingress flow can be modified in place.
+        assertEquals(gid, rerouted.getGroupId());
+        List<FlowEntry> entries = rerouted.getFlowEntries();
+        assertEquals(4, entries.size());
+        FlowEntry ingress = entries.get(0);
+        assertEquals(oldEntries.get(0).getGroupName(), ingress.getGroupName());
+        assertEquals(oldEntries.get(0).getFlowName(), ingress.getFlowName());
+        assertEquals(oldEntries.get(0).getFlow().getMatch(),
+                     ingress.getFlow().getMatch());
+        for (FlowEntry fent: entries) {
+            assertEquals(gid.getFlowCookie(), fent.getFlow().getId());
+            assertFalse(rerouted.isSharedFlow(fent));
+        }
+
+        // Transit flows must be created from the ingress flow.
+        checkFlowEntry(entries.get(0), in1, path[0], pri, dst);
+        checkFlowEntry(entries.get(1), path[1], path[2], pri, dst);
+        checkFlowEntry(entries.get(2), path[3], path[4], pri, dst);
+        checkFlowEntry(entries.get(3), path[5], out3, epri, dst);
+
+        // Attributes of the VTN flow must be inherited.
+        assertEquals((short)idle, rerouted.getIdleTimeout());
+        assertEquals((short)hard, rerouted.getHardTimeout());
+        assertEquals(vflow.getPathPolicy(), rerouted.getPathPolicy());
+        assertEquals(vflow.getDependedPaths(), rerouted.getDependedPaths());
+        assertTrue(rerouted.getDependedPaths().contains(ipath));
+        assertTrue(rerouted.getDependedPaths().contains(dpath));
+        assertTrue(rerouted.getFlowNodes().contains(node4));
+        assertFalse(vflow.getFlowNodes().contains(node4));
+
+        // The original flow must not be changed.
+        assertEquals(3, vflow.getFlowEntries().size());
+        assertTrue(vflow.isSharedFlow(oldEntries.get(1)));
+
+        // An empty route.
+        assertNull(vflow.reroute(null, new ArrayList<LinkEdge>()));
+
+        // A route which does not start from the ingress switch.
+        List<LinkEdge> bad = new ArrayList<LinkEdge>();
+        bad.add(createLink(createPort(node4, 2), createPort(node3, 3)));
+        assertNull(vflow.reroute(null, bad));
+
+        // A route which does not end at the egress switch.
+        bad.clear();
+        bad.add(createLink(path[0], path[1]));
+        assertNull(vflow.reroute(null, bad));
+
+        // A disconnected route.
+        bad.clear();
+        bad.add(createLink(path[0], path[1]));
+        bad.add(createLink(path[3], path[5]));
+        assertNull(vflow.reroute(null, bad));
+
+        // A VTN flow which contains only one flow entry can not be
+        // rerouted.
+        VTNFlow single = new VTNFlow(new FlowGroupId("vtn"));
+        single.addFlow(null, createMatch(in1, dst),
+                       new ActionList(node1, vlan).addOutput(out1), pri);
+        assertNull(single.reroute(null, edges));
+    }
+}
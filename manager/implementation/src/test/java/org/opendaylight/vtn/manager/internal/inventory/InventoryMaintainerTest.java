@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.inventory;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import org.opendaylight.vtn.manager.internal.TestBase;
+import org.opendaylight.vtn.manager.internal.TxContext;
+import org.opendaylight.vtn.manager.internal.TxQueue;
+import org.opendaylight.vtn.manager.internal.TxTask;
+import org.opendaylight.vtn.manager.internal.util.ChangedData;
+import org.opendaylight.vtn.manager.internal.util.IdentifiedData;
+import org.opendaylight.vtn.manager.internal.util.inventory.InventoryReader;
+import org.opendaylight.vtn.manager.internal.util.inventory.SalPort;
+
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataBroker.DataChangeScope;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.node.info.VtnPort;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeConnector;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeConnectorBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.node.NodeConnector;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+
+/**
+ * JUnit test for {@link InventoryMaintainer}.
+ */
+public class InventoryMaintainerTest extends TestBase {
+    /**
+     * Test case for inventory update task submission.
+     *
+     * <ul>
+     *   <li>
+     *     Updates notified by a data change event are merged into the
+     *     pending task which has not been started yet.
+     *   </li>
+     *   <li>
+     *     A new task is submitted if the pending task has already been
+     *     started.
+     *   </li>
+     *   <li>
+     *     Creation and removal of the same port are collapsed into one
+     *     update.
+     *   </li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testSubmitUpdate() throws Exception {
+        TxQueue txq = Mockito.mock(TxQueue.class);
+        NodeConnectorListener listener = createListener(txq);
+        SalPort sport1 = new SalPort(1L, 1L);
+        SalPort sport2 = new SalPort(1L, 2L);
+        SalPort sport3 = new SalPort(2L, 1L);
+
+        // Port 1 has been created.
+        PortUpdateTask task1 = listener.enterEvent(null);
+        listener.onCreated(task1, createData(sport1));
+        listener.exitEvent(task1);
+        Mockito.verify(txq).post(task1);
+
+        // An event which contains no update must be ignored.
+        PortUpdateTask task = listener.enterEvent(null);
+        listener.exitEvent(task);
+        Mockito.verify(txq, Mockito.never()).post(task);
+
+        // Port 1 and 2 have been removed. These updates must be merged
+        // into task1 because it has not been started yet.
+        task = listener.enterEvent(null);
+        listener.onRemoved(task, createData(sport1));
+        listener.onRemoved(task, createData(sport2));
+        listener.exitEvent(task);
+        Mockito.verify(txq, Mockito.never()).post(task);
+        Mockito.verify(txq, Mockito.times(1)).
+            post(Mockito.any(PortUpdateTask.class));
+
+        // Run task1. The creation and removal of port 1 must be collapsed
+        // into one update, and both ports must be removed.
+        ReadWriteTransaction tx = Mockito.mock(ReadWriteTransaction.class);
+        TxContext ctx = createTxContext(tx);
+        LogicalDatastoreType oper = LogicalDatastoreType.OPERATIONAL;
+        SalPort[] removed = {sport1, sport2};
+        for (SalPort sport: removed) {
+            Mockito.when(tx.read(oper, getPath(sport))).
+                thenReturn(getReadResult((FlowCapableNodeConnector)null));
+            Mockito.when(tx.read(oper, sport.getVtnPortIdentifier())).
+                thenReturn(getReadResult((VtnPort)null));
+        }
+
+        task1.execute(ctx);
+        for (SalPort sport: removed) {
+            Mockito.verify(tx, Mockito.times(1)).read(oper, getPath(sport));
+            Mockito.verify(tx, Mockito.times(1)).
+                read(oper, sport.getVtnPortIdentifier());
+        }
+        Mockito.verifyNoMoreInteractions(tx);
+
+        // Updates must not be merged into task1 because it has already
+        // been started.
+        PortUpdateTask task3 = listener.enterEvent(null);
+        listener.onCreated(task3, createData(sport3));
+        listener.exitEvent(task3);
+        ArgumentCaptor<TxTask> captor = ArgumentCaptor.forClass(TxTask.class);
+        Mockito.verify(txq, Mockito.times(2)).post(captor.capture());
+        List<TxTask> posted = captor.getAllValues();
+        assertEquals(2, posted.size());
+        assertSame(task1, posted.get(0));
+        assertSame(task3, posted.get(1));
+
+        // Subsequent updates must be merged into task3.
+        task = listener.enterEvent(null);
+        listener.onUpdated(task, createChangedData(sport3));
+        listener.exitEvent(task);
+        Mockito.verify(txq, Mockito.never()).post(task);
+        Mockito.verify(txq, Mockito.times(2)).
+            post(Mockito.any(PortUpdateTask.class));
+    }
+
+    /**
+     * Create a node connector listener which posts tasks to the given
+     * transaction queue.
+     *
+     * @param txq  A mock-up of {@link TxQueue}.
+     * @return  A {@link NodeConnectorListener} instance.
+     */
+    private NodeConnectorListener createListener(TxQueue txq) {
+        DataBroker broker = Mockito.mock(DataBroker.class);
+        @SuppressWarnings("unchecked")
+        ListenerRegistration<DataChangeListener> reg =
+            Mockito.mock(ListenerRegistration.class);
+        Mockito.when(broker.registerDataChangeListener(
+                         Mockito.any(LogicalDatastoreType.class),
+                         Mockito.any(InstanceIdentifier.class),
+                         Mockito.any(DataChangeListener.class),
+                         Mockito.any(DataChangeScope.class))).
+            thenReturn(reg);
+
+        NodeConnectorListener listener =
+            new NodeConnectorListener(txq, broker);
+        Mockito.verify(broker).
+            registerDataChangeListener(LogicalDatastoreType.OPERATIONAL,
+                                       listener.getWildcardPath(), listener,
+                                       DataChangeScope.SUBTREE);
+        return listener;
+    }
+
+    /**
+     * Create a mock-up of {@link TxContext}.
+     *
+     * @param tx  A read-write transaction to be returned by the context.
+     * @return  A mock-up of {@link TxContext}.
+     */
+    private TxContext createTxContext(ReadWriteTransaction tx) {
+        TxContext ctx = Mockito.mock(TxContext.class);
+        Mockito.when(ctx.getReadWriteTransaction()).thenReturn(tx);
+        Mockito.when(ctx.getInventoryReader()).
+            thenReturn(new InventoryReader(null));
+        return ctx;
+    }
+
+    /**
+     * Return the path to the MD-SAL node connector corresponding to the
+     * given switch port.
+     *
+     * @param sport  A {@link SalPort} instance.
+     * @return  The path to the flow-capable node connector.
+     */
+    private InstanceIdentifier<FlowCapableNodeConnector> getPath(
+        SalPort sport) {
+        return InstanceIdentifier.builder(Nodes.class).
+            child(Node.class, sport.getNodeKey()).
+            child(NodeConnector.class, sport.getNodeConnectorKey()).
+            augmentation(FlowCapableNodeConnector.class).build();
+    }
+
+    /**
+     * Create a data change notification for the given switch port.
+     *
+     * @param sport  A {@link SalPort} instance.
+     * @return  An {@link IdentifiedData} instance.
+     * @throws Exception  An error occurred.
+     */
+    private IdentifiedData<FlowCapableNodeConnector> createData(SalPort sport)
+        throws Exception {
+        FlowCapableNodeConnector fcnc =
+            new FlowCapableNodeConnectorBuilder().build();
+        return new IdentifiedData<>(getPath(sport), fcnc);
+    }
+
+    /**
+     * Create a data change notification for the given switch port which
+     * indicates the change of the port.
+     *
+     * @param sport  A {@link SalPort} instance.
+     * @return  A {@link ChangedData} instance.
+     * @throws Exception  An error occurred.
+     */
+    private ChangedData<FlowCapableNodeConnector> createChangedData(
+        SalPort sport) throws Exception {
+        FlowCapableNodeConnector fcnc =
+            new FlowCapableNodeConnectorBuilder().build();
+        return new ChangedData<>(getPath(sport), fcnc, fcnc);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.inventory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.internal.TestBase;
+import org.opendaylight.vtn.manager.internal.TxContext;
+
+/**
+ * JUnit test for {@link MergeableUpdateTask}.
+ */
+public class MergeableUpdateTaskTest extends TestBase {
+    /**
+     * A mergeable task which keeps a set of integers as updates.
+     */
+    private static final class TestTask
+        extends MergeableUpdateTask<TestTask> {
+        /**
+         * A set of updates.
+         */
+        private final Set<Integer>  updates = new HashSet<>();
+
+        /**
+         * Construct a new instance.
+         *
+         * @param ids  Updates to be added.
+         */
+        private TestTask(int ... ids) {
+            for (int id: ids) {
+                updates.add(Integer.valueOf(id));
+            }
+        }
+
+        /**
+         * Return a set of updates in this task.
+         *
+         * @return  A set of updates.
+         */
+        private Set<Integer> getUpdates() {
+            return updates;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean hasUpdates() {
+            return !updates.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void mergeUpdates(TestTask task) {
+            updates.addAll(task.updates);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Void execute(TxContext ctx) {
+            start();
+            return null;
+        }
+    }
+
+    /**
+     * Create a set of integers.
+     *
+     * @param ids  Integers to be added.
+     * @return  A set of integers.
+     */
+    private Set<Integer> createSet(int ... ids) {
+        Set<Integer> set = new HashSet<>();
+        for (int id: ids) {
+            set.add(Integer.valueOf(id));
+        }
+        return set;
+    }
+
+    /**
+     * Test case for {@link MergeableUpdateTask#merge(MergeableUpdateTask)}.
+     *
+     * <ul>
+     *   <li>Updates are merged into a task which is not started.</li>
+     *   <li>Updates are never merged into a started task.</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testMerge() throws Exception {
+        TestTask task = new TestTask();
+        assertFalse(task.hasUpdates());
+
+        // Merge an empty task.
+        assertTrue(task.merge(new TestTask()));
+        assertFalse(task.hasUpdates());
+
+        assertTrue(task.merge(new TestTask(1, 2)));
+        assertTrue(task.hasUpdates());
+        assertEquals(createSet(1, 2), task.getUpdates());
+
+        // Duplicate updates are collapsed.
+        TestTask task1 = new TestTask(2, 3, 4);
+        assertTrue(task.merge(task1));
+        assertEquals(createSet(1, 2, 3, 4), task.getUpdates());
+
+        // The merged task must not be changed.
+        assertEquals(createSet(2, 3, 4), task1.getUpdates());
+
+        // Updates must not be merged after the task has been started.
+        task.execute(null);
+        assertFalse(task.merge(new TestTask(5)));
+        assertEquals(createSet(1, 2, 3, 4), task.getUpdates());
+
+        // A task which is not started can still accept updates.
+        TestTask task2 = new TestTask(5);
+        assertTrue(task1.merge(task2));
+        assertEquals(createSet(2, 3, 4, 5), task1.getUpdates());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.util;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.internal.util.rpc.RpcErrorTag;
+import org.opendaylight.vtn.manager.internal.util.rpc.RpcException;
+
+import org.opendaylight.vtn.manager.internal.TestBase;
+
+import org.opendaylight.controller.sal.utils.Status;
+import org.opendaylight.controller.sal.utils.StatusCode;
+
+/**
+ * JUnit test for {@link PageCursor}.
+ */
+public class PageCursorTest extends TestBase {
+    /**
+     * Test case for the first page.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testFirstPage() throws Exception {
+        char[] types = {PageCursor.TYPE_FLOW, PageCursor.TYPE_MAC};
+        int[] limits = {1, 2, 10, 12345, Integer.MAX_VALUE};
+        for (char type: types) {
+            for (int limit: limits) {
+                PageCursor pc = new PageCursor(type, limit);
+                assertEquals(null, pc.getLastKey());
+                assertEquals(limit, pc.getLimit());
+
+                pc = new PageCursor(type, null, limit);
+                assertEquals(null, pc.getLastKey());
+                assertEquals(limit, pc.getLimit());
+            }
+
+            // Zero or a negative limit means no limit.
+            int[] unlimited = {0, -1, -100, Integer.MIN_VALUE};
+            for (int limit: unlimited) {
+                PageCursor pc = new PageCursor(type, limit);
+                assertEquals(Integer.MAX_VALUE, pc.getLimit());
+                pc = new PageCursor(type, null, limit);
+                assertEquals(Integer.MAX_VALUE, pc.getLimit());
+            }
+        }
+    }
+
+    /**
+     * Test case for encoding and decoding continuation tokens.
+     *
+     * <ul>
+     *   <li>{@link PageCursor#next(long)}</li>
+     *   <li>{@link PageCursor#PageCursor(char, String, int)}</li>
+     * </ul>
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testToken() throws Exception {
+        char[] types = {PageCursor.TYPE_FLOW, PageCursor.TYPE_MAC};
+        long[] keys = {
+            0L, 1L, 35L, 36L, 12345L, 0xffffffffL, 0x123456789abcdefL,
+            Long.MAX_VALUE, -1L, Long.MIN_VALUE,
+        };
+        for (char type: types) {
+            PageCursor pc = new PageCursor(type, 10);
+            for (long key: keys) {
+                String token = pc.next(key);
+                assertEquals(type, token.charAt(0));
+
+                PageCursor next = new PageCursor(type, token, 20);
+                assertEquals(Long.valueOf(key), next.getLastKey());
+                assertEquals(20, next.getLimit());
+                assertEquals(token, next.next(key));
+            }
+        }
+    }
+
+    /**
+     * Test case for malformed continuation tokens.
+     */
+    @Test
+    public void testInvalidToken() {
+        String[] tokens = {
+            // Empty token.
+            "",
+
+            // No key.
+            "f",
+            "m",
+
+            // Unknown type.
+            "x1",
+            "F1",
+            "1",
+
+            // Invalid key.
+            "f!!",
+            "f1.5",
+            "f 1",
+            "f--1",
+
+            // Too large key.
+            "f" + Long.toString(Long.MAX_VALUE, Character.MAX_RADIX) + "0",
+        };
+
+        for (String token: tokens) {
+            checkInvalidToken(PageCursor.TYPE_FLOW, token);
+        }
+
+        // Token for another type of list.
+        PageCursor pc = new PageCursor(PageCursor.TYPE_MAC, 1);
+        checkInvalidToken(PageCursor.TYPE_FLOW, pc.next(1L));
+        pc = new PageCursor(PageCursor.TYPE_FLOW, 1);
+        checkInvalidToken(PageCursor.TYPE_MAC, pc.next(1L));
+    }
+
+    /**
+     * Ensure that the given continuation token is rejected.
+     *
+     * @param type   The type of the list.
+     * @param token  A continuation token to be tested.
+     */
+    private void checkInvalidToken(char type, String token) {
+        try {
+            new PageCursor(type, token, 10);
+            unexpected();
+        } catch (RpcException e) {
+            assertEquals(null, e.getCause());
+            assertEquals(RpcErrorTag.BAD_ELEMENT, e.getErrorTag());
+            Status st = e.getStatus();
+            assertEquals(StatusCode.BADREQUEST, st.getCode());
+            assertEquals("Invalid continuation token: " + token,
+                         st.getDescription());
+        }
+    }
+}
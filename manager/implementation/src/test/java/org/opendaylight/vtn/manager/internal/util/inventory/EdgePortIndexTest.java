@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.internal.util.inventory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.internal.PortFilter;
+import org.opendaylight.vtn.manager.internal.TestBase;
+
+import org.opendaylight.controller.sal.core.Node;
+import org.opendaylight.controller.sal.core.NodeConnector;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.node.info.VtnPort;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.nodes.VtnNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.vtn.impl.inventory.rev150209.vtn.nodes.VtnNodeBuilder;
+
+/**
+ * JUnit test for {@link EdgePortIndex}.
+ */
+public class EdgePortIndexTest extends TestBase {
+    /**
+     * Test case for updating the index by VTN nodes.
+     *
+     * <ul>
+     *   <li>{@link EdgePortIndex#update(VtnNode)}</li>
+     *   <li>{@link EdgePortIndex#remove(VtnNode)}</li>
+     *   <li>{@link EdgePortIndex#clear()}</li>
+     * </ul>
+     */
+    @Test
+    public void testNode() {
+        EdgePortIndex index = new EdgePortIndex();
+        assertTrue(index.getSnapshot().isEmpty());
+
+        Set<NodeConnector> expected = new HashSet<>();
+        Boolean enabled = Boolean.TRUE;
+        List<VtnNode> nodes = new ArrayList<>();
+        for (long dpid = 1L; dpid <= 4L; dpid++) {
+            SalNode snode = new SalNode(dpid);
+            List<VtnPort> portList = new ArrayList<>();
+            for (long port = 1L; port <= 10L; port++) {
+                SalPort sport = new SalPort(dpid, port);
+                boolean edge = ((port & 1L) == 0L);
+                portList.add(createVtnPortBuilder(sport, enabled, edge).
+                             build());
+                if (edge && Boolean.TRUE.equals(enabled)) {
+                    expected.add(sport.getAdNodeConnector());
+                }
+                enabled = triState(enabled);
+            }
+            VtnNode vnode = new VtnNodeBuilder().
+                setId(snode.getNodeId()).setVtnPort(portList).build();
+            index.update(vnode);
+            nodes.add(vnode);
+            assertTrue(index.hasEdgePort(snode.getAdNode()));
+        }
+
+        Set<NodeConnector> ports = new HashSet<>();
+        index.collectUpEdgePorts(ports, null, null);
+        assertEquals(expected, ports);
+        for (NodeConnector nc: expected) {
+            assertTrue(index.isUpEdgePort(nc));
+        }
+
+        // A node which has no edge port must not be indexed.
+        SalNode empty = new SalNode(100L);
+        index.update(new VtnNodeBuilder().setId(empty.getNodeId()).build());
+        assertFalse(index.hasEdgePort(empty.getAdNode()));
+
+        // Remove nodes.
+        for (VtnNode vnode: nodes) {
+            SalNode snode = SalNode.create(vnode.getId());
+            Node node = snode.getAdNode();
+            ports.clear();
+            index.collectUpEdgePorts(ports, node, null);
+            assertFalse(ports.isEmpty());
+            for (NodeConnector nc: ports) {
+                assertEquals(node, nc.getNode());
+            }
+
+            Map<Node, Map<NodeConnector, VtnPort>> snapshot =
+                index.getSnapshot();
+            index.remove(vnode);
+            assertFalse(index.hasEdgePort(node));
+            ports.clear();
+            index.collectUpEdgePorts(ports, node, null);
+            assertTrue(ports.isEmpty());
+
+            // Published snapshot must not be affected.
+            assertTrue(snapshot.containsKey(node));
+        }
+        assertTrue(index.getSnapshot().isEmpty());
+
+        index.update(nodes.get(0));
+        assertFalse(index.getSnapshot().isEmpty());
+        index.clear();
+        assertTrue(index.getSnapshot().isEmpty());
+    }
+
+    /**
+     * Test case for updating the index by VTN ports.
+     *
+     * <ul>
+     *   <li>{@link EdgePortIndex#update(VtnPort)}</li>
+     *   <li>{@link EdgePortIndex#remove(VtnPort)}</li>
+     *   <li>{@link EdgePortIndex#collectUpEdgePorts(Set, Node, PortFilter)}</li>
+     * </ul>
+     */
+    @Test
+    public void testPort() {
+        EdgePortIndex index = new EdgePortIndex();
+        SalPort sport = new SalPort(1L, 3L);
+        NodeConnector nc = sport.getAdNodeConnector();
+        Node node = nc.getNode();
+
+        // Disabled port.
+        index.update(createVtnPortBuilder(sport, Boolean.FALSE, true).build());
+        assertFalse(index.isUpEdgePort(nc));
+        assertFalse(index.hasEdgePort(node));
+
+        // Enabled edge port.
+        VtnPort vport = createVtnPortBuilder(sport, Boolean.TRUE, true).build();
+        index.update(vport);
+        assertTrue(index.isUpEdgePort(nc));
+        assertTrue(index.hasEdgePort(node));
+        assertEquals(vport, index.getSnapshot().get(node).get(nc));
+
+        // Link has been detected on the port.
+        index.update(createVtnPortBuilder(sport, Boolean.TRUE, false).build());
+        assertFalse(index.isUpEdgePort(nc));
+        assertFalse(index.hasEdgePort(node));
+
+        // Filter ports.
+        SalPort sport2 = new SalPort(1L, 4L);
+        final NodeConnector nc2 = sport2.getAdNodeConnector();
+        index.update(vport);
+        index.update(createVtnPortBuilder(sport2).build());
+        PortFilter filter = new PortFilter() {
+            @Override
+            public boolean accept(NodeConnector port, VtnPort vp) {
+                return !nc2.equals(port);
+            }
+        };
+        Set<NodeConnector> ports = new HashSet<>();
+        index.collectUpEdgePorts(ports, node, filter);
+        assertEquals(1, ports.size());
+        assertTrue(ports.contains(nc));
+        ports.clear();
+        index.collectUpEdgePorts(ports, new SalNode(2L).getAdNode(), null);
+        assertTrue(ports.isEmpty());
+
+        // Remove ports.
+        index.remove(vport);
+        assertFalse(index.isUpEdgePort(nc));
+        assertTrue(index.isUpEdgePort(nc2));
+        index.remove(createVtnPortBuilder(sport2).build());
+        assertFalse(index.isUpEdgePort(nc2));
+        assertTrue(index.getSnapshot().isEmpty());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.it.ofmock.OfMockService;
+
+/**
+ * {@code FabricBuilder} builds a switch fabric on the openflowplugin
+ * mock-up.
+ *
+ * <p>
+ *   Switches, ports and links are created without waiting for each
+ *   notification, and then this class waits for the VTN Manager to detect
+ *   all of them at once. This keeps the time needed to build a fabric with
+ *   thousands of switches reasonable.
+ * </p>
+ */
+public final class FabricBuilder {
+    /**
+     * Logger instance.
+     */
+    private static final Logger  LOG =
+        LoggerFactory.getLogger(FabricBuilder.class);
+
+    /**
+     * The base value of datapath ID assigned to switches.
+     *
+     * <p>
+     *   This must not overlap datapath IDs of initial switches created
+     *   by the openflowplugin mock-up.
+     * </p>
+     */
+    private static final long  DPID_BASE = 0x10000L;
+
+    /**
+     * openflowplugin mock-up service.
+     */
+    private final OfMockService  ofMockService;
+
+    /**
+     * A list of node identifiers of switches in the fabric.
+     */
+    private final List<String>  nodeIds = new ArrayList<>();
+
+    /**
+     * A list of edge port identifiers.
+     */
+    private final List<String>  edgePorts = new ArrayList<>();
+
+    /**
+     * A map which keeps unidirectional inter-switch links.
+     * The source port identifier is used as the map key, and the destination
+     * port identifier is associated with the key.
+     */
+    private final Map<String, String>  links = new LinkedHashMap<>();
+
+    /**
+     * Construct a new instance.
+     *
+     * @param ofmock  openflowplugin mock-up service.
+     */
+    public FabricBuilder(OfMockService ofmock) {
+        ofMockService = ofmock;
+    }
+
+    /**
+     * Build a switch fabric specified by the given configuration.
+     *
+     * @param cfg  The configuration of the load test.
+     * @throws Exception  An error occurred.
+     */
+    public void build(LoadConfig cfg) throws Exception {
+        int nswitches = cfg.getSwitches();
+        FabricTopology topo = cfg.getTopology();
+        LOG.info("Building {} fabric: switches={}, edge ports={}",
+                 topo, nswitches, cfg.getEdgePorts());
+
+        // Create switches.
+        long[] portIndex = new long[nswitches];
+        for (int i = 0; i < nswitches; i++) {
+            BigInteger dpid = BigInteger.valueOf(DPID_BASE + i);
+            nodeIds.add(ofMockService.addNode(dpid, false));
+        }
+
+        // Create ports for inter-switch links.
+        List<String[]> pairs = new ArrayList<>();
+        for (int[] link: topo.getLinks(nswitches)) {
+            String src = addPort(link[0], portIndex);
+            String dst = addPort(link[1], portIndex);
+            pairs.add(new String[]{src, dst});
+        }
+
+        // Create edge ports.
+        for (int i = 0; i < nswitches; i++) {
+            for (int j = 0; j < cfg.getEdgePorts(); j++) {
+                edgePorts.add(addPort(i, portIndex));
+            }
+        }
+
+        // Connect switches.
+        for (String[] pair: pairs) {
+            String src = pair[0];
+            String dst = pair[1];
+            ofMockService.setPeerIdentifier(src, dst, false);
+            ofMockService.setPeerIdentifier(dst, src, false);
+            links.put(src, dst);
+            links.put(dst, src);
+        }
+
+        // Wait for the VTN Manager to detect the fabric.
+        for (Map.Entry<String, String> entry: links.entrySet()) {
+            ofMockService.awaitLink(entry.getKey(), entry.getValue(), true);
+        }
+        for (String pid: edgePorts) {
+            ofMockService.awaitLinkState(pid, true);
+        }
+
+        LOG.info("Fabric has been built: switches={}, links={}, " +
+                 "edge ports={}", nodeIds.size(), links.size(),
+                 edgePorts.size());
+    }
+
+    /**
+     * Add a new enabled port to the specified switch.
+     *
+     * @param idx        The index of the switch.
+     * @param portIndex  An array which keeps the last port index assigned
+     *                   to each switch.
+     * @return  The MD-SAL port identifier of a new port.
+     * @throws InterruptedException
+     *    The calling thread was interrupted.
+     */
+    private String addPort(int idx, long[] portIndex)
+        throws InterruptedException {
+        portIndex[idx]++;
+        String pid = ofMockService.
+            addPort(nodeIds.get(idx), portIndex[idx], false);
+        ofMockService.setPortState(pid, true, false);
+        return pid;
+    }
+
+    /**
+     * Return a list of node identifiers of switches in the fabric.
+     *
+     * @return  A list of node identifiers.
+     */
+    public List<String> getNodeIdentifiers() {
+        return Collections.unmodifiableList(nodeIds);
+    }
+
+    /**
+     * Return a list of edge port identifiers in the fabric.
+     *
+     * @return  A list of edge port identifiers.
+     */
+    public List<String> getEdgePorts() {
+        return Collections.unmodifiableList(edgePorts);
+    }
+
+    /**
+     * Return the number of unidirectional inter-switch links in the fabric.
+     *
+     * @return  The number of inter-switch links.
+     */
+    public int getLinkCount() {
+        return links.size();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code FabricTopology} describes the shape of the switch fabric built
+ * for the load test.
+ *
+ * <p>
+ *   A link is represented by an array of two switch indices.
+ *   Each link is created as a pair of unidirectional inter-switch links.
+ * </p>
+ */
+public enum FabricTopology {
+    /**
+     * Switches are connected in a line.
+     */
+    LINEAR {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        List<int[]> getLinks(int n) {
+            List<int[]> list = new ArrayList<>();
+            for (int i = 1; i < n; i++) {
+                list.add(new int[]{i - 1, i});
+            }
+            return list;
+        }
+    },
+
+    /**
+     * Switches are connected in a ring.
+     */
+    RING {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        List<int[]> getLinks(int n) {
+            List<int[]> list = LINEAR.getLinks(n);
+            if (n > 2) {
+                list.add(new int[]{n - 1, 0});
+            }
+            return list;
+        }
+    },
+
+    /**
+     * Switches are connected in a binary tree.
+     */
+    TREE {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        List<int[]> getLinks(int n) {
+            List<int[]> list = new ArrayList<>();
+            for (int i = 1; i < n; i++) {
+                list.add(new int[]{(i - 1) / 2, i});
+            }
+            return list;
+        }
+    },
+
+    /**
+     * Every switch is connected to all other switches.
+     *
+     * <p>
+     *   Note that the number of links grows quadratically.
+     * </p>
+     */
+    MESH {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        List<int[]> getLinks(int n) {
+            List<int[]> list = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    list.add(new int[]{i, j});
+                }
+            }
+            return list;
+        }
+    };
+
+    /**
+     * Return a {@link FabricTopology} instance associated with the given
+     * name.
+     *
+     * @param name  The name of the topology, case-insensitive.
+     * @return  A {@link FabricTopology} instance.
+     * @throws IllegalArgumentException
+     *    Unknown name is specified.
+     */
+    public static FabricTopology forName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Return a list of links which constructs this topology.
+     *
+     * @param n  The number of switches.
+     * @return  A list of links. Each element is an array of indices of
+     *          the two switches to be connected.
+     */
+    abstract List<int[]> getLinks(int n);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code LatencyRecorder} keeps latency samples measured by the load test.
+ *
+ * <p>
+ *   All samples are kept in order to derive exact percentiles.
+ *   This class is thread-safe.
+ * </p>
+ */
+public final class LatencyRecorder {
+    /**
+     * Initial capacity of the sample array.
+     */
+    private static final int  INITIAL_CAPACITY = 1024;
+
+    /**
+     * Percentiles put into the summary.
+     */
+    private static final double[]  PERCENTILES = {50d, 90d, 99d, 99.9d};
+
+    /**
+     * Keys of percentiles in the summary, indexed as {@link #PERCENTILES}.
+     */
+    private static final String[]  PERCENTILE_KEYS = {
+        "p50", "p90", "p99", "p999",
+    };
+
+    /**
+     * Latency samples in nanoseconds.
+     */
+    private long[]  samples = new long[INITIAL_CAPACITY];
+
+    /**
+     * The number of samples.
+     */
+    private int  count;
+
+    /**
+     * Record a latency sample.
+     *
+     * @param nanos  Latency in nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count << 1);
+        }
+        samples[count] = nanos;
+        count++;
+    }
+
+    /**
+     * Return the number of samples.
+     *
+     * @return  The number of samples.
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Return the summary of latency samples.
+     *
+     * <p>
+     *   All latency values in the returned map are represented in
+     *   microseconds.
+     * </p>
+     *
+     * @return  A map which contains the summary of latency samples.
+     */
+    public Map<String, Object> getSummary() {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        int n = sorted.length;
+        map.put("count", n);
+        if (n == 0) {
+            return map;
+        }
+
+        long sum = 0;
+        for (long v: sorted) {
+            sum += v;
+        }
+        map.put("min", toMicros(sorted[0]));
+        map.put("average", toMicros(sum / n));
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            // Use nearest-rank method.
+            int rank = (int)Math.ceil(PERCENTILES[i] / 100d * n);
+            int idx = Math.max(rank - 1, 0);
+            map.put(PERCENTILE_KEYS[i], toMicros(sorted[idx]));
+        }
+        map.put("max", toMicros(sorted[n - 1]));
+
+        return map;
+    }
+
+    /**
+     * Convert the given nanoseconds into microseconds.
+     *
+     * @param nanos  Time in nanoseconds.
+     * @return  Time in microseconds.
+     */
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
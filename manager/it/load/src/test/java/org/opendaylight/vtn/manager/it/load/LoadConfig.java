@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code LoadConfig} keeps parameters of the load test.
+ *
+ * <p>
+ *   All parameters are read from system properties prefixed with
+ *   {@link #PROP_PREFIX}.
+ * </p>
+ */
+public final class LoadConfig {
+    /**
+     * Prefix of system properties which configure the load test.
+     */
+    public static final String  PROP_PREFIX = "vtn.load.";
+
+    /**
+     * The name of system property which specifies the number of switches.
+     */
+    public static final String  PROP_SWITCHES = PROP_PREFIX + "switches";
+
+    /**
+     * The name of system property which specifies the fabric topology.
+     */
+    public static final String  PROP_TOPOLOGY = PROP_PREFIX + "topology";
+
+    /**
+     * The name of system property which specifies the number of edge ports
+     * per switch.
+     */
+    public static final String  PROP_EDGE_PORTS = PROP_PREFIX + "edgeports";
+
+    /**
+     * The name of system property which specifies the number of hosts.
+     */
+    public static final String  PROP_HOSTS = PROP_PREFIX + "hosts";
+
+    /**
+     * The name of system property which specifies the PACKET_IN rate
+     * per second.
+     */
+    public static final String  PROP_RATE = PROP_PREFIX + "rate";
+
+    /**
+     * The name of system property which specifies the duration of the load
+     * in seconds.
+     */
+    public static final String  PROP_DURATION = PROP_PREFIX + "duration";
+
+    /**
+     * The name of system property which specifies the number of threads
+     * which wait for flow entries.
+     */
+    public static final String  PROP_THREADS = PROP_PREFIX + "threads";
+
+    /**
+     * The name of system property which specifies the path to the report
+     * file.
+     */
+    public static final String  PROP_REPORT = PROP_PREFIX + "report";
+
+    /**
+     * Default number of switches.
+     */
+    private static final int  DEFAULT_SWITCHES = 100;
+
+    /**
+     * Default number of edge ports per switch.
+     */
+    private static final int  DEFAULT_EDGE_PORTS = 2;
+
+    /**
+     * Default number of hosts.
+     */
+    private static final int  DEFAULT_HOSTS = 400;
+
+    /**
+     * Default PACKET_IN rate per second.
+     */
+    private static final int  DEFAULT_RATE = 200;
+
+    /**
+     * Default duration of the load in seconds.
+     */
+    private static final int  DEFAULT_DURATION = 30;
+
+    /**
+     * Default number of threads which wait for flow entries.
+     */
+    private static final int  DEFAULT_THREADS = 4;
+
+    /**
+     * Default path to the report file.
+     */
+    private static final String  DEFAULT_REPORT = "load-report.json";
+
+    /**
+     * The number of switches.
+     */
+    private final int  switches;
+
+    /**
+     * The topology of the switch fabric.
+     */
+    private final FabricTopology  topology;
+
+    /**
+     * The number of edge ports per switch.
+     */
+    private final int  edgePorts;
+
+    /**
+     * The number of hosts.
+     */
+    private final int  hosts;
+
+    /**
+     * PACKET_IN rate per second.
+     */
+    private final int  rate;
+
+    /**
+     * Duration of the load in seconds.
+     */
+    private final int  duration;
+
+    /**
+     * The number of threads which wait for flow entries.
+     */
+    private final int  threads;
+
+    /**
+     * The path to the report file.
+     */
+    private final String  reportPath;
+
+    /**
+     * Return the names of all system properties which configure the load
+     * test.
+     *
+     * @return  An array of system property names.
+     */
+    public static String[] getPropertyNames() {
+        return new String[]{
+            PROP_SWITCHES, PROP_TOPOLOGY, PROP_EDGE_PORTS, PROP_HOSTS,
+            PROP_RATE, PROP_DURATION, PROP_THREADS, PROP_REPORT,
+        };
+    }
+
+    /**
+     * Return a positive integer value in the specified system property.
+     *
+     * @param name  The name of the system property.
+     * @param def   The default value.
+     * @return  An integer value.
+     * @throws IllegalArgumentException
+     *    The system property has an invalid value.
+     */
+    private static int getInteger(String name, int def) {
+        String value = System.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return def;
+        }
+
+        int v;
+        try {
+            v = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                name + ": Invalid number: " + value, e);
+        }
+        if (v <= 0) {
+            throw new IllegalArgumentException(
+                name + ": Must be greater than zero: " + value);
+        }
+
+        return v;
+    }
+
+    /**
+     * Construct a new instance from system properties.
+     *
+     * @throws IllegalArgumentException
+     *    A system property has an invalid value.
+     */
+    public LoadConfig() {
+        switches = getInteger(PROP_SWITCHES, DEFAULT_SWITCHES);
+        edgePorts = getInteger(PROP_EDGE_PORTS, DEFAULT_EDGE_PORTS);
+        hosts = getInteger(PROP_HOSTS, DEFAULT_HOSTS);
+        rate = getInteger(PROP_RATE, DEFAULT_RATE);
+        duration = getInteger(PROP_DURATION, DEFAULT_DURATION);
+        threads = getInteger(PROP_THREADS, DEFAULT_THREADS);
+        reportPath = System.getProperty(PROP_REPORT, DEFAULT_REPORT);
+
+        String topo = System.getProperty(PROP_TOPOLOGY);
+        topology = (topo == null || topo.trim().isEmpty())
+            ? FabricTopology.TREE
+            : FabricTopology.forName(topo);
+    }
+
+    /**
+     * Return the number of switches.
+     *
+     * @return  The number of switches.
+     */
+    public int getSwitches() {
+        return switches;
+    }
+
+    /**
+     * Return the topology of the switch fabric.
+     *
+     * @return  A {@link FabricTopology} instance.
+     */
+    public FabricTopology getTopology() {
+        return topology;
+    }
+
+    /**
+     * Return the number of edge ports per switch.
+     *
+     * @return  The number of edge ports per switch.
+     */
+    public int getEdgePorts() {
+        return edgePorts;
+    }
+
+    /**
+     * Return the number of hosts.
+     *
+     * @return  The number of hosts.
+     */
+    public int getHosts() {
+        return hosts;
+    }
+
+    /**
+     * Return PACKET_IN rate per second.
+     *
+     * @return  PACKET_IN rate per second.
+     */
+    public int getRate() {
+        return rate;
+    }
+
+    /**
+     * Return duration of the load in seconds.
+     *
+     * @return  Duration of the load in seconds.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * Return the number of threads which wait for flow entries.
+     *
+     * @return  The number of threads.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Return the path to the report file.
+     *
+     * @return  The path to the report file.
+     */
+    public String getReportPath() {
+        return reportPath;
+    }
+
+    /**
+     * Return parameters of the load test as a map.
+     *
+     * @return  A map which contains parameters of the load test.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("switches", switches);
+        map.put("topology", topology.name().toLowerCase(Locale.ENGLISH));
+        map.put("edgePorts", edgePorts);
+        map.put("hosts", hosts);
+        map.put("rate", rate);
+        map.put("duration", duration);
+        map.put("threads", threads);
+        return map;
+    }
+
+    /**
+     * Return a string representation of this instance.
+     *
+     * @return  A string representation of this instance.
+     */
+    @Override
+    public String toString() {
+        return "LoadConfig" + toMap();
+    }
+}
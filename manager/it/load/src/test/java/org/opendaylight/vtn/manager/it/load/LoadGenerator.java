@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.it.ofmock.OfMockFlow;
+import org.opendaylight.vtn.manager.it.ofmock.OfMockService;
+import org.opendaylight.vtn.manager.it.ofmock.OfMockUtils;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+
+/**
+ * {@code LoadGenerator} sends unicast PACKET_IN messages at the configured
+ * rate, and measures flow setup latency.
+ *
+ * <p>
+ *   Each PACKET_IN message uses a distinct pair of source and destination
+ *   hosts, so that every message causes the VTN Manager to set up a new
+ *   unicast flow. The flow setup latency is the time from the PACKET_IN
+ *   notification until the ingress flow entry is installed into the
+ *   ingress switch. It is derived from the install time recorded by the
+ *   openflowplugin mock-up, so it does not depend on how quickly waiter
+ *   threads are scheduled.
+ * </p>
+ */
+public final class LoadGenerator {
+    /**
+     * Logger instance.
+     */
+    private static final Logger  LOG =
+        LoggerFactory.getLogger(LoadGenerator.class);
+
+    /**
+     * The number of seconds to wait for waiter threads after the load.
+     */
+    private static final long  SHUTDOWN_TIMEOUT = 60L;
+
+    /**
+     * openflowplugin mock-up service.
+     */
+    private final OfMockService  ofMockService;
+
+    /**
+     * The configuration of the load test.
+     */
+    private final LoadConfig  config;
+
+    /**
+     * Hosts which send unicast packets.
+     */
+    private final List<LoadHost>  hosts;
+
+    /**
+     * Latency samples of flow setup.
+     */
+    private final LatencyRecorder  latency = new LatencyRecorder();
+
+    /**
+     * The number of PACKET_IN messages sent.
+     */
+    private int  sentCount;
+
+    /**
+     * The number of flows which were not installed in time.
+     */
+    private final AtomicInteger  timedOut = new AtomicInteger();
+
+    /**
+     * The number of errors which occurred while waiting for flows.
+     */
+    private final AtomicInteger  errors = new AtomicInteger();
+
+    /**
+     * The system time in nanoseconds when the last flow entry was installed.
+     */
+    private final AtomicLong  lastInstalled = new AtomicLong();
+
+    /**
+     * The system time in nanoseconds when the load started.
+     */
+    private long  startTime;
+
+    /**
+     * The time in nanoseconds taken to send all PACKET_IN messages.
+     */
+    private long  sendTime;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param ofmock  openflowplugin mock-up service.
+     * @param cfg     The configuration of the load test.
+     * @param list    A list of hosts. All hosts in this list must be
+     *                already learned by the VTN Manager.
+     */
+    public LoadGenerator(OfMockService ofmock, LoadConfig cfg,
+                         List<LoadHost> list) {
+        ofMockService = ofmock;
+        config = cfg;
+        hosts = list;
+    }
+
+    /**
+     * Run the load.
+     *
+     * <p>
+     *   This method returns when the configured duration has elapsed or
+     *   all host pairs have been used, and all flow entries have been
+     *   installed or timed out.
+     * </p>
+     *
+     * @throws Exception  An error occurred.
+     */
+    public void run() throws Exception {
+        final int pri = ofMockService.getL2FlowPriority();
+        int nhosts = hosts.size();
+        long maxPairs = (long)nhosts * (long)(nhosts - 1);
+        long interval = TimeUnit.SECONDS.toNanos(1L) / config.getRate();
+        long duration = TimeUnit.SECONDS.toNanos(config.getDuration());
+        LOG.info("Starting load: rate={}/s, duration={}s, host pairs={}",
+                 config.getRate(), config.getDuration(), maxPairs);
+
+        ExecutorService executor =
+            Executors.newFixedThreadPool(config.getThreads());
+        startTime = System.nanoTime();
+        long deadline = startTime + duration;
+        try {
+            long seq = 0;
+            for (long next = startTime; next < deadline && seq < maxPairs;
+                 next += interval) {
+                // Select a pair of hosts which is not yet used.
+                LoadHost src;
+                LoadHost dst;
+                do {
+                    src = hosts.get((int)(seq % nhosts));
+                    dst = hosts.get(
+                        (int)((seq + seq / nhosts + 1) % nhosts));
+                    seq++;
+                } while (seq < maxPairs && src.getPortIdentifier().
+                         equals(dst.getPortIdentifier()));
+                if (src.getPortIdentifier().equals(dst.getPortIdentifier())) {
+                    break;
+                }
+
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+
+                byte[] payload = src.createUnicast(dst);
+                final Match match = src.createMatch(dst);
+                final String nid =
+                    OfMockUtils.getNodeIdentifier(src.getPortIdentifier());
+                final long sent = System.nanoTime();
+                ofMockService.sendPacketIn(src.getPortIdentifier(), payload);
+                sentCount++;
+
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        awaitFlow(nid, match, pri, sent);
+                    }
+                });
+            }
+
+            sendTime = System.nanoTime() - startTime;
+        } finally {
+            executor.shutdown();
+        }
+
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+            LOG.warn("Waiter threads did not terminate.");
+            executor.shutdownNow();
+        }
+
+        LOG.info("Load finished: sent={}, installed={}, timed out={}, " +
+                 "errors={}", sentCount, latency.getCount(), timedOut.get(),
+                 errors.get());
+    }
+
+    /**
+     * Wait for the ingress flow entry to be installed, and record its
+     * setup latency.
+     *
+     * @param nid    The node identifier of the ingress switch.
+     * @param match  The flow match of the ingress flow entry.
+     * @param pri    The priority of the ingress flow entry.
+     * @param sent   The system time in nanoseconds when the PACKET_IN was
+     *               sent.
+     */
+    private void awaitFlow(String nid, Match match, int pri, long sent) {
+        try {
+            OfMockFlow flow = ofMockService.awaitFlow(
+                nid, OfMockService.DEFAULT_TABLE, match, pri, true);
+            if (flow == null) {
+                timedOut.incrementAndGet();
+                return;
+            }
+
+            long installed = flow.getInstalledTime();
+            latency.record(Math.max(installed - sent, 0L));
+
+            long last;
+            do {
+                last = lastInstalled.get();
+            } while (installed > last &&
+                     !lastInstalled.compareAndSet(last, installed));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.incrementAndGet();
+        } catch (RuntimeException e) {
+            LOG.error("Failed to wait for flow: node=" + nid, e);
+            errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Return the result of the load as a map.
+     *
+     * @return  A map which contains the result of the load.
+     */
+    public Map<String, Object> getResult() {
+        int installed = latency.getCount();
+        long last = lastInstalled.get();
+        long elapsed = (installed == 0) ? 0L : last - startTime;
+        double sendSec = (double)sendTime / TimeUnit.SECONDS.toNanos(1L);
+        double elapsedSec = (double)elapsed / TimeUnit.SECONDS.toNanos(1L);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("sent", sentCount);
+        map.put("installed", installed);
+        map.put("timedOut", timedOut.get());
+        map.put("errors", errors.get());
+        map.put("sendMillis", TimeUnit.NANOSECONDS.toMillis(sendTime));
+        map.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        map.put("packetInRate", (sendSec > 0d) ? sentCount / sendSec : 0d);
+        map.put("flowSetupRate",
+                (elapsedSec > 0d) ? installed / elapsedSec : 0d);
+        map.put("flowSetupLatencyMicros", latency.getSummary());
+        return map;
+    }
+
+    /**
+     * Return the number of PACKET_IN messages sent.
+     *
+     * @return  The number of PACKET_IN messages sent.
+     */
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    /**
+     * Return the number of flows installed.
+     *
+     * @return  The number of flows installed.
+     */
+    public int getInstalledCount() {
+        return latency.getCount();
+    }
+}
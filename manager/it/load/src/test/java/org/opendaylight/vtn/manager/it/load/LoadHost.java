@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import org.opendaylight.vtn.manager.it.ofmock.OfMockService;
+import org.opendaylight.vtn.manager.it.util.ModelDrivenTestBase;
+import org.opendaylight.vtn.manager.it.util.TestBase;
+import org.opendaylight.vtn.manager.it.util.packet.ArpFactory;
+import org.opendaylight.vtn.manager.it.util.packet.EthernetFactory;
+
+import org.opendaylight.controller.sal.packet.ARP;
+
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Match;
+
+/**
+ * {@code LoadHost} describes a host attached to an edge port of the
+ * switch fabric built for the load test.
+ *
+ * <p>
+ *   Unlike {@code TestHost}, this class can represent more than 255 hosts.
+ *   Untagged frames are always used.
+ * </p>
+ */
+public final class LoadHost {
+    /**
+     * VLAN ID used by all hosts.
+     */
+    public static final short  VLAN_ID = 0;
+
+    /**
+     * The MAC address of this host.
+     */
+    private final byte[]  macAddress;
+
+    /**
+     * The IP address of this host.
+     */
+    private final byte[]  inetAddress;
+
+    /**
+     * The MD-SAL port identifier where this host is attached.
+     */
+    private final String  portIdentifier;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param index  A non-negative integer used to create host addresses.
+     * @param pid    The MD-SAL port identifier where the host is attached.
+     */
+    public LoadHost(int index, String pid) {
+        // Use locally administered MAC address and 10.0.0.0/8.
+        int id = index + 1;
+        macAddress = new byte[]{
+            (byte)0x02, (byte)0x00,
+            (byte)(id >>> 24), (byte)(id >>> 16),
+            (byte)(id >>> 8), (byte)id,
+        };
+        inetAddress = new byte[]{
+            (byte)10, (byte)(id >>> 16), (byte)(id >>> 8), (byte)id,
+        };
+        portIdentifier = pid;
+    }
+
+    /**
+     * Return the MAC address of this host.
+     *
+     * @return  A byte array which represents the MAC address.
+     */
+    public byte[] getMacAddress() {
+        return macAddress.clone();
+    }
+
+    /**
+     * Return the MD-SAL port identifier where this host is attached.
+     *
+     * @return  The MD-SAL port identifier.
+     */
+    public String getPortIdentifier() {
+        return portIdentifier;
+    }
+
+    /**
+     * Send a broadcast ARP request from this host in order to let the
+     * VTN Manager learn this host.
+     *
+     * @param ofmock  openflowplugin mock-up service.
+     * @throws Exception  An error occurred.
+     */
+    public void learn(OfMockService ofmock) throws Exception {
+        TestBase.sendBroadcast(ofmock, macAddress, inetAddress, VLAN_ID,
+                               portIdentifier);
+    }
+
+    /**
+     * Create a unicast ARP reply sent from this host to the given host.
+     *
+     * @param dst  The destination host.
+     * @return  A raw byte image of the packet.
+     * @throws Exception  An error occurred.
+     */
+    public byte[] createUnicast(LoadHost dst) throws Exception {
+        EthernetFactory efc = new EthernetFactory(macAddress, dst.macAddress).
+            setVlanId(VLAN_ID);
+        ArpFactory.newInstance(efc).
+            setOperation(ARP.REPLY).
+            setSenderHardwareAddress(macAddress).
+            setTargetHardwareAddress(dst.macAddress).
+            setSenderProtocolAddress(inetAddress).
+            setTargetProtocolAddress(dst.inetAddress);
+        return efc.create();
+    }
+
+    /**
+     * Create a flow match which matches the ingress flow entry for the
+     * unicast packet from this host to the given host.
+     *
+     * @param dst  The destination host.
+     * @return  A {@link Match} instance.
+     */
+    public Match createMatch(LoadHost dst) {
+        return ModelDrivenTestBase.createMatch(
+            portIdentifier, VLAN_ID, macAddress, dst.macAddress).build();
+    }
+
+    /**
+     * Return a string representation of this instance.
+     *
+     * @return  A string representation of this instance.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("LoadHost[mac=");
+        for (int i = 0; i < macAddress.length; i++) {
+            if (i != 0) {
+                builder.append(':');
+            }
+            builder.append(String.format("%02x", macAddress[i] & 0xff));
+        }
+
+        return builder.append(",port=").append(portIdentifier).append(']').
+            toString();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code LoadReport} builds a machine-readable report of the load test.
+ *
+ * <p>
+ *   The report is a JSON object which consists of named sections.
+ *   Each section value must be a {@link Map}, a {@link Collection},
+ *   a {@link Number}, a {@link Boolean}, or a {@link String}.
+ * </p>
+ */
+public final class LoadReport {
+    /**
+     * Indentation string.
+     */
+    private static final String  INDENT = "  ";
+
+    /**
+     * Sections of the report.
+     */
+    private final Map<String, Object>  sections = new LinkedHashMap<>();
+
+    /**
+     * Put a section into the report.
+     *
+     * @param name   The name of the section.
+     * @param value  The value of the section.
+     * @return  This instance.
+     */
+    public LoadReport put(String name, Object value) {
+        sections.put(name, value);
+        return this;
+    }
+
+    /**
+     * Write the report to the given file as JSON.
+     *
+     * @param path  The path to the report file.
+     * @return  A {@link File} instance which represents the report file.
+     * @throws IOException  Failed to write the report.
+     */
+    public File write(String path) throws IOException {
+        File file = new File(path).getAbsoluteFile();
+        File parent = file.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Failed to create directory: " + parent);
+        }
+
+        try (Writer w = new OutputStreamWriter(
+                 new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            w.write(toJson());
+            w.write('\n');
+        }
+
+        return file;
+    }
+
+    /**
+     * Return the report as JSON.
+     *
+     * @return  A JSON string.
+     */
+    public String toJson() {
+        StringBuilder builder = new StringBuilder();
+        append(builder, sections, "");
+        return builder.toString();
+    }
+
+    /**
+     * Append the given value to the string builder as JSON.
+     *
+     * @param builder  A {@link StringBuilder} instance.
+     * @param value    A value to be appended.
+     * @param indent   The current indentation.
+     */
+    private static void append(StringBuilder builder, Object value,
+                               String indent) {
+        if (value instanceof Map) {
+            appendObject(builder, (Map<?, ?>)value, indent);
+        } else if (value instanceof Collection) {
+            appendArray(builder, (Collection<?>)value, indent);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            builder.append(value);
+        } else if (value == null) {
+            builder.append("null");
+        } else {
+            appendString(builder, value.toString());
+        }
+    }
+
+    /**
+     * Append the given map to the string builder as a JSON object.
+     *
+     * @param builder  A {@link StringBuilder} instance.
+     * @param map      A map to be appended.
+     * @param indent   The current indentation.
+     */
+    private static void appendObject(StringBuilder builder, Map<?, ?> map,
+                                     String indent) {
+        if (map.isEmpty()) {
+            builder.append("{}");
+            return;
+        }
+
+        String child = indent + INDENT;
+        String sep = "{\n";
+        for (Map.Entry<?, ?> entry: map.entrySet()) {
+            builder.append(sep).append(child);
+            appendString(builder, String.valueOf(entry.getKey()));
+            builder.append(": ");
+            append(builder, entry.getValue(), child);
+            sep = ",\n";
+        }
+        builder.append('\n').append(indent).append('}');
+    }
+
+    /**
+     * Append the given collection to the string builder as a JSON array.
+     *
+     * @param builder  A {@link StringBuilder} instance.
+     * @param c        A collection to be appended.
+     * @param indent   The current indentation.
+     */
+    private static void appendArray(StringBuilder builder, Collection<?> c,
+                                    String indent) {
+        if (c.isEmpty()) {
+            builder.append("[]");
+            return;
+        }
+
+        String child = indent + INDENT;
+        String sep = "[\n";
+        for (Object o: c) {
+            builder.append(sep).append(child);
+            append(builder, o, child);
+            sep = ",\n";
+        }
+        builder.append('\n').append(indent).append(']');
+    }
+
+    /**
+     * Append the given string to the string builder as a JSON string.
+     *
+     * @param builder  A {@link StringBuilder} instance.
+     * @param str      A string to be appended.
+     */
+    private static void appendString(StringBuilder builder, String str) {
+        builder.append('"');
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < ' ') {
+                builder.append(String.format("\\u%04x", (int)c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+}
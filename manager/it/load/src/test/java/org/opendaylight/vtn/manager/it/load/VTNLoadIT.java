@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.it.load;
+
+import static org.ops4j.pax.exam.CoreOptions.options;
+import static org.ops4j.pax.exam.CoreOptions.propagateSystemProperties;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.ops4j.pax.exam.Configuration;
+import org.ops4j.pax.exam.Option;
+import org.ops4j.pax.exam.junit.PaxExam;
+import org.ops4j.pax.exam.spi.reactors.ExamReactorStrategy;
+import org.ops4j.pax.exam.spi.reactors.PerClass;
+import org.ops4j.pax.exam.util.Filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.opendaylight.vtn.manager.IVTNManager;
+import org.opendaylight.vtn.manager.PacketStageStats;
+import org.opendaylight.vtn.manager.VBridgeConfig;
+import org.opendaylight.vtn.manager.VBridgePath;
+import org.opendaylight.vtn.manager.VTenant;
+import org.opendaylight.vtn.manager.VTenantPath;
+import org.opendaylight.vtn.manager.VlanMapConfig;
+
+import org.opendaylight.vtn.manager.it.ofmock.OfMockService;
+import org.opendaylight.vtn.manager.it.option.TestOption;
+import org.opendaylight.vtn.manager.it.util.ModelDrivenTestBase;
+
+import org.opendaylight.controller.sal.utils.Status;
+import org.opendaylight.controller.sal.utils.StatusCode;
+
+/**
+ * Load test for the VTN Manager on the openflowplugin mock-up.
+ *
+ * <p>
+ *   This test builds a switch fabric, maps all switches to one vBridge,
+ *   lets the VTN Manager learn the host population, and then drives
+ *   unicast PACKET_IN messages at the configured rate. The result is
+ *   written to a JSON report file. See {@link LoadConfig} for parameters.
+ * </p>
+ */
+@RunWith(PaxExam.class)
+@ExamReactorStrategy(PerClass.class)
+public final class VTNLoadIT extends ModelDrivenTestBase {
+    /**
+     * Logger instance.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(VTNLoadIT.class);
+
+    /**
+     * The number of milliseconds to wait for a host to be learned.
+     */
+    private static final long  LEARN_TIMEOUT_PER_HOST = 100L;
+
+    /**
+     * The minimum number of milliseconds to wait for hosts to be learned.
+     */
+    private static final long  LEARN_TIMEOUT_MIN = 10000L;
+
+    /**
+     * Interval in milliseconds to poll the MAC address table.
+     */
+    private static final long  LEARN_POLL_INTERVAL = 100L;
+
+    /**
+     * VTN Manager service.
+     */
+    @Inject
+    @Filter(timeout = OSGI_TIMEOUT)
+    private IVTNManager  vtnManager;
+
+    /**
+     * openflowplugin mock-up service.
+     */
+    @Inject
+    @Filter(timeout = OSGI_TIMEOUT)
+    private OfMockService  ofMockService;
+
+    /**
+     * Configure the OSGi container.
+     *
+     * @return  An array of test options.
+     */
+    @Configuration
+    public Option[] config() {
+        return options(
+            TestOption.vtnManagerCommonBundles(),
+            propagateSystemProperties(LoadConfig.getPropertyNames()));
+    }
+
+    /**
+     * Clean up the test environment.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @After
+    public void tearDown() throws Exception {
+        if (vtnManager == null) {
+            return;
+        }
+
+        vtnManager.setPacketStatsEnabled(false);
+        for (VTenant vtn: vtnManager.getTenants()) {
+            VTenantPath path = new VTenantPath(vtn.getName());
+            Status st = vtnManager.removeTenant(path);
+            assertEquals(StatusCode.SUCCESS, st.getCode());
+        }
+
+        ofMockService.clearTransmittedPacket();
+        ofMockService.reset();
+    }
+
+    /**
+     * Run the load test.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testLoad() throws Exception {
+        LoadConfig cfg = new LoadConfig();
+        LOG.info("Running testLoad(): {}", cfg);
+        ofMockService.initialize();
+
+        // Build the switch fabric.
+        long start = System.nanoTime();
+        FabricBuilder fabric = new FabricBuilder(ofMockService);
+        fabric.build(cfg);
+        long fabricTime = System.nanoTime() - start;
+
+        // Map all switches to a vBridge.
+        VTenantPath tpath = new VTenantPath("vtn_load");
+        VBridgePath bpath = new VBridgePath(tpath, "vbr");
+        assertEquals(StatusCode.SUCCESS,
+                     vtnManager.addTenant(tpath, null).getCode());
+        assertEquals(StatusCode.SUCCESS,
+                     vtnManager.addBridge(bpath, new VBridgeConfig(null)).
+                     getCode());
+        vtnManager.addVlanMap(bpath,
+                              new VlanMapConfig(null, LoadHost.VLAN_ID));
+
+        // Let the VTN Manager learn all hosts.
+        List<String> edgePorts = fabric.getEdgePorts();
+        List<LoadHost> hosts = new ArrayList<>(cfg.getHosts());
+        for (int i = 0; i < cfg.getHosts(); i++) {
+            hosts.add(new LoadHost(i, edgePorts.get(i % edgePorts.size())));
+        }
+
+        start = System.nanoTime();
+        for (LoadHost host: hosts) {
+            host.learn(ofMockService);
+        }
+        awaitLearned(bpath, hosts.size());
+        long learnTime = System.nanoTime() - start;
+        ofMockService.clearTransmittedPacket();
+
+        // Run the load with measuring latency in the VTN Manager.
+        Status st = vtnManager.setPacketStatsEnabled(true);
+        assertEquals(StatusCode.SUCCESS, st.getCode());
+        LoadGenerator gen = new LoadGenerator(ofMockService, cfg, hosts);
+        gen.run();
+        List<PacketStageStats> stages = vtnManager.getPacketStageStats(null);
+        vtnManager.setPacketStatsEnabled(false);
+        ofMockService.clearTransmittedPacket();
+
+        // Write the report.
+        Map<String, Object> fabricInfo = new LinkedHashMap<>();
+        fabricInfo.put("switches", fabric.getNodeIdentifiers().size());
+        fabricInfo.put("links", fabric.getLinkCount());
+        fabricInfo.put("edgePorts", edgePorts.size());
+        fabricInfo.put("hosts", hosts.size());
+        fabricInfo.put("buildMillis",
+                       TimeUnit.NANOSECONDS.toMillis(fabricTime));
+        fabricInfo.put("learnMillis",
+                       TimeUnit.NANOSECONDS.toMillis(learnTime));
+
+        LoadReport report = new LoadReport().
+            put("config", cfg.toMap()).
+            put("fabric", fabricInfo).
+            put("result", gen.getResult()).
+            put("stageLatencyMicros", toList(stages));
+        File file = report.write(cfg.getReportPath());
+        LOG.info("Load test report has been written to {}", file);
+
+        assertTrue("No PACKET_IN was sent.", gen.getSentCount() > 0);
+        assertTrue("No flow was installed.", gen.getInstalledCount() > 0);
+    }
+
+    /**
+     * Wait for the given number of hosts to be learned by the specified
+     * vBridge.
+     *
+     * @param bpath  Path to the vBridge.
+     * @param count  The number of hosts to be learned.
+     * @throws Exception  An error occurred.
+     */
+    private void awaitLearned(VBridgePath bpath, int count) throws Exception {
+        long timeout = Math.max(LEARN_TIMEOUT_MIN,
+                                LEARN_TIMEOUT_PER_HOST * count);
+        long deadline = System.currentTimeMillis() + timeout;
+        int learned = 0;
+        while (System.currentTimeMillis() < deadline) {
+            learned = vtnManager.getMacEntries(bpath).size();
+            if (learned >= count) {
+                LOG.info("{} hosts have been learned.", learned);
+                return;
+            }
+            Thread.sleep(LEARN_POLL_INTERVAL);
+        }
+
+        fail("Hosts were not learned: expected=" + count +
+             ", learned=" + learned);
+    }
+
+    /**
+     * Convert the given latency statistics into a list of maps.
+     *
+     * @param stages  A list of {@link PacketStageStats} instances.
+     * @return  A list of maps.
+     */
+    private List<Map<String, Object>> toList(List<PacketStageStats> stages) {
+        List<Map<String, Object>> list = new ArrayList<>(stages.size());
+        for (PacketStageStats pst: stages) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("stage", pst.getStage());
+            map.put("count", pst.getCount());
+            map.put("average", pst.getAverage());
+            map.put("max", pst.getMax());
+            map.put("p50", pst.getP50());
+            map.put("p90", pst.getP90());
+            map.put("p99", pst.getP99());
+            list.add(map);
+        }
+
+        return list;
+    }
+}
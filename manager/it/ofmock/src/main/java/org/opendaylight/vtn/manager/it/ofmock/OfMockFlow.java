@@ -82,4 +82,12 @@ public interface OfMockFlow {
      * @return  A {@link FlowModFlags} instance.
      */
     FlowModFlags getFlowModFlags();
+
+    /**
+     * Return the system time when this flow entry was installed.
+     *
+     * @return  The value of {@link System#nanoTime()} when this flow entry
+     *          was installed into the switch.
+     */
+    long getInstalledTime();
 }
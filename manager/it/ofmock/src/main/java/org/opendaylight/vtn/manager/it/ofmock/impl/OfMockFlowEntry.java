@@ -68,6 +68,11 @@ public final class OfMockFlowEntry implements OfMockFlow {
      */
     private final FlowModFlags  flowModFlags;
 
+    /**
+     * The system time in nanoseconds when this flow entry was created.
+     */
+    private final long  installedTime;
+
     /**
      * Construct a new instance.
      *
@@ -97,6 +102,7 @@ public final class OfMockFlowEntry implements OfMockFlow {
         flowMatch = flow.getMatch();
         flowInstructions = flow.getInstructions();
         flowModFlags = flow.getFlags();
+        installedTime = System.nanoTime();
     }
 
     /**
@@ -117,6 +123,7 @@ public final class OfMockFlowEntry implements OfMockFlow {
         flowMatch = match;
         flowInstructions = null;
         flowModFlags = null;
+        installedTime = 0L;
     }
 
     /**
@@ -261,4 +268,12 @@ public final class OfMockFlowEntry implements OfMockFlow {
     public FlowModFlags getFlowModFlags() {
         return flowModFlags;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getInstalledTime() {
+        return installedTime;
+    }
 }
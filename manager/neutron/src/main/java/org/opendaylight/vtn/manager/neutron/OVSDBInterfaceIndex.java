@@ -0,0 +1,442 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.neutron;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.opendaylight.controller.sal.core.Node;
+
+/**
+ * {@code OVSDBInterfaceIndex} keeps the relationship between OVSDB
+ * interface, port, and bridge rows for each OVSDB node.
+ *
+ * <p>
+ *   This index is updated incrementally by OVSDB row events, and resolves
+ *   the port and the datapath ID associated with an interface UUID without
+ *   scanning OVSDB tables.
+ * </p>
+ */
+final class OVSDBInterfaceIndex {
+    /**
+     * Indices for OVSDB nodes.
+     */
+    private final Map<Node, NodeIndex>  nodeIndices =
+        new HashMap<Node, NodeIndex>();
+
+    /**
+     * Index of OVSDB rows in a single OVSDB node.
+     */
+    private static final class NodeIndex {
+        /**
+         * A map which keeps datapath IDs of bridges.
+         */
+        private final Map<String, String>  bridgeDpids =
+            new HashMap<String, String>();
+
+        /**
+         * A map which keeps port UUIDs in each bridge.
+         */
+        private final Map<String, Set<String>>  bridgePorts =
+            new HashMap<String, Set<String>>();
+
+        /**
+         * A map which keeps the bridge UUID associated with each port.
+         */
+        private final Map<String, String>  portBridges =
+            new HashMap<String, String>();
+
+        /**
+         * A map which keeps interface UUIDs in each port.
+         */
+        private final Map<String, Set<String>>  portInterfaces =
+            new HashMap<String, Set<String>>();
+
+        /**
+         * A map which keeps names of ports.
+         */
+        private final Map<String, String>  portNames =
+            new HashMap<String, String>();
+
+        /**
+         * A map which keeps the port UUID associated with each interface.
+         */
+        private final Map<String, String>  interfacePorts =
+            new HashMap<String, String>();
+
+        /**
+         * Determine whether this index is empty or not.
+         *
+         * @return  {@code true} only if this index is empty.
+         */
+        private boolean isEmpty() {
+            return (bridgeDpids.isEmpty() && bridgePorts.isEmpty() &&
+                    portBridges.isEmpty() && portInterfaces.isEmpty() &&
+                    portNames.isEmpty() && interfacePorts.isEmpty());
+        }
+
+        /**
+         * Return the port UUID associated with the given interface.
+         *
+         * @param ifUuid  The UUID of the interface.
+         * @return  The port UUID, or {@code null} if not found.
+         */
+        private String getPort(String ifUuid) {
+            return interfacePorts.get(ifUuid);
+        }
+
+        /**
+         * Return the datapath ID associated with the given interface.
+         *
+         * @param ifUuid  The UUID of the interface.
+         * @return  The datapath ID, or {@code null} if not found.
+         */
+        private String getDatapathId(String ifUuid) {
+            String port = interfacePorts.get(ifUuid);
+            if (port != null) {
+                String bridge = portBridges.get(port);
+                if (bridge != null) {
+                    return bridgeDpids.get(bridge);
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Set the datapath ID of the given bridge.
+         *
+         * @param uuid  The UUID of the bridge.
+         * @param dpid  The datapath ID. {@code null} means that the bridge
+         *              has no datapath ID.
+         */
+        private void setDatapathId(String uuid, String dpid) {
+            if (dpid == null) {
+                bridgeDpids.remove(uuid);
+            } else {
+                bridgeDpids.put(uuid, dpid);
+            }
+        }
+
+        /**
+         * Set port UUIDs in the given bridge.
+         *
+         * @param uuid   The UUID of the bridge.
+         * @param ports  A set of port UUIDs in the bridge.
+         */
+        private void setBridgePorts(String uuid, Set<String> ports) {
+            Set<String> old = bridgePorts.put(uuid, ports);
+            if (old != null) {
+                for (String port: old) {
+                    if (!ports.contains(port) &&
+                        uuid.equals(portBridges.get(port))) {
+                        portBridges.remove(port);
+                    }
+                }
+            }
+            for (String port: ports) {
+                portBridges.put(port, uuid);
+            }
+        }
+
+        /**
+         * Set interface UUIDs in the given port.
+         *
+         * @param uuid  The UUID of the port.
+         * @param ifs   A set of interface UUIDs in the port.
+         */
+        private void setPortInterfaces(String uuid, Set<String> ifs) {
+            Set<String> old = portInterfaces.put(uuid, ifs);
+            if (old != null) {
+                for (String intf: old) {
+                    if (!ifs.contains(intf) &&
+                        uuid.equals(interfacePorts.get(intf))) {
+                        interfacePorts.remove(intf);
+                    }
+                }
+            }
+            for (String intf: ifs) {
+                interfacePorts.put(intf, uuid);
+            }
+        }
+
+        /**
+         * Set the name of the given port.
+         *
+         * @param uuid  The UUID of the port.
+         * @param name  The name of the port.
+         */
+        private void setPortName(String uuid, String name) {
+            if (name == null) {
+                portNames.remove(uuid);
+            } else {
+                portNames.put(uuid, name);
+            }
+        }
+
+        /**
+         * Add the given link between an interface, port, and bridge.
+         *
+         * @param ifUuid  The UUID of the interface.
+         * @param port    The UUID of the port.
+         * @param name    The name of the port.
+         *                {@code null} means that the name is not changed.
+         * @param bridge  The UUID of the bridge.
+         * @param dpid    The datapath ID of the bridge.
+         */
+        private void addLink(String ifUuid, String port, String name,
+                             String bridge, String dpid) {
+            Set<String> ports = bridgePorts.get(bridge);
+            if (ports == null) {
+                ports = new HashSet<String>();
+                bridgePorts.put(bridge, ports);
+            }
+            ports.add(port);
+            portBridges.put(port, bridge);
+
+            Set<String> ifs = portInterfaces.get(port);
+            if (ifs == null) {
+                ifs = new HashSet<String>();
+                portInterfaces.put(port, ifs);
+            }
+            ifs.add(ifUuid);
+            interfacePorts.put(ifUuid, port);
+            if (name != null) {
+                setPortName(port, name);
+            }
+            setDatapathId(bridge, dpid);
+        }
+
+        /**
+         * Remove the given bridge.
+         *
+         * @param uuid  The UUID of the bridge.
+         */
+        private void removeBridge(String uuid) {
+            bridgeDpids.remove(uuid);
+            Set<String> ports = bridgePorts.remove(uuid);
+            if (ports != null) {
+                for (String port: ports) {
+                    if (uuid.equals(portBridges.get(port))) {
+                        portBridges.remove(port);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Remove the given port.
+         *
+         * @param uuid  The UUID of the port.
+         */
+        private void removePort(String uuid) {
+            portBridges.remove(uuid);
+            portNames.remove(uuid);
+            Set<String> ifs = portInterfaces.remove(uuid);
+            if (ifs != null) {
+                for (String intf: ifs) {
+                    if (uuid.equals(interfacePorts.get(intf))) {
+                        interfacePorts.remove(intf);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Remove the given interface.
+         *
+         * @param uuid  The UUID of the interface.
+         */
+        private void removeInterface(String uuid) {
+            String port = interfacePorts.remove(uuid);
+            if (port != null) {
+                Set<String> ifs = portInterfaces.get(port);
+                if (ifs != null) {
+                    ifs.remove(uuid);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the index for the given node.
+     *
+     * @param node    An OVSDB node.
+     * @param create  If {@code true}, a new index is created if not found.
+     * @return  A {@link NodeIndex} instance, or {@code null} if not found.
+     */
+    private NodeIndex getIndex(Node node, boolean create) {
+        NodeIndex index = nodeIndices.get(node);
+        if (index == null && create) {
+            index = new NodeIndex();
+            nodeIndices.put(node, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Remove the index for the given node if it is empty.
+     *
+     * @param node   An OVSDB node.
+     * @param index  The index for the given node.
+     */
+    private void cleanup(Node node, NodeIndex index) {
+        if (index.isEmpty()) {
+            nodeIndices.remove(node);
+        }
+    }
+
+    /**
+     * Return the datapath ID of the bridge which contains the given
+     * interface.
+     *
+     * @param node    An OVSDB node.
+     * @param ifUuid  The UUID of the interface.
+     * @return  The datapath ID of the bridge, or {@code null} if not found.
+     */
+    synchronized String getDatapathId(Node node, String ifUuid) {
+        NodeIndex index = getIndex(node, false);
+        return (index == null) ? null : index.getDatapathId(ifUuid);
+    }
+
+    /**
+     * Return the name of the port which contains the given interface.
+     *
+     * @param node    An OVSDB node.
+     * @param ifUuid  The UUID of the interface.
+     * @return  The name of the port, or {@code null} if not found.
+     */
+    synchronized String getPortName(Node node, String ifUuid) {
+        NodeIndex index = getIndex(node, false);
+        if (index != null) {
+            String port = index.getPort(ifUuid);
+            if (port != null) {
+                return index.portNames.get(port);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Update the bridge in the index.
+     *
+     * @param node   An OVSDB node.
+     * @param uuid   The UUID of the bridge.
+     * @param ports  A set of port UUIDs in the bridge.
+     *               {@code null} means that the ports are not changed.
+     * @param dpid   The datapath ID of the bridge.
+     */
+    synchronized void updateBridge(Node node, String uuid, Set<String> ports,
+                                   String dpid) {
+        NodeIndex index = getIndex(node, true);
+        if (ports != null) {
+            index.setBridgePorts(uuid, ports);
+        }
+        index.setDatapathId(uuid, dpid);
+        cleanup(node, index);
+    }
+
+    /**
+     * Update the port in the index.
+     *
+     * @param node  An OVSDB node.
+     * @param uuid  The UUID of the port.
+     * @param ifs   A set of interface UUIDs in the port.
+     *              {@code null} means that the interfaces are not changed.
+     * @param name  The name of the port.
+     *              {@code null} means that the name is not changed.
+     */
+    synchronized void updatePort(Node node, String uuid, Set<String> ifs,
+                                 String name) {
+        NodeIndex index = getIndex(node, true);
+        if (ifs != null) {
+            index.setPortInterfaces(uuid, ifs);
+        }
+        if (name != null) {
+            index.setPortName(uuid, name);
+        }
+        cleanup(node, index);
+    }
+
+    /**
+     * Add the link between the given interface, port, and bridge.
+     *
+     * <p>
+     *   This method is used to record the result of a full table scan.
+     * </p>
+     *
+     * @param node    An OVSDB node.
+     * @param ifUuid  The UUID of the interface.
+     * @param port    The UUID of the port.
+     * @param name    The name of the port.
+     *                {@code null} means that the name is not changed.
+     * @param bridge  The UUID of the bridge.
+     * @param dpid    The datapath ID of the bridge.
+     */
+    synchronized void addLink(Node node, String ifUuid, String port,
+                              String name, String bridge, String dpid) {
+        getIndex(node, true).addLink(ifUuid, port, name, bridge, dpid);
+    }
+
+    /**
+     * Remove the given bridge from the index.
+     *
+     * @param node  An OVSDB node.
+     * @param uuid  The UUID of the bridge.
+     */
+    synchronized void removeBridge(Node node, String uuid) {
+        NodeIndex index = getIndex(node, false);
+        if (index != null) {
+            index.removeBridge(uuid);
+            cleanup(node, index);
+        }
+    }
+
+    /**
+     * Remove the given port from the index.
+     *
+     * @param node  An OVSDB node.
+     * @param uuid  The UUID of the port.
+     */
+    synchronized void removePort(Node node, String uuid) {
+        NodeIndex index = getIndex(node, false);
+        if (index != null) {
+            index.removePort(uuid);
+            cleanup(node, index);
+        }
+    }
+
+    /**
+     * Remove the given interface from the index.
+     *
+     * @param node  An OVSDB node.
+     * @param uuid  The UUID of the interface.
+     */
+    synchronized void removeInterface(Node node, String uuid) {
+        NodeIndex index = getIndex(node, false);
+        if (index != null) {
+            index.removeInterface(uuid);
+            cleanup(node, index);
+        }
+    }
+
+    /**
+     * Remove all rows in the given node from the index.
+     *
+     * @param node  An OVSDB node.
+     */
+    synchronized void removeNode(Node node) {
+        nodeIndices.remove(node);
+    }
+}
@@ -9,6 +9,7 @@
 
 package org.opendaylight.vtn.manager.neutron;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
@@ -154,6 +155,12 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
      */
     private static final int RADIX_FOR_STRING = 16;
 
+    /**
+     * Index which maps an interface UUID to the port and the bridge.
+     */
+    private final OVSDBInterfaceIndex interfaceIndex =
+        new OVSDBInterfaceIndex();
+
     /**
      * Set neutron port service.
      * @param service An Instance of INeutronPortCRUD to be set.
@@ -294,6 +301,7 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
     @Override
     public void nodeRemoved(Node node) {
         LOG.trace("nodeRemoved() - {}", node.toString());
+        interfaceIndex.removeNode(node);
     }
 
     /**
@@ -307,6 +315,7 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
     public void rowAdded(Node node, String tableName, String uuid, Row row) {
         LOG.trace("rowAdded() - {}", node.toString());
         logRowEventInfo(tableName, uuid, row);
+        updateInterfaceIndex(node, tableName, uuid, row);
     }
 
     /**
@@ -321,6 +330,7 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
     public void rowUpdated(Node node, String tableName, String uuid, Row oldRow, Row newRow) {
         LOG.trace("rowUpdated() - {}", node.toString());
         logRowEventInfo(tableName, uuid, newRow);
+        updateInterfaceIndex(node, tableName, uuid, newRow);
         if (this.isUpdateOfInterest(node, oldRow, newRow)) {
             processRowUpdated(node, tableName, uuid, newRow);
         }
@@ -338,9 +348,94 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
     public void rowRemoved(Node node, String tableName, String uuid, Row row, Object obj) {
         LOG.trace("rowRemoved() - {}", node.toString());
         logRowEventInfo(tableName, uuid, row);
+        removeFromInterfaceIndex(node, tableName, uuid);
         processRowRemoved(node, tableName, uuid, row);
     }
 
+    /**
+     * Update the interface index with the given Bridge or Port row.
+     * @param node Instance of Node.
+     * @param tableName Name of the table.
+     * @param uuid unique identifier value.
+     * @param row Instance of Table Row.
+     */
+    private void updateInterfaceIndex(Node node, String tableName, String uuid, Row row) {
+        if (uuid == null || tableName == null || row == null ||
+            ovsdbConfigService == null) {
+            return;
+        }
+
+        try {
+            if (tableName.equalsIgnoreCase(ovsdbConfigService.getTableName(node, Bridge.class))) {
+                Bridge br = ovsdbConfigService.getTypedRow(node, Bridge.class, row);
+                if (br != null) {
+                    Set<String> ports = null;
+                    if (br.getPortsColumn() != null) {
+                        ports = toStringSet(br.getPortsColumn().getData());
+                    }
+                    String dpid = null;
+                    if (br.getDatapathIdColumn() != null) {
+                        Set<String> dpids = br.getDatapathIdColumn().getData();
+                        if (dpids != null && !dpids.isEmpty()) {
+                            dpid = dpids.iterator().next();
+                        }
+                    }
+                    interfaceIndex.updateBridge(node, uuid, ports, dpid);
+                }
+            } else if (tableName.equalsIgnoreCase(ovsdbConfigService.getTableName(node, Port.class))) {
+                Port port = ovsdbConfigService.getTypedRow(node, Port.class, row);
+                if (port != null) {
+                    Set<String> ifs = null;
+                    if (port.getInterfacesColumn() != null) {
+                        ifs = toStringSet(port.getInterfacesColumn().getData());
+                    }
+                    String name = (port.getNameColumn() == null)
+                        ? null : port.getName();
+                    interfaceIndex.updatePort(node, uuid, ifs, name);
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Failed to update interface index: table={}, uuid={}",
+                     tableName, uuid, e);
+        }
+    }
+
+    /**
+     * Remove the given row from the interface index.
+     * @param node Instance of Node.
+     * @param tableName Name of the table.
+     * @param uuid unique identifier value.
+     */
+    private void removeFromInterfaceIndex(Node node, String tableName, String uuid) {
+        if (uuid == null || tableName == null || ovsdbConfigService == null) {
+            return;
+        }
+
+        if (tableName.equalsIgnoreCase(ovsdbConfigService.getTableName(node, Bridge.class))) {
+            interfaceIndex.removeBridge(node, uuid);
+        } else if (tableName.equalsIgnoreCase(ovsdbConfigService.getTableName(node, Port.class))) {
+            interfaceIndex.removePort(node, uuid);
+        } else if (tableName.equalsIgnoreCase(ovsdbConfigService.getTableName(node, Interface.class))) {
+            interfaceIndex.removeInterface(node, uuid);
+        }
+    }
+
+    /**
+     * Convert the given set of UUIDs into a set of strings.
+     * @param uuids A set of UUIDs.
+     * @return A set of UUID strings.
+     *         An empty set is returned if {@code uuids} is {@code null}.
+     */
+    private Set<String> toStringSet(Set<UUID> uuids) {
+        Set<String> set = new HashSet<String>();
+        if (uuids != null) {
+            for (UUID id: uuids) {
+                set.add(id.toString());
+            }
+        }
+        return set;
+    }
+
     /**
      * Ignore unneccesary updates to be even considered for processing.
      * @param node A {@link Node} instance.
@@ -509,6 +604,12 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
 
     /**
      * Get SwitchId From Interface for the given node and interface uuid.
+     *
+     * <p>
+     *   The switch ID is resolved by the interface index. OVSDB tables are
+     *   scanned only if the interface is not yet indexed.
+     * </p>
+     *
      * @param node Instance of Node to get switch id.
      * @param interfaceUuid unique identifier value.
      * @return switch Id.
@@ -518,10 +619,17 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
             LOG.error("Node or interface Uuid is Null");
             return null;
         }
+
+        String dpid = interfaceIndex.getDatapathId(node, interfaceUuid);
+        if (dpid != null) {
+            LOG.trace("datapath Id of interface {} is {}", interfaceUuid, dpid);
+            return dpid;
+        }
+
         try {
             ConcurrentMap<String, Row> map = ovsdbConfigService.getRows(node, ovsdbConfigService.getTableName(node, Bridge.class));
-            for (Row row: map.values()) {
-                Bridge br = ovsdbConfigService.getTypedRow(node, Bridge.class, row);
+            for (Map.Entry<String, Row> entry: map.entrySet()) {
+                Bridge br = ovsdbConfigService.getTypedRow(node, Bridge.class, entry.getValue());
                 Set<UUID> ports = br.getPortsColumn().getData();
                 for (UUID portId: ports) {
                     Port port = ovsdbConfigService.getTypedRow(node, Port.class, ovsdbConfigService.getRow(node, "Port", portId.toString()));
@@ -535,7 +643,13 @@ public class OVSDBPluginEventHandler extends VTNNeutronUtils implements OvsdbInv
                     Set<UUID> interfaces = port.getInterfacesColumn().getData();
                     for (UUID intfIds: interfaces) {
                         if (intfIds.toString().equals(interfaceUuid)) {
-                            return getDataPathIdFromBridge(br);
+                            dpid = getDataPathIdFromBridge(br);
+                            if (dpid != null) {
+                                String name = (port.getNameColumn() == null)
+                                    ? null : port.getName();
+                                interfaceIndex.addLink(node, interfaceUuid, portId.toString(), name, entry.getKey(), dpid);
+                            }
+                            return dpid;
                         }
                     }
                 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.neutron;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opendaylight.controller.sal.core.Node;
+
+/**
+ * JUnit test for {@link OVSDBInterfaceIndex}.
+ */
+public class OVSDBInterfaceIndexTest extends TestBase {
+    /**
+     * Create a set of strings.
+     *
+     * @param strings  Strings to be added.
+     * @return  A set of the given strings.
+     */
+    private Set<String> toSet(String ... strings) {
+        Set<String> set = new HashSet<String>();
+        for (String s: strings) {
+            set.add(s);
+        }
+        return set;
+    }
+
+    /**
+     * Test case for updating bridge and port rows.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testUpdate() throws Exception {
+        OVSDBInterfaceIndex index = new OVSDBInterfaceIndex();
+        Node node = new Node(OPENFLOW, Long.valueOf(1L));
+        Node other = new Node(OPENFLOW, Long.valueOf(2L));
+
+        assertNull(index.getDatapathId(node, "if1"));
+        assertNull(index.getPortName(node, "if1"));
+
+        // Port row may be notified before the bridge row.
+        index.updatePort(node, "port1", toSet("if1", "if2"), "tap1");
+        assertNull(index.getDatapathId(node, "if1"));
+        assertEquals("tap1", index.getPortName(node, "if1"));
+        assertEquals("tap1", index.getPortName(node, "if2"));
+
+        index.updateBridge(node, "br1", toSet("port1", "port2"), "00000001");
+        assertEquals("00000001", index.getDatapathId(node, "if1"));
+        assertEquals("00000001", index.getDatapathId(node, "if2"));
+        assertNull(index.getDatapathId(node, "if3"));
+        assertNull(index.getDatapathId(other, "if1"));
+
+        index.updatePort(node, "port2", toSet("if3"), "tap2");
+        assertEquals("00000001", index.getDatapathId(node, "if3"));
+        assertEquals("tap2", index.getPortName(node, "if3"));
+
+        // Null columns must not change the index.
+        index.updatePort(node, "port2", null, null);
+        assertEquals("tap2", index.getPortName(node, "if3"));
+        index.updateBridge(node, "br1", null, "00000002");
+        assertEquals("00000002", index.getDatapathId(node, "if3"));
+
+        // Move if2 from port1 to port2.
+        index.updatePort(node, "port2", toSet("if2", "if3"), null);
+        index.updatePort(node, "port1", toSet("if1"), null);
+        assertEquals("tap2", index.getPortName(node, "if2"));
+        assertEquals("tap1", index.getPortName(node, "if1"));
+
+        // Remove port2 from the bridge.
+        index.updateBridge(node, "br1", toSet("port1"), "00000002");
+        assertEquals("00000002", index.getDatapathId(node, "if1"));
+        assertNull(index.getDatapathId(node, "if2"));
+        assertNull(index.getDatapathId(node, "if3"));
+        assertEquals("tap2", index.getPortName(node, "if3"));
+    }
+
+    /**
+     * Test case for removing rows.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testRemove() throws Exception {
+        OVSDBInterfaceIndex index = new OVSDBInterfaceIndex();
+        Node node = new Node(OPENFLOW, Long.valueOf(1L));
+
+        index.updateBridge(node, "br1", toSet("port1", "port2"), "1");
+        index.updatePort(node, "port1", toSet("if1"), "tap1");
+        index.updatePort(node, "port2", toSet("if2"), "tap2");
+
+        index.removeInterface(node, "if1");
+        assertNull(index.getDatapathId(node, "if1"));
+        assertNull(index.getPortName(node, "if1"));
+        assertEquals("1", index.getDatapathId(node, "if2"));
+
+        index.removePort(node, "port2");
+        assertNull(index.getDatapathId(node, "if2"));
+        assertNull(index.getPortName(node, "if2"));
+
+        index.updatePort(node, "port1", toSet("if1"), "tap1");
+        assertEquals("1", index.getDatapathId(node, "if1"));
+        index.removeBridge(node, "br1");
+        assertNull(index.getDatapathId(node, "if1"));
+        assertEquals("tap1", index.getPortName(node, "if1"));
+
+        index.removeNode(node);
+        assertNull(index.getPortName(node, "if1"));
+
+        // Removing unknown rows must be ignored.
+        index.removeBridge(node, "br1");
+        index.removePort(node, "port1");
+        index.removeInterface(node, "if1");
+    }
+
+    /**
+     * Test case for {@link OVSDBInterfaceIndex#addLink(Node, String, String, String, String, String)}.
+     *
+     * @throws Exception  An error occurred.
+     */
+    @Test
+    public void testAddLink() throws Exception {
+        OVSDBInterfaceIndex index = new OVSDBInterfaceIndex();
+        Node node = new Node(OPENFLOW, Long.valueOf(1L));
+
+        index.addLink(node, "if1", "port1", "tap1", "br1", "10");
+        index.addLink(node, "if2", "port2", null, "br1", "10");
+        assertEquals("10", index.getDatapathId(node, "if1"));
+        assertEquals("10", index.getDatapathId(node, "if2"));
+        assertEquals("tap1", index.getPortName(node, "if1"));
+        assertNull(index.getPortName(node, "if2"));
+
+        // A null name must not clear the learned port name.
+        index.addLink(node, "if1", "port1", null, "br1", "10");
+        assertEquals("tap1", index.getPortName(node, "if1"));
+
+        // Subsequent row events must override learned links.
+        index.updateBridge(node, "br1", toSet("port1"), "10");
+        assertEquals("10", index.getDatapathId(node, "if1"));
+        assertNull(index.getDatapathId(node, "if2"));
+    }
+}
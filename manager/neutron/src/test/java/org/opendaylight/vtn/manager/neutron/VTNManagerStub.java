@@ -20,9 +20,11 @@ import org.opendaylight.controller.sal.utils.Status;
 import org.opendaylight.controller.sal.utils.StatusCode;
 import org.opendaylight.vtn.manager.DataLinkHost;
 import org.opendaylight.vtn.manager.IVTNManager;
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.MacAddressEntry;
 import org.opendaylight.vtn.manager.MacMap;
 import org.opendaylight.vtn.manager.MacMapConfig;
+import org.opendaylight.vtn.manager.PacketStageStats;
 import org.opendaylight.vtn.manager.PathMap;
 import org.opendaylight.vtn.manager.PathPolicy;
 import org.opendaylight.vtn.manager.PortLocation;
@@ -459,6 +461,13 @@ public class VTNManagerStub implements IVTNManager {
         return null;
     }
 
+    @Override
+    public ListPage<MacAddressEntry> getMacEntries(VBridgePath path,
+                                                   String cursor, int limit)
+        throws VTNException {
+        return null;
+    }
+
     @Override
     public MacAddressEntry getMacEntry(VBridgePath path, DataLinkAddress addr) throws VTNException {
         return null;
@@ -480,6 +489,14 @@ public class VTNManagerStub implements IVTNManager {
         return null;
     }
 
+    @Override
+    public ListPage<DataFlow> getDataFlows(VTenantPath path, DataFlowMode mode,
+                                           DataFlowFilter filter, int interval,
+                                           String cursor, int limit)
+        throws VTNException {
+        return null;
+    }
+
     @Override
     public DataFlow getDataFlow(VTenantPath path, long flowId,
                                 DataFlowMode mode, int interval)
@@ -660,4 +677,19 @@ public class VTNManagerStub implements IVTNManager {
     public Status clearFlowFilter(FlowFilterId fid) {
         return null;
     }
+
+    @Override
+    public boolean isPacketStatsEnabled() {
+        return false;
+    }
+
+    @Override
+    public Status setPacketStatsEnabled(boolean enabled) {
+        return null;
+    }
+
+    @Override
+    public List<PacketStageStats> getPacketStageStats(VTenantPath path) throws VTNException {
+        return null;
+    }
 }
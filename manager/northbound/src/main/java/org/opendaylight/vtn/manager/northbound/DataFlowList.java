@@ -13,6 +13,7 @@ import java.util.List;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -232,6 +233,21 @@ public class DataFlowList {
     @XmlElement(name = "dataflow")
     private List<DataFlow>  dataFlows;
 
+    /**
+     * A continuation token which specifies the next page.
+     *
+     * <ul>
+     *   <li>
+     *     This attribute is set only if the number of data flows is limited
+     *     by <strong>limit</strong> query parameter, and more data flows
+     *     are available. The rest of data flows can be retrieved by
+     *     specifying this value to <strong>cursor</strong> query parameter.
+     *   </li>
+     * </ul>
+     */
+    @XmlAttribute(name = "next")
+    private String  next;
+
     /**
      * Default constructor.
      */
@@ -247,6 +263,18 @@ public class DataFlowList {
         dataFlows = list;
     }
 
+    /**
+     * Construct a chunk of the list of data flows.
+     *
+     * @param list    A list of data flow information.
+     * @param cursor  A continuation token which specifies the next page.
+     *                {@code null} means that no more data flow is present.
+     */
+    public DataFlowList(List<DataFlow> list, String cursor) {
+        dataFlows = list;
+        next = cursor;
+    }
+
     /**
      * Return a list of data flow information.
      *
@@ -256,6 +284,15 @@ public class DataFlowList {
         return dataFlows;
     }
 
+    /**
+     * Return a continuation token which specifies the next page.
+     *
+     * @return  A continuation token, or {@code null}.
+     */
+    String getNext() {
+        return next;
+    }
+
     /**
      * Determine whether the given object is identical to this object.
      *
@@ -268,7 +305,16 @@ public class DataFlowList {
             return false;
         }
 
-        List<DataFlow> list = ((DataFlowList)o).dataFlows;
+        DataFlowList dlist = (DataFlowList)o;
+        if (next == null) {
+            if (dlist.next != null) {
+                return false;
+            }
+        } else if (!next.equals(dlist.next)) {
+            return false;
+        }
+
+        List<DataFlow> list = dlist.dataFlows;
         if (dataFlows == null || dataFlows.isEmpty()) {
             return (list == null || list.isEmpty());
         }
@@ -287,6 +333,9 @@ public class DataFlowList {
         if (dataFlows != null && !dataFlows.isEmpty()) {
             h ^= dataFlows.hashCode();
         }
+        if (next != null) {
+            h += next.hashCode();
+        }
 
         return h;
     }
@@ -38,6 +38,7 @@ import org.opendaylight.controller.sal.utils.Status;
 import org.opendaylight.vtn.manager.EthernetHost;
 import org.opendaylight.vtn.manager.IVTNFlowDebugger;
 import org.opendaylight.vtn.manager.IVTNManager;
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.SwitchPort;
 import org.opendaylight.vtn.manager.VTNException;
 import org.opendaylight.vtn.manager.VTenantPath;
@@ -162,6 +163,30 @@ public class FlowNorthbound extends VTNNorthBoundBase {
      *        is specified.
      *      </li>
      *    </ul>
+     * @param cursor
+     *    A continuation token returned by the previous request in
+     *    <strong>next</strong> attribute of <strong>dataflows</strong>
+     *    element.
+     *    <ul>
+     *      <li>
+     *        If omitted, data flows are returned from the beginning.
+     *      </li>
+     *    </ul>
+     * @param limit
+     *    The maximum number of data flows to be returned.
+     *    <ul>
+     *      <li>
+     *        Data flows are returned in ascending order of flow identifier.
+     *      </li>
+     *      <li>
+     *        If more data flows are available, a continuation token is set
+     *        to <strong>next</strong> attribute of <strong>dataflows</strong>
+     *        element.
+     *      </li>
+     *      <li>
+     *        The default value is <strong>0</strong>, which means no limit.
+     *      </li>
+     *    </ul>
      * @return
      *    <strong>dataflows</strong> element contains summarized information
      *    about all data flows present in the VTN specified by the requested
@@ -184,7 +209,8 @@ public class FlowNorthbound extends VTNNorthBoundBase {
                       condition = "Operation completed successfully."),
         @ResponseCode(code = HTTP_BAD_REQUEST,
                       condition = "Value specified in query parameter has " +
-                      "an invalid format."),
+                      "an invalid format, or an invalid continuation token " +
+                      "is specified."),
         @ResponseCode(code = HTTP_UNAUTHORIZED,
                       condition = "User is not authorized to perform this " +
                       "operation."),
@@ -207,7 +233,9 @@ public class FlowNorthbound extends VTNNorthBoundBase {
             @QueryParam("node") String nodeStr,
             @QueryParam("portType") String portType,
             @QueryParam("portId") String portId,
-            @QueryParam("portName") String portName) {
+            @QueryParam("portName") String portName,
+            @QueryParam("cursor") String cursor,
+            @DefaultValue("0") @QueryParam("limit") int limit) {
         checkPrivilege(containerName, Privilege.READ);
 
         IVTNManager mgr = getVTNManager(containerName);
@@ -215,8 +243,10 @@ public class FlowNorthbound extends VTNNorthBoundBase {
         DataFlowFilter filter = createFilter(srcMac, srcVlan, nodeStr,
                                              portType, portId, portName);
         try {
-            return new DataFlowList(
-                mgr.getDataFlows(path, DataFlowMode.SUMMARY, filter, -1));
+            ListPage<DataFlow> page =
+                mgr.getDataFlows(path, DataFlowMode.SUMMARY, filter, -1,
+                                 cursor, limit);
+            return new DataFlowList(page.getEntries(), page.getNextCursor());
         } catch (VTNException e) {
             throw getException(e.getStatus());
         }
@@ -424,6 +454,30 @@ public class FlowNorthbound extends VTNNorthBoundBase {
      *       <strong>dataflow</strong> element.
      *     </li>
      *   </ul>
+     * @param cursor
+     *    A continuation token returned by the previous request in
+     *    <strong>next</strong> attribute of <strong>dataflows</strong>
+     *    element.
+     *    <ul>
+     *      <li>
+     *        If omitted, data flows are returned from the beginning.
+     *      </li>
+     *    </ul>
+     * @param limit
+     *    The maximum number of data flows to be returned.
+     *    <ul>
+     *      <li>
+     *        Data flows are returned in ascending order of flow identifier.
+     *      </li>
+     *      <li>
+     *        If more data flows are available, a continuation token is set
+     *        to <strong>next</strong> attribute of <strong>dataflows</strong>
+     *        element.
+     *      </li>
+     *      <li>
+     *        The default value is <strong>0</strong>, which means no limit.
+     *      </li>
+     *    </ul>
      * @return
      *    <strong>dataflows</strong> element contains detailed information
      *    about all data flows present in the VTN specified by the requested
@@ -438,7 +492,8 @@ public class FlowNorthbound extends VTNNorthBoundBase {
                       condition = "Operation completed successfully."),
         @ResponseCode(code = HTTP_BAD_REQUEST,
                       condition = "Value specified in query parameter has " +
-                      "an invalid format."),
+                      "an invalid format, or an invalid continuation token " +
+                      "is specified."),
         @ResponseCode(code = HTTP_UNAUTHORIZED,
                       condition = "User is not authorized to perform this " +
                       "operation."),
@@ -463,7 +518,9 @@ public class FlowNorthbound extends VTNNorthBoundBase {
             @QueryParam("portId") String portId,
             @QueryParam("portName") String portName,
             @DefaultValue("false") @QueryParam("update") boolean update,
-            @DefaultValue("10") @QueryParam("interval") int interval) {
+            @DefaultValue("10") @QueryParam("interval") int interval,
+            @QueryParam("cursor") String cursor,
+            @DefaultValue("0") @QueryParam("limit") int limit) {
         checkPrivilege(containerName, Privilege.READ);
 
         IVTNManager mgr = getVTNManager(containerName);
@@ -474,8 +531,9 @@ public class FlowNorthbound extends VTNNorthBoundBase {
             ? DataFlowMode.UPDATESTATS
             : DataFlowMode.DETAIL;
         try {
-            return new DataFlowList(mgr.getDataFlows(path, mode, filter,
-                                                     interval));
+            ListPage<DataFlow> page =
+                mgr.getDataFlows(path, mode, filter, interval, cursor, limit);
+            return new DataFlowList(page.getEntries(), page.getNextCursor());
         } catch (VTNException e) {
             throw getException(e.getStatus());
         }
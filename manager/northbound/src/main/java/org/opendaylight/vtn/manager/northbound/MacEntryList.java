@@ -14,6 +14,7 @@ import java.util.ArrayList;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -86,6 +87,21 @@ public class MacEntryList {
     @XmlElement(name = "macentry")
     private List<MacEntry>  entries;
 
+    /**
+     * A continuation token which specifies the next page.
+     *
+     * <ul>
+     *   <li>
+     *     This attribute is set only if the number of MAC address entries
+     *     is limited by <strong>limit</strong> query parameter, and more
+     *     entries are available. The rest of entries can be retrieved by
+     *     specifying this value to <strong>cursor</strong> query parameter.
+     *   </li>
+     * </ul>
+     */
+    @XmlAttribute(name = "next")
+    private String  next;
+
     /**
      * Default constructor.
      */
@@ -107,6 +123,18 @@ public class MacEntryList {
         }
     }
 
+    /**
+     * Construct a chunk of the list of MAC address table entries.
+     *
+     * @param list    A list of MAC address table entries.
+     * @param cursor  A continuation token which specifies the next page.
+     *                {@code null} means that no more entry is present.
+     */
+    public MacEntryList(List<MacAddressEntry> list, String cursor) {
+        this(list);
+        next = cursor;
+    }
+
     /**
      * Return a list of MAC address table entries.
      *
@@ -116,6 +144,15 @@ public class MacEntryList {
         return entries;
     }
 
+    /**
+     * Return a continuation token which specifies the next page.
+     *
+     * @return  A continuation token, or {@code null}.
+     */
+    String getNext() {
+        return next;
+    }
+
     /**
      * Determine whether the given object is identical to this object.
      *
@@ -131,7 +168,16 @@ public class MacEntryList {
             return false;
         }
 
-        List<MacEntry> list = ((MacEntryList)o).entries;
+        MacEntryList mlist = (MacEntryList)o;
+        if (next == null) {
+            if (mlist.next != null) {
+                return false;
+            }
+        } else if (!next.equals(mlist.next)) {
+            return false;
+        }
+
+        List<MacEntry> list = mlist.entries;
         if (entries == null || entries.isEmpty()) {
             return (list == null || list.isEmpty());
         }
@@ -150,6 +196,9 @@ public class MacEntryList {
         if (entries != null && !entries.isEmpty()) {
             h ^= entries.hashCode();
         }
+        if (next != null) {
+            h += next.hashCode();
+        }
 
         return h;
     }
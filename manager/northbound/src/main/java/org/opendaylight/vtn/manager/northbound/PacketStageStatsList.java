@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.northbound;
+
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.opendaylight.vtn.manager.PacketStageStats;
+
+/**
+ * {@code PacketStageStatsList} class describes latency statistics about
+ * stages of the PACKET_IN processing pipeline.
+ *
+ * <p>
+ *   This class is used to return latency statistics to REST client.
+ * </p>
+ * <h4>Example JSON</h4>
+ * <pre class="prettyprint lang-json">
+ * {
+ * &nbsp;&nbsp;"enabled": true,
+ * &nbsp;&nbsp;"packetstagestats": [
+ * &nbsp;&nbsp;&nbsp;&nbsp;{
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"stage": "parse",
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"count": 1024,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"average": 12,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"max": 131,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"p50": 10,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"p90": 19,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"p99": 63
+ * &nbsp;&nbsp;&nbsp;&nbsp;},
+ * &nbsp;&nbsp;&nbsp;&nbsp;{
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"stage": "route",
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"count": 1024,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"average": 35,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"max": 812,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"p50": 31,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"p90": 47,
+ * &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;"p99": 191
+ * &nbsp;&nbsp;&nbsp;&nbsp;}
+ * &nbsp;&nbsp;]
+ * }</pre>
+ *
+ * @since  Lithium
+ */
+@JsonSerialize(include = JsonSerialize.Inclusion.NON_NULL)
+@XmlRootElement(name = "packetstats")
+@XmlAccessorType(XmlAccessType.NONE)
+public class PacketStageStatsList {
+    /**
+     * Determine whether the latency measurement is enabled or not.
+     */
+    @XmlAttribute(name = "enabled")
+    private boolean  enabled;
+
+    /**
+     * A list of {@link PacketStageStats} instances.
+     *
+     * <ul>
+     *   <li>
+     *     This element contains 0 or more {@link PacketStageStats} instances
+     *     which represent latency statistics about pipeline stages.
+     *   </li>
+     * </ul>
+     */
+    @XmlElement(name = "packetstagestats")
+    private List<PacketStageStats>  stageStats;
+
+    /**
+     * Default constructor.
+     */
+    public PacketStageStatsList() {
+    }
+
+    /**
+     * Construct a list of latency statistics.
+     *
+     * @param en    {@code true} if the latency measurement is enabled.
+     * @param list  A list of latency statistics.
+     */
+    public PacketStageStatsList(boolean en, List<PacketStageStats> list) {
+        enabled = en;
+        stageStats = list;
+    }
+
+    /**
+     * Determine whether the latency measurement is enabled or not.
+     *
+     * @return  {@code true} only if the latency measurement is enabled.
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Return a list of latency statistics.
+     *
+     * @return  A list of latency statistics.
+     */
+    List<PacketStageStats> getStageStats() {
+        return stageStats;
+    }
+
+    /**
+     * Determine whether the given object is identical to this object.
+     *
+     * @param o  An object to be compared.
+     * @return   {@code true} if identical. Otherwise {@code false}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PacketStageStatsList)) {
+            return false;
+        }
+
+        PacketStageStatsList pl = (PacketStageStatsList)o;
+        if (enabled != pl.enabled) {
+            return false;
+        }
+
+        List<PacketStageStats> list = pl.stageStats;
+        if (stageStats == null || stageStats.isEmpty()) {
+            return (list == null || list.isEmpty());
+        }
+
+        return stageStats.equals(list);
+    }
+
+    /**
+     * Return the hash code of this object.
+     *
+     * @return  The hash code.
+     */
+    @Override
+    public int hashCode() {
+        int h = Boolean.valueOf(enabled).hashCode();
+        if (stageStats != null && !stageStats.isEmpty()) {
+            h ^= stageStats.hashCode();
+        }
+
+        return h;
+    }
+}
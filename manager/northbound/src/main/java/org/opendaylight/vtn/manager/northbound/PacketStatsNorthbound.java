@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.northbound;
+
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
+import java.util.List;
+
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import org.codehaus.enunciate.jaxrs.ResponseCode;
+import org.codehaus.enunciate.jaxrs.StatusCodes;
+import org.codehaus.enunciate.jaxrs.TypeHint;
+
+import org.opendaylight.vtn.manager.IVTNManager;
+import org.opendaylight.vtn.manager.PacketStageStats;
+import org.opendaylight.vtn.manager.VTNException;
+import org.opendaylight.vtn.manager.VTenantPath;
+
+import org.opendaylight.controller.sal.authorization.Privilege;
+import org.opendaylight.controller.sal.utils.Status;
+
+/**
+ * This class provides Northbound REST APIs to handle latency statistics
+ * about the PACKET_IN processing pipeline.
+ *
+ * <p>
+ *   Latency measurement is disabled by default. It can be enabled or
+ *   disabled at runtime, and it costs nothing while disabled.
+ * </p>
+ *
+ * @since Lithium
+ */
+@Path("/{containerName}/packetstats")
+public class PacketStatsNorthbound extends VTNNorthBoundBase {
+    /**
+     * Return latency statistics measured in the specified container.
+     *
+     * @param containerName  The name of the container.
+     * @return  <strong>packetstats</strong> element contains latency
+     *          statistics about stages of the PACKET_IN processing pipeline.
+     */
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @TypeHint(PacketStageStatsList.class)
+    @StatusCodes({
+        @ResponseCode(code = HTTP_OK,
+                      condition = "Operation completed successfully."),
+        @ResponseCode(code = HTTP_UNAUTHORIZED,
+                      condition = "User is not authorized to perform this " +
+                      "operation."),
+        @ResponseCode(code = HTTP_NOT_FOUND,
+                      condition = "The specified container does not exist."),
+        @ResponseCode(code = HTTP_INTERNAL_ERROR,
+                      condition = "Fatal internal error occurred in the " +
+                      "VTN Manager."),
+        @ResponseCode(code = HTTP_UNAVAILABLE,
+                      condition = "One or more of mandatory controller " +
+                      "services, such as the VTN Manager, are unavailable.")})
+    public PacketStageStatsList getPacketStats(
+            @PathParam("containerName") String containerName) {
+        checkPrivilege(containerName, Privilege.READ);
+
+        IVTNManager mgr = getVTNManager(containerName);
+        return getPacketStats(mgr, null);
+    }
+
+    /**
+     * Return latency statistics measured for the specified VTN.
+     *
+     * <p>
+     *   Stages processed before the VTN for the packet is determined,
+     *   such as packet decoding, are not counted in statistics for VTN.
+     * </p>
+     *
+     * @param containerName  The name of the container.
+     * @param tenantName     The name of the VTN.
+     * @return  <strong>packetstats</strong> element contains latency
+     *          statistics about stages of the PACKET_IN processing pipeline
+     *          measured for the specified VTN.
+     */
+    @Path("vtns/{tenantName}")
+    @GET
+    @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+    @TypeHint(PacketStageStatsList.class)
+    @StatusCodes({
+        @ResponseCode(code = HTTP_OK,
+                      condition = "Operation completed successfully."),
+        @ResponseCode(code = HTTP_UNAUTHORIZED,
+                      condition = "User is not authorized to perform this " +
+                      "operation."),
+        @ResponseCode(code = HTTP_NOT_FOUND,
+                      condition = "<ul>" +
+                      "<li>The specified container does not exist.</li>" +
+                      "<li>The specified VTN does not exist.</li>" +
+                      "</ul>"),
+        @ResponseCode(code = HTTP_INTERNAL_ERROR,
+                      condition = "Fatal internal error occurred in the " +
+                      "VTN Manager."),
+        @ResponseCode(code = HTTP_UNAVAILABLE,
+                      condition = "One or more of mandatory controller " +
+                      "services, such as the VTN Manager, are unavailable.")})
+    public PacketStageStatsList getPacketStats(
+            @PathParam("containerName") String containerName,
+            @PathParam("tenantName") String tenantName) {
+        checkPrivilege(containerName, Privilege.READ);
+
+        IVTNManager mgr = getVTNManager(containerName);
+        return getPacketStats(mgr, new VTenantPath(tenantName));
+    }
+
+    /**
+     * Enable latency measurement of the PACKET_IN processing pipeline.
+     *
+     * <p>
+     *   Statistics measured previously are discarded.
+     * </p>
+     *
+     * @param containerName  The name of the container.
+     * @return Response as dictated by the HTTP Response Status code.
+     */
+    @PUT
+    @TypeHint(TypeHint.NO_CONTENT.class)
+    @StatusCodes({
+        @ResponseCode(code = HTTP_OK,
+                      condition = "Operation completed successfully."),
+        @ResponseCode(code = HTTP_UNAUTHORIZED,
+                      condition = "User is not authorized to perform this " +
+                      "operation."),
+        @ResponseCode(code = HTTP_NOT_FOUND,
+                      condition = "The specified container does not exist."),
+        @ResponseCode(code = HTTP_INTERNAL_ERROR,
+                      condition = "Fatal internal error occurred in the " +
+                      "VTN Manager."),
+        @ResponseCode(code = HTTP_UNAVAILABLE,
+                      condition = "One or more of mandatory controller " +
+                      "services, such as the VTN Manager, are unavailable.")})
+    public Response enablePacketStats(
+            @PathParam("containerName") String containerName) {
+        return setPacketStatsEnabled(containerName, true);
+    }
+
+    /**
+     * Disable latency measurement of the PACKET_IN processing pipeline.
+     *
+     * <p>
+     *   Statistics measured previously are retained until the latency
+     *   measurement is enabled again.
+     * </p>
+     *
+     * @param containerName  The name of the container.
+     * @return Response as dictated by the HTTP Response Status code.
+     */
+    @DELETE
+    @TypeHint(TypeHint.NO_CONTENT.class)
+    @StatusCodes({
+        @ResponseCode(code = HTTP_OK,
+                      condition = "Operation completed successfully."),
+        @ResponseCode(code = HTTP_UNAUTHORIZED,
+                      condition = "User is not authorized to perform this " +
+                      "operation."),
+        @ResponseCode(code = HTTP_NOT_FOUND,
+                      condition = "The specified container does not exist."),
+        @ResponseCode(code = HTTP_INTERNAL_ERROR,
+                      condition = "Fatal internal error occurred in the " +
+                      "VTN Manager."),
+        @ResponseCode(code = HTTP_UNAVAILABLE,
+                      condition = "One or more of mandatory controller " +
+                      "services, such as the VTN Manager, are unavailable.")})
+    public Response disablePacketStats(
+            @PathParam("containerName") String containerName) {
+        return setPacketStatsEnabled(containerName, false);
+    }
+
+    /**
+     * Return latency statistics measured by the VTN Manager.
+     *
+     * @param mgr   VTN Manager service.
+     * @param path  Path to the VTN, or {@code null}.
+     * @return  A {@link PacketStageStatsList} instance.
+     */
+    private PacketStageStatsList getPacketStats(IVTNManager mgr,
+                                                VTenantPath path) {
+        try {
+            List<PacketStageStats> list = mgr.getPacketStageStats(path);
+            return new PacketStageStatsList(mgr.isPacketStatsEnabled(),
+                                            list);
+        } catch (VTNException e) {
+            throw getException(e.getStatus());
+        }
+    }
+
+    /**
+     * Enable or disable latency measurement.
+     *
+     * @param containerName  The name of the container.
+     * @param enabled        {@code true} to enable the latency measurement.
+     * @return Response as dictated by the HTTP Response Status code.
+     */
+    private Response setPacketStatsEnabled(String containerName,
+                                           boolean enabled) {
+        checkPrivilege(containerName, Privilege.WRITE);
+
+        IVTNManager mgr = getVTNManager(containerName);
+        Status status = mgr.setPacketStatsEnabled(enabled);
+        if (status.isSuccess()) {
+            return Response.ok().build();
+        }
+
+        throw getException(status);
+    }
+}
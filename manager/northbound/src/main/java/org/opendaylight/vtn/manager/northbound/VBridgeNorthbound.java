@@ -45,6 +45,7 @@ import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 
 import org.opendaylight.vtn.manager.IVTNManager;
+import org.opendaylight.vtn.manager.ListPage;
 import org.opendaylight.vtn.manager.MacAddressEntry;
 import org.opendaylight.vtn.manager.VBridge;
 import org.opendaylight.vtn.manager.VBridgeConfig;
@@ -781,6 +782,30 @@ public class VBridgeNorthbound extends VTNNorthBoundBase {
      * @param containerName  The name of the container.
      * @param tenantName     The name of the VTN.
      * @param bridgeName     The name of the vBridge.
+     * @param cursor
+     *    A continuation token returned by the previous request in
+     *    <strong>next</strong> attribute of <strong>macentries</strong>
+     *    element.
+     *    <ul>
+     *      <li>
+     *        If omitted, MAC addresses are returned from the beginning.
+     *      </li>
+     *    </ul>
+     * @param limit
+     *    The maximum number of MAC addresses to be returned.
+     *    <ul>
+     *      <li>
+     *        MAC addresses are returned in ascending order.
+     *      </li>
+     *      <li>
+     *        If more MAC addresses are available, a continuation token is
+     *        set to <strong>next</strong> attribute of
+     *        <strong>macentries</strong> element.
+     *      </li>
+     *      <li>
+     *        The default value is <strong>0</strong>, which means no limit.
+     *      </li>
+     *    </ul>
      * @return  <strong>macentries</strong> element contains information about
      *          all the MAC addresses learned in the vBridge specified by the
      *          requested URI.
@@ -792,6 +817,9 @@ public class VBridgeNorthbound extends VTNNorthBoundBase {
     @StatusCodes({
         @ResponseCode(code = HTTP_OK,
                       condition = "Operation completed successfully."),
+        @ResponseCode(code = HTTP_BAD_REQUEST,
+                      condition = "An invalid continuation token is " +
+                      "specified."),
         @ResponseCode(code = HTTP_UNAUTHORIZED,
                       condition = "User is not authorized to perform this " +
                       "operation."),
@@ -810,14 +838,18 @@ public class VBridgeNorthbound extends VTNNorthBoundBase {
     public MacEntryList getMacEntries(
             @PathParam("containerName") String containerName,
             @PathParam("tenantName") String tenantName,
-            @PathParam("bridgeName") String bridgeName) {
+            @PathParam("bridgeName") String bridgeName,
+            @QueryParam("cursor") String cursor,
+            @DefaultValue("0") @QueryParam("limit") int limit) {
         checkPrivilege(containerName, Privilege.READ);
 
         IVTNManager mgr = getVTNManager(containerName);
         VBridgePath path = new VBridgePath(tenantName, bridgeName);
         try {
-            List<MacAddressEntry> list = mgr.getMacEntries(path);
-            return new MacEntryList(list);
+            ListPage<MacAddressEntry> page =
+                mgr.getMacEntries(path, cursor, limit);
+            return new MacEntryList(page.getEntries(),
+                                    page.getNextCursor());
         } catch (VTNException e) {
             throw getException(e.getStatus());
         }
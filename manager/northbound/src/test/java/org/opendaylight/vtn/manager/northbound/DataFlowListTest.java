@@ -107,6 +107,33 @@ public class DataFlowListTest extends TestBase {
         testEquals(set, df1, df2);
     }
 
+    /**
+     * Test case for a chunk of data flow list which contains a continuation
+     * token.
+     */
+    @Test
+    public void testNext() {
+        HashSet<Object> set = new HashSet<Object>();
+        List<DataFlow> list = new ArrayList<DataFlow>();
+        DataFlowList dlist = new DataFlowList(list);
+        assertNull(dlist.getNext());
+        assertTrue(set.add(dlist));
+
+        String[] tokens = {"f1", "f2s", "fzz"};
+        for (String token: tokens) {
+            dlist = new DataFlowList(list, token);
+            assertSame(list, dlist.getDataFlows());
+            assertEquals(token, dlist.getNext());
+            testEquals(set, dlist, new DataFlowList(null, copy(token)));
+
+            String rootName = "dataflows";
+            jaxbTest(dlist, DataFlowList.class, rootName);
+            jsonTest(dlist, DataFlowList.class);
+        }
+
+        assertEquals(tokens.length + 1, set.size());
+    }
+
     /**
      * Ensure that {@link DataFlowList} is mapped to both XML root element and
      * JSON object.
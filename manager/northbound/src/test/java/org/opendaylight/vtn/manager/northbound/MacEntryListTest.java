@@ -70,6 +70,29 @@ public class MacEntryListTest extends TestBase {
         }
     }
 
+    /**
+     * Test case for a chunk of MAC address entry list which contains a
+     * continuation token.
+     */
+    @Test
+    public void testNext() {
+        HashSet<Object> set = new HashSet<Object>();
+        MacEntryList mlist = new MacEntryList(null);
+        assertNull(mlist.getNext());
+        assertTrue(set.add(mlist));
+
+        String[] tokens = {"m1", "m3k7", "mzzzz"};
+        for (String token: tokens) {
+            mlist = new MacEntryList(new ArrayList<MacAddressEntry>(), token);
+            assertEquals(token, mlist.getNext());
+            testEquals(set, mlist, new MacEntryList(null, copy(token)));
+            jaxbTest(mlist, MacEntryList.class, XML_ROOT);
+            jsonTest(mlist, MacEntryList.class);
+        }
+
+        assertEquals(tokens.length + 1, set.size());
+    }
+
     /**
      * test case for {@link MacEntryList#equals(java.lang.Object)} and
      * {@link MacEntryList#hashCode()}
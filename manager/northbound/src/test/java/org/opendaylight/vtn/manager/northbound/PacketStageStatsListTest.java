@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2015 NEC Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.vtn.manager.northbound;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opendaylight.vtn.manager.PacketStageStats;
+
+/**
+ * JUnit test for {@link PacketStageStatsList}.
+ */
+public class PacketStageStatsListTest extends TestBase {
+    /**
+     * Root XML element name associated with {@link PacketStageStatsList}
+     * class.
+     */
+    private static final String  XML_ROOT = "packetstats";
+
+    /**
+     * Create a list of {@link PacketStageStats} instances for test.
+     *
+     * @return  A list of {@link PacketStageStats} instances.
+     */
+    private List<PacketStageStats> createStats() {
+        List<PacketStageStats> list = new ArrayList<PacketStageStats>();
+        list.add(new PacketStageStats("parse", 0L, 0L, 0L, 0L, 0L, 0L));
+        list.add(new PacketStageStats("route", 1024L, 35L, 812L, 31L, 47L,
+                                      191L));
+        list.add(new PacketStageStats("flowadd", 3L, 1000L, 3000L, 900L,
+                                      2000L, 3000L));
+        return list;
+    }
+
+    /**
+     * Test case for getter methods.
+     */
+    @Test
+    public void testGetter() {
+        PacketStageStatsList nullList = new PacketStageStatsList(false, null);
+        assertFalse(nullList.isEnabled());
+        assertNull(nullList.getStageStats());
+
+        List<PacketStageStats> list = createStats();
+        PacketStageStatsList pl = new PacketStageStatsList(true, list);
+        assertTrue(pl.isEnabled());
+        assertEquals(list, pl.getStageStats());
+    }
+
+    /**
+     * Test case for {@link PacketStageStatsList#equals(Object)} and
+     * {@link PacketStageStatsList#hashCode()}.
+     */
+    @Test
+    public void testEquals() {
+        HashSet<Object> set = new HashSet<Object>();
+        boolean[] bools = {true, false};
+        for (boolean en: bools) {
+            // Empty list should be treated as null list.
+            PacketStageStatsList nullList = new PacketStageStatsList(en, null);
+            PacketStageStatsList emptyList = new PacketStageStatsList(
+                en, new ArrayList<PacketStageStats>());
+            testEquals(set, nullList, emptyList);
+
+            PacketStageStatsList pl1 =
+                new PacketStageStatsList(en, createStats());
+            PacketStageStatsList pl2 =
+                new PacketStageStatsList(en, createStats());
+            testEquals(set, pl1, pl2);
+        }
+
+        assertEquals(bools.length * 2, set.size());
+    }
+
+    /**
+     * Ensure that {@link PacketStageStatsList} is mapped to both XML root
+     * element and JSON object.
+     */
+    @Test
+    public void testJAXB() {
+        PacketStageStatsList pl = new PacketStageStatsList(false, null);
+        jaxbTest(pl, PacketStageStatsList.class, XML_ROOT);
+        jsonTest(pl, PacketStageStatsList.class);
+
+        pl = new PacketStageStatsList(true, createStats());
+        jaxbTest(pl, PacketStageStatsList.class, XML_ROOT);
+        jsonTest(pl, PacketStageStatsList.class);
+
+        // Ensure that broken values in XML can be detected.
+        jaxbErrorTest(PacketStageStatsList.class,
+                      new XmlAttributeType("packetstagestats", "count",
+                                           long.class).add(XML_ROOT),
+                      new XmlAttributeType("packetstagestats", "p99",
+                                           long.class).add(XML_ROOT));
+    }
+}